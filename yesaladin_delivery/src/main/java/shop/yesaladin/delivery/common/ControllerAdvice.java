@@ -3,12 +3,14 @@ package shop.yesaladin.delivery.common;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import shop.yesaladin.delivery.common.dto.ErrorResponseDto;
 import shop.yesaladin.delivery.transport.exception.TransportAlreadyCompletedException;
 import shop.yesaladin.delivery.transport.exception.TransportNotFoundByOrderIdException;
+import shop.yesaladin.delivery.transport.exception.TransportNotFoundByTrackingNoException;
 import shop.yesaladin.delivery.transport.exception.TransportNotFoundException;
 
 /**
@@ -21,7 +23,11 @@ import shop.yesaladin.delivery.transport.exception.TransportNotFoundException;
 @RestControllerAdvice
 public class ControllerAdvice {
 
-    @ExceptionHandler({TransportNotFoundException.class, TransportNotFoundByOrderIdException.class})
+    @ExceptionHandler({
+            TransportNotFoundException.class,
+            TransportNotFoundByOrderIdException.class,
+            TransportNotFoundByTrackingNoException.class
+    })
     public ResponseEntity<ErrorResponseDto> handleNotFoundException(Exception ex) {
         log.error("[NOT_FOUND] handleNotFoundException", ex);
         ErrorResponseDto error = new ErrorResponseDto(ex.getMessage());
@@ -35,6 +41,15 @@ public class ControllerAdvice {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponseDto> handleValidationException(
+            MethodArgumentNotValidException ex
+    ) {
+        log.error("[BAD_REQUEST] handleValidationException", ex);
+        ErrorResponseDto error = new ErrorResponseDto(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ResponseEntity<ErrorResponseDto> handleException(Exception ex) {
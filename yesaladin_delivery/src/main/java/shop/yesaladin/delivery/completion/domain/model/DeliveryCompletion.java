@@ -0,0 +1,101 @@
+package shop.yesaladin.delivery.completion.domain.model;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Shop API 서버에 전달해야 하는 배송 완료 작업의 엔티티 클래스 입니다.
+ * <p>
+ * 배송 완료 처리와 같은 트랜잭션에서 저장되므로 서버가 재시작 되어도 유실되지 않으며, lease를 획득한 worker만 해당 작업을 처리합니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Table(name = "delivery_completions", indexes = {
+        @Index(name = "idx_delivery_completions_next_attempt", columnList = "next_attempt_datetime")
+})
+@Entity
+public class DeliveryCompletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false, unique = true)
+    private Long orderId;
+
+    @Column(name = "enqueued_datetime", nullable = false)
+    private LocalDateTime enqueuedDatetime;
+
+    @Column(name = "next_attempt_datetime", nullable = false)
+    private LocalDateTime nextAttemptDatetime;
+
+    @Column(name = "lease_owner")
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_datetime")
+    private LocalDateTime leaseExpiresDatetime;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * 배송 완료 작업을 생성합니다.
+     *
+     * @param orderId 배송 완료된 주문 번호 입니다.
+     * @param now     작업 생성 시각 입니다.
+     * @return 즉시 처리 가능한 배송 완료 작업
+     * @author 송학현
+     * @since 1.0
+     */
+    public static DeliveryCompletion create(Long orderId, LocalDateTime now) {
+        return DeliveryCompletion.builder()
+                .orderId(orderId)
+                .enqueuedDatetime(now)
+                .nextAttemptDatetime(now)
+                .attempts(0)
+                .build();
+    }
+
+    /**
+     * worker가 작업을 처리하기 위해 lease를 획득합니다.
+     *
+     * @param owner     lease를 획득한 worker의 식별자 입니다.
+     * @param expiresAt lease 만료 시각 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    public void claim(String owner, LocalDateTime expiresAt) {
+        this.leaseOwner = owner;
+        this.leaseExpiresDatetime = expiresAt;
+    }
+
+    /**
+     * 처리에 실패한 작업의 lease를 반납하고 다음 시도 시각을 지정합니다.
+     *
+     * @param nextAttemptAt 다음 시도 시각 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptDatetime = nextAttemptAt;
+        this.leaseOwner = null;
+        this.leaseExpiresDatetime = null;
+    }
+}
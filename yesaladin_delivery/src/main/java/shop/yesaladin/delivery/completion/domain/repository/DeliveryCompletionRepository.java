@@ -0,0 +1,53 @@
+package shop.yesaladin.delivery.completion.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import shop.yesaladin.delivery.completion.domain.model.DeliveryCompletion;
+
+/**
+ * DeliveryCompletion 테이블에 JPA로 접근 하는 Repository 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+public interface DeliveryCompletionRepository extends JpaRepository<DeliveryCompletion, Long> {
+
+    /**
+     * 처리 가능한 배송 완료 작업을 잠금과 함께 조회합니다.
+     * <p>
+     * lock timeout -2는 SKIP LOCKED로 변환되어, 여러 worker가 동시에 조회하더라도 다른 worker가 잠근 작업은 건너뜁니다.
+     *
+     * @param now      현재 시각 입니다.
+     * @param pageable 한 번에 조회할 작업의 수 입니다.
+     * @return 다음 시도 시각이 지났고 lease가 없거나 만료된 작업 목록
+     * @author 송학현
+     * @since 1.0
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select c from DeliveryCompletion c "
+            + "where c.nextAttemptDatetime <= :now "
+            + "and (c.leaseExpiresDatetime is null or c.leaseExpiresDatetime < :now) "
+            + "order by c.id")
+    List<DeliveryCompletion> findClaimable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 이미 큐에 있는 작업의 주문 번호를 조회합니다.
+     *
+     * @param orderIds 확인할 주문 번호 목록 입니다.
+     * @return 큐에 작업이 있는 주문 번호 목록
+     * @author 송학현
+     * @since 1.0
+     */
+    @Query("select c.orderId from DeliveryCompletion c where c.orderId in :orderIds")
+    List<Long> findOrderIdsIn(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -0,0 +1,22 @@
+package shop.yesaladin.delivery.completion.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Shop API 서버의 일괄 배송 완료 처리 결과를 담는 dto 클래스 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryCompleteResponseDto {
+
+    private List<Long> completedOrderIds;
+    private List<Long> alreadyCompletedOrderIds;
+    private List<Long> notFoundOrderIds;
+}
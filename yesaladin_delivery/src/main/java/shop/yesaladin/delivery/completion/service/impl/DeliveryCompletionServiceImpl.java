@@ -0,0 +1,112 @@
+package shop.yesaladin.delivery.completion.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import shop.yesaladin.delivery.completion.domain.model.DeliveryCompletion;
+import shop.yesaladin.delivery.completion.domain.repository.DeliveryCompletionRepository;
+import shop.yesaladin.delivery.completion.service.inter.DeliveryCompletionService;
+
+/**
+ * 배송 완료 작업 큐 Service 구현체 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Service
+public class DeliveryCompletionServiceImpl implements DeliveryCompletionService {
+
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final DeliveryCompletionRepository deliveryCompletionRepository;
+    private final Clock clock;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Long orderId) {
+        enqueueAll(List.of(orderId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(Collection<Long> orderIds) {
+        Set<Long> targets = new LinkedHashSet<>(orderIds);
+        if (targets.isEmpty()) {
+            return;
+        }
+        targets.removeAll(deliveryCompletionRepository.findOrderIdsIn(targets));
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        deliveryCompletionRepository.saveAll(targets.stream()
+                .map(orderId -> DeliveryCompletion.create(orderId, now))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<DeliveryCompletion> claim(String owner, int size, Duration lease) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<DeliveryCompletion> completions = deliveryCompletionRepository.findClaimable(
+                now,
+                PageRequest.of(0, size)
+        );
+        LocalDateTime expiresAt = now.plus(lease);
+        completions.forEach(completion -> completion.claim(owner, expiresAt));
+        return completions;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void complete(Collection<Long> ids) {
+        deliveryCompletionRepository.deleteAllByIdInBatch(ids);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void retryLater(Collection<Long> ids, Duration baseDelay, Duration maxDelay) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        deliveryCompletionRepository.findAllById(ids).forEach(completion -> {
+            int shift = Math.min(completion.getAttempts(), MAX_BACKOFF_SHIFT);
+            long delayMs = Math.min(baseDelay.toMillis() << shift, maxDelay.toMillis());
+            completion.retryAt(now.plus(Duration.ofMillis(delayMs)));
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return deliveryCompletionRepository.count();
+    }
+}
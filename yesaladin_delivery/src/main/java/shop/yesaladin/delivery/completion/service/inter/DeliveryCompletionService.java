@@ -0,0 +1,74 @@
+package shop.yesaladin.delivery.completion.service.inter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import shop.yesaladin.delivery.completion.domain.model.DeliveryCompletion;
+
+/**
+ * 배송 완료 작업 큐를 관리하는 Service 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+public interface DeliveryCompletionService {
+
+    /**
+     * 배송 완료 작업을 큐에 추가합니다. 이미 큐에 있는 주문은 다시 추가하지 않습니다.
+     *
+     * @param orderId 배송 완료된 주문 번호 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    void enqueue(Long orderId);
+
+    /**
+     * 여러 배송 완료 작업을 한 번에 큐에 추가합니다. 중복된 주문 번호와 이미 큐에 있는 주문은 다시 추가하지 않습니다.
+     *
+     * @param orderIds 배송 완료된 주문 번호 목록 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    void enqueueAll(Collection<Long> orderIds);
+
+    /**
+     * 처리 가능한 작업을 최대 size 개 만큼 조회하고 lease를 획득합니다.
+     *
+     * @param owner lease를 획득할 worker의 식별자 입니다.
+     * @param size  최대 작업 수 입니다.
+     * @param lease lease 유지 시간 입니다.
+     * @return lease를 획득한 작업 목록
+     * @author 송학현
+     * @since 1.0
+     */
+    List<DeliveryCompletion> claim(String owner, int size, Duration lease);
+
+    /**
+     * 처리가 끝난 작업을 큐에서 제거합니다.
+     *
+     * @param ids 처리가 끝난 작업의 pk 목록 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    void complete(Collection<Long> ids);
+
+    /**
+     * 처리에 실패한 작업을 다음 시도 시각까지 미룹니다. 시도 횟수에 따라 지수적으로 대기 시간이 늘어납니다.
+     *
+     * @param ids       처리에 실패한 작업의 pk 목록 입니다.
+     * @param baseDelay 첫 번째 재시도 대기 시간 입니다.
+     * @param maxDelay  최대 재시도 대기 시간 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    void retryLater(Collection<Long> ids, Duration baseDelay, Duration maxDelay);
+
+    /**
+     * 큐에 남아있는 작업의 수를 반환합니다.
+     *
+     * @return 남아있는 작업 수
+     * @author 송학현
+     * @since 1.0
+     */
+    long countPending();
+}
@@ -0,0 +1,37 @@
+package shop.yesaladin.delivery.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 배송 완료 작업을 Shop API 서버로 전달하는 worker의 설정 값을 가지는 클래스 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class DeliveryCompletionProperties {
+
+    @Value("${yesaladin.delivery.completion.poll-interval-ms:5000}")
+    private long pollIntervalMs;
+
+    @Value("${yesaladin.delivery.completion.batch-size:500}")
+    private int batchSize;
+
+    @Value("${yesaladin.delivery.completion.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${yesaladin.delivery.completion.concurrency:4}")
+    private int concurrency;
+
+    @Value("${yesaladin.delivery.completion.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${yesaladin.delivery.completion.retry-base-ms:5000}")
+    private long retryBaseMs;
+
+    @Value("${yesaladin.delivery.completion.retry-max-ms:600000}")
+    private long retryMaxMs;
+}
@@ -0,0 +1,53 @@
+package shop.yesaladin.delivery.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import shop.yesaladin.delivery.simulation.DelayDistribution;
+
+/**
+ * 배송 상태 변경 시뮬레이션 모드의 설정 값을 가지는 클래스 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class DeliverySimulationProperties {
+
+    @Value("${yesaladin.delivery.simulation.enabled:false}")
+    private boolean enabled;
+
+    @Value("${yesaladin.delivery.simulation.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${yesaladin.delivery.simulation.ticks-per-wheel:4096}")
+    private int ticksPerWheel;
+
+    @Value("${yesaladin.delivery.simulation.time-compression:3600}")
+    private double timeCompression;
+
+    @Value("${yesaladin.delivery.simulation.distribution:LOG_NORMAL}")
+    private DelayDistribution distribution;
+
+    @Value("${yesaladin.delivery.simulation.min-delay-minutes:30}")
+    private double minDelayMinutes;
+
+    @Value("${yesaladin.delivery.simulation.mean-delay-minutes:1440}")
+    private double meanDelayMinutes;
+
+    @Value("${yesaladin.delivery.simulation.max-delay-minutes:4320}")
+    private double maxDelayMinutes;
+
+    @Value("${yesaladin.delivery.simulation.sigma:0.5}")
+    private double sigma;
+
+    @Value("${yesaladin.delivery.simulation.max-pending:5000000}")
+    private long maxPending;
+
+    @Value("${yesaladin.delivery.simulation.completions-per-second:500}")
+    private double completionsPerSecond;
+
+    @Value("${yesaladin.delivery.simulation.dispatch-batch-size:200}")
+    private int dispatchBatchSize;
+}
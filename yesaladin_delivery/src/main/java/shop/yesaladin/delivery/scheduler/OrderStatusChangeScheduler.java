@@ -1,6 +1,20 @@
 package shop.yesaladin.delivery.scheduler;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
@@ -11,22 +25,22 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.Trigger;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
-import org.springframework.scheduling.support.CronTrigger;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponents;
-import org.springframework.web.util.UriComponentsBuilder;
 import shop.yesaladin.common.dto.ResponseDto;
-import shop.yesaladin.delivery.common.dto.ResultCodeDto;
+import shop.yesaladin.delivery.completion.domain.model.DeliveryCompletion;
+import shop.yesaladin.delivery.completion.dto.DeliveryCompleteRequestDto;
+import shop.yesaladin.delivery.completion.dto.DeliveryCompleteResponseDto;
+import shop.yesaladin.delivery.completion.service.inter.DeliveryCompletionService;
+import shop.yesaladin.delivery.config.DeliveryCompletionProperties;
 import shop.yesaladin.delivery.config.GatewayProperties;
-import shop.yesaladin.delivery.transport.domain.model.Transport;
-import shop.yesaladin.delivery.transport.service.event.TransportCompleteEventListener;
-import shop.yesaladin.delivery.transport.service.inter.TransportService;
 
 /**
  * Shop API 서버의 주문 상태 변경 이력 테이블에 배송 완료 상태를 추가하기 위한 스케줄러 입니다.
+ * <p>
+ * 배송 완료 작업 큐에서 lease를 획득한 작업을 chunk 단위로 나누어 일괄 배송 완료 API를 호출합니다. 여러 인스턴스가 동시에 실행되어도
+ * 같은 작업을 중복 처리하지 않으며, 실패한 작업은 지수적으로 늘어나는 대기 시간 이후 다시 시도합니다.
  *
  * @author 송학현
  * @since 1.0
@@ -36,63 +50,134 @@ import shop.yesaladin.delivery.transport.service.inter.TransportService;
 @Component
 public class OrderStatusChangeScheduler {
 
-    private static final String EXECUTE_CRON = "0 0/3 * * * ?";
-    private final TransportService transportService;
+    private static final String DELIVERY_COMPLETE_PATH = "/v1/orders/delivery-complete";
+
+    private final DeliveryCompletionService deliveryCompletionService;
     private final RestTemplate restTemplate;
     private final GatewayProperties gatewayProperties;
+    private final DeliveryCompletionProperties completionProperties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final String workerId = UUID.randomUUID().toString();
+    private final AtomicLong queueDepth = new AtomicLong();
     private ThreadPoolTaskScheduler scheduler;
+    private ExecutorService executor;
+    private Timer lagTimer;
 
     private Runnable getRunnable() {
         return () -> {
-            while (!TransportCompleteEventListener.orderIdQueue.isEmpty()) {
-                Long orderId = TransportCompleteEventListener.orderIdQueue.poll();
-                Transport transport = transportService.getLatestTransport(orderId);
-                if (Objects.nonNull(transport)) {
-                    log.info("latest transport orderId={}", transport.getOrderId());
-                    log.info("status={}", transport.getTransportStatusCode());
-
-                    // restTemplate call
-                    UriComponents uriComponents = UriComponentsBuilder.fromHttpUrl(
-                                    gatewayProperties.getShopUrl()
-                                            + "/v1/orders/{orderId}/delivery-complete")
-                            .build()
-                            .expand(orderId);
-
-                    HttpHeaders headers = new HttpHeaders();
-                    headers.setContentType(MediaType.APPLICATION_JSON);
-                    HttpEntity<String> entity = new HttpEntity<>(headers);
-
-                    ResponseEntity<ResponseDto<ResultCodeDto>> responseEntity = restTemplate.exchange(
-                            uriComponents.toUri(),
-                            HttpMethod.POST,
-                            entity,
-                            new ParameterizedTypeReference<>() {
-                            }
-                    );
-                    ResultCodeDto data = Objects.requireNonNull(responseEntity.getBody().getData());
-                    log.info("API Call result={}", data.getResult());
-                }
+            try {
+                drain();
+                queueDepth.set(deliveryCompletionService.countPending());
+            } catch (RuntimeException e) {
+                log.error("Delivery completion worker failed: workerId -> {}", workerId, e);
             }
         };
     }
 
+    private void drain() {
+        List<DeliveryCompletion> claimed;
+        do {
+            claimed = deliveryCompletionService.claim(
+                    workerId,
+                    completionProperties.getBatchSize(),
+                    Duration.ofMillis(completionProperties.getLeaseMs())
+            );
+            if (claimed.isEmpty()) {
+                return;
+            }
+
+            CompletableFuture.allOf(partition(claimed).stream()
+                    .map(chunk -> CompletableFuture.runAsync(() -> deliver(chunk), executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } while (claimed.size() == completionProperties.getBatchSize());
+    }
+
+    private List<List<DeliveryCompletion>> partition(List<DeliveryCompletion> completions) {
+        int chunkSize = completionProperties.getChunkSize();
+        List<List<DeliveryCompletion>> chunks = new ArrayList<>();
+        for (int i = 0; i < completions.size(); i += chunkSize) {
+            chunks.add(completions.subList(i, Math.min(i + chunkSize, completions.size())));
+        }
+        return chunks;
+    }
+
+    private void deliver(List<DeliveryCompletion> chunk) {
+        List<Long> ids = chunk.stream().map(DeliveryCompletion::getId).collect(Collectors.toList());
+        List<Long> orderIds = chunk.stream()
+                .map(DeliveryCompletion::getOrderId)
+                .collect(Collectors.toList());
+        try {
+            DeliveryCompleteResponseDto result = requestDeliveryComplete(orderIds);
+            deliveryCompletionService.complete(ids);
+            recordLag(chunk);
+            log.info(
+                    "Delivery complete applied: completed -> {}, alreadyCompleted -> {}, notFound -> {}",
+                    result.getCompletedOrderIds().size(),
+                    result.getAlreadyCompletedOrderIds().size(),
+                    result.getNotFoundOrderIds().size()
+            );
+        } catch (RuntimeException e) {
+            log.warn("Delivery complete request failed: orderIds -> {}", orderIds, e);
+            deliveryCompletionService.retryLater(
+                    ids,
+                    Duration.ofMillis(completionProperties.getRetryBaseMs()),
+                    Duration.ofMillis(completionProperties.getRetryMaxMs())
+            );
+        }
+    }
+
+    private DeliveryCompleteResponseDto requestDeliveryComplete(List<Long> orderIds) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<DeliveryCompleteRequestDto> entity = new HttpEntity<>(
+                new DeliveryCompleteRequestDto(orderIds),
+                headers
+        );
+
+        ResponseEntity<ResponseDto<DeliveryCompleteResponseDto>> responseEntity = restTemplate.exchange(
+                gatewayProperties.getShopUrl() + DELIVERY_COMPLETE_PATH,
+                HttpMethod.POST,
+                entity,
+                new ParameterizedTypeReference<>() {
+                }
+        );
+        return Objects.requireNonNull(Objects.requireNonNull(responseEntity.getBody()).getData());
+    }
+
+    private void recordLag(List<DeliveryCompletion> chunk) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        chunk.forEach(completion -> lagTimer.record(Duration.between(
+                completion.getEnqueuedDatetime(),
+                now
+        )));
+    }
+
     public void startScheduler() {
+        this.executor = Executors.newFixedThreadPool(completionProperties.getConcurrency());
         this.scheduler = new ThreadPoolTaskScheduler();
         scheduler.initialize();
         scheduler.setWaitForTasksToCompleteOnShutdown(false);
-        scheduler.schedule(getRunnable(), getTrigger());
+        scheduler.scheduleWithFixedDelay(
+                getRunnable(),
+                Duration.ofMillis(completionProperties.getPollIntervalMs())
+        );
     }
 
     public void stopScheduler() {
         this.scheduler.shutdown();
-    }
-
-    private Trigger getTrigger() {
-        return new CronTrigger(EXECUTE_CRON);
+        this.executor.shutdown();
     }
 
     @PostConstruct
     public void init() {
+        Gauge.builder("yesaladin.delivery.completion.queue.depth", queueDepth, AtomicLong::get)
+                .description("Shop API 서버로 전달되지 않은 배송 완료 작업 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("yesaladin.delivery.completion.lag")
+                .description("배송 완료부터 Shop API 서버 반영까지 걸린 시간")
+                .register(meterRegistry);
         startScheduler();
     }
 
@@ -0,0 +1,58 @@
+package shop.yesaladin.delivery.simulation;
+
+import java.util.Random;
+
+/**
+ * 시뮬레이션에서 배송 완료까지 걸리는 시간(분)을 추출하는 분포 입니다.
+ * <p>
+ * 추출된 값은 항상 최소값과 최대값 사이로 제한됩니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+public enum DelayDistribution {
+
+    FIXED {
+        @Override
+        double sampleRaw(Random random, double min, double mean, double max, double sigma) {
+            return mean;
+        }
+    },
+    UNIFORM {
+        @Override
+        double sampleRaw(Random random, double min, double mean, double max, double sigma) {
+            return min + random.nextDouble() * (max - min);
+        }
+    },
+    EXPONENTIAL {
+        @Override
+        double sampleRaw(Random random, double min, double mean, double max, double sigma) {
+            return min - Math.log(1.0 - random.nextDouble()) * Math.max(mean - min, 0.0);
+        }
+    },
+    LOG_NORMAL {
+        @Override
+        double sampleRaw(Random random, double min, double mean, double max, double sigma) {
+            double mu = Math.log(mean) - sigma * sigma / 2.0;
+            return Math.exp(mu + sigma * random.nextGaussian());
+        }
+    };
+
+    /**
+     * 분포에서 지연 시간(분)을 추출합니다.
+     *
+     * @param random 난수 생성기 입니다.
+     * @param min    최소 지연 시간(분) 입니다.
+     * @param mean   평균 지연 시간(분) 입니다.
+     * @param max    최대 지연 시간(분) 입니다.
+     * @param sigma  로그 정규 분포의 표준편차 입니다.
+     * @return 최소값과 최대값 사이로 제한된 지연 시간(분)
+     * @author 송학현
+     * @since 1.0
+     */
+    public double sample(Random random, double min, double mean, double max, double sigma) {
+        return Math.min(max, Math.max(min, sampleRaw(random, min, mean, max, sigma)));
+    }
+
+    abstract double sampleRaw(Random random, double min, double mean, double max, double sigma);
+}
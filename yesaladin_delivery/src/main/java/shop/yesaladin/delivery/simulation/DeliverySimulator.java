@@ -0,0 +1,168 @@
+package shop.yesaladin.delivery.simulation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import shop.yesaladin.delivery.config.DeliverySimulationProperties;
+import shop.yesaladin.delivery.transport.service.inter.TransportService;
+
+/**
+ * 부하 테스트를 위해 배송 완료 시점을 실제 배송처럼 지연시키는 시뮬레이터 입니다.
+ * <p>
+ * 등록된 배송은 설정된 분포에서 추출한 지연 시간을 시간 압축 비율로 나눈 뒤 timing wheel에 등록되고, 만료된 배송은 초당 완료 건수
+ * 제한에 맞추어 일괄로 완료 처리 됩니다. 완료 처리된 배송은 배송 완료 작업 큐를 통해 Shop API 서버로 전달됩니다.
+ * <p>
+ * timing wheel은 tick thread 에서만 접근하며, 다른 thread 에서 등록한 배송은 tick 마다 wheel로 옮겨집니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "yesaladin.delivery.simulation.enabled", havingValue = "true")
+public class DeliverySimulator {
+
+    private static final double MILLIS_PER_MINUTE = 60_000.0;
+
+    private final DeliverySimulationProperties properties;
+    private final TransportService transportService;
+    private final MeterRegistry meterRegistry;
+
+    private final Queue<long[]> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final LongQueue expired = new LongQueue(1024);
+    private TimingWheel wheel;
+    private ThreadPoolTaskScheduler scheduler;
+    private long startNanos;
+    private double dispatchCredit;
+    private Counter rejectedCounter;
+    private Counter dispatchedCounter;
+
+    /**
+     * 배송 완료 시점을 예약합니다. 보류 중인 배송이 최대 개수를 넘는 경우 즉시 완료 처리 됩니다.
+     *
+     * @param orderIds 완료 시점을 예약할 배송의 주문 번호 목록 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    public void schedule(Collection<Long> orderIds) {
+        if (pending.addAndGet(orderIds.size()) > properties.getMaxPending()) {
+            pending.addAndGet(-orderIds.size());
+            rejectedCounter.increment(orderIds.size());
+            log.warn("Simulation is full, completing immediately: size -> {}", orderIds.size());
+            transportService.completeTransports(new ArrayList<>(orderIds));
+            return;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] timers = new long[orderIds.size() * 2];
+        int i = 0;
+        for (Long orderId : orderIds) {
+            timers[i++] = orderId;
+            timers[i++] = toDelayTicks(random);
+        }
+        incoming.add(timers);
+    }
+
+    private long toDelayTicks(ThreadLocalRandom random) {
+        double delayMinutes = properties.getDistribution().sample(
+                random,
+                properties.getMinDelayMinutes(),
+                properties.getMeanDelayMinutes(),
+                properties.getMaxDelayMinutes(),
+                properties.getSigma()
+        );
+        double realDelayMs = delayMinutes * MILLIS_PER_MINUTE / properties.getTimeCompression();
+        return Math.max(1L, (long) Math.ceil(realDelayMs / properties.getTickMs()));
+    }
+
+    private void tick() {
+        try {
+            long now = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)
+                    / properties.getTickMs();
+            transferIncoming();
+            wheel.advance(now, expired::add);
+            dispatch();
+        } catch (RuntimeException e) {
+            log.error("Delivery simulation tick failed", e);
+        }
+    }
+
+    private void transferIncoming() {
+        long base = wheel.getCurrentTick();
+        long[] timers;
+        while ((timers = incoming.poll()) != null) {
+            for (int i = 0; i < timers.length; i += 2) {
+                wheel.schedule(timers[i], base + timers[i + 1]);
+            }
+        }
+    }
+
+    private void dispatch() {
+        double perTick = properties.getCompletionsPerSecond() * properties.getTickMs() / 1000.0;
+        dispatchCredit = Math.min(dispatchCredit + perTick, Math.max(perTick, 1.0) * 10);
+
+        int batchSize = properties.getDispatchBatchSize();
+        List<Long> batch = new ArrayList<>(batchSize);
+        while (dispatchCredit >= 1.0 && !expired.isEmpty()) {
+            batch.add(expired.poll());
+            dispatchCredit -= 1.0;
+            if (batch.size() == batchSize) {
+                complete(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            complete(batch);
+        }
+    }
+
+    private void complete(List<Long> orderIds) {
+        pending.addAndGet(-orderIds.size());
+        dispatchedCounter.increment(orderIds.size());
+        transportService.completeTransports(orderIds);
+    }
+
+    @PostConstruct
+    public void init() {
+        this.wheel = new TimingWheel(properties.getTicksPerWheel());
+        Gauge.builder("yesaladin.delivery.simulation.pending", pending, AtomicLong::get)
+                .description("시뮬레이션에서 완료를 기다리는 배송 수")
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("yesaladin.delivery.simulation.rejected");
+        this.dispatchedCounter = meterRegistry.counter("yesaladin.delivery.simulation.dispatched");
+
+        this.startNanos = System.nanoTime();
+        this.scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("delivery-simulation-");
+        scheduler.initialize();
+        scheduler.scheduleAtFixedRate(this::tick, Duration.ofMillis(properties.getTickMs()));
+        log.info(
+                "Delivery simulation started: distribution -> {}, compression -> {}",
+                properties.getDistribution(),
+                properties.getTimeCompression()
+        );
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,57 @@
+package shop.yesaladin.delivery.simulation;
+
+import java.util.NoSuchElementException;
+
+/**
+ * long 값을 boxing 없이 저장하는 크기 가변 ring buffer 입니다. 수백만 개의 주문 번호를 적은 메모리로 보관하기 위해 사용합니다.
+ * <p>
+ * thread-safe 하지 않습니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+class LongQueue {
+
+    private long[] elements;
+    private int head;
+    private int size;
+
+    LongQueue(int initialCapacity) {
+        this.elements = new long[Math.max(2, initialCapacity)];
+    }
+
+    void add(long value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) % elements.length] = value;
+        size++;
+    }
+
+    long poll() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        long value = elements[head];
+        head = (head + 1) % elements.length;
+        size--;
+        return value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void grow() {
+        long[] grown = new long[elements.length << 1];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+        this.elements = grown;
+        this.head = 0;
+    }
+}
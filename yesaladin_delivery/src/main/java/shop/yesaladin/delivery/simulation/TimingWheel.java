@@ -0,0 +1,119 @@
+package shop.yesaladin.delivery.simulation;
+
+import java.util.function.LongConsumer;
+
+/**
+ * 배송 완료 시각이 된 주문 번호를 찾기 위한 hashed timing wheel 입니다.
+ * <p>
+ * 각 timer는 (주문 번호, 만료 tick) 두 개의 long 값으로 bucket 배열에 저장되므로 timer 당 객체를 생성하지 않으며, 수백만 개의
+ * timer를 보관해도 메모리 사용량이 timer 수에 비례하여 일정하게 유지됩니다. 만료 tick이 한 바퀴 이상 남은 timer는 해당 bucket을
+ * 지날 때마다 남겨둡니다.
+ * <p>
+ * thread-safe 하지 않으므로 하나의 thread 에서만 사용해야 합니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+public class TimingWheel {
+
+    private static final int INITIAL_BUCKET_CAPACITY = 16;
+    private static final int SHRINK_THRESHOLD = 1024;
+
+    private final long[][] buckets;
+    private final int[] bucketLengths;
+    private final int mask;
+    private long currentTick;
+    private long size;
+
+    /**
+     * timing wheel을 생성합니다.
+     *
+     * @param ticksPerWheel wheel 한 바퀴의 bucket 수 입니다. 2의 거듭제곱으로 올림 됩니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    public TimingWheel(int ticksPerWheel) {
+        if (ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("ticksPerWheel must be positive: " + ticksPerWheel);
+        }
+        int normalized = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        normalized = Math.max(normalized, 1);
+        this.buckets = new long[normalized][];
+        this.bucketLengths = new int[normalized];
+        this.mask = normalized - 1;
+    }
+
+    /**
+     * timer를 등록합니다. 이미 지난 tick을 지정하면 다음 tick에 만료됩니다.
+     *
+     * @param orderId      만료 시 전달할 주문 번호 입니다.
+     * @param deadlineTick 만료 tick 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    public void schedule(long orderId, long deadlineTick) {
+        long tick = Math.max(deadlineTick, currentTick + 1);
+        int index = (int) (tick & mask);
+        long[] bucket = buckets[index];
+        int length = bucketLengths[index];
+        if (bucket == null) {
+            bucket = new long[INITIAL_BUCKET_CAPACITY];
+        } else if (length + 2 > bucket.length) {
+            long[] grown = new long[bucket.length << 1];
+            System.arraycopy(bucket, 0, grown, 0, length);
+            bucket = grown;
+        }
+        bucket[length] = orderId;
+        bucket[length + 1] = tick;
+        buckets[index] = bucket;
+        bucketLengths[index] = length + 2;
+        size++;
+    }
+
+    /**
+     * wheel을 지정한 tick 까지 진행하며 만료된 timer의 주문 번호를 전달합니다.
+     *
+     * @param toTick  진행할 tick 입니다.
+     * @param expired 만료된 주문 번호를 전달받을 consumer 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    public void advance(long toTick, LongConsumer expired) {
+        while (currentTick < toTick) {
+            currentTick++;
+            expireBucket((int) (currentTick & mask), expired);
+        }
+    }
+
+    private void expireBucket(int index, LongConsumer expired) {
+        long[] bucket = buckets[index];
+        int length = bucketLengths[index];
+        if (length == 0) {
+            return;
+        }
+
+        int kept = 0;
+        for (int i = 0; i < length; i += 2) {
+            if (bucket[i + 1] <= currentTick) {
+                expired.accept(bucket[i]);
+                size--;
+            } else {
+                bucket[kept] = bucket[i];
+                bucket[kept + 1] = bucket[i + 1];
+                kept += 2;
+            }
+        }
+        bucketLengths[index] = kept;
+        if (kept == 0 && bucket.length > SHRINK_THRESHOLD) {
+            buckets[index] = null;
+        }
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public long size() {
+        return size;
+    }
+}
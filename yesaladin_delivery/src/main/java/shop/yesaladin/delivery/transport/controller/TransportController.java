@@ -1,15 +1,28 @@
 package shop.yesaladin.delivery.transport.controller;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import shop.yesaladin.common.dto.ResponseDto;
+import shop.yesaladin.delivery.transport.dto.TransportBatchRequestDto;
+import shop.yesaladin.delivery.transport.dto.TransportPageResponseDto;
 import shop.yesaladin.delivery.transport.dto.TransportResponseDto;
 import shop.yesaladin.delivery.transport.service.inter.TransportService;
 
@@ -24,6 +37,8 @@ import shop.yesaladin.delivery.transport.service.inter.TransportService;
 @RequestMapping("/api/delivery")
 public class TransportController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TransportService transportService;
 
     /**
@@ -45,6 +60,27 @@ public class TransportController {
                 .build();
     }
 
+    /**
+     * 여러 주문의 배송을 한 번에 등록하기 위한 POST API 입니다. POST: /api/delivery/batch
+     *
+     * @param request 배송을 등록할 주문 번호 목록 입니다.
+     * @return 주문 번호 목록에 해당하는 배송 정보 리스트를 반환합니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ResponseDto<List<TransportResponseDto>> registerAll(
+            @Valid @RequestBody TransportBatchRequestDto request
+    ) {
+        List<TransportResponseDto> response = transportService.registerTransports(request.getOrderIds());
+        return ResponseDto.<List<TransportResponseDto>>builder()
+                .status(HttpStatus.CREATED)
+                .success(true)
+                .data(response)
+                .build();
+    }
+
     /**
      * 배송 전체 조회를 위한 GET API 입니다. GET: /api/delivery
      *
@@ -63,6 +99,96 @@ public class TransportController {
                 .build();
     }
 
+    /**
+     * 배송 목록을 최신 순으로 조회하기 위한 GET API 입니다. GET: /api/delivery/page?lastId={lastId}&size={size}
+     * <p>
+     * offset 대신 이전 페이지의 마지막 배송 PK를 기준으로 조회하므로 페이지 위치와 관계없이 일정한 비용으로 조회됩니다.
+     *
+     * @param lastId 이전 페이지의 마지막 배송 PK 입니다. 첫 페이지는 생략합니다.
+     * @param size   페이지 크기 입니다. 최대 100 입니다.
+     * @return 배송 목록과 다음 페이지 조회를 위한 정보를 반환 합니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    @GetMapping("/page")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseDto<TransportPageResponseDto> findPage(
+            @RequestParam(required = false) Long lastId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        TransportPageResponseDto response = transportService.findPage(
+                lastId,
+                Math.min(Math.max(size, 1), MAX_PAGE_SIZE)
+        );
+        return ResponseDto.<TransportPageResponseDto>builder()
+                .status(HttpStatus.OK)
+                .success(true)
+                .data(response)
+                .build();
+    }
+
+    /**
+     * 운송장 번호로 배송을 조회하기 위한 GET API 입니다. GET: /api/delivery/tracking/{trackingNo}
+     *
+     * @param trackingNo 배송의 운송장 번호 입니다.
+     * @return 배송 단건 조회 결과 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    @GetMapping("/tracking/{trackingNo}")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseDto<TransportResponseDto> findByTrackingNo(@PathVariable String trackingNo) {
+        TransportResponseDto response = transportService.findByTrackingNo(trackingNo);
+        return ResponseDto.<TransportResponseDto>builder()
+                .status(HttpStatus.OK)
+                .success(true)
+                .data(response)
+                .build();
+    }
+
+    /**
+     * 주문 번호로 배송을 조회하기 위한 GET API 입니다. GET: /api/delivery/orders/{orderId}
+     *
+     * @param orderId 주문 번호(주문의 PK) 입니다.
+     * @return 배송 단건 조회 결과 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    @GetMapping("/orders/{orderId}")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseDto<TransportResponseDto> findByOrderId(@PathVariable Long orderId) {
+        TransportResponseDto response = transportService.findByOrderId(orderId);
+        return ResponseDto.<TransportResponseDto>builder()
+                .status(HttpStatus.OK)
+                .success(true)
+                .data(response)
+                .build();
+    }
+
+    /**
+     * 운영자용 전체 배송 CSV 내보내기 GET API 입니다. GET: /api/delivery/export
+     * <p>
+     * 응답을 한 번에 만들지 않고 조회하는 대로 기록하므로 배송 수와 관계없이 일정한 메모리로 동작합니다.
+     *
+     * @return 전체 배송 CSV 스트림
+     * @author 송학현
+     * @since 1.0
+     */
+    @GetMapping(value = "/export", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    outputStream,
+                    StandardCharsets.UTF_8
+            ));
+            transportService.exportCsv(writer);
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transports.csv\"")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .body(body);
+    }
+
     /**
      * 배송 단건 조회를 위한 GET API 입니다. GET: /api/delivery/{transportId}
      *
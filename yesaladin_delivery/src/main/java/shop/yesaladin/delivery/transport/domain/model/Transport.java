@@ -7,6 +7,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -25,7 +26,9 @@ import shop.yesaladin.delivery.transport.exception.TransportAlreadyCompletedExce
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "transports")
+@Table(name = "transports", indexes = {
+        @Index(name = "uk_transports_tracking_no", columnList = "tracking_no", unique = true)
+})
 @Entity
 public class Transport {
 
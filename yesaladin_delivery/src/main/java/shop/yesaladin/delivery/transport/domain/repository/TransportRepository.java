@@ -1,6 +1,10 @@
 package shop.yesaladin.delivery.transport.domain.repository;
 
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import shop.yesaladin.delivery.transport.domain.model.Transport;
 
 /**
@@ -12,4 +16,23 @@ import shop.yesaladin.delivery.transport.domain.model.Transport;
 public interface TransportRepository extends JpaRepository<Transport, Long>,
         TransportRepositoryCustom {
 
+    /**
+     * 전체 배송을 pk 순서로 조회하는 Stream 입니다. 결과를 한 번에 메모리에 올리지 않도록 한 행씩 읽어옵니다.
+     * <p>
+     * MySQL Connector/J는 useCursorFetch 없이 양수 fetch size를 무시하고 결과 전체를 메모리에 올립니다. fetch size를
+     * Integer.MIN_VALUE로 지정하면 datasource 설정과 관계없이 결과를 한 행씩 streaming 합니다. streaming 중에는 같은 connection으로
+     * 다른 쿼리를 실행할 수 없으므로 Stream을 다 읽기 전에 다른 repository를 호출하지 않아야 합니다.
+     * <p>
+     * 트랜잭션 안에서 사용해야 하며, 사용 후 반드시 close 해야 합니다.
+     *
+     * @return 전체 배송 Stream
+     * @author 송학현
+     * @since 1.0
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("select t from Transport t order by t.id")
+    Stream<Transport> streamAll();
 }
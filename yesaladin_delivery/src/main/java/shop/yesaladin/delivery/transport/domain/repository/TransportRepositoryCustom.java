@@ -1,5 +1,8 @@
 package shop.yesaladin.delivery.transport.domain.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.repository.NoRepositoryBean;
 import shop.yesaladin.delivery.transport.domain.model.Transport;
@@ -31,4 +34,55 @@ public interface TransportRepositoryCustom {
      * @since 1.0
      */
     Optional<Transport> getLatestTransportByOrderId(Long orderId);
+
+    /**
+     * 주문 번호 목록에 해당하는 배송을 조회 합니다.
+     *
+     * @param orderIds 배송의 주문 번호 목록 입니다.
+     * @return 주문 번호 목록으로 조회한 배송 엔티티 목록
+     * @author 송학현
+     * @since 1.0
+     */
+    List<Transport> findAllByOrderIdIn(Collection<Long> orderIds);
+
+    /**
+     * 배송 목록을 JDBC batch insert로 한 번에 저장 합니다. IDENTITY 전략의 엔티티는 JPA로 batch insert가 되지 않으므로 직접 삽입합니다.
+     *
+     * @param transports 저장할 배송 엔티티 목록 입니다. (id는 채워지지 않습니다.)
+     * @author 송학현
+     * @since 1.0
+     */
+    void batchInsert(List<Transport> transports);
+
+    /**
+     * 진행 중인 배송들을 한 번의 update 쿼리로 완료 상태로 변경 합니다.
+     *
+     * @param orderIds       완료 처리할 배송의 주문 번호 목록 입니다.
+     * @param completionDate 배송 완료 일자 입니다.
+     * @return 완료 상태로 변경된 배송 수
+     * @author 송학현
+     * @since 1.0
+     */
+    long completeAllByOrderIdIn(Collection<Long> orderIds, LocalDate completionDate);
+
+    /**
+     * 운송장 번호를 기준으로 배송을 조회 합니다.
+     *
+     * @param trackingNo 배송의 운송장 번호 입니다.
+     * @return 운송장 번호로 조회한 배송 엔티티
+     * @author 송학현
+     * @since 1.0
+     */
+    Optional<Transport> findByTrackingNo(String trackingNo);
+
+    /**
+     * 배송을 최신 순으로 keyset 방식으로 조회 합니다. offset을 사용하지 않으므로 페이지 위치와 관계없이 pk 인덱스 범위 탐색으로 조회됩니다.
+     *
+     * @param lastId 이전 페이지의 마지막 배송 pk 입니다. 첫 페이지는 null 입니다.
+     * @param limit  조회할 최대 개수 입니다.
+     * @return lastId 보다 작은 pk를 가진 배송 목록
+     * @author 송학현
+     * @since 1.0
+     */
+    List<Transport> findPageBefore(Long lastId, int limit);
 }
@@ -1,9 +1,16 @@
 package shop.yesaladin.delivery.transport.domain.repository;
 
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.jdbc.core.JdbcTemplate;
 import shop.yesaladin.delivery.transport.domain.model.QTransport;
 import shop.yesaladin.delivery.transport.domain.model.Transport;
+import shop.yesaladin.delivery.transport.domain.model.TransportStatusCode;
 
 /**
  * Transport 테이블에 QueryDSL로 접근하기 위한 Repository의 구현체 입니다.
@@ -14,8 +21,16 @@ import shop.yesaladin.delivery.transport.domain.model.Transport;
 public class TransportRepositoryCustomImpl extends QuerydslRepositorySupport implements
         TransportRepositoryCustom {
 
-    public TransportRepositoryCustomImpl() {
+    private static final String BATCH_INSERT_SQL = "INSERT INTO transports "
+            + "(reception_datetime, order_id, tracking_no, transport_status_code_id) "
+            + "VALUES (?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TransportRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
         super(Transport.class);
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     /**
@@ -43,4 +58,72 @@ public class TransportRepositoryCustomImpl extends QuerydslRepositorySupport imp
                 .orderBy(transport.id.asc())
                 .fetchFirst());
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Transport> findAllByOrderIdIn(Collection<Long> orderIds) {
+        QTransport transport = QTransport.transport;
+
+        return from(transport)
+                .where(transport.orderId.in(orderIds))
+                .fetch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void batchInsert(List<Transport> transports) {
+        jdbcTemplate.batchUpdate(BATCH_INSERT_SQL, transports, BATCH_SIZE, (ps, transport) -> {
+            ps.setDate(1, Date.valueOf(transport.getReceptionDatetime()));
+            ps.setLong(2, transport.getOrderId());
+            ps.setString(3, transport.getTrackingNo());
+            ps.setInt(4, transport.getTransportStatusCode().getStatusCode());
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long completeAllByOrderIdIn(Collection<Long> orderIds, LocalDate completionDate) {
+        QTransport transport = QTransport.transport;
+
+        return update(transport)
+                .set(transport.transportStatusCode, TransportStatusCode.COMPLETE)
+                .set(transport.completionDatetime, completionDate)
+                .where(
+                        transport.orderId.in(orderIds),
+                        transport.transportStatusCode.eq(TransportStatusCode.INPROGRESS)
+                )
+                .execute();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Transport> findByTrackingNo(String trackingNo) {
+        QTransport transport = QTransport.transport;
+
+        return Optional.ofNullable(from(transport)
+                .where(transport.trackingNo.eq(trackingNo))
+                .fetchOne());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Transport> findPageBefore(Long lastId, int limit) {
+        QTransport transport = QTransport.transport;
+
+        return from(transport)
+                .where(Objects.isNull(lastId) ? null : transport.id.lt(lastId))
+                .orderBy(transport.id.desc())
+                .limit(limit)
+                .fetch();
+    }
 }
@@ -0,0 +1,22 @@
+package shop.yesaladin.delivery.transport.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 일괄 등록된 배송들을 완료 상태로 변경 하기 위한 event dto
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransportBatchCompleteEventDto {
+
+    private List<Long> orderIds;
+}
@@ -0,0 +1,27 @@
+package shop.yesaladin.delivery.transport.dto;
+
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 여러 주문의 배송을 한 번에 등록하기 위한 요청 dto 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransportBatchRequestDto {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull Long> orderIds;
+}
@@ -0,0 +1,26 @@
+package shop.yesaladin.delivery.transport.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * keyset 방식으로 조회한 배송 목록 DTO 클래스 입니다.
+ * <p>
+ * 다음 페이지는 lastId 파라미터에 nextLastId 값을 넣어 조회합니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransportPageResponseDto {
+
+    private List<TransportResponseDto> content;
+    private Long nextLastId;
+    private boolean hasNext;
+}
@@ -0,0 +1,16 @@
+package shop.yesaladin.delivery.transport.exception;
+
+/**
+ * 운송장 번호에 해당하는 배송 정보가 존재 하지 않는 경우 발생 하는 예외
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+public class TransportNotFoundByTrackingNoException extends RuntimeException {
+
+    private static final String MESSAGE = "Transport not founded, tracking no: ";
+
+    public TransportNotFoundByTrackingNoException(String trackingNo) {
+        super(MESSAGE + trackingNo);
+    }
+}
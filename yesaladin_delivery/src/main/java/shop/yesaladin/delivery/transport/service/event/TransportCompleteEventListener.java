@@ -1,17 +1,22 @@
 package shop.yesaladin.delivery.transport.service.event;
 
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
+import shop.yesaladin.delivery.simulation.DeliverySimulator;
+import shop.yesaladin.delivery.transport.dto.TransportBatchCompleteEventDto;
 import shop.yesaladin.delivery.transport.dto.TransportCompleteEventDto;
 import shop.yesaladin.delivery.transport.dto.TransportResponseDto;
 import shop.yesaladin.delivery.transport.service.inter.TransportService;
 
 /**
  * 배송 등록 API 호출로 배송 entity가 commit 되는 시점에 배송 상태를 변경 하고 완료날짜를 지정하기 위한 event listener 입니다.
+ * <p>
+ * Shop API 서버로 전달할 배송 완료 작업은 배송 완료 처리와 같은 트랜잭션에서 delivery_completions 테이블에 저장됩니다. 시뮬레이션
+ * 모드에서는 즉시 완료하지 않고 DeliverySimulator에 완료 시점을 예약합니다.
  *
  * @author 송학현
  * @since 1.0
@@ -21,8 +26,8 @@ import shop.yesaladin.delivery.transport.service.inter.TransportService;
 @Component
 public class TransportCompleteEventListener {
 
-    public static Queue<Long> orderIdQueue = new ConcurrentLinkedQueue<>();
     private final TransportService transportService;
+    private final Optional<DeliverySimulator> deliverySimulator;
 
     /**
      * 배송 등록 후 해당 배송 entity를 완료 상태로 변경하기 위한 이벤트 처리 메소드 입니다.
@@ -35,8 +40,28 @@ public class TransportCompleteEventListener {
     public void handleTransportStatus(TransportCompleteEventDto dto) {
         Long orderId = dto.getOrderId();
         TransportResponseDto transport = transportService.findByOrderId(orderId);
+        if (deliverySimulator.isPresent()) {
+            deliverySimulator.get().schedule(List.of(transport.getOrderId()));
+            return;
+        }
         transportService.completeTransport(transport.getOrderId());
-        orderIdQueue.add(orderId);
         log.info("handleTransportStatus success");
     }
+
+    /**
+     * 일괄 배송 등록 후 등록된 배송 entity들을 한 번에 완료 상태로 변경하기 위한 이벤트 처리 메소드 입니다.
+     *
+     * @param dto 배송 entity들을 완료 상태로 변경하기 위한 이벤트 메시지 클래스 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    @TransactionalEventListener
+    public void handleTransportStatuses(TransportBatchCompleteEventDto dto) {
+        if (deliverySimulator.isPresent()) {
+            deliverySimulator.get().schedule(dto.getOrderIds());
+            return;
+        }
+        transportService.completeTransports(dto.getOrderIds());
+        log.info("handleTransportStatuses success: size -> {}", dto.getOrderIds().size());
+    }
 }
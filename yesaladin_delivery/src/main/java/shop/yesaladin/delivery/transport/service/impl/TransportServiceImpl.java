@@ -1,9 +1,19 @@
 package shop.yesaladin.delivery.transport.service.impl;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -11,12 +21,16 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import shop.yesaladin.delivery.completion.service.inter.DeliveryCompletionService;
 import shop.yesaladin.delivery.transport.domain.model.Transport;
 import shop.yesaladin.delivery.transport.domain.model.TransportStatusCode;
 import shop.yesaladin.delivery.transport.domain.repository.TransportRepository;
+import shop.yesaladin.delivery.transport.dto.TransportBatchCompleteEventDto;
 import shop.yesaladin.delivery.transport.dto.TransportCompleteEventDto;
+import shop.yesaladin.delivery.transport.dto.TransportPageResponseDto;
 import shop.yesaladin.delivery.transport.dto.TransportResponseDto;
 import shop.yesaladin.delivery.transport.exception.TransportNotFoundByOrderIdException;
+import shop.yesaladin.delivery.transport.exception.TransportNotFoundByTrackingNoException;
 import shop.yesaladin.delivery.transport.exception.TransportNotFoundException;
 import shop.yesaladin.delivery.transport.service.inter.TransportService;
 
@@ -31,8 +45,15 @@ import shop.yesaladin.delivery.transport.service.inter.TransportService;
 @Service
 public class TransportServiceImpl implements TransportService {
 
+    private static final String CSV_HEADER = "id,orderId,trackingNo,transportStatus,receptionDatetime,completionDatetime\n";
+    private static final int EXPORT_FLUSH_SIZE = 1000;
+
     private final TransportRepository transportRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final DeliveryCompletionService deliveryCompletionService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     /**
      * {@inheritDoc}
@@ -55,6 +76,38 @@ public class TransportServiceImpl implements TransportService {
         return TransportResponseDto.fromEntity(savedTransport);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<TransportResponseDto> registerTransports(List<Long> orderIds) {
+        Set<Long> requested = new LinkedHashSet<>(orderIds);
+        transportRepository.findAllByOrderIdIn(requested)
+                .forEach(transport -> requested.remove(transport.getOrderId()));
+
+        if (!requested.isEmpty()) {
+            LocalDate today = LocalDate.now();
+            List<Transport> transports = requested.stream()
+                    .map(orderId -> Transport.builder()
+                            .receptionDatetime(today)
+                            .orderId(orderId)
+                            .trackingNo(UUID.randomUUID().toString())
+                            .transportStatusCode(TransportStatusCode.INPROGRESS)
+                            .build())
+                    .collect(Collectors.toList());
+            transportRepository.batchInsert(transports);
+
+            applicationEventPublisher.publishEvent(new TransportBatchCompleteEventDto(
+                    new ArrayList<>(requested)
+            ));
+        }
+
+        return transportRepository.findAllByOrderIdIn(orderIds).stream()
+                .map(TransportResponseDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -65,9 +118,28 @@ public class TransportServiceImpl implements TransportService {
         Transport transport = getTransport(orderId);
         transport.completeTransport();
         transportRepository.save(transport);
+        deliveryCompletionService.enqueue(orderId);
         return TransportResponseDto.fromEntity(transport);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Async
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void completeTransports(List<Long> orderIds) {
+        List<Long> inProgress = transportRepository.findAllByOrderIdIn(orderIds).stream()
+                .filter(transport -> transport.getTransportStatusCode() == TransportStatusCode.INPROGRESS)
+                .map(Transport::getOrderId)
+                .collect(Collectors.toList());
+        if (inProgress.isEmpty()) {
+            return;
+        }
+        transportRepository.completeAllByOrderIdIn(inProgress, LocalDate.now());
+        deliveryCompletionService.enqueueAll(inProgress);
+    }
+
     private Transport getTransport(Long orderId) {
         return transportRepository.findByOrderId(orderId)
                 .orElseThrow(() -> new TransportNotFoundByOrderIdException(orderId));
@@ -84,6 +156,65 @@ public class TransportServiceImpl implements TransportService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TransportPageResponseDto findPage(Long lastId, int size) {
+        List<Transport> transports = transportRepository.findPageBefore(lastId, size + 1);
+        boolean hasNext = transports.size() > size;
+        List<TransportResponseDto> content = transports.stream()
+                .limit(size)
+                .map(TransportResponseDto::fromEntity)
+                .collect(Collectors.toList());
+        Long nextLastId = content.isEmpty() ? null : content.get(content.size() - 1).getId();
+        return new TransportPageResponseDto(content, nextLastId, hasNext);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TransportResponseDto findByTrackingNo(String trackingNo) {
+        Transport transport = transportRepository.findByTrackingNo(trackingNo)
+                .orElseThrow(() -> new TransportNotFoundByTrackingNoException(trackingNo));
+
+        return TransportResponseDto.fromEntity(transport);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCsv(Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        try (Stream<Transport> transports = transportRepository.streamAll()) {
+            Iterator<Transport> iterator = transports.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                Transport transport = iterator.next();
+                writer.write(toCsvLine(transport));
+                if (++count % EXPORT_FLUSH_SIZE == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private static String toCsvLine(Transport transport) {
+        return transport.getId() + ","
+                + transport.getOrderId() + ","
+                + transport.getTrackingNo() + ","
+                + transport.getTransportStatusCode().name() + ","
+                + transport.getReceptionDatetime() + ","
+                + Objects.toString(transport.getCompletionDatetime(), "") + "\n";
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,7 +1,10 @@
 package shop.yesaladin.delivery.transport.service.inter;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 import shop.yesaladin.delivery.transport.domain.model.Transport;
+import shop.yesaladin.delivery.transport.dto.TransportPageResponseDto;
 import shop.yesaladin.delivery.transport.dto.TransportResponseDto;
 
 /**
@@ -22,6 +25,16 @@ public interface TransportService {
      */
     TransportResponseDto registerTransport(Long orderId);
 
+    /**
+     * 여러 주문의 배송을 한 번에 등록하기 위한 기능 입니다. 이미 배송이 등록된 주문은 기존 배송 정보를 그대로 반환합니다.
+     *
+     * @param orderIds 주문의 PK 목록 입니다.
+     * @return 주문 번호 목록에 해당하는 배송 정보를 담은 DTO 목록 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    List<TransportResponseDto> registerTransports(List<Long> orderIds);
+
     /**
      * 배송 상태를 완료로 변경 하기 위한 기능 입니다.
      *
@@ -32,6 +45,15 @@ public interface TransportService {
      */
     TransportResponseDto completeTransport(Long orderId);
 
+    /**
+     * 여러 배송의 상태를 한 번에 완료로 변경 하기 위한 기능 입니다. 이미 완료된 배송은 건너뜁니다.
+     *
+     * @param orderIds 배송 entity에 들어 있는 주문의 PK 목록 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    void completeTransports(List<Long> orderIds);
+
     /**
      * 전체 배송 조회를 위한 기능 입니다.
      *
@@ -41,6 +63,37 @@ public interface TransportService {
      */
     List<TransportResponseDto> findAll();
 
+    /**
+     * 배송 목록을 최신 순으로 keyset 방식으로 조회하기 위한 기능 입니다.
+     *
+     * @param lastId 이전 페이지의 마지막 배송 PK 입니다. 첫 페이지는 null 입니다.
+     * @param size   페이지 크기 입니다.
+     * @return 배송 정보 목록과 다음 페이지 조회를 위한 정보를 담은 DTO 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    TransportPageResponseDto findPage(Long lastId, int size);
+
+    /**
+     * 운송장 번호로 배송을 조회하기 위한 기능 입니다.
+     *
+     * @param trackingNo 조회 대상 배송의 운송장 번호 입니다.
+     * @return 배송에 대한 정보를 담은 DTO 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    TransportResponseDto findByTrackingNo(String trackingNo);
+
+    /**
+     * 전체 배송을 CSV 형식으로 내보내기 위한 기능 입니다. 전체 배송을 한 번에 메모리에 올리지 않고 순차적으로 기록합니다.
+     *
+     * @param writer CSV를 기록할 Writer 입니다.
+     * @throws IOException 기록에 실패한 경우 발생합니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    void exportCsv(Writer writer) throws IOException;
+
     /**
      * 배송 단건 조회를 위한 기능 입니다.
      *
@@ -0,0 +1,74 @@
+package shop.yesaladin.delivery.completion.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import shop.yesaladin.delivery.completion.domain.model.DeliveryCompletion;
+
+@DataJpaTest
+class DeliveryCompletionRepositoryTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    private DeliveryCompletionRepository repository;
+
+    private final LocalDateTime now = LocalDateTime.of(2023, 1, 19, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        DeliveryCompletion ready = DeliveryCompletion.create(1L, now.minusMinutes(1));
+        DeliveryCompletion leased = DeliveryCompletion.create(2L, now.minusMinutes(1));
+        leased.claim("other-worker", now.plusMinutes(1));
+        DeliveryCompletion expiredLease = DeliveryCompletion.create(3L, now.minusMinutes(1));
+        expiredLease.claim("dead-worker", now.minusSeconds(1));
+        DeliveryCompletion backoff = DeliveryCompletion.create(4L, now.minusMinutes(1));
+        backoff.retryAt(now.plusMinutes(5));
+
+        entityManager.persist(ready);
+        entityManager.persist(leased);
+        entityManager.persist(expiredLease);
+        entityManager.persist(backoff);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("다음 시도 시각이 지났고 lease가 없거나 만료된 작업만 조회된다.")
+    void findClaimable() throws Exception {
+        //when
+        List<DeliveryCompletion> result = repository.findClaimable(now, PageRequest.of(0, 10));
+
+        //then
+        assertThat(result).extracting(DeliveryCompletion::getOrderId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("조회 개수는 page 크기로 제한된다.")
+    void findClaimable_limited() throws Exception {
+        //when
+        List<DeliveryCompletion> result = repository.findClaimable(now, PageRequest.of(0, 1));
+
+        //then
+        assertThat(result).extracting(DeliveryCompletion::getOrderId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("이미 큐에 있는 작업의 주문 번호만 조회된다.")
+    void findOrderIdsIn() throws Exception {
+        //when
+        List<Long> result = repository.findOrderIdsIn(List.of(1L, 4L, 5L));
+
+        //then
+        assertThat(result).containsExactlyInAnyOrder(1L, 4L);
+    }
+}
@@ -0,0 +1,64 @@
+package shop.yesaladin.delivery.completion.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import shop.yesaladin.delivery.completion.domain.model.DeliveryCompletion;
+import shop.yesaladin.delivery.completion.domain.repository.DeliveryCompletionRepository;
+
+class DeliveryCompletionServiceImplTest {
+
+    private DeliveryCompletionRepository deliveryCompletionRepository;
+    private DeliveryCompletionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        deliveryCompletionRepository = mock(DeliveryCompletionRepository.class);
+        service = new DeliveryCompletionServiceImpl(
+                deliveryCompletionRepository,
+                Clock.fixed(Instant.parse("2023-01-19T00:00:00.000Z"), ZoneId.of("UTC"))
+        );
+    }
+
+    @Test
+    @DisplayName("이미 큐에 있는 주문은 다시 추가하지 않는다.")
+    void enqueue_alreadyEnqueued() throws Exception {
+        //given
+        when(deliveryCompletionRepository.findOrderIdsIn(anyCollection())).thenReturn(List.of(1L));
+
+        //when
+        service.enqueue(1L);
+
+        //then
+        verify(deliveryCompletionRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("중복된 주문 번호와 이미 큐에 있는 주문을 제외하고 한 번에 추가한다.")
+    void enqueueAll() throws Exception {
+        //given
+        when(deliveryCompletionRepository.findOrderIdsIn(anyCollection())).thenReturn(List.of(2L));
+
+        //when
+        service.enqueueAll(List.of(1L, 2L, 3L, 1L));
+
+        //then
+        ArgumentCaptor<List<DeliveryCompletion>> captor = ArgumentCaptor.forClass(List.class);
+        verify(deliveryCompletionRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(DeliveryCompletion::getOrderId)
+                .containsExactly(1L, 3L);
+    }
+}
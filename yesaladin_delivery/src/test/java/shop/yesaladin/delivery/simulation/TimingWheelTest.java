@@ -0,0 +1,111 @@
+package shop.yesaladin.delivery.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("만료 tick에 도달한 timer만 만료된다.")
+    void advance() throws Exception {
+        //given
+        TimingWheel wheel = new TimingWheel(8);
+        wheel.schedule(1L, 3L);
+        wheel.schedule(2L, 5L);
+        List<Long> expired = new ArrayList<>();
+
+        //when
+        wheel.advance(4L, expired::add);
+
+        //then
+        assertThat(expired).containsExactly(1L);
+        assertThat(wheel.size()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("wheel 한 바퀴보다 먼 timer는 해당 바퀴에 도달해야 만료된다.")
+    void advance_multipleRounds() throws Exception {
+        //given
+        TimingWheel wheel = new TimingWheel(8);
+        wheel.schedule(1L, 2L);
+        wheel.schedule(2L, 18L);
+        List<Long> expired = new ArrayList<>();
+
+        //when
+        wheel.advance(10L, expired::add);
+
+        //then
+        assertThat(expired).containsExactly(1L);
+
+        //when
+        wheel.advance(18L, expired::add);
+
+        //then
+        assertThat(expired).containsExactly(1L, 2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 지난 tick으로 등록한 timer는 다음 tick에 만료된다.")
+    void schedule_pastDeadline() throws Exception {
+        //given
+        TimingWheel wheel = new TimingWheel(8);
+        wheel.advance(5L, value -> {
+        });
+        wheel.schedule(1L, 2L);
+        List<Long> expired = new ArrayList<>();
+
+        //when
+        wheel.advance(6L, expired::add);
+
+        //then
+        assertThat(expired).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("많은 timer를 등록해도 모두 한 번씩만 만료된다.")
+    void advance_manyTimers() throws Exception {
+        //given
+        TimingWheel wheel = new TimingWheel(64);
+        Random random = new Random(1L);
+        int count = 100_000;
+        for (int i = 0; i < count; i++) {
+            wheel.schedule(i, 1L + random.nextInt(1000));
+        }
+        boolean[] seen = new boolean[count];
+        int[] expiredCount = {0};
+
+        //when
+        wheel.advance(1000L, orderId -> {
+            assertThat(seen[(int) orderId]).isFalse();
+            seen[(int) orderId] = true;
+            expiredCount[0]++;
+        });
+
+        //then
+        assertThat(expiredCount[0]).isEqualTo(count);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("추출한 지연 시간은 최소값과 최대값 사이로 제한된다.")
+    void delayDistribution_bounded() throws Exception {
+        //given
+        Random random = new Random(1L);
+
+        for (DelayDistribution distribution : DelayDistribution.values()) {
+            for (int i = 0; i < 1000; i++) {
+                //when
+                double delay = distribution.sample(random, 30, 1440, 4320, 0.5);
+
+                //then
+                assertThat(delay).isBetween(30.0, 4320.0);
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import shop.yesaladin.delivery.transport.domain.model.Transport;
 import shop.yesaladin.delivery.transport.domain.model.TransportStatusCode;
+import shop.yesaladin.delivery.transport.dto.TransportPageResponseDto;
 import shop.yesaladin.delivery.transport.dto.TransportResponseDto;
 import shop.yesaladin.delivery.transport.exception.TransportNotFoundException;
 import shop.yesaladin.delivery.transport.service.inter.TransportService;
@@ -84,12 +85,45 @@ class TransportControllerTest {
         verify(transportService, times(1)).registerTransport(orderId);
     }
 
+    @Test
+    @DisplayName("배송 일괄 등록 성공")
+    void registerAll() throws Exception {
+        //given
+        List<Long> orderIds = List.of(1L);
+
+        Mockito.when(transportService.registerTransports(orderIds)).thenReturn(List.of(responseDto));
+
+        //when
+        ResultActions perform = mockMvc.perform(post("/api/delivery/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderIds\":[1]}"));
+
+        //then
+        perform.andDo(print()).andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.[0].orderId", equalTo(transport.getOrderId().intValue())))
+                .andExpect(jsonPath("$.data.[0].trackingNo", equalTo(transport.getTrackingNo())));
+
+        verify(transportService, times(1)).registerTransports(orderIds);
+    }
+
+    @Test
+    @DisplayName("배송 일괄 등록 시 주문 번호 목록이 비어있으면 400을 반환한다.")
+    void registerAll_fail_emptyOrderIds() throws Exception {
+        //when
+        ResultActions perform = mockMvc.perform(post("/api/delivery/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderIds\":[]}"));
+
+        //then
+        perform.andDo(print()).andExpect(status().isBadRequest());
+
+        verify(transportService, times(0)).registerTransports(Mockito.anyList());
+    }
+
     @Test
     @DisplayName("배송 전체 조회 성공")
     void findAll() throws Exception {
         //given
-        long id = 1L;
-
         Mockito.when(transportService.findAll()).thenReturn(List.of(responseDto));
 
         //when
@@ -99,8 +133,6 @@ class TransportControllerTest {
         perform.andDo(print()).andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.data.[0].id", equalTo(transport.getId().intValue())))
-                .andExpect(jsonPath("$.data.[0].receptionDatetime", equalTo(transport.getReceptionDatetime().toString())))
-                .andExpect(jsonPath("$.data.[0].completionDatetime", equalTo(transport.getCompletionDatetime())))
                 .andExpect(jsonPath("$.data.[0].orderId", equalTo(transport.getOrderId().intValue())))
                 .andExpect(jsonPath("$.data.[0].trackingNo", equalTo(transport.getTrackingNo())))
                 .andExpect(jsonPath("$.data.[0].transportStatus", equalTo(transport.getTransportStatusCode().name())));
@@ -108,6 +140,66 @@ class TransportControllerTest {
         verify(transportService, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("배송 목록 페이지 조회 성공")
+    void findPage() throws Exception {
+        //given
+        long lastId = 10L;
+        TransportPageResponseDto page = new TransportPageResponseDto(
+                List.of(responseDto),
+                responseDto.getId(),
+                false
+        );
+
+        Mockito.when(transportService.findPage(lastId, 20)).thenReturn(page);
+
+        //when
+        ResultActions perform = mockMvc.perform(get("/api/delivery/page").param("lastId", String.valueOf(lastId)));
+
+        //then
+        perform.andDo(print()).andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.content.[0].id", equalTo(transport.getId().intValue())))
+                .andExpect(jsonPath("$.data.content.[0].orderId", equalTo(transport.getOrderId().intValue())))
+                .andExpect(jsonPath("$.data.content.[0].trackingNo", equalTo(transport.getTrackingNo())))
+                .andExpect(jsonPath("$.data.nextLastId", equalTo(transport.getId().intValue())))
+                .andExpect(jsonPath("$.data.hasNext", equalTo(false)));
+
+        verify(transportService, times(1)).findPage(lastId, 20);
+    }
+
+    @Test
+    @DisplayName("배송 목록 조회 시 페이지 크기는 최대 100으로 제한된다.")
+    void findPage_sizeLimited() throws Exception {
+        //given
+        Mockito.when(transportService.findPage(null, 100))
+                .thenReturn(new TransportPageResponseDto(List.of(), null, false));
+
+        //when
+        ResultActions perform = mockMvc.perform(get("/api/delivery/page").param("size", "10000"));
+
+        //then
+        perform.andDo(print()).andExpect(status().isOk());
+
+        verify(transportService, times(1)).findPage(null, 100);
+    }
+
+    @Test
+    @DisplayName("운송장 번호로 배송 조회 성공")
+    void findByTrackingNo() throws Exception {
+        //given
+        Mockito.when(transportService.findByTrackingNo(trackingNo)).thenReturn(responseDto);
+
+        //when
+        ResultActions perform = mockMvc.perform(get("/api/delivery/tracking/{trackingNo}", trackingNo));
+
+        //then
+        perform.andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.trackingNo", equalTo(trackingNo)));
+
+        verify(transportService, times(1)).findByTrackingNo(trackingNo);
+    }
+
     @Test
     @DisplayName("존재 하지 않는 배송을 조회할 경우 예외가 발생한다.")
     void findByDeliveryId_fail_whenNotExist() throws Exception {
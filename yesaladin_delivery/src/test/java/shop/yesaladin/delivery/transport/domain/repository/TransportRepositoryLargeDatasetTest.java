@@ -0,0 +1,99 @@
+package shop.yesaladin.delivery.transport.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import shop.yesaladin.delivery.transport.domain.model.Transport;
+
+/**
+ * 백만 건의 배송이 저장된 상태에서 조회 쿼리가 인덱스를 사용하는지 확인하는 테스트 입니다.
+ * <p>
+ * 백만 건은 모든 테스트가 읽기만 하는 공용 데이터이므로 테스트 트랜잭션 밖에서 클래스 당 한 번만 저장하고, 다른 테스트 클래스에 영향을 주지
+ * 않도록 모든 테스트가 끝나면 삭제합니다.
+ */
+@DataJpaTest
+@TestInstance(Lifecycle.PER_CLASS)
+class TransportRepositoryLargeDatasetTest {
+
+    private static final int ROWS = 1_000_000;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransportRepository repository;
+
+    @BeforeAll
+    void setUpAll() {
+        jdbcTemplate.update("INSERT INTO transports "
+                + "(reception_datetime, order_id, tracking_no, transport_status_code_id) "
+                + "SELECT DATE '2023-01-01', X, CONCAT('TRK-', X), 1 FROM SYSTEM_RANGE(1, " + ROWS + ")");
+    }
+
+    @AfterAll
+    void tearDownAll() {
+        jdbcTemplate.update("DELETE FROM transports");
+    }
+
+    @Test
+    @DisplayName("운송장 번호와 주문 번호 조회는 전체 테이블을 탐색하지 않는다.")
+    void lookup_usesIndex() throws Exception {
+        //when
+        String trackingNoPlan = explain("SELECT * FROM transports WHERE tracking_no = 'TRK-777777'");
+        String orderIdPlan = explain("SELECT * FROM transports WHERE order_id = 777777");
+
+        //then
+        assertThat(trackingNoPlan).doesNotContain("tableScan");
+        assertThat(orderIdPlan).doesNotContain("tableScan");
+
+        Optional<Transport> byTrackingNo = repository.findByTrackingNo("TRK-777777");
+        assertThat(byTrackingNo).isPresent();
+        assertThat(byTrackingNo.get().getOrderId()).isEqualTo(777777L);
+        assertThat(repository.findByOrderId(777777L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("keyset 조회는 pk 인덱스를 사용하며 깊은 페이지도 올바르게 조회된다.")
+    void findPageBefore_deepPage() throws Exception {
+        //given
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM transports", Long.class);
+        long lastId = maxId - ROWS / 2;
+
+        //when
+        String plan = explain("SELECT * FROM transports WHERE id < " + lastId + " ORDER BY id DESC LIMIT 20");
+        List<Transport> page = repository.findPageBefore(lastId, 20);
+
+        //then
+        assertThat(plan).doesNotContain("tableScan");
+        assertThat(page).hasSize(20);
+        assertThat(page.get(0).getId()).isEqualTo(lastId - 1);
+        assertThat(page.get(19).getId()).isEqualTo(lastId - 20);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 남은 배송만 조회된다.")
+    void findPageBefore_lastPage() throws Exception {
+        //given
+        Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM transports", Long.class);
+
+        //when
+        List<Transport> page = repository.findPageBefore(minId + 3, 20);
+
+        //then
+        assertThat(page).extracting(Transport::getId).containsExactly(minId + 2, minId + 1, minId);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
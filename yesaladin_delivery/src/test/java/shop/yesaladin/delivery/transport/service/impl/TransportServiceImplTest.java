@@ -4,9 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.StringWriter;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -14,18 +16,24 @@ import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.context.ApplicationEventPublisher;
+import shop.yesaladin.delivery.completion.service.inter.DeliveryCompletionService;
 import shop.yesaladin.delivery.transport.domain.model.Transport;
 import shop.yesaladin.delivery.transport.domain.model.TransportStatusCode;
 import shop.yesaladin.delivery.transport.domain.repository.TransportRepository;
+import shop.yesaladin.delivery.transport.dto.TransportBatchCompleteEventDto;
+import shop.yesaladin.delivery.transport.dto.TransportPageResponseDto;
 import shop.yesaladin.delivery.transport.dto.TransportResponseDto;
 import shop.yesaladin.delivery.transport.dummy.DummyTransport;
 import shop.yesaladin.delivery.transport.exception.TransportAlreadyCompletedException;
 import shop.yesaladin.delivery.transport.exception.TransportNotFoundByOrderIdException;
+import shop.yesaladin.delivery.transport.exception.TransportNotFoundByTrackingNoException;
 import shop.yesaladin.delivery.transport.exception.TransportNotFoundException;
 import shop.yesaladin.delivery.transport.service.inter.TransportService;
 
@@ -34,6 +42,7 @@ class TransportServiceImplTest {
     private TransportService service;
     private TransportRepository repository;
     private ApplicationEventPublisher applicationEventPublisher;
+    private DeliveryCompletionService deliveryCompletionService;
 
     private final Clock clock = Clock.fixed(
             Instant.parse("2023-01-19T00:00:00.000Z"),
@@ -44,7 +53,12 @@ class TransportServiceImplTest {
     void setUp() {
         repository = Mockito.mock(TransportRepository.class);
         applicationEventPublisher = Mockito.mock(ApplicationEventPublisher.class);
-        service = new TransportServiceImpl(repository, applicationEventPublisher);
+        deliveryCompletionService = Mockito.mock(DeliveryCompletionService.class);
+        service = new TransportServiceImpl(
+                repository,
+                applicationEventPublisher,
+                deliveryCompletionService
+        );
     }
 
     @Test
@@ -72,6 +86,64 @@ class TransportServiceImplTest {
         verify(repository, times(1)).save(any());
     }
 
+    @Test
+    @DisplayName("배송 일괄 등록 시 이미 등록된 주문은 제외하고 batch insert 한다.")
+    void registerTransports() throws Exception {
+        //given
+        String trackingNo = UUID.randomUUID().toString();
+        Transport existing = DummyTransport.dummyWithId(clock, trackingNo);
+        Transport created = Transport.builder()
+                .id(2L)
+                .receptionDatetime(LocalDate.now(clock))
+                .orderId(2L)
+                .trackingNo(UUID.randomUUID().toString())
+                .transportStatusCode(TransportStatusCode.INPROGRESS)
+                .build();
+
+        Mockito.when(repository.findAllByOrderIdIn(any()))
+                .thenReturn(List.of(existing))
+                .thenReturn(List.of(existing, created));
+
+        //when
+        List<TransportResponseDto> response = service.registerTransports(List.of(1L, 2L, 2L));
+
+        //then
+        assertThat(response).extracting(TransportResponseDto::getOrderId).containsExactly(1L, 2L);
+
+        ArgumentCaptor<List<Transport>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(1)).batchInsert(captor.capture());
+        assertThat(captor.getValue()).extracting(Transport::getOrderId).containsExactly(2L);
+
+        ArgumentCaptor<TransportBatchCompleteEventDto> eventCaptor = ArgumentCaptor.forClass(
+                TransportBatchCompleteEventDto.class);
+        verify(applicationEventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getOrderIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("배송 일괄 완료 시 진행 중인 배송만 완료 처리하고 배송 완료 작업을 추가한다.")
+    void completeTransports() throws Exception {
+        //given
+        Transport inProgress = DummyTransport.dummyWithId(clock, UUID.randomUUID().toString());
+        Transport completed = Transport.builder()
+                .id(2L)
+                .receptionDatetime(LocalDate.now(clock))
+                .completionDatetime(LocalDate.now(clock))
+                .orderId(2L)
+                .trackingNo(UUID.randomUUID().toString())
+                .transportStatusCode(TransportStatusCode.COMPLETE)
+                .build();
+
+        Mockito.when(repository.findAllByOrderIdIn(any())).thenReturn(List.of(inProgress, completed));
+
+        //when
+        service.completeTransports(List.of(1L, 2L));
+
+        //then
+        verify(repository, times(1)).completeAllByOrderIdIn(eq(List.of(1L)), any());
+        verify(deliveryCompletionService, times(1)).enqueueAll(List.of(1L));
+    }
+
     @Test
     @DisplayName("해당 배송이 없는 경우 예외가 발생 한다.")
     void completeTransport_fail_notFoundTransport() throws Exception {
@@ -129,6 +201,7 @@ class TransportServiceImplTest {
         assertThat(response.getCompletionDatetime()).isEqualTo(LocalDate.now());
 
         verify(repository, times(1)).findByOrderId(orderId);
+        verify(deliveryCompletionService, times(1)).enqueue(orderId);
     }
 
     @Test
@@ -144,33 +217,99 @@ class TransportServiceImplTest {
     }
 
     @Test
-    @DisplayName("전체 조회 성공")
-    void findAll() throws Exception {
+    @DisplayName("목록 조회 시 배송이 없는 경우 빈 페이지를 반환한다.")
+    void findPage_returnEmptyPage() throws Exception {
+        //when
+        TransportPageResponseDto page = service.findPage(null, 20);
+
+        //then
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getNextLastId()).isNull();
+        assertThat(page.isHasNext()).isFalse();
+
+        verify(repository, times(1)).findPageBefore(null, 21);
+    }
+
+    @Test
+    @DisplayName("목록 조회 시 페이지 크기보다 많이 조회되면 다음 페이지가 존재한다.")
+    void findPage_hasNext() throws Exception {
+        //given
+        List<Transport> transports = List.of(
+                transportWithId(3L),
+                transportWithId(2L),
+                transportWithId(1L)
+        );
+
+        Mockito.when(repository.findPageBefore(10L, 3)).thenReturn(transports);
+
+        //when
+        TransportPageResponseDto page = service.findPage(10L, 2);
+
+        //then
+        assertThat(page.getContent()).extracting(TransportResponseDto::getId).containsExactly(3L, 2L);
+        assertThat(page.getNextLastId()).isEqualTo(2L);
+        assertThat(page.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("운송장 번호로 조회 성공")
+    void findByTrackingNo() throws Exception {
         //given
-        long transportId = 1L;
-        long orderId = 1L;
         String trackingNo = UUID.randomUUID().toString();
         Transport transport = DummyTransport.dummyWithId(clock, trackingNo);
 
-        Mockito.when(repository.findAll()).thenReturn(List.of(transport));
+        Mockito.when(repository.findByTrackingNo(trackingNo)).thenReturn(Optional.of(transport));
 
         //when
-        List<TransportResponseDto> transports = service.findAll();
+        TransportResponseDto response = service.findByTrackingNo(trackingNo);
 
         //then
-        int expectedSize = 1;
-        assertThat(transports).hasSize(expectedSize);
-
-        int index = 0;
-        TransportResponseDto actual = transports.get(index);
-        assertThat(actual.getId()).isEqualTo(transportId);
-        assertThat(actual.getOrderId()).isEqualTo(orderId);
-        assertThat(actual.getTrackingNo()).isEqualTo(trackingNo);
-        assertThat(actual.getTransportStatus()).isEqualTo(TransportStatusCode.INPROGRESS.name());
-        assertThat(actual.getReceptionDatetime()).isEqualTo(LocalDate.now(clock));
-        assertThat(actual.getCompletionDatetime()).isNull();
+        assertThat(response.getTrackingNo()).isEqualTo(trackingNo);
+        verify(repository, times(1)).findByTrackingNo(trackingNo);
+    }
 
-        verify(repository, times(1)).findAll();
+    @Test
+    @DisplayName("존재 하지 않는 운송장 번호로 조회 시 예외가 발생한다.")
+    void findByTrackingNo_fail_whenNotExist() throws Exception {
+        //given
+        String trackingNo = UUID.randomUUID().toString();
+
+        Mockito.when(repository.findByTrackingNo(trackingNo)).thenReturn(Optional.empty());
+
+        //when, then
+        assertThatThrownBy(() -> service.findByTrackingNo(trackingNo))
+                .isInstanceOf(TransportNotFoundByTrackingNoException.class)
+                .hasMessageContainingAll("Transport not founded, tracking no: " + trackingNo);
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 시 헤더와 배송 정보를 한 줄씩 기록한다.")
+    void exportCsv() throws Exception {
+        //given
+        String trackingNo = UUID.randomUUID().toString();
+        Transport transport = DummyTransport.dummyWithId(clock, trackingNo);
+        StringWriter writer = new StringWriter();
+
+        Mockito.when(repository.streamAll()).thenReturn(Stream.of(transport));
+
+        //when
+        service.exportCsv(writer);
+
+        //then
+        assertThat(writer.toString()).isEqualTo(
+                "id,orderId,trackingNo,transportStatus,receptionDatetime,completionDatetime\n"
+                        + "1,1," + trackingNo + ",INPROGRESS," + LocalDate.now(clock) + ",\n"
+        );
+    }
+
+    private Transport transportWithId(long id) {
+        return Transport.builder()
+                .id(id)
+                .receptionDatetime(LocalDate.now(clock))
+                .orderId(id)
+                .trackingNo(UUID.randomUUID().toString())
+                .transportStatusCode(TransportStatusCode.INPROGRESS)
+                .build();
     }
 
     @Test
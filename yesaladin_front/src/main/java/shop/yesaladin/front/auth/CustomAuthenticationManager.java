@@ -5,7 +5,6 @@ import static shop.yesaladin.front.member.jwt.AuthUtil.JWT_CODE;
 import static shop.yesaladin.front.member.jwt.AuthUtil.UUID_CODE;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
@@ -25,12 +24,16 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import shop.yesaladin.common.dto.ResponseDto;
+import shop.yesaladin.front.cart.service.inter.CartService;
 import shop.yesaladin.front.common.exception.InvalidHttpHeaderException;
 import shop.yesaladin.front.common.utils.CookieUtils;
+import shop.yesaladin.front.common.utils.RecentViewOwnerResolver;
 import shop.yesaladin.front.member.adapter.MemberAdapter;
 import shop.yesaladin.front.member.dto.LoginRequestDto;
 import shop.yesaladin.front.member.dto.MemberResponseDto;
 import shop.yesaladin.front.member.jwt.AuthInfo;
+import shop.yesaladin.front.product.dto.RecentViewOwner;
+import shop.yesaladin.front.product.service.inter.RecentViewService;
 
 /**
  * AuthenticationManager를 custom한 Manager 입니다.
@@ -48,6 +51,9 @@ public class CustomAuthenticationManager implements AuthenticationManager {
     private final MemberAdapter memberAdapter;
     private final RedisTemplate<String, Object> redisTemplate;
     private final CookieUtils cookieUtils;
+    private final CartService cartService;
+    private final RecentViewService recentViewService;
+    private final RecentViewOwnerResolver recentViewOwnerResolver;
 
     /**
      * Auth 서버에서 발급받은 JWT 토큰을 기반으로 Shop 서버에 유저 정보를 요청 한 뒤, UsernamePasswordAuthenticationToken을 만들어
@@ -106,6 +112,7 @@ public class CustomAuthenticationManager implements AuthenticationManager {
 
         servletResponse.addCookie(authCookie);
         servletResponse.addCookie(cartCookie);
+        moveIntoMemberRecentView(loginRequestDto.getLoginId(), servletRequest, servletResponse);
 
         List<SimpleGrantedAuthority> authorities = getAuthorities(memberResponseDto);
         log.info("authorities={}", authorities);
@@ -129,7 +136,7 @@ public class CustomAuthenticationManager implements AuthenticationManager {
     /**
      * 로그인 전 사용자가 cart에 담은 상품을 회원의 cart에 추가하기 위한 기능입니다. 설계 흐름 상 이 클래스에서 cartNo cookie의 value가 회원을
      * 식별할 수 있는 값으로 update 되지 않는다면, 장바구니 화면으로 이동 시 회원의 장바구니 목록을 볼 수 없어 임시적으로 인증 flow에서 작동하도록 합니다. 추
-     * 후 인증/인가와 관계 없이 migration 예정 입니다.
+     * 후 인증/인가와 관계 없이 migration 예정 입니다. 합치기는 하나의 script로 원자적으로 수행되며, 합쳐진 비회원 장바구니는 삭제됩니다.
      *
      * @param loginId        회원의 loginId
      * @param servletRequest HttpServletRequest
@@ -137,18 +144,29 @@ public class CustomAuthenticationManager implements AuthenticationManager {
     private void moveIntoMemberCart(String loginId, HttpServletRequest servletRequest) {
         String cartNo = cookieUtils.getValueFromCookie(servletRequest.getCookies(), "CART_NO");
         if (Objects.nonNull(cartNo) && !cartNo.equals(loginId)) {
-            Map<Object, Object> cart = redisTemplate.opsForHash().entries(cartNo);
-            Map<Object, Object> login = redisTemplate.opsForHash().entries(loginId);
-
-            cart.keySet().forEach(key -> {
-                int currentQuantity = Integer.parseInt(cart.get(key).toString());
-                login.put(
-                        key,
-                        (Integer.parseInt(login.getOrDefault(key, 0).toString()) + currentQuantity)
-                );
-            });
-
-            redisTemplate.opsForHash().putAll(loginId, login);
+            cartService.merge(cartNo, loginId, CartService.MEMBER_CART_TTL);
+        }
+    }
+
+    /**
+     * 로그인 전 사용자가 본 상품을 회원의 최근 본 상품에 합치고 비회원 식별 쿠키를 삭제합니다.
+     *
+     * @param loginId         회원의 loginId
+     * @param servletRequest  HttpServletRequest
+     * @param servletResponse HttpServletResponse
+     */
+    private void moveIntoMemberRecentView(
+            String loginId,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse
+    ) {
+        String guestNo = cookieUtils.getValueFromCookie(
+                servletRequest.getCookies(),
+                RecentViewOwnerResolver.GUEST_COOKIE
+        );
+        if (Objects.nonNull(guestNo)) {
+            recentViewService.merge(RecentViewOwner.guest(guestNo), RecentViewOwner.member(loginId));
+            servletResponse.addCookie(recentViewOwnerResolver.expireGuestCookie());
         }
     }
 
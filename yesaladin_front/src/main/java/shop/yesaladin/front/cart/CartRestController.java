@@ -2,20 +2,20 @@ package shop.yesaladin.front.cart;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import shop.yesaladin.common.dto.ResponseDto;
 import shop.yesaladin.front.cart.dto.AddToCartDto;
+import shop.yesaladin.front.cart.service.inter.CartService;
 import shop.yesaladin.front.common.utils.CookieUtils;
 
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 /**
  * 장바구니 추가, 삭제, 수량 변경 관련 페이지를 위한 Controller 입니다.
@@ -30,7 +30,7 @@ import java.util.concurrent.TimeUnit;
 @RequestMapping("/cart")
 public class CartRestController {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final CartService cartService;
     private final CookieUtils cookieUtils;
 
     /**
@@ -106,37 +106,20 @@ public class CartRestController {
         }
 
         // CART_NO 쿠키의 값을 Redis의 key로 사용함.
-        // 만약, 이미 카트에 입력하려는 값이 존재한다면 '+'하여 저장
-        // 없는 상품이라면 그대로 저장
-        log.info("cookie's name = {}", cookie.getName());
-        log.info("cookie's value = {}", cookie.getValue());
-        Object preQuantity = redisTemplate.opsForHash().get(cookie.getValue(), cartDto.getId());
-
-        // 이전에 저장되어 있던 상품
-        log.info("preQuantity = {}", preQuantity);
-        if (Objects.nonNull(preQuantity) && Integer.parseInt(preQuantity.toString()) == 1
-                && (cartDto.getIsEbook() || cartDto.getIsSubscriptionAvailable())) {
+        // 비회원이라면 만료 3일, 회원이라면 만료 30일
+        Duration ttl = cartTtl(member);
+        if (cartDto.getIsEbook() || cartDto.getIsSubscriptionAvailable()) {
             // 구독상품, Ebook이고 이전에 담았던 상품인 경우
-            return ResponseDto.<String>builder()
-                    .success(false)
-                    .status(HttpStatus.BAD_REQUEST)
-                    .data("E-book 또는 구독상품은 1개만 담을 수 있습니다.")
-                    .build();
-        }
-
-        // 이전 수량과 합산
-        int quantity = cartDto.getQuantity();
-        if (Boolean.TRUE.equals(Objects.nonNull(preQuantity) && !cartDto.getIsEbook()) && Boolean.TRUE.equals(!cartDto.getIsSubscriptionAvailable())) {
-            quantity += Integer.parseInt(preQuantity.toString());
-        }
-        redisTemplate.opsForHash().put(cookie.getValue(), cartDto.getId(), quantity);
-
-        if (Objects.isNull(member)) {
-            // 비회원이라면 만료 3일
-            redisTemplate.expire(cookie.getValue(), 3, TimeUnit.DAYS);
+            if (!cartService.addOnce(cookie.getValue(), cartDto.getId(), cartDto.getQuantity(), ttl)) {
+                return ResponseDto.<String>builder()
+                        .success(false)
+                        .status(HttpStatus.BAD_REQUEST)
+                        .data("E-book 또는 구독상품은 1개만 담을 수 있습니다.")
+                        .build();
+            }
         } else {
-            // 회원이라면 만료 30일
-            redisTemplate.expire(cookie.getValue(), 30, TimeUnit.DAYS);
+            // 이전 수량과 합산
+            cartService.increment(cookie.getValue(), cartDto.getId(), cartDto.getQuantity(), ttl);
         }
 
         return ResponseDto.<String>builder()
@@ -152,6 +135,7 @@ public class CartRestController {
      *
      * @param productId 장바구니에서 삭제할 상품의 Id
      * @param cookie    Redis의 key값을 가진 CART_NO 쿠키
+     * @param member    회원이라면 YA_AUT 쿠키가 존재, 장바구니 만료 시간 갱신을 위한 쿠키
      * @author 이수정
      * @since 1.0
      */
@@ -159,13 +143,12 @@ public class CartRestController {
     @ResponseBody
     public void deleteInCart(
             @PathVariable String productId,
-            @CookieValue(value = "CART_NO") Cookie cookie
+            @CookieValue(value = "CART_NO") Cookie cookie,
+            @CookieValue(value = "YA_AUT", required = false) Cookie member
     ) {
         log.info("productId = {}", productId);
 
-        String key = cookie.getValue();
-
-        redisTemplate.opsForHash().delete(key, productId);
+        cartService.remove(cookie.getValue(), productId, cartTtl(member));
     }
 
     /**
@@ -174,6 +157,7 @@ public class CartRestController {
      * @param productId 장바구니에서 개수를 변경할 상품의 Id
      * @param quantity  장바구니 상품의 개수
      * @param cookie    Redis의 key값을 가진 CART_NO 쿠키
+     * @param member    회원이라면 YA_AUT 쿠키가 존재, 장바구니 만료 시간 갱신을 위한 쿠키
      * @author 이수정
      * @since 1.0
      */
@@ -182,13 +166,21 @@ public class CartRestController {
     public void modifyQuantity(
             @PathVariable String productId,
             @RequestBody Map<String, String> quantity,
-            @CookieValue(value = "CART_NO") Cookie cookie
+            @CookieValue(value = "CART_NO") Cookie cookie,
+            @CookieValue(value = "YA_AUT", required = false) Cookie member
     ) {
         log.info("productId = {}", productId);
         log.info("quantity = {}", quantity);
 
-        String key = cookie.getValue();
+        cartService.setQuantity(
+                cookie.getValue(),
+                productId,
+                Integer.parseInt(quantity.get("quantity")),
+                cartTtl(member)
+        );
+    }
 
-        redisTemplate.opsForHash().put(key, productId, quantity.get("quantity"));
+    private Duration cartTtl(Cookie member) {
+        return Objects.isNull(member) ? CartService.GUEST_CART_TTL : CartService.MEMBER_CART_TTL;
     }
 }
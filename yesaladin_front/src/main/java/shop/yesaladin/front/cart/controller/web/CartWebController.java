@@ -3,7 +3,6 @@ package shop.yesaladin.front.cart.controller.web;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -20,6 +19,7 @@ import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 import shop.yesaladin.common.dto.ResponseDto;
 import shop.yesaladin.front.cart.dto.ViewCartDto;
+import shop.yesaladin.front.cart.service.inter.CartService;
 import shop.yesaladin.front.common.utils.CookieUtils;
 import shop.yesaladin.front.config.GatewayConfig;
 
@@ -44,7 +44,7 @@ import java.util.Objects;
 @RequestMapping("/cart")
 public class CartWebController {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final CartService cartService;
     private final RestTemplate restTemplate;
     private final GatewayConfig gatewayConfig;
     private final CookieUtils cookieUtils;
@@ -83,15 +83,14 @@ public class CartWebController {
             }
 
             // 장바구니에 담은 데이터를 Map으로 받아옴
-            Map<Object, Object> cart = redisTemplate.opsForHash().entries(cookie.getValue());
+            Map<String, Integer> cart = cartService.getCart(
+                    cookie.getValue(),
+                    Objects.isNull(member) ? CartService.GUEST_CART_TTL : CartService.MEMBER_CART_TTL
+            );
             log.info("cart = {}", cart);
 
             MultiValueMap<String, String> multiValueMap = new LinkedMultiValueMap<>();
-            cart.keySet().forEach(key -> {
-                log.info("key = {}", key.toString());
-                log.info("value = {}", cart.get(key).toString());
-                multiValueMap.add(key.toString(), cart.get(key).toString());
-            });
+            cart.forEach((key, value) -> multiValueMap.add(key, value.toString()));
 
             // 받아온 Map을 바탕으로 상품 개별 정보를 받아옴
             HttpHeaders headers = new HttpHeaders();
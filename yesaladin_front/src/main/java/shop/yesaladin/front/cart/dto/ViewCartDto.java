@@ -1,6 +1,8 @@
 package shop.yesaladin.front.cart.dto;
 
+import java.util.Map;
 import lombok.*;
+import shop.yesaladin.front.product.dto.ThumbnailVariant;
 
 /**
  * 장바구니에 담은 상품에 대한 정보를 담은 Dto 입니다.
@@ -20,6 +22,7 @@ public class ViewCartDto {
     private String isbn;
 
     private String thumbnailFileUrl;
+    private Map<String, String> thumbnailVariantUrls;
     private String title;
 
     private long actualPrice;
@@ -36,4 +39,8 @@ public class ViewCartDto {
 
     private Boolean isEbook;
     private Boolean isSubscribeProduct;
+
+    public String getSmallThumbnailUrl() {
+        return ThumbnailVariant.SMALL.resolve(thumbnailVariantUrls, thumbnailFileUrl);
+    }
 }
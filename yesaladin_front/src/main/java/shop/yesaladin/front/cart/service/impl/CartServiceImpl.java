@@ -0,0 +1,164 @@
+package shop.yesaladin.front.cart.service.impl;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+import shop.yesaladin.front.cart.service.inter.CartService;
+
+/**
+ * Redis Hash에 장바구니를 저장하는 CartService 구현체 입니다.
+ * <p>
+ * 변경 연산은 Lua script로 수행되어 동시에 같은 장바구니를 변경해도 갱신이 유실되지 않습니다. script 인자는 문자열 그대로 전달하며,
+ * 저장된 수량은 기존 RedisTemplate의 hash value serializer로 읽을 수 있는 숫자 문자열 입니다.
+ * <p>
+ * 1개만 담을 수 있는 상품의 id는 장바구니 번호에 {@value #ONCE_SUFFIX} 를 붙인 key의 set에 함께 저장되며, 장바구니와 같은 만료 시간을
+ * 갖습니다. 수량 변경과 장바구니 합치기는 이 set에 속한 상품의 수량을 1로 제한합니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Service
+public class CartServiceImpl implements CartService {
+
+    private static final String ONCE_SUFFIX = ":once";
+
+    private static final RedisScript<Long> ADD_ONCE = script("add-once");
+    private static final RedisScript<Long> INCREMENT = script("increment");
+    private static final RedisScript<Long> SET_QUANTITY = script("set-quantity");
+    private static final RedisScript<Long> REMOVE = script("remove");
+    private static final RedisScript<Long> MERGE = script("merge");
+
+    private static final RedisSerializer<String> ARGS_SERIALIZER = new StringRedisSerializer();
+    private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Integer> getCart(String cartNo, Duration ttl) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForHash().entries(cartNo);
+                operations.expire(cartNo, ttl);
+                operations.expire(onceKey(cartNo), ttl);
+                return null;
+            }
+        });
+
+        @SuppressWarnings("unchecked")
+        Map<Object, Object> entries = (Map<Object, Object>) results.get(0);
+        if (Objects.isNull(entries) || entries.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Integer> cart = new LinkedHashMap<>();
+        entries.forEach((key, value) -> cart.put(
+                key.toString(),
+                Integer.parseInt(value.toString())
+        ));
+        return cart;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addOnce(String cartNo, String productId, int quantity, Duration ttl) {
+        return execute(ADD_ONCE, keys(cartNo), productId, String.valueOf(quantity), seconds(ttl))
+                >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int increment(String cartNo, String productId, int delta, Duration ttl) {
+        return Math.toIntExact(execute(
+                INCREMENT,
+                keys(cartNo),
+                productId,
+                String.valueOf(delta),
+                seconds(ttl)
+        ));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setQuantity(String cartNo, String productId, int quantity, Duration ttl) {
+        execute(SET_QUANTITY, keys(cartNo), productId, String.valueOf(quantity), seconds(ttl));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(String cartNo, String productId, Duration ttl) {
+        execute(REMOVE, keys(cartNo), productId, seconds(ttl));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int merge(String guestCartNo, String memberCartNo, Duration ttl) {
+        return Math.toIntExact(execute(
+                MERGE,
+                List.of(guestCartNo, memberCartNo, onceKey(guestCartNo), onceKey(memberCartNo)),
+                seconds(ttl)
+        ));
+    }
+
+    private long execute(RedisScript<Long> script, List<String> keys, String... args) {
+        Long result = redisTemplate.execute(
+                script,
+                ARGS_SERIALIZER,
+                RESULT_SERIALIZER,
+                keys,
+                (Object[]) args
+        );
+        return Objects.requireNonNull(result);
+    }
+
+    private static List<String> keys(String cartNo) {
+        return List.of(cartNo, onceKey(cartNo));
+    }
+
+    private static String onceKey(String cartNo) {
+        return cartNo + ONCE_SUFFIX;
+    }
+
+    private static String seconds(Duration ttl) {
+        return String.valueOf(ttl.getSeconds());
+    }
+
+    private static RedisScript<Long> script(String name) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(
+                "scripts/cart/" + name + ".lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -0,0 +1,92 @@
+package shop.yesaladin.front.cart.service.inter;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 장바구니를 조회하고 변경하기 위한 service 입니다.
+ * <p>
+ * 모든 변경은 만료 시간 갱신을 포함하여 원자적으로 수행됩니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+public interface CartService {
+
+    Duration GUEST_CART_TTL = Duration.ofDays(3);
+    Duration MEMBER_CART_TTL = Duration.ofDays(30);
+
+    /**
+     * 장바구니에 담긴 상품의 id와 수량을 조회하고 장바구니의 만료 시간을 갱신합니다.
+     *
+     * @param cartNo 장바구니 번호 입니다.
+     * @param ttl    갱신할 만료 시간 입니다.
+     * @return 상품 id와 수량
+     * @author 송학현
+     * @since 1.0
+     */
+    Map<String, Integer> getCart(String cartNo, Duration ttl);
+
+    /**
+     * 1개만 담을 수 있는 상품(E-book, 구독상품)을 장바구니에 추가합니다. 이렇게 담긴 상품의 수량은 이후 변경하거나 장바구니를 합쳐도 1을
+     * 넘지 않습니다.
+     *
+     * @param cartNo    장바구니 번호 입니다.
+     * @param productId 추가할 상품의 id 입니다.
+     * @param quantity  추가할 수량 입니다.
+     * @param ttl       갱신할 만료 시간 입니다.
+     * @return 이미 담겨 있는 상품이면 false
+     * @author 송학현
+     * @since 1.0
+     */
+    boolean addOnce(String cartNo, String productId, int quantity, Duration ttl);
+
+    /**
+     * 장바구니 상품의 수량을 증감합니다. 수량이 0 이하가 되면 상품을 삭제합니다.
+     *
+     * @param cartNo    장바구니 번호 입니다.
+     * @param productId 수량을 증감할 상품의 id 입니다.
+     * @param delta     증감할 수량 입니다.
+     * @param ttl       갱신할 만료 시간 입니다.
+     * @return 변경된 수량
+     * @author 송학현
+     * @since 1.0
+     */
+    int increment(String cartNo, String productId, int delta, Duration ttl);
+
+    /**
+     * 장바구니 상품의 수량을 변경합니다. 수량이 0 이하이면 상품을 삭제합니다.
+     *
+     * @param cartNo    장바구니 번호 입니다.
+     * @param productId 수량을 변경할 상품의 id 입니다.
+     * @param quantity  변경할 수량 입니다.
+     * @param ttl       갱신할 만료 시간 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    void setQuantity(String cartNo, String productId, int quantity, Duration ttl);
+
+    /**
+     * 장바구니에서 상품을 삭제합니다.
+     *
+     * @param cartNo    장바구니 번호 입니다.
+     * @param productId 삭제할 상품의 id 입니다.
+     * @param ttl       갱신할 만료 시간 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    void remove(String cartNo, String productId, Duration ttl);
+
+    /**
+     * 비회원 장바구니를 회원 장바구니에 합치고 비회원 장바구니를 삭제합니다. 같은 상품은 수량을 합산하되, 어느 한 쪽에서라도 1개만 담을 수
+     * 있는 상품으로 담긴 상품의 수량은 1로 둡니다.
+     *
+     * @param guestCartNo  비회원 장바구니 번호 입니다.
+     * @param memberCartNo 회원 장바구니 번호 입니다.
+     * @param ttl          회원 장바구니의 만료 시간 입니다.
+     * @return 합쳐진 상품 수
+     * @author 송학현
+     * @since 1.0
+     */
+    int merge(String guestCartNo, String memberCartNo, Duration ttl);
+}
@@ -0,0 +1,45 @@
+package shop.yesaladin.front.common.composition;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.ui.Model;
+import shop.yesaladin.front.config.PageCompositionProperties;
+import shop.yesaladin.front.member.jwt.RequestAuthenticationResolver;
+
+/**
+ * 서로 독립적인 backend 호출로 구성되는 페이지를 병렬로 구성하기 위한 클래스 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class PageComposer {
+
+    private final ThreadPoolTaskExecutor pageCompositionExecutor;
+    private final PageCompositionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final RequestAuthenticationResolver requestAuthenticationResolver;
+
+    /**
+     * 페이지 구성을 시작합니다. 로그인 사용자의 인증 정보는 요청 thread에서 미리 조회하여 section에 전달합니다.
+     *
+     * @param page  section 소요 시간 기록에 사용할 페이지 이름 입니다.
+     * @param model section 결과를 담을 Model 입니다.
+     * @return section을 등록하고 결과를 Model에 담기 위한 PageComposition
+     * @author 송학현
+     * @since 1.0
+     */
+    public PageComposition compose(String page, Model model) {
+        return new PageComposition(
+                page,
+                model,
+                pageCompositionExecutor,
+                properties.getSectionTimeoutMs(),
+                meterRegistry,
+                requestAuthenticationResolver.resolve()
+        );
+    }
+}
@@ -0,0 +1,245 @@
+package shop.yesaladin.front.common.composition;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ui.Model;
+import shop.yesaladin.front.common.exception.CustomServerException;
+import shop.yesaladin.front.member.jwt.RequestAuthentication;
+import shop.yesaladin.front.member.jwt.RequestAuthenticationResolver;
+
+/**
+ * 하나의 페이지를 구성하는 section들의 backend 호출을 병렬로 수행하고 결과를 Model에 담는 클래스 입니다.
+ * <p>
+ * section은 등록되는 즉시 executor에서 실행되며, {@link #render()} 호출 시 각 section의 결과를 기다립니다. 선택 section은 실패하거나
+ * 제한 시간을 넘기면 대체 값으로 표시되고, 필수 section의 실패는 그대로 전파됩니다. executor가 가득 차서 거부된 section도 실패로
+ * 처리됩니다. 각 section의 소요 시간은 yesaladin.front.page.section 지표로 기록됩니다.
+ * <p>
+ * 제한 시간을 넘긴 section의 작업은 중단되지 않고 backend 호출의 제한 시간까지 계속될 수 있습니다. 따라서 작업 thread에는 요청이나
+ * SecurityContext를 전달하지 않으며, section에 필요한 값은 요청 thread에서 미리 꺼내 supplier에 넘겨야 합니다. 인증 정보도 요청
+ * thread에서 조회한 값을 사용합니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Slf4j
+public class PageComposition {
+
+    private static final String SECTION_METRIC = "yesaladin.front.page.section";
+    private static final ThreadLocal<Boolean> IN_SECTION = new ThreadLocal<>();
+
+    private final String page;
+    private final Model model;
+    private final Executor executor;
+    private final long timeoutMs;
+    private final MeterRegistry meterRegistry;
+    private final RequestAuthentication authentication;
+    private final List<Section<?>> sections = new ArrayList<>();
+
+    PageComposition(
+            String page,
+            Model model,
+            Executor executor,
+            long timeoutMs,
+            MeterRegistry meterRegistry,
+            RequestAuthentication authentication
+    ) {
+        this.page = page;
+        this.model = model;
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+        this.meterRegistry = meterRegistry;
+        this.authentication = authentication;
+    }
+
+    /**
+     * 실패하거나 제한 시간을 넘기면 대체 값으로 표시되는 section을 등록합니다.
+     *
+     * @param name     Model attribute 이름 입니다.
+     * @param supplier section 데이터를 조회하는 backend 호출 입니다.
+     * @param fallback 실패 시 사용할 대체 값 입니다.
+     * @param <T>      section 데이터 타입
+     * @return 현재 PageComposition
+     * @author 송학현
+     * @since 1.0
+     */
+    public <T> PageComposition section(String name, Supplier<T> supplier, T fallback) {
+        sections.add(new Section<>(
+                name,
+                submit(name, supplier),
+                fallback,
+                false,
+                (target, value) -> target.addAttribute(name, value)
+        ));
+        return this;
+    }
+
+    /**
+     * 실패 시 페이지 전체가 실패하는 필수 section을 등록합니다.
+     *
+     * @param name     Model attribute 이름 입니다.
+     * @param supplier section 데이터를 조회하는 backend 호출 입니다.
+     * @param <T>      section 데이터 타입
+     * @return 현재 PageComposition
+     * @author 송학현
+     * @since 1.0
+     */
+    public <T> PageComposition required(String name, Supplier<T> supplier) {
+        sections.add(new Section<>(
+                name,
+                submit(name, supplier),
+                null,
+                true,
+                (target, value) -> target.addAttribute(name, value)
+        ));
+        return this;
+    }
+
+    /**
+     * 실패 시 페이지 전체가 실패하고, 결과 Map의 모든 항목을 각각 Model attribute로 담는 필수 section을 등록합니다.
+     *
+     * @param name     section 소요 시간 기록에 사용할 이름 입니다.
+     * @param supplier Model attribute 이름을 key로 하는 section 데이터를 조회하는 backend 호출 입니다.
+     * @param <T>      section 데이터 타입
+     * @return 현재 PageComposition
+     * @author 송학현
+     * @since 1.0
+     */
+    public <T extends Map<String, ?>> PageComposition requiredAttributes(
+            String name,
+            Supplier<T> supplier
+    ) {
+        sections.add(new Section<>(
+                name,
+                submit(name, supplier),
+                null,
+                true,
+                Model::addAllAttributes
+        ));
+        return this;
+    }
+
+    /**
+     * 현재 thread가 section의 backend 호출을 수행 중인지 확인합니다. backend 호출의 제한 시간을 section 제한 시간에 맞추는 데
+     * 사용합니다.
+     *
+     * @return section 수행 중 여부
+     * @author 송학현
+     * @since 1.0
+     */
+    public static boolean inSection() {
+        return Boolean.TRUE.equals(IN_SECTION.get());
+    }
+
+    private <T> CompletableFuture<T> submit(String name, Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                String outcome = "success";
+                IN_SECTION.set(Boolean.TRUE);
+                try {
+                    return RequestAuthenticationResolver.callWith(authentication, supplier);
+                } catch (RuntimeException e) {
+                    outcome = "error";
+                    throw e;
+                } finally {
+                    IN_SECTION.remove();
+                    sample.stop(meterRegistry.timer(SECTION_METRIC, "page", page, "section", name, "outcome", outcome));
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter(SECTION_METRIC + ".rejected", "page", page, "section", name)
+                    .increment();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 등록된 모든 section의 결과를 기다려 Model에 담습니다. 제한 시간은 section 등록 시점부터가 아니라 render 호출 시점부터 계산됩니다.
+     *
+     * @author 송학현
+     * @since 1.0
+     */
+    public void render() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        for (Section<?> section : sections) {
+            bind(section, deadline);
+        }
+    }
+
+    private <T> void bind(Section<T> section, long deadline) {
+        section.binder.accept(model, await(section, deadline));
+    }
+
+    private <T> T await(Section<T> section, long deadline) {
+        try {
+            long remaining = Math.max(0L, deadline - System.nanoTime());
+            return section.future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 작업 thread는 interrupt 되지 않으므로 결과만 버리고 backend 호출은 자체 제한 시간에 끝나도록 둡니다.
+            section.future.cancel(false);
+            meterRegistry.counter(SECTION_METRIC + ".timeout", "page", page, "section", section.name)
+                    .increment();
+            return degrade(section, new CustomServerException(section.name + " section timed out"));
+        } catch (ExecutionException | CancellationException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            return degrade(section, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return degrade(section, e);
+        }
+    }
+
+    private <T> T degrade(Section<T> section, Throwable cause) {
+        if (section.required) {
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new CustomServerException(cause.getMessage());
+        }
+        log.warn("Page section degraded: page -> {}, section -> {}", page, section.name, cause);
+        return section.fallback;
+    }
+
+    /**
+     * 페이지를 구성하는 하나의 section 입니다.
+     *
+     * @param <T> section 데이터 타입
+     * @author 송학현
+     * @since 1.0
+     */
+    private static class Section<T> {
+
+        private final String name;
+        private final CompletableFuture<T> future;
+        private final T fallback;
+        private final boolean required;
+        private final BiConsumer<Model, T> binder;
+
+        Section(
+                String name,
+                CompletableFuture<T> future,
+                T fallback,
+                boolean required,
+                BiConsumer<Model, T> binder
+        ) {
+            this.name = name;
+            this.future = future;
+            this.fallback = fallback;
+            this.required = required;
+            this.binder = binder;
+        }
+    }
+}
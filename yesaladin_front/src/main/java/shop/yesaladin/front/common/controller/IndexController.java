@@ -1,35 +1,34 @@
 package shop.yesaladin.front.common.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
-import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.GetMapping;
-import shop.yesaladin.front.common.dto.PaginatedResponseDto;
-import shop.yesaladin.front.common.utils.CookieUtils;
-import shop.yesaladin.front.coupon.dto.MemberCouponSummaryDto;
+import shop.yesaladin.front.common.composition.PageComposer;
+import shop.yesaladin.front.common.fragment.FragmentCache;
+import shop.yesaladin.front.common.fragment.PageFragments;
+import shop.yesaladin.front.common.utils.RecentViewOwnerResolver;
+import shop.yesaladin.front.config.FragmentCacheProperties;
 import shop.yesaladin.front.coupon.service.inter.QueryCouponService;
 import shop.yesaladin.front.member.dto.MemberGrade;
 import shop.yesaladin.front.member.service.inter.QueryMemberService;
 import shop.yesaladin.front.order.service.inter.QueryOrderService;
 import shop.yesaladin.front.point.service.inter.QueryPointHistoryService;
 import shop.yesaladin.front.product.dto.ProductRecentResponseDto;
-import shop.yesaladin.front.product.dto.RecentViewProductRequestDto;
+import shop.yesaladin.front.product.dto.RecentViewOwner;
 import shop.yesaladin.front.product.service.inter.QueryProductService;
+import shop.yesaladin.front.product.service.inter.RecentViewService;
 import shop.yesaladin.front.wishlist.service.inter.QueryWishlistService;
 
-import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.net.URLDecoder;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.*;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 메인 페이지, 마이 페이지, 관리자 페이지를 리턴하기 위한 Controller 클래스 입니다.
@@ -51,12 +50,15 @@ public class IndexController {
     private final QueryPointHistoryService pointHistoryService;
     private final QueryProductService queryProductService;
     private final QueryWishlistService queryWishlistService;
-    private final CookieUtils cookieUtils;
-    private final ObjectMapper objectMapper;
-    private static final String COOKIE = "recent";
+    private final RecentViewService recentViewService;
+    private final RecentViewOwnerResolver recentViewOwnerResolver;
+    private final PageComposer pageComposer;
+    private final FragmentCache fragmentCache;
+    private final FragmentCacheProperties fragmentCacheProperties;
 
     /**
-     * 메인페이지를 반환시켜줍니다. 베스트셀러 및 신간 상품과 최근 본 상품 리스트를 가져옵니다.
+     * 메인페이지를 반환시켜줍니다. 베스트셀러 및 신간 상품과 최근 본 상품 리스트를 병렬로 가져오며, 실패한 영역은 빈 목록으로 표시됩니다.
+     * 베스트셀러와 신간 상품은 모든 사용자에게 같으므로 렌더링 결과를 캐시합니다.
      *
      * @return 메인페이지
      * @author 송학현
@@ -67,38 +69,45 @@ public class IndexController {
     @GetMapping
     public String main(
             Model model,
-            @CookieValue(required = false, name = COOKIE) Cookie cookie,
+            HttpServletRequest request,
             HttpServletResponse response
-    ) throws JsonProcessingException {
-        model.addAttribute(
-                "bestseller",
-                queryOrderService.getBestSeller()
-        );
-
-        model.addAttribute(
-                "recentProductList",
-                queryProductService.findRecentProduct(PageRequest.of(0, 12))
-        );
+    ) {
+        RecentViewOwner owner = recentViewOwnerResolver.resolve(request, response);
+        Duration ttl = Duration.ofSeconds(fragmentCacheProperties.getMainTtlSeconds());
 
-        List<Long> recentViewList = new ArrayList<>(getPageRecentViewProductList(cookie, response));
-        model.addAttribute(
-                "recentViewProductList",
-                sort(
-                        recentViewList,
-                        queryProductService.findRecentViewProduct(
-                                new RecentViewProductRequestDto(
-                                        new ArrayList<>(getTotalRecentViewProductList(cookie, response)),
-                                        recentViewList
-                                ),
-                                PageRequest.of(0, 10)
-                        ).getDataList()
+        pageComposer.compose("main", model)
+                .section(
+                        "bestsellerFragment",
+                        () -> fragmentCache.render(
+                                PageFragments.BESTSELLER,
+                                ttl,
+                                () -> Map.of("bestseller", queryOrderService.getBestSeller())
+                        ),
+                        ""
+                )
+                .section(
+                        "newProductsFragment",
+                        () -> fragmentCache.render(
+                                PageFragments.NEW_PRODUCTS,
+                                ttl,
+                                () -> Map.of(
+                                        "recentProductList",
+                                        queryProductService.findRecentProduct(PageRequest.of(0, 12))
+                                )
+                        ),
+                        ""
                 )
-        );
+                .section(
+                        "recentViewProductList",
+                        () -> findRecentViewProducts(owner, 10),
+                        Collections.emptyList()
+                )
+                .render();
         return "main/index";
     }
 
     /**
-     * 마이페이지를 반환시켜줍니다.
+     * 마이페이지를 반환시켜줍니다. 회원 정보는 병렬로 가져오며, 위시리스트와 최근 본 상품은 실패 시 빈 목록으로 표시됩니다.
      *
      * @return 마이페이지
      * @author 최예린
@@ -108,93 +117,46 @@ public class IndexController {
     public String mypage(
             Model model,
             Authentication authentication,
-            @CookieValue(name = "recent", required = false) Cookie cookie,
+            HttpServletRequest request,
             HttpServletResponse response
-    ) throws JsonProcessingException {
-        long point = pointHistoryService.getMemberPoint();
-        MemberGrade grade = MemberGrade.valueOf(queryMemberService.getMemberGrade());
-        PaginatedResponseDto<MemberCouponSummaryDto> memberCouponList = queryCouponService.getMemberCouponList(
-                authentication.getName(),
-                true,
-                PageRequest.of(0, 1)
-        );
+    ) {
+        RecentViewOwner owner = recentViewOwnerResolver.resolve(request, response);
+        String loginId = authentication.getName();
 
-        List<Long> recentViewList = new ArrayList<>(getPageRecentViewProductList(cookie, response));
-        model.addAttribute("recentViewList", sort(
-                recentViewList,
-                queryProductService.findRecentViewProduct(
-                                new RecentViewProductRequestDto(
-                                        new ArrayList<>(getTotalRecentViewProductList(cookie, response)),
-                                        recentViewList
-                                ),
-                                PageRequest.of(0, 12)
-                        )
-                        .getDataList()
-        ));
-        model.addAttribute(
-                "wishlist",
-                queryWishlistService.getWishlist(PageRequest.of(0, 12)).getDataList()
-        );
-        model.addAttribute("point", point);
-        model.addAttribute("grade", grade);
-        model.addAttribute("coupon", memberCouponList.getTotalDataCount());
+        pageComposer.compose("mypage", model)
+                .required("point", pointHistoryService::getMemberPoint)
+                .required("grade", () -> MemberGrade.valueOf(queryMemberService.getMemberGrade()))
+                .required("coupon", () -> queryCouponService.getMemberCouponList(
+                        loginId,
+                        true,
+                        PageRequest.of(0, 1)
+                ).getTotalDataCount())
+                .section(
+                        "wishlist",
+                        () -> queryWishlistService.getWishlist(PageRequest.of(0, 12)).getDataList(),
+                        Collections.emptyList()
+                )
+                .section(
+                        "recentViewList",
+                        () -> findRecentViewProducts(owner, 12),
+                        Collections.emptyList()
+                )
+                .render();
 
         return "mypage/index";
     }
 
-    private Set<Long> getTotalRecentViewProductList(Cookie cookie, HttpServletResponse response)
-            throws JsonProcessingException {
-        if (Objects.nonNull(cookie)) {
-            return objectMapper.readValue(
-                    URLDecoder.decode(cookie.getValue(), StandardCharsets.UTF_8),
-                    new TypeReference<LinkedHashSet<Long>>() {
-                    }
-            );
-        }
-        Set<Long> recentViewList = new LinkedHashSet<>();
-        response.addCookie(createCookie(recentViewList));
-        return recentViewList;
-    }
-
-    private Set<Long> getPageRecentViewProductList(Cookie cookie, HttpServletResponse response)
-            throws JsonProcessingException {
-        if (Objects.nonNull(cookie)) {
-            Set<Long> set = objectMapper.readValue(
-                    URLDecoder.decode(cookie.getValue(), StandardCharsets.UTF_8),
-                    new TypeReference<LinkedHashSet<Long>>() {
-                    }
-            );
-            List<Long> list = new ArrayList<>(set);
-            Collections.reverse(list);
-            int size = Math.min(list.size(), 10);
-            return new LinkedHashSet<>(list.subList(0, size));
-        }
-        Set<Long> recentViewList = new LinkedHashSet<>();
-        response.addCookie(createCookie(recentViewList));
-        return recentViewList;
-    }
-
-    private List<ProductRecentResponseDto> sort(
-            List<Long> pageIds,
-            List<ProductRecentResponseDto> recentViewlist
-    ) {
-        List<ProductRecentResponseDto> list = new ArrayList<>();
-        for (Long id : pageIds) {
-            for (ProductRecentResponseDto productRecentResponseDto : recentViewlist) {
-                if (productRecentResponseDto.getId().equals(id)) {
-                    list.add(productRecentResponseDto);
-                    break;
-                }
-            }
-        }
-        return list;
-    }
-
-    private Cookie createCookie(Set<Long> value) throws JsonProcessingException {
-        return cookieUtils.createCookie(
-                COOKIE,
-                URLEncoder.encode(objectMapper.writeValueAsString(value), StandardCharsets.UTF_8),
-                259200
-        );
+    /**
+     * 최근 본 상품을 최근 순으로 최대 size개 조회합니다. 상품 요약 정보는 한 번의 요청으로 받아옵니다.
+     *
+     * @param owner 최근 본 상품의 소유자
+     * @param size  조회할 상품 수
+     * @return 최근 본 상품 요약 리스트
+     * @author 김선홍
+     * @since 1.0
+     */
+    private List<ProductRecentResponseDto> findRecentViewProducts(RecentViewOwner owner, int size) {
+        List<Long> ids = recentViewService.getPage(owner, PageRequest.of(0, size)).getDataList();
+        return queryProductService.findProductSummaries(ids);
     }
 }
@@ -0,0 +1,176 @@
+package shop.yesaladin.front.common.fragment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+import shop.yesaladin.front.config.FragmentCacheProperties;
+
+/**
+ * 모든 사용자에게 같은 fragment의 렌더링 결과를 Redis에 캐시하는 클래스 입니다.
+ * <p>
+ * 캐시에 있으면 backend 호출과 렌더링 없이 저장된 HTML을 반환합니다. 없으면 fragment에 필요한 데이터를 조회하여 렌더링한 뒤 저장합니다.
+ * 데이터 조회에 실패하면 저장하지 않으므로 대체 값이 캐시되지 않습니다. 로그인 상태나 장바구니처럼 사용자마다 다른 영역에는 사용하지 않습니다.
+ * <p>
+ * 조회 결과는 yesaladin.front.fragment.cache, 렌더링 소요 시간은 yesaladin.front.fragment.render 지표로 기록됩니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FragmentCache {
+
+    private static final String KEY_PREFIX = "FRAGMENT:";
+    private static final String INDEX_PREFIX = "FRAGMENT_INDEX:";
+    private static final String CACHE_METRIC = "yesaladin.front.fragment.cache";
+    private static final String RENDER_METRIC = "yesaladin.front.fragment.render";
+
+    private static final RedisScript<Long> PUT = script("put");
+    private static final RedisScript<Long> EVICT = script("evict");
+
+    private static final RedisSerializer<String> STRING_SERIALIZER = new StringRedisSerializer();
+    private static final RedisSerializer<Long> LONG_SERIALIZER = new GenericToStringSerializer<>(
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ITemplateEngine templateEngine;
+    private final FragmentCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * fragment의 렌더링 결과를 반환합니다. 캐시에 없는 경우에만 variables를 호출하여 렌더링하고 ttl 동안 저장합니다.
+     * <p>
+     * 렌더링에 현재 요청을 사용하지 않으므로 페이지 구성 thread에서도 호출할 수 있습니다.
+     *
+     * @param key       캐시할 fragment key
+     * @param ttl       캐시 유지 시간
+     * @param variables fragment 렌더링에 필요한 데이터를 조회하는 backend 호출 입니다.
+     * @return 렌더링된 HTML
+     * @author 송학현
+     * @since 1.0
+     */
+    public String render(FragmentKey key, Duration ttl, Supplier<Map<String, Object>> variables) {
+        if (!properties.isEnabled()) {
+            return process(key, variables.get());
+        }
+
+        String cached = get(key);
+        if (Objects.nonNull(cached)) {
+            meterRegistry.counter(CACHE_METRIC, "fragment", key.getName(), "result", "hit")
+                    .increment();
+            return cached;
+        }
+
+        meterRegistry.counter(CACHE_METRIC, "fragment", key.getName(), "result", "miss")
+                .increment();
+        String html = process(key, variables.get());
+        put(key, html, ttl);
+        return html;
+    }
+
+    /**
+     * 하나의 fragment 캐시를 무효화합니다.
+     *
+     * @param key 무효화할 fragment key
+     * @author 송학현
+     * @since 1.0
+     */
+    public void evict(FragmentKey key) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + key);
+        } catch (DataAccessException e) {
+            log.warn("Fragment cache evict failed: key -> {}", key, e);
+        }
+    }
+
+    /**
+     * 같은 template, fragment 이름을 가진 모든 parameter의 fragment 캐시를 무효화합니다.
+     *
+     * @param template fragment가 정의된 template 이름
+     * @param fragment th:fragment 이름
+     * @author 송학현
+     * @since 1.0
+     */
+    public void evictAll(String template, String fragment) {
+        FragmentKey key = FragmentKey.of(template, fragment);
+        try {
+            redisTemplate.execute(
+                    EVICT,
+                    STRING_SERIALIZER,
+                    LONG_SERIALIZER,
+                    List.of(INDEX_PREFIX + key.getName())
+            );
+        } catch (DataAccessException e) {
+            log.warn("Fragment cache evict failed: fragment -> {}", key.getName(), e);
+        }
+    }
+
+    private String get(FragmentKey key) {
+        try {
+            byte[] value = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands()
+                            .get((KEY_PREFIX + key).getBytes(StandardCharsets.UTF_8)));
+            return Objects.isNull(value) ? null : new String(value, StandardCharsets.UTF_8);
+        } catch (DataAccessException e) {
+            log.warn("Fragment cache read failed: key -> {}", key, e);
+            return null;
+        }
+    }
+
+    private void put(FragmentKey key, String html, Duration ttl) {
+        try {
+            redisTemplate.execute(
+                    PUT,
+                    STRING_SERIALIZER,
+                    LONG_SERIALIZER,
+                    List.of(KEY_PREFIX + key, INDEX_PREFIX + key.getName()),
+                    html,
+                    String.valueOf(ttl.getSeconds())
+            );
+        } catch (DataAccessException e) {
+            log.warn("Fragment cache write failed: key -> {}", key, e);
+        }
+    }
+
+    private String process(FragmentKey key, Map<String, Object> variables) {
+        Context context = new Context(Locale.KOREA, variables);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return templateEngine.process(key.getTemplate(), Set.of(key.getFragment()), context);
+        } finally {
+            sample.stop(meterRegistry.timer(RENDER_METRIC, "fragment", key.getName()));
+        }
+    }
+
+    private static RedisScript<Long> script(String name) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(
+                "scripts/fragment/" + name + ".lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -0,0 +1,73 @@
+package shop.yesaladin.front.common.fragment;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시할 fragment를 식별하는 key 입니다. template, fragment 이름과 렌더링 결과에 영향을 주는 parameter로 구성됩니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class FragmentKey {
+
+    private final String template;
+    private final String fragment;
+    private final SortedMap<String, String> params;
+
+    /**
+     * parameter가 없는 fragment key를 생성합니다.
+     *
+     * @param template fragment가 정의된 template 이름
+     * @param fragment th:fragment 이름
+     * @return fragment key
+     * @author 송학현
+     * @since 1.0
+     */
+    public static FragmentKey of(String template, String fragment) {
+        return new FragmentKey(template, fragment, new TreeMap<>());
+    }
+
+    /**
+     * parameter를 추가한 새 fragment key를 반환합니다. parameter는 이름 순으로 정렬되므로 추가하는 순서와 관계없이 같은 key가 됩니다.
+     *
+     * @param name  parameter 이름
+     * @param value parameter 값
+     * @return parameter가 추가된 fragment key
+     * @author 송학현
+     * @since 1.0
+     */
+    public FragmentKey with(String name, Object value) {
+        SortedMap<String, String> added = new TreeMap<>(params);
+        added.put(name, String.valueOf(value));
+        return new FragmentKey(template, fragment, added);
+    }
+
+    /**
+     * template과 fragment 이름 입니다. 같은 이름의 fragment를 한 번에 무효화하는 단위로 사용합니다.
+     *
+     * @return template::fragment
+     * @author 송학현
+     * @since 1.0
+     */
+    public String getName() {
+        return template + "::" + fragment;
+    }
+
+    @Override
+    public String toString() {
+        return getName() + params.entrySet()
+                .stream()
+                .map(Map.Entry::toString)
+                .collect(Collectors.joining("&", "?", ""));
+    }
+}
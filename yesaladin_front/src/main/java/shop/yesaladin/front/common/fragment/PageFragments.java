@@ -0,0 +1,44 @@
+package shop.yesaladin.front.common.fragment;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * FragmentCache로 캐시하는 페이지 fragment의 key를 모아둔 클래스 입니다.
+ * <p>
+ * 상품이 변경되면 이 key들로 캐시를 무효화합니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+public final class PageFragments {
+
+    public static final String INDEX_PRODUCTS_TEMPLATE = "main/fragments/index-products";
+    public static final String CATEGORY_PRODUCTS_TEMPLATE = "main/product/fragments/category-products";
+    public static final String CATEGORY_PRODUCTS = "category-products";
+    public static final String PRODUCT_DETAIL_TEMPLATE = "main/product/fragments/product-detail";
+    public static final String PRODUCT_DETAIL = "product-detail";
+
+    public static final FragmentKey BESTSELLER = FragmentKey.of(
+            INDEX_PRODUCTS_TEMPLATE,
+            "bestseller"
+    );
+    public static final FragmentKey NEW_PRODUCTS = FragmentKey.of(
+            INDEX_PRODUCTS_TEMPLATE,
+            "new-products"
+    );
+
+    private PageFragments() {
+    }
+
+    public static FragmentKey categoryProducts(long categoryId, Pageable pageable) {
+        return FragmentKey.of(CATEGORY_PRODUCTS_TEMPLATE, CATEGORY_PRODUCTS)
+                .with("categoryId", categoryId)
+                .with("page", pageable.getPageNumber())
+                .with("size", pageable.getPageSize())
+                .with("sort", pageable.getSort());
+    }
+
+    public static FragmentKey productDetail(long productId) {
+        return FragmentKey.of(PRODUCT_DETAIL_TEMPLATE, PRODUCT_DETAIL).with("productId", productId);
+    }
+}
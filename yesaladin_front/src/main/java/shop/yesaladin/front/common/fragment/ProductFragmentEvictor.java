@@ -0,0 +1,75 @@
+package shop.yesaladin.front.common.fragment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품이 표시되는 상세, 카테고리 목록, 메인 페이지의 fragment 캐시를 무효화하는 클래스 입니다.
+ * <p>
+ * front 에서 요청한 상품 변경 외에도 재고 차감, 가격 일괄 변경, 상품 일괄 등록처럼 shop 서버에서 일어난 변경을 반영하기 위해, shop 서버가 변경을
+ * 검색 인덱스에 반영한 뒤 Redis 채널로 알리는 상품 id 를 구독합니다. 구독하지 못한 동안의 알림은 받을 수 없으므로 fragment 캐시의 만료 시간이
+ * 최대 지연 시간이 됩니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductFragmentEvictor implements MessageListener {
+
+    private final FragmentCache fragmentCache;
+
+    /**
+     * 변경된 상품의 상세 fragment 와, 상품이 포함될 수 있는 목록 fragment 캐시를 무효화합니다.
+     *
+     * @param productIds 변경된 상품의 id
+     * @author 송학현
+     * @since 1.0
+     */
+    public void evict(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        productIds.forEach(productId -> fragmentCache.evict(PageFragments.productDetail(productId)));
+        fragmentCache.evictAll(
+                PageFragments.CATEGORY_PRODUCTS_TEMPLATE,
+                PageFragments.CATEGORY_PRODUCTS
+        );
+        fragmentCache.evict(PageFragments.BESTSELLER);
+        fragmentCache.evict(PageFragments.NEW_PRODUCTS);
+    }
+
+    /**
+     * shop 서버가 알린 쉼표로 구분된 상품 id 로 fragment 캐시를 무효화합니다.
+     *
+     * @param message 쉼표로 구분된 상품 id
+     * @param pattern 구독한 채널 pattern
+     * @author 송학현
+     * @since 1.0
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<Long> productIds;
+        try {
+            productIds = Arrays.stream(body.split(","))
+                    .map(String::trim)
+                    .filter(id -> !id.isEmpty())
+                    .map(Long::valueOf)
+                    .collect(Collectors.toList());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid product change message: body -> {}", body, e);
+            return;
+        }
+        evict(productIds);
+    }
+}
@@ -0,0 +1,237 @@
+package shop.yesaladin.front.common.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.session.Session;
+
+/**
+ * NearCacheSessionRepository가 요청마다 발급하는 세션 입니다.
+ * <p>
+ * 저장된 속성은 직렬화된 상태로 공유하고 실제로 조회한 속성만 역직렬화합니다. setAttribute와 removeAttribute로 변경된 속성을 기록하여 저장 시
+ * 변경분만 Redis에 반영합니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+public class NearCacheSession implements Session {
+
+    private final RedisSerializer<Object> serializer;
+    private final Clock clock;
+    private final Instant creationTime;
+    private final Map<String, Object> loaded = new HashMap<>();
+    private final Set<String> changed = new HashSet<>();
+    private final Set<String> removed = new HashSet<>();
+
+    private String id;
+    private String originalId;
+    private Instant lastAccessedTime;
+    private Instant persistedLastAccessedTime;
+    private Duration maxInactiveInterval;
+    private Map<String, byte[]> stored;
+    private long version;
+    private boolean isNew;
+    private boolean maxInactiveIntervalChanged;
+
+    NearCacheSession(
+            RedisSerializer<Object> serializer,
+            Clock clock,
+            Duration maxInactiveInterval
+    ) {
+        this.serializer = serializer;
+        this.clock = clock;
+        this.id = UUID.randomUUID().toString();
+        this.originalId = this.id;
+        this.creationTime = clock.instant();
+        this.lastAccessedTime = this.creationTime;
+        this.persistedLastAccessedTime = this.creationTime;
+        this.maxInactiveInterval = maxInactiveInterval;
+        this.stored = Collections.emptyMap();
+        this.isNew = true;
+    }
+
+    NearCacheSession(RedisSerializer<Object> serializer, Clock clock, SessionSnapshot snapshot) {
+        this.serializer = serializer;
+        this.clock = clock;
+        this.id = snapshot.getId();
+        this.originalId = this.id;
+        this.creationTime = snapshot.getCreationTime();
+        this.lastAccessedTime = snapshot.getLastAccessedTime();
+        this.persistedLastAccessedTime = this.lastAccessedTime;
+        this.maxInactiveInterval = snapshot.getMaxInactiveInterval();
+        this.stored = snapshot.getAttributes();
+        this.version = snapshot.getVersion();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String changeSessionId() {
+        this.id = UUID.randomUUID().toString();
+        return this.id;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getAttribute(String attributeName) {
+        if (removed.contains(attributeName)) {
+            return null;
+        }
+        if (loaded.containsKey(attributeName)) {
+            return (T) loaded.get(attributeName);
+        }
+        byte[] value = stored.get(attributeName);
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        Object attribute = serializer.deserialize(value);
+        loaded.put(attributeName, attribute);
+        return (T) attribute;
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        return Stream.concat(stored.keySet().stream(), loaded.keySet().stream())
+                .filter(name -> !removed.contains(name))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void setAttribute(String attributeName, Object attributeValue) {
+        if (Objects.isNull(attributeValue)) {
+            removeAttribute(attributeName);
+            return;
+        }
+        loaded.put(attributeName, attributeValue);
+        changed.add(attributeName);
+        removed.remove(attributeName);
+    }
+
+    @Override
+    public void removeAttribute(String attributeName) {
+        loaded.remove(attributeName);
+        changed.remove(attributeName);
+        if (stored.containsKey(attributeName)) {
+            removed.add(attributeName);
+        }
+    }
+
+    @Override
+    public Instant getCreationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public void setLastAccessedTime(Instant lastAccessedTime) {
+        this.lastAccessedTime = lastAccessedTime;
+    }
+
+    @Override
+    public Instant getLastAccessedTime() {
+        return lastAccessedTime;
+    }
+
+    @Override
+    public void setMaxInactiveInterval(Duration interval) {
+        this.maxInactiveIntervalChanged |= !Objects.equals(this.maxInactiveInterval, interval);
+        this.maxInactiveInterval = interval;
+    }
+
+    @Override
+    public Duration getMaxInactiveInterval() {
+        return maxInactiveInterval;
+    }
+
+    @Override
+    public boolean isExpired() {
+        if (maxInactiveInterval.isNegative()) {
+            return false;
+        }
+        return !clock.instant().minus(maxInactiveInterval).isBefore(lastAccessedTime);
+    }
+
+    String getOriginalId() {
+        return originalId;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    boolean isNew() {
+        return isNew;
+    }
+
+    Instant getPersistedLastAccessedTime() {
+        return persistedLastAccessedTime;
+    }
+
+    Map<String, byte[]> getStoredAttributes() {
+        return stored;
+    }
+
+    Set<String> getChangedAttributeNames() {
+        return changed;
+    }
+
+    Set<String> getRemovedAttributeNames() {
+        return removed;
+    }
+
+    boolean isMaxInactiveIntervalChanged() {
+        return maxInactiveIntervalChanged;
+    }
+
+    boolean hasChanges() {
+        return isNew || maxInactiveIntervalChanged || !changed.isEmpty() || !removed.isEmpty()
+                || !id.equals(originalId);
+    }
+
+    Object getChangedAttribute(String attributeName) {
+        return loaded.get(attributeName);
+    }
+
+    /**
+     * 저장이 끝난 뒤 저장된 상태를 기준으로 변경 기록을 초기화합니다.
+     *
+     * @param attributes 저장된 직렬화 속성
+     * @param version    저장 후 version
+     * @author 송학현
+     * @since 1.0
+     */
+    void markSaved(Map<String, byte[]> attributes, long version) {
+        this.stored = attributes;
+        this.version = version;
+        this.originalId = this.id;
+        this.persistedLastAccessedTime = this.lastAccessedTime;
+        this.isNew = false;
+        this.maxInactiveIntervalChanged = false;
+        this.changed.clear();
+        this.removed.clear();
+    }
+
+    SessionSnapshot toSnapshot(Instant validatedAt) {
+        return new SessionSnapshot(
+                id,
+                creationTime,
+                lastAccessedTime,
+                maxInactiveInterval,
+                stored,
+                version,
+                validatedAt
+        );
+    }
+}
@@ -0,0 +1,271 @@
+package shop.yesaladin.front.common.session;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.session.SessionRepository;
+import shop.yesaladin.front.config.SessionCacheProperties;
+
+/**
+ * Redis에 저장된 세션의 사본을 instance 내부에 유지하는 SessionRepository 입니다.
+ * <p>
+ * 세션은 기존 Spring Session과 같은 hash(spring:session:sessions:{id})에 저장하며, 저장할 때마다 version field를 증가시킵니다.
+ * 조회 시 사본이 trust window 안에서 검증되었다면 Redis를 조회하지 않고, 그 외에는 version만 비교하여 같으면 사본을 사용합니다.
+ * 저장 시에는 변경된 속성만 하나의 script로 반영하며, 변경이 없다면 마지막 접근 시간이 touch interval 이상 지난 경우에만 만료 시간을
+ * 갱신합니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+public class NearCacheSessionRepository implements SessionRepository<NearCacheSession> {
+
+    static final String KEY_PREFIX = "spring:session:sessions:";
+    static final String ATTRIBUTE_PREFIX = "sessionAttr:";
+    static final String CREATION_TIME = "creationTime";
+    static final String LAST_ACCESSED_TIME = "lastAccessedTime";
+    static final String MAX_INACTIVE_INTERVAL = "maxInactiveInterval";
+    static final String VERSION = "version";
+
+    private static final RedisScript<Long> SAVE = saveScript();
+    private static final RedisSerializer<Long> LONG_SERIALIZER = new GenericToStringSerializer<>(
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisSerializer<Object> serializer;
+    private final Clock clock;
+    private final Duration defaultMaxInactiveInterval;
+    private final Duration trustWindow;
+    private final Duration touchInterval;
+    private final Map<String, SessionSnapshot> cache;
+
+    public NearCacheSessionRepository(
+            RedisTemplate<String, Object> redisTemplate,
+            RedisSerializer<Object> serializer,
+            SessionCacheProperties properties,
+            Clock clock
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.serializer = serializer;
+        this.clock = clock;
+        this.defaultMaxInactiveInterval = Duration.ofSeconds(properties.getMaxInactiveSeconds());
+        this.trustWindow = Duration.ofMillis(properties.getTrustWindowMs());
+        this.touchInterval = Duration.ofSeconds(properties.getTouchIntervalSeconds());
+        this.cache = boundedCache(properties.getMaxEntries());
+    }
+
+    @Override
+    public NearCacheSession createSession() {
+        return new NearCacheSession(serializer, clock, defaultMaxInactiveInterval);
+    }
+
+    /**
+     * 세션의 변경분을 저장합니다. 변경이 없고 만료 시간 갱신 주기가 지나지 않았다면 Redis에 접근하지 않습니다.
+     *
+     * @param session 저장할 세션
+     * @author 송학현
+     * @since 1.0
+     */
+    @Override
+    public void save(NearCacheSession session) {
+        boolean touchRequired = !session.getLastAccessedTime()
+                .isBefore(session.getPersistedLastAccessedTime().plus(touchInterval));
+        if (!session.hasChanges() && !touchRequired) {
+            return;
+        }
+
+        Map<String, byte[]> attributes = new HashMap<>(session.getStoredAttributes());
+        Map<String, byte[]> fields = new LinkedHashMap<>();
+        fields.put(LAST_ACCESSED_TIME, toBytes(session.getLastAccessedTime().toEpochMilli()));
+        if (session.isNew()) {
+            fields.put(CREATION_TIME, toBytes(session.getCreationTime().toEpochMilli()));
+        }
+        if (session.isNew() || session.isMaxInactiveIntervalChanged()) {
+            fields.put(
+                    MAX_INACTIVE_INTERVAL,
+                    toBytes(session.getMaxInactiveInterval().getSeconds())
+            );
+        }
+        for (String name : session.getChangedAttributeNames()) {
+            byte[] value = serializer.serialize(session.getChangedAttribute(name));
+            attributes.put(name, value);
+            fields.put(ATTRIBUTE_PREFIX + name, value);
+        }
+
+        List<byte[]> args = new ArrayList<>();
+        args.add(toBytes(session.getMaxInactiveInterval().getSeconds()));
+        args.add(toBytes(fields.size()));
+        fields.forEach((field, value) -> {
+            args.add(field.getBytes(StandardCharsets.UTF_8));
+            args.add(value);
+        });
+        for (String name : session.getRemovedAttributeNames()) {
+            attributes.remove(name);
+            args.add((ATTRIBUTE_PREFIX + name).getBytes(StandardCharsets.UTF_8));
+        }
+
+        Long version = redisTemplate.execute(
+                SAVE,
+                RedisSerializer.byteArray(),
+                LONG_SERIALIZER,
+                List.of(key(session.getOriginalId()), key(session.getId())),
+                args.toArray()
+        );
+
+        long expectedVersion = session.getVersion() + 1;
+        cache.remove(session.getOriginalId());
+        session.markSaved(
+                Collections.unmodifiableMap(attributes),
+                Objects.requireNonNull(version)
+        );
+        if (version == expectedVersion) {
+            cache.put(session.getId(), session.toSnapshot(clock.instant()));
+        } else {
+            cache.remove(session.getId());
+        }
+    }
+
+    /**
+     * 세션을 조회합니다. 사본이 trust window 안에서 검증되었다면 Redis에 접근하지 않으며, 그 외에는 version을 비교하여 사본이 오래된 경우에만
+     * 전체 세션을 조회합니다.
+     *
+     * @param id 조회할 세션 id
+     * @return 조회된 세션, 없거나 만료된 경우 null
+     * @author 송학현
+     * @since 1.0
+     */
+    @Override
+    public NearCacheSession findById(String id) {
+        SessionSnapshot snapshot = validSnapshot(id);
+        if (Objects.isNull(snapshot)) {
+            return null;
+        }
+
+        NearCacheSession session = new NearCacheSession(serializer, clock, snapshot);
+        if (session.isExpired()) {
+            deleteById(id);
+            return null;
+        }
+        return session;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        cache.remove(id);
+        redisTemplate.delete(key(id));
+    }
+
+    private SessionSnapshot validSnapshot(String id) {
+        Instant now = clock.instant();
+        SessionSnapshot snapshot = cache.get(id);
+        if (Objects.nonNull(snapshot)) {
+            if (now.isBefore(snapshot.getValidatedAt().plus(trustWindow))) {
+                return snapshot;
+            }
+
+            byte[] version = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.hashCommands()
+                            .hGet(rawKey(id), VERSION.getBytes(StandardCharsets.UTF_8)));
+            if (Objects.nonNull(version) && toLong(version) == snapshot.getVersion()) {
+                SessionSnapshot validated = snapshot.validatedAt(now);
+                cache.put(id, validated);
+                return validated;
+            }
+        }
+
+        SessionSnapshot loaded = redisTemplate.execute((RedisCallback<SessionSnapshot>) connection ->
+                load(connection, id, now));
+        if (Objects.isNull(loaded)) {
+            cache.remove(id);
+            return null;
+        }
+        cache.put(id, loaded);
+        return loaded;
+    }
+
+    private SessionSnapshot load(RedisConnection connection, String id, Instant now) {
+        Map<byte[], byte[]> entries = connection.hashCommands().hGetAll(rawKey(id));
+        if (Objects.isNull(entries) || entries.isEmpty()) {
+            return null;
+        }
+
+        Map<String, byte[]> attributes = new HashMap<>();
+        long creationTime = 0L;
+        long lastAccessedTime = 0L;
+        long maxInactiveInterval = defaultMaxInactiveInterval.getSeconds();
+        long version = 0L;
+        for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+            String field = new String(entry.getKey(), StandardCharsets.UTF_8);
+            if (field.startsWith(ATTRIBUTE_PREFIX)) {
+                attributes.put(field.substring(ATTRIBUTE_PREFIX.length()), entry.getValue());
+            } else if (CREATION_TIME.equals(field)) {
+                creationTime = toLong(entry.getValue());
+            } else if (LAST_ACCESSED_TIME.equals(field)) {
+                lastAccessedTime = toLong(entry.getValue());
+            } else if (MAX_INACTIVE_INTERVAL.equals(field)) {
+                maxInactiveInterval = toLong(entry.getValue());
+            } else if (VERSION.equals(field)) {
+                version = toLong(entry.getValue());
+            }
+        }
+
+        return new SessionSnapshot(
+                id,
+                Instant.ofEpochMilli(creationTime),
+                Instant.ofEpochMilli(lastAccessedTime),
+                Duration.ofSeconds(maxInactiveInterval),
+                Collections.unmodifiableMap(attributes),
+                version,
+                now
+        );
+    }
+
+    private static RedisScript<Long> saveScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(
+                "scripts/session/save.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    private static Map<String, SessionSnapshot> boundedCache(int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SessionSnapshot> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    private static String key(String id) {
+        return KEY_PREFIX + id;
+    }
+
+    private static byte[] rawKey(String id) {
+        return key(id).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] toBytes(long value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long toLong(byte[] value) {
+        return Long.parseLong(new String(value, StandardCharsets.UTF_8).trim());
+    }
+}
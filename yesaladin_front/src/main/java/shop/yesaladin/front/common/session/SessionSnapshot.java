@@ -0,0 +1,40 @@
+package shop.yesaladin.front.common.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Redis에 저장된 세션의 in-process 사본 입니다.
+ * <p>
+ * 여러 요청이 동시에 공유하므로 불변이며, 속성은 직렬화된 상태로 가집니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+class SessionSnapshot {
+
+    private final String id;
+    private final Instant creationTime;
+    private final Instant lastAccessedTime;
+    private final Duration maxInactiveInterval;
+    private final Map<String, byte[]> attributes;
+    private final long version;
+    private final Instant validatedAt;
+
+    SessionSnapshot validatedAt(Instant validatedAt) {
+        return new SessionSnapshot(
+                id,
+                creationTime,
+                lastAccessedTime,
+                maxInactiveInterval,
+                attributes,
+                version,
+                validatedAt
+        );
+    }
+}
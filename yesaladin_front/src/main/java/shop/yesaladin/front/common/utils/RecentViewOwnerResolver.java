@@ -0,0 +1,73 @@
+package shop.yesaladin.front.common.utils;
+
+import java.util.Objects;
+import java.util.UUID;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import shop.yesaladin.front.product.dto.RecentViewOwner;
+
+/**
+ * 현재 요청의 최근 본 상품 소유자를 찾기 위한 Util 클래스입니다.
+ * <p>
+ * 회원은 loginId로 구분하며, 비회원은 RECENT_NO 쿠키에 발급한 UUID로 구분합니다. 쿠키에는 식별자만 담기므로 최근 본 상품이 늘어나도
+ * 쿠키의 크기는 변하지 않습니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Component
+public class RecentViewOwnerResolver {
+
+    public static final String GUEST_COOKIE = "RECENT_NO";
+    private static final String LEGACY_COOKIE = "recent";
+    private static final int GUEST_COOKIE_MAX_AGE = 60 * 60 * 24 * 3;
+
+    private final CookieUtils cookieUtils;
+
+    /**
+     * 현재 요청의 최근 본 상품 소유자를 반환합니다. 비회원에게 RECENT_NO 쿠키가 없다면 새로 발급합니다.
+     *
+     * @param request  쿠키를 조회할 HttpServletRequest
+     * @param response 쿠키를 발급할 HttpServletResponse
+     * @return 최근 본 상품 소유자
+     * @author 김선홍
+     * @since 1.0
+     */
+    public RecentViewOwner resolve(HttpServletRequest request, HttpServletResponse response) {
+        // 최근 본 상품 id를 직접 담던 이전 쿠키는 더 이상 사용하지 않으므로 삭제합니다.
+        if (Objects.nonNull(cookieUtils.getValueFromCookie(request.getCookies(), LEGACY_COOKIE))) {
+            response.addCookie(cookieUtils.createCookie(LEGACY_COOKIE, "", 0));
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (Objects.nonNull(authentication) && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return RecentViewOwner.member(authentication.getName());
+        }
+
+        String guestNo = cookieUtils.getValueFromCookie(request.getCookies(), GUEST_COOKIE);
+        if (Objects.isNull(guestNo)) {
+            guestNo = UUID.randomUUID().toString();
+            response.addCookie(cookieUtils.createCookie(GUEST_COOKIE, guestNo, GUEST_COOKIE_MAX_AGE));
+        }
+        return RecentViewOwner.guest(guestNo);
+    }
+
+    /**
+     * 비회원으로 본 상품을 회원에게 넘긴 뒤 RECENT_NO 쿠키를 삭제하기 위한 쿠키를 반환합니다.
+     *
+     * @return 만료된 RECENT_NO 쿠키
+     * @author 김선홍
+     * @since 1.0
+     */
+    public Cookie expireGuestCookie() {
+        return cookieUtils.createCookie(GUEST_COOKIE, "", 0);
+    }
+}
@@ -0,0 +1,34 @@
+package shop.yesaladin.front.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 모든 사용자에게 같은 fragment의 렌더링 결과를 캐시하기 위한 설정 값을 가지는 클래스 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class FragmentCacheProperties {
+
+    @Value("${yesaladin.front.fragment.enabled:true}")
+    private boolean enabled;
+
+    @Value("${yesaladin.front.fragment.main-ttl-seconds:60}")
+    private long mainTtlSeconds;
+
+    @Value("${yesaladin.front.fragment.category-ttl-seconds:60}")
+    private long categoryTtlSeconds;
+
+    @Value("${yesaladin.front.fragment.product-ttl-seconds:300}")
+    private long productTtlSeconds;
+
+    /**
+     * shop 서버가 변경된 상품 id 를 알리는 Redis 채널 입니다. shop 서버와 같은 Redis 서버를 사용해야 합니다.
+     */
+    @Value("${yesaladin.front.fragment.product-change-channel:PRODUCT_CHANGES}")
+    private String productChangeChannel;
+}
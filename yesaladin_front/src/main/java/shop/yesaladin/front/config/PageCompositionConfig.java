@@ -0,0 +1,42 @@
+package shop.yesaladin.front.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 페이지 구성용 executor 설정 클래스 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PageCompositionConfig {
+
+    private final PageCompositionProperties properties;
+
+    /**
+     * 페이지를 구성하는 backend 호출을 병렬로 수행하기 위한 executor 입니다.
+     * <p>
+     * 제한 시간을 넘긴 작업이 응답 이후에도 실행될 수 있으므로 요청 thread의 SecurityContext와 RequestAttributes는 전달하지 않습니다.
+     * 작업이 가득 찬 경우 요청 thread에서 실행하지 않고 거부하여 해당 section을 실패로 처리합니다.
+     *
+     * @return 페이지 구성용 executor
+     * @author 송학현
+     * @since 1.0
+     */
+    @Bean
+    public ThreadPoolTaskExecutor pageCompositionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("page-composition-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,31 @@
+package shop.yesaladin.front.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 페이지 구성 시 backend 호출을 병렬로 수행하기 위한 설정 값을 가지는 클래스 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class PageCompositionProperties {
+
+    @Value("${yesaladin.front.composition.pool-size:32}")
+    private int poolSize;
+
+    @Value("${yesaladin.front.composition.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${yesaladin.front.composition.section-timeout-ms:1500}")
+    private long sectionTimeoutMs;
+
+    @Value("${yesaladin.front.http.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${yesaladin.front.http.max-connections-per-route:100}")
+    private int maxConnectionsPerRoute;
+}
@@ -1,6 +1,8 @@
 package shop.yesaladin.front.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -9,13 +11,17 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.security.jackson2.SecurityJackson2Modules;
-import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
 import org.springframework.session.web.http.CookieSerializer;
 import org.springframework.session.web.http.DefaultCookieSerializer;
+import shop.yesaladin.front.common.fragment.ProductFragmentEvictor;
+import shop.yesaladin.front.common.session.NearCacheSessionRepository;
 
 /**
  * Redis 설정 클래스 입니다.
@@ -23,10 +29,13 @@ import org.springframework.session.web.http.DefaultCookieSerializer;
  * @author : 송학현
  * @since : 1.0
  */
-@EnableRedisHttpSession
+@EnableSpringHttpSession
 @Configuration
+@RequiredArgsConstructor
 public class RedisConfig implements BeanClassLoaderAware {
 
+    private final SessionCacheProperties sessionCacheProperties;
+
     @Value("${spring.redis.host}")
     private String host;
 
@@ -78,6 +87,30 @@ public class RedisConfig implements BeanClassLoaderAware {
         return redisTemplate;
     }
 
+    /**
+     * shop 서버가 알리는 상품 변경을 구독하여 fragment 캐시를 무효화하는 listener container Bean 입니다.
+     *
+     * @param productFragmentEvictor  상품 fragment 캐시를 무효화하는 listener
+     * @param fragmentCacheProperties 구독할 채널을 가진 설정
+     * @return 상품 변경 채널을 구독하는 RedisMessageListenerContainer
+     * @author 송학현
+     * @since 1.0
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            ProductFragmentEvictor productFragmentEvictor,
+            FragmentCacheProperties fragmentCacheProperties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(
+                productFragmentEvictor,
+                new ChannelTopic(fragmentCacheProperties.getProductChangeChannel())
+        );
+
+        return container;
+    }
+
     @Bean
     public CookieSerializer cookieSerializer() {
         DefaultCookieSerializer serializer = new DefaultCookieSerializer();
@@ -88,6 +121,25 @@ public class RedisConfig implements BeanClassLoaderAware {
         return serializer;
     }
 
+    /**
+     * 세션의 사본을 instance 내부에 유지하는 SessionRepository Bean 입니다.
+     * <p>
+     * 세션은 기존 Spring Session과 같은 key에 저장되므로 배포 중에도 기존 세션을 그대로 사용할 수 있습니다.
+     *
+     * @return Redis 세션 저장소를 감싼 SessionRepository
+     * @author 송학현
+     * @since 1.0
+     */
+    @Bean
+    public NearCacheSessionRepository sessionRepository() {
+        return new NearCacheSessionRepository(
+                redisTemplate(),
+                springSessionDefaultRedisSerializer(),
+                sessionCacheProperties,
+                Clock.systemUTC()
+        );
+    }
+
     @Bean
     public RedisSerializer<Object> springSessionDefaultRedisSerializer() {
         return new GenericJackson2JsonRedisSerializer(objectMapper());
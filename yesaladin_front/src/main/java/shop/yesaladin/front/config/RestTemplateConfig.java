@@ -1,16 +1,25 @@
 package shop.yesaladin.front.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
 import lombok.RequiredArgsConstructor;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 import shop.yesaladin.front.common.CustomResponseErrorHandler;
+import shop.yesaladin.front.common.composition.PageComposition;
 import shop.yesaladin.front.interceptor.JwtInterceptor;
+import shop.yesaladin.front.member.jwt.RequestAuthenticationResolver;
 
 /**
  * RestTemplate 설정 클래스
@@ -22,7 +31,8 @@ import shop.yesaladin.front.interceptor.JwtInterceptor;
 @RequiredArgsConstructor
 public class RestTemplateConfig {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RequestAuthenticationResolver requestAuthenticationResolver;
+    private final PageCompositionProperties pageCompositionProperties;
 
     /**
      * client와 server간 요청, 응답을 위한 RestTemplate Bean 설정.
@@ -35,14 +45,30 @@ public class RestTemplateConfig {
     @Bean
     public RestTemplate restTemplate(RestTemplateBuilder builder) {
         return builder
-                .interceptors(new JwtInterceptor(redisTemplate))
+                .interceptors(jwtInterceptor())
                 .customizers(restTemplate -> restTemplate.setRequestFactory(clientHttpRequestFactory()))
                 .errorHandler(new CustomResponseErrorHandler(new ObjectMapper()))
                 .build();
     }
 
+    /**
+     * 요청 헤더에 JWT 토큰을 담기 위한 interceptor Bean 설정.
+     *
+     * @return JwtInterceptor 반환.
+     * @author : 송학현
+     * @since : 1.0
+     */
+    @Bean
+    public JwtInterceptor jwtInterceptor() {
+        return new JwtInterceptor(requestAuthenticationResolver);
+    }
+
     /**
      * client와 server간 connection 객체를 생성 및 타임아웃 등의 설정을 위한 Bean 설정
+     * <p>
+     * 페이지 구성 시 여러 backend 호출이 동시에 수행되므로 route 당 connection 수를 기본값(5개)보다 늘려 connection pool 대기를 줄입니다.
+     * 페이지 구성 section에서 수행되는 호출은 connection 대기, 연결, 응답 대기 시간을 section 제한 시간 이내로 제한하여, 제한 시간이 지난
+     * section이 executor thread와 connection을 계속 점유하지 않도록 합니다.
      *
      * @return ClientHttpRequestFactory의 구현체 SimpleClientHttpRequestFactory
      * @author : 송학현
@@ -50,7 +76,20 @@ public class RestTemplateConfig {
      */
     @Bean
     public ClientHttpRequestFactory clientHttpRequestFactory() {
-        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(pageCompositionProperties.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(pageCompositionProperties.getMaxConnectionsPerRoute());
+
+        HttpClient httpClient = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .build();
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(
+                httpClient) {
+            @Override
+            protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+                return PageComposition.inSection() ? sectionHttpContext() : null;
+            }
+        };
 
         factory.setConnectTimeout(30000);
         factory.setReadTimeout(100000);
@@ -58,4 +97,15 @@ public class RestTemplateConfig {
 
         return factory;
     }
+
+    private HttpContext sectionHttpContext() {
+        int timeout = Math.toIntExact(pageCompositionProperties.getSectionTimeoutMs());
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(timeout)
+                .setConnectTimeout(timeout)
+                .setSocketTimeout(timeout)
+                .build());
+        return context;
+    }
 }
@@ -14,8 +14,11 @@ import shop.yesaladin.front.auth.CustomAuthenticationManager;
 import shop.yesaladin.front.auth.CustomFailureHandler;
 import shop.yesaladin.front.auth.CustomLoginProcessingFilter;
 import shop.yesaladin.front.auth.CustomLogoutHandler;
+import shop.yesaladin.front.cart.service.inter.CartService;
 import shop.yesaladin.front.common.utils.CookieUtils;
+import shop.yesaladin.front.common.utils.RecentViewOwnerResolver;
 import shop.yesaladin.front.member.adapter.MemberAdapter;
+import shop.yesaladin.front.product.service.inter.RecentViewService;
 
 /**
  * Spring Security의 설정 Bean 등록 클래스입니다.
@@ -30,6 +33,9 @@ public class SecurityConfig {
     private final MemberAdapter memberAdapter;
     private final RedisTemplate<String, Object> redisTemplate;
     private final CookieUtils cookieUtils;
+    private final CartService cartService;
+    private final RecentViewService recentViewService;
+    private final RecentViewOwnerResolver recentViewOwnerResolver;
 
     /**
      * Spring Security의 SecurityFilterChain을 설정하고 Bean으로 등록합니다.
@@ -86,7 +92,14 @@ public class SecurityConfig {
      */
     @Bean
     public CustomAuthenticationManager customAuthenticationManager() {
-        return new CustomAuthenticationManager(memberAdapter, redisTemplate, cookieUtils);
+        return new CustomAuthenticationManager(
+                memberAdapter,
+                redisTemplate,
+                cookieUtils,
+                cartService,
+                recentViewService,
+                recentViewOwnerResolver
+        );
     }
 
     /**
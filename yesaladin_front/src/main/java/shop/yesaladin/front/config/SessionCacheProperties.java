@@ -0,0 +1,28 @@
+package shop.yesaladin.front.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 세션의 in-process 사본(near cache) 설정 값을 가지는 클래스 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class SessionCacheProperties {
+
+    @Value("${yesaladin.front.session.max-inactive-seconds:1800}")
+    private int maxInactiveSeconds;
+
+    @Value("${yesaladin.front.session.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${yesaladin.front.session.cache.trust-window-ms:1000}")
+    private long trustWindowMs;
+
+    @Value("${yesaladin.front.session.cache.touch-interval-seconds:60}")
+    private long touchIntervalSeconds;
+}
@@ -1,16 +1,24 @@
 package shop.yesaladin.front.config;
 
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import shop.yesaladin.front.common.utils.CookieUtils;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 import shop.yesaladin.front.interceptor.ReissueTokenInterceptor;
 import shop.yesaladin.front.interceptor.RequestLoggingInterceptor;
 import shop.yesaladin.front.member.adapter.MemberAdapter;
+import shop.yesaladin.front.member.jwt.RequestAuthenticationResolver;
 import shop.yesaladin.front.order.converter.StringToProductOrderRequestDto;
 
 /**
@@ -25,9 +33,18 @@ import shop.yesaladin.front.order.converter.StringToProductOrderRequestDto;
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private static final String[] STATIC_RESOURCE_PATTERNS = {
+            "/css/**", "/js/**", "/libs/**", "/img/**"
+    };
+    private static final String[] STATIC_RESOURCE_LOCATIONS = {
+            "classpath:/static/css/", "classpath:/static/js/", "classpath:/static/libs/",
+            "classpath:/static/img/"
+    };
+    private static final long STATIC_RESOURCE_MAX_AGE_DAYS = 365L;
+
     private final MemberAdapter memberAdapter;
     private final RedisTemplate<String, Object> redisTemplate;
-    private final CookieUtils cookieUtils;
+    private final RequestAuthenticationResolver requestAuthenticationResolver;
 
     /**
      * Custom Interceptor를 추가 하기 위한 기능 입니다.
@@ -42,10 +59,44 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addInterceptor(new RequestLoggingInterceptor())
                 .excludePathPatterns("/css/**", "/js/**", "/libs/**", "/**/static/**", "/img/**", "/api/**");
 
-        registry.addInterceptor(new ReissueTokenInterceptor(memberAdapter, redisTemplate, cookieUtils))
+        registry.addInterceptor(new ReissueTokenInterceptor(memberAdapter, redisTemplate, requestAuthenticationResolver))
                 .excludePathPatterns("/css/**", "/js/**", "/libs/**", "/**/static/**", "/img/**", "/api/**", "/");
     }
 
+    /**
+     * 정적 리소스를 내용 hash가 포함된 url로 제공하기 위한 설정 입니다.
+     * <p>
+     * url에 내용 hash가 포함되므로 내용이 바뀌면 url도 바뀝니다. 따라서 만료 시간을 길게 두고 immutable로 응답하여 재검증 요청이 발생하지 않도록
+     * 합니다. 빌드 시 생성한 gzip, brotli 압축본이 있다면 Accept-Encoding에 따라 압축본을 응답합니다.
+     *
+     * @param registry 정적 리소스 handler를 설정하기 위한 registry
+     * @author 송학현
+     * @since 1.0
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(STATIC_RESOURCE_PATTERNS)
+                .addResourceLocations(STATIC_RESOURCE_LOCATIONS)
+                .setCacheControl(CacheControl.maxAge(STATIC_RESOURCE_MAX_AGE_DAYS, TimeUnit.DAYS)
+                        .cachePublic()
+                        .immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    /**
+     * Thymeleaf의 @{...} 로 생성한 정적 리소스 url을 내용 hash가 포함된 url로 바꾸기 위한 filter 입니다.
+     *
+     * @return ResourceUrlEncodingFilter 등록 Bean
+     * @author 송학현
+     * @since 1.0
+     */
+    @Bean
+    public FilterRegistrationBean<ResourceUrlEncodingFilter> resourceUrlEncodingFilter() {
+        return new FilterRegistrationBean<>(new ResourceUrlEncodingFilter());
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**");
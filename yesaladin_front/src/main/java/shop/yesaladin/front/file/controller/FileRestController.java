@@ -1,7 +1,7 @@
 package shop.yesaladin.front.file.controller;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -9,6 +9,7 @@ import org.springframework.web.multipart.MultipartHttpServletRequest;
 import shop.yesaladin.front.file.dto.FileUploadResponseDto;
 import shop.yesaladin.front.file.service.inter.FileStorageService;
 
+import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Map;
 
@@ -54,18 +55,22 @@ public class FileRestController {
 
 
     /**
-     * 사용자가 요청한 파일의 url을 바탕으로 파일을 다운로드합니다.
+     * 사용자가 요청한 파일의 url을 바탕으로 파일을 다운로드합니다. Range 요청 시 요청한 범위만 206 Partial Content로 응답합니다.
      *
-     * @param url 사용자가 요청한 파일의 url
-     * @throws IOException
+     * @param url      사용자가 요청한 파일의 url
+     * @param headers  Range, If-Range 헤더를 담은 요청 헤더
+     * @param response 파일을 전달할 HttpServletResponse
+     * @throws IOException 파일 전달 중 입출력 오류가 발생한 경우
      * @author 김홍대
      * @author 이수정
      * @since 1.0
      */
-    @ResponseStatus(HttpStatus.OK)
     @GetMapping("/file-download")
-    @ResponseBody
-    public byte[] fileDownload(@RequestParam String url) {
-        return fileStorageService.fileDownload(url);
+    public void fileDownload(
+            @RequestParam String url,
+            @RequestHeader HttpHeaders headers,
+            HttpServletResponse response
+    ) throws IOException {
+        fileStorageService.fileDownload(url, headers, response);
     }
 }
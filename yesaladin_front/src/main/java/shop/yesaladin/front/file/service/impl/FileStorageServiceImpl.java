@@ -2,26 +2,42 @@ package shop.yesaladin.front.file.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.conn.EofSensorInputStream;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.FormHttpMessageConverter;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RequestCallback;
-import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.HttpMessageConverterExtractor;
+import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import shop.yesaladin.common.dto.ResponseDto;
+import shop.yesaladin.front.common.exception.CustomNotFoundException;
+import shop.yesaladin.front.common.exception.CustomServerException;
 import shop.yesaladin.front.config.GatewayConfig;
 import shop.yesaladin.front.file.dto.FileUploadResponseDto;
 import shop.yesaladin.front.file.service.inter.FileStorageService;
+import shop.yesaladin.front.interceptor.JwtInterceptor;
 
+import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 /**
  * 파일 업로드/다운로드를 요청하는 Service 구현체 입니다.
+ * <p>
+ * 업로드와 다운로드는 RestTemplate의 interceptor를 거치지 않도록 ClientHttpRequestFactory로 직접 요청합니다. interceptor를 거치는
+ * 요청은 body 전체를 메모리에 담기 때문에, 업로드는 multipart 파일을 그대로 streaming 하고 다운로드는 Object Storage의 상태
+ * 코드(200, 206, 416)와 헤더를 그대로 전달합니다.
  *
  * @author 이수정
  * @since 1.0
@@ -31,8 +47,32 @@ import java.util.Objects;
 @Service
 public class FileStorageServiceImpl implements FileStorageService {
 
+    static final int BUFFER_SIZE = 8192;
+
+    private static final List<String> FORWARDED_REQUEST_HEADERS = List.of(
+            HttpHeaders.RANGE,
+            HttpHeaders.IF_RANGE
+    );
+    private static final List<String> FORWARDED_RESPONSE_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.CONTENT_RANGE,
+            HttpHeaders.CONTENT_DISPOSITION,
+            HttpHeaders.ACCEPT_RANGES,
+            HttpHeaders.ETAG,
+            HttpHeaders.LAST_MODIFIED
+    );
+
+    private static final FormHttpMessageConverter FORM_CONVERTER = new FormHttpMessageConverter();
+    private static final ParameterizedTypeReference<ResponseDto<FileUploadResponseDto>> UPLOAD_RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
     private final RestTemplate restTemplate;
     private final GatewayConfig gatewayConfig;
+    private final ClientHttpRequestFactory clientHttpRequestFactory;
+    private final JwtInterceptor jwtInterceptor;
+    private final ResponseErrorHandler responseErrorHandler;
 
     /**
      * {@inheritDoc}
@@ -40,35 +80,71 @@ public class FileStorageServiceImpl implements FileStorageService {
     @Override
     public FileUploadResponseDto fileUpload(String domainName, String typeName, MultipartFile file)
             throws IOException {
+        ClientHttpRequest request = clientHttpRequestFactory.createRequest(
+                URI.create(gatewayConfig.getShopUrl() + "/v1/files/file-upload/" + domainName + "/"
+                        + typeName),
+                HttpMethod.POST
+        );
+        jwtInterceptor.applyAuthorization(request.getHeaders());
 
         MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        ByteArrayResource resource = new ByteArrayResource(file.getBytes()) {
-            @Override
-            public String getFilename() {
-                return file.getOriginalFilename();
-            }
-        };
-        body.add("file", resource);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-        HttpEntity<MultiValueMap<String, Object>> httpEntity = new HttpEntity<>(body, headers);
+        body.add("file", file.getResource());
+        FORM_CONVERTER.write(body, MediaType.MULTIPART_FORM_DATA, request);
 
-        ResponseEntity<ResponseDto<FileUploadResponseDto>> response = restTemplate.exchange(
-                gatewayConfig.getShopUrl() + "/v1/files/file-upload/" + domainName + "/" + typeName,
-                HttpMethod.POST,
-                httpEntity,
-                new ParameterizedTypeReference<ResponseDto<FileUploadResponseDto>>() {
-                }
-        );
-        return Objects.requireNonNull(response.getBody()).getData();
+        try (ClientHttpResponse response = request.execute()) {
+            if (responseErrorHandler.hasError(response)) {
+                responseErrorHandler.handleError(response);
+            }
+            ResponseDto<FileUploadResponseDto> responseDto = new HttpMessageConverterExtractor<ResponseDto<FileUploadResponseDto>>(
+                    UPLOAD_RESPONSE_TYPE.getType(),
+                    restTemplate.getMessageConverters()
+            ).extractData(response);
+            return Objects.requireNonNull(responseDto).getData();
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public byte[] fileDownload(String url) {
+    public void fileDownload(String url, HttpHeaders requestHeaders, HttpServletResponse response)
+            throws IOException {
+        ClientHttpRequest request = clientHttpRequestFactory.createRequest(
+                URI.create(url),
+                HttpMethod.GET
+        );
+        request.getHeaders().set("X-Auth-Token", getStorageToken());
+        FORWARDED_REQUEST_HEADERS.forEach(name -> {
+            String value = requestHeaders.getFirst(name);
+            if (Objects.nonNull(value)) {
+                request.getHeaders().set(name, value);
+            }
+        });
+
+        try (ClientHttpResponse storageResponse = request.execute()) {
+            HttpStatus status = storageResponse.getStatusCode();
+            if (status.isError() && status != HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE) {
+                if (status == HttpStatus.NOT_FOUND) {
+                    throw new CustomNotFoundException("File not found: " + url);
+                }
+                throw new CustomServerException("File download failed: status -> " + status);
+            }
+
+            response.setStatus(status.value());
+            FORWARDED_RESPONSE_HEADERS.forEach(name -> {
+                String value = storageResponse.getHeaders().getFirst(name);
+                if (Objects.nonNull(value)) {
+                    response.setHeader(name, value);
+                }
+            });
+            if (status == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE) {
+                return;
+            }
+            copy(storageResponse.getBody(), response.getOutputStream());
+        }
+    }
+
+    private String getStorageToken() {
         ResponseEntity<ResponseDto<String>> tokenResponse = restTemplate.exchange(
                 gatewayConfig.getShopUrl() + "/v1/files/auth-token/",
                 HttpMethod.GET,
@@ -76,11 +152,33 @@ public class FileStorageServiceImpl implements FileStorageService {
                 new ParameterizedTypeReference<ResponseDto<String>>() {
                 }
         );
-        String tokenId = Objects.requireNonNull(tokenResponse.getBody()).getData();
-
-        RequestCallback requestCallback = (request) -> request.getHeaders().set("X-Auth-Token", tokenId);
-        ResponseExtractor<byte[]> responseExtractor = (response) -> response.getBody().readAllBytes();
+        return Objects.requireNonNull(tokenResponse.getBody()).getData();
+    }
 
-        return restTemplate.execute(url, HttpMethod.GET, requestCallback, responseExtractor);
+    /**
+     * 고정 크기 buffer로 Object Storage의 응답을 사용자에게 전달합니다. 사용자에게 쓰기가 막히면 Object Storage에서 읽기도 멈추므로
+     * 다운로드 당 메모리 사용량은 파일 크기와 관계 없이 일정합니다.
+     *
+     * @param in  Object Storage 응답 body
+     * @param out 사용자 응답 body
+     * @throws IOException 입출력 오류가 발생한 경우
+     * @author 이수정
+     * @since 1.0
+     */
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            try {
+                out.write(buffer, 0, read);
+            } catch (IOException e) {
+                // 사용자가 다운로드를 중단한 경우, 남은 파일을 끝까지 읽어 connection을 반환하지 않도록 connection을 끊습니다.
+                if (in instanceof EofSensorInputStream) {
+                    ((EofSensorInputStream) in).abortConnection();
+                }
+                throw e;
+            }
+        }
+        out.flush();
     }
 }
@@ -1,8 +1,10 @@
 package shop.yesaladin.front.file.service.inter;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.multipart.MultipartFile;
 import shop.yesaladin.front.file.dto.FileUploadResponseDto;
 
+import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 /**
@@ -14,7 +16,7 @@ import java.io.IOException;
 public interface FileStorageService {
 
     /**
-     * shop에 파일 업로드를 요청하여 응답받은 Dto를 반환합니다.
+     * shop에 파일 업로드를 요청하여 응답받은 Dto를 반환합니다. 파일은 메모리에 모두 읽지 않고 multipart body로 streaming 됩니다.
      *
      * @param domainName 파일을 저장할 컨테이너 내의 도메인 경로
      * @param typeName   파일을 저장할 컨테이너 내의 도메인 경로
@@ -28,12 +30,18 @@ public interface FileStorageService {
 
     /**
      * 파일을 다운로드 하기위해 StorageAuthService에서 토큰을 발급받고,
-     * api를 호출하여 데이터를 바이트 배열로 받아 InputStream으로 반환합니다.
+     * Object Storage의 응답을 고정 크기 buffer로 response에 그대로 전달합니다.
+     * <p>
+     * 요청의 Range, If-Range 헤더를 Object Storage에 전달하므로 206 Partial Content 응답과 이어받기를 지원합니다.
      *
-     * @param url 파일을 다운받기 위한 파일의 url
+     * @param url            파일을 다운받기 위한 파일의 url
+     * @param requestHeaders 사용자 요청의 헤더
+     * @param response       파일을 전달할 HttpServletResponse
+     * @throws IOException 파일 전달 중 입출력 오류가 발생한 경우
      * @author 김홍대
      * @author 이수정
      * @since 1.0
      */
-    byte[] fileDownload(String url);
+    void fileDownload(String url, HttpHeaders requestHeaders, HttpServletResponse response)
+            throws IOException;
 }
@@ -1,25 +1,17 @@
 package shop.yesaladin.front.interceptor;
 
-import static shop.yesaladin.front.member.jwt.AuthUtil.JWT_CODE;
 import static shop.yesaladin.front.member.jwt.AuthUtil.UUID_CODE;
 
 import java.io.IOException;
-import java.util.Objects;
-import javax.servlet.http.Cookie;
-import javax.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
-import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
-import shop.yesaladin.front.member.jwt.AuthInfo;
+import shop.yesaladin.front.member.jwt.RequestAuthentication;
+import shop.yesaladin.front.member.jwt.RequestAuthenticationResolver;
 
 /**
  * RestTemplate 요청 전 Authorization Header에 JWT 토큰을 담기 위한 custom interceptor 입니다.
@@ -31,7 +23,7 @@ import shop.yesaladin.front.member.jwt.AuthInfo;
 @RequiredArgsConstructor
 public class JwtInterceptor implements ClientHttpRequestInterceptor {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RequestAuthenticationResolver requestAuthenticationResolver;
 
     /**
      * RestTemplate의 실행 전, Request Header에 JWT 토큰을 담기 위한 기능 입니다.
@@ -51,47 +43,25 @@ public class JwtInterceptor implements ClientHttpRequestInterceptor {
         String path = request.getURI().getPath();
         log.info("path={}", path);
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (!(authentication instanceof AnonymousAuthenticationToken)) {
-            HttpServletRequest servletRequest = Objects.requireNonNull(((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()))
-                    .getRequest();
-
-            String uuid = getUuidFromCookie(servletRequest.getCookies());
-            log.info("uuid={}", uuid);
-
-            if (Objects.isNull(uuid)) {
-                return execution.execute(request, body);
-            }
-
-            AuthInfo auth = (AuthInfo) redisTemplate.opsForHash().get(uuid, JWT_CODE.getValue());
-            if (Objects.nonNull(auth)) {
-                log.info("accessToken={}", auth.getAccessToken());
-                request.getHeaders().setBearerAuth(auth.getAccessToken());
-                request.getHeaders().add(UUID_CODE.getValue(), uuid);
-            }
-        }
+        applyAuthorization(request.getHeaders());
         return execution.execute(request, body);
     }
 
     /**
-     * cookie에 들어있는 uuid를 반환하기 위한 기능입니다.
+     * 로그인한 사용자의 JWT 토큰과 uuid를 요청 헤더에 담습니다. RestTemplate을 거치지 않고 body를 streaming 하는 요청에서도 사용합니다.
+     * <p>
+     * 인증 정보는 RequestAuthenticationResolver를 통해 요청 당 한 번만 조회되므로, 한 페이지에서 여러 backend 호출을 하더라도 Redis는 한 번만
+     * 조회합니다.
      *
-     * @param cookies 브라우저에 존재하는 Cookie의 목록입니다.
-     * @return login 시 발급 받아 쿠키에 저장한 uuid 값을 반환합니다.
+     * @param headers JWT 토큰을 담을 요청 헤더 입니다.
      * @author : 송학현
      * @since : 1.0
      */
-    private String getUuidFromCookie(Cookie[] cookies) {
-        if (Objects.isNull(cookies)) {
-            return null;
+    public void applyAuthorization(HttpHeaders headers) {
+        RequestAuthentication authentication = requestAuthenticationResolver.resolve();
+        if (authentication.isAuthenticated()) {
+            headers.setBearerAuth(authentication.getAccessToken());
+            headers.add(UUID_CODE.getValue(), authentication.getUuid());
         }
-
-        for (Cookie cookie : cookies) {
-            if (Objects.equals(UUID_CODE.getValue(), cookie.getName())) {
-                return cookie.getValue();
-            }
-        }
-
-        return null;
     }
 }
@@ -1,11 +1,9 @@
 package shop.yesaladin.front.interceptor;
 
 import static shop.yesaladin.front.member.jwt.AuthUtil.JWT_CODE;
-import static shop.yesaladin.front.member.jwt.AuthUtil.UUID_CODE;
 
 import java.time.Duration;
 import java.util.Date;
-import java.util.Objects;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -13,13 +11,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.servlet.HandlerInterceptor;
-import shop.yesaladin.front.common.utils.CookieUtils;
 import shop.yesaladin.front.member.adapter.MemberAdapter;
 import shop.yesaladin.front.member.jwt.AuthInfo;
+import shop.yesaladin.front.member.jwt.RequestAuthentication;
+import shop.yesaladin.front.member.jwt.RequestAuthenticationResolver;
 
 /**
  * JWT Token 재발급을 위한 custom interceptor 입니다.
@@ -33,13 +29,13 @@ public class ReissueTokenInterceptor implements HandlerInterceptor {
 
     private final MemberAdapter memberAdapter;
     private final RedisTemplate<String, Object> redisTemplate;
-    private final CookieUtils cookieUtils;
+    private final RequestAuthenticationResolver requestAuthenticationResolver;
 
     private static final String X_EXPIRE_HEADER = "X-Expire";
     private static final long TIME_TO_REISSUE = Duration.ofMinutes(59).toSeconds();
 
     /**
-     * JWT Token 재발급을 위한 기능입니다.
+     * JWT Token 재발급을 위한 기능입니다. 이 요청에서 사용할 인증 정보를 함께 조회하므로 이후의 backend 호출은 Redis를 다시 조회하지 않습니다.
      *
      * @param request  HttpServletRequest
      * @param response HttpServletResponse
@@ -53,14 +49,10 @@ public class ReissueTokenInterceptor implements HandlerInterceptor {
     public boolean preHandle(
             HttpServletRequest request, HttpServletResponse response, Object handler
     ) throws Exception {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String uuid = cookieUtils.getValueFromCookie(request.getCookies(), UUID_CODE.getValue());
-        log.info("uuid={}", uuid);
-        if (!(authentication instanceof AnonymousAuthenticationToken) && Objects.nonNull(uuid)) {
-            if (Objects.isNull(uuid)) {
-                return true;
-            }
-            tokenReissue(uuid);
+        RequestAuthentication authentication = requestAuthenticationResolver.resolve();
+        log.info("uuid={}", authentication.getUuid());
+        if (authentication.isAuthenticated()) {
+            tokenReissue(authentication);
         }
         return true;
     }
@@ -68,20 +60,21 @@ public class ReissueTokenInterceptor implements HandlerInterceptor {
     /**
      * JWT 토큰의 유효 시간에 따라 재발급을 요청 하기 위한 기능 입니다.
      *
-     * @param uuid login 시 발급 받아 쿠키에 저장한 uuid 값
+     * @param authentication 현재 요청의 인증 정보
      * @author 송학현
      * @since 1.0
      */
-    private void tokenReissue(String uuid) {
-        AuthInfo authInfo = (AuthInfo) redisTemplate.opsForHash()
-                .get(uuid, JWT_CODE.getValue());
-        if (Objects.nonNull(authInfo) && isReissueRequired(authInfo)) {
+    private void tokenReissue(RequestAuthentication authentication) {
+        AuthInfo authInfo = authentication.getAuthInfo();
+        if (isReissueRequired(authInfo)) {
+            String uuid = authentication.getUuid();
             ResponseEntity<Void> response = memberAdapter.tokenReissue(uuid);
             String accessToken = response.getHeaders().get(HttpHeaders.AUTHORIZATION).get(0);
             String expiredTime = response.getHeaders().get(X_EXPIRE_HEADER).get(0);
             authInfo.setAccessToken(accessToken);
             authInfo.setExpiredTime(expiredTime);
             redisTemplate.opsForHash().put(uuid, JWT_CODE.getValue(), authInfo);
+            requestAuthenticationResolver.update(RequestAuthentication.of(uuid, authInfo));
         }
     }
 
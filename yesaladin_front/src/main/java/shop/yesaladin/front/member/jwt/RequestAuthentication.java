@@ -0,0 +1,54 @@
+package shop.yesaladin.front.member.jwt;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 하나의 요청 동안 공유하는 로그인 사용자의 인증 정보 입니다. 비로그인 사용자이거나 Redis에 인증 정보가 없다면 인증되지 않은 상태입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RequestAuthentication {
+
+    private static final RequestAuthentication ANONYMOUS = new RequestAuthentication(null, null);
+
+    private final String uuid;
+    private final AuthInfo authInfo;
+
+    public static RequestAuthentication anonymous() {
+        return ANONYMOUS;
+    }
+
+    public static RequestAuthentication of(String uuid, AuthInfo authInfo) {
+        if (Objects.isNull(uuid) || Objects.isNull(authInfo)) {
+            return ANONYMOUS;
+        }
+        return new RequestAuthentication(uuid, authInfo);
+    }
+
+    public boolean isAuthenticated() {
+        return Objects.nonNull(authInfo);
+    }
+
+    public String getLoginId() {
+        return isAuthenticated() ? authInfo.getLoginId() : null;
+    }
+
+    public String getAccessToken() {
+        return isAuthenticated() ? authInfo.getAccessToken() : null;
+    }
+
+    public List<String> getRoles() {
+        if (!isAuthenticated() || Objects.isNull(authInfo.getAuthorities())) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(authInfo.getAuthorities());
+    }
+}
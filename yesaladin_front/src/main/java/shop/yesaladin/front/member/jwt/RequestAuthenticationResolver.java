@@ -0,0 +1,119 @@
+package shop.yesaladin.front.member.jwt;
+
+import static shop.yesaladin.front.member.jwt.AuthUtil.JWT_CODE;
+import static shop.yesaladin.front.member.jwt.AuthUtil.UUID_CODE;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import shop.yesaladin.front.common.utils.CookieUtils;
+
+/**
+ * 현재 요청의 로그인 사용자 인증 정보를 요청 당 한 번만 조회하기 위한 클래스 입니다.
+ * <p>
+ * 조회한 인증 정보는 요청 attribute에 저장되므로, 같은 요청에서 수행되는 모든 RestTemplate 호출과 Controller가 Redis를 다시 조회하지 않고
+ * 공유합니다. 페이지 구성 thread에는 요청을 전달하지 않고, 요청 thread에서 조회한 인증 정보를 {@link #callWith}로 넘겨 사용합니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestAuthenticationResolver {
+
+    private static final String ATTRIBUTE = RequestAuthenticationResolver.class.getName();
+    private static final ThreadLocal<RequestAuthentication> BOUND = new ThreadLocal<>();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CookieUtils cookieUtils;
+
+    /**
+     * 현재 요청의 인증 정보를 반환합니다. 요청에서 처음 호출된 경우에만 Redis를 조회합니다.
+     *
+     * @return 현재 요청의 인증 정보
+     * @author 송학현
+     * @since 1.0
+     */
+    public RequestAuthentication resolve() {
+        RequestAuthentication bound = BOUND.get();
+        if (Objects.nonNull(bound)) {
+            return bound;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (Objects.isNull(authentication) || authentication instanceof AnonymousAuthenticationToken) {
+            return RequestAuthentication.anonymous();
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return RequestAuthentication.anonymous();
+        }
+
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        synchronized (request) {
+            RequestAuthentication cached = (RequestAuthentication) request.getAttribute(ATTRIBUTE);
+            if (Objects.nonNull(cached)) {
+                return cached;
+            }
+
+            RequestAuthentication resolved = load(request);
+            request.setAttribute(ATTRIBUTE, resolved);
+            return resolved;
+        }
+    }
+
+    /**
+     * 요청 thread에서 조회한 인증 정보로 supplier를 실행합니다. 실행 중인 thread에서 {@link #resolve()}는 요청이나 SecurityContext를
+     * 조회하지 않고 전달된 인증 정보를 반환합니다.
+     *
+     * @param authentication 요청 thread에서 조회한 인증 정보
+     * @param supplier       실행할 작업
+     * @param <T>            작업 결과 타입
+     * @return 작업 결과
+     * @author 송학현
+     * @since 1.0
+     */
+    public static <T> T callWith(RequestAuthentication authentication, Supplier<T> supplier) {
+        BOUND.set(authentication);
+        try {
+            return supplier.get();
+        } finally {
+            BOUND.remove();
+        }
+    }
+
+    /**
+     * 토큰 재발급 등으로 인증 정보가 바뀐 경우 현재 요청의 인증 정보를 교체합니다.
+     *
+     * @param authentication 교체할 인증 정보
+     * @author 송학현
+     * @since 1.0
+     */
+    public void update(RequestAuthentication authentication) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            ((ServletRequestAttributes) attributes).getRequest()
+                    .setAttribute(ATTRIBUTE, authentication);
+        }
+    }
+
+    private RequestAuthentication load(HttpServletRequest request) {
+        String uuid = cookieUtils.getValueFromCookie(request.getCookies(), UUID_CODE.getValue());
+        if (Objects.isNull(uuid)) {
+            return RequestAuthentication.anonymous();
+        }
+
+        AuthInfo authInfo = (AuthInfo) redisTemplate.opsForHash().get(uuid, JWT_CODE.getValue());
+        return RequestAuthentication.of(uuid, authInfo);
+    }
+}
@@ -1,7 +1,11 @@
 package shop.yesaladin.front.product.controller;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Controller;
@@ -10,7 +14,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import shop.yesaladin.front.common.composition.PageComposer;
 import shop.yesaladin.front.common.dto.PaginatedResponseDto;
+import shop.yesaladin.front.common.fragment.FragmentCache;
+import shop.yesaladin.front.common.fragment.PageFragments;
+import shop.yesaladin.front.config.FragmentCacheProperties;
 import shop.yesaladin.front.product.dto.SearchProductRequestDto;
 import shop.yesaladin.front.product.dto.SearchedProductResponseDto;
 import shop.yesaladin.front.product.service.inter.SearchProductService;
@@ -28,10 +36,16 @@ import shop.yesaladin.front.product.service.inter.SearchProductService;
 public class SearchProductWebController {
 
     private final SearchProductService searchProductService;
+    private final PageComposer pageComposer;
+    private final FragmentCache fragmentCache;
+    private final FragmentCacheProperties fragmentCacheProperties;
     private static final int BLOCK_SIZE = 3;
 
     /**
      * 상품의 제목, 내용, 저자, 출판사 등등으로 상품 검색하는 메서드
+     * <p>
+     * 검색은 페이지 구성 thread에서 수행하므로 backend 호출이 section 제한 시간 안에 끝납니다. 작업 thread에는 요청 대신 검색 조건과 페이지
+     * 정보만 넘깁니다.
      *
      * @param model      검색 데이터를 반영할 model
      * @param requestDto 요청 dto
@@ -45,37 +59,71 @@ public class SearchProductWebController {
             @ModelAttribute SearchProductRequestDto requestDto,
             @PageableDefault Pageable pageable
     ) {
-        PaginatedResponseDto<SearchedProductResponseDto> response = searchProductService.searchProductsByProductField(
-                requestDto,
-                pageable
+        SearchProductRequestDto condition = new SearchProductRequestDto(
+                requestDto.getSelected(),
+                requestDto.getInput()
         );
-        getDefaultInfo(model, response);
-        model.addAttribute("selected", requestDto.getSelected());
-        model.addAttribute("input", requestDto.getInput());
-        model.addAttribute("size", pageable.getPageSize());
+        Pageable page = PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                pageable.getSort()
+        );
+        pageComposer.compose("search", model)
+                .requiredAttributes("searchedProducts", () -> getDefaultInfo(
+                        searchProductService.searchProductsByProductField(condition, page)
+                ))
+                .render();
+        model.addAttribute("selected", condition.getSelected());
+        model.addAttribute("input", condition.getInput());
+        model.addAttribute("size", page.getPageSize());
         return "main/product/searched-products";
     }
 
+    /**
+     * 카테고리별 상품 목록을 반환합니다. 목록은 모든 사용자에게 같으므로 카테고리와 페이지 별로 렌더링 결과를 캐시합니다. 캐시되지 않은 목록의
+     * 조회는 페이지 구성 thread에서 section 제한 시간 안에 수행합니다.
+     *
+     * @param model      렌더링된 목록을 반영할 model
+     * @param categoryId 조회할 카테고리 id
+     * @param pageable   페이지 정보
+     * @return 카테고리별 상품 목록 페이지
+     * @author 김선홍
+     * @since 1.0
+     */
     @GetMapping("/categories")
     public String searchProductByCategory(
             Model model,
             @RequestParam(name = "categoryid") Long categoryId,
             @PageableDefault Pageable pageable
     ) {
-        PaginatedResponseDto<SearchedProductResponseDto> response = searchProductService.searchProductByCategoryId(
-                categoryId,
-                pageable
+        Pageable page = PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                pageable.getSort()
         );
-        getDefaultInfo(model, response);
-        model.addAttribute("categoriesid", categoryId);
+        pageComposer.compose("category", model)
+                .required("categoryProductsFragment", () -> fragmentCache.render(
+                        PageFragments.categoryProducts(categoryId, page),
+                        Duration.ofSeconds(fragmentCacheProperties.getCategoryTtlSeconds()),
+                        () -> {
+                            Map<String, Object> variables = new HashMap<>(getDefaultInfo(
+                                    searchProductService.searchProductByCategoryId(categoryId, page)
+                            ));
+                            variables.put("categoriesid", categoryId);
+                            return variables;
+                        }
+                ))
+                .render();
         return "main/product/category-products";
     }
 
-    private void getDefaultInfo(Model model, PaginatedResponseDto<SearchedProductResponseDto> dto) {
-        model.addAttribute("totalPage", dto.getTotalPage());
-        model.addAttribute("currentPage", dto.getCurrentPage());
-        model.addAttribute("totalDataCount", dto.getTotalDataCount());
-        model.addAttribute("products", dto.getDataList());
-        model.addAttribute("url", "/search/products");
+    private Map<String, Object> getDefaultInfo(PaginatedResponseDto<SearchedProductResponseDto> dto) {
+        return Map.of(
+                "totalPage", dto.getTotalPage(),
+                "currentPage", dto.getCurrentPage(),
+                "totalDataCount", dto.getTotalDataCount(),
+                "products", dto.getDataList(),
+                "url", "/search/products"
+        );
     }
 }
@@ -1,27 +1,28 @@
 package shop.yesaladin.front.product.controller.web;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import shop.yesaladin.front.common.composition.PageComposer;
 import shop.yesaladin.front.common.dto.PageRequestDto;
 import shop.yesaladin.front.common.dto.PaginatedResponseDto;
-import shop.yesaladin.front.common.utils.CookieUtils;
-import shop.yesaladin.front.product.dto.ProductDetailResponseDto;
+import shop.yesaladin.front.common.fragment.FragmentCache;
+import shop.yesaladin.front.common.fragment.PageFragments;
+import shop.yesaladin.front.common.utils.RecentViewOwnerResolver;
+import shop.yesaladin.front.config.FragmentCacheProperties;
 import shop.yesaladin.front.product.dto.ProductsResponseDto;
+import shop.yesaladin.front.product.dto.RecentViewOwner;
 import shop.yesaladin.front.product.service.inter.QueryProductService;
 import shop.yesaladin.front.product.service.inter.QueryProductTypeService;
+import shop.yesaladin.front.product.service.inter.RecentViewService;
 
-import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.net.URLDecoder;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.*;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * 상품 모든 사용자용 조회 페이지를 위한 Controller 입니다.
@@ -39,14 +40,19 @@ public class ProductMainWebController {
     private final QueryProductService queryProductService;
     private final QueryProductTypeService queryProductTypeService;
     private static final String DETAIL_VIEW = "main/product/product";
-    private static final String RECENT = "recent";
     private static final String WISHLIST = "isWishlist";
-    private final ObjectMapper objectMapper;
-    private final CookieUtils cookieUtils;
+    private final RecentViewService recentViewService;
+    private final RecentViewOwnerResolver recentViewOwnerResolver;
+    private final PageComposer pageComposer;
+    private final FragmentCache fragmentCache;
+    private final FragmentCacheProperties fragmentCacheProperties;
 
     /**
-     * [GET /products/{productId}] 상품 상세 조회 View를 반환합니다. 최근 본 상품 리스트에 productid 를 추가합니다. 위시리스트에 해당
-     * 상품이 등록되어있는지 확인합니다.
+     * [GET /products/{productId}] 상품 상세 조회 View를 반환합니다. 최근 본 상품에 productId 를 기록합니다. 위시리스트에 해당
+     * 상품이 등록되어있는지 확인합니다. 상품 상세 정보는 모든 사용자에게 같으므로 렌더링 결과를 캐시합니다.
+     * <p>
+     * 상품 상세 조회와 최근 본 상품 기록은 병렬로 수행합니다. 최근 본 상품의 소유자는 쿠키를 발급할 수 있도록 요청 thread에서 먼저 결정하고,
+     * 작업 thread에는 결정된 소유자와 상품 id만 넘깁니다. 최근 본 상품 기록에 실패해도 상품 상세 페이지는 표시합니다.
      *
      * @param model 뷰로 데이터 전달
      * @return 상품 상세 조회 form
@@ -58,13 +64,26 @@ public class ProductMainWebController {
     public String product(
             @PathVariable long productId,
             Model model,
-            @CookieValue(name = "recent", required = false) Cookie recent,
-            HttpServletResponse httpServletResponse
-    ) throws JsonProcessingException {
-        ProductDetailResponseDto response = queryProductService.getProductDetail(productId);
-        model.addAttribute(response);
-        model.addAttribute(WISHLIST, false);
-        checkCookieValue(recent, httpServletResponse, productId);
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) {
+        RecentViewOwner owner = recentViewOwnerResolver.resolve(request, response);
+        pageComposer.compose("product", model)
+                .required("productDetailFragment", () -> fragmentCache.render(
+                        PageFragments.productDetail(productId),
+                        Duration.ofSeconds(fragmentCacheProperties.getProductTtlSeconds()),
+                        () -> Map.of(
+                                "productDetailResponseDto",
+                                queryProductService.getProductDetail(productId),
+                                WISHLIST,
+                                false
+                        )
+                ))
+                .section("recentViewRecorded", () -> {
+                    recentViewService.record(owner, productId);
+                    return true;
+                }, false)
+                .render();
         return DETAIL_VIEW;
     }
 
@@ -91,7 +110,6 @@ public class ProductMainWebController {
                 new PageRequestDto(page, size),
                 typeId
         );
-
         Map<String, Object> pageInfoMap = getPageInfo(products);
         model.addAllAttributes(pageInfoMap);
 
@@ -122,50 +140,4 @@ public class ProductMainWebController {
                 "tags", products.getDataList()
         );
     }
-
-    /**
-     * 최근 본 상품 쿠키의 값을 확인(없을 경우 생성) 쿠키에 Set 을 문자열로 parse 후 인코딩 후 쿠키 값에 set 함
-     *
-     * @param recent    최근 본 상품이 담겨 있는 쿠키
-     * @param response  쿠키를 담을 HttpServletResponse
-     * @param productId 현재 상세 페이지로 넘어가는 상품의 id
-     * @throws JsonProcessingException 최근 본 상품 list 의 json 파싱 오류
-     * @author 김선홍
-     * @since 1.0
-     */
-    private void checkCookieValue(Cookie recent, HttpServletResponse response, Long productId)
-            throws JsonProcessingException {
-        if (Objects.nonNull(recent) && recent.getName().equals(RECENT)) {
-            Set<Long> recentViewProductList = objectMapper.readValue(
-                    URLDecoder.decode(recent.getValue(), StandardCharsets.UTF_8),
-                    new TypeReference<LinkedHashSet<Long>>() {
-                    }
-            );
-            recentViewProductList.remove(productId);
-            recentViewProductList.add(productId);
-            response.addCookie(createCookie(recentViewProductList));
-            return;
-        }
-        Set<Long> recentViewProductList = new LinkedHashSet<>();
-        recentViewProductList = Collections.synchronizedSet(recentViewProductList);
-        recentViewProductList.add(productId);
-        response.addCookie(createCookie(recentViewProductList));
-    }
-
-    /**
-     * 쿠키 생성 메서드
-     *
-     * @param value 최근 본 상품이 담겨 있는 리스트
-     * @return 최근 본 상품 리스트가 담겨 있는 쿠키
-     * @throws JsonProcessingException 최근 본 상품 list 의 json 파싱 오류
-     * @author 김선홍
-     * @since 1.0
-     */
-    private Cookie createCookie(Set<Long> value) throws JsonProcessingException {
-        return cookieUtils.createCookie(
-                RECENT,
-                URLEncoder.encode(objectMapper.writeValueAsString(value), StandardCharsets.UTF_8),
-                259200
-        );
-    }
 }
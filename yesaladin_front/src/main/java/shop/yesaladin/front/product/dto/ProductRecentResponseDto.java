@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 최근 본 상품과 신작 작품의 ResponseDto
@@ -21,10 +22,15 @@ public class ProductRecentResponseDto {
     private Long id;
     private String title;
     private String thumbnailFileUrl;
+    private Map<String, String> thumbnailVariantUrls;
     private long sellingPrice;
     private int rate;
     private String publisher;
     private List<String> author;
     private Boolean isForcedOutOfStock;
     private Long quantity;
+
+    public String getMediumThumbnailUrl() {
+        return ThumbnailVariant.MEDIUM.resolve(thumbnailVariantUrls, thumbnailFileUrl);
+    }
 }
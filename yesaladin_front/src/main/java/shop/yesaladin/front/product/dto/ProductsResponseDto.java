@@ -9,6 +9,7 @@ import shop.yesaladin.front.tag.dto.TagResponseDto;
 import shop.yesaladin.front.writing.dto.AuthorsResponseDto;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 전체 조회 응답을 하기 위한 Dto 입니다.
@@ -38,9 +39,14 @@ public class ProductsResponseDto {
     private Boolean isDeleted;
 
     private String thumbnailFileUrl;
+    private Map<String, String> thumbnailVariantUrls;
     private List<TagResponseDto> tags;
     private String ebookFileUrl;
 
     private Boolean isEbook;
     private Boolean isSubscribeProduct;
+
+    public String getMediumThumbnailUrl() {
+        return ThumbnailVariant.MEDIUM.resolve(thumbnailVariantUrls, thumbnailFileUrl);
+    }
 }
@@ -0,0 +1,33 @@
+package shop.yesaladin.front.product.dto;
+
+import java.time.Duration;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 최근 본 상품 기록의 소유자 입니다. 회원은 loginId, 비회원은 RECENT_NO 쿠키의 값으로 구분합니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RecentViewOwner {
+
+    private static final String MEMBER_PREFIX = "RECENT:MEMBER:";
+    private static final String GUEST_PREFIX = "RECENT:GUEST:";
+    private static final Duration MEMBER_TTL = Duration.ofDays(30);
+    private static final Duration GUEST_TTL = Duration.ofDays(3);
+
+    private final String key;
+    private final Duration ttl;
+
+    public static RecentViewOwner member(String loginId) {
+        return new RecentViewOwner(MEMBER_PREFIX + loginId, MEMBER_TTL);
+    }
+
+    public static RecentViewOwner guest(String guestNo) {
+        return new RecentViewOwner(GUEST_PREFIX + guestNo, GUEST_TTL);
+    }
+}
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 상품 검색 결과 ResponseDto
@@ -25,6 +26,7 @@ public class SearchedProductResponseDto {
     private int rate;
     private Boolean isForcedOutOfStock;
     private String thumbnailFile;
+    private Map<String, String> thumbnailVariantUrls;
     private String publisher;
     private LocalDate publishedDate;
     private Boolean isEbook;
@@ -39,4 +41,8 @@ public class SearchedProductResponseDto {
     public String[] getAuthorsArray() {
         return authors.get(0).split(",");
     }
+
+    public String getMediumThumbnailUrl() {
+        return ThumbnailVariant.MEDIUM.resolve(thumbnailVariantUrls, thumbnailFile);
+    }
 }
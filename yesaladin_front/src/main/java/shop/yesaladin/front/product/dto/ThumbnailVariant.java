@@ -0,0 +1,38 @@
+package shop.yesaladin.front.product.dto;
+
+import java.util.Map;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 썸네일 변환본의 종류 입니다.
+ * <p>
+ * 목록에서는 원본 대신 작은 변환본을 보여주고, 변환본의 url을 받지 못한 경우 원본 url을 사용합니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ThumbnailVariant {
+    SMALL("small"), MEDIUM("medium");
+
+    private final String variantName;
+
+    /**
+     * 변환본 url 목록에서 이 종류의 url을 찾습니다.
+     *
+     * @param variantUrls 변환본 종류 이름을 key로 하는 변환본 url
+     * @param originalUrl 원본 파일의 url
+     * @return 변환본의 url, 없는 경우 원본 파일의 url
+     * @author 송학현
+     * @since 1.0
+     */
+    public String resolve(Map<String, String> variantUrls, String originalUrl) {
+        if (Objects.isNull(variantUrls)) {
+            return originalUrl;
+        }
+        return variantUrls.getOrDefault(variantName, originalUrl);
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 import shop.yesaladin.common.dto.ResponseDto;
+import shop.yesaladin.front.common.fragment.ProductFragmentEvictor;
 import shop.yesaladin.front.config.GatewayConfig;
 import shop.yesaladin.front.file.dto.FileUploadResponseDto;
 import shop.yesaladin.front.file.service.inter.FileStorageService;
@@ -17,10 +18,13 @@ import shop.yesaladin.front.product.dto.*;
 import shop.yesaladin.front.product.service.inter.CommandProductService;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
 
 /**
  * 상품 등록/수정/삭제를 요청하기 위한 Service 구현체 입니다.
+ * <p>
+ * 요청이 성공하면 shop 서버의 변경 알림을 기다리지 않고 해당 상품이 표시되는 페이지 fragment 캐시를 바로 무효화합니다.
  *
  * @author 이수정
  * @since 1.0
@@ -36,6 +40,8 @@ public class CommandProductServiceImpl implements CommandProductService {
 
     private final GatewayConfig gatewayConfig;
 
+    private final ProductFragmentEvictor productFragmentEvictor;
+
     /**
      * {@inheritDoc}
      */
@@ -77,7 +83,9 @@ public class CommandProductServiceImpl implements CommandProductService {
                 new ParameterizedTypeReference<ResponseDto<ProductOnlyIdDto>>() {
                 }
         );
-        return Objects.requireNonNull(response.getBody()).getData().getId();
+        long productId = Objects.requireNonNull(response.getBody()).getData().getId();
+        evictProductFragments(productId);
+        return productId;
     }
 
     /**
@@ -125,6 +133,7 @@ public class CommandProductServiceImpl implements CommandProductService {
                 new ParameterizedTypeReference<ResponseDto<ProductOnlyIdDto>>() {
                 }
         );
+        evictProductFragments(productId);
     }
 
     /**
@@ -137,6 +146,7 @@ public class CommandProductServiceImpl implements CommandProductService {
 
         HttpEntity httpEntity = new HttpEntity(headers);
         restTemplate.postForEntity(gatewayConfig.getShopUrl() + "/v1/products/" + productId, httpEntity, Void.class);
+        evictProductFragments(productId);
     }
 
     /**
@@ -149,6 +159,7 @@ public class CommandProductServiceImpl implements CommandProductService {
 
         HttpEntity httpEntity = new HttpEntity(headers);
         restTemplate.exchange(gatewayConfig.getShopUrl() + "/v1/products/" + productId + "/is-sale", HttpMethod.POST, httpEntity, Void.class);
+        evictProductFragments(productId);
     }
 
     /**
@@ -161,6 +172,18 @@ public class CommandProductServiceImpl implements CommandProductService {
 
         HttpEntity httpEntity = new HttpEntity(headers);
         restTemplate.exchange(gatewayConfig.getShopUrl() + "/v1/products/" + productId + "/is-forced-out-of-stock", HttpMethod.POST, httpEntity, Void.class);
+        evictProductFragments(productId);
+    }
+
+    /**
+     * 상품이 표시되는 상세, 카테고리 목록, 메인 페이지의 fragment 캐시를 무효화합니다.
+     *
+     * @param productId 변경된 상품의 id
+     * @author 이수정
+     * @since 1.0
+     */
+    private void evictProductFragments(long productId) {
+        productFragmentEvictor.evict(List.of(productId));
     }
 
 }
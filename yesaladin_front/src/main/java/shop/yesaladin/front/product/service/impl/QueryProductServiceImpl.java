@@ -1,13 +1,10 @@
 package shop.yesaladin.front.product.service.impl;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -19,6 +16,7 @@ import shop.yesaladin.front.product.dto.*;
 import shop.yesaladin.front.product.service.inter.QueryProductService;
 
 import java.net.URI;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -36,11 +34,8 @@ public class QueryProductServiceImpl implements QueryProductService {
     private final String PATH = "/v1/products";
 
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
     private static final ParameterizedTypeReference<ResponseDto<PaginatedResponseDto<RelationsResponseDto>>> RELATION_PRODUCTION_CODE = new ParameterizedTypeReference<>() {
     };
-    private static final ParameterizedTypeReference<ResponseDto<PaginatedResponseDto<ProductRecentResponseDto>>> RECENT_PRODUCTION_CODE = new ParameterizedTypeReference<>() {
-    };
 
     @Value("${yesaladin.gateway.shop}")
     private String url;
@@ -339,28 +334,28 @@ public class QueryProductServiceImpl implements QueryProductService {
         return Objects.requireNonNull(responseEntity.getBody()).getData();
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    public PaginatedResponseDto<ProductRecentResponseDto> findRecentViewProduct(
-            RecentViewProductRequestDto dto,
-            @PageableDefault Pageable pageable
-    ) throws JsonProcessingException {
-        String uri = UriComponentsBuilder
+    public List<ProductRecentResponseDto> findProductSummaries(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        URI uri = UriComponentsBuilder
                 .fromUriString(url)
-                .path(PATH + "/recentview/product")
-                .queryParam("size", pageable.getPageSize())
-                .queryParam("page", pageable.getPageNumber())
-                .toUriString();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        String requestJson = objectMapper.writeValueAsString(dto);
-        HttpEntity<String> httpEntity = new HttpEntity<>(requestJson, headers);
+                .path(PATH + "/summaries")
+                .queryParam("ids", ids.toArray())
+                .encode()
+                .build()
+                .toUri();
 
-        ResponseEntity<ResponseDto<PaginatedResponseDto<ProductRecentResponseDto>>> responseEntity = restTemplate.exchange(
+        ResponseEntity<ResponseDto<List<ProductRecentResponseDto>>> responseEntity = restTemplate.exchange(
                 uri,
-                HttpMethod.POST,
-                httpEntity,
-                RECENT_PRODUCTION_CODE
+                HttpMethod.GET,
+                getHttpEntity(),
+                new ParameterizedTypeReference<>() {
+                }
         );
         return Objects.requireNonNull(responseEntity.getBody()).getData();
     }
@@ -0,0 +1,134 @@
+package shop.yesaladin.front.product.service.impl;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+import shop.yesaladin.front.common.dto.PaginatedResponseDto;
+import shop.yesaladin.front.product.dto.RecentViewOwner;
+import shop.yesaladin.front.product.service.inter.RecentViewService;
+
+/**
+ * Redis Sorted Set에 최근 본 상품을 저장하는 RecentViewService 구현체 입니다.
+ * <p>
+ * 기록과 삭제는 O(log n)이며, 한 페이지 조회는 전체 개수와 함께 한 번의 script 호출로 수행됩니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Service
+public class RecentViewServiceImpl implements RecentViewService {
+
+    private static final RedisScript<Long> RECORD = script("record", Long.class);
+    private static final RedisScript<List> PAGE = script("page", List.class);
+    private static final RedisScript<Long> REMOVE = script("remove", Long.class);
+    private static final RedisScript<Long> MERGE = script("merge", Long.class);
+
+    private static final RedisSerializer<String> STRING_SERIALIZER = new StringRedisSerializer();
+    private static final RedisSerializer<Long> LONG_SERIALIZER = new GenericToStringSerializer<>(
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(RecentViewOwner owner, long productId) {
+        redisTemplate.execute(
+                RECORD,
+                STRING_SERIALIZER,
+                LONG_SERIALIZER,
+                List.of(owner.getKey()),
+                String.valueOf(productId),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(CAPACITY),
+                seconds(owner.getTtl())
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public PaginatedResponseDto<Long> getPage(RecentViewOwner owner, Pageable pageable) {
+        long start = pageable.getOffset();
+        List<String> result = redisTemplate.execute(
+                PAGE,
+                STRING_SERIALIZER,
+                (RedisSerializer<List>) (RedisSerializer<?>) STRING_SERIALIZER,
+                List.of(owner.getKey()),
+                String.valueOf(start),
+                String.valueOf(start + pageable.getPageSize() - 1),
+                seconds(owner.getTtl())
+        );
+
+        long total = Long.parseLong(Objects.requireNonNull(result).get(0));
+        List<Long> ids = result.subList(1, result.size()).stream()
+                .map(Long::parseLong)
+                .collect(Collectors.toList());
+        return PaginatedResponseDto.<Long>builder()
+                .dataList(ids)
+                .currentPage(pageable.getPageNumber())
+                .totalPage((total + pageable.getPageSize() - 1) / pageable.getPageSize())
+                .totalDataCount(total)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(RecentViewOwner owner, long productId) {
+        redisTemplate.execute(
+                REMOVE,
+                STRING_SERIALIZER,
+                LONG_SERIALIZER,
+                List.of(owner.getKey()),
+                String.valueOf(productId),
+                seconds(owner.getTtl())
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int merge(RecentViewOwner guest, RecentViewOwner member) {
+        Long merged = redisTemplate.execute(
+                MERGE,
+                STRING_SERIALIZER,
+                LONG_SERIALIZER,
+                Arrays.asList(guest.getKey(), member.getKey()),
+                String.valueOf(CAPACITY),
+                seconds(member.getTtl())
+        );
+        return Math.toIntExact(Objects.requireNonNull(merged));
+    }
+
+    private static String seconds(Duration ttl) {
+        return String.valueOf(ttl.getSeconds());
+    }
+
+    private static <T> RedisScript<T> script(String name, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(
+                "scripts/recent/" + name + ".lua")));
+        script.setResultType(resultType);
+        return script;
+    }
+}
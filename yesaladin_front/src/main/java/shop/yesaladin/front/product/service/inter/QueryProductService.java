@@ -1,6 +1,5 @@
 package shop.yesaladin.front.product.service.inter;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.springframework.data.domain.Pageable;
 import shop.yesaladin.front.common.dto.PageRequestDto;
 import shop.yesaladin.front.common.dto.PaginatedResponseDto;
@@ -147,16 +146,12 @@ public interface QueryProductService {
     List<ProductRecentResponseDto> findRecentProduct(Pageable pageable);
 
     /**
-     * 최근 본 상품 조회 메서드
+     * 상품 id 목록의 요약 정보를 한 번의 요청으로 조회합니다.
      *
-     * @param dto      최근 본 상품 요청 dto
-     * @param pageable 페이지 정보
-     * @return 최근 본 상품의 정보 리스트
+     * @param ids 조회할 상품 id 리스트
+     * @return 요청한 id 순서대로 정렬된 상품 요약 리스트
      * @author 김선홍
      * @since 1.0
      */
-    PaginatedResponseDto<ProductRecentResponseDto> findRecentViewProduct(
-            RecentViewProductRequestDto dto,
-            Pageable pageable
-    ) throws JsonProcessingException;
+    List<ProductRecentResponseDto> findProductSummaries(List<Long> ids);
 }
@@ -0,0 +1,61 @@
+package shop.yesaladin.front.product.service.inter;
+
+import org.springframework.data.domain.Pageable;
+import shop.yesaladin.front.common.dto.PaginatedResponseDto;
+import shop.yesaladin.front.product.dto.RecentViewOwner;
+
+/**
+ * 최근 본 상품을 기록하고 조회하기 위한 service 입니다.
+ * <p>
+ * 최근 본 상품은 본 시각을 score로 하는 Redis Sorted Set에 최대 {@link #CAPACITY}개까지 저장되며, 모든 변경은 만료 시간 갱신을
+ * 포함하여 원자적으로 수행됩니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+public interface RecentViewService {
+
+    int CAPACITY = 100;
+
+    /**
+     * 상품을 본 것으로 기록합니다. 이미 기록된 상품은 가장 최근에 본 상품이 됩니다.
+     *
+     * @param owner     최근 본 상품의 소유자 입니다.
+     * @param productId 본 상품의 id 입니다.
+     * @author 김선홍
+     * @since 1.0
+     */
+    void record(RecentViewOwner owner, long productId);
+
+    /**
+     * 최근 본 상품의 id를 최근 순으로 한 페이지 조회합니다.
+     *
+     * @param owner    최근 본 상품의 소유자 입니다.
+     * @param pageable 페이지 정보 입니다.
+     * @return 최근 본 상품 id와 페이지 정보
+     * @author 김선홍
+     * @since 1.0
+     */
+    PaginatedResponseDto<Long> getPage(RecentViewOwner owner, Pageable pageable);
+
+    /**
+     * 최근 본 상품에서 상품을 삭제합니다.
+     *
+     * @param owner     최근 본 상품의 소유자 입니다.
+     * @param productId 삭제할 상품의 id 입니다.
+     * @author 김선홍
+     * @since 1.0
+     */
+    void remove(RecentViewOwner owner, long productId);
+
+    /**
+     * 비회원의 최근 본 상품을 회원의 최근 본 상품에 합치고 비회원의 기록을 삭제합니다.
+     *
+     * @param guest  비회원 소유자 입니다.
+     * @param member 회원 소유자 입니다.
+     * @return 합친 뒤의 최근 본 상품 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    int merge(RecentViewOwner guest, RecentViewOwner member);
+}
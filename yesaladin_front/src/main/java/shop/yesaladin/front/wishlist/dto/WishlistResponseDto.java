@@ -2,9 +2,11 @@ package shop.yesaladin.front.wishlist.dto;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import shop.yesaladin.front.product.dto.ThumbnailVariant;
 
 /**
  * 위시리스트 response DTO
@@ -19,6 +21,7 @@ public class WishlistResponseDto {
     private Long id;
     private String title;
     private String thumbnailFileUrl;
+    private Map<String, String> thumbnailVariantUrls;
     private long sellingPrice;
     private int rate;
     private String publisher;
@@ -26,4 +29,8 @@ public class WishlistResponseDto {
     private Boolean isForcedOutOfStock;
     private Long quantity;
     private LocalDateTime registeredDateTime;
+
+    public String getMediumThumbnailUrl() {
+        return ThumbnailVariant.MEDIUM.resolve(thumbnailVariantUrls, thumbnailFileUrl);
+    }
 }
@@ -0,0 +1,10 @@
+-- 1개만 담을 수 있는 상품을 장바구니에 추가합니다. 이미 담긴 상품이면 -1을 반환합니다.
+-- KEYS[1] 장바구니 key, KEYS[2] 1개만 담을 수 있는 상품 id set key, ARGV[1] 상품 id, ARGV[2] 수량, ARGV[3] 만료 시간(초)
+if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then
+    return -1
+end
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+redis.call('SADD', KEYS[2], ARGV[1])
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+redis.call('EXPIRE', KEYS[2], ARGV[3])
+return tonumber(ARGV[2])
@@ -0,0 +1,27 @@
+-- 장바구니 상품의 수량을 증감합니다. 수량이 0 이하가 되면 상품을 삭제하고 변경된 수량을 반환합니다.
+-- 1개만 담을 수 있는 상품의 수량은 1을 넘지 않습니다.
+-- KEYS[1] 장바구니 key, KEYS[2] 1개만 담을 수 있는 상품 id set key, ARGV[1] 상품 id, ARGV[2] 증감할 수량, ARGV[3] 만료 시간(초)
+local function toQuantity(value)
+    if not value then
+        return 0
+    end
+    return tonumber((string.gsub(value, '"', ''))) or 0
+end
+
+local quantity = toQuantity(redis.call('HGET', KEYS[1], ARGV[1])) + tonumber(ARGV[2])
+if quantity <= 0 then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    redis.call('SREM', KEYS[2], ARGV[1])
+    quantity = 0
+else
+    if quantity > 1 and redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+        quantity = 1
+    end
+    redis.call('HSET', KEYS[1], ARGV[1], tostring(quantity))
+end
+for _, key in ipairs(KEYS) do
+    if redis.call('EXISTS', key) == 1 then
+        redis.call('EXPIRE', key, ARGV[3])
+    end
+end
+return quantity
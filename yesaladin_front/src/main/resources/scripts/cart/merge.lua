@@ -0,0 +1,35 @@
+-- 비회원 장바구니를 회원 장바구니에 합치고 비회원 장바구니를 삭제합니다. 합쳐진 상품 수를 반환합니다.
+-- 어느 한 쪽에서라도 1개만 담을 수 있는 상품으로 담긴 상품은 합산하지 않고 수량을 1로 둡니다.
+-- KEYS[1] 비회원 장바구니 key, KEYS[2] 회원 장바구니 key,
+-- KEYS[3] 비회원 장바구니의 1개만 담을 수 있는 상품 id set key, KEYS[4] 회원 장바구니의 1개만 담을 수 있는 상품 id set key,
+-- ARGV[1] 회원 장바구니 만료 시간(초)
+local function toQuantity(value)
+    if not value then
+        return 0
+    end
+    return tonumber((string.gsub(value, '"', ''))) or 0
+end
+
+local function isOnce(productId)
+    return redis.call('SISMEMBER', KEYS[3], productId) == 1
+            or redis.call('SISMEMBER', KEYS[4], productId) == 1
+end
+
+local items = redis.call('HGETALL', KEYS[1])
+for i = 1, #items, 2 do
+    local quantity = toQuantity(redis.call('HGET', KEYS[2], items[i])) + toQuantity(items[i + 1])
+    if quantity > 0 then
+        if isOnce(items[i]) then
+            quantity = 1
+            redis.call('SADD', KEYS[4], items[i])
+        end
+        redis.call('HSET', KEYS[2], items[i], tostring(quantity))
+    end
+end
+redis.call('DEL', KEYS[1], KEYS[3])
+for i = 2, 4, 2 do
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        redis.call('EXPIRE', KEYS[i], ARGV[1])
+    end
+end
+return #items / 2
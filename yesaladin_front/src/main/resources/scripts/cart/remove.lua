@@ -0,0 +1,10 @@
+-- 장바구니에서 상품을 삭제하고 삭제된 상품 수를 반환합니다.
+-- KEYS[1] 장바구니 key, KEYS[2] 1개만 담을 수 있는 상품 id set key, ARGV[1] 상품 id, ARGV[2] 만료 시간(초)
+local removed = redis.call('HDEL', KEYS[1], ARGV[1])
+redis.call('SREM', KEYS[2], ARGV[1])
+for _, key in ipairs(KEYS) do
+    if redis.call('EXISTS', key) == 1 then
+        redis.call('EXPIRE', key, ARGV[2])
+    end
+end
+return removed
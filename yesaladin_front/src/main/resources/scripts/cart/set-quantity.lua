@@ -0,0 +1,20 @@
+-- 장바구니 상품의 수량을 변경합니다. 수량이 0 이하이면 상품을 삭제합니다.
+-- 1개만 담을 수 있는 상품의 수량은 1을 넘지 않습니다.
+-- KEYS[1] 장바구니 key, KEYS[2] 1개만 담을 수 있는 상품 id set key, ARGV[1] 상품 id, ARGV[2] 수량, ARGV[3] 만료 시간(초)
+local quantity = tonumber(ARGV[2])
+if quantity <= 0 then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    redis.call('SREM', KEYS[2], ARGV[1])
+    quantity = 0
+else
+    if quantity > 1 and redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+        quantity = 1
+    end
+    redis.call('HSET', KEYS[1], ARGV[1], tostring(quantity))
+end
+for _, key in ipairs(KEYS) do
+    if redis.call('EXISTS', key) == 1 then
+        redis.call('EXPIRE', key, ARGV[3])
+    end
+end
+return quantity
@@ -0,0 +1,8 @@
+-- fragment별 색인에 등록된 모든 key와 색인을 삭제합니다. 삭제한 key의 수를 반환합니다.
+-- KEYS[1] 색인 key
+local keys = redis.call('SMEMBERS', KEYS[1])
+for i = 1, #keys, 500 do
+    redis.call('DEL', unpack(keys, i, math.min(i + 499, #keys)))
+end
+redis.call('DEL', KEYS[1])
+return #keys
@@ -0,0 +1,8 @@
+-- 렌더링된 fragment를 저장하고 fragment별 색인에 key를 추가합니다.
+-- KEYS[1] fragment key, KEYS[2] 색인 key, ARGV[1] 렌더링 결과, ARGV[2] 만료 시간(초)
+redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+redis.call('SADD', KEYS[2], KEYS[1])
+if redis.call('TTL', KEYS[2]) < tonumber(ARGV[2]) then
+    redis.call('EXPIRE', KEYS[2], ARGV[2])
+end
+return 1
@@ -0,0 +1,11 @@
+-- 비회원의 최근 본 상품을 회원의 최근 본 상품에 합치고 비회원의 기록을 삭제합니다. 같은 상품은 더 최근에 본 시각을 남깁니다.
+-- 합친 뒤의 상품 수를 반환합니다.
+-- KEYS[1] 비회원 key, KEYS[2] 회원 key, ARGV[1] 최대 개수, ARGV[2] 회원 만료 시간(초)
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return redis.call('ZCARD', KEYS[2])
+end
+redis.call('ZUNIONSTORE', KEYS[2], 2, KEYS[2], KEYS[1], 'AGGREGATE', 'MAX')
+redis.call('DEL', KEYS[1])
+redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -tonumber(ARGV[1]) - 1)
+redis.call('EXPIRE', KEYS[2], ARGV[2])
+return redis.call('ZCARD', KEYS[2])
@@ -0,0 +1,10 @@
+-- 최근 본 상품을 최근 순으로 한 페이지 조회하고 만료 시간을 갱신합니다. 첫 번째 값은 전체 상품 수, 이후 값은 상품 id 입니다.
+-- KEYS[1] 최근 본 상품 key, ARGV[1] 시작 순위, ARGV[2] 끝 순위, ARGV[3] 만료 시간(초)
+local total = redis.call('ZCARD', KEYS[1])
+if total == 0 then
+    return { '0' }
+end
+local ids = redis.call('ZREVRANGE', KEYS[1], ARGV[1], ARGV[2])
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+table.insert(ids, 1, tostring(total))
+return ids
@@ -0,0 +1,6 @@
+-- 최근 본 상품을 기록합니다. 이미 있는 상품은 본 시각만 갱신되며, 최대 개수를 넘는 오래된 상품은 삭제됩니다. 기록된 상품 수를 반환합니다.
+-- KEYS[1] 최근 본 상품 key, ARGV[1] 상품 id, ARGV[2] 본 시각(epoch millis), ARGV[3] 최대 개수, ARGV[4] 만료 시간(초)
+redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[3]) - 1)
+redis.call('EXPIRE', KEYS[1], ARGV[4])
+return redis.call('ZCARD', KEYS[1])
@@ -0,0 +1,7 @@
+-- 최근 본 상품에서 상품을 삭제합니다. 삭제된 상품 수를 반환합니다.
+-- KEYS[1] 최근 본 상품 key, ARGV[1] 상품 id, ARGV[2] 만료 시간(초)
+local removed = redis.call('ZREM', KEYS[1], ARGV[1])
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call('EXPIRE', KEYS[1], ARGV[2])
+end
+return removed
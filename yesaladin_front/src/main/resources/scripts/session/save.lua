@@ -0,0 +1,21 @@
+-- 세션의 변경분만 저장하고 version을 증가시킵니다. 증가된 version을 반환합니다.
+-- KEYS[1] 이전 세션 key, KEYS[2] 현재 세션 key
+-- ARGV[1] 만료 시간(초, 0 이하면 만료 없음), ARGV[2] 저장할 field 개수, 이어서 field/value 쌍, 나머지는 삭제할 field
+if KEYS[1] ~= KEYS[2] and redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call('RENAME', KEYS[1], KEYS[2])
+end
+local index = 3
+for _ = 1, tonumber(ARGV[2]) do
+    redis.call('HSET', KEYS[2], ARGV[index], ARGV[index + 1])
+    index = index + 2
+end
+for i = index, #ARGV do
+    redis.call('HDEL', KEYS[2], ARGV[i])
+end
+local version = redis.call('HINCRBY', KEYS[2], 'version', 1)
+if tonumber(ARGV[1]) > 0 then
+    redis.call('EXPIRE', KEYS[2], ARGV[1])
+else
+    redis.call('PERSIST', KEYS[2])
+end
+return version
@@ -0,0 +1,219 @@
+package shop.yesaladin.front.cart.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+import shop.yesaladin.front.cart.service.inter.CartService;
+
+class CartServiceImplTest {
+
+    private static final String GUEST_CART = "guest-cart";
+    private static final String MEMBER_CART = "member";
+    private static final Duration TTL = Duration.ofDays(3);
+    private static final int CLIENTS = 16;
+    private static final int REQUESTS_PER_CLIENT = 50;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private CartService cartService;
+    private ExecutorService executor;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                "localhost",
+                port
+        ));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        cartService = new CartServiceImpl(redisTemplate);
+        executor = Executors.newFixedThreadPool(CLIENTS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        redisTemplate.delete(List.of(
+                GUEST_CART,
+                MEMBER_CART,
+                GUEST_CART + ":once",
+                MEMBER_CART + ":once"
+        ));
+    }
+
+    @Test
+    @DisplayName("여러 client가 동시에 같은 상품을 담아도 수량이 유실되지 않는다.")
+    void increment_concurrent() throws Exception {
+        //given
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < CLIENTS * REQUESTS_PER_CLIENT; i++) {
+            tasks.add(() -> cartService.increment(GUEST_CART, "1", 1, TTL));
+        }
+
+        //when
+        for (Future<Integer> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+
+        //then
+        assertThat(cartService.getCart(GUEST_CART, TTL))
+                .containsExactly(Map.entry("1", CLIENTS * REQUESTS_PER_CLIENT));
+        assertThat(redisTemplate.getExpire(GUEST_CART)).isPositive();
+    }
+
+    @Test
+    @DisplayName("1개만 담을 수 있는 상품은 동시에 담아도 한 번만 담긴다.")
+    void addOnce_concurrent() throws Exception {
+        //given
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            tasks.add(() -> cartService.addOnce(GUEST_CART, "1", 1, TTL));
+        }
+
+        //when
+        int added = 0;
+        for (Future<Boolean> future : executor.invokeAll(tasks)) {
+            if (future.get()) {
+                added++;
+            }
+        }
+
+        //then
+        assertThat(added).isEqualTo(1);
+        assertThat(cartService.getCart(GUEST_CART, TTL)).containsExactly(Map.entry("1", 1));
+    }
+
+    @Test
+    @DisplayName("수량을 0 이하로 변경하거나 감소시키면 상품이 삭제된다.")
+    void setQuantityAndIncrement_removeWhenNotPositive() {
+        //given
+        cartService.increment(GUEST_CART, "1", 2, TTL);
+        cartService.increment(GUEST_CART, "2", 2, TTL);
+        cartService.increment(GUEST_CART, "3", 2, TTL);
+
+        //when
+        cartService.setQuantity(GUEST_CART, "1", 5, TTL);
+        cartService.setQuantity(GUEST_CART, "2", 0, TTL);
+        int decreased = cartService.increment(GUEST_CART, "3", -2, TTL);
+        cartService.remove(GUEST_CART, "4", TTL);
+
+        //then
+        assertThat(decreased).isZero();
+        assertThat(cartService.getCart(GUEST_CART, TTL)).containsExactly(Map.entry("1", 5));
+    }
+
+    @Test
+    @DisplayName("기존 방식으로 문자열로 저장된 수량도 합산된다.")
+    void increment_legacyStringQuantity() {
+        //given
+        redisTemplate.opsForHash().put(GUEST_CART, "1", "2");
+
+        //when
+        int quantity = cartService.increment(GUEST_CART, "1", 3, TTL);
+
+        //then
+        assertThat(quantity).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("장바구니를 합치는 동안 회원 장바구니에 동시에 담은 수량이 유실되지 않는다.")
+    void merge_concurrentWithIncrement() throws Exception {
+        //given
+        cartService.increment(GUEST_CART, "1", 10, TTL);
+        cartService.increment(GUEST_CART, "2", 3, TTL);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+            tasks.add(() -> cartService.increment(MEMBER_CART, "1", 1, TTL));
+        }
+        tasks.add(() -> cartService.merge(GUEST_CART, MEMBER_CART, CartService.MEMBER_CART_TTL));
+        tasks.add(() -> cartService.merge(GUEST_CART, MEMBER_CART, CartService.MEMBER_CART_TTL));
+
+        //when
+        for (Future<Integer> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+
+        //then
+        assertThat(cartService.getCart(MEMBER_CART, CartService.MEMBER_CART_TTL))
+                .containsEntry("1", 10 + REQUESTS_PER_CLIENT)
+                .containsEntry("2", 3);
+        assertThat(redisTemplate.hasKey(GUEST_CART)).isFalse();
+    }
+
+    @Test
+    @DisplayName("1개만 담을 수 있는 상품은 장바구니를 합쳐도 수량이 1을 넘지 않는다.")
+    void merge_onceItems() {
+        //given
+        cartService.addOnce(GUEST_CART, "ebook", 1, TTL);
+        cartService.addOnce(MEMBER_CART, "ebook", 1, TTL);
+        cartService.addOnce(GUEST_CART, "subscription", 1, TTL);
+        cartService.increment(MEMBER_CART, "subscription", 1, TTL);
+        cartService.increment(GUEST_CART, "book", 2, TTL);
+        cartService.increment(MEMBER_CART, "book", 3, TTL);
+
+        //when
+        int merged = cartService.merge(GUEST_CART, MEMBER_CART, CartService.MEMBER_CART_TTL);
+
+        //then
+        assertThat(merged).isEqualTo(3);
+        assertThat(cartService.getCart(MEMBER_CART, CartService.MEMBER_CART_TTL))
+                .containsOnly(
+                        Map.entry("ebook", 1),
+                        Map.entry("subscription", 1),
+                        Map.entry("book", 5)
+                );
+        assertThat(redisTemplate.hasKey(GUEST_CART + ":once")).isFalse();
+
+        // 합쳐진 뒤에도 1개만 담을 수 있는 상품으로 남습니다.
+        cartService.setQuantity(MEMBER_CART, "subscription", 3, TTL);
+        assertThat(cartService.increment(MEMBER_CART, "ebook", 1, TTL)).isEqualTo(1);
+        assertThat(cartService.getCart(MEMBER_CART, TTL)).containsEntry("subscription", 1);
+    }
+}
@@ -0,0 +1,203 @@
+package shop.yesaladin.front.common.composition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ui.ConcurrentModel;
+import org.springframework.ui.Model;
+import shop.yesaladin.front.common.exception.CustomServerException;
+import shop.yesaladin.front.member.jwt.RequestAuthentication;
+
+class PageCompositionTest {
+
+    private static final String SECTION_METRIC = "yesaladin.front.page.section";
+
+    private SimpleMeterRegistry meterRegistry;
+    private Model model;
+    private ExecutorService executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        model = new ConcurrentModel();
+        executor = Executors.newSingleThreadExecutor();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 선택 section은 대체 값으로 표시한다.")
+    void render_optionalSectionTimeout() {
+        //given
+        PageComposition composition = composition(executor, 100L)
+                .section("slow", () -> {
+                    awaitRelease();
+                    return "value";
+                }, "fallback");
+
+        //when
+        composition.render();
+
+        //then
+        assertThat(model.getAttribute("slow")).isEqualTo("fallback");
+        assertThat(meterRegistry.counter(
+                SECTION_METRIC + ".timeout",
+                "page",
+                "test",
+                "section",
+                "slow"
+        ).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("실패한 필수 section은 예외를 그대로 전파한다.")
+    void render_requiredSectionFailure() {
+        //given
+        IllegalStateException failure = new IllegalStateException("backend failed");
+        PageComposition composition = composition(executor, 1000L)
+                .section("optional", () -> "value", "fallback")
+                .required("required", () -> {
+                    throw failure;
+                });
+
+        //when, then
+        assertThatThrownBy(composition::render).isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 필수 section은 CustomServerException을 던진다.")
+    void render_requiredSectionTimeout() {
+        //given
+        PageComposition composition = composition(executor, 100L)
+                .required("required", () -> {
+                    awaitRelease();
+                    return "value";
+                });
+
+        //when, then
+        assertThatThrownBy(composition::render).isInstanceOf(CustomServerException.class);
+    }
+
+    @Test
+    @DisplayName("executor가 거부한 section은 거부 횟수를 기록하고 대체 값으로 표시한다.")
+    void render_rejected() {
+        //given
+        PageComposition composition = composition(
+                runnable -> {
+                    throw new RejectedExecutionException("full");
+                },
+                1000L
+        ).section("rejected", () -> "value", "fallback");
+
+        //when
+        composition.render();
+
+        //then
+        assertThat(model.getAttribute("rejected")).isEqualTo("fallback");
+        assertThat(meterRegistry.counter(
+                SECTION_METRIC + ".rejected",
+                "page",
+                "test",
+                "section",
+                "rejected"
+        ).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("제한 시간은 section마다가 아니라 render 한 번에 대해 적용된다.")
+    void render_sharedDeadline() {
+        //given
+        // 작업 thread가 하나이므로 두 번째 section은 첫 번째 section이 끝난 뒤 시작하여 600ms 에 끝납니다.
+        // section마다 450ms를 기다린다면 두 번째 section도 750ms 전에 끝나 성공하지만, render 전체 제한 시간은 450ms 입니다.
+        PageComposition composition = composition(executor, 450L)
+                .section("first", () -> sleep(300L), "fallback")
+                .section("second", () -> sleep(300L), "fallback");
+
+        //when
+        long start = System.nanoTime();
+        composition.render();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        //then
+        assertThat(model.getAttribute("first")).isEqualTo("done");
+        assertThat(model.getAttribute("second")).isEqualTo("fallback");
+        assertThat(elapsedMs).isLessThan(600L);
+    }
+
+    @Test
+    @DisplayName("requiredAttributes section의 결과는 항목마다 Model attribute로 담는다.")
+    void render_requiredAttributes() {
+        //given
+        PageComposition composition = composition(executor, 1000L)
+                .requiredAttributes("search", () -> Map.of("products", "list", "totalPage", 3L));
+
+        //when
+        composition.render();
+
+        //then
+        assertThat(model.getAttribute("products")).isEqualTo("list");
+        assertThat(model.getAttribute("totalPage")).isEqualTo(3L);
+        assertThat(model.containsAttribute("search")).isFalse();
+    }
+
+    @Test
+    @DisplayName("section은 작업 thread에서 수행 중임을 알 수 있다.")
+    void inSection() {
+        //given
+        PageComposition composition = composition(executor, 1000L)
+                .section("inSection", PageComposition::inSection, false);
+
+        //when
+        composition.render();
+
+        //then
+        assertThat(model.getAttribute("inSection")).isEqualTo(true);
+        assertThat(PageComposition.inSection()).isFalse();
+    }
+
+    private PageComposition composition(Executor executor, long timeoutMs) {
+        return new PageComposition(
+                "test",
+                model,
+                executor,
+                timeoutMs,
+                meterRegistry,
+                RequestAuthentication.anonymous()
+        );
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+}
@@ -0,0 +1,217 @@
+package shop.yesaladin.front.common.fragment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.IContext;
+import redis.embedded.RedisServer;
+import shop.yesaladin.front.common.exception.CustomServerException;
+import shop.yesaladin.front.config.FragmentCacheProperties;
+
+class FragmentCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(60);
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private ITemplateEngine templateEngine;
+    private FragmentCache fragmentCache;
+    private AtomicInteger backendCalls;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                "localhost",
+                port
+        ));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        templateEngine = mock(ITemplateEngine.class);
+        when(templateEngine.process(any(String.class), anySet(), any(IContext.class)))
+                .thenAnswer(invocation -> {
+                    IContext context = invocation.getArgument(2);
+                    return "<div>" + context.getVariable("value") + "</div>";
+                });
+
+        FragmentCacheProperties properties = mock(FragmentCacheProperties.class);
+        when(properties.isEnabled()).thenReturn(true);
+
+        fragmentCache = new FragmentCache(
+                redisTemplate,
+                templateEngine,
+                properties,
+                new SimpleMeterRegistry()
+        );
+        backendCalls = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("캐시된 fragment는 backend 호출과 렌더링 없이 반환된다.")
+    void render_hit() {
+        //given
+        fragmentCache.render(PageFragments.BESTSELLER, TTL, variables("first"));
+
+        //when
+        String html = fragmentCache.render(PageFragments.BESTSELLER, TTL, variables("second"));
+
+        //then
+        assertThat(html).isEqualTo("<div>first</div>");
+        assertThat(backendCalls).hasValue(1);
+        verify(templateEngine, times(1)).process(
+                eq(PageFragments.INDEX_PRODUCTS_TEMPLATE),
+                eq(Set.of("bestseller")),
+                any(IContext.class)
+        );
+    }
+
+    @Test
+    @DisplayName("parameter가 다른 fragment는 따로 캐시된다.")
+    void render_params() {
+        //when
+        String first = fragmentCache.render(
+                PageFragments.categoryProducts(1L, PageRequest.of(0, 10)),
+                TTL,
+                variables("first")
+        );
+        String second = fragmentCache.render(
+                PageFragments.categoryProducts(1L, PageRequest.of(1, 10)),
+                TTL,
+                variables("second")
+        );
+
+        //then
+        assertThat(first).isEqualTo("<div>first</div>");
+        assertThat(second).isEqualTo("<div>second</div>");
+        assertThat(backendCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("데이터 조회에 실패하면 캐시하지 않는다.")
+    void render_failure() {
+        //when
+        assertThatThrownBy(() -> fragmentCache.render(PageFragments.productDetail(1L), TTL, () -> {
+            throw new CustomServerException("failed");
+        })).isInstanceOf(CustomServerException.class);
+        String html = fragmentCache.render(PageFragments.productDetail(1L), TTL, variables("ok"));
+
+        //then
+        assertThat(html).isEqualTo("<div>ok</div>");
+        assertThat(backendCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화된 fragment는 다시 렌더링된다.")
+    void evict() {
+        //given
+        fragmentCache.render(PageFragments.productDetail(1L), TTL, variables("first"));
+
+        //when
+        fragmentCache.evict(PageFragments.productDetail(1L));
+        String html = fragmentCache.render(PageFragments.productDetail(1L), TTL, variables("second"));
+
+        //then
+        assertThat(html).isEqualTo("<div>second</div>");
+    }
+
+    @Test
+    @DisplayName("같은 이름의 fragment는 parameter와 관계없이 한 번에 무효화된다.")
+    void evictAll() {
+        //given
+        fragmentCache.render(
+                PageFragments.categoryProducts(1L, PageRequest.of(0, 10)),
+                TTL,
+                variables("first")
+        );
+        fragmentCache.render(
+                PageFragments.categoryProducts(2L, PageRequest.of(0, 10)),
+                TTL,
+                variables("first")
+        );
+
+        //when
+        fragmentCache.evictAll(
+                PageFragments.CATEGORY_PRODUCTS_TEMPLATE,
+                PageFragments.CATEGORY_PRODUCTS
+        );
+
+        //then
+        assertThat(fragmentCache.render(
+                PageFragments.categoryProducts(1L, PageRequest.of(0, 10)),
+                TTL,
+                variables("second")
+        )).isEqualTo("<div>second</div>");
+        assertThat(fragmentCache.render(
+                PageFragments.categoryProducts(2L, PageRequest.of(0, 10)),
+                TTL,
+                variables("second")
+        )).isEqualTo("<div>second</div>");
+    }
+
+    private Supplier<Map<String, Object>> variables(String value) {
+        return () -> {
+            backendCalls.incrementAndGet();
+            return Map.of("value", value);
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package shop.yesaladin.front.common.fragment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+class ProductFragmentEvictorTest {
+
+    private FragmentCache fragmentCache;
+    private ProductFragmentEvictor productFragmentEvictor;
+
+    @BeforeEach
+    void setUp() {
+        fragmentCache = mock(FragmentCache.class);
+        productFragmentEvictor = new ProductFragmentEvictor(fragmentCache);
+    }
+
+    @Test
+    @DisplayName("shop 서버가 알린 상품의 상세 fragment 와 목록 fragment 캐시를 무효화한다")
+    void onMessage() {
+        // given
+        DefaultMessage message = new DefaultMessage(
+                "PRODUCT_CHANGES".getBytes(StandardCharsets.UTF_8),
+                "1,2".getBytes(StandardCharsets.UTF_8)
+        );
+
+        // when
+        productFragmentEvictor.onMessage(message, null);
+
+        // then
+        verify(fragmentCache).evict(PageFragments.productDetail(1L));
+        verify(fragmentCache).evict(PageFragments.productDetail(2L));
+        verify(fragmentCache, times(1)).evictAll(
+                PageFragments.CATEGORY_PRODUCTS_TEMPLATE,
+                PageFragments.CATEGORY_PRODUCTS
+        );
+        verify(fragmentCache).evict(PageFragments.BESTSELLER);
+        verify(fragmentCache).evict(PageFragments.NEW_PRODUCTS);
+    }
+
+    @Test
+    @DisplayName("상품 id 가 아닌 메시지는 무시한다")
+    void onMessage_invalid() {
+        // given
+        DefaultMessage message = new DefaultMessage(
+                "PRODUCT_CHANGES".getBytes(StandardCharsets.UTF_8),
+                "1,abc".getBytes(StandardCharsets.UTF_8)
+        );
+
+        // when
+        productFragmentEvictor.onMessage(message, null);
+
+        // then
+        verify(fragmentCache, never()).evict(any());
+        verify(fragmentCache, never()).evictAll(anyString(), anyString());
+    }
+}
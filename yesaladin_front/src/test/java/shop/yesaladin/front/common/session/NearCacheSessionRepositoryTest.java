@@ -0,0 +1,343 @@
+package shop.yesaladin.front.common.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.jackson2.SecurityJackson2Modules;
+import redis.embedded.RedisServer;
+import shop.yesaladin.front.config.SessionCacheProperties;
+
+class NearCacheSessionRepositoryTest {
+
+    private static final String SECURITY_CONTEXT = "SPRING_SECURITY_CONTEXT";
+    private static final List<String> ROUND_TRIP_COMMANDS = List.of(
+            "hget",
+            "hgetall",
+            "evalsha",
+            "eval",
+            "del"
+    );
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+    private static RedisSerializer<Object> serializer;
+
+    private MutableClock clock;
+    private NearCacheSessionRepository repository;
+    private NearCacheSessionRepository otherInstance;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                "localhost",
+                port
+        ));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModules(SecurityJackson2Modules.getModules(
+                NearCacheSessionRepositoryTest.class.getClassLoader()));
+        serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        SessionCacheProperties properties = mock(SessionCacheProperties.class);
+        when(properties.getMaxInactiveSeconds()).thenReturn(1800);
+        when(properties.getMaxEntries()).thenReturn(100);
+        when(properties.getTrustWindowMs()).thenReturn(1000L);
+        when(properties.getTouchIntervalSeconds()).thenReturn(60L);
+
+        clock = new MutableClock(Instant.parse("2023-01-20T00:00:00.000Z"));
+        repository = new NearCacheSessionRepository(redisTemplate, serializer, properties, clock);
+        otherInstance = new NearCacheSessionRepository(
+                redisTemplate,
+                serializer,
+                properties,
+                clock
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("다른 instance에서 저장한 세션을 한 번의 조회로 읽을 수 있다.")
+    void findById_otherInstance() {
+        //given
+        NearCacheSession session = createLoggedInSession();
+
+        //when
+        long before = roundTrips();
+        NearCacheSession found = otherInstance.findById(session.getId());
+        long used = roundTrips() - before;
+
+        //then
+        assertThat(used).isEqualTo(1L);
+        assertThat(found).isNotNull();
+        assertThat(found.getAttributeNames()).containsExactlyInAnyOrder(
+                SECURITY_CONTEXT,
+                "cartCount",
+                "returnUrl"
+        );
+        SecurityContext context = found.getAttribute(SECURITY_CONTEXT);
+        assertThat(context.getAuthentication().getName()).isEqualTo("user@1");
+        assertThat((Integer) found.getAttribute("cartCount")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("검증된 사본이 있으면 trust window 안에서는 Redis에 접근하지 않고 이후에는 version만 비교한다.")
+    void findById_nearCache() {
+        //given
+        NearCacheSession session = createLoggedInSession();
+
+        //when
+        long before = roundTrips();
+        NearCacheSession cached = repository.findById(session.getId());
+        long withinWindow = roundTrips() - before;
+
+        clock.advance(Duration.ofSeconds(2));
+        before = roundTrips();
+        NearCacheSession validated = repository.findById(session.getId());
+        long afterWindow = roundTrips() - before;
+
+        //then
+        assertThat(withinWindow).isZero();
+        assertThat(afterWindow).isEqualTo(1L);
+        assertThat(cached.<Integer>getAttribute("cartCount")).isEqualTo(3);
+        assertThat(validated.<Integer>getAttribute("cartCount")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 instance에서 변경된 세션은 version이 달라 다시 조회된다.")
+    void findById_changedByOtherInstance() {
+        //given
+        NearCacheSession session = createLoggedInSession();
+        NearCacheSession other = otherInstance.findById(session.getId());
+        other.setAttribute("cartCount", 4);
+        other.removeAttribute("returnUrl");
+        otherInstance.save(other);
+
+        //when
+        clock.advance(Duration.ofSeconds(2));
+        NearCacheSession found = repository.findById(session.getId());
+
+        //then
+        assertThat(found.<Integer>getAttribute("cartCount")).isEqualTo(4);
+        assertThat(found.getAttributeNames()).doesNotContain("returnUrl");
+        assertThat(hashFields(session.getId())).doesNotContain("sessionAttr:returnUrl");
+    }
+
+    @Test
+    @DisplayName("변경이 없는 세션은 touch interval이 지나기 전까지 저장하지 않는다.")
+    void save_withoutChanges() {
+        //given
+        NearCacheSession session = createLoggedInSession();
+        NearCacheSession found = repository.findById(session.getId());
+        found.<SecurityContext>getAttribute(SECURITY_CONTEXT);
+        clock.advance(Duration.ofSeconds(10));
+        found.setLastAccessedTime(clock.instant());
+
+        //when
+        long before = roundTrips();
+        repository.save(found);
+        long withinTouchInterval = roundTrips() - before;
+
+        clock.advance(Duration.ofSeconds(60));
+        found.setLastAccessedTime(clock.instant());
+        before = roundTrips();
+        repository.save(found);
+        long afterTouchInterval = roundTrips() - before;
+
+        //then
+        assertThat(withinTouchInterval).isZero();
+        assertThat(afterTouchInterval).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("세션 id를 변경하면 기존 세션의 속성을 새 id로 옮긴다.")
+    void save_changeSessionId() {
+        //given
+        NearCacheSession session = createLoggedInSession();
+        NearCacheSession found = repository.findById(session.getId());
+        String previousId = found.getId();
+
+        //when
+        String changedId = found.changeSessionId();
+        repository.save(found);
+
+        //then
+        assertThat(otherInstance.findById(previousId)).isNull();
+        assertThat(otherInstance.findById(changedId).<Integer>getAttribute("cartCount")).isEqualTo(
+                3);
+    }
+
+    @Test
+    @DisplayName("삭제된 세션은 사본이 있어도 version 검증 시 조회되지 않는다.")
+    void deleteById() {
+        //given
+        NearCacheSession session = createLoggedInSession();
+        repository.findById(session.getId());
+
+        //when
+        otherInstance.deleteById(session.getId());
+        clock.advance(Duration.ofSeconds(2));
+
+        //then
+        assertThat(repository.findById(session.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 세션은 조회되지 않는다.")
+    void findById_expired() {
+        //given
+        NearCacheSession session = createLoggedInSession();
+
+        //when
+        clock.advance(Duration.ofSeconds(1801));
+
+        //then
+        assertThat(repository.findById(session.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("로그인한 회원의 일반적인 페이지 조회는 평균 한 번 이하의 Redis 왕복으로 처리된다.")
+    void pageViewRoundTrips() {
+        //given
+        NearCacheSession session = createLoggedInSession();
+        int pageViews = 200;
+
+        //when
+        long before = roundTrips();
+        for (int i = 0; i < pageViews; i++) {
+            clock.advance(Duration.ofMillis(700));
+            NearCacheSession found = repository.findById(session.getId());
+            found.<SecurityContext>getAttribute(SECURITY_CONTEXT);
+            found.setLastAccessedTime(clock.instant());
+            repository.save(found);
+        }
+        long used = roundTrips() - before;
+
+        //then
+        assertThat((double) used / pageViews).isLessThanOrEqualTo(1.0);
+    }
+
+    private NearCacheSession createLoggedInSession() {
+        SecurityContext context = new SecurityContextImpl(new UsernamePasswordAuthenticationToken(
+                "user@1",
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_MEMBER"))
+        ));
+
+        NearCacheSession session = repository.createSession();
+        session.setAttribute(SECURITY_CONTEXT, context);
+        session.setAttribute("cartCount", 3);
+        session.setAttribute("returnUrl", "/products/1");
+        repository.save(session);
+        return session;
+    }
+
+    private List<String> hashFields(String id) {
+        return redisTemplate.execute((RedisCallback<List<String>>) connection ->
+                connection.hashCommands()
+                        .hKeys((NearCacheSessionRepository.KEY_PREFIX + id).getBytes())
+                        .stream()
+                        .map(String::new)
+                        .collect(Collectors.toList()));
+    }
+
+    private static long roundTrips() {
+        Properties stats = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("commandstats"));
+        long total = 0L;
+        for (String command : ROUND_TRIP_COMMANDS) {
+            String value = Objects.requireNonNull(stats).getProperty("cmdstat_" + command);
+            if (Objects.nonNull(value)) {
+                total += Long.parseLong(value.split(",")[0].substring("calls=".length()));
+            }
+        }
+        return total;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,463 @@
+package shop.yesaladin.front.file.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import shop.yesaladin.common.dto.ResponseDto;
+import shop.yesaladin.front.config.GatewayConfig;
+import shop.yesaladin.front.file.dto.FileUploadResponseDto;
+import shop.yesaladin.front.interceptor.JwtInterceptor;
+
+class FileStorageServiceImplTest {
+
+    private static final String TOKEN = "storage-token";
+    private static final String FILE_PATH = "/container/ebook.pdf";
+    private static final int FILE_SIZE = 8 * 1024 * 1024;
+    private static final int DOWNLOADS = 16;
+    private static final String UPLOAD_PATH = "/v1/files/file-upload/product/ebook";
+    private static final int UPLOAD_SLACK = 256 * 1024;
+
+    private HttpServer storage;
+    private ExecutorService storageExecutor;
+    private ExecutorService clientExecutor;
+    private volatile CountDownLatch gate;
+    private volatile long uploadedBytes;
+    private String fileUrl;
+    private FileStorageServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        storage.createContext(FILE_PATH, this::serveFile);
+        storage.createContext(UPLOAD_PATH, this::receiveUpload);
+        storageExecutor = Executors.newFixedThreadPool(DOWNLOADS + 4);
+        storage.setExecutor(storageExecutor);
+        storage.start();
+        fileUrl = "http://localhost:" + storage.getAddress().getPort() + FILE_PATH;
+
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        doReturn(ResponseEntity.ok(ResponseDto.<String>builder()
+                .status(HttpStatus.OK)
+                .success(true)
+                .data(TOKEN)
+                .build())).when(restTemplate).exchange(
+                anyString(),
+                eq(HttpMethod.GET),
+                isNull(),
+                any(ParameterizedTypeReference.class)
+        );
+        GatewayConfig gatewayConfig = mock(GatewayConfig.class);
+        doReturn("http://localhost:" + storage.getAddress().getPort()).when(gatewayConfig)
+                .getShopUrl();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(DOWNLOADS);
+        connectionManager.setDefaultMaxPerRoute(DOWNLOADS);
+        doReturn(new RestTemplate().getMessageConverters()).when(restTemplate).getMessageConverters();
+        service = new FileStorageServiceImpl(
+                restTemplate,
+                gatewayConfig,
+                new HttpComponentsClientHttpRequestFactory(HttpClientBuilder.create()
+                        .setConnectionManager(connectionManager)
+                        .build()),
+                mock(JwtInterceptor.class),
+                new DefaultResponseErrorHandler()
+        );
+        clientExecutor = Executors.newFixedThreadPool(DOWNLOADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientExecutor.shutdownNow();
+        storage.stop(0);
+        storageExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시에 여러 파일을 다운로드할 때 Object Storage의 응답이 끝나기 전에 고정 크기로 나누어 전달된다.")
+    void fileDownload_parallelStreaming() throws Exception {
+        //given
+        // Object Storage는 파일의 절반을 보낸 뒤, 모든 사용자가 절반을 받을 때까지 나머지를 보내지 않는다.
+        // 파일 전체를 메모리에 읽은 뒤 전달한다면 사용자는 아무것도 받지 못해 다운로드가 실패한다.
+        gate = new CountDownLatch(DOWNLOADS);
+        List<Callable<DownloadResult>> downloads = new ArrayList<>();
+        for (int i = 0; i < DOWNLOADS; i++) {
+            downloads.add(() -> download(new HttpHeaders(), 0L, FILE_SIZE / 2, gate));
+        }
+
+        //when
+        List<DownloadResult> results = new ArrayList<>();
+        for (Future<DownloadResult> future : clientExecutor.invokeAll(downloads, 60, TimeUnit.SECONDS)) {
+            results.add(future.get());
+        }
+
+        //then
+        assertThat(results).hasSize(DOWNLOADS).allSatisfy(result -> {
+            assertThat(result.response.getStatus()).isEqualTo(200);
+            assertThat(result.response.getHeader(HttpHeaders.CONTENT_LENGTH))
+                    .isEqualTo(String.valueOf(FILE_SIZE));
+            assertThat(result.out.count).isEqualTo(FILE_SIZE);
+            assertThat(result.out.corrupted).isFalse();
+            assertThat(result.out.maxWrite).isLessThanOrEqualTo(FileStorageServiceImpl.BUFFER_SIZE);
+        });
+    }
+
+    @Test
+    @DisplayName("Range 요청 시 요청한 범위만 206 Partial Content로 전달된다.")
+    void fileDownload_range() throws Exception {
+        //given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=1000-1999");
+
+        //when
+        DownloadResult result = download(headers, 1000L, Integer.MAX_VALUE, null);
+
+        //then
+        assertThat(result.response.getStatus()).isEqualTo(206);
+        assertThat(result.response.getHeader(HttpHeaders.CONTENT_RANGE))
+                .isEqualTo("bytes 1000-1999/" + FILE_SIZE);
+        assertThat(result.response.getHeader(HttpHeaders.CONTENT_LENGTH)).isEqualTo("1000");
+        assertThat(result.out.count).isEqualTo(1000L);
+        assertThat(result.out.corrupted).isFalse();
+    }
+
+    @Test
+    @DisplayName("이어받기 요청 시 요청한 위치부터 끝까지 전달된다.")
+    void fileDownload_resume() throws Exception {
+        //given
+        long offset = FILE_SIZE - 4096L;
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=" + offset + "-");
+
+        //when
+        DownloadResult result = download(headers, offset, Integer.MAX_VALUE, null);
+
+        //then
+        assertThat(result.response.getStatus()).isEqualTo(206);
+        assertThat(result.response.getHeader(HttpHeaders.CONTENT_RANGE))
+                .isEqualTo("bytes " + offset + "-" + (FILE_SIZE - 1) + "/" + FILE_SIZE);
+        assertThat(result.out.count).isEqualTo(4096L);
+        assertThat(result.out.corrupted).isFalse();
+    }
+
+    @Test
+    @DisplayName("파일 범위를 벗어난 Range 요청 시 416으로 응답한다.")
+    void fileDownload_rangeNotSatisfiable() throws Exception {
+        //given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=" + FILE_SIZE + "-");
+
+        //when
+        DownloadResult result = download(headers, 0L, Integer.MAX_VALUE, null);
+
+        //then
+        assertThat(result.response.getStatus()).isEqualTo(416);
+        assertThat(result.response.getHeader(HttpHeaders.CONTENT_RANGE))
+                .isEqualTo("bytes */" + FILE_SIZE);
+        assertThat(result.out.count).isZero();
+    }
+
+    @Test
+    @DisplayName("업로드 파일은 메모리에 모두 읽지 않고 shop으로 streaming 된다.")
+    void fileUpload_streaming() throws Exception {
+        //given
+        // 파일의 절반을 읽은 뒤에는 shop이 절반 가까이 받을 때까지 나머지를 읽을 수 없다.
+        // 파일 전체를 메모리에 읽은 뒤 전달한다면 shop은 아무것도 받지 못해 업로드가 실패한다.
+        gate = new CountDownLatch(1);
+        MultipartFile file = new GatedMultipartFile(FILE_SIZE, gate);
+
+        //when
+        FileUploadResponseDto response = service.fileUpload("product", "ebook", file);
+
+        //then
+        assertThat(response.getUrl()).isEqualTo("https://storage/product/ebook/file.pdf");
+        assertThat(uploadedBytes).isGreaterThan(FILE_SIZE);
+    }
+
+    private DownloadResult download(
+            HttpHeaders headers,
+            long offset,
+            long gateThreshold,
+            CountDownLatch gate
+    ) throws IOException {
+        CountingOutputStream out = new CountingOutputStream(offset, gateThreshold, gate);
+        MockHttpServletResponse response = new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return out;
+            }
+        };
+        service.fileDownload(fileUrl, headers, response);
+        return new DownloadResult(response, out);
+    }
+
+    private void serveFile(HttpExchange exchange) throws IOException {
+        if (!TOKEN.equals(exchange.getRequestHeaders().getFirst("X-Auth-Token"))) {
+            exchange.sendResponseHeaders(401, -1);
+            exchange.close();
+            return;
+        }
+
+        long start = 0L;
+        long end = FILE_SIZE - 1L;
+        int status = 200;
+        String range = exchange.getRequestHeaders().getFirst(HttpHeaders.RANGE);
+        exchange.getResponseHeaders().set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, "application/pdf");
+        if (range != null) {
+            String[] bounds = range.substring("bytes=".length()).split("-", -1);
+            start = Long.parseLong(bounds[0]);
+            if (!bounds[1].isEmpty()) {
+                end = Math.min(end, Long.parseLong(bounds[1]));
+            }
+            if (start >= FILE_SIZE) {
+                exchange.getResponseHeaders().set(HttpHeaders.CONTENT_RANGE, "bytes */" + FILE_SIZE);
+                exchange.sendResponseHeaders(416, -1);
+                exchange.close();
+                return;
+            }
+            status = 206;
+            exchange.getResponseHeaders()
+                    .set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + FILE_SIZE);
+        }
+
+        long length = end - start + 1;
+        exchange.sendResponseHeaders(status, length);
+        CountDownLatch currentGate = gate;
+        try (OutputStream body = exchange.getResponseBody()) {
+            byte[] chunk = new byte[16 * 1024];
+            long position = start;
+            while (position <= end) {
+                if (currentGate != null && position - start == length / 2) {
+                    body.flush();
+                    if (!currentGate.await(30, TimeUnit.SECONDS)) {
+                        return;
+                    }
+                }
+                int size = (int) Math.min(chunk.length, end - position + 1);
+                if (currentGate != null && position - start < length / 2) {
+                    size = (int) Math.min(size, length / 2 - (position - start));
+                }
+                for (int i = 0; i < size; i++) {
+                    chunk[i] = expected(position + i);
+                }
+                body.write(chunk, 0, size);
+                position += size;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void receiveUpload(HttpExchange exchange) throws IOException {
+        CountDownLatch currentGate = gate;
+        long received = 0L;
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] chunk = new byte[16 * 1024];
+            int read;
+            while ((read = body.read(chunk)) != -1) {
+                received += read;
+                if (received >= FILE_SIZE / 2 - UPLOAD_SLACK) {
+                    currentGate.countDown();
+                }
+            }
+        }
+        uploadedBytes = received;
+
+        byte[] response = ("{\"success\":true,\"data\":{\"url\":\"https://storage/product/ebook/file.pdf\","
+                + "\"fileUploadDateTime\":\"2023-01-01T00:00:00\"}}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private static byte expected(long position) {
+        return (byte) (position % 251);
+    }
+
+    private static class GatedMultipartFile implements MultipartFile {
+
+        private final long size;
+        private final CountDownLatch gate;
+
+        GatedMultipartFile(long size, CountDownLatch gate) {
+            this.size = size;
+            this.gate = gate;
+        }
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "ebook.pdf";
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/pdf";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("file must not be buffered");
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new InputStream() {
+                private long position;
+
+                @Override
+                public int read() throws IOException {
+                    byte[] b = new byte[1];
+                    return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    if (position >= size) {
+                        return -1;
+                    }
+                    if (position == size / 2) {
+                        awaitGate();
+                    }
+                    long limit = position < size / 2 ? size / 2 : size;
+                    int count = (int) Math.min(len, limit - position);
+                    for (int i = 0; i < count; i++) {
+                        b[off + i] = expected(position + i);
+                    }
+                    position += count;
+                    return count;
+                }
+            };
+        }
+
+        private void awaitGate() throws IOException {
+            try {
+                if (!gate.await(30, TimeUnit.SECONDS)) {
+                    throw new IOException("upload was buffered before being sent");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void transferTo(File dest) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class DownloadResult {
+
+        private final MockHttpServletResponse response;
+        private final CountingOutputStream out;
+
+        DownloadResult(MockHttpServletResponse response, CountingOutputStream out) {
+            this.response = response;
+            this.out = out;
+        }
+    }
+
+    private static class CountingOutputStream extends ServletOutputStream {
+
+        private final long offset;
+        private final long gateThreshold;
+        private final CountDownLatch gate;
+        private long count;
+        private int maxWrite;
+        private boolean corrupted;
+        private boolean released;
+
+        CountingOutputStream(long offset, long gateThreshold, CountDownLatch gate) {
+            this.offset = offset;
+            this.gateThreshold = gateThreshold;
+            this.gate = gate;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            maxWrite = Math.max(maxWrite, len);
+            for (int i = 0; i < len; i++) {
+                if (b[off + i] != expected(offset + count + i)) {
+                    corrupted = true;
+                }
+            }
+            count += len;
+            if (gate != null && !released && count >= gateThreshold) {
+                released = true;
+                gate.countDown();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package shop.yesaladin.front.member.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import javax.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import shop.yesaladin.front.common.utils.CookieUtils;
+import shop.yesaladin.front.interceptor.JwtInterceptor;
+
+class RequestAuthenticationResolverTest {
+
+    private static final String UUID = "uuid";
+    private static final String ACCESS_TOKEN = "access-token";
+
+    private HashOperations<String, Object, Object> hashOperations;
+    private RequestAuthenticationResolver resolver;
+    private JwtInterceptor jwtInterceptor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn((HashOperations) hashOperations);
+        when(hashOperations.get(UUID, AuthUtil.JWT_CODE.getValue())).thenReturn(new AuthInfo(
+                "user",
+                "user@yesaladin.shop",
+                ACCESS_TOKEN,
+                List.of("ROLE_MEMBER"),
+                "0"
+        ));
+
+        resolver = new RequestAuthenticationResolver(redisTemplate, new CookieUtils());
+        jwtInterceptor = new JwtInterceptor(resolver);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("한 요청에서 여러 번 backend를 호출해도 Redis는 한 번만 조회한다.")
+    void resolve_oncePerRequest() {
+        //given
+        login();
+        newRequest();
+
+        //when
+        for (int i = 0; i < 6; i++) {
+            HttpHeaders headers = new HttpHeaders();
+            jwtInterceptor.applyAuthorization(headers);
+
+            assertThat(headers.getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo(
+                    "Bearer " + ACCESS_TOKEN);
+            assertThat(headers.getFirst(AuthUtil.UUID_CODE.getValue())).isEqualTo(UUID);
+        }
+        RequestAuthentication authentication = resolver.resolve();
+
+        //then
+        assertThat(authentication.getLoginId()).isEqualTo("user");
+        assertThat(authentication.getRoles()).containsExactly("ROLE_MEMBER");
+        verify(hashOperations, times(1)).get(UUID, AuthUtil.JWT_CODE.getValue());
+    }
+
+    @Test
+    @DisplayName("새로운 요청에서는 인증 정보를 다시 조회한다.")
+    void resolve_perRequest() {
+        //given
+        login();
+
+        //when
+        newRequest();
+        resolver.resolve();
+        resolver.resolve();
+        newRequest();
+        resolver.resolve();
+
+        //then
+        verify(hashOperations, times(2)).get(UUID, AuthUtil.JWT_CODE.getValue());
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 Redis를 조회하지 않고 Authorization header도 담지 않는다.")
+    void resolve_anonymous() {
+        //given
+        newRequest();
+        HttpHeaders headers = new HttpHeaders();
+
+        //when
+        jwtInterceptor.applyAuthorization(headers);
+
+        //then
+        assertThat(headers.containsKey(HttpHeaders.AUTHORIZATION)).isFalse();
+        assertThat(resolver.resolve().isAuthenticated()).isFalse();
+        verify(hashOperations, never()).get(any(), any());
+    }
+
+    @Test
+    @DisplayName("토큰이 재발급되면 같은 요청의 이후 호출은 재발급된 토큰을 사용한다.")
+    void update() {
+        //given
+        login();
+        newRequest();
+        resolver.resolve();
+
+        //when
+        resolver.update(RequestAuthentication.of(UUID, new AuthInfo(
+                "user",
+                "user@yesaladin.shop",
+                "reissued-token",
+                List.of("ROLE_MEMBER"),
+                "0"
+        )));
+        HttpHeaders headers = new HttpHeaders();
+        jwtInterceptor.applyAuthorization(headers);
+
+        //then
+        assertThat(headers.getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer reissued-token");
+        verify(hashOperations, times(1)).get(UUID, AuthUtil.JWT_CODE.getValue());
+    }
+
+    @Test
+    @DisplayName("요청 thread에서 조회한 인증 정보를 전달하면 요청과 SecurityContext 없이 같은 토큰을 사용한다.")
+    void callWith() throws Exception {
+        //given
+        login();
+        newRequest();
+        RequestAuthentication authentication = resolver.resolve();
+        HttpHeaders headers = new HttpHeaders();
+
+        //when
+        Thread worker = new Thread(() -> RequestAuthenticationResolver.callWith(
+                authentication,
+                () -> {
+                    jwtInterceptor.applyAuthorization(headers);
+                    return null;
+                }
+        ));
+        worker.start();
+        worker.join();
+
+        //then
+        assertThat(headers.getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer " + ACCESS_TOKEN);
+        assertThat(headers.getFirst(AuthUtil.UUID_CODE.getValue())).isEqualTo(UUID);
+        verify(hashOperations, times(1)).get(UUID, AuthUtil.JWT_CODE.getValue());
+    }
+
+    private void login() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user", null, List.of()));
+    }
+
+    private void newRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(AuthUtil.UUID_CODE.getValue(), UUID));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(
+                request,
+                new MockHttpServletResponse()
+        ));
+    }
+}
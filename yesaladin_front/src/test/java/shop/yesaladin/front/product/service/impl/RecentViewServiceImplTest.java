@@ -0,0 +1,145 @@
+package shop.yesaladin.front.product.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+import shop.yesaladin.front.common.dto.PaginatedResponseDto;
+import shop.yesaladin.front.product.dto.RecentViewOwner;
+import shop.yesaladin.front.product.service.inter.RecentViewService;
+
+class RecentViewServiceImplTest {
+
+    private static final RecentViewOwner GUEST = RecentViewOwner.guest("guest");
+    private static final RecentViewOwner MEMBER = RecentViewOwner.member("member");
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private RecentViewService recentViewService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                "localhost",
+                port
+        ));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        recentViewService = new RecentViewServiceImpl(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(GUEST.getKey(), MEMBER.getKey()));
+    }
+
+    @Test
+    @DisplayName("최근 본 상품은 최근 순으로 조회되고 다시 본 상품은 맨 앞으로 이동한다.")
+    void recordAndGetPage() throws InterruptedException {
+        //given
+        recordInOrder(GUEST, 1L, 2L, 3L, 1L);
+
+        //when
+        PaginatedResponseDto<Long> page = recentViewService.getPage(GUEST, PageRequest.of(0, 2));
+
+        //then
+        assertThat(page.getDataList()).containsExactly(1L, 3L);
+        assertThat(page.getTotalDataCount()).isEqualTo(3);
+        assertThat(page.getTotalPage()).isEqualTo(2);
+        assertThat(redisTemplate.getExpire(GUEST.getKey())).isPositive();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래전에 본 상품부터 삭제된다.")
+    void record_capacity() {
+        //given
+        for (long id = 1; id <= RecentViewService.CAPACITY + 5; id++) {
+            recentViewService.record(GUEST, id);
+        }
+
+        //when
+        PaginatedResponseDto<Long> page = recentViewService.getPage(
+                GUEST,
+                PageRequest.of(0, RecentViewService.CAPACITY * 2)
+        );
+
+        //then
+        assertThat(page.getTotalDataCount()).isEqualTo(RecentViewService.CAPACITY);
+        assertThat(page.getDataList()).doesNotContain(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 빈 페이지를 반환한다.")
+    void getPage_empty() {
+        //when
+        PaginatedResponseDto<Long> page = recentViewService.getPage(GUEST, PageRequest.of(0, 10));
+
+        //then
+        assertThat(page.getDataList()).isEmpty();
+        assertThat(page.getTotalDataCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("비회원의 최근 본 상품을 회원에게 합치면 비회원 기록은 삭제된다.")
+    void merge() throws InterruptedException {
+        //given
+        recordInOrder(MEMBER, 1L, 2L);
+        recordInOrder(GUEST, 3L, 1L);
+        recentViewService.remove(GUEST, 4L);
+
+        //when
+        int merged = recentViewService.merge(GUEST, MEMBER);
+
+        //then
+        assertThat(merged).isEqualTo(3);
+        assertThat(recentViewService.getPage(MEMBER, PageRequest.of(0, 10)).getDataList())
+                .containsExactly(1L, 3L, 2L);
+        assertThat(redisTemplate.hasKey(GUEST.getKey())).isFalse();
+    }
+
+    private void recordInOrder(RecentViewOwner owner, Long... ids) throws InterruptedException {
+        for (Long id : ids) {
+            recentViewService.record(owner, id);
+            // 같은 millisecond에 기록되면 순서가 score가 아닌 값으로 정해지므로 간격을 둡니다.
+            Thread.sleep(2);
+        }
+    }
+}
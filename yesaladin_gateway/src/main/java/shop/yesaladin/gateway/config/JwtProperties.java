@@ -0,0 +1,22 @@
+package shop.yesaladin.gateway.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Gateway에서 JWT를 검증하고 검증된 사용자 정보를 backend로 전달하기 위한 설정 값을 가져오는 클래스입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class JwtProperties {
+
+    @Value("${jwt.secret}")
+    private String secretKey;
+
+    @Value("${yesaladin.gateway.identity.secret}")
+    private String identitySecret;
+}
@@ -0,0 +1,35 @@
+package shop.yesaladin.gateway.config;
+
+import java.util.List;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Gateway 요청 수 제한과 관련된 설정 값을 가져오기 위한 클래스입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class RateLimitProperties {
+
+    @Value("${yesaladin.rate-limit.max-buckets:100000}")
+    private int maxBuckets;
+
+    @Value("${yesaladin.rate-limit.idle-timeout-ms:300000}")
+    private long idleTimeoutMs;
+
+    @Value("${yesaladin.rate-limit.redis.key-ttl-ms:600000}")
+    private long redisKeyTtlMs;
+
+    @Value("${yesaladin.rate-limit.redis.sync-interval-ms:200}")
+    private long redisSyncIntervalMs;
+
+    /**
+     * X-Forwarded-For 헤더를 신뢰할 proxy(load balancer 등)의 IP 목록 입니다. 비어 있으면 헤더를 사용하지 않습니다.
+     */
+    @Value("${yesaladin.rate-limit.trusted-proxies:}")
+    private List<String> trustedProxies;
+}
@@ -0,0 +1,138 @@
+package shop.yesaladin.gateway.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import shop.yesaladin.gateway.jwt.IdentityHeaderSigner;
+import shop.yesaladin.gateway.jwt.JwtTokenValidator;
+import shop.yesaladin.gateway.jwt.VerifiedIdentity;
+
+/**
+ * Authorization 헤더의 JWT를 Gateway에서 미리 검증하기 위한 Filter 입니다.
+ * <p>
+ * 서명이 올바르지 않거나 만료된 토큰은 backend로 전달하지 않고 401 Unauthorized로 응답합니다. 검증에 성공한 경우 loginId와 권한
+ * 정보를 서명된 헤더로 함께 전달하여 Shop 서버가 Auth 서버를 거치지 않고 인증 객체를 생성할 수 있도록 합니다. 클라이언트가 임의로
+ * 보낸 사용자 정보 헤더는 항상 제거됩니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class JwtPreValidationFilter extends AbstractGatewayFilterFactory<JwtPreValidationFilter.Config> {
+
+    public static final String LOGIN_ID_ATTR = JwtPreValidationFilter.class.getName() + ".loginId";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenValidator tokenValidator;
+    private final IdentityHeaderSigner signer;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock = Clock.systemUTC();
+
+    public JwtPreValidationFilter(
+            JwtTokenValidator tokenValidator,
+            IdentityHeaderSigner signer,
+            MeterRegistry meterRegistry
+    ) {
+        super(Config.class);
+        this.tokenValidator = tokenValidator;
+        this.signer = signer;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 설정 클래스 입니다.
+     *
+     * @author 송학현
+     * @since 1.0
+     */
+    @Data
+    public static class Config {
+        private boolean required;
+    }
+
+    /**
+     * JWT를 검증하고 검증된 사용자 정보를 헤더에 담아 전달하는 filter 로직입니다.
+     *
+     * @param config 필터의 설정 클래스 입니다.
+     * @return Spring Cloud Gateway에서 작동 하는 filter 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            String authorization = exchange.getRequest()
+                    .getHeaders()
+                    .getFirst(HttpHeaders.AUTHORIZATION);
+
+            if (Objects.isNull(authorization)) {
+                if (config.isRequired()) {
+                    return reject(exchange, "missing");
+                }
+                return chain.filter(stripIdentityHeaders(exchange));
+            }
+
+            Optional<VerifiedIdentity> identity = Optional.of(authorization)
+                    .filter(header -> header.startsWith(BEARER_PREFIX))
+                    .map(header -> header.substring(BEARER_PREFIX.length()))
+                    .flatMap(tokenValidator::validate);
+
+            if (identity.isEmpty()) {
+                return reject(exchange, "invalid");
+            }
+            return chain.filter(forwardIdentity(exchange, identity.get()));
+        };
+    }
+
+    private ServerWebExchange stripIdentityHeaders(ServerWebExchange exchange) {
+        return exchange.mutate()
+                .request(request -> request.headers(JwtPreValidationFilter::removeIdentityHeaders))
+                .build();
+    }
+
+    private ServerWebExchange forwardIdentity(ServerWebExchange exchange, VerifiedIdentity identity) {
+        String roles = String.join(",", identity.getRoles());
+        long timestamp = clock.millis();
+        String signature = signer.sign(identity.getLoginId(), roles, timestamp);
+
+        exchange.getAttributes().put(LOGIN_ID_ATTR, identity.getLoginId());
+        return exchange.mutate()
+                .request(request -> request.headers(headers -> {
+                    removeIdentityHeaders(headers);
+                    headers.set(IdentityHeaderSigner.LOGIN_ID_HEADER, identity.getLoginId());
+                    headers.set(IdentityHeaderSigner.ROLES_HEADER, roles);
+                    headers.set(IdentityHeaderSigner.TIMESTAMP_HEADER, String.valueOf(timestamp));
+                    headers.set(IdentityHeaderSigner.SIGNATURE_HEADER, signature);
+                }))
+                .build();
+    }
+
+    private static void removeIdentityHeaders(HttpHeaders headers) {
+        headers.remove(IdentityHeaderSigner.LOGIN_ID_HEADER);
+        headers.remove(IdentityHeaderSigner.ROLES_HEADER);
+        headers.remove(IdentityHeaderSigner.TIMESTAMP_HEADER);
+        headers.remove(IdentityHeaderSigner.SIGNATURE_HEADER);
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, String reason) {
+        meterRegistry.counter("yesaladin.gateway.jwt.rejected", "reason", reason).increment();
+        log.debug("JWT pre-validation failed: reason -> {}, path -> {}", reason, exchange.getRequest().getPath());
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        return response.setComplete();
+    }
+}
@@ -0,0 +1,170 @@
+package shop.yesaladin.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.InetSocketAddress;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import shop.yesaladin.gateway.config.RateLimitProperties;
+import shop.yesaladin.gateway.ratelimit.TokenBucket;
+import shop.yesaladin.gateway.ratelimit.TokenBucketRegistry;
+
+/**
+ * client 및 route 단위로 요청 수를 제한하기 위한 Filter 입니다.
+ * <p>
+ * 허용량을 초과한 요청은 backend로 전달하지 않고 429 Too Many Requests와 Retry-After 헤더로 응답합니다. client IP는 연결된
+ * 주소를 기준으로 하며, 연결된 주소가 신뢰하는 proxy인 경우에만 X-Forwarded-For 헤더에서 신뢰하지 않는 가장 오른쪽 주소를 사용합니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    private static final String UNKNOWN_CLIENT = "unknown";
+
+    private final TokenBucketRegistry registry;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> trustedProxies;
+
+    public RateLimitFilter(
+            TokenBucketRegistry registry,
+            MeterRegistry meterRegistry,
+            RateLimitProperties properties
+    ) {
+        super(Config.class);
+        this.registry = registry;
+        this.meterRegistry = meterRegistry;
+        this.trustedProxies = new HashSet<>(properties.getTrustedProxies());
+    }
+
+    /**
+     * 요청 수 제한 기준이 되는 client 식별 방식 입니다.
+     *
+     * @author 송학현
+     * @since 1.0
+     */
+    public enum KeyType {
+        IP, MEMBER
+    }
+
+    /**
+     * 설정 클래스 입니다.
+     *
+     * @author 송학현
+     * @since 1.0
+     */
+    @Data
+    public static class Config {
+        private long burstCapacity = 20;
+        private double replenishRate = 10;
+        private long requestedTokens = 1;
+        private KeyType keyType = KeyType.IP;
+    }
+
+    /**
+     * 요청한 client의 token bucket에서 token을 소비하고, 부족한 경우 요청을 거부하는 filter 로직입니다.
+     *
+     * @param config 필터의 설정 클래스 입니다.
+     * @return Spring Cloud Gateway에서 작동 하는 filter 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            String routeId = resolveRouteId(exchange);
+            long now = System.nanoTime();
+            TokenBucket bucket = registry.resolve(
+                    routeId,
+                    resolveClientKey(exchange, config.getKeyType()),
+                    config.getBurstCapacity(),
+                    config.getReplenishRate(),
+                    now
+            );
+
+            long waitNanos = bucket.tryConsume(config.getRequestedTokens(), now);
+            if (waitNanos == 0L) {
+                return chain.filter(exchange);
+            }
+
+            rejectedCounter(routeId).increment();
+            log.debug("Rate limit exceeded: route -> {}, path -> {}", routeId, exchange.getRequest().getPath());
+
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(toRetryAfterSeconds(waitNanos)));
+            return response.setComplete();
+        };
+    }
+
+    private Counter rejectedCounter(String routeId) {
+        return Counter.builder("yesaladin.gateway.rate-limit.rejected")
+                .description("요청 수 제한으로 거부된 요청 수")
+                .tag("route", routeId)
+                .register(meterRegistry);
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1L, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private static String resolveRouteId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return Objects.isNull(route) ? "default" : route.getId();
+    }
+
+    private String resolveClientKey(ServerWebExchange exchange, KeyType keyType) {
+        if (keyType == KeyType.MEMBER) {
+            String loginId = exchange.getAttribute(JwtPreValidationFilter.LOGIN_ID_ATTR);
+            if (Objects.nonNull(loginId)) {
+                return "member:" + loginId;
+            }
+        }
+        return "ip:" + resolveClientIp(exchange.getRequest());
+    }
+
+    private String resolveClientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (Objects.isNull(remoteAddress) || Objects.isNull(remoteAddress.getAddress())) {
+            return UNKNOWN_CLIENT;
+        }
+        String clientIp = remoteAddress.getAddress().getHostAddress();
+        if (!trustedProxies.contains(clientIp)) {
+            return clientIp;
+        }
+
+        List<String> forwardedFor = request.getHeaders().getOrDefault(FORWARDED_FOR, List.of());
+        for (int i = forwardedFor.size() - 1; i >= 0; i--) {
+            String[] hops = forwardedFor.get(i).split(",");
+            for (int j = hops.length - 1; j >= 0; j--) {
+                String hop = hops[j].trim();
+                if (hop.isEmpty()) {
+                    continue;
+                }
+                clientIp = hop;
+                if (!trustedProxies.contains(hop)) {
+                    return hop;
+                }
+            }
+        }
+        return clientIp;
+    }
+}
@@ -0,0 +1,60 @@
+package shop.yesaladin.gateway.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.stereotype.Component;
+import shop.yesaladin.gateway.config.JwtProperties;
+
+/**
+ * Gateway에서 검증한 사용자 정보를 backend가 신뢰할 수 있도록 HMAC-SHA256으로 서명하는 클래스 입니다.
+ * <p>
+ * 서명 대상은 {@code loginId + "\n" + roles + "\n" + timestamp} 이며, Shop 서버는 동일한 secret으로 서명을 검증합니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Component
+public class IdentityHeaderSigner {
+
+    public static final String LOGIN_ID_HEADER = "X-Yesaladin-Login-Id";
+    public static final String ROLES_HEADER = "X-Yesaladin-Roles";
+    public static final String TIMESTAMP_HEADER = "X-Yesaladin-Identity-Timestamp";
+    public static final String SIGNATURE_HEADER = "X-Yesaladin-Identity-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec keySpec;
+
+    public IdentityHeaderSigner(JwtProperties properties) {
+        this.keySpec = new SecretKeySpec(
+                properties.getIdentitySecret().getBytes(StandardCharsets.UTF_8),
+                ALGORITHM
+        );
+    }
+
+    /**
+     * 사용자 정보와 전달 시각에 대한 서명을 생성합니다.
+     *
+     * @param loginId   회원의 loginId 입니다.
+     * @param roles     쉼표로 구분한 회원의 권한 목록입니다.
+     * @param timestamp 서명 시각(epoch millis) 입니다.
+     * @return Base64 URL 인코딩 된 서명
+     * @author 송학현
+     * @since 1.0
+     */
+    public String sign(String loginId, String roles, long timestamp) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(keySpec);
+            byte[] signature = mac.doFinal((loginId + "\n" + roles + "\n" + timestamp)
+                    .getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("Failed to sign identity headers", e);
+        }
+    }
+}
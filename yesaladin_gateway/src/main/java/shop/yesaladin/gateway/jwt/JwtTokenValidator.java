@@ -0,0 +1,64 @@
+package shop.yesaladin.gateway.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+import shop.yesaladin.gateway.config.JwtProperties;
+
+/**
+ * Auth 서버가 발급한 JWT의 서명과 만료 시간을 Gateway에서 검증하기 위한 클래스 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Component
+public class JwtTokenValidator {
+
+    private static final String ROLES_CLAIM = "roles";
+
+    private final JwtParser parser;
+
+    public JwtTokenValidator(JwtProperties properties) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(properties.getSecretKey()
+                        .getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+
+    /**
+     * JWT 토큰을 검증하고 payload에 들어있는 사용자 식별 정보와 권한 정보를 추출합니다.
+     *
+     * @param token JWT 토큰입니다.
+     * @return 검증에 성공한 경우 사용자 정보, 서명이 올바르지 않거나 만료된 경우 empty
+     * @author 송학현
+     * @since 1.0
+     */
+    public Optional<VerifiedIdentity> validate(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (Objects.isNull(claims.getSubject())) {
+                return Optional.empty();
+            }
+            return Optional.of(new VerifiedIdentity(claims.getSubject(), extractRoles(claims)));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static List<String> extractRoles(Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+        if (!(roles instanceof List)) {
+            return Collections.emptyList();
+        }
+        return ((List<?>) roles).stream().map(String::valueOf).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,19 @@
+package shop.yesaladin.gateway.jwt;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Gateway에서 검증을 마친 JWT의 사용자 식별 정보와 권한 정보 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class VerifiedIdentity {
+
+    private final String loginId;
+    private final List<String> roles;
+}
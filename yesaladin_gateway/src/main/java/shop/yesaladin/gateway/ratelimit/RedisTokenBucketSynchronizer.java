@@ -0,0 +1,180 @@
+package shop.yesaladin.gateway.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.yesaladin.gateway.config.RateLimitProperties;
+
+/**
+ * 여러 gateway 인스턴스가 동일한 요청 수 제한을 공유할 수 있도록 token bucket의 소비량을 Redis를 통해 동기화 합니다.
+ * <p>
+ * 요청 처리 경로에서는 Redis를 호출하지 않으며, 주기적으로 각 인스턴스의 소비량을 Redis에 합산한 뒤 다른 인스턴스에서 소비한 만큼 로컬
+ * bucket의 token을 차감합니다. 한 번의 동기화에서 최근 사용된 모든 bucket을 하나의 script 호출로 보내므로, client 수가 늘어나도
+ * Redis 왕복 횟수는 최대 500개 bucket 당 한 번입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "yesaladin.rate-limit.redis.enabled", havingValue = "true")
+public class RedisTokenBucketSynchronizer {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+    private static final int MAX_KEYS_PER_CALL = 500;
+    private static final String TOTAL_DELIMITER = ",";
+    // ARGV[1]은 key의 만료 시간이고, ARGV[i + 1]은 KEYS[i]에 더할 소비량 입니다. 합산 값은 KEYS 순서대로 쉼표로 이어 반환합니다.
+    private static final RedisScript<String> INCREMENT_SCRIPT = RedisScript.of(
+            "local totals = {} "
+                    + "for i, key in ipairs(KEYS) do "
+                    + "totals[i] = redis.call('INCRBY', key, ARGV[i + 1]) "
+                    + "redis.call('PEXPIRE', key, ARGV[1]) "
+                    + "end "
+                    + "return table.concat(totals, ',')",
+            String.class
+    );
+
+    private final TokenBucketRegistry registry;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final String keyTtlMs;
+    private final long syncIntervalNanos;
+    private final Map<String, SyncState> syncStates = new ConcurrentHashMap<>();
+
+    public RedisTokenBucketSynchronizer(
+            TokenBucketRegistry registry,
+            ReactiveStringRedisTemplate redisTemplate,
+            RateLimitProperties properties
+    ) {
+        this.registry = registry;
+        this.redisTemplate = redisTemplate;
+        this.keyTtlMs = String.valueOf(properties.getRedisKeyTtlMs());
+        this.syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getRedisSyncIntervalMs());
+    }
+
+    /**
+     * 최근 사용된 bucket의 소비량을 Redis에 반영하고, 다른 인스턴스의 소비량을 로컬 bucket에 적용합니다.
+     *
+     * @author 송학현
+     * @since 1.0
+     */
+    @Scheduled(fixedDelayString = "${yesaladin.rate-limit.redis.sync-interval-ms:200}")
+    public void synchronize() {
+        long now = System.nanoTime();
+        syncStates.keySet().removeIf(key -> registry.get(key) == null);
+
+        List<PendingSync> pending = new ArrayList<>();
+        registry.forEach((key, bucket) -> {
+            if (bucket.isIdle(syncIntervalNanos, now)) {
+                return;
+            }
+            pending.add(new PendingSync(key, bucket, bucket.drainUnsyncedConsumed()));
+        });
+        for (int from = 0; from < pending.size(); from += MAX_KEYS_PER_CALL) {
+            send(new ArrayList<>(pending.subList(
+                    from,
+                    Math.min(pending.size(), from + MAX_KEYS_PER_CALL)
+            )));
+        }
+    }
+
+    private void send(List<PendingSync> batch) {
+        List<String> keys = new ArrayList<>(batch.size());
+        List<String> args = new ArrayList<>(batch.size() + 1);
+        args.add(keyTtlMs);
+        for (PendingSync sync : batch) {
+            keys.add(KEY_PREFIX + sync.key);
+            args.add(String.valueOf(sync.delta));
+        }
+
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, keys, args)
+                    .next()
+                    .timeout(Duration.ofSeconds(1))
+                    .subscribe(
+                            totals -> applyRemoteConsumption(batch, totals),
+                            e -> restore(batch, e)
+                    );
+        } catch (RuntimeException e) {
+            restore(batch, e);
+        }
+    }
+
+    /**
+     * Redis에 반영하지 못한 소비량을 bucket에 되돌려 다음 동기화에서 다시 보냅니다. 제한 시간을 넘긴 호출이 Redis에는 반영되었을 수 있으나,
+     * 이 경우 소비량이 한 번 더 합산되어 요청을 더 적게 허용하는 쪽으로만 어긋납니다.
+     */
+    private void restore(List<PendingSync> batch, Throwable cause) {
+        log.warn("Rate limit sync failed: buckets -> {}", batch.size(), cause);
+        for (PendingSync sync : batch) {
+            sync.bucket.restoreUnsyncedConsumed(sync.delta);
+        }
+    }
+
+    private void applyRemoteConsumption(List<PendingSync> batch, String totals) {
+        String[] values = totals.split(TOTAL_DELIMITER);
+        if (values.length != batch.size()) {
+            log.warn("Rate limit sync returned {} totals for {} buckets", values.length, batch.size());
+            return;
+        }
+        long now = System.nanoTime();
+        for (int i = 0; i < values.length; i++) {
+            PendingSync sync = batch.get(i);
+            SyncState syncState = syncStates.computeIfAbsent(sync.key, k -> new SyncState());
+            long remoteDelta = syncState.update(sync.delta, Long.parseLong(values[i]));
+            sync.bucket.drain(remoteDelta, now);
+        }
+    }
+
+    /**
+     * 한 번의 동기화에서 Redis에 반영할 bucket과 소비량 입니다.
+     *
+     * @author 송학현
+     * @since 1.0
+     */
+    private static final class PendingSync {
+
+        private final String key;
+        private final TokenBucket bucket;
+        private final long delta;
+
+        private PendingSync(String key, TokenBucket bucket, long delta) {
+            this.key = key;
+            this.bucket = bucket;
+            this.delta = delta;
+        }
+    }
+
+    /**
+     * bucket 별로 Redis에 반영한 자신의 소비량과 마지막으로 관측한 다른 인스턴스의 소비량을 기록합니다.
+     *
+     * @author 송학현
+     * @since 1.0
+     */
+    private static final class SyncState {
+
+        private long ownReported;
+        private long lastRemote;
+
+        private synchronized long update(long delta, long total) {
+            ownReported += delta;
+            if (total < ownReported) {
+                // Redis의 key가 만료되어 합산 값이 초기화 된 경우 입니다.
+                ownReported = delta;
+                lastRemote = 0;
+            }
+            long remote = total - ownReported;
+            long remoteDelta = Math.max(0, remote - lastRemote);
+            lastRemote = remote;
+            return remoteDelta;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package shop.yesaladin.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * client 및 route 단위로 요청 수를 제한하기 위한 lock-free token bucket 입니다.
+ * <p>
+ * token 수와 마지막 충전 시각을 하나의 불변 상태로 묶어 CAS로 갱신하므로 동시에 들어오는 요청 간 lock 경합이 없습니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+public class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+    private final AtomicLong unsyncedConsumed = new AtomicLong();
+    private volatile long lastAccessNanos;
+
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerSecond must be positive");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+        this.lastAccessNanos = nowNanos;
+    }
+
+    /**
+     * 요청한 만큼의 token 소비를 시도합니다.
+     *
+     * @param tokens   소비할 token 수 입니다.
+     * @param nowNanos 현재 시각(nano) 입니다.
+     * @return 소비에 성공한 경우 0, 실패한 경우 token이 충전되기까지 기다려야 하는 시간(nano)
+     * @author 송학현
+     * @since 1.0
+     */
+    public long tryConsume(long tokens, long nowNanos) {
+        lastAccessNanos = nowNanos;
+        while (true) {
+            State current = state.get();
+            double available = refill(current, nowNanos);
+            if (available < tokens) {
+                return (long) Math.ceil((tokens - available) / refillPerNano);
+            }
+            if (state.compareAndSet(current, new State(available - tokens, nowNanos))) {
+                unsyncedConsumed.addAndGet(tokens);
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 다른 gateway 인스턴스에서 소비된 token 만큼 현재 bucket의 token을 차감합니다.
+     *
+     * @param tokens   다른 인스턴스에서 소비된 token 수 입니다.
+     * @param nowNanos 현재 시각(nano) 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    public void drain(long tokens, long nowNanos) {
+        if (tokens <= 0) {
+            return;
+        }
+        while (true) {
+            State current = state.get();
+            double remaining = Math.max(0, refill(current, nowNanos) - tokens);
+            if (state.compareAndSet(current, new State(remaining, nowNanos))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 마지막 동기화 이후 이 인스턴스에서 소비한 token 수를 반환하고 0으로 초기화합니다.
+     *
+     * @return 마지막 동기화 이후 소비한 token 수
+     * @author 송학현
+     * @since 1.0
+     */
+    public long drainUnsyncedConsumed() {
+        return unsyncedConsumed.getAndSet(0);
+    }
+
+    /**
+     * 동기화에 실패하여 Redis에 반영하지 못한 소비량을 다음 동기화에서 다시 보내도록 되돌립니다.
+     *
+     * @param tokens 반영하지 못한 token 수 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    public void restoreUnsyncedConsumed(long tokens) {
+        if (tokens > 0) {
+            unsyncedConsumed.addAndGet(tokens);
+        }
+    }
+
+    /**
+     * 일정 시간 동안 사용되지 않았고 token이 가득 차 있어 제거해도 동작이 달라지지 않는 bucket 인지 확인합니다.
+     *
+     * @param idleNanos 유휴 상태로 판단할 시간(nano) 입니다.
+     * @param nowNanos  현재 시각(nano) 입니다.
+     * @return 제거 가능 여부
+     * @author 송학현
+     * @since 1.0
+     */
+    public boolean isIdle(long idleNanos, long nowNanos) {
+        return nowNanos - lastAccessNanos >= idleNanos && refill(state.get(), nowNanos) >= capacity;
+    }
+
+    public double availableTokens(long nowNanos) {
+        return refill(state.get(), nowNanos);
+    }
+
+    private double refill(State current, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - current.lastRefillNanos);
+        return Math.min(capacity, current.tokens + elapsed * refillPerNano);
+    }
+
+    private static final class State {
+
+        private final double tokens;
+        private final long lastRefillNanos;
+
+        private State(double tokens, long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+    }
+}
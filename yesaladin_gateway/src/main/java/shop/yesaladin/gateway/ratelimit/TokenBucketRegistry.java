@@ -0,0 +1,101 @@
+package shop.yesaladin.gateway.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.yesaladin.gateway.config.RateLimitProperties;
+
+/**
+ * client 및 route 별 token bucket을 보관하는 저장소 입니다.
+ * <p>
+ * 보관하는 bucket 수는 설정된 최대치를 넘지 않으며, 최대치에 도달한 경우 새로운 client는 route 단위로 공유되는 overflow bucket을
+ * 사용합니다. 유휴 상태의 bucket은 주기적으로 제거됩니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class TokenBucketRegistry {
+
+    private static final String OVERFLOW_KEY = "__overflow__";
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final int maxBuckets;
+    private final long idleTimeoutNanos;
+
+    public TokenBucketRegistry(RateLimitProperties properties) {
+        this.maxBuckets = properties.getMaxBuckets();
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(properties.getIdleTimeoutMs());
+    }
+
+    /**
+     * route와 client key에 해당하는 bucket을 조회하며, 없는 경우 새로 생성합니다.
+     *
+     * @param routeId         요청이 라우팅 되는 route의 id 입니다.
+     * @param clientKey       요청한 client를 식별하는 key 입니다.
+     * @param capacity        bucket의 최대 token 수 입니다.
+     * @param refillPerSecond 초당 충전되는 token 수 입니다.
+     * @param nowNanos        현재 시각(nano) 입니다.
+     * @return route와 client key에 해당하는 bucket
+     * @author 송학현
+     * @since 1.0
+     */
+    public TokenBucket resolve(
+            String routeId,
+            String clientKey,
+            long capacity,
+            double refillPerSecond,
+            long nowNanos
+    ) {
+        String key = routeId + ":" + clientKey;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets) {
+            key = routeId + ":" + OVERFLOW_KEY;
+        }
+        return buckets.computeIfAbsent(
+                key,
+                k -> new TokenBucket(capacity, refillPerSecond, nowNanos)
+        );
+    }
+
+    /**
+     * 보관 중인 모든 bucket에 대해 주어진 작업을 수행합니다.
+     *
+     * @param action bucket key와 bucket을 받아 수행할 작업 입니다.
+     * @author 송학현
+     * @since 1.0
+     */
+    public void forEach(BiConsumer<String, TokenBucket> action) {
+        buckets.forEach(action);
+    }
+
+    public TokenBucket get(String key) {
+        return buckets.get(key);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * 유휴 상태인 bucket을 제거하여 메모리 사용량을 일정하게 유지합니다.
+     *
+     * @author 송학현
+     * @since 1.0
+     */
+    @Scheduled(fixedDelayString = "${yesaladin.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(idleTimeoutNanos, now));
+        log.debug("Rate limit buckets evicted: {} -> {}", before, buckets.size());
+    }
+}
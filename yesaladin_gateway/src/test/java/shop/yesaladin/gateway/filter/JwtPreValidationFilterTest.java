@@ -0,0 +1,241 @@
+package shop.yesaladin.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import shop.yesaladin.gateway.config.JwtProperties;
+import shop.yesaladin.gateway.filter.JwtPreValidationFilter.Config;
+import shop.yesaladin.gateway.jwt.IdentityHeaderSigner;
+import shop.yesaladin.gateway.jwt.JwtTokenValidator;
+
+class JwtPreValidationFilterTest {
+
+    private static final String JWT_SECRET = "jwt-secret-for-gateway-pre-validation-test";
+    private static final String OTHER_JWT_SECRET = "another-jwt-secret-which-is-not-trusted-by-gateway";
+    // Shop의 GatewayIdentityAuthenticationFilterTest와 같은 secret 입니다.
+    private static final String IDENTITY_SECRET = "gateway-identity-secret-for-test";
+    private static final String REJECTED_COUNTER = "yesaladin.gateway.jwt.rejected";
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdentityHeaderSigner signer;
+    private GatewayFilterChain chain;
+    private JwtPreValidationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = Mockito.mock(JwtProperties.class);
+        when(properties.getSecretKey()).thenReturn(JWT_SECRET);
+        when(properties.getIdentitySecret()).thenReturn(IDENTITY_SECRET);
+
+        meterRegistry = new SimpleMeterRegistry();
+        signer = new IdentityHeaderSigner(properties);
+        chain = Mockito.mock(GatewayFilterChain.class);
+        when(chain.filter(any())).thenReturn(Mono.empty());
+        filter = new JwtPreValidationFilter(new JwtTokenValidator(properties), signer, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 토큰은 401로 응답하고 거부 횟수를 기록한다.")
+    void apply_malformedToken() {
+        //given
+        MockServerWebExchange exchange = exchange(request().header(
+                HttpHeaders.AUTHORIZATION,
+                "Bearer not-a-jwt"
+        ));
+
+        //when
+        filter.apply(config(false)).filter(exchange, chain).block();
+
+        //then
+        assertUnauthorized(exchange, "invalid");
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 401로 응답하고 거부 횟수를 기록한다.")
+    void apply_expiredToken() {
+        //given
+        String token = token(JWT_SECRET, new Date(System.currentTimeMillis() - 60000L));
+        MockServerWebExchange exchange = exchange(request().header(
+                HttpHeaders.AUTHORIZATION,
+                "Bearer " + token
+        ));
+
+        //when
+        filter.apply(config(false)).filter(exchange, chain).block();
+
+        //then
+        assertUnauthorized(exchange, "invalid");
+    }
+
+    @Test
+    @DisplayName("다른 key로 서명된 토큰은 401로 응답하고 거부 횟수를 기록한다.")
+    void apply_wrongKeyToken() {
+        //given
+        String token = token(OTHER_JWT_SECRET, new Date(System.currentTimeMillis() + 60000L));
+        MockServerWebExchange exchange = exchange(request().header(
+                HttpHeaders.AUTHORIZATION,
+                "Bearer " + token
+        ));
+
+        //when
+        filter.apply(config(false)).filter(exchange, chain).block();
+
+        //then
+        assertUnauthorized(exchange, "invalid");
+    }
+
+    @Test
+    @DisplayName("Bearer 형식이 아닌 Authorization 헤더는 401로 응답한다.")
+    void apply_notBearer() {
+        //given
+        String token = token(JWT_SECRET, new Date(System.currentTimeMillis() + 60000L));
+        MockServerWebExchange exchange = exchange(request().header(
+                HttpHeaders.AUTHORIZATION,
+                "Basic " + token
+        ));
+
+        //when
+        filter.apply(config(false)).filter(exchange, chain).block();
+
+        //then
+        assertUnauthorized(exchange, "invalid");
+    }
+
+    @Test
+    @DisplayName("인증이 필요한 경로에 Authorization 헤더가 없으면 401로 응답한다.")
+    void apply_missingAuthorization_required() {
+        //given
+        MockServerWebExchange exchange = exchange(request());
+
+        //when
+        filter.apply(config(true)).filter(exchange, chain).block();
+
+        //then
+        assertUnauthorized(exchange, "missing");
+    }
+
+    @Test
+    @DisplayName("인증이 필요하지 않은 경로는 Authorization 헤더가 없어도 전달하고 사용자 정보 헤더를 제거한다.")
+    void apply_missingAuthorization_notRequired() {
+        //given
+        MockServerWebExchange exchange = exchange(spoofedIdentity(request()));
+
+        //when
+        filter.apply(config(false)).filter(exchange, chain).block();
+
+        //then
+        HttpHeaders forwarded = forwardedRequest().getHeaders();
+        assertThat(forwarded.containsKey(IdentityHeaderSigner.LOGIN_ID_HEADER)).isFalse();
+        assertThat(forwarded.containsKey(IdentityHeaderSigner.ROLES_HEADER)).isFalse();
+        assertThat(forwarded.containsKey(IdentityHeaderSigner.TIMESTAMP_HEADER)).isFalse();
+        assertThat(forwarded.containsKey(IdentityHeaderSigner.SIGNATURE_HEADER)).isFalse();
+        assertThat(rejectedCount("missing")).isZero();
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 클라이언트가 보낸 사용자 정보 헤더를 제거하고 서명된 사용자 정보 헤더로 전달한다.")
+    void apply_validToken() {
+        //given
+        String token = token(JWT_SECRET, new Date(System.currentTimeMillis() + 60000L));
+        MockServerWebExchange exchange = exchange(spoofedIdentity(request().header(
+                HttpHeaders.AUTHORIZATION,
+                "Bearer " + token
+        )));
+        long before = System.currentTimeMillis();
+
+        //when
+        filter.apply(config(true)).filter(exchange, chain).block();
+
+        //then
+        HttpHeaders forwarded = forwardedRequest().getHeaders();
+        String timestamp = forwarded.getFirst(IdentityHeaderSigner.TIMESTAMP_HEADER);
+        assertThat(forwarded.get(IdentityHeaderSigner.LOGIN_ID_HEADER)).containsExactly("user");
+        assertThat(forwarded.get(IdentityHeaderSigner.ROLES_HEADER))
+                .containsExactly("ROLE_USER,ROLE_ADMIN");
+        assertThat(Long.parseLong(timestamp)).isBetween(before, System.currentTimeMillis());
+        assertThat(forwarded.get(IdentityHeaderSigner.SIGNATURE_HEADER))
+                .containsExactly(signer.sign("user", "ROLE_USER,ROLE_ADMIN", Long.parseLong(timestamp)));
+        assertThat((String) exchange.getAttribute(JwtPreValidationFilter.LOGIN_ID_ATTR))
+                .isEqualTo("user");
+    }
+
+    @Test
+    @DisplayName("서명은 Shop 서버의 GatewayIdentityAuthenticationFilter가 같은 secret으로 검증하는 값과 같다.")
+    void sign_matchesShopVerification() {
+        // GatewayIdentityAuthenticationFilterTest.doFilter_gatewaySignature 와 같은 입력과 서명입니다.
+        assertThat(signer.sign("user", "ROLE_USER,ROLE_ADMIN", 1674086400000L))
+                .isEqualTo("gPID41Tuxvm1CTimmHOmn-MBfan2xwCRFRcMm0BWRy8");
+    }
+
+    private void assertUnauthorized(MockServerWebExchange exchange, String reason) {
+        verify(chain, never()).filter(any());
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(rejectedCount(reason)).isEqualTo(1.0);
+    }
+
+    private double rejectedCount(String reason) {
+        return meterRegistry.counter(REJECTED_COUNTER, "reason", reason).count();
+    }
+
+    private ServerHttpRequest forwardedRequest() {
+        ArgumentCaptor<ServerWebExchange> captor = ArgumentCaptor.forClass(ServerWebExchange.class);
+        verify(chain, times(1)).filter(captor.capture());
+        return captor.getValue().getRequest();
+    }
+
+    private static String token(String secret, Date expiration) {
+        return Jwts.builder()
+                .setSubject("user")
+                .claim("roles", List.of("ROLE_USER", "ROLE_ADMIN"))
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private static MockServerHttpRequest.BaseBuilder<?> spoofedIdentity(
+            MockServerHttpRequest.BaseBuilder<?> request
+    ) {
+        return request.header(IdentityHeaderSigner.LOGIN_ID_HEADER, "admin")
+                .header(IdentityHeaderSigner.ROLES_HEADER, "ROLE_ADMIN")
+                .header(IdentityHeaderSigner.TIMESTAMP_HEADER, "0")
+                .header(IdentityHeaderSigner.SIGNATURE_HEADER, "forged");
+    }
+
+    private static Config config(boolean required) {
+        Config config = new Config();
+        config.setRequired(required);
+        return config;
+    }
+
+    private static MockServerHttpRequest.BaseBuilder<?> request() {
+        return MockServerHttpRequest.get("/shop/v1/members");
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+}
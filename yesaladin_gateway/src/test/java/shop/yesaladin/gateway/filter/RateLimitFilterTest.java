@@ -0,0 +1,152 @@
+package shop.yesaladin.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import shop.yesaladin.gateway.config.RateLimitProperties;
+import shop.yesaladin.gateway.filter.RateLimitFilter.Config;
+import shop.yesaladin.gateway.filter.RateLimitFilter.KeyType;
+import shop.yesaladin.gateway.ratelimit.TokenBucketRegistry;
+
+class RateLimitFilterTest {
+
+    private static final String PROXY_IP = "10.0.0.1";
+
+    private TokenBucketRegistry registry;
+    private GatewayFilterChain chain;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = Mockito.mock(RateLimitProperties.class);
+        when(properties.getMaxBuckets()).thenReturn(100);
+        when(properties.getIdleTimeoutMs()).thenReturn(300000L);
+        when(properties.getTrustedProxies()).thenReturn(List.of(PROXY_IP));
+
+        registry = new TokenBucketRegistry(properties);
+        chain = Mockito.mock(GatewayFilterChain.class);
+        when(chain.filter(any())).thenReturn(Mono.empty());
+        filter = new RateLimitFilter(registry, new SimpleMeterRegistry(), properties);
+    }
+
+    @Test
+    @DisplayName("허용량을 초과한 요청은 backend로 전달하지 않고 429와 Retry-After 헤더로 응답한다.")
+    void apply_tooManyRequests() throws Exception {
+        //given
+        GatewayFilter gatewayFilter = filter.apply(config(1, 0.5, KeyType.IP));
+        MockServerWebExchange first = exchange(request("1.1.1.1"));
+        MockServerWebExchange second = exchange(request("1.1.1.1"));
+
+        //when
+        gatewayFilter.filter(first, chain).block();
+        gatewayFilter.filter(second, chain).block();
+
+        //then
+        verify(chain, times(1)).filter(first);
+        verify(chain, never()).filter(second);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(second.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 client가 보낸 X-Forwarded-For 헤더는 무시한다.")
+    void apply_untrustedForwardedFor() throws Exception {
+        //given
+        GatewayFilter gatewayFilter = filter.apply(config(1, 0.5, KeyType.IP));
+
+        //when
+        gatewayFilter.filter(exchange(request("1.1.1.1").header("X-Forwarded-For", "2.2.2.2")), chain)
+                .block();
+        gatewayFilter.filter(exchange(request("1.1.1.1").header("X-Forwarded-For", "3.3.3.3")), chain)
+                .block();
+
+        //then
+        assertThat(registry.get("default:ip:1.1.1.1")).isNotNull();
+        assertThat(registry.get("default:ip:2.2.2.2")).isNull();
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("신뢰하는 proxy를 거친 요청은 X-Forwarded-For 헤더에서 신뢰하지 않는 가장 오른쪽 주소를 사용한다.")
+    void apply_trustedProxy() throws Exception {
+        //given
+        GatewayFilter gatewayFilter = filter.apply(config(1, 0.5, KeyType.IP));
+        MockServerHttpRequest.BaseBuilder<?> request = request(PROXY_IP)
+                .header("X-Forwarded-For", "9.9.9.9, 2.2.2.2, " + PROXY_IP);
+
+        //when
+        gatewayFilter.filter(exchange(request), chain).block();
+
+        //then
+        assertThat(registry.get("default:ip:2.2.2.2")).isNotNull();
+        assertThat(registry.get("default:ip:9.9.9.9")).isNull();
+    }
+
+    @Test
+    @DisplayName("MEMBER 방식에서 검증된 회원이 없으면 Authorization 헤더가 아닌 IP를 기준으로 제한한다.")
+    void apply_memberWithoutVerifiedLogin() throws Exception {
+        //given
+        GatewayFilter gatewayFilter = filter.apply(config(1, 0.5, KeyType.MEMBER));
+        MockServerWebExchange first = exchange(request("1.1.1.1").header(HttpHeaders.AUTHORIZATION, "Bearer a"));
+        MockServerWebExchange second = exchange(request("1.1.1.1").header(HttpHeaders.AUTHORIZATION, "Bearer b"));
+
+        //when
+        gatewayFilter.filter(first, chain).block();
+        gatewayFilter.filter(second, chain).block();
+
+        //then
+        assertThat(registry.get("default:ip:1.1.1.1")).isNotNull();
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("MEMBER 방식에서 검증된 회원은 회원 단위로 제한한다.")
+    void apply_memberWithVerifiedLogin() throws Exception {
+        //given
+        GatewayFilter gatewayFilter = filter.apply(config(1, 0.5, KeyType.MEMBER));
+        MockServerWebExchange exchange = exchange(request("1.1.1.1"));
+        exchange.getAttributes().put(JwtPreValidationFilter.LOGIN_ID_ATTR, "user@1");
+
+        //when
+        gatewayFilter.filter(exchange, chain).block();
+
+        //then
+        assertThat(registry.get("default:member:user@1")).isNotNull();
+        assertThat(registry.get("default:ip:1.1.1.1")).isNull();
+    }
+
+    private static Config config(long burstCapacity, double replenishRate, KeyType keyType) {
+        Config config = new Config();
+        config.setBurstCapacity(burstCapacity);
+        config.setReplenishRate(replenishRate);
+        config.setKeyType(keyType);
+        return config;
+    }
+
+    private static MockServerHttpRequest.BaseBuilder<?> request(String remoteIp) {
+        return MockServerHttpRequest.get("/shop/v1/products")
+                .remoteAddress(new InetSocketAddress(remoteIp, 12345));
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+}
@@ -0,0 +1,133 @@
+package shop.yesaladin.gateway.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import shop.yesaladin.gateway.config.RateLimitProperties;
+
+class RedisTokenBucketSynchronizerTest {
+
+    private TokenBucketRegistry registry;
+    private ReactiveStringRedisTemplate redisTemplate;
+    private RedisTokenBucketSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = Mockito.mock(RateLimitProperties.class);
+        when(properties.getMaxBuckets()).thenReturn(100);
+        when(properties.getIdleTimeoutMs()).thenReturn(300000L);
+        when(properties.getRedisKeyTtlMs()).thenReturn(600000L);
+        when(properties.getRedisSyncIntervalMs()).thenReturn(200L);
+
+        registry = new TokenBucketRegistry(properties);
+        redisTemplate = Mockito.mock(ReactiveStringRedisTemplate.class);
+        synchronizer = new RedisTokenBucketSynchronizer(registry, redisTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("최근 사용된 모든 bucket의 소비량을 한 번의 script 호출로 Redis에 반영한다.")
+    @SuppressWarnings("unchecked")
+    void synchronize_singleCall() {
+        //given
+        long now = System.nanoTime();
+        TokenBucket first = registry.resolve("route", "ip:1.1.1.1", 10, 1, now);
+        TokenBucket second = registry.resolve("route", "ip:2.2.2.2", 10, 1, now);
+        first.tryConsume(2, now);
+        second.tryConsume(3, now);
+        // 두 번째 bucket은 다른 인스턴스에서 4개가 더 소비된 상태입니다.
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenAnswer(invocation -> {
+                    List<String> keys = invocation.getArgument(1);
+                    return Flux.just(keys.get(0).endsWith("1.1.1.1") ? "2,7" : "7,2");
+                });
+
+        //when
+        synchronizer.synchronize();
+
+        //then
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<String>> args = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), keys.capture(), args.capture());
+        assertThat(keys.getValue()).containsExactlyInAnyOrder(
+                "rate-limit:route:ip:1.1.1.1",
+                "rate-limit:route:ip:2.2.2.2"
+        );
+        assertThat(args.getValue()).hasSize(3);
+        assertThat(args.getValue().get(0)).isEqualTo("600000");
+
+        assertThat(first.availableTokens(now)).isEqualTo(8.0);
+        assertThat(second.availableTokens(now)).isCloseTo(3.0, within(0.1));
+    }
+
+    @Test
+    @DisplayName("Redis 호출에 실패하면 소비량을 되돌려 다음 동기화에서 다시 보낸다.")
+    @SuppressWarnings("unchecked")
+    void synchronize_failed() {
+        //given
+        long now = System.nanoTime();
+        TokenBucket bucket = registry.resolve("route", "ip:1.1.1.1", 10, 1, now);
+        bucket.tryConsume(2, now);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenReturn(Flux.error(new IllegalStateException("redis down")))
+                .thenReturn(Flux.just("2"));
+
+        //when
+        synchronizer.synchronize();
+        synchronizer.synchronize();
+
+        //then
+        ArgumentCaptor<List<String>> args = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), args.capture());
+        assertThat(args.getAllValues().get(0)).containsExactly("600000", "2");
+        assertThat(args.getAllValues().get(1)).containsExactly("600000", "2");
+        assertThat(bucket.drainUnsyncedConsumed()).isZero();
+        assertThat(bucket.availableTokens(now)).isEqualTo(8.0);
+    }
+
+    @Test
+    @DisplayName("Redis 호출이 즉시 예외를 던져도 소비량을 되돌린다.")
+    @SuppressWarnings("unchecked")
+    void synchronize_failedImmediately() {
+        //given
+        long now = System.nanoTime();
+        TokenBucket bucket = registry.resolve("route", "ip:1.1.1.1", 10, 1, now);
+        bucket.tryConsume(3, now);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenThrow(new IllegalStateException("redis down"));
+
+        //when
+        synchronizer.synchronize();
+
+        //then
+        assertThat(bucket.drainUnsyncedConsumed()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("최근 사용되지 않은 bucket만 있으면 Redis를 호출하지 않는다.")
+    @SuppressWarnings("unchecked")
+    void synchronize_idle() {
+        //given
+        registry.resolve("route", "ip:1.1.1.1", 10, 1, 0L);
+
+        //when
+        synchronizer.synchronize();
+
+        //then
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), anyList());
+    }
+}
@@ -0,0 +1,72 @@
+package shop.yesaladin.gateway.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import shop.yesaladin.gateway.config.RateLimitProperties;
+
+class TokenBucketRegistryTest {
+
+    private TokenBucketRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = Mockito.mock(RateLimitProperties.class);
+        when(properties.getMaxBuckets()).thenReturn(2);
+        when(properties.getIdleTimeoutMs()).thenReturn(1000L);
+
+        registry = new TokenBucketRegistry(properties);
+    }
+
+    @Test
+    @DisplayName("같은 route와 client key로 조회하면 같은 bucket을 반환한다.")
+    void resolve_sameKey() throws Exception {
+        //when
+        TokenBucket first = registry.resolve("route", "ip:1.1.1.1", 10, 1, 0L);
+        TokenBucket second = registry.resolve("route", "ip:1.1.1.1", 10, 1, 0L);
+
+        //then
+        assertThat(second).isSameAs(first);
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 bucket 수에 도달하면 새로운 client는 route의 overflow bucket을 공유한다.")
+    void resolve_overflow() throws Exception {
+        //given
+        TokenBucket first = registry.resolve("route", "ip:1.1.1.1", 10, 1, 0L);
+        registry.resolve("route", "ip:2.2.2.2", 10, 1, 0L);
+
+        //when
+        TokenBucket third = registry.resolve("route", "ip:3.3.3.3", 10, 1, 0L);
+        TokenBucket fourth = registry.resolve("route", "ip:4.4.4.4", 10, 1, 0L);
+
+        //then
+        assertThat(fourth).isSameAs(third);
+        assertThat(registry.get("route:__overflow__")).isSameAs(third);
+        assertThat(registry.get("route:ip:3.3.3.3")).isNull();
+        assertThat(registry.resolve("route", "ip:1.1.1.1", 10, 1, 0L)).isSameAs(first);
+        assertThat(registry.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("유휴 상태의 bucket을 제거하면 다시 client 별 bucket을 생성한다.")
+    void evictIdleBuckets() throws Exception {
+        //given
+        long past = System.nanoTime() - 10_000_000_000L;
+        registry.resolve("route", "ip:1.1.1.1", 10, 1, past);
+        registry.resolve("route", "ip:2.2.2.2", 10, 1, past);
+
+        //when
+        registry.evictIdleBuckets();
+
+        //then
+        assertThat(registry.size()).isZero();
+        registry.resolve("route", "ip:3.3.3.3", 10, 1, 0L);
+        assertThat(registry.get("route:ip:3.3.3.3")).isNotNull();
+    }
+}
@@ -0,0 +1,90 @@
+package shop.yesaladin.gateway.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("burst 용량 만큼은 즉시 허용되고 초과 요청은 대기 시간을 반환한다.")
+    void tryConsume_burst() throws Exception {
+        //given
+        TokenBucket bucket = new TokenBucket(3, 1, 0L);
+
+        //when, then
+        assertThat(bucket.tryConsume(1, 0L)).isZero();
+        assertThat(bucket.tryConsume(1, 0L)).isZero();
+        assertThat(bucket.tryConsume(1, 0L)).isZero();
+        assertThat(bucket.tryConsume(1, 0L)).isEqualTo(SECOND);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 충전량 만큼 token이 다시 충전된다.")
+    void tryConsume_afterRefill() throws Exception {
+        //given
+        TokenBucket bucket = new TokenBucket(2, 2, 0L);
+        bucket.tryConsume(2, 0L);
+
+        //when
+        long wait = bucket.tryConsume(1, SECOND / 2);
+
+        //then
+        assertThat(wait).isZero();
+        assertThat(bucket.availableTokens(SECOND / 2)).isZero();
+        assertThat(bucket.availableTokens(10 * SECOND)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 소비된 만큼 token이 차감된다.")
+    void drain() throws Exception {
+        //given
+        TokenBucket bucket = new TokenBucket(5, 1, 0L);
+
+        //when
+        bucket.drain(4, 0L);
+
+        //then
+        assertThat(bucket.tryConsume(1, 0L)).isZero();
+        assertThat(bucket.tryConsume(1, 0L)).isPositive();
+    }
+
+    @Test
+    @DisplayName("동시에 요청하더라도 용량을 초과하여 허용하지 않는다.")
+    void tryConsume_concurrent() throws Exception {
+        //given
+        int capacity = 100;
+        int threads = 8;
+        TokenBucket bucket = new TokenBucket(capacity, 0.000001, 0L);
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        //when
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    if (bucket.tryConsume(1, 0L) == 0L) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then
+        assertThat(accepted.get()).isEqualTo(capacity);
+        assertThat(bucket.drainUnsyncedConsumed()).isEqualTo(capacity);
+        assertThat(bucket.drainUnsyncedConsumed()).isZero();
+    }
+}
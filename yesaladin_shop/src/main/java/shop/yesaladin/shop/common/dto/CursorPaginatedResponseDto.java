@@ -0,0 +1,29 @@
+package shop.yesaladin.shop.common.dto;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * cursor 기반으로 조회한 목록의 응답 dto 입니다.
+ * <p>
+ * totalDataCount 는 매 요청마다 세지 않고 잠시 캐시된 값이므로 실제 개수와 조금 다를 수 있습니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPaginatedResponseDto<T> {
+
+    private List<T> dataList;
+    private String nextCursor;
+    private boolean hasNext;
+    private long totalDataCount;
+
+}
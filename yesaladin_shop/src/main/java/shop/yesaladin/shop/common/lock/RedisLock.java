@@ -0,0 +1,104 @@
+package shop.yesaladin.shop.common.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 서버 중 한 곳에서만 작업을 실행하기 위한 Redis lock 입니다.
+ * <p>
+ * lock 을 획득하면 임의의 token 을 값으로 저장하고, 만료 시간 연장과 해제는 값이 token 과 같을 때만 Lua script 로 원자적으로 실행합니다. 작업이
+ * 만료 시간을 넘겨 다른 서버가 lock 을 획득한 뒤에는, 먼저 실행된 작업이 다른 서버의 lock 을 연장하거나 해제하지 않습니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final RedisScript<Long> RELEASE = script("release");
+    private static final RedisScript<Long> EXTEND = script("extend");
+
+    private static final RedisSerializer<String> STRING_SERIALIZER = new StringRedisSerializer();
+    private static final RedisSerializer<Long> LONG_SERIALIZER = new GenericToStringSerializer<>(
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * lock 획득을 시도합니다.
+     *
+     * @param key lock key
+     * @param ttl lock 만료 시간
+     * @return 획득한 경우 lock token, 이미 다른 곳에서 획득한 경우 empty
+     * @author 김선홍
+     * @since 1.0
+     */
+    public Optional<String> tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(locked) ? Optional.of(token) : Optional.empty();
+    }
+
+    /**
+     * 획득한 lock 의 만료 시간을 늘립니다.
+     *
+     * @param key   lock key
+     * @param token lock 을 획득할 때 받은 token
+     * @param ttl   새 만료 시간
+     * @return lock 을 여전히 가지고 있어 만료 시간을 늘린 경우 true
+     * @author 김선홍
+     * @since 1.0
+     */
+    public boolean extend(String key, String token, Duration ttl) {
+        Long extended = redisTemplate.execute(
+                EXTEND,
+                STRING_SERIALIZER,
+                LONG_SERIALIZER,
+                List.of(key),
+                token,
+                String.valueOf(ttl.toMillis())
+        );
+        return Long.valueOf(1L).equals(extended);
+    }
+
+    /**
+     * 획득한 lock 을 해제합니다. 이미 만료되어 다른 곳에서 획득한 lock 은 해제하지 않습니다.
+     *
+     * @param key   lock key
+     * @param token lock 을 획득할 때 받은 token
+     * @return lock 을 해제한 경우 true
+     * @author 김선홍
+     * @since 1.0
+     */
+    public boolean release(String key, String token) {
+        Long released = redisTemplate.execute(
+                RELEASE,
+                STRING_SERIALIZER,
+                LONG_SERIALIZER,
+                List.of(key),
+                token
+        );
+        return Long.valueOf(1L).equals(released);
+    }
+
+    private static RedisScript<Long> script(String name) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(
+                "scripts/lock/" + name + ".lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -0,0 +1,173 @@
+package shop.yesaladin.shop.common.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Gateway에서 JWT를 검증한 뒤 서명하여 전달한 사용자 정보 헤더로 인증 객체를 생성하는 Filter 입니다.
+ * <p>
+ * 서명과 전달 시각이 올바른 경우 Auth 서버를 호출하지 않고 SecurityContext에 인증 정보를 저장하며, 이후의 JWT 인가 Filter가
+ * Auth 서버를 다시 호출하지 않도록 Authorization 헤더를 감춥니다. 사용자 정보 헤더가 없는 요청은 기존 인가 흐름을 그대로 따릅니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Slf4j
+public class GatewayIdentityAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String LOGIN_ID_HEADER = "X-Yesaladin-Login-Id";
+    public static final String ROLES_HEADER = "X-Yesaladin-Roles";
+    public static final String TIMESTAMP_HEADER = "X-Yesaladin-Identity-Timestamp";
+    public static final String SIGNATURE_HEADER = "X-Yesaladin-Identity-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec keySpec;
+    private final long maxSkewMs;
+    private final Clock clock;
+
+    public GatewayIdentityAuthenticationFilter(String identitySecret, long maxSkewMs, Clock clock) {
+        if (Objects.isNull(identitySecret) || identitySecret.isBlank()) {
+            throw new IllegalStateException("Gateway identity secret must be configured in GATEWAY trust mode");
+        }
+        this.keySpec = new SecretKeySpec(identitySecret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.maxSkewMs = maxSkewMs;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String loginId = request.getHeader(LOGIN_ID_HEADER);
+        String signature = request.getHeader(SIGNATURE_HEADER);
+        if (Objects.isNull(loginId) && Objects.isNull(signature)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String roles = Objects.requireNonNullElse(request.getHeader(ROLES_HEADER), "");
+        String timestamp = request.getHeader(TIMESTAMP_HEADER);
+        if (!isTrusted(loginId, roles, timestamp, signature)) {
+            log.warn("Untrusted gateway identity headers: uri -> {}", request.getRequestURI());
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                loginId,
+                null,
+                toAuthorities(roles)
+        ));
+        filterChain.doFilter(new AuthorizationHiddenRequest(request), response);
+    }
+
+    private boolean isTrusted(String loginId, String roles, String timestamp, String signature) {
+        if (Objects.isNull(loginId) || Objects.isNull(timestamp) || Objects.isNull(signature)) {
+            return false;
+        }
+        long signedAt;
+        try {
+            signedAt = Long.parseLong(timestamp);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (Math.abs(clock.millis() - signedAt) > maxSkewMs) {
+            return false;
+        }
+        byte[] expected = sign(loginId + "\n" + roles + "\n" + timestamp);
+        byte[] actual;
+        try {
+            actual = Base64.getUrlDecoder().decode(signature);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(keySpec);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("Failed to verify gateway identity headers", e);
+        }
+    }
+
+    private static List<GrantedAuthority> toAuthorities(String roles) {
+        if (roles.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(roles.split(","))
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gateway에서 이미 검증된 요청에 대해 Authorization 헤더를 감추기 위한 요청 wrapper 입니다.
+     *
+     * @author 송학현
+     * @since 1.0
+     */
+    private static class AuthorizationHiddenRequest extends HttpServletRequestWrapper {
+
+        AuthorizationHiddenRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (HttpHeaders.AUTHORIZATION.equalsIgnoreCase(name)) {
+                return null;
+            }
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (HttpHeaders.AUTHORIZATION.equalsIgnoreCase(name)) {
+                return Collections.emptyEnumeration();
+            }
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = Collections.list(super.getHeaderNames())
+                    .stream()
+                    .filter(name -> !HttpHeaders.AUTHORIZATION.equalsIgnoreCase(name))
+                    .collect(Collectors.toList());
+            return Collections.enumeration(names);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package shop.yesaladin.shop.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 배송 등록 요청을 모아서 전송하기 위한 설정 값을 가지는 클래스 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class DeliveryBatchProperties {
+
+    @Value("${yesaladin.delivery.batch.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${yesaladin.delivery.batch.max-size:100}")
+    private int maxSize;
+
+    @Value("${yesaladin.delivery.batch.retry-base-delay-ms:1000}")
+    private long retryBaseDelayMs;
+
+    @Value("${yesaladin.delivery.batch.retry-max-delay-ms:300000}")
+    private long retryMaxDelayMs;
+
+    @Value("${yesaladin.delivery.batch.lock-ttl-seconds:60}")
+    private long lockTtlSeconds;
+}
@@ -0,0 +1,42 @@
+package shop.yesaladin.shop.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Gateway에서 검증하여 전달한 사용자 정보를 신뢰하기 위한 설정 값을 가져오는 클래스입니다.
+ * <p>
+ * trust-mode가 GATEWAY인 경우 서명된 사용자 정보 헤더로 인증 객체를 생성하며, AUTH_SERVER(기본값)인 경우 기존과 같이 Auth 서버에
+ * 인가 처리를 위임합니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class GatewayIdentityProperties {
+
+    @Value("${yesaladin.security.trust-mode:AUTH_SERVER}")
+    private TrustMode trustMode;
+
+    @Value("${yesaladin.gateway.identity.secret:}")
+    private String identitySecret;
+
+    @Value("${yesaladin.gateway.identity.max-skew-ms:30000}")
+    private long maxSkewMs;
+
+    /**
+     * 인증 정보의 출처를 결정하는 신뢰 방식 입니다.
+     *
+     * @author 송학현
+     * @since 1.0
+     */
+    public enum TrustMode {
+        AUTH_SERVER, GATEWAY
+    }
+
+    public boolean isGatewayTrusted() {
+        return trustMode == TrustMode.GATEWAY;
+    }
+}
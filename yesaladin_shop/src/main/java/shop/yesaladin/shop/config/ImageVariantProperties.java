@@ -0,0 +1,31 @@
+package shop.yesaladin.shop.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 상품 썸네일 변환본 생성을 위한 설정 값을 가지는 클래스 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class ImageVariantProperties {
+
+    @Value("${yesaladin.file.variant.pool-size:2}")
+    private int poolSize;
+
+    @Value("${yesaladin.file.variant.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${yesaladin.file.variant.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Value("${yesaladin.file.variant.retry-delay-seconds:600}")
+    private long retryDelaySeconds;
+
+    @Value("${yesaladin.file.variant.max-pixels:40000000}")
+    private long maxPixels;
+}
@@ -16,4 +16,5 @@ public class ObjectStorageProperties {
     private String tenantId;
     private String username;
     private String password;
+    private long tokenRefreshMarginSeconds = 600L;
 }
@@ -0,0 +1,28 @@
+package shop.yesaladin.shop.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 상품 일괄 등록을 위한 설정 값을 가지는 클래스 입니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class ProductImportProperties {
+
+    @Value("${yesaladin.product.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${yesaladin.product.import.queue-capacity:4}")
+    private int queueCapacity;
+
+    @Value("${yesaladin.product.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Value("${yesaladin.product.import.status-ttl-hours:24}")
+    private long statusTtlHours;
+}
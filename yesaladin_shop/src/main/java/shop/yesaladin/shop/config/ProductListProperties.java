@@ -0,0 +1,22 @@
+package shop.yesaladin.shop.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * cursor 기반 상품 목록 조회를 위한 설정 값을 가지는 클래스 입니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class ProductListProperties {
+
+    @Value("${yesaladin.product.list.max-size:100}")
+    private int maxSize;
+
+    @Value("${yesaladin.product.list.count-ttl-seconds:60}")
+    private long countTtlSeconds;
+}
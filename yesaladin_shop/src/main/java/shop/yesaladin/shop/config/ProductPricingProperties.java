@@ -0,0 +1,22 @@
+package shop.yesaladin.shop.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 전체 할인율 변경 후 상품 가격을 맞추기 위한 설정 값을 가지는 클래스 입니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class ProductPricingProperties {
+
+    @Value("${yesaladin.product.pricing.reconcile-interval-minutes:10}")
+    private long reconcileIntervalMinutes;
+
+    @Value("${yesaladin.product.pricing.lock-ttl-seconds:600}")
+    private long lockTtlSeconds;
+}
@@ -0,0 +1,31 @@
+package shop.yesaladin.shop.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 상품 검색 인덱스 전체 재색인을 위한 설정 값을 가지는 클래스 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class ProductReindexProperties {
+
+    @Value("${yesaladin.product.reindex.slices:4}")
+    private int slices;
+
+    @Value("${yesaladin.product.reindex.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 모든 slice 를 합쳐 1초에 색인할 최대 문서 수 입니다. 0 이하인 경우 제한하지 않습니다.
+     */
+    @Value("${yesaladin.product.reindex.max-docs-per-second:2000}")
+    private int maxDocsPerSecond;
+
+    @Value("${yesaladin.product.reindex.lock-ttl-minutes:10}")
+    private long lockTtlMinutes;
+}
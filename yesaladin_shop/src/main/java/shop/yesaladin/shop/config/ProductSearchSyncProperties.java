@@ -0,0 +1,46 @@
+package shop.yesaladin.shop.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 상품 변경 사항을 검색 인덱스에 비동기로 반영하기 위한 설정 값을 가지는 클래스 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class ProductSearchSyncProperties {
+
+    @Value("${yesaladin.product.search-sync.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${yesaladin.product.search-sync.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 반영에 실패한 변경 사항을 처음 다시 시도하기까지의 대기 시간 입니다. 실패할 때마다 두 배로 늘어납니다.
+     */
+    @Value("${yesaladin.product.search-sync.retry-base-delay-ms:1000}")
+    private long retryBaseDelayMs;
+
+    @Value("${yesaladin.product.search-sync.retry-max-delay-ms:300000}")
+    private long retryMaxDelayMs;
+
+    @Value("${yesaladin.product.search-sync.reconcile-interval-minutes:60}")
+    private long reconcileIntervalMinutes;
+
+    @Value("${yesaladin.product.search-sync.reconcile-chunk-size:500}")
+    private int reconcileChunkSize;
+
+    @Value("${yesaladin.product.search-sync.lock-ttl-seconds:60}")
+    private long lockTtlSeconds;
+
+    /**
+     * 변경을 반영한 상품 id 를 알리는 Redis 채널 입니다. front 서버는 이 채널을 구독하여 캐시된 상품 fragment 를 지웁니다.
+     */
+    @Value("${yesaladin.product.search-sync.change-channel:PRODUCT_CHANGES}")
+    private String changeChannel;
+}
@@ -0,0 +1,25 @@
+package shop.yesaladin.shop.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 상품 검색어 자동 완성을 위한 설정 값을 가지는 클래스 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@Configuration
+public class ProductSuggestProperties {
+
+    @Value("${yesaladin.product.suggest.size:5}")
+    private int size;
+
+    @Value("${yesaladin.product.suggest.cache-ttl-seconds:10}")
+    private long cacheTtlSeconds;
+
+    @Value("${yesaladin.product.suggest.cache-max-size:10000}")
+    private int cacheMaxSize;
+}
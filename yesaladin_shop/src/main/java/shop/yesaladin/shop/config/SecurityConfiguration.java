@@ -1,5 +1,7 @@
 package shop.yesaladin.shop.config;
 
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,6 +15,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.client.RestTemplate;
 import shop.yesaladin.security.filter.JwtAuthorizationFilter;
 import shop.yesaladin.security.provider.JwtTokenAuthenticationProvider;
+import shop.yesaladin.shop.common.security.GatewayIdentityAuthenticationFilter;
 
 /**
  * Spring Security 관련 설정 클래스입니다.
@@ -20,10 +23,14 @@ import shop.yesaladin.security.provider.JwtTokenAuthenticationProvider;
  * @author 김홍대
  * @since 1.0
  */
+@RequiredArgsConstructor
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfiguration {
 
+    private final GatewayIdentityProperties gatewayIdentityProperties;
+    private final Clock clock;
+
     @Bean
     public JwtTokenAuthenticationProvider jwtTokenAuthenticationProvider(
             RestTemplate restTemplate, GatewayProperties gatewayProperties
@@ -50,6 +57,17 @@ public class SecurityConfiguration {
                 )
                 .csrf(AbstractHttpConfigurer::disable);
 
+        if (gatewayIdentityProperties.isGatewayTrusted()) {
+            http.addFilterBefore(
+                    new GatewayIdentityAuthenticationFilter(
+                            gatewayIdentityProperties.getIdentitySecret(),
+                            gatewayIdentityProperties.getMaxSkewMs(),
+                            clock
+                    ),
+                    JwtAuthorizationFilter.class
+            );
+        }
+
         return http.build();
     }
 }
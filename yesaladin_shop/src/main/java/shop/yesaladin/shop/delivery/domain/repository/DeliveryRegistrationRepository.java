@@ -0,0 +1,87 @@
+package shop.yesaladin.shop.delivery.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ibatis.annotations.Param;
+import shop.yesaladin.shop.delivery.dto.DeliveryRegistrationDto;
+
+/**
+ * 배송 서버에 등록할 주문의 배송 등록 요청을 위한 MyBatis Repository 입니다.
+ * <p>
+ * 배송 등록 요청은 결제를 승인한 트랜잭션 안에서 delivery_registrations 테이블에 저장되므로, 결제가 커밋되면 서버가 재시작되거나 배송 서버에
+ * 장애가 있어도 배송 등록 요청이 유실되지 않습니다.
+ * <p>
+ * 테이블은 이 저장소 밖에서 관리되며, 다음과 같이 생성되어 있어야 합니다.
+ * <pre>
+ * CREATE TABLE delivery_registrations
+ * (
+ *     id                    BIGINT   NOT NULL AUTO_INCREMENT,
+ *     order_id              BIGINT   NOT NULL,
+ *     created_datetime      DATETIME NOT NULL,
+ *     attempt_count         INT      NOT NULL DEFAULT 0,
+ *     next_attempt_datetime DATETIME NOT NULL,
+ *     PRIMARY KEY (id),
+ *     UNIQUE KEY uk_delivery_registrations_order_id (order_id),
+ *     KEY idx_delivery_registrations_next_attempt (next_attempt_datetime, id),
+ *     CONSTRAINT fk_delivery_registrations_order_id FOREIGN KEY (order_id) REFERENCES orders (id)
+ * );
+ * </pre>
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+public interface DeliveryRegistrationRepository {
+
+    /**
+     * 배송 등록 요청을 저장합니다.
+     *
+     * @param orderId         배송을 등록할 주문의 pk
+     * @param createdDateTime 요청 일시
+     * @return 저장된 요청 수
+     * @author 송학현
+     * @since 1.0
+     */
+    int insert(
+            @Param("orderId") Long orderId,
+            @Param("createdDateTime") LocalDateTime createdDateTime
+    );
+
+    /**
+     * 다시 시도할 시각이 지난 배송 등록 요청을 먼저 저장된 순으로 조회합니다.
+     *
+     * @param now  현재 일시
+     * @param size 조회할 최대 요청 수
+     * @return 배송 등록 요청 리스트
+     * @author 송학현
+     * @since 1.0
+     */
+    List<DeliveryRegistrationDto> findReady(
+            @Param("now") LocalDateTime now,
+            @Param("size") int size
+    );
+
+    /**
+     * 배송 서버에 등록한 요청을 삭제합니다.
+     *
+     * @param ids 배송 등록 요청 id 목록
+     * @return 삭제된 요청 수
+     * @author 송학현
+     * @since 1.0
+     */
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 등록에 실패한 요청의 시도 횟수를 늘리고 다음 시도 일시를 미룹니다.
+     *
+     * @param ids                 배송 등록 요청 id 목록
+     * @param nextAttemptDateTime 다음 시도 일시
+     * @return 수정된 요청 수
+     * @author 송학현
+     * @since 1.0
+     */
+    int deferByIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("nextAttemptDateTime") LocalDateTime nextAttemptDateTime
+    );
+}
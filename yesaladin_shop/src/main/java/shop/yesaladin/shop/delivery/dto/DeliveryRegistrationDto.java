@@ -0,0 +1,21 @@
+package shop.yesaladin.shop.delivery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배송 서버에 아직 등록되지 않은 주문의 배송 등록 요청을 담는 Dto 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryRegistrationDto {
+
+    private Long id;
+    private Long orderId;
+    private int attemptCount;
+}
@@ -0,0 +1,20 @@
+package shop.yesaladin.shop.delivery.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배송 서버에 여러 주문의 배송 등록을 한 번에 요청하기 위한 dto 클래스 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransportBatchRequestDto {
+
+    private List<Long> orderIds;
+}
@@ -0,0 +1,15 @@
+package shop.yesaladin.shop.delivery.persistence;
+
+import org.apache.ibatis.annotations.Mapper;
+import shop.yesaladin.shop.delivery.domain.repository.DeliveryRegistrationRepository;
+
+/**
+ * MyBatis 를 사용하여 배송 등록 요청을 저장, 조회하기 위한 Mapper 인터페이스입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Mapper
+public interface MyBatisDeliveryRegistrationMapper extends DeliveryRegistrationRepository {
+
+}
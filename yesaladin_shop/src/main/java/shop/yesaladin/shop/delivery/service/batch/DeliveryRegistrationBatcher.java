@@ -0,0 +1,171 @@
+package shop.yesaladin.shop.delivery.service.batch;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import shop.yesaladin.common.dto.ResponseDto;
+import shop.yesaladin.shop.common.lock.RedisLock;
+import shop.yesaladin.shop.config.DeliveryBatchProperties;
+import shop.yesaladin.shop.config.GatewayProperties;
+import shop.yesaladin.shop.delivery.domain.repository.DeliveryRegistrationRepository;
+import shop.yesaladin.shop.delivery.dto.DeliveryRegistrationDto;
+import shop.yesaladin.shop.delivery.dto.TransportBatchRequestDto;
+import shop.yesaladin.shop.delivery.dto.TransportResponseDto;
+import shop.yesaladin.shop.delivery.service.inter.DeliveryRegistrationService;
+
+/**
+ * 결제 트랜잭션에서 기록된 배송 등록 요청을 모아 배송 서버에 일괄로 전송하는 클래스 입니다.
+ * <p>
+ * 일정 주기마다 기록된 요청을 최대 크기 단위로 읽어 배송 일괄 등록 API를 한 번 호출하고, 응답 받은 주문들에 배송중 상태 로그를 추가하면서 요청을
+ * 삭제합니다. 전송에 실패한 요청은 지수적으로 늘어나는 시간만큼 미뤘다가 다시 전송합니다. 요청이 DB 에 남아 있으므로 서버가 재시작되어도 유실되지
+ * 않고, 여러 서버가 같은 요청을 중복으로 전송하지 않도록 Redis lock 을 사용합니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class DeliveryRegistrationBatcher {
+
+    private static final String BATCH_PATH = "/api/delivery/batch";
+    private static final String LOCK_KEY = "DELIVERY_REGISTRATION:LOCK";
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final RestTemplate restTemplate;
+    private final GatewayProperties gatewayProperties;
+    private final DeliveryBatchProperties batchProperties;
+    private final DeliveryRegistrationRepository deliveryRegistrationRepository;
+    private final DeliveryRegistrationService deliveryRegistrationService;
+    private final RedisLock redisLock;
+    private final Clock clock;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    /**
+     * 다시 시도할 시각이 지난 배송 등록 요청을 최대 크기 단위로 나누어 모두 전송합니다.
+     *
+     * @return 배송 서버에 등록한 요청 수
+     * @author 송학현
+     * @since 1.0
+     */
+    public int flush() {
+        Duration lockTtl = Duration.ofSeconds(batchProperties.getLockTtlSeconds());
+        String token = redisLock.tryLock(LOCK_KEY, lockTtl).orElse(null);
+        if (Objects.isNull(token)) {
+            return 0;
+        }
+        try {
+            int registered = 0;
+            List<DeliveryRegistrationDto> batch;
+            do {
+                if (!redisLock.extend(LOCK_KEY, token, lockTtl)) {
+                    log.warn("Delivery registration lock lost, stopping: registered -> {}", registered);
+                    break;
+                }
+                batch = deliveryRegistrationRepository.findReady(
+                        LocalDateTime.now(clock),
+                        batchProperties.getMaxSize()
+                );
+                if (batch.isEmpty() || !send(batch)) {
+                    break;
+                }
+                registered += batch.size();
+            } while (batch.size() == batchProperties.getMaxSize());
+            return registered;
+        } catch (RuntimeException e) {
+            log.error("Delivery registration flush failed", e);
+            return 0;
+        } finally {
+            redisLock.release(LOCK_KEY, token);
+        }
+    }
+
+    private boolean send(List<DeliveryRegistrationDto> batch) {
+        List<Long> orderIds = batch.stream()
+                .map(DeliveryRegistrationDto::getOrderId)
+                .distinct()
+                .collect(Collectors.toList());
+        List<TransportResponseDto> transports;
+        try {
+            transports = requestRegistration(orderIds);
+        } catch (RuntimeException e) {
+            log.error("Delivery registration failed, will retry: orderIds -> {}", orderIds, e);
+            defer(batch);
+            return false;
+        }
+
+        deliveryRegistrationService.completeRegistration(
+                batch.stream().map(DeliveryRegistrationDto::getId).collect(Collectors.toList()),
+                transports.stream().map(TransportResponseDto::getOrderId).collect(Collectors.toList())
+        );
+        log.info("Delivery registration flushed: size -> {}", orderIds.size());
+        return true;
+    }
+
+    private void defer(List<DeliveryRegistrationDto> batch) {
+        int attempt = batch.stream().mapToInt(DeliveryRegistrationDto::getAttemptCount).max().orElse(0);
+        long delayMs = Math.min(
+                batchProperties.getRetryMaxDelayMs(),
+                batchProperties.getRetryBaseDelayMs() << Math.min(attempt, MAX_BACKOFF_SHIFT)
+        );
+        deliveryRegistrationRepository.deferByIds(
+                batch.stream().map(DeliveryRegistrationDto::getId).collect(Collectors.toList()),
+                LocalDateTime.now(clock).plus(Duration.ofMillis(delayMs))
+        );
+    }
+
+    private List<TransportResponseDto> requestRegistration(List<Long> orderIds) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<TransportBatchRequestDto> entity = new HttpEntity<>(
+                new TransportBatchRequestDto(List.copyOf(orderIds)),
+                headers
+        );
+
+        ResponseEntity<ResponseDto<List<TransportResponseDto>>> exchange = restTemplate.exchange(
+                gatewayProperties.getDeliveryUrl() + BATCH_PATH,
+                HttpMethod.POST,
+                entity,
+                new ParameterizedTypeReference<>() {
+                }
+        );
+        ResponseDto<List<TransportResponseDto>> responseDto = Objects.requireNonNull(exchange.getBody());
+        if (!responseDto.isSuccess()) {
+            throw new IllegalStateException("배송 서버의 응답이 올바르지 않습니다.");
+        }
+        return Objects.requireNonNull(responseDto.getData());
+    }
+
+    @PostConstruct
+    public void init() {
+        this.scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("delivery-batch-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(
+                this::flush,
+                Duration.ofMillis(batchProperties.getFlushIntervalMs())
+        );
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,63 @@
+package shop.yesaladin.shop.delivery.service.impl;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import shop.yesaladin.shop.delivery.domain.repository.DeliveryRegistrationRepository;
+import shop.yesaladin.shop.delivery.service.inter.DeliveryRegistrationService;
+import shop.yesaladin.shop.order.domain.model.OrderStatusCode;
+import shop.yesaladin.shop.order.service.inter.CommandOrderStatusChangeLogService;
+
+/**
+ * 결제가 완료된 주문의 배송 등록을 요청하고 완료 처리하기 위한 service 구현체 입니다.
+ * <p>
+ * 배송 서버를 직접 호출하지 않고 결제 트랜잭션 안에서 요청만 기록하므로, 결제의 응답 시간과 성공 여부가 배송 서버의 영향을 받지 않고 결제가 커밋된 주문의
+ * 배송 등록이 유실되지 않습니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Service
+public class DeliveryRegistrationServiceImpl implements DeliveryRegistrationService {
+
+    private static final long DELIVERY_LOG_DELAY_SECONDS = 3L;
+
+    private final DeliveryRegistrationRepository deliveryRegistrationRepository;
+    private final CommandOrderStatusChangeLogService commandOrderStatusChangeLogService;
+    private final Clock clock;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void requestRegistration(Long orderId) {
+        deliveryRegistrationRepository.insert(orderId, LocalDateTime.now(clock));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public void completeRegistration(
+            Collection<Long> registrationIds,
+            Collection<Long> orderIds
+    ) {
+        if (!orderIds.isEmpty()) {
+            commandOrderStatusChangeLogService.appendOrderStatusChangeLogsByOrderIds(
+                    LocalDateTime.now(clock).plusSeconds(DELIVERY_LOG_DELAY_SECONDS),
+                    orderIds,
+                    OrderStatusCode.DELIVERY
+            );
+        }
+        if (!registrationIds.isEmpty()) {
+            deliveryRegistrationRepository.deleteByIds(registrationIds);
+        }
+    }
+}
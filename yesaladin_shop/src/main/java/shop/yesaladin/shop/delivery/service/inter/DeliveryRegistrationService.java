@@ -0,0 +1,31 @@
+package shop.yesaladin.shop.delivery.service.inter;
+
+import java.util.Collection;
+
+/**
+ * 결제가 완료된 주문의 배송 등록을 요청하고 완료 처리하기 위한 service 인터페이스 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+public interface DeliveryRegistrationService {
+
+    /**
+     * 주문의 배송 등록 요청을 기록합니다. 결제를 승인하는 트랜잭션 안에서 호출되어야 하며, 커밋된 이후 배송 서버에 일괄로 등록됩니다.
+     *
+     * @param orderId 배송을 등록할 주문의 pk
+     * @author 송학현
+     * @since 1.0
+     */
+    void requestRegistration(Long orderId);
+
+    /**
+     * 배송 서버에 등록된 주문에 배송중 상태 로그를 추가하고, 처리한 배송 등록 요청을 삭제합니다.
+     *
+     * @param registrationIds 처리한 배송 등록 요청 id 목록
+     * @param orderIds        배송 서버에 등록된 주문의 pk 목록
+     * @author 송학현
+     * @since 1.0
+     */
+    void completeRegistration(Collection<Long> registrationIds, Collection<Long> orderIds);
+}
@@ -15,6 +15,19 @@ import lombok.NoArgsConstructor;
 
 /**
  * 파일의 엔터티 클래스입니다.
+ * <p>
+ * 썸네일 변환본 생성 여부를 나타내는 variant_generated 컬럼은 다음과 같이 추가되어 있어야 합니다. 기존 행은 기본값에 의해 변환본이 없는
+ * 상태(FALSE)로 채워지며, 상품 썸네일의 변환본은 처음 조회될 때 생성됩니다.
+ * <pre>
+ * ALTER TABLE files
+ *     ADD COLUMN variant_generated BOOLEAN NOT NULL DEFAULT FALSE;
+ * </pre>
+ * 변환본을 미리 만들어 둔 환경이라면 변환본이 업로드된 파일만 다음과 같이 표시합니다.
+ * <pre>
+ * UPDATE files
+ * SET variant_generated = TRUE
+ * WHERE id IN (:fileIdsWithUploadedVariants);
+ * </pre>
  *
  * @author 이수정
  * @since 1.0
@@ -37,4 +50,16 @@ public class File {
     @Column(name = "upload_datetime", nullable = false)
     private LocalDateTime uploadDateTime;
 
+    @Column(name = "variant_generated", nullable = false)
+    private boolean variantGenerated;
+
+    /**
+     * 썸네일 변환본 생성이 완료되었음을 표시합니다.
+     *
+     * @author 송학현
+     * @since 1.0
+     */
+    public void markVariantGenerated() {
+        this.variantGenerated = true;
+    }
 }
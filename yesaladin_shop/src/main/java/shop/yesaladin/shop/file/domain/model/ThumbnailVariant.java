@@ -0,0 +1,71 @@
+package shop.yesaladin.shop.file.domain.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 썸네일 변환본의 종류에 대한 클래스입니다.
+ * <p>
+ * 변환본은 원본과 같은 경로에 "원본 파일명_종류.jpg" 이름으로 저장됩니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ThumbnailVariant {
+    SMALL("small", 160), MEDIUM("medium", 320);
+
+    private static final String EXTENSION = ".jpg";
+
+    private final String variantName;
+    private final int width;
+
+    /**
+     * 원본 파일 url로 변환본의 url을 생성합니다.
+     *
+     * @param originalUrl 원본 파일의 url
+     * @return 변환본의 url
+     * @author 송학현
+     * @since 1.0
+     */
+    public String urlOf(String originalUrl) {
+        int dot = originalUrl.lastIndexOf('.');
+        String base = dot > originalUrl.lastIndexOf('/') ? originalUrl.substring(0, dot) : originalUrl;
+        return base + "_" + variantName + EXTENSION;
+    }
+
+    /**
+     * 원본 파일 url로 모든 변환본의 url을 생성합니다.
+     *
+     * @param originalUrl 원본 파일의 url
+     * @return 변환본 종류 이름을 key로 하는 변환본 url
+     * @author 송학현
+     * @since 1.0
+     */
+    public static Map<String, String> urlsOf(String originalUrl) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (ThumbnailVariant variant : values()) {
+            urls.put(variant.variantName, variant.urlOf(originalUrl));
+        }
+        return urls;
+    }
+
+    /**
+     * 모든 변환본 종류에 원본 파일 url을 대응시킵니다. 변환본이 아직 생성되지 않은 경우에 사용합니다.
+     *
+     * @param originalUrl 원본 파일의 url
+     * @return 변환본 종류 이름을 key로 하는 원본 파일 url
+     * @author 송학현
+     * @since 1.0
+     */
+    public static Map<String, String> originalUrlsOf(String originalUrl) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (ThumbnailVariant variant : values()) {
+            urls.put(variant.variantName, originalUrl);
+        }
+        return urls;
+    }
+}
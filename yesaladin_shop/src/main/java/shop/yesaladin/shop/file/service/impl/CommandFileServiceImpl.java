@@ -2,11 +2,14 @@ package shop.yesaladin.shop.file.service.impl;
 
 import javax.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import shop.yesaladin.shop.file.domain.model.File;
 import shop.yesaladin.shop.file.domain.repository.CommandFileRepository;
+import shop.yesaladin.shop.file.domain.repository.QueryFileRepository;
 import shop.yesaladin.shop.file.dto.FileResponseDto;
 import shop.yesaladin.shop.file.service.inter.CommandFileService;
+import shop.yesaladin.shop.product.service.inter.ProductSearchSyncService;
 
 /**
  * 파일 등록을 위한 Service 구현체 입니다.
@@ -14,11 +17,14 @@ import shop.yesaladin.shop.file.service.inter.CommandFileService;
  * @author 이수정
  * @since 1.0
  */
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class CommandFileServiceImpl implements CommandFileService {
 
     private final CommandFileRepository commandFileRepository;
+    private final QueryFileRepository queryFileRepository;
+    private final ProductSearchSyncService productSearchSyncService;
 
     /**
      * {@inheritDoc}
@@ -34,4 +40,20 @@ public class CommandFileServiceImpl implements CommandFileService {
                 file.getUploadDateTime()
         );
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public void markVariantGenerated(Long id) {
+        queryFileRepository.findById(id)
+                .ifPresentOrElse(
+                        file -> {
+                            file.markVariantGenerated();
+                            productSearchSyncService.requestSyncByThumbnailFile(id);
+                        },
+                        () -> log.warn("File for variant not found: id -> {}", id)
+                );
+    }
 }
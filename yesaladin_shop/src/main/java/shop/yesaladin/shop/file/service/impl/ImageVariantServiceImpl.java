@@ -0,0 +1,173 @@
+package shop.yesaladin.shop.file.service.impl;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import shop.yesaladin.shop.config.ImageVariantProperties;
+import shop.yesaladin.shop.file.domain.model.File;
+import shop.yesaladin.shop.file.domain.model.ThumbnailVariant;
+import shop.yesaladin.shop.file.service.inter.CommandFileService;
+import shop.yesaladin.shop.file.service.inter.ImageVariantService;
+import shop.yesaladin.shop.file.service.inter.ObjectStorageService;
+
+/**
+ * 상품 썸네일 변환본을 생성하고 변환본의 url을 조회하기 위한 Service 구현체 입니다.
+ * <p>
+ * 변환본은 크기가 제한된 작업 pool에서 생성하며, 대기열이 가득 찬 경우 요청을 버리고 다음 조회 시 다시 요청합니다. 같은 파일에 대한
+ * 생성은 동시에 하나만 진행되고, 실패한 파일은 일정 시간 동안 다시 시도하지 않습니다. 설정된 픽셀 수보다 큰 원본은 해석하지 않습니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ImageVariantServiceImpl implements ImageVariantService {
+
+    private static final int MAX_RETRY_ENTRIES = 1000;
+    private static final int MAX_VARIANT_WIDTH = Arrays.stream(ThumbnailVariant.values())
+            .mapToInt(ThumbnailVariant::getWidth)
+            .max()
+            .orElse(0);
+
+    private final ObjectStorageService objectStorageService;
+    private final CommandFileService commandFileService;
+    private final ImageVariantProperties properties;
+    private final Clock clock;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Instant> retryAfter = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void requestVariants(Long fileId, String url) {
+        if (Objects.isNull(fileId) || Objects.isNull(url)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(fileId, url);
+                }
+            });
+            return;
+        }
+        submit(fileId, url);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, String> getVariantUrls(File file) {
+        if (Objects.isNull(file)) {
+            return Collections.emptyMap();
+        }
+        if (file.isVariantGenerated()) {
+            return ThumbnailVariant.urlsOf(file.getUrl());
+        }
+        requestVariants(file.getId(), file.getUrl());
+        return ThumbnailVariant.originalUrlsOf(file.getUrl());
+    }
+
+    private void submit(Long fileId, String url) {
+        Instant blockedUntil = retryAfter.get(fileId);
+        if (Objects.nonNull(blockedUntil) && clock.instant().isBefore(blockedUntil)) {
+            return;
+        }
+        if (!inFlight.add(fileId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(fileId, url));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(fileId);
+            log.warn("Image variant queue is full, skipping: fileId -> {}", fileId);
+        }
+    }
+
+    private void generate(Long fileId, String url) {
+        try {
+            BufferedImage original = objectStorageService.fileDownload(
+                    url,
+                    response -> ThumbnailEncoder.decode(
+                            response.getBody(),
+                            properties.getMaxPixels(),
+                            MAX_VARIANT_WIDTH
+                    )
+            );
+            if (Objects.isNull(original)) {
+                throw new IOException("Unsupported image format: " + url);
+            }
+
+            for (ThumbnailVariant variant : ThumbnailVariant.values()) {
+                byte[] encoded = ThumbnailEncoder.encodeJpeg(
+                        ThumbnailEncoder.resize(original, variant.getWidth()),
+                        properties.getJpegQuality()
+                );
+                objectStorageService.fileUpload(variant.urlOf(url), encoded, MediaType.IMAGE_JPEG);
+            }
+            commandFileService.markVariantGenerated(fileId);
+            retryAfter.remove(fileId);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Image variant generation failed: fileId -> {}", fileId, e);
+            deferRetry(fileId);
+        } finally {
+            inFlight.remove(fileId);
+        }
+    }
+
+    private void deferRetry(Long fileId) {
+        Instant now = clock.instant();
+        if (retryAfter.size() >= MAX_RETRY_ENTRIES) {
+            retryAfter.values().removeIf(now::isAfter);
+        }
+        retryAfter.put(fileId, now.plusSeconds(properties.getRetryDelaySeconds()));
+    }
+
+    @PostConstruct
+    public void init() {
+        // 변환 중 생성되는 임시 파일을 디스크에 쓰지 않도록 합니다.
+        ImageIO.setUseCache(false);
+        this.executor = new ThreadPoolExecutor(
+                properties.getPoolSize(),
+                properties.getPoolSize(),
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("image-variant-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdown();
+    }
+}
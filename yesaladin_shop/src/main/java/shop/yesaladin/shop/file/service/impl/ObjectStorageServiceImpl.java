@@ -1,16 +1,21 @@
 package shop.yesaladin.shop.file.service.impl;
 
+import java.io.InputStream;
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.tomcat.util.http.fileupload.IOUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpMessageConverterExtractor;
 import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import shop.yesaladin.shop.config.ObjectStorageProperties;
@@ -62,9 +67,16 @@ public class ObjectStorageServiceImpl implements ObjectStorageService {
         String token = storageAuthService.getAuthToken();
 
         // InputStream을 요청 본문에 추가할 수 있도록 RequestCallback 오버라이드
+        // Content-Length를 지정하여 파일을 메모리에 모으지 않고 고정 길이로 streaming 합니다.
         final RequestCallback requestCallback = request -> {
             request.getHeaders().add("X-Auth-Token", token);
-            IOUtils.copy(file.getInputStream(), request.getBody());
+            request.getHeaders().setContentLength(file.getSize());
+            if (Objects.nonNull(file.getContentType())) {
+                request.getHeaders().set(HttpHeaders.CONTENT_TYPE, file.getContentType());
+            }
+            try (InputStream inputStream = file.getInputStream()) {
+                StreamUtils.copy(inputStream, request.getBody());
+            }
         };
 
         HttpMessageConverterExtractor<String> responseExtractor
@@ -81,4 +93,34 @@ public class ObjectStorageServiceImpl implements ObjectStorageService {
 
         return new FileUploadResponseDto(url, LocalDateTime.now(clock).toString());
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fileUpload(String url, byte[] content, MediaType contentType) {
+        String token = storageAuthService.getAuthToken();
+
+        final RequestCallback requestCallback = request -> {
+            request.getHeaders().add("X-Auth-Token", token);
+            request.getHeaders().setContentLength(content.length);
+            request.getHeaders().setContentType(contentType);
+            StreamUtils.copy(content, request.getBody());
+        };
+
+        restTemplate.execute(url, HttpMethod.PUT, requestCallback, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T fileDownload(String url, ResponseExtractor<T> extractor) {
+        String token = storageAuthService.getAuthToken();
+
+        final RequestCallback requestCallback = request -> request.getHeaders()
+                .add("X-Auth-Token", token);
+
+        return restTemplate.execute(url, HttpMethod.GET, requestCallback, extractor);
+    }
 }
@@ -2,15 +2,13 @@ package shop.yesaladin.shop.file.service.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -27,6 +25,8 @@ import shop.yesaladin.shop.file.service.inter.StorageAuthService;
 
 /**
  * Object Storage 인증 토큰을 발급받기 위한 Service 구현체 입니다.
+ * <p>
+ * 발급받은 토큰은 메모리에 보관하며, 만료 전 갱신 시점이 지나면 한 요청만 새 토큰을 발급받고 나머지 요청은 기존 토큰을 그대로 사용합니다.
  *
  * @author 이수정
  * @since 1.0
@@ -36,12 +36,13 @@ import shop.yesaladin.shop.file.service.inter.StorageAuthService;
 @Service
 public class StorageAuthServiceImpl implements StorageAuthService {
 
-    private static final String OBJECT_STORAGE_TOKEN_KEY = "object-storage-token";
-
     private final ObjectStorageProperties objectStorage;
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final Clock clock;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile CachedToken cachedToken;
 
     /**
      * 요청 본문(tenantId, username, password)을 생성합니다.
@@ -65,13 +66,47 @@ public class StorageAuthServiceImpl implements StorageAuthService {
      */
     @Override
     public String getAuthToken() {
-        // Redis에 토큰 존재하는지 확인 => object-storage-token
-        String tokenInRedis = redisTemplate.opsForValue().get(OBJECT_STORAGE_TOKEN_KEY);
-        if (Objects.nonNull(tokenInRedis)) {
-            log.info("token in redis = {}", tokenInRedis);
-            return tokenInRedis;
+        CachedToken current = cachedToken;
+        Instant now = clock.instant();
+        if (Objects.nonNull(current) && now.isBefore(current.refreshAt)) {
+            return current.id;
+        }
+
+        // 갱신 시점이 지났지만 아직 만료되지 않은 경우, 한 thread만 갱신하고 나머지는 기존 토큰을 사용합니다.
+        if (Objects.nonNull(current) && now.isBefore(current.expiresAt)) {
+            if (!refreshLock.tryLock()) {
+                return current.id;
+            }
+            try {
+                return refreshIfStale().id;
+            } catch (RuntimeException e) {
+                log.warn("Object storage token refresh failed, using current token", e);
+                return current.id;
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+
+        refreshLock.lock();
+        try {
+            return refreshIfStale().id;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private CachedToken refreshIfStale() {
+        CachedToken latest = cachedToken;
+        if (Objects.nonNull(latest) && clock.instant().isBefore(latest.refreshAt)) {
+            return latest;
         }
+        CachedToken issued = issueToken();
+        cachedToken = issued;
+        log.info("Object storage token issued: expires -> {}", issued.expiresAt);
+        return issued;
+    }
 
+    private CachedToken issueToken() {
         // 헤더 생성
         HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.setContentType(MediaType.APPLICATION_JSON);
@@ -91,23 +126,36 @@ public class StorageAuthServiceImpl implements StorageAuthService {
             TokenJsonDto tokenJsonDto = mapper.readValue(response.getBody(), TokenJsonDto.class);
             TokenDto token = tokenJsonDto.getAccess().getToken();
 
-            // 만료일 파싱
-            Instant instant = Instant.parse(token.getExpires());
-            LocalDateTime expireTime = LocalDateTime.ofInstant(instant, ZoneId.of("UTC"));
-
-            // 만료시간 - 현재시간 = 3시간 가량
-            LocalDateTime now = LocalDateTime.now();
-            long timeout = Duration.between(now, expireTime).toSeconds();
+            // 만료 시간 - 현재 시간 = 3시간 가량, 만료 전 갱신 여유 시간은 유효 시간의 절반을 넘지 않습니다.
+            Instant now = clock.instant();
+            Instant expiresAt = Instant.parse(token.getExpires());
+            Duration margin = Duration.ofSeconds(Math.min(
+                    objectStorage.getTokenRefreshMarginSeconds(),
+                    Math.max(0L, Duration.between(now, expiresAt).toSeconds() / 2)
+            ));
 
-            redisTemplate.opsForValue().append(OBJECT_STORAGE_TOKEN_KEY, token.getId());
-            redisTemplate.expire(OBJECT_STORAGE_TOKEN_KEY, timeout, TimeUnit.SECONDS);
-
-            log.info("new token = {}", token.getId());
-            return token.getId();
+            return new CachedToken(token.getId(), expiresAt.minus(margin), expiresAt);
         } catch (JsonProcessingException e) {
             throw new CustomJsonProcessingException(e);
         }
     }
 
-}
+    /**
+     * 메모리에 보관하는 Object Storage 인증 토큰 입니다.
+     *
+     * @author 이수정
+     * @since 1.0
+     */
+    private static class CachedToken {
+
+        private final String id;
+        private final Instant refreshAt;
+        private final Instant expiresAt;
 
+        CachedToken(String id, Instant refreshAt, Instant expiresAt) {
+            this.id = id;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package shop.yesaladin.shop.file.service.impl;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Objects;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 썸네일 변환본을 만들기 위해 이미지를 축소하고 JPEG으로 압축합니다.
+ * <p>
+ * 한 번에 크게 축소하면 계단 현상이 생기므로 목표 너비의 두 배가 될 때까지 절반씩 축소한 뒤 마지막으로 목표 너비에 맞춥니다. 원본은 전체를
+ * 해석하기 전에 header의 크기를 먼저 확인하고, 필요한 너비보다 큰 경우 픽셀을 건너뛰며 읽어 메모리 사용량을 줄입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+final class ThumbnailEncoder {
+
+    private ThumbnailEncoder() {
+    }
+
+    /**
+     * 이미지를 읽습니다. 픽셀 수가 maxPixels를 넘으면 해석하지 않고, 너비가 minWidth의 두 배 이상이면 minWidth의 두 배 이상을 유지하는
+     * 범위에서 픽셀을 건너뛰며 읽습니다.
+     *
+     * @param in        이미지 입력 스트림
+     * @param maxPixels 해석할 수 있는 최대 픽셀 수
+     * @param minWidth  읽은 이미지가 가져야 할 최소 너비
+     * @return 읽은 이미지, 지원하지 않는 형식인 경우 null
+     * @throws IOException 이미지가 너무 크거나 읽기에 실패한 경우
+     * @author 송학현
+     * @since 1.0
+     */
+    static BufferedImage decode(InputStream in, long maxPixels, int minWidth) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            if (Objects.isNull(input)) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("Image is too large: " + width + "x" + height);
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, width / (minWidth * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 이미지를 비율을 유지하며 지정한 너비로 축소합니다. 원본이 더 작은 경우 확대하지 않습니다.
+     *
+     * @param original 원본 이미지
+     * @param width    목표 너비
+     * @return 축소된 RGB 이미지
+     * @author 송학현
+     * @since 1.0
+     */
+    static BufferedImage resize(BufferedImage original, int width) {
+        int targetWidth = Math.min(width, original.getWidth());
+        int targetHeight = Math.max(
+                1,
+                (int) Math.round((double) original.getHeight() * targetWidth / original.getWidth())
+        );
+
+        BufferedImage current = original;
+        int currentWidth = original.getWidth();
+        int currentHeight = original.getHeight();
+        while (currentWidth / 2 >= targetWidth && currentHeight / 2 >= targetHeight) {
+            currentWidth /= 2;
+            currentHeight /= 2;
+            current = draw(current, currentWidth, currentHeight);
+        }
+        return draw(current, targetWidth, targetHeight);
+    }
+
+    /**
+     * 이미지를 지정한 품질의 JPEG으로 압축합니다.
+     *
+     * @param image   압축할 이미지
+     * @param quality 0 이상 1 이하의 압축 품질
+     * @return JPEG 바이트 배열
+     * @throws IOException 압축에 실패한 경우
+     * @author 송학현
+     * @since 1.0
+     */
+    static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        // JPEG은 투명도를 지원하지 않으므로 흰 배경 위에 그립니다.
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(
+                    RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_BILINEAR
+            );
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
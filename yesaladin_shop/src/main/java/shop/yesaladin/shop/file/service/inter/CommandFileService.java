@@ -20,4 +20,13 @@ public interface CommandFileService {
      * @since 1.0
      */
     FileResponseDto register(File file);
+
+    /**
+     * 파일의 썸네일 변환본 생성이 완료되었음을 기록합니다. 파일이 존재하지 않는 경우 무시합니다.
+     *
+     * @param id 변환본 생성이 완료된 파일의 Id
+     * @author 송학현
+     * @since 1.0
+     */
+    void markVariantGenerated(Long id);
 }
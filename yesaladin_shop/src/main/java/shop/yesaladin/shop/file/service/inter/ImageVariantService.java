@@ -0,0 +1,35 @@
+package shop.yesaladin.shop.file.service.inter;
+
+import java.util.Map;
+import shop.yesaladin.shop.file.domain.model.File;
+
+/**
+ * 상품 썸네일 변환본을 생성하고 변환본의 url을 조회하기 위한 Service Interface 입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+public interface ImageVariantService {
+
+    /**
+     * 썸네일 변환본 생성을 요청합니다. 트랜잭션 안에서 호출된 경우 commit 이후에 생성을 시작하며, 생성은 별도의 작업 thread에서
+     * 진행되므로 호출한 thread를 기다리게 하지 않습니다.
+     *
+     * @param fileId 원본 파일의 Id
+     * @param url    원본 파일의 url
+     * @author 송학현
+     * @since 1.0
+     */
+    void requestVariants(Long fileId, String url);
+
+    /**
+     * 썸네일 변환본의 url을 반환합니다. 아직 변환본이 생성되지 않은 경우 생성을 요청하고 모든 변환본
+     * 종류에 원본 파일의 url을 담아 반환합니다.
+     *
+     * @param file 원본 파일 엔터티
+     * @return 변환본 종류 이름을 key로 하는 변환본 url
+     * @author 송학현
+     * @since 1.0
+     */
+    Map<String, String> getVariantUrls(File file);
+}
@@ -1,5 +1,7 @@
 package shop.yesaladin.shop.file.service.inter;
 
+import org.springframework.http.MediaType;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.multipart.MultipartFile;
 import shop.yesaladin.shop.file.dto.FileUploadResponseDto;
 
@@ -26,4 +28,27 @@ public interface ObjectStorageService {
             String typeName,
             MultipartFile file
     );
+
+    /**
+     * 지정한 url에 파일 내용을 업로드합니다. 원본 파일과 같은 경로에 변환본을 저장할 때 사용합니다.
+     *
+     * @param url         파일을 저장할 Object Storage url
+     * @param content     저장할 파일 내용
+     * @param contentType 저장할 파일의 Content-Type
+     * @author 송학현
+     * @since 1.0
+     */
+    void fileUpload(String url, byte[] content, MediaType contentType);
+
+    /**
+     * 지정한 url의 파일을 다운로드하여 응답 본문을 메모리에 모으지 않고 extractor로 전달합니다.
+     *
+     * @param url       다운로드할 Object Storage url
+     * @param extractor 응답 본문을 읽어 결과를 만드는 extractor
+     * @param <T>       extractor가 반환하는 결과 타입
+     * @return extractor가 반환한 결과
+     * @author 송학현
+     * @since 1.0
+     */
+    <T> T fileDownload(String url, ResponseExtractor<T> extractor);
 }
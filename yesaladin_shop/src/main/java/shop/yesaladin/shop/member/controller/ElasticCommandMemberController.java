@@ -0,0 +1,41 @@
+package shop.yesaladin.shop.member.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import shop.yesaladin.common.dto.ResponseDto;
+import shop.yesaladin.shop.member.service.inter.ElasticCommandMemberService;
+
+/**
+ * 엘라스틱서치의 관리자 회원 검색 인덱스를 관리하는 컨트롤러
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/v1/search/members")
+public class ElasticCommandMemberController {
+
+    private final ElasticCommandMemberService elasticCommandMemberService;
+
+    /**
+     * 모든 회원을 관리자 검색 인덱스에 색인하는 메서드
+     *
+     * @return 색인된 회원의 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/manager-index")
+    public ResponseDto<Integer> indexAllForManager() {
+        return ResponseDto.<Integer>builder()
+                .success(true)
+                .status(HttpStatus.OK)
+                .data(elasticCommandMemberService.indexAllForManager())
+                .build();
+    }
+}
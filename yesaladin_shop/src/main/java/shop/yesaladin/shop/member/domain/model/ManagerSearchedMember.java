@@ -0,0 +1,81 @@
+package shop.yesaladin.shop.member.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.data.elasticsearch.annotations.WriteTypeHint;
+
+/**
+ * 관리자 회원 검색을 위한 엘라스틱서치 인덱스 입니다.
+ * <p>
+ * 아이디, 닉네임, 전화번호, 이름은 2-gram 으로 색인되어 부분 일치 검색을 인덱스로 처리합니다. 한 글자 검색어는 1-gram 으로 색인된 unigram
+ * 필드로 검색합니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Setting(settingPath = "elasticsearch/manager-ngram-settings.json")
+@Document(indexName = "yesaladin_members_manager", writeTypeHint = WriteTypeHint.FALSE)
+public class ManagerSearchedMember {
+
+    public static final String UNIGRAM = "unigram";
+    private static final String NGRAM_2 = "manager_bigram";
+    private static final String NGRAM_1 = "manager_unigram";
+
+    @Id
+    @Field(name = "id", type = FieldType.Long)
+    private Long id;
+    @MultiField(
+            mainField = @Field(name = "login_id", type = FieldType.Text, analyzer = NGRAM_2),
+            otherFields = @InnerField(suffix = UNIGRAM, type = FieldType.Text, analyzer = NGRAM_1)
+    )
+    private String loginId;
+    @MultiField(
+            mainField = @Field(name = "nickname", type = FieldType.Text, analyzer = NGRAM_2),
+            otherFields = @InnerField(suffix = UNIGRAM, type = FieldType.Text, analyzer = NGRAM_1)
+    )
+    private String nickname;
+    @MultiField(
+            mainField = @Field(name = "phone", type = FieldType.Text, analyzer = NGRAM_2),
+            otherFields = @InnerField(suffix = UNIGRAM, type = FieldType.Text, analyzer = NGRAM_1)
+    )
+    private String phone;
+    @MultiField(
+            mainField = @Field(name = "name", type = FieldType.Text, analyzer = NGRAM_2),
+            otherFields = @InnerField(suffix = UNIGRAM, type = FieldType.Text, analyzer = NGRAM_1)
+    )
+    private String name;
+    @Field(name = "is_withdrawal", type = FieldType.Boolean)
+    private boolean isWithdrawal;
+
+    /**
+     * 회원 엔티티로 관리자 검색 문서를 생성합니다.
+     *
+     * @param member 색인할 회원
+     * @return 관리자 검색 문서
+     * @author 김선홍
+     * @since 1.0
+     */
+    public static ManagerSearchedMember fromEntity(Member member) {
+        return ManagerSearchedMember.builder()
+                .id(member.getId())
+                .loginId(member.getLoginId())
+                .nickname(member.getNickname())
+                .phone(member.getPhone())
+                .name(member.getName())
+                .isWithdrawal(member.isWithdrawal())
+                .build();
+    }
+}
@@ -81,49 +81,25 @@ public interface QueryMemberRepository {
     Page<MemberManagerResponseDto> findMemberManagers(Pageable pageable);
 
     /**
-     * 회원의 LoginId 를 통해 회원 Like 검색
+     * id 리스트로 회원을 조회합니다. 조회 순서는 보장하지 않습니다.
      *
-     * @param loginId  회원의 loginId
-     * @param pageable 페이징 정보
-     * @return 검색된 회원 리스트와 총 갯수
+     * @param ids 회원 id 리스트
+     * @return 조회된 회원 리스트
      * @author 김선홍
      * @since 1.0
      */
-    Page<MemberManagerResponseDto> findMemberManagersByLoginId(String loginId, Pageable pageable);
+    List<Member> findMembersByIds(List<Long> ids);
 
     /**
-     * 회원의 nickname 을 통해 회원 Like 검색
+     * lastId 보다 큰 id 를 가진 회원을 id 순으로 size 명 조회합니다. 관리자 검색 인덱스를 채울 때 사용합니다.
      *
-     * @param nickname 회원의 nickname
-     * @param pageable 페이징 정보
-     * @return 검색된 회원 리스트와 총 갯수
-     * @author 김선홍
-     * @since 1.0
-     */
-    Page<MemberManagerResponseDto> findMemberManagersByNickname(String nickname, Pageable pageable);
-
-    /**
-     * 회원의 phone 를 통해 회원 Like 검색
-     *
-     * @param phone    회원의 phone 입니다.
-     * @param pageable 페이징 정보
-     * @return 검색된 회원 리스트와 총 갯수
-     * @author 김선홍
-     * @since 1.0
-     */
-    Page<MemberManagerResponseDto> findMemberManagersByPhone(String phone, Pageable pageable);
-
-
-    /**
-     * 회원의 name 을 통해 회원 Like 검색
-     *
-     * @param name     회원의 name 입니다.
-     * @param pageable 페이징 정보
-     * @return 검색된 회원 리스트와 총 갯수
+     * @param lastId 이전 조회의 마지막 회원 id, 처음 조회하는 경우 null
+     * @param size   조회할 회원 수
+     * @return 조회된 회원 리스트
      * @author 김선홍
      * @since 1.0
      */
-    Page<MemberManagerResponseDto> findMemberManagersByName(String name, Pageable pageable);
+    List<Member> findMembersAfter(Long lastId, int size);
 
     /**
      * 회원의 signUpDate 를 통해 회원 검색
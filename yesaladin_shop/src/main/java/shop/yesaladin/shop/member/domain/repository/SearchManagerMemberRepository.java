@@ -0,0 +1,28 @@
+package shop.yesaladin.shop.member.domain.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import shop.yesaladin.shop.member.dto.MemberManagerSearchType;
+
+/**
+ * 관리자 회원 검색 레포지토리의 인터페이스
+ * <p>
+ * 검색 결과로 탈퇴하지 않은 회원의 id 를 id 순으로 반환합니다. 회원 정보는 id 로 다시 조회합니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+public interface SearchManagerMemberRepository {
+
+    /**
+     * 검색 기준과 검색어로 회원 id 를 페이징 검색합니다.
+     *
+     * @param type     검색 기준
+     * @param keyword  검색어
+     * @param pageable 페이지 정보
+     * @return 회원 id 리스트와 총 갯수
+     * @author 김선홍
+     * @since 1.0
+     */
+    Page<Long> searchIds(MemberManagerSearchType type, String keyword, Pageable pageable);
+}
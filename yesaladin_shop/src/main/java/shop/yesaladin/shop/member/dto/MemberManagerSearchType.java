@@ -0,0 +1,14 @@
+package shop.yesaladin.shop.member.dto;
+
+/**
+ * 관리자 회원 검색의 검색 기준 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+public enum MemberManagerSearchType {
+    LOGIN_ID,
+    NICKNAME,
+    PHONE,
+    NAME
+}
@@ -0,0 +1,23 @@
+package shop.yesaladin.shop.member.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+import shop.yesaladin.shop.member.domain.model.ManagerSearchedMember;
+import shop.yesaladin.shop.member.domain.model.Member;
+
+/**
+ * 관리자 검색 인덱스에 반영할 회원 정보가 바뀌었음을 알리는 이벤트 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+public class MemberSearchIndexEvent extends ApplicationEvent {
+
+    private final ManagerSearchedMember document;
+
+    public MemberSearchIndexEvent(Object source, Member member) {
+        super(source);
+        this.document = ManagerSearchedMember.fromEntity(member);
+    }
+}
@@ -0,0 +1,39 @@
+package shop.yesaladin.shop.member.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shop.yesaladin.shop.member.persistence.ElasticCommandManagerMemberRepository;
+
+/**
+ * 회원 정보가 commit 된 이후 관리자 검색 인덱스의 문서를 갱신합니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberSearchIndexEventHandler {
+
+    private final ElasticCommandManagerMemberRepository elasticCommandManagerMemberRepository;
+
+    /**
+     * 관리자 검색 인덱스에 회원 문서를 저장합니다. 색인에 실패해도 회원 정보 변경에는 영향을 주지 않습니다.
+     *
+     * @param event 변경된 회원 정보가 담긴 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMemberSearchIndex(MemberSearchIndexEvent event) {
+        try {
+            elasticCommandManagerMemberRepository.save(event.getDocument());
+        } catch (Exception e) {
+            log.error(
+                    "Fail to index member for manager search. memberId : {}",
+                    event.getDocument().getId(),
+                    e
+            );
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package shop.yesaladin.shop.member.persistence;
+
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import shop.yesaladin.shop.member.domain.model.ManagerSearchedMember;
+
+/**
+ * 엘라스틱서치에 관리자 검색용 회원을 저장, 삭제하는 레포지터리
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+public interface ElasticCommandManagerMemberRepository extends
+        ElasticsearchRepository<ManagerSearchedMember, Long> {
+
+}
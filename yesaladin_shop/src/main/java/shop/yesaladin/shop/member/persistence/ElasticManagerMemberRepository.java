@@ -0,0 +1,111 @@
+package shop.yesaladin.shop.member.persistence;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Repository;
+import shop.yesaladin.common.code.ErrorCode;
+import shop.yesaladin.common.exception.ClientException;
+import shop.yesaladin.shop.member.domain.model.ManagerSearchedMember;
+import shop.yesaladin.shop.member.domain.repository.SearchManagerMemberRepository;
+import shop.yesaladin.shop.member.dto.MemberManagerSearchType;
+
+/**
+ * 관리자 회원 검색 레포지토리
+ * <p>
+ * 2글자 이상의 검색어는 2-gram 필드에 match_phrase 로, 1글자 검색어는 1-gram 필드에 match 로 검색하여 MySQL 의 LIKE '%검색어%' 와 같은
+ * 결과를 반환합니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Repository
+public class ElasticManagerMemberRepository implements SearchManagerMemberRepository {
+
+    private static final String LOGIN_ID = "login_id";
+    private static final String NICKNAME = "nickname";
+    private static final String PHONE = "phone";
+    private static final String NAME = "name";
+    private static final String IS_WITHDRAWAL = "is_withdrawal";
+    private static final Sort SORT = Sort.by("id");
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<Long> searchIds(
+            MemberManagerSearchType type,
+            String keyword,
+            Pageable pageable
+    ) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(getSearchQuery(type, keyword))
+                .withPageable(pageable)
+                .withSort(SORT)
+                .withTrackTotalHits(true)
+                .build();
+
+        SearchHits<ManagerSearchedMember> result = elasticsearchOperations.search(
+                query,
+                ManagerSearchedMember.class
+        );
+        return new PageImpl<>(result.stream()
+                .map(hit -> hit.getContent().getId())
+                .collect(Collectors.toList()), pageable, result.getTotalHits());
+    }
+
+    /**
+     * 탈퇴하지 않은 회원 중 검색 기준의 필드가 검색어를 포함하는 회원을 찾는 쿼리를 반환합니다.
+     *
+     * @param type    검색 기준
+     * @param keyword 검색어
+     * @return 검색 쿼리
+     */
+    private Query getSearchQuery(MemberManagerSearchType type, String keyword) {
+        Query notWithdrawal = Query.of(q -> q.term(t -> t.field(IS_WITHDRAWAL).value(false)));
+        return QueryBuilders.bool(v -> v.filter(
+                getContainsQuery(getField(type), keyword),
+                notWithdrawal
+        ));
+    }
+
+    private String getField(MemberManagerSearchType type) {
+        switch (type) {
+            case LOGIN_ID:
+                return LOGIN_ID;
+            case NICKNAME:
+                return NICKNAME;
+            case PHONE:
+                return PHONE;
+            case NAME:
+                return NAME;
+            default:
+                throw new ClientException(
+                        ErrorCode.BAD_REQUEST,
+                        "Unsupported search type : " + type
+                );
+        }
+    }
+
+    private Query getContainsQuery(String field, String keyword) {
+        if (Objects.isNull(keyword) || keyword.isEmpty()) {
+            return Query.of(q -> q.matchAll(m -> m));
+        }
+        if (keyword.length() == 1) {
+            return Query.of(q -> q.match(m -> m.field(field + "." + ManagerSearchedMember.UNIGRAM)
+                    .query(keyword)));
+        }
+        return Query.of(q -> q.matchPhrase(m -> m.field(field).query(keyword)));
+    }
+}
@@ -117,89 +117,24 @@ public class QueryDslQueryMemberRepository implements QueryMemberRepository {
      * {@inheritDoc}
      */
     @Override
-    public Page<MemberManagerResponseDto> findMemberManagersByLoginId(
-            String loginId,
-            Pageable pageable
-    ) {
-        QMember member = QMember.member;
-        List<Member> list = queryFactory.selectFrom(member)
-                .where(member.loginId.contains(loginId).and(member.isWithdrawal.isFalse()))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-        Long count = queryFactory.select(member.count())
-                .from(member)
-                .where(member.loginId.contains(loginId).and(member.isWithdrawal.isFalse()))
-                .fetchFirst();
-        return new PageImpl<>(list.stream()
-                .map(MemberManagerResponseDto::fromEntity)
-                .collect(Collectors.toList()), pageable, count);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Page<MemberManagerResponseDto> findMemberManagersByNickname(
-            String nickname,
-            Pageable pageable
-    ) {
-        QMember member = QMember.member;
-        List<Member> list = queryFactory.selectFrom(member)
-                .where(member.nickname.contains(nickname).and(member.isWithdrawal.isFalse()))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-        Long count = queryFactory.select(member.count())
-                .from(member)
-                .where(member.nickname.contains(nickname).and(member.isWithdrawal.isFalse()))
-                .fetchFirst();
-        return new PageImpl<>(list.stream()
-                .map(MemberManagerResponseDto::fromEntity)
-                .collect(Collectors.toList()), pageable, count);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Page<MemberManagerResponseDto> findMemberManagersByPhone(
-            String phone,
-            Pageable pageable
-    ) {
+    public List<Member> findMembersByIds(List<Long> ids) {
         QMember member = QMember.member;
-        List<Member> list = queryFactory.selectFrom(member)
-                .where(member.phone.contains(phone).and(member.isWithdrawal.isFalse()))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+        return queryFactory.selectFrom(member)
+                .where(member.id.in(ids))
                 .fetch();
-        Long count = queryFactory.select(member.count())
-                .from(member)
-                .where(member.phone.contains(phone).and(member.isWithdrawal.isFalse()))
-                .fetchFirst();
-        return new PageImpl<>(list.stream()
-                .map(MemberManagerResponseDto::fromEntity)
-                .collect(Collectors.toList()), pageable, count);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public Page<MemberManagerResponseDto> findMemberManagersByName(String name, Pageable pageable) {
+    public List<Member> findMembersAfter(Long lastId, int size) {
         QMember member = QMember.member;
-        List<Member> list = queryFactory.selectFrom(member)
-                .where(member.name.contains(name).and(member.isWithdrawal.isFalse()))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+        return queryFactory.selectFrom(member)
+                .where(Objects.isNull(lastId) ? null : member.id.gt(lastId))
+                .orderBy(member.id.asc())
+                .limit(size)
                 .fetch();
-        Long count = queryFactory.select(member.count())
-                .from(member)
-                .where(member.name.contains(name).and(member.isWithdrawal.isFalse()))
-                .fetchFirst();
-        return new PageImpl<>(list.stream()
-                .map(MemberManagerResponseDto::fromEntity)
-                .collect(Collectors.toList()), pageable, count);
     }
 
     /**
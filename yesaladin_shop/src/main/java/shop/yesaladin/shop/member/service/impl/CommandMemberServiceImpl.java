@@ -27,6 +27,7 @@ import shop.yesaladin.shop.member.dto.MemberUnblockResponseDto;
 import shop.yesaladin.shop.member.dto.MemberUpdateResponseDto;
 import shop.yesaladin.shop.member.dto.MemberWithdrawResponseDto;
 import shop.yesaladin.shop.member.dto.OauthMemberCreateRequestDto;
+import shop.yesaladin.shop.member.event.MemberSearchIndexEvent;
 import shop.yesaladin.shop.member.event.SignUpEvent;
 import shop.yesaladin.shop.member.service.inter.CommandMemberService;
 
@@ -77,6 +78,7 @@ public class CommandMemberServiceImpl implements CommandMemberService {
         commandMemberRoleRepository.save(memberRole);
 
         eventPublisher.publishEvent(new SignUpEvent(this, member.getLoginId()));
+        eventPublisher.publishEvent(new MemberSearchIndexEvent(this, savedMember));
 
         return MemberCreateResponseDto.fromEntity(savedMember, roleMember);
     }
@@ -111,6 +113,7 @@ public class CommandMemberServiceImpl implements CommandMemberService {
         commandMemberRoleRepository.save(memberRole);
 
         eventPublisher.publishEvent(new SignUpEvent(this, member.getLoginId()));
+        eventPublisher.publishEvent(new MemberSearchIndexEvent(this, savedMember));
 
         return MemberCreateResponseDto.fromEntity(savedMember, roleMember);
     }
@@ -183,6 +186,7 @@ public class CommandMemberServiceImpl implements CommandMemberService {
         checkNewNicknameIsUnique(request);
 
         member.changeNickname(request.getNickname());
+        eventPublisher.publishEvent(new MemberSearchIndexEvent(this, member));
 
         return MemberUpdateResponseDto.fromEntity(member);
     }
@@ -209,6 +213,7 @@ public class CommandMemberServiceImpl implements CommandMemberService {
         Member member = tryGetMemberById(loginId);
 
         member.changeName(request.getName());
+        eventPublisher.publishEvent(new MemberSearchIndexEvent(this, member));
 
         return MemberUpdateResponseDto.fromEntity(member);
     }
@@ -226,6 +231,7 @@ public class CommandMemberServiceImpl implements CommandMemberService {
         checkNewPhoneIsUnique(request);
 
         member.changePhone(request.getPhone());
+        eventPublisher.publishEvent(new MemberSearchIndexEvent(this, member));
 
         return MemberUpdateResponseDto.fromEntity(member);
     }
@@ -316,6 +322,7 @@ public class CommandMemberServiceImpl implements CommandMemberService {
                 ));
 
         member.withdrawMember();
+        eventPublisher.publishEvent(new MemberSearchIndexEvent(this, member));
 
         return MemberWithdrawResponseDto.fromEntity(member);
     }
@@ -0,0 +1,55 @@
+package shop.yesaladin.shop.member.service.impl;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.yesaladin.shop.member.domain.model.ManagerSearchedMember;
+import shop.yesaladin.shop.member.domain.model.Member;
+import shop.yesaladin.shop.member.domain.repository.QueryMemberRepository;
+import shop.yesaladin.shop.member.persistence.ElasticCommandManagerMemberRepository;
+import shop.yesaladin.shop.member.service.inter.ElasticCommandMemberService;
+
+/**
+ * 엘라스틱서치의 관리자 회원 검색 인덱스를 관리하는 서비스 구현체
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ElasticCommandMemberServiceImpl implements ElasticCommandMemberService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final QueryMemberRepository queryMemberRepository;
+    private final ElasticCommandManagerMemberRepository elasticCommandManagerMemberRepository;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public int indexAllForManager() {
+        int count = 0;
+        Long lastId = null;
+        List<Member> members;
+        do {
+            members = queryMemberRepository.findMembersAfter(lastId, CHUNK_SIZE);
+            if (members.isEmpty()) {
+                break;
+            }
+            elasticCommandManagerMemberRepository.saveAll(members.stream()
+                    .map(ManagerSearchedMember::fromEntity)
+                    .collect(Collectors.toList()));
+            count += members.size();
+            lastId = members.get(members.size() - 1).getId();
+        } while (members.size() == CHUNK_SIZE);
+
+        log.info("Indexed {} members for manager search", count);
+        return count;
+    }
+}
@@ -2,10 +2,14 @@ package shop.yesaladin.shop.member.service.impl;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,11 +18,13 @@ import shop.yesaladin.common.exception.ClientException;
 import shop.yesaladin.shop.member.domain.model.Member;
 import shop.yesaladin.shop.member.domain.repository.QueryMemberRepository;
 import shop.yesaladin.shop.member.domain.repository.QueryMemberRoleRepository;
+import shop.yesaladin.shop.member.domain.repository.SearchManagerMemberRepository;
 import shop.yesaladin.shop.member.dto.MemberDto;
 import shop.yesaladin.shop.member.dto.MemberGradeQueryResponseDto;
 import shop.yesaladin.shop.member.dto.MemberIdDto;
 import shop.yesaladin.shop.member.dto.MemberLoginResponseDto;
 import shop.yesaladin.shop.member.dto.MemberManagerResponseDto;
+import shop.yesaladin.shop.member.dto.MemberManagerSearchType;
 import shop.yesaladin.shop.member.dto.MemberOrderSheetResponseDto;
 import shop.yesaladin.shop.member.dto.MemberQueryResponseDto;
 import shop.yesaladin.shop.member.dto.MemberStatisticsResponseDto;
@@ -40,6 +46,7 @@ public class QueryMemberServiceImpl implements QueryMemberService {
 
     private final QueryMemberRepository queryMemberRepository;
     private final QueryMemberRoleRepository queryMemberRoleRepository;
+    private final SearchManagerMemberRepository searchManagerMemberRepository;
 
     /**
      * {@inheritDoc}
@@ -138,7 +145,7 @@ public class QueryMemberServiceImpl implements QueryMemberService {
             String loginId,
             Pageable pageable
     ) {
-        return queryMemberRepository.findMemberManagersByLoginId(loginId, pageable);
+        return searchForManager(MemberManagerSearchType.LOGIN_ID, loginId, pageable);
     }
 
     /**
@@ -150,7 +157,7 @@ public class QueryMemberServiceImpl implements QueryMemberService {
             String nickname,
             Pageable pageable
     ) {
-        return queryMemberRepository.findMemberManagersByNickname(nickname, pageable);
+        return searchForManager(MemberManagerSearchType.NICKNAME, nickname, pageable);
     }
 
     /**
@@ -162,7 +169,7 @@ public class QueryMemberServiceImpl implements QueryMemberService {
             String phone,
             Pageable pageable
     ) {
-        return queryMemberRepository.findMemberManagersByPhone(phone, pageable);
+        return searchForManager(MemberManagerSearchType.PHONE, phone, pageable);
     }
 
 
@@ -172,7 +179,7 @@ public class QueryMemberServiceImpl implements QueryMemberService {
     @Transactional(readOnly = true)
     @Override
     public Page<MemberManagerResponseDto> findMemberManagesByName(String name, Pageable pageable) {
-        return queryMemberRepository.findMemberManagersByName(name, pageable);
+        return searchForManager(MemberManagerSearchType.NAME, name, pageable);
     }
 
     /**
@@ -200,6 +207,30 @@ public class QueryMemberServiceImpl implements QueryMemberService {
         );
     }
 
+    /**
+     * 관리자 검색 인덱스에서 회원 id 를 검색한 뒤, 검색된 순서대로 회원 정보를 조회합니다.
+     *
+     * @param type     검색 기준
+     * @param keyword  검색어
+     * @param pageable 페이지 정보
+     * @return 검색된 회원 리스트와 총 갯수
+     */
+    private Page<MemberManagerResponseDto> searchForManager(
+            MemberManagerSearchType type,
+            String keyword,
+            Pageable pageable
+    ) {
+        Page<Long> ids = searchManagerMemberRepository.searchIds(type, keyword, pageable);
+        Map<Long, Member> members = queryMemberRepository.findMembersByIds(ids.getContent())
+                .stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        return new PageImpl<>(ids.getContent()
+                .stream()
+                .filter(members::containsKey)
+                .map(id -> MemberManagerResponseDto.fromEntity(members.get(id)))
+                .collect(Collectors.toList()), pageable, ids.getTotalElements());
+    }
+
     private Member getMemberByLoginId(String loginId, Optional<Member> memberByLoginId, String s) {
         return memberByLoginId.orElseThrow(() -> new ClientException(
                 ErrorCode.MEMBER_NOT_FOUND,
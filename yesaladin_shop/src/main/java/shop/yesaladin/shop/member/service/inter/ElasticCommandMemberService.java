@@ -0,0 +1,19 @@
+package shop.yesaladin.shop.member.service.inter;
+
+/**
+ * 엘라스틱서치의 관리자 회원 검색 인덱스를 관리하는 서비스 인터페이스
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+public interface ElasticCommandMemberService {
+
+    /**
+     * 모든 회원을 관리자 검색 인덱스에 색인하는 메서드
+     *
+     * @return 색인된 회원의 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    int indexAllForManager();
+}
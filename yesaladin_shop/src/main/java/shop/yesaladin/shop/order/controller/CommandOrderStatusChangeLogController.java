@@ -18,6 +18,8 @@ import shop.yesaladin.common.exception.ClientException;
 import shop.yesaladin.shop.category.dto.ResultCodeDto;
 import shop.yesaladin.shop.common.aspect.annotation.LoginId;
 import shop.yesaladin.shop.order.domain.model.OrderStatusCode;
+import shop.yesaladin.shop.order.dto.DeliveryCompleteRequestDto;
+import shop.yesaladin.shop.order.dto.DeliveryCompleteResponseDto;
 import shop.yesaladin.shop.order.dto.NonMemberRequestDto;
 import shop.yesaladin.shop.order.dto.OrderStatusChangeLogResponseDto;
 import shop.yesaladin.shop.order.service.inter.CommandOrderStatusChangeLogService;
@@ -30,7 +32,7 @@ import shop.yesaladin.shop.order.service.inter.CommandOrderStatusChangeLogServic
  */
 @RequiredArgsConstructor
 @RestController
-@RequestMapping("/v1/orders/{orderId}")
+@RequestMapping("/v1/orders")
 public class CommandOrderStatusChangeLogController {
 
     private final CommandOrderStatusChangeLogService commandOrderStatusChangeLogService;
@@ -43,7 +45,7 @@ public class CommandOrderStatusChangeLogController {
      * @param loginId 회원의 아이디
      * @return 생성된 주문 상태 변경 내역
      */
-    @PostMapping(params = "status")
+    @PostMapping(path = "/{orderId}", params = "status")
     @ResponseStatus(HttpStatus.CREATED)
     public ResponseDto<OrderStatusChangeLogResponseDto> changeMemberOrderStatus(
             @PathVariable Long orderId,
@@ -74,7 +76,7 @@ public class CommandOrderStatusChangeLogController {
      * @param bindingResult 유효성 검사
      * @return 생성된 주문 상태 변경 내역
      */
-    @PostMapping(path = "/non-member", params = "status")
+    @PostMapping(path = "/{orderId}/non-member", params = "status")
     @ResponseStatus(HttpStatus.CREATED)
     public ResponseDto<OrderStatusChangeLogResponseDto> changeNonMemberOrderStatus(
             @PathVariable Long orderId,
@@ -105,7 +107,7 @@ public class CommandOrderStatusChangeLogController {
      * @param orderId 배송 완료 상태로 바꾸고자하는 주문
      * @return ResultCodeDto
      */
-    @PostMapping("/delivery-complete")
+    @PostMapping("/{orderId}/delivery-complete")
     @ResponseStatus(HttpStatus.CREATED)
     public ResponseDto<ResultCodeDto> changeDeliveryCompleteStatusByOrderId(@PathVariable("orderId") Long orderId) {
         commandOrderStatusChangeLogService.appendOrderStatusChangeLogByOrderId(LocalDateTime.now()
@@ -117,6 +119,39 @@ public class CommandOrderStatusChangeLogController {
                 .build();
     }
 
+    /**
+     * 배송서버로부터 배송 완료된 주문 목록을 전달받아 주문 상태코드를 일괄로 배송 완료로 변경하기 위한 컨트롤러
+     *
+     * @param request       배송 완료된 주문의 pk 목록
+     * @param bindingResult 유효성 검사
+     * @return 배송 완료 처리 결과
+     * @author 송학현
+     * @since 1.0
+     */
+    @PostMapping("/delivery-complete")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ResponseDto<DeliveryCompleteResponseDto> changeDeliveryCompleteStatusByOrderIds(
+            @Valid @RequestBody DeliveryCompleteRequestDto request,
+            BindingResult bindingResult
+    ) {
+        if (bindingResult.hasErrors()) {
+            throw new ClientException(
+                    ErrorCode.BAD_REQUEST,
+                    "Validation Error in delivery complete request." + bindingResult.getAllErrors()
+            );
+        }
+
+        DeliveryCompleteResponseDto response = commandOrderStatusChangeLogService.appendDeliveryCompleteLogs(
+                LocalDateTime.now(),
+                request.getOrderIds()
+        );
+        return ResponseDto.<DeliveryCompleteResponseDto>builder()
+                .success(true)
+                .status(HttpStatus.CREATED)
+                .data(response)
+                .build();
+    }
+
     /**
      * 주문상태내역을 생성하기 위한 status 파라미터가 유효한지 검사합니다.
      *
@@ -1,5 +1,6 @@
 package shop.yesaladin.shop.order.domain.repository;
 
+import java.util.List;
 import shop.yesaladin.shop.order.domain.model.OrderStatusChangeLog;
 
 /**
@@ -19,4 +20,14 @@ public interface CommandOrderStatusChangeLogRepository {
      * @since 1.0
      */
     OrderStatusChangeLog save(OrderStatusChangeLog orderStatusChangeLog);
+
+    /**
+     * 여러 주문상태 변경내역 데이터를 한 번에 등록합니다.
+     *
+     * @param orderStatusChangeLogs 주문상태 변경내역 데이터 목록
+     * @return 등록된 주문상태 변경내역 데이터 목록
+     * @author 송학현
+     * @since 1.0
+     */
+    List<OrderStatusChangeLog> saveAll(Iterable<OrderStatusChangeLog> orderStatusChangeLogs);
 }
@@ -1,6 +1,8 @@
 package shop.yesaladin.shop.order.domain.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -164,4 +166,25 @@ public interface QueryOrderRepository {
      */
     Page<OrderSummaryResponseDto> getHiddenOrderByLoginId(String loginId, Pageable pageable);
 
+    /**
+     * pk 목록에 해당하는 주문 데이터를 한 번에 조회합니다.
+     *
+     * @param ids 조회할 주문의 pk 목록
+     * @return 조회된 주문 데이터 목록
+     * @author 송학현
+     * @since 1.0
+     */
+    List<Order> findAllByIdIn(Collection<Long> ids);
+
+    /**
+     * 주문 pk 목록 중 해당 주문 상태 변경 내역을 이미 가지고 있는 주문의 pk를 조회합니다.
+     *
+     * @param orderIds 조회할 주문의 pk 목록
+     * @param code     주문 상태
+     * @return 해당 주문 상태 변경 내역을 가진 주문의 pk 목록
+     * @author 송학현
+     * @since 1.0
+     */
+    List<Long> findOrderIdsHavingStatus(Collection<Long> orderIds, OrderStatusCode code);
+
 }
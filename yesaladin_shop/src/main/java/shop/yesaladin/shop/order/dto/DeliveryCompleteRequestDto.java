@@ -0,0 +1,25 @@
+package shop.yesaladin.shop.order.dto;
+
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배송 서버에서 배송 완료된 주문 목록을 한 번에 전달하기 위한 요청 dto 클래스입니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryCompleteRequestDto {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull Long> orderIds;
+}
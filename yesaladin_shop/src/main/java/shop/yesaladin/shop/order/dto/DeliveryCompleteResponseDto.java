@@ -0,0 +1,24 @@
+package shop.yesaladin.shop.order.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배송 완료 일괄 처리 결과를 담은 응답 dto 클래스입니다.
+ * <p>
+ * 재시도로 같은 주문이 다시 전달되더라도 이미 배송 완료된 주문은 중복 처리하지 않습니다.
+ *
+ * @author 송학현
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryCompleteResponseDto {
+
+    private List<Long> completedOrderIds;
+    private List<Long> alreadyCompletedOrderIds;
+    private List<Long> notFoundOrderIds;
+}
@@ -8,6 +8,7 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -377,4 +378,31 @@ public class QueryDslOrderQueryRepository implements QueryOrderRepository {
 
         return PageableExecutionUtils.getPage(data, pageable, countQuery::fetchFirst);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Order> findAllByIdIn(Collection<Long> ids) {
+        QOrder order = QOrder.order;
+
+        return queryFactory.selectFrom(order)
+                .where(order.id.in(ids))
+                .fetch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> findOrderIdsHavingStatus(Collection<Long> orderIds, OrderStatusCode code) {
+        QOrderStatusChangeLog orderStatusChangeLog = QOrderStatusChangeLog.orderStatusChangeLog;
+
+        return queryFactory.select(orderStatusChangeLog.order.id)
+                .distinct()
+                .from(orderStatusChangeLog)
+                .where(orderStatusChangeLog.order.id.in(orderIds)
+                        .and(orderStatusChangeLog.orderStatusCode.eq(code)))
+                .fetch();
+    }
 }
@@ -1,7 +1,15 @@
 package shop.yesaladin.shop.order.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +22,7 @@ import shop.yesaladin.shop.order.domain.model.OrderStatusChangeLog;
 import shop.yesaladin.shop.order.domain.model.OrderStatusCode;
 import shop.yesaladin.shop.order.domain.repository.CommandOrderStatusChangeLogRepository;
 import shop.yesaladin.shop.order.domain.repository.QueryOrderRepository;
+import shop.yesaladin.shop.order.dto.DeliveryCompleteResponseDto;
 import shop.yesaladin.shop.order.dto.NonMemberRequestDto;
 import shop.yesaladin.shop.order.dto.OrderStatusChangeLogResponseDto;
 import shop.yesaladin.shop.order.service.inter.CommandOrderStatusChangeLogService;
@@ -181,4 +190,66 @@ public class CommandOrderStatusChangeLogServiceImpl implements CommandOrderStatu
                 ));
         appendLog(orderChangeDateTime, order, code);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<Long> appendOrderStatusChangeLogsByOrderIds(
+            LocalDateTime orderChangeDateTime,
+            Collection<Long> orderIds,
+            OrderStatusCode code
+    ) {
+        Set<Long> alreadyChanged = new HashSet<>(queryOrderRepository.findOrderIdsHavingStatus(
+                orderIds,
+                code
+        ));
+
+        List<OrderStatusChangeLog> logs = queryOrderRepository.findAllByIdIn(orderIds)
+                .stream()
+                .filter(order -> !alreadyChanged.contains(order.getId()))
+                .map(order -> OrderStatusChangeLog.create(order, orderChangeDateTime, code))
+                .collect(Collectors.toList());
+        commandOrderStatusChangeLogRepository.saveAll(logs);
+        return logs.stream()
+                .map(changeLog -> changeLog.getOrder().getId())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public DeliveryCompleteResponseDto appendDeliveryCompleteLogs(
+            LocalDateTime orderChangeDateTime,
+            List<Long> orderIds
+    ) {
+        Set<Long> requested = new LinkedHashSet<>(orderIds);
+        Map<Long, Order> orders = queryOrderRepository.findAllByIdIn(requested)
+                .stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        Set<Long> alreadyCompleted = new HashSet<>(queryOrderRepository.findOrderIdsHavingStatus(
+                orders.keySet(),
+                OrderStatusCode.COMPLETE
+        ));
+
+        List<OrderStatusChangeLog> logs = orders.values()
+                .stream()
+                .filter(order -> !alreadyCompleted.contains(order.getId()))
+                .map(order -> OrderStatusChangeLog.create(
+                        order,
+                        orderChangeDateTime,
+                        OrderStatusCode.COMPLETE
+                ))
+                .collect(Collectors.toList());
+        commandOrderStatusChangeLogRepository.saveAll(logs);
+
+        return new DeliveryCompleteResponseDto(
+                logs.stream().map(changeLog -> changeLog.getOrder().getId()).collect(Collectors.toList()),
+                requested.stream().filter(alreadyCompleted::contains).collect(Collectors.toList()),
+                requested.stream().filter(id -> !orders.containsKey(id)).collect(Collectors.toList())
+        );
+    }
 }
@@ -58,6 +58,7 @@ import shop.yesaladin.shop.payment.domain.model.PaymentCode;
 import shop.yesaladin.shop.payment.dto.PaymentResponseDto;
 import shop.yesaladin.shop.payment.service.inter.QueryPaymentService;
 import shop.yesaladin.shop.point.service.inter.QueryPointHistoryService;
+import shop.yesaladin.shop.product.domain.model.ProductPrice;
 import shop.yesaladin.shop.product.dto.ProductOrderSheetResponseDto;
 import shop.yesaladin.shop.product.dto.ProductResponseDto;
 import shop.yesaladin.shop.product.service.inter.QueryProductService;
@@ -76,9 +77,6 @@ import shop.yesaladin.shop.product.service.inter.QueryProductService;
 @Service
 public class QueryOrderServiceImpl implements QueryOrderService {
 
-    private static final float PERCENT_DENOMINATOR_VALUE = 100;
-    private static final long ROUND_OFF_VALUE = 10;
-
     private final QueryOrderRepository queryOrderRepository;
     private final QueryOrderProductRepository queryOrderProductRepository;
     private final QueryMemberService queryMemberService;
@@ -438,13 +436,13 @@ public class QueryOrderServiceImpl implements QueryOrderService {
                         s.getTitle(),
                         s.getNumberOfOrders(),
                         s.getTotalQuantity(),
-                        BigDecimal.valueOf(calcSellingPrice(
+                        BigDecimal.valueOf(ProductPrice.calcSellingPrice(
                                 s.getActualPrice(),
                                 s.getDiscountRate()
                         )).multiply(BigDecimal.valueOf(s.getTotalQuantity())).toString(),
                         s.getNumberOfOrderCancellations(),
                         s.getTotalCancelQuantity(),
-                        BigDecimal.valueOf(calcSellingPrice(
+                        BigDecimal.valueOf(ProductPrice.calcSellingPrice(
                                 s.getActualPrice(),
                                 s.getDiscountRate()
                         )).multiply(BigDecimal.valueOf(s.getTotalCancelQuantity())).toString()
@@ -495,21 +493,4 @@ public class QueryOrderServiceImpl implements QueryOrderService {
         Order order = tryGetOrder(orderNumber);
         return order instanceof MemberOrder;
     }
-
-    /**
-     * 상품의 정가, 할인율을 바탕으로 판매가를 계산해 반환합니다.
-     *
-     * @param actualPrice 상품의 정가
-     * @param rate        상품의 할인율(전체 / 개별)
-     * @return 계산된 상품의 판매가
-     * @author 이수정
-     * @since 1.0
-     */
-    private long calcSellingPrice(long actualPrice, int rate) {
-        if (rate > 0) {
-            return Math.round((actualPrice - actualPrice * rate / PERCENT_DENOMINATOR_VALUE)
-                    / ROUND_OFF_VALUE) * ROUND_OFF_VALUE;
-        }
-        return actualPrice;
-    }
 }
@@ -1,8 +1,11 @@
 package shop.yesaladin.shop.order.service.inter;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import shop.yesaladin.shop.order.domain.model.Order;
 import shop.yesaladin.shop.order.domain.model.OrderStatusCode;
+import shop.yesaladin.shop.order.dto.DeliveryCompleteResponseDto;
 import shop.yesaladin.shop.order.dto.NonMemberRequestDto;
 import shop.yesaladin.shop.order.dto.OrderStatusChangeLogResponseDto;
 
@@ -75,4 +78,37 @@ public interface CommandOrderStatusChangeLogService {
             Long orderId,
             OrderStatusCode code
     );
+
+    /**
+     * 여러 주문에 같은 주문 상태 변경 로그를 한 번에 추가합니다. 존재하지 않는 주문과 이미 같은 상태 변경 로그가 있는 주문은 건너뛰므로, 같은
+     * 요청을 재시도해도 로그가 중복으로 추가되지 않습니다.
+     *
+     * @param orderChangeDateTime 변경 이력 시간
+     * @param orderIds            상태 변경을 할 주문아이디 목록
+     * @param code                주문 상태
+     * @return 로그가 추가된 주문 아이디 목록
+     * @author 송학현
+     * @since 1.0
+     */
+    List<Long> appendOrderStatusChangeLogsByOrderIds(
+            LocalDateTime orderChangeDateTime,
+            Collection<Long> orderIds,
+            OrderStatusCode code
+    );
+
+    /**
+     * 배송 완료된 주문 목록에 대해 배송 완료 상태 변경 내역을 일괄 추가합니다.
+     * <p>
+     * 이미 배송 완료 내역이 있는 주문은 건너뛰므로 같은 요청을 재시도해도 안전합니다.
+     *
+     * @param orderChangeDateTime 주문 상태 변경 일시
+     * @param orderIds            배송 완료된 주문의 pk 목록
+     * @return 처리 결과
+     * @author 송학현
+     * @since 1.0
+     */
+    DeliveryCompleteResponseDto appendDeliveryCompleteLogs(
+            LocalDateTime orderChangeDateTime,
+            List<Long> orderIds
+    );
 }
@@ -21,7 +21,7 @@ import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 import shop.yesaladin.common.code.ErrorCode;
 import shop.yesaladin.common.exception.ClientException;
-import shop.yesaladin.shop.delivery.dto.DeliveryEventDto;
+import shop.yesaladin.shop.delivery.service.inter.DeliveryRegistrationService;
 import shop.yesaladin.shop.order.domain.model.NonMemberOrder;
 import shop.yesaladin.shop.order.domain.model.Order;
 import shop.yesaladin.shop.order.domain.model.OrderCode;
@@ -59,6 +59,7 @@ public class CommandPaymentServiceImpl implements CommandPaymentService {
     private final QueryPaymentRepository queryPaymentRepository;
     private final QueryOrderService queryOrderService;
     private final CommandOrderStatusChangeLogService commandOrderStatusChangeLogService;
+    private final DeliveryRegistrationService deliveryRegistrationService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     private HttpHeaders getHttpHeaders() {
@@ -100,7 +101,7 @@ public class CommandPaymentServiceImpl implements CommandPaymentService {
             );
 
             // 배송 요청
-            applicationEventPublisher.publishEvent(new DeliveryEventDto(order.getId()));
+            deliveryRegistrationService.requestRegistration(order.getId());
 
             // 주문 상태 로그 추가 - 배송 준비 상태
             commandOrderStatusChangeLogService.appendOrderStatusChangeLog(
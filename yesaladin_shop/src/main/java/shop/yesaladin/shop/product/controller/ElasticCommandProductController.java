@@ -3,6 +3,7 @@ package shop.yesaladin.shop.product.controller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -92,4 +93,21 @@ public class ElasticCommandProductController {
                 .status(HttpStatus.OK)
                 .build();
     }
+
+    /**
+     * 모든 상품을 관리자 검색 인덱스에 색인하는 메서드
+     *
+     * @return 색인된 상품의 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/manager-index")
+    public ResponseDto<Integer> indexAllForManager() {
+        return ResponseDto.<Integer>builder()
+                .success(true)
+                .status(HttpStatus.OK)
+                .data(elasticCommandProductService.indexAllForManager())
+                .build();
+    }
 }
@@ -0,0 +1,72 @@
+package shop.yesaladin.shop.product.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import shop.yesaladin.common.dto.ResponseDto;
+import shop.yesaladin.shop.product.dto.ProductImportFormat;
+import shop.yesaladin.shop.product.dto.ProductImportStatusResponseDto;
+import shop.yesaladin.shop.product.service.inter.ProductImportService;
+
+/**
+ * 상품 일괄 등록을 위한 RestController 입니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/v1/products/import")
+public class ProductImportController {
+
+    private final ProductImportService productImportService;
+
+    /**
+     * [POST /v1/products/import] 상품 일괄 등록 파일을 받아 등록 작업을 시작합니다.
+     *
+     * @param format 파일 형식
+     * @param file   일괄 등록 파일
+     * @return 대기 상태의 작업
+     * @author 이수정
+     * @since 1.0
+     */
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ResponseDto<ProductImportStatusResponseDto> importProducts(
+            @RequestParam ProductImportFormat format,
+            @RequestParam MultipartFile file
+    ) {
+        return ResponseDto.<ProductImportStatusResponseDto>builder()
+                .success(true)
+                .status(HttpStatus.ACCEPTED)
+                .data(productImportService.start(format, file))
+                .build();
+    }
+
+    /**
+     * [GET /v1/products/import/{jobId}] 상품 일괄 등록 작업의 진행 상황과 등록하지 못한 행을 조회합니다.
+     *
+     * @param jobId 작업 id
+     * @return 작업의 진행 상황
+     * @author 이수정
+     * @since 1.0
+     */
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/{jobId}")
+    public ResponseDto<ProductImportStatusResponseDto> getStatus(@PathVariable String jobId) {
+        return ResponseDto.<ProductImportStatusResponseDto>builder()
+                .success(true)
+                .status(HttpStatus.OK)
+                .data(productImportService.getStatus(jobId))
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package shop.yesaladin.shop.product.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import shop.yesaladin.common.dto.ResponseDto;
+import shop.yesaladin.shop.product.dto.ProductReindexStatusResponseDto;
+import shop.yesaladin.shop.product.service.inter.ProductReindexService;
+
+/**
+ * 상품 검색 인덱스를 전체 재색인하는 컨트롤러
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/v1/search/products/reindex")
+public class ProductReindexController {
+
+    private final ProductReindexService productReindexService;
+
+    /**
+     * 전체 재색인을 시작하거나 중단된 재색인을 이어서 진행하는 메서드
+     *
+     * @return 진행 상태의 작업
+     * @author 김선홍
+     * @since 1.0
+     */
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ResponseDto<ProductReindexStatusResponseDto> start() {
+        return ResponseDto.<ProductReindexStatusResponseDto>builder()
+                .success(true)
+                .status(HttpStatus.ACCEPTED)
+                .data(productReindexService.start())
+                .build();
+    }
+
+    /**
+     * 마지막 재색인 작업의 진행 상황을 조회하는 메서드
+     *
+     * @return 작업의 진행 상황
+     * @author 김선홍
+     * @since 1.0
+     */
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping
+    public ResponseDto<ProductReindexStatusResponseDto> getStatus() {
+        return ResponseDto.<ProductReindexStatusResponseDto>builder()
+                .success(true)
+                .status(HttpStatus.OK)
+                .data(productReindexService.getStatus())
+                .build();
+    }
+}
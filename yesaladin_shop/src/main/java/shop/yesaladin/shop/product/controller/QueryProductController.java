@@ -2,6 +2,7 @@ package shop.yesaladin.shop.product.controller;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -17,9 +18,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import shop.yesaladin.common.code.ErrorCode;
 import shop.yesaladin.common.dto.ResponseDto;
+import shop.yesaladin.common.exception.ClientException;
+import shop.yesaladin.shop.common.dto.CursorPaginatedResponseDto;
 import shop.yesaladin.shop.common.dto.PaginatedResponseDto;
 import shop.yesaladin.shop.product.dto.ProductDetailResponseDto;
+import shop.yesaladin.shop.product.dto.ProductManagerSearchType;
 import shop.yesaladin.shop.product.dto.ProductModifyDto;
 import shop.yesaladin.shop.product.dto.ProductOnlyTitleDto;
 import shop.yesaladin.shop.product.dto.ProductRecentResponseDto;
@@ -43,6 +48,8 @@ import shop.yesaladin.shop.product.service.inter.QueryProductService;
 @RequestMapping("/v1/products")
 public class QueryProductController {
 
+    private static final int MAX_SUMMARY_IDS = 100;
+
     private final QueryProductService queryProductService;
 
     /**
@@ -191,6 +198,69 @@ public class QueryProductController {
                 .build();
     }
 
+    /**
+     * [GET /products/cursor] 요청을 받아 상품을 모든 사용자용 cursor 기반으로 조회합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지인 경우 생략
+     * @param size   조회할 상품 수
+     * @param typeId 상품 유형 id
+     * @return 조회한 상품과 다음 페이지 cursor를 담은 ResponseDto
+     * @author 이수정
+     * @since 1.0
+     */
+    @GetMapping("/cursor")
+    public ResponseDto<CursorPaginatedResponseDto<ProductsResponseDto>> getProductsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Integer typeId
+    ) {
+        return ResponseDto.<CursorPaginatedResponseDto<ProductsResponseDto>>builder()
+                .success(true)
+                .status(HttpStatus.OK)
+                .data(queryProductService.findAllByCursor(cursor, size, typeId))
+                .build();
+    }
+
+    /**
+     * [GET /products/manager/cursor] 요청을 받아 상품을 관리자용 cursor 기반으로 조회합니다. 검색 기준과 검색어가 있으면 검색 결과를
+     * 조회합니다.
+     *
+     * @param cursor     이전 응답의 nextCursor, 첫 페이지인 경우 생략
+     * @param size       조회할 상품 수
+     * @param typeId     상품 유형 id
+     * @param searchType 검색 기준
+     * @param keyword    검색어
+     * @return 조회한 상품과 다음 페이지 cursor를 담은 ResponseDto
+     * @author 이수정
+     * @since 1.0
+     */
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/manager/cursor")
+    public ResponseDto<CursorPaginatedResponseDto<ProductsResponseDto>> getProductsForManagerByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Integer typeId,
+            @RequestParam(required = false) ProductManagerSearchType searchType,
+            @RequestParam(required = false) String keyword
+    ) {
+        CursorPaginatedResponseDto<ProductsResponseDto> response;
+        if (Objects.isNull(searchType) || Objects.isNull(keyword)) {
+            response = queryProductService.findAllForManagerByCursor(cursor, size, typeId);
+        } else {
+            response = queryProductService.findForManagerByCursor(
+                    searchType,
+                    keyword,
+                    cursor,
+                    size
+            );
+        }
+        return ResponseDto.<CursorPaginatedResponseDto<ProductsResponseDto>>builder()
+                .success(true)
+                .status(HttpStatus.OK)
+                .data(response)
+                .build();
+    }
+
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @GetMapping(value = "/manager", params = "title")
     public ResponseDto<PaginatedResponseDto<ProductsResponseDto>> getProductsByTitleForManager(
@@ -340,4 +410,30 @@ public class QueryProductController {
                         .build())
                 .build();
     }
+
+    /**
+     * [GET /v1/products/summaries?ids=] 상품 id 목록의 요약 정보를 요청한 순서대로 반환합니다. 한 번에 최대 100개까지 조회할 수
+     * 있습니다.
+     *
+     * @param ids 조회할 상품 id 리스트
+     * @return 상품 요약 리스트
+     * @author 김선홍
+     * @since 1.0
+     */
+    @GetMapping(value = "/summaries", params = "ids")
+    public ResponseDto<List<ProductRecentResponseDto>> findProductSummariesByIds(
+            @RequestParam List<Long> ids
+    ) {
+        if (ids.size() > MAX_SUMMARY_IDS) {
+            throw new ClientException(
+                    ErrorCode.BAD_REQUEST,
+                    "Too many product ids. max: " + MAX_SUMMARY_IDS + ", requested: " + ids.size()
+            );
+        }
+        return ResponseDto.<List<ProductRecentResponseDto>>builder()
+                .status(HttpStatus.OK)
+                .success(true)
+                .data(queryProductService.findProductSummariesByIds(ids))
+                .build();
+    }
 }
@@ -1,5 +1,7 @@
 package shop.yesaladin.shop.product.controller;
 
+import java.util.List;
+import javax.validation.Valid;
 import javax.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -7,13 +9,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import shop.yesaladin.common.code.ErrorCode;
 import shop.yesaladin.common.dto.ResponseDto;
+import shop.yesaladin.common.exception.ClientException;
 import shop.yesaladin.shop.common.dto.PaginatedResponseDto;
+import shop.yesaladin.shop.product.dto.ProductFacetSearchResponseDto;
+import shop.yesaladin.shop.product.dto.ProductSearchRequestDto;
 import shop.yesaladin.shop.product.dto.SearchedProductResponseDto;
 import shop.yesaladin.shop.product.service.inter.SearchProductService;
 
@@ -248,4 +256,53 @@ public class SearchProductController {
                 .status(HttpStatus.OK)
                 .build();
     }
+
+    /**
+     * 검색어와 카테고리, 출판사, 저자, 태그, 가격, 재고 조건으로 상품을 검색하고 조건별 상품 수를 함께 반환하는 컨트롤러 메서드
+     *
+     * @param dto           검색어와 필터 조건
+     * @param bindingResult 유효성 검사 결과
+     * @param pageable      페이지정보
+     * @return 요청된 조건에 대한 상품 리스트와 조건별 상품 수
+     * @author : 김선홍
+     * @since : 1.0
+     */
+    @GetMapping("/faceted")
+    public ResponseDto<ProductFacetSearchResponseDto> searchProducts(
+            @ModelAttribute @Valid ProductSearchRequestDto dto,
+            BindingResult bindingResult,
+            @PageableDefault Pageable pageable
+    ) {
+        if (bindingResult.hasErrors()) {
+            throw new ClientException(
+                    ErrorCode.BAD_REQUEST,
+                    "Validation Error in product search request." + bindingResult.getAllErrors()
+            );
+        }
+
+        return ResponseDto.<ProductFacetSearchResponseDto>builder()
+                .success(true)
+                .data(searchProductService.searchProducts(dto, pageable))
+                .status(HttpStatus.OK)
+                .build();
+    }
+
+    /**
+     * 입력 중인 접두어로 검색어를 자동 완성하는 컨트롤러 메서드
+     *
+     * @param prefix 사용자가 입력 중인 접두어
+     * @return 자동 완성 검색어 리스트
+     * @author : 김선홍
+     * @since : 1.0
+     */
+    @GetMapping("/suggestions")
+    public ResponseDto<List<String>> suggestProducts(
+            @RequestParam @Size(max = 30) String prefix
+    ) {
+        return ResponseDto.<List<String>>builder()
+                .success(true)
+                .data(searchProductService.suggestProducts(prefix))
+                .status(HttpStatus.OK)
+                .build();
+    }
 }
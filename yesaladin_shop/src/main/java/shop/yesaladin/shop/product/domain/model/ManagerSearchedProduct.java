@@ -0,0 +1,94 @@
+package shop.yesaladin.shop.product.domain.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.data.elasticsearch.annotations.WriteTypeHint;
+
+/**
+ * 관리자 상품 검색을 위한 엘라스틱서치 인덱스 입니다.
+ * <p>
+ * 제목, 내용, 출판사, 저자는 2-gram 으로 색인되어 MySQL 의 LIKE '%검색어%' 와 같은 부분 일치 검색을 인덱스로 처리합니다. 한 글자 검색어는
+ * 1-gram 으로 색인된 unigram 필드로 검색합니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Setting(settingPath = "elasticsearch/manager-ngram-settings.json")
+@Document(indexName = "yesaladin_products_manager", writeTypeHint = WriteTypeHint.FALSE)
+public class ManagerSearchedProduct {
+
+    public static final String UNIGRAM = "unigram";
+    private static final String NGRAM_2 = "manager_bigram";
+    private static final String NGRAM_1 = "manager_unigram";
+
+    @Id
+    @Field(name = "id", type = FieldType.Long)
+    private Long id;
+    @Field(name = "isbn", type = FieldType.Keyword)
+    private String isbn;
+    @MultiField(
+            mainField = @Field(name = "title", type = FieldType.Text, analyzer = NGRAM_2),
+            otherFields = @InnerField(suffix = UNIGRAM, type = FieldType.Text, analyzer = NGRAM_1)
+    )
+    private String title;
+    @MultiField(
+            mainField = @Field(name = "contents", type = FieldType.Text, analyzer = NGRAM_2),
+            otherFields = @InnerField(suffix = UNIGRAM, type = FieldType.Text, analyzer = NGRAM_1)
+    )
+    private String contents;
+    @MultiField(
+            mainField = @Field(name = "publisher", type = FieldType.Text, analyzer = NGRAM_2),
+            otherFields = @InnerField(suffix = UNIGRAM, type = FieldType.Text, analyzer = NGRAM_1)
+    )
+    private String publisher;
+    @MultiField(
+            mainField = @Field(name = "authors", type = FieldType.Text, analyzer = NGRAM_2),
+            otherFields = @InnerField(suffix = UNIGRAM, type = FieldType.Text, analyzer = NGRAM_1)
+    )
+    private List<String> authors;
+    @Field(name = "preferential_show_ranking", type = FieldType.Integer)
+    private int preferentialShowRanking;
+    @Field(name = "is_deleted", type = FieldType.Boolean)
+    private boolean isDeleted;
+
+    /**
+     * 상품과 출판사, 저자 이름으로 관리자 검색 문서를 생성합니다.
+     *
+     * @param product   색인할 상품
+     * @param publisher 출판사 이름
+     * @param authors   저자 이름 리스트
+     * @return 관리자 검색 문서
+     * @author 김선홍
+     * @since 1.0
+     */
+    public static ManagerSearchedProduct of(
+            Product product,
+            String publisher,
+            List<String> authors
+    ) {
+        return ManagerSearchedProduct.builder()
+                .id(product.getId())
+                .isbn(product.getIsbn())
+                .title(product.getTitle())
+                .contents(product.getContents())
+                .publisher(publisher)
+                .authors(authors)
+                .preferentialShowRanking(product.getPreferentialShowRanking())
+                .isDeleted(product.isDeleted())
+                .build();
+    }
+}
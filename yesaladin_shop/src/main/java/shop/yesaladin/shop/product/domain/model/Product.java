@@ -1,15 +1,20 @@
 package shop.yesaladin.shop.product.domain.model;
 
+import java.util.Objects;
 import javax.persistence.Column;
 import javax.persistence.Convert;
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
 import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -32,7 +37,9 @@ import shop.yesaladin.shop.product.persistence.converter.ProductTypeCodeConverte
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_ranking_id", columnList = "preferential_show_ranking, id")
+})
 @Entity
 public class Product {
 
@@ -101,6 +108,9 @@ public class Product {
     @Convert(converter = ProductSavingMethodCodeConverter.class)
     private ProductSavingMethodCode productSavingMethodCode;
 
+    @Embedded
+    private ProductPrice price;
+
     /**
      * 상품 soft delete를 위해 isDeleted를 true로, isSale을 false로 바꿉니다.
      *
@@ -154,4 +164,58 @@ public class Product {
     public void changeIsForcedOutOfStock() {
         this.isForcedOutOfStock = !this.isForcedOutOfStock;
     }
+
+    /**
+     * 상품의 가격을 현재 정가, 할인율, 포인트 정책으로 다시 계산하여 저장합니다.
+     * <p>
+     * 상품이 저장될 때마다 호출되며, 전체 할인율이 바뀐 경우에는 전체 할인율을 따르는 상품마다 직접 호출합니다.
+     *
+     * @author 이수정
+     * @since 1.0
+     */
+    @PrePersist
+    @PreUpdate
+    public void refreshPrice() {
+        this.price = ProductPrice.of(this);
+    }
+
+    /**
+     * 상품의 판매가를 반환합니다.
+     *
+     * @return 상품의 판매가
+     * @author 이수정
+     * @since 1.0
+     */
+    public long getSellingPrice() {
+        return currentPrice().getSellingPrice();
+    }
+
+    /**
+     * 상품에 적용된 할인율(전체 / 개별)을 반환합니다.
+     *
+     * @return 상품에 적용된 할인율
+     * @author 이수정
+     * @since 1.0
+     */
+    public int getAppliedDiscountRate() {
+        return currentPrice().getAppliedDiscountRate();
+    }
+
+    /**
+     * 상품의 적립 포인트를 반환합니다.
+     *
+     * @return 상품의 적립 포인트
+     * @author 이수정
+     * @since 1.0
+     */
+    public long getPointPrice() {
+        return currentPrice().getPointPrice();
+    }
+
+    private ProductPrice currentPrice() {
+        if (Objects.nonNull(price) && price.isCalculated()) {
+            return price;
+        }
+        return ProductPrice.of(this);
+    }
 }
@@ -0,0 +1,109 @@
+package shop.yesaladin.shop.product.domain.model;
+
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품의 판매가, 적용된 할인율, 적립 포인트를 미리 계산해둔 값 타입 입니다.
+ * <p>
+ * 판매가 계산 규칙은 이 클래스에만 있습니다. 상품 정보, 개별 할인율 또는 전체 할인율이 바뀔 때만 다시 계산되며, 조회 시에는 저장된 값을 그대로 읽습니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Getter
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductPrice {
+
+    private static final float PERCENT_DENOMINATOR_VALUE = 100;
+    private static final long ROUND_OFF_VALUE = 10;
+
+    @Column(name = "selling_price")
+    private Long sellingPrice;
+    @Column(name = "applied_discount_rate")
+    private Integer appliedDiscountRate;
+    @Column(name = "point_price")
+    private Long pointPrice;
+
+    /**
+     * 상품의 현재 정가, 할인율, 포인트 정책으로 가격을 계산합니다.
+     *
+     * @param product 가격을 계산할 상품
+     * @return 계산된 상품 가격
+     * @author 이수정
+     * @since 1.0
+     */
+    public static ProductPrice of(Product product) {
+        int rate = getRateByProduct(product);
+        return new ProductPrice(
+                calcSellingPrice(product.getActualPrice(), rate),
+                rate,
+                calcPointPrice(
+                        product.getActualPrice(),
+                        product.isGivenPoint(),
+                        product.getGivenPointRate()
+                )
+        );
+    }
+
+    /**
+     * 상품의 정가, 할인율을 바탕으로 판매가를 계산해 반환합니다.
+     *
+     * @param actualPrice 상품의 정가
+     * @param rate        상품의 할인율(전체 / 개별)
+     * @return 계산된 상품의 판매가
+     * @author 이수정
+     * @since 1.0
+     */
+    public static long calcSellingPrice(long actualPrice, int rate) {
+        if (rate > 0) {
+            return Math.round((actualPrice - actualPrice * rate / PERCENT_DENOMINATOR_VALUE)
+                    / ROUND_OFF_VALUE) * ROUND_OFF_VALUE;
+        }
+        return actualPrice;
+    }
+
+    /**
+     * 상품의 정가, 포인트 적립율을 바탕으로 적립 포인트를 계산해 반환합니다.
+     *
+     * @param actualPrice    상품의 정가
+     * @param isGivenPoint   포인트 적립 여부
+     * @param givenPointRate 포인트 적립율
+     * @return 계산된 적립 포인트
+     * @author 이수정
+     * @since 1.0
+     */
+    public static long calcPointPrice(long actualPrice, boolean isGivenPoint, int givenPointRate) {
+        if (isGivenPoint && givenPointRate != 0) {
+            return Math.round((actualPrice * givenPointRate / PERCENT_DENOMINATOR_VALUE)
+                    / ROUND_OFF_VALUE) * ROUND_OFF_VALUE;
+        }
+        return 0;
+    }
+
+    /**
+     * 가격이 계산되어 저장된 상태인지 반환합니다. 가격 컬럼이 추가되기 전의 상품은 계산되지 않은 상태입니다.
+     *
+     * @return 계산 여부
+     * @author 이수정
+     * @since 1.0
+     */
+    public boolean isCalculated() {
+        return Objects.nonNull(sellingPrice) && Objects.nonNull(appliedDiscountRate)
+                && Objects.nonNull(pointPrice);
+    }
+
+    private static int getRateByProduct(Product product) {
+        if (product.isSeparatelyDiscount() || Objects.isNull(product.getTotalDiscountRate())) {
+            return product.getDiscountRate();
+        }
+        return product.getTotalDiscountRate().getDiscountRate();
+    }
+}
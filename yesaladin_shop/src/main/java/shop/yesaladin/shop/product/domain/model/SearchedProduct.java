@@ -2,19 +2,26 @@ package shop.yesaladin.shop.product.domain.model;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.CompletionField;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.annotations.WriteTypeHint;
+import org.springframework.data.elasticsearch.core.suggest.Completion;
 
 /**
  * 엘라스틱 서치 상품 인덱스
+ * <p>
+ * 판매 중이고 삭제되지 않은 상품은 제목, 출판사, 저자 이름을 검색어 자동 완성을 위한 completion 필드에 함께 색인합니다.
  *
  * @author : 김선홍
  * @since : 1.0
@@ -54,8 +61,14 @@ public class SearchedProduct {
     private long preferentialShowRanking;
     @Field(name = "integrated_discount_rate", type = FieldType.Object)
     private SearchedProductTotalDiscountRate searchedTotalDiscountRate;
+    @Field(name = "selling_price", type = FieldType.Long)
+    private Long sellingPrice;
+    @Field(name = "applied_discount_rate", type = FieldType.Integer)
+    private Integer appliedDiscountRate;
     @Field(name = "thumbnail_file", type = FieldType.Keyword)
     private String thumbnailFile;
+    @Field(name = "thumbnail_variant_generated", type = FieldType.Boolean)
+    private Boolean thumbnailVariantGenerated;
     @Field(name = "publisher", type = FieldType.Object)
     private SearchedProductPublisher publisher;
     @Field(name = "published_date", type = FieldType.Date)
@@ -72,6 +85,81 @@ public class SearchedProduct {
     private List<SearchedProductAuthor> authors;
     @Field(name = "tags", type = FieldType.Object)
     private List<SearchedProductTag> tags;
+    @CompletionField(maxInputLength = 100)
+    private Completion suggest;
+
+    /**
+     * 상품과 상품의 연관 정보로 검색 문서를 생성합니다.
+     *
+     * @param product       색인할 상품
+     * @param publishedDate 출간일
+     * @param categories    카테고리 리스트
+     * @param tags          태그 리스트
+     * @param publisher     출판사
+     * @param authors       저자 리스트
+     * @return 상품 검색 문서
+     * @author 김선홍
+     * @since 1.0
+     */
+    public static SearchedProduct of(
+            Product product,
+            LocalDate publishedDate,
+            List<SearchedProductCategory> categories,
+            List<SearchedProductTag> tags,
+            SearchedProductPublisher publisher,
+            List<SearchedProductAuthor> authors
+    ) {
+        return SearchedProduct.builder()
+                .id(product.getId())
+                .title(product.getTitle())
+                .contents(product.getContents())
+                .description(product.getDescription())
+                .actualPrice(product.getActualPrice())
+                .discountRate(product.getDiscountRate())
+                .isSeparatelyDiscount(product.isSeparatelyDiscount())
+                .isSale(product.isSale())
+                .quantity(product.getQuantity())
+                .isForcedOutOfStock(product.isForcedOutOfStock())
+                .searchedTotalDiscountRate(new SearchedProductTotalDiscountRate(
+                        product.getTotalDiscountRate().getId(),
+                        product.getTotalDiscountRate().getDiscountRate()
+                ))
+                .sellingPrice(product.getSellingPrice())
+                .appliedDiscountRate(product.getAppliedDiscountRate())
+                .preferentialShowRanking(product.getPreferentialShowRanking())
+                .isSubscriptionAvailable(product.isSubscriptionAvailable())
+                .thumbnailFile(product.getThumbnailFile().getUrl())
+                .thumbnailVariantGenerated(product.getThumbnailFile().isVariantGenerated())
+                .isDeleted(product.isDeleted())
+                .publishedDate(publishedDate)
+                .categories(categories)
+                .tags(tags)
+                .publisher(publisher)
+                .authors(authors)
+                .suggest(getSuggest(product, publisher, authors))
+                .build();
+    }
+
+    private static Completion getSuggest(
+            Product product,
+            SearchedProductPublisher publisher,
+            List<SearchedProductAuthor> authors
+    ) {
+        if (!product.isSale() || product.isDeleted()) {
+            return null;
+        }
+        String[] inputs = Stream.concat(
+                        Stream.of(
+                                product.getTitle(),
+                                Objects.isNull(publisher) ? null : publisher.getName()
+                        ),
+                        authors.stream().map(SearchedProductAuthor::getName)
+                )
+                .filter(Objects::nonNull)
+                .distinct()
+                .toArray(String[]::new);
+        return inputs.length == 0 ? null : new Completion(inputs);
+    }
 
     public void changeIsSale() {
         this.isSale = !this.isSale;
@@ -0,0 +1,71 @@
+package shop.yesaladin.shop.product.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import org.apache.ibatis.annotations.Param;
+import shop.yesaladin.shop.product.dto.ProductDocumentCategoryDto;
+import shop.yesaladin.shop.product.dto.ProductDocumentPublishDto;
+import shop.yesaladin.shop.product.dto.ProductDocumentReferenceDto;
+import shop.yesaladin.shop.product.dto.ProductSearchStateDto;
+
+/**
+ * 상품 검색 문서를 만들기 위해 여러 상품의 출판사, 저자, 태그, 카테고리를 종류별로 한 번에 조회하는 MyBatis Repository 입니다.
+ * <p>
+ * 빈 목록으로 호출하지 않아야 합니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+public interface ProductDocumentSourceRepository {
+
+    /**
+     * 상품의 출판사와 출간일을 조회합니다.
+     *
+     * @param productIds 상품 id 목록
+     * @return 상품별 출판 정보
+     * @author 김선홍
+     * @since 1.0
+     */
+    List<ProductDocumentPublishDto> findPublishes(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 상품의 저자를 조회합니다.
+     *
+     * @param productIds 상품 id 목록
+     * @return 상품별 저자
+     * @author 김선홍
+     * @since 1.0
+     */
+    List<ProductDocumentReferenceDto> findAuthors(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 상품의 태그를 조회합니다.
+     *
+     * @param productIds 상품 id 목록
+     * @return 상품별 태그
+     * @author 김선홍
+     * @since 1.0
+     */
+    List<ProductDocumentReferenceDto> findTags(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 상품의 카테고리를 조회합니다.
+     *
+     * @param productIds 상품 id 목록
+     * @return 상품별 카테고리
+     * @author 김선홍
+     * @since 1.0
+     */
+    List<ProductDocumentCategoryDto> findCategories(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * id 가 주어진 값보다 큰 상품의 검색 인덱스 관련 상태를 id 순으로 조회합니다. 삭제된 상품도 함께 조회합니다.
+     *
+     * @param lastId 이전에 조회한 마지막 상품 id
+     * @param size   조회할 최대 상품 수
+     * @return 상품의 상태 리스트
+     * @author 김선홍
+     * @since 1.0
+     */
+    List<ProductSearchStateDto> findStatesAfter(@Param("lastId") long lastId, @Param("size") int size);
+}
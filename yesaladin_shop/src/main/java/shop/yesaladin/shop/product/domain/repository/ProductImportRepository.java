@@ -0,0 +1,151 @@
+package shop.yesaladin.shop.product.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import org.apache.ibatis.annotations.Param;
+import shop.yesaladin.shop.product.dto.ProductImportCategoryDto;
+import shop.yesaladin.shop.product.dto.ProductImportFileDto;
+import shop.yesaladin.shop.product.dto.ProductImportReferenceDto;
+import shop.yesaladin.shop.product.dto.ProductImportRelationDto;
+import shop.yesaladin.shop.product.dto.ProductImportRowDto;
+
+/**
+ * 상품 일괄 등록을 위한 MyBatis Repository 입니다.
+ * <p>
+ * 참조 정보는 id 목록으로 한 번에 조회하고, 상품과 연관 정보는 여러 행을 하나의 INSERT 문으로 저장합니다. 빈 목록으로 호출하지 않아야 합니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+public interface ProductImportRepository {
+
+    /**
+     * 이미 등록된 isbn 을 조회합니다.
+     *
+     * @param isbns 조회할 isbn 목록
+     * @return 이미 등록된 isbn 목록
+     * @author 이수정
+     * @since 1.0
+     */
+    List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
+    /**
+     * id 목록으로 저자를 조회합니다.
+     *
+     * @param ids 저자 id 목록
+     * @return 저자의 id 와 이름
+     * @author 이수정
+     * @since 1.0
+     */
+    List<ProductImportReferenceDto> findAuthors(@Param("ids") Collection<Long> ids);
+
+    /**
+     * id 목록으로 출판사를 조회합니다.
+     *
+     * @param ids 출판사 id 목록
+     * @return 출판사의 id 와 이름
+     * @author 이수정
+     * @since 1.0
+     */
+    List<ProductImportReferenceDto> findPublishers(@Param("ids") Collection<Long> ids);
+
+    /**
+     * id 목록으로 태그를 조회합니다.
+     *
+     * @param ids 태그 id 목록
+     * @return 태그의 id 와 이름
+     * @author 이수정
+     * @since 1.0
+     */
+    List<ProductImportReferenceDto> findTags(@Param("ids") Collection<Long> ids);
+
+    /**
+     * id 목록으로 카테고리를 조회합니다.
+     *
+     * @param ids 카테고리 id 목록
+     * @return 카테고리 정보
+     * @author 이수정
+     * @since 1.0
+     */
+    List<ProductImportCategoryDto> findCategories(@Param("ids") Collection<Long> ids);
+
+    /**
+     * issn 목록으로 구독 상품을 조회합니다.
+     *
+     * @param issns 구독 상품 issn 목록
+     * @return 구독 상품의 id 와 issn
+     * @author 이수정
+     * @since 1.0
+     */
+    List<ProductImportReferenceDto> findSubscribeProducts(@Param("issns") Collection<String> issns);
+
+    /**
+     * 구독 상품을 저장합니다.
+     *
+     * @param issns 저장할 구독 상품 issn 목록
+     * @return 저장된 행의 수
+     * @author 이수정
+     * @since 1.0
+     */
+    int insertSubscribeProducts(@Param("issns") Collection<String> issns);
+
+    /**
+     * 파일을 저장하고 생성된 id 를 채웁니다.
+     *
+     * @param files 저장할 파일 목록
+     * @return 저장된 행의 수
+     * @author 이수정
+     * @since 1.0
+     */
+    int insertFiles(@Param("files") List<ProductImportFileDto> files);
+
+    /**
+     * 상품을 저장하고 생성된 id 를 채웁니다.
+     *
+     * @param rows 저장할 상품 목록
+     * @return 저장된 행의 수
+     * @author 이수정
+     * @since 1.0
+     */
+    int insertProducts(@Param("rows") List<ProductImportRowDto> rows);
+
+    /**
+     * 상품의 출판 정보를 저장합니다.
+     *
+     * @param rows 저장된 상품 목록
+     * @return 저장된 행의 수
+     * @author 이수정
+     * @since 1.0
+     */
+    int insertPublishes(@Param("rows") List<ProductImportRowDto> rows);
+
+    /**
+     * 상품과 저자의 관계를 저장합니다.
+     *
+     * @param relations 상품 id 와 저자 id 목록
+     * @return 저장된 행의 수
+     * @author 이수정
+     * @since 1.0
+     */
+    int insertWritings(@Param("relations") List<ProductImportRelationDto> relations);
+
+    /**
+     * 상품과 태그의 관계를 저장합니다.
+     *
+     * @param relations 상품 id 와 태그 id 목록
+     * @return 저장된 행의 수
+     * @author 이수정
+     * @since 1.0
+     */
+    int insertProductTags(@Param("relations") List<ProductImportRelationDto> relations);
+
+    /**
+     * 상품과 카테고리의 관계를 저장합니다.
+     *
+     * @param relations 상품 id 와 카테고리 id 목록
+     * @return 저장된 행의 수
+     * @author 이수정
+     * @since 1.0
+     */
+    int insertProductCategories(@Param("relations") List<ProductImportRelationDto> relations);
+}
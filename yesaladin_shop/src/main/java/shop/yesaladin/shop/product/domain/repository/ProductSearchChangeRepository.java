@@ -0,0 +1,85 @@
+package shop.yesaladin.shop.product.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ibatis.annotations.Param;
+import shop.yesaladin.shop.product.dto.ProductSearchChangeDto;
+
+/**
+ * 검색 인덱스에 반영할 상품 변경 기록을 위한 MyBatis Repository 입니다.
+ * <p>
+ * 변경 기록은 상품을 변경한 트랜잭션 안에서 product_search_changes 테이블에 저장되므로, 상품 변경이 커밋되면 검색 인덱스 반영이 유실되지
+ * 않습니다. 기록에는 변경된 상품의 id 만 남기고, 반영할 때 상품의 현재 상태로 문서를 다시 만듭니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+public interface ProductSearchChangeRepository {
+
+    /**
+     * 상품 변경 기록을 저장합니다.
+     *
+     * @param productIds      변경된 상품 id 목록
+     * @param createdDateTime 기록 일시
+     * @return 저장된 기록 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    int insertChanges(
+            @Param("productIds") Collection<Long> productIds,
+            @Param("createdDateTime") LocalDateTime createdDateTime
+    );
+
+    /**
+     * 썸네일 파일을 사용하는 상품들의 변경 기록을 저장합니다.
+     *
+     * @param thumbnailFileId 썸네일 파일 id
+     * @param createdDateTime 기록 일시
+     * @return 저장된 기록 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    int insertChangesByThumbnailFileId(
+            @Param("thumbnailFileId") Long thumbnailFileId,
+            @Param("createdDateTime") LocalDateTime createdDateTime
+    );
+
+    /**
+     * 다시 시도할 시각이 지난 변경 기록을 먼저 기록된 순으로 조회합니다.
+     *
+     * @param now  현재 일시
+     * @param size 조회할 최대 기록 수
+     * @return 변경 기록 리스트
+     * @author 김선홍
+     * @since 1.0
+     */
+    List<ProductSearchChangeDto> findReady(
+            @Param("now") LocalDateTime now,
+            @Param("size") int size
+    );
+
+    /**
+     * 검색 인덱스에 반영한 변경 기록을 삭제합니다.
+     *
+     * @param ids 변경 기록 id 목록
+     * @return 삭제된 기록 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 반영에 실패한 변경 기록의 시도 횟수를 늘리고 다음 시도 일시를 미룹니다.
+     *
+     * @param ids                 변경 기록 id 목록
+     * @param nextAttemptDateTime 다음 시도 일시
+     * @return 수정된 기록 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    int deferByIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("nextAttemptDateTime") LocalDateTime nextAttemptDateTime
+    );
+}
@@ -0,0 +1,95 @@
+package shop.yesaladin.shop.product.domain.repository;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import shop.yesaladin.shop.product.domain.model.SearchedProduct;
+
+/**
+ * 상품 검색 인덱스의 버전과 alias 를 관리하는 레포지토리
+ * <p>
+ * 상품 검색은 항상 alias 로 요청하고, 전체 재색인은 새 버전의 인덱스에 색인한 뒤 alias 를 한 번에 옮깁니다. 재색인 중인 인덱스는 pending
+ * alias 로 가리켜 재색인 중에 변경된 상품도 함께 반영합니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+public interface ProductSearchIndexRepository {
+
+    /**
+     * 상품 검색 인덱스와 같은 설정과 mapping 으로 새 버전의 인덱스를 만들고 pending alias 로 가리킵니다.
+     *
+     * @param version 인덱스 이름 뒤에 붙일 버전
+     * @return 만든 인덱스 이름
+     * @author 김선홍
+     * @since 1.0
+     */
+    String createPendingIndex(String version);
+
+    /**
+     * 인덱스가 존재하는지 확인합니다.
+     *
+     * @param indexName 인덱스 이름
+     * @return 존재 여부
+     * @author 김선홍
+     * @since 1.0
+     */
+    boolean exists(String indexName);
+
+    /**
+     * pending alias 가 가리키는 재색인 중인 인덱스를 조회합니다.
+     *
+     * @return 재색인 중인 인덱스 이름
+     * @author 김선홍
+     * @since 1.0
+     */
+    Optional<String> findPendingIndex();
+
+    /**
+     * 인덱스에 없는 문서만 bulk API 로 색인합니다. 이미 있는 문서는 재색인 중에 반영된 더 최신 문서이므로 덮어쓰지 않습니다.
+     *
+     * @param indexName 색인할 인덱스 이름
+     * @param documents 색인할 문서
+     * @return 새로 색인한 문서 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    int createAll(String indexName, List<SearchedProduct> documents);
+
+    /**
+     * 재색인 중인 인덱스가 있으면 문서를 저장합니다.
+     *
+     * @param documents 저장할 문서
+     * @author 김선홍
+     * @since 1.0
+     */
+    void saveToPending(List<SearchedProduct> documents);
+
+    /**
+     * 재색인 중인 인덱스가 있으면 문서를 부분 수정합니다. 아직 색인되지 않은 문서는 재색인 시 최신 값으로 색인됩니다.
+     *
+     * @param queries 부분 수정 쿼리
+     * @author 김선홍
+     * @since 1.0
+     */
+    void updatePending(List<UpdateQuery> queries);
+
+    /**
+     * 재색인 중인 인덱스가 있으면 문서를 삭제합니다.
+     *
+     * @param id 삭제할 상품 id
+     * @author 김선홍
+     * @since 1.0
+     */
+    void deleteFromPending(Long id);
+
+    /**
+     * 인덱스를 refresh 한 뒤 상품 검색 alias 를 인덱스로 한 번에 옮기고 pending alias 를 제거합니다.
+     *
+     * @param indexName alias 를 옮길 인덱스 이름
+     * @return alias 가 가리키던 이전 인덱스 이름
+     * @author 김선홍
+     * @since 1.0
+     */
+    List<String> switchAlias(String indexName);
+}
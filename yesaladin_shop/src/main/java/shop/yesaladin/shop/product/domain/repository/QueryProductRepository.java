@@ -5,6 +5,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import shop.yesaladin.shop.product.domain.model.Product;
+import shop.yesaladin.shop.product.dto.ProductCursor;
 import shop.yesaladin.shop.product.dto.ProductOnlyTitleDto;
 import shop.yesaladin.shop.product.dto.ProductOrderSheetResponseDto;
 import shop.yesaladin.shop.product.dto.ProductWithCategoryResponseDto;
@@ -118,61 +119,6 @@ public interface QueryProductRepository {
      */
     Page<Product> findAllByTypeIdForManager(Pageable pageable, Integer typeId);
 
-    /**
-     * 관리자용 상품 제목 검색 메서드
-     *
-     * @param title    검색할 제목
-     * @param pageable 페이지 정보
-     * @return 검색 결과
-     * @author 김선홍
-     * @since 1, 0
-     */
-    Page<Product> findByTitleForManager(String title, Pageable pageable);
-
-    /**
-     * 관리자용 상품 isbn 검색 메서드
-     *
-     * @param isbn     검색할 isbn
-     * @param pageable 페이지 정보
-     * @return 검색 결과
-     * @author 김선홍
-     * @since 1, 0
-     */
-    Page<Product> findByISBNForManager(String isbn, Pageable pageable);
-
-    /**
-     * 관리자용 상품 내용 검색 메서드
-     *
-     * @param content  검색할 제목
-     * @param pageable 페이지 정보
-     * @return 검색 결과
-     * @author 김선홍
-     * @since 1, 0
-     */
-    Page<Product> findByContentForManager(String content, Pageable pageable);
-
-    /**
-     * 관리자용 상품 출판사 검색 메서드
-     *
-     * @param publisher 검색할 제목
-     * @param pageable  페이지 정보
-     * @return 검색 결과
-     * @author 김선홍
-     * @since 1, 0
-     */
-    Page<Product> findByPublisherForManager(String publisher, Pageable pageable);
-
-    /**
-     * 관리자용 상품 저자 검색 메서드
-     *
-     * @param author   검색할 제목
-     * @param pageable 페이지 정보
-     * @return 검색 결과
-     * @author 김선홍
-     * @since 1, 0
-     */
-    Page<Product> findByAuthorForManager(String author, Pageable pageable);
-
     /**
      * 주문 상품의 isbn 과 수량으로 구매 가능한 상품을 조회 합니다.
      *
@@ -240,4 +186,99 @@ public interface QueryProductRepository {
             List<Long> pageIds,
             Pageable pageable
     );
+
+    /**
+     * id 목록에 해당하는 삭제되지 않은 상품을 한 번에 조회합니다. 결과의 순서는 보장하지 않습니다.
+     *
+     * @param ids 조회할 상품 id 리스트
+     * @return 조회된 상품 리스트
+     * @author 김선홍
+     * @since 1.0
+     */
+    List<Product> findProductsByIds(List<Long> ids);
+
+    /**
+     * 전체 할인율을 따르는 상품 중 저장된 적용 할인율이 전체 할인율과 다른 상품을 id 순으로 lastId 다음부터 size 개 조회합니다. 개별 할인율이
+     * 적용된 상품과 이미 전체 할인율로 가격이 계산된 상품은 제외합니다.
+     *
+     * @param totalDiscountRateId 전체 할인율 id
+     * @param discountRate        전체 할인율
+     * @param lastId              이전에 조회한 마지막 상품 id
+     * @param size                조회할 상품 수
+     * @return 조회된 상품 리스트
+     * @author 이수정
+     * @since 1.0
+     */
+    List<Product> findStaleFollowingTotalDiscountRate(
+            int totalDiscountRateId,
+            int discountRate,
+            long lastId,
+            int size
+    );
+
+    /**
+     * id 가 lastId 보다 크고 maxId 이하인 삭제되지 않은 상품을 id 순으로 size 개 조회합니다. 썸네일 파일과 전체 할인율을 함께
+     * 조회합니다.
+     *
+     * @param lastId 이전에 조회한 마지막 상품 id
+     * @param maxId  조회할 상품 id 의 최댓값
+     * @param size   조회할 상품 수
+     * @return 조회된 상품 리스트
+     * @author 김선홍
+     * @since 1.0
+     */
+    List<Product> findProductsBetween(long lastId, long maxId, int size);
+
+    /**
+     * 가장 큰 상품 id 를 조회합니다.
+     *
+     * @return 가장 큰 상품 id, 상품이 없는 경우 0
+     * @author 김선홍
+     * @since 1.0
+     */
+    long findMaxId();
+
+    /**
+     * 판매중인 상품을 (노출 우선순위, id) 순으로 cursor 다음부터 size 개 조회합니다.
+     *
+     * @param cursor 이전 페이지의 마지막 위치, 첫 페이지인 경우 null
+     * @param size   조회할 상품 수
+     * @param typeId 상품 유형 id, 전체 조회인 경우 null
+     * @return 조회된 상품 리스트
+     * @author 이수정
+     * @since 1.0
+     */
+    List<Product> findAllByCursor(ProductCursor cursor, int size, Integer typeId);
+
+    /**
+     * 판매중인 상품의 개수를 조회합니다.
+     *
+     * @param typeId 상품 유형 id, 전체 조회인 경우 null
+     * @return 상품의 개수
+     * @author 이수정
+     * @since 1.0
+     */
+    long countAll(Integer typeId);
+
+    /**
+     * 관리자용 상품 목록을 (노출 우선순위, id) 순으로 cursor 다음부터 size 개 조회합니다.
+     *
+     * @param cursor 이전 페이지의 마지막 위치, 첫 페이지인 경우 null
+     * @param size   조회할 상품 수
+     * @param typeId 상품 유형 id, 전체 조회인 경우 null
+     * @return 조회된 상품 리스트
+     * @author 이수정
+     * @since 1.0
+     */
+    List<Product> findAllForManagerByCursor(ProductCursor cursor, int size, Integer typeId);
+
+    /**
+     * 관리자용 상품 목록의 개수를 조회합니다.
+     *
+     * @param typeId 상품 유형 id, 전체 조회인 경우 null
+     * @return 상품의 개수
+     * @author 이수정
+     * @since 1.0
+     */
+    long countAllForManager(Integer typeId);
 }
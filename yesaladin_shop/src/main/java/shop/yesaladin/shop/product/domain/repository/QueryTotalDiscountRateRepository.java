@@ -1,5 +1,6 @@
 package shop.yesaladin.shop.product.domain.repository;
 
+import java.util.List;
 import java.util.Optional;
 import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
 
@@ -12,4 +13,6 @@ import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
 public interface QueryTotalDiscountRateRepository {
 
     Optional<TotalDiscountRate> findById(int id);
+
+    List<TotalDiscountRate> findAll();
 }
@@ -0,0 +1,60 @@
+package shop.yesaladin.shop.product.domain.repository;
+
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import shop.yesaladin.shop.product.dto.ProductCursor;
+import shop.yesaladin.shop.product.dto.ProductManagerSearchType;
+
+/**
+ * 관리자 상품 검색 레포지토리의 인터페이스
+ * <p>
+ * 검색 결과로 삭제되지 않은 상품의 id 를 (노출 우선순위, id) 순으로 반환합니다. 상품 정보는 id 로 다시 조회합니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+public interface SearchManagerProductRepository {
+
+    /**
+     * 검색 기준과 검색어로 상품 id 를 페이징 검색합니다.
+     *
+     * @param type     검색 기준
+     * @param keyword  검색어
+     * @param pageable 페이지 정보
+     * @return 상품 id 리스트와 총 갯수
+     * @author 김선홍
+     * @since 1.0
+     */
+    Page<Long> searchIds(ProductManagerSearchType type, String keyword, Pageable pageable);
+
+    /**
+     * 검색 기준과 검색어로 cursor 다음의 상품을 size 개 검색하여 각 상품의 위치를 반환합니다. 다음 페이지의 cursor 는 DB 에서 다시 조회한
+     * 상품이 아니라 검색 결과의 위치로 만들어야 검색 결과와 DB 의 차이로 상품을 건너뛰거나 반복하지 않습니다.
+     *
+     * @param type    검색 기준
+     * @param keyword 검색어
+     * @param cursor  이전 페이지의 마지막 위치, 첫 페이지인 경우 null
+     * @param size    검색할 상품 수
+     * @return 검색된 상품의 (노출 우선순위, id) 위치 리스트
+     * @author 김선홍
+     * @since 1.0
+     */
+    List<ProductCursor> searchCursorsAfter(
+            ProductManagerSearchType type,
+            String keyword,
+            ProductCursor cursor,
+            int size
+    );
+
+    /**
+     * 검색 기준과 검색어에 일치하는 상품의 수를 반환합니다.
+     *
+     * @param type    검색 기준
+     * @param keyword 검색어
+     * @return 상품의 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    long count(ProductManagerSearchType type, String keyword);
+}
@@ -3,6 +3,8 @@ package shop.yesaladin.shop.product.domain.repository;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import shop.yesaladin.shop.product.dto.ProductFacetSearchResponseDto;
+import shop.yesaladin.shop.product.dto.ProductSearchRequestDto;
 import shop.yesaladin.shop.product.dto.SearchedProductResponseDto;
 
 /**
@@ -135,4 +137,26 @@ public interface SearchProductRepository {
             Pageable pageable,
             String field
     );
+
+    /**
+     * 검색어와 필터를 함께 사용하여 상품을 검색하고, 필터 별 상품 수를 한 번의 요청으로 조회하는 메서드
+     *
+     * @param request  검색어와 필터
+     * @param pageable 페이지 정보
+     * @return 상품 리스트와 총 갯수, 필터 별 상품 수
+     * @author : 김선홍
+     * @since : 1.0
+     */
+    ProductFacetSearchResponseDto searchProducts(ProductSearchRequestDto request, Pageable pageable);
+
+    /**
+     * 제목, 출판사, 저자 이름 중 접두어로 시작하는 검색어를 조회하는 메서드
+     *
+     * @param prefix 사용자가 입력 중인 접두어
+     * @param size   최대 검색어 수
+     * @return 중복을 제외한 검색어 리스트
+     * @author : 김선홍
+     * @since : 1.0
+     */
+    List<String> suggestProducts(String prefix, int size);
 }
@@ -0,0 +1,95 @@
+package shop.yesaladin.shop.product.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import shop.yesaladin.common.code.ErrorCode;
+import shop.yesaladin.common.exception.ClientException;
+import shop.yesaladin.shop.product.domain.model.Product;
+
+/**
+ * 상품 목록의 다음 페이지 위치를 나타내는 cursor 입니다.
+ * <p>
+ * 상품 목록은 (노출 우선순위, id) 순으로 정렬되므로 마지막으로 조회한 상품의 두 값으로 다음 페이지를 찾습니다. 외부에는 내용을 알 수 없는 token 으로
+ * 전달합니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final int preferentialShowRanking;
+    private final long id;
+
+    /**
+     * 마지막으로 조회한 상품 다음을 가리키는 cursor 를 반환합니다.
+     *
+     * @param product 마지막으로 조회한 상품
+     * @return 다음 페이지 cursor
+     * @author 이수정
+     * @since 1.0
+     */
+    public static ProductCursor after(Product product) {
+        return new ProductCursor(product.getPreferentialShowRanking(), product.getId());
+    }
+
+    /**
+     * 노출 우선순위와 id 가 가리키는 위치 다음을 가리키는 cursor 를 반환합니다.
+     *
+     * @param preferentialShowRanking 마지막으로 조회한 상품의 노출 우선순위
+     * @param id                      마지막으로 조회한 상품의 id
+     * @return 다음 페이지 cursor
+     * @author 이수정
+     * @since 1.0
+     */
+    public static ProductCursor of(int preferentialShowRanking, long id) {
+        return new ProductCursor(preferentialShowRanking, id);
+    }
+
+    /**
+     * token 을 cursor 로 변환합니다. token 이 없으면 첫 페이지로 간주하여 null 을 반환합니다.
+     *
+     * @param token cursor token
+     * @return 변환된 cursor, 첫 페이지인 경우 null
+     * @author 이수정
+     * @since 1.0
+     */
+    public static ProductCursor decode(String token) {
+        if (Objects.isNull(token) || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] values = new String(
+                    Base64.getUrlDecoder().decode(token),
+                    StandardCharsets.UTF_8
+            ).split(DELIMITER);
+            if (values.length != 2) {
+                throw new IllegalArgumentException("Unexpected cursor value : " + token);
+            }
+            return new ProductCursor(Integer.parseInt(values[0]), Long.parseLong(values[1]));
+        } catch (IllegalArgumentException e) {
+            throw new ClientException(ErrorCode.BAD_REQUEST, "Invalid product cursor : " + token);
+        }
+    }
+
+    /**
+     * cursor 를 외부에 전달할 token 으로 변환합니다.
+     *
+     * @return cursor token
+     * @author 이수정
+     * @since 1.0
+     */
+    public String encode() {
+        String value = preferentialShowRanking + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
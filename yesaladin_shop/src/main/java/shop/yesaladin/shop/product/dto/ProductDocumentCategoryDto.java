@@ -0,0 +1,23 @@
+package shop.yesaladin.shop.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 검색 문서를 만들 때 여러 상품에 대해 한 번에 조회한 카테고리 정보를 담는 Dto 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDocumentCategoryDto {
+
+    private Long productId;
+    private Long id;
+    private Long parentId;
+    private String name;
+    private Boolean isShown;
+}
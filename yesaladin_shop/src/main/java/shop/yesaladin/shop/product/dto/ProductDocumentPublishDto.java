@@ -0,0 +1,23 @@
+package shop.yesaladin.shop.product.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 검색 문서를 만들 때 여러 상품에 대해 한 번에 조회한 출판 정보를 담는 Dto 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDocumentPublishDto {
+
+    private Long productId;
+    private Long publisherId;
+    private String publisherName;
+    private LocalDate publishedDate;
+}
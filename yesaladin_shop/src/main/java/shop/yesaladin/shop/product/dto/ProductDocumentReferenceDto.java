@@ -0,0 +1,21 @@
+package shop.yesaladin.shop.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 검색 문서를 만들 때 여러 상품에 대해 한 번에 조회한 저자, 태그 정보를 담는 Dto 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDocumentReferenceDto {
+
+    private Long productId;
+    private Long id;
+    private String name;
+}
@@ -0,0 +1,20 @@
+package shop.yesaladin.shop.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 검색 결과를 필터 값 별로 나눈 상품 수를 담는 Dto 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetBucketDto {
+
+    private String key;
+    private long count;
+}
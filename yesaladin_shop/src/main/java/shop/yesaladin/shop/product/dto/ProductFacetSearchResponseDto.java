@@ -0,0 +1,32 @@
+package shop.yesaladin.shop.product.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import shop.yesaladin.shop.common.dto.PaginatedResponseDto;
+
+/**
+ * 필터를 적용한 상품 검색 결과와 필터 별 상품 수를 담는 Dto 입니다.
+ * <p>
+ * 필터 별 상품 수는 그 필터를 제외한 나머지 조건으로 계산하므로, 이미 선택한 필터의 다른 값을 선택했을 때의 상품 수를 보여줄 수 있습니다. 가격대는
+ * 구간의 시작 가격을 key 로 가집니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetSearchResponseDto {
+
+    private PaginatedResponseDto<SearchedProductResponseDto> products;
+    private List<ProductFacetBucketDto> categories;
+    private List<ProductFacetBucketDto> publishers;
+    private List<ProductFacetBucketDto> authors;
+    private List<ProductFacetBucketDto> tags;
+    private List<ProductFacetBucketDto> prices;
+    private List<ProductFacetBucketDto> outOfStock;
+}
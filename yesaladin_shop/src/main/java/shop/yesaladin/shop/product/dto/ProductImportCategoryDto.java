@@ -0,0 +1,22 @@
+package shop.yesaladin.shop.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 일괄 등록 시 한 번에 조회한 카테고리 정보를 담는 Dto 입니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportCategoryDto {
+
+    private Long id;
+    private Long parentId;
+    private String name;
+    private Boolean isShown;
+}
@@ -0,0 +1,21 @@
+package shop.yesaladin.shop.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 일괄 등록 중 등록하지 못한 행의 정보를 담는 Dto 입니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportErrorDto {
+
+    private long rowNumber;
+    private String isbn;
+    private String message;
+}
@@ -0,0 +1,40 @@
+package shop.yesaladin.shop.product.dto;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import shop.yesaladin.shop.file.domain.model.File;
+
+/**
+ * 상품 일괄 등록 시 저장할 파일 정보를 담는 Dto 입니다. id 는 저장 후 채워집니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+public class ProductImportFileDto {
+
+    private Long id;
+    private String url;
+    private LocalDateTime uploadDateTime;
+
+    /**
+     * 파일 엔터티로 Dto 를 생성합니다.
+     *
+     * @param file 저장할 파일
+     * @return 저장할 파일 정보, 파일이 없으면 null
+     * @author 이수정
+     * @since 1.0
+     */
+    public static ProductImportFileDto of(File file) {
+        if (Objects.isNull(file)) {
+            return null;
+        }
+        ProductImportFileDto dto = new ProductImportFileDto();
+        dto.url = file.getUrl();
+        dto.uploadDateTime = file.getUploadDateTime();
+        return dto;
+    }
+}
@@ -0,0 +1,15 @@
+package shop.yesaladin.shop.product.dto;
+
+/**
+ * 상품 일괄 등록 파일의 형식 입니다.
+ * <p>
+ * CSV 는 첫 행에 상품 등록 요청의 필드 이름을 가지며, 저자, 태그, 카테고리처럼 여러 값을 가지는 열은 '|' 로 구분합니다. NDJSON 은 한 행에
+ * 상품 등록 요청 하나를 JSON 으로 가집니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+public enum ProductImportFormat {
+    CSV,
+    NDJSON
+}
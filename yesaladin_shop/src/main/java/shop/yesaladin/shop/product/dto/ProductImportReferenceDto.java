@@ -0,0 +1,20 @@
+package shop.yesaladin.shop.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 일괄 등록 시 한 번에 조회한 저자, 출판사, 태그, 구독 상품의 id 와 이름을 담는 Dto 입니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportReferenceDto {
+
+    private Long id;
+    private String name;
+}
@@ -0,0 +1,18 @@
+package shop.yesaladin.shop.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 일괄 등록 시 저장할 상품과 저자, 태그, 카테고리의 연관 관계를 담는 Dto 입니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class ProductImportRelationDto {
+
+    private Long productId;
+    private Long targetId;
+}
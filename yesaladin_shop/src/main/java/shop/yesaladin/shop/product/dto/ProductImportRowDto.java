@@ -0,0 +1,119 @@
+package shop.yesaladin.shop.product.dto;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+import shop.yesaladin.shop.product.domain.model.Product;
+import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
+
+/**
+ * 상품 일괄 등록 시 한 행의 상품과 연관 정보를 저장 가능한 형태로 담는 Dto 입니다. 상품 id 는 저장 후 채워집니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Getter
+public class ProductImportRowDto {
+
+    private final long rowNumber;
+    private Long productId;
+
+    private final String isbn;
+    private final String title;
+    private final String contents;
+    private final String description;
+    private final long actualPrice;
+    private final int discountRate;
+    private final boolean separatelyDiscount;
+    private final int givenPointRate;
+    private final boolean givenPoint;
+    private final boolean subscriptionAvailable;
+    private final boolean sale;
+    private final long quantity;
+    private final int preferentialShowRanking;
+    private final int productTypeCodeId;
+    private final int productSavingMethodCodeId;
+    private final int totalDiscountRateId;
+    private final long sellingPrice;
+    private final int appliedDiscountRate;
+    private final long pointPrice;
+
+    private final String issn;
+    private Long subscribeProductId;
+    private final ProductImportFileDto thumbnailFile;
+    private final ProductImportFileDto ebookFile;
+
+    private final long publisherId;
+    private final LocalDate publishedDate;
+    private final List<Long> authorIds;
+    private final List<Long> tagIds;
+    private final List<Long> categoryIds;
+
+    private ProductImportRowDto(long rowNumber, ProductCreateDto dto, Product product) {
+        this.rowNumber = rowNumber;
+        this.isbn = product.getIsbn();
+        this.title = product.getTitle();
+        this.contents = product.getContents();
+        this.description = product.getDescription();
+        this.actualPrice = product.getActualPrice();
+        this.discountRate = product.getDiscountRate();
+        this.separatelyDiscount = product.isSeparatelyDiscount();
+        this.givenPointRate = product.getGivenPointRate();
+        this.givenPoint = product.isGivenPoint();
+        this.subscriptionAvailable = product.isSubscriptionAvailable();
+        this.sale = product.isSale();
+        this.quantity = product.getQuantity();
+        this.preferentialShowRanking = product.getPreferentialShowRanking();
+        this.productTypeCodeId = product.getProductTypeCode().getId();
+        this.productSavingMethodCodeId = product.getProductSavingMethodCode().getId();
+        this.totalDiscountRateId = product.getTotalDiscountRate().getId();
+        this.sellingPrice = product.getSellingPrice();
+        this.appliedDiscountRate = product.getAppliedDiscountRate();
+        this.pointPrice = product.getPointPrice();
+        this.issn = dto.getIssn();
+        this.thumbnailFile = ProductImportFileDto.of(dto.toThumbnailFileEntity());
+        this.ebookFile = ProductImportFileDto.of(dto.toEbookFileEntity());
+        this.publisherId = dto.getPublisherId();
+        this.publishedDate = LocalDate.parse(dto.getPublishedDate());
+        this.authorIds = orEmpty(dto.getAuthors());
+        this.tagIds = orEmpty(dto.getTags());
+        this.categoryIds = orEmpty(dto.getCategories());
+    }
+
+    /**
+     * 상품 등록 요청으로 저장할 행을 생성합니다. 가격은 상품 등록과 같은 규칙으로 미리 계산합니다.
+     *
+     * @param rowNumber         파일에서의 행 번호
+     * @param dto               상품 등록 요청
+     * @param totalDiscountRate 전체 할인율
+     * @return 저장할 행
+     * @throws RuntimeException 요청의 코드, 날짜 등이 올바르지 않은 경우
+     * @author 이수정
+     * @since 1.0
+     */
+    public static ProductImportRowDto of(
+            long rowNumber,
+            ProductCreateDto dto,
+            TotalDiscountRate totalDiscountRate
+    ) {
+        Product product = dto.toProductEntity(null, null, null, totalDiscountRate);
+        return new ProductImportRowDto(rowNumber, dto, product);
+    }
+
+    /**
+     * 구독 상품 id 를 지정합니다.
+     *
+     * @param subscribeProductId 구독 상품 id
+     * @author 이수정
+     * @since 1.0
+     */
+    public void assignSubscribeProduct(Long subscribeProductId) {
+        this.subscribeProductId = subscribeProductId;
+    }
+
+    private static List<Long> orEmpty(List<Long> ids) {
+        return Objects.isNull(ids) ? Collections.emptyList() : ids;
+    }
+}
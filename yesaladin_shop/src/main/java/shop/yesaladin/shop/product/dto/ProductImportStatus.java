@@ -0,0 +1,14 @@
+package shop.yesaladin.shop.product.dto;
+
+/**
+ * 상품 일괄 등록 작업의 상태 입니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+public enum ProductImportStatus {
+    WAITING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,129 @@
+package shop.yesaladin.shop.product.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 일괄 등록 작업의 진행 상황과 등록하지 못한 행을 담는 Dto 입니다.
+ * <p>
+ * 등록하지 못한 행은 최대 개수까지만 담고, 개수는 모두 셉니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+public class ProductImportStatusResponseDto {
+
+    private String jobId;
+    private ProductImportFormat format;
+    private ProductImportStatus status;
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+    private long unindexedRows;
+    private List<ProductImportErrorDto> errors = new ArrayList<>();
+    private String failureReason;
+    private LocalDateTime requestedDateTime;
+    private LocalDateTime finishedDateTime;
+
+    /**
+     * 대기 상태의 작업을 생성합니다.
+     *
+     * @param jobId             작업 id
+     * @param format            등록 파일의 형식
+     * @param requestedDateTime 요청 일시
+     * @return 대기 상태의 작업
+     * @author 이수정
+     * @since 1.0
+     */
+    public static ProductImportStatusResponseDto waiting(
+            String jobId,
+            ProductImportFormat format,
+            LocalDateTime requestedDateTime
+    ) {
+        ProductImportStatusResponseDto status = new ProductImportStatusResponseDto();
+        status.jobId = jobId;
+        status.format = format;
+        status.status = ProductImportStatus.WAITING;
+        status.requestedDateTime = requestedDateTime;
+        return status;
+    }
+
+    /**
+     * 작업을 진행 상태로 바꿉니다.
+     *
+     * @author 이수정
+     * @since 1.0
+     */
+    public void start() {
+        this.status = ProductImportStatus.RUNNING;
+    }
+
+    /**
+     * 처리한 chunk 의 결과를 반영합니다.
+     *
+     * @param processed 처리한 행의 수
+     * @param imported  등록한 상품의 수
+     * @param errors    등록하지 못한 행
+     * @param maxErrors 담아둘 등록하지 못한 행의 최대 개수
+     * @author 이수정
+     * @since 1.0
+     */
+    public void addChunk(
+            int processed,
+            int imported,
+            List<ProductImportErrorDto> errors,
+            int maxErrors
+    ) {
+        this.processedRows += processed;
+        this.importedRows += imported;
+        this.failedRows += errors.size();
+        for (ProductImportErrorDto error : errors) {
+            if (this.errors.size() >= maxErrors) {
+                break;
+            }
+            this.errors.add(error);
+        }
+    }
+
+    /**
+     * 등록했지만 검색 엔진에 색인하지 못한 상품의 수를 더합니다. 해당 상품은 검색 재색인 시 반영됩니다.
+     *
+     * @param unindexed 색인하지 못한 상품의 수
+     * @author 이수정
+     * @since 1.0
+     */
+    public void addUnindexed(int unindexed) {
+        this.unindexedRows += unindexed;
+    }
+
+    /**
+     * 작업을 완료 상태로 바꿉니다.
+     *
+     * @param finishedDateTime 완료 일시
+     * @author 이수정
+     * @since 1.0
+     */
+    public void complete(LocalDateTime finishedDateTime) {
+        this.status = ProductImportStatus.COMPLETED;
+        this.finishedDateTime = finishedDateTime;
+    }
+
+    /**
+     * 작업을 실패 상태로 바꿉니다. 실패 전에 commit 된 chunk 의 상품은 등록된 상태로 남습니다.
+     *
+     * @param reason           실패 사유
+     * @param finishedDateTime 실패 일시
+     * @author 이수정
+     * @since 1.0
+     */
+    public void fail(String reason, LocalDateTime finishedDateTime) {
+        this.status = ProductImportStatus.FAILED;
+        this.failureReason = reason;
+        this.finishedDateTime = finishedDateTime;
+    }
+}
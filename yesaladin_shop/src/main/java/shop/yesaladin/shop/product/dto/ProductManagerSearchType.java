@@ -0,0 +1,15 @@
+package shop.yesaladin.shop.product.dto;
+
+/**
+ * 관리자 상품 검색의 검색 기준 입니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+public enum ProductManagerSearchType {
+    TITLE,
+    CONTENT,
+    ISBN,
+    PUBLISHER,
+    AUTHOR
+}
@@ -1,6 +1,7 @@
 package shop.yesaladin.shop.product.dto;
 
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,6 +23,7 @@ public class ProductRecentResponseDto {
     private Long id;
     private String title;
     private String thumbnailFileUrl;
+    private Map<String, String> thumbnailVariantUrls;
     private long sellingPrice;
     private int rate;
     private String publisher;
@@ -34,7 +36,8 @@ public class ProductRecentResponseDto {
             Long sellingPrice,
             int rate,
             String publisher,
-            List<String> author
+            List<String> author,
+            Map<String, String> thumbnailVariantUrls
     ) {
         return ProductRecentResponseDto.builder()
                 .id(product.getId())
@@ -46,6 +49,7 @@ public class ProductRecentResponseDto {
                 .author(author)
                 .publisher(publisher)
                 .thumbnailFileUrl(product.getThumbnailFile().getUrl())
+                .thumbnailVariantUrls(thumbnailVariantUrls)
                 .build();
     }
 }
@@ -0,0 +1,61 @@
+package shop.yesaladin.shop.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 검색 인덱스 재색인에서 하나의 slice 가 맡은 상품 id 범위와 진행 위치를 담는 Dto 입니다.
+ * <p>
+ * slice 는 id 가 fromId 보다 크고 toId 이하인 상품을 id 순으로 색인하며, 중단된 경우 lastId 다음부터 다시 색인합니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductReindexSliceDto {
+
+    private long fromId;
+    private long toId;
+    private long lastId;
+    private long indexedCount;
+    private boolean completed;
+
+    /**
+     * 색인할 범위로 slice 를 생성합니다.
+     *
+     * @param fromId 범위의 시작 id, 이 id 는 포함하지 않습니다.
+     * @param toId   범위의 끝 id
+     * @return 색인을 시작하지 않은 slice
+     * @author 김선홍
+     * @since 1.0
+     */
+    public static ProductReindexSliceDto of(long fromId, long toId) {
+        return new ProductReindexSliceDto(fromId, toId, fromId, 0L, false);
+    }
+
+    /**
+     * 색인한 chunk 만큼 진행 위치를 옮깁니다.
+     *
+     * @param lastId  chunk 의 마지막 상품 id
+     * @param indexed chunk 의 상품 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    public void advance(long lastId, int indexed) {
+        this.lastId = lastId;
+        this.indexedCount += indexed;
+    }
+
+    /**
+     * slice 의 색인을 완료합니다.
+     *
+     * @author 김선홍
+     * @since 1.0
+     */
+    public void complete() {
+        this.completed = true;
+    }
+}
@@ -0,0 +1,13 @@
+package shop.yesaladin.shop.product.dto;
+
+/**
+ * 상품 검색 인덱스 재색인 작업의 상태 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+public enum ProductReindexStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,130 @@
+package shop.yesaladin.shop.product.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 검색 인덱스 재색인 작업의 진행 상황을 담는 Dto 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+public class ProductReindexStatusResponseDto {
+
+    private String jobId;
+    private String targetIndex;
+    private ProductReindexStatus status;
+    private List<ProductReindexSliceDto> slices = new ArrayList<>();
+    private long indexedCount;
+    private List<String> previousIndices = new ArrayList<>();
+    private String failureReason;
+    private LocalDateTime startedDateTime;
+    private LocalDateTime finishedDateTime;
+
+    /**
+     * 새 인덱스에 색인하는 작업을 생성합니다.
+     *
+     * @param jobId           작업 id
+     * @param targetIndex     색인할 인덱스 이름
+     * @param slices          상품 id 범위별 slice
+     * @param startedDateTime 시작 일시
+     * @return 진행 상태의 작업
+     * @author 김선홍
+     * @since 1.0
+     */
+    public static ProductReindexStatusResponseDto start(
+            String jobId,
+            String targetIndex,
+            List<ProductReindexSliceDto> slices,
+            LocalDateTime startedDateTime
+    ) {
+        ProductReindexStatusResponseDto status = new ProductReindexStatusResponseDto();
+        status.jobId = jobId;
+        status.targetIndex = targetIndex;
+        status.status = ProductReindexStatus.RUNNING;
+        status.slices = new ArrayList<>(slices);
+        status.startedDateTime = startedDateTime;
+        return status;
+    }
+
+    /**
+     * 중단된 작업을 마지막으로 색인한 위치부터 다시 진행합니다.
+     *
+     * @author 김선홍
+     * @since 1.0
+     */
+    public void resume() {
+        this.status = ProductReindexStatus.RUNNING;
+        this.failureReason = null;
+        this.finishedDateTime = null;
+    }
+
+    /**
+     * slice 를 추가합니다. 재색인 중에 등록된 상품을 색인할 때 사용합니다.
+     *
+     * @param slice 추가할 slice
+     * @author 김선홍
+     * @since 1.0
+     */
+    public void addSlice(ProductReindexSliceDto slice) {
+        this.slices.add(slice);
+    }
+
+    /**
+     * slice 의 진행 위치를 옮기고 전체 색인 수를 더합니다.
+     *
+     * @param slice   진행한 slice
+     * @param lastId  chunk 의 마지막 상품 id
+     * @param indexed chunk 의 상품 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    public void advance(ProductReindexSliceDto slice, long lastId, int indexed) {
+        slice.advance(lastId, indexed);
+        this.indexedCount += indexed;
+    }
+
+    /**
+     * 모든 slice 가 맡은 범위 중 가장 큰 상품 id 를 반환합니다.
+     *
+     * @return slice 가 맡은 가장 큰 상품 id
+     * @author 김선홍
+     * @since 1.0
+     */
+    public long maxSliceId() {
+        return slices.stream().mapToLong(ProductReindexSliceDto::getToId).max().orElse(0L);
+    }
+
+    /**
+     * 작업을 완료 상태로 바꿉니다.
+     *
+     * @param previousIndices  alias 가 가리키던 이전 인덱스 이름
+     * @param finishedDateTime 완료 일시
+     * @author 김선홍
+     * @since 1.0
+     */
+    public void complete(List<String> previousIndices, LocalDateTime finishedDateTime) {
+        this.status = ProductReindexStatus.COMPLETED;
+        this.previousIndices = new ArrayList<>(previousIndices);
+        this.finishedDateTime = finishedDateTime;
+    }
+
+    /**
+     * 작업을 실패 상태로 바꿉니다. 다시 시작하면 slice 별 마지막 위치부터 이어서 색인합니다.
+     *
+     * @param reason           실패 사유
+     * @param finishedDateTime 실패 일시
+     * @author 김선홍
+     * @since 1.0
+     */
+    public void fail(String reason, LocalDateTime finishedDateTime) {
+        this.status = ProductReindexStatus.FAILED;
+        this.failureReason = reason;
+        this.finishedDateTime = finishedDateTime;
+    }
+}
@@ -0,0 +1,21 @@
+package shop.yesaladin.shop.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 인덱스에 아직 반영되지 않은 상품 변경 기록을 담는 Dto 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchChangeDto {
+
+    private Long id;
+    private Long productId;
+    private int attemptCount;
+}
@@ -0,0 +1,43 @@
+package shop.yesaladin.shop.product.dto;
+
+import java.util.List;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색어와 필터를 함께 사용하여 상품을 검색하기 위한 요청 Dto 입니다.
+ * <p>
+ * 모든 값은 생략할 수 있고, 같은 필터에 여러 값을 주면 그 중 하나라도 만족하는 상품을 검색합니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class ProductSearchRequestDto {
+
+    @Size(max = 30)
+    private String keyword;
+
+    @Size(max = 20)
+    private List<Long> categoryIds;
+
+    @Size(max = 20)
+    private List<String> publishers;
+
+    @Size(max = 20)
+    private List<String> authors;
+
+    @Size(max = 20)
+    private List<String> tags;
+
+    @Min(value = 0)
+    private Long minPrice;
+
+    @Min(value = 0)
+    private Long maxPrice;
+
+    private Boolean excludeOutOfStock;
+}
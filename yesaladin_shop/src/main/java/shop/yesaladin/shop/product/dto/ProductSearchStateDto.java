@@ -0,0 +1,45 @@
+package shop.yesaladin.shop.product.dto;
+
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import shop.yesaladin.shop.product.domain.model.SearchedProduct;
+
+/**
+ * 검색 인덱스와 DB 의 상품이 어긋났는지 확인하기 위해 조회한 상품의 상태를 담는 Dto 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchStateDto {
+
+    private Long id;
+    private boolean deleted;
+    private boolean sale;
+    private boolean forcedOutOfStock;
+    private long quantity;
+    private Long sellingPrice;
+
+    /**
+     * 색인된 문서가 상품의 현재 상태와 다른지 확인합니다.
+     *
+     * @param document 색인된 상품 문서, 색인되지 않았다면 null
+     * @return 문서를 다시 색인하거나 삭제해야 하면 true
+     * @author 김선홍
+     * @since 1.0
+     */
+    public boolean isDivergedFrom(SearchedProduct document) {
+        if (deleted) {
+            return Objects.nonNull(document);
+        }
+        return Objects.isNull(document)
+                || document.isSale() != sale
+                || !Objects.equals(document.getIsForcedOutOfStock(), forcedOutOfStock)
+                || !Objects.equals(document.getQuantity(), quantity)
+                || !Objects.equals(document.getSellingPrice(), sellingPrice);
+    }
+}
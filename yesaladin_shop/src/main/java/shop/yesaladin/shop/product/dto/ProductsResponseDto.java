@@ -1,6 +1,7 @@
 package shop.yesaladin.shop.product.dto;
 
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -37,6 +38,7 @@ public class ProductsResponseDto {
     private Boolean isDeleted;
 
     private String thumbnailFileUrl;
+    private Map<String, String> thumbnailVariantUrls;
     private List<TagResponseDto> tags;
     private String ebookFileUrl;
 
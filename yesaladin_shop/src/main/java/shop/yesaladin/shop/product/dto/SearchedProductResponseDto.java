@@ -2,11 +2,15 @@ package shop.yesaladin.shop.product.dto;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import shop.yesaladin.shop.file.domain.model.ThumbnailVariant;
 import shop.yesaladin.shop.product.domain.model.SearchedProduct;
 import shop.yesaladin.shop.product.domain.model.SearchedProductAuthor;
 import shop.yesaladin.shop.product.domain.model.SearchedProductTag;
@@ -25,6 +29,7 @@ public class SearchedProductResponseDto {
     private int rate;
     private Boolean isForcedOutOfStock;
     private String thumbnailFile;
+    private Map<String, String> thumbnailVariantUrls;
     private String publisher;
     private Boolean isEbook;
     private Boolean isSubscriptionAvailable;
@@ -39,12 +44,16 @@ public class SearchedProductResponseDto {
             Boolean isEbook
     ) {
         List<String> authors = new ArrayList<>();
-        for (SearchedProductAuthor searchedProductAuthor : searchedProduct.getAuthors()) {
-            authors.add(searchedProductAuthor.getName());
+        if (Objects.nonNull(searchedProduct.getAuthors())) {
+            for (SearchedProductAuthor searchedProductAuthor : searchedProduct.getAuthors()) {
+                authors.add(searchedProductAuthor.getName());
+            }
         }
         List<String> tags = new ArrayList<>();
-        for (SearchedProductTag searchedProductTag : searchedProduct.getTags()) {
-            tags.add(searchedProductTag.getName());
+        if (Objects.nonNull(searchedProduct.getTags())) {
+            for (SearchedProductTag searchedProductTag : searchedProduct.getTags()) {
+                tags.add(searchedProductTag.getName());
+            }
         }
         return SearchedProductResponseDto.builder()
                 .id(searchedProduct.getId())
@@ -53,14 +62,27 @@ public class SearchedProductResponseDto {
                 .quantity(searchedProduct.getQuantity())
                 .sellingPrice(sellingPrice)
                 .rate(rate)
-                .publisher(searchedProduct.getPublisher().getName())
+                .publisher(Objects.isNull(searchedProduct.getPublisher())
+                        ? null
+                        : searchedProduct.getPublisher().getName())
                 .isForcedOutOfStock(searchedProduct.getIsForcedOutOfStock())
                 .isSubscriptionAvailable(searchedProduct.getIsSubscriptionAvailable())
                 .isEbook(isEbook)
                 .publishedDate(searchedProduct.getPublishedDate())
                 .thumbnailFile(searchedProduct.getThumbnailFile())
+                .thumbnailVariantUrls(getThumbnailVariantUrls(searchedProduct))
                 .authors(authors)
                 .tags(tags)
                 .build();
     }
+
+    private static Map<String, String> getThumbnailVariantUrls(SearchedProduct searchedProduct) {
+        String thumbnailFile = searchedProduct.getThumbnailFile();
+        if (Objects.isNull(thumbnailFile)) {
+            return Collections.emptyMap();
+        }
+        return Boolean.TRUE.equals(searchedProduct.getThumbnailVariantGenerated())
+                ? ThumbnailVariant.urlsOf(thumbnailFile)
+                : ThumbnailVariant.originalUrlsOf(thumbnailFile);
+    }
 }
@@ -1,5 +1,6 @@
 package shop.yesaladin.shop.product.dto;
 
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,6 +23,7 @@ public class ViewCartDto {
     private String isbn;
 
     private String thumbnailFileUrl;
+    private Map<String, String> thumbnailVariantUrls;
     private String title;
 
     private long actualPrice;
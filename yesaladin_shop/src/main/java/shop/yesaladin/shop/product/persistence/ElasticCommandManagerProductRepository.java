@@ -0,0 +1,15 @@
+package shop.yesaladin.shop.product.persistence;
+
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import shop.yesaladin.shop.product.domain.model.ManagerSearchedProduct;
+
+/**
+ * 엘라스틱서치에 관리자 검색용 상품을 저장, 삭제하는 레포지터리
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+public interface ElasticCommandManagerProductRepository extends
+        ElasticsearchRepository<ManagerSearchedProduct, Long> {
+
+}
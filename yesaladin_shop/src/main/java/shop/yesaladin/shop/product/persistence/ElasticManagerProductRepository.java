@@ -0,0 +1,165 @@
+package shop.yesaladin.shop.product.persistence;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
+import org.springframework.stereotype.Repository;
+import shop.yesaladin.common.code.ErrorCode;
+import shop.yesaladin.common.exception.ClientException;
+import shop.yesaladin.shop.product.domain.model.ManagerSearchedProduct;
+import shop.yesaladin.shop.product.domain.repository.SearchManagerProductRepository;
+import shop.yesaladin.shop.product.dto.ProductCursor;
+import shop.yesaladin.shop.product.dto.ProductManagerSearchType;
+
+/**
+ * 관리자 상품 검색 레포지토리
+ * <p>
+ * 2글자 이상의 검색어는 2-gram 필드에 match_phrase 로, 1글자 검색어는 1-gram 필드에 match 로 검색하여 MySQL 의 LIKE '%검색어%' 와 같은
+ * 결과를 반환합니다. 상품 정보는 DB 에서 조회하므로 검색 결과로는 id 만 응답받습니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Repository
+public class ElasticManagerProductRepository implements SearchManagerProductRepository {
+
+    private static final String TITLE = "title";
+    private static final String CONTENTS = "contents";
+    private static final String PUBLISHER = "publisher";
+    private static final String AUTHORS = "authors";
+    private static final String ISBN = "isbn";
+    private static final String IS_DELETED = "is_deleted";
+    private static final Sort SORT = Sort.by("preferentialShowRanking", "id");
+    private static final SourceFilter ID_SOURCE = new FetchSourceFilter(new String[]{"id"}, null);
+    private static final SourceFilter CURSOR_SOURCE = new FetchSourceFilter(
+            new String[]{"id", "preferential_show_ranking"},
+            null
+    );
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<Long> searchIds(
+            ProductManagerSearchType type,
+            String keyword,
+            Pageable pageable
+    ) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(getSearchQuery(type, keyword))
+                .withSourceFilter(ID_SOURCE)
+                .withPageable(pageable)
+                .withSort(SORT)
+                .withTrackTotalHits(true)
+                .build();
+
+        SearchHits<ManagerSearchedProduct> result = elasticsearchOperations.search(
+                query,
+                ManagerSearchedProduct.class
+        );
+        return new PageImpl<>(getIds(result), pageable, result.getTotalHits());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ProductCursor> searchCursorsAfter(
+            ProductManagerSearchType type,
+            String keyword,
+            ProductCursor cursor,
+            int size
+    ) {
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withQuery(getSearchQuery(type, keyword))
+                .withSourceFilter(CURSOR_SOURCE)
+                .withSort(SORT)
+                .withMaxResults(size);
+        if (Objects.nonNull(cursor)) {
+            builder.withSearchAfter(List.of(cursor.getPreferentialShowRanking(), cursor.getId()));
+        }
+
+        return elasticsearchOperations.search(builder.build(), ManagerSearchedProduct.class)
+                .stream()
+                .map(hit -> ProductCursor.of(
+                        hit.getContent().getPreferentialShowRanking(),
+                        hit.getContent().getId()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long count(ProductManagerSearchType type, String keyword) {
+        return elasticsearchOperations.count(
+                NativeQuery.builder().withQuery(getSearchQuery(type, keyword)).build(),
+                ManagerSearchedProduct.class
+        );
+    }
+
+    private List<Long> getIds(SearchHits<ManagerSearchedProduct> result) {
+        return result.stream()
+                .map(hit -> hit.getContent().getId())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 삭제되지 않은 상품 중 검색 기준의 필드가 검색어를 포함하는 상품을 찾는 쿼리를 반환합니다. ISBN 은 일치하는 상품을 찾습니다.
+     *
+     * @param type    검색 기준
+     * @param keyword 검색어
+     * @return 검색 쿼리
+     */
+    private Query getSearchQuery(ProductManagerSearchType type, String keyword) {
+        Query notDeleted = Query.of(q -> q.term(t -> t.field(IS_DELETED).value(false)));
+        return QueryBuilders.bool(v -> v.filter(getKeywordQuery(type, keyword), notDeleted));
+    }
+
+    private Query getKeywordQuery(ProductManagerSearchType type, String keyword) {
+        switch (type) {
+            case TITLE:
+                return getContainsQuery(TITLE, keyword);
+            case CONTENT:
+                return getContainsQuery(CONTENTS, keyword);
+            case PUBLISHER:
+                return getContainsQuery(PUBLISHER, keyword);
+            case AUTHOR:
+                return getContainsQuery(AUTHORS, keyword);
+            case ISBN:
+                return Query.of(q -> q.term(t -> t.field(ISBN).value(keyword)));
+            default:
+                throw new ClientException(
+                        ErrorCode.BAD_REQUEST,
+                        "Unsupported search type : " + type
+                );
+        }
+    }
+
+    private Query getContainsQuery(String field, String keyword) {
+        if (Objects.isNull(keyword) || keyword.isEmpty()) {
+            return Query.of(q -> q.matchAll(m -> m));
+        }
+        if (keyword.length() == 1) {
+            return Query.of(q -> q.match(m -> m.field(field + "." + ManagerSearchedProduct.UNIGRAM)
+                    .query(keyword)));
+        }
+        return Query.of(q -> q.matchPhrase(m -> m.field(field).query(keyword)));
+    }
+}
@@ -1,25 +1,61 @@
 package shop.yesaladin.shop.product.persistence;
 
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.FilterAggregate;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.CompletionSuggestOption;
+import co.elastic.clients.elasticsearch.core.search.Suggestion;
+import co.elastic.clients.json.JsonData;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.SourceFilter;
 import org.springframework.stereotype.Repository;
+import shop.yesaladin.common.code.ErrorCode;
+import shop.yesaladin.common.exception.ServerException;
+import shop.yesaladin.shop.common.dto.PaginatedResponseDto;
+import shop.yesaladin.shop.product.domain.model.ProductPrice;
 import shop.yesaladin.shop.product.domain.model.SearchedProduct;
 import shop.yesaladin.shop.product.domain.repository.SearchProductRepository;
+import shop.yesaladin.shop.product.dto.ProductFacetBucketDto;
+import shop.yesaladin.shop.product.dto.ProductFacetSearchResponseDto;
+import shop.yesaladin.shop.product.dto.ProductSearchRequestDto;
 import shop.yesaladin.shop.product.dto.SearchedProductResponseDto;
 
 /**
  * 상품 검색 레포지토리
+ * <p>
+ * 필터를 함께 사용하는 검색은 필터를 post filter 로 적용하고, 필터 별 상품 수는 해당 필터를 제외한 나머지 필터로 좁힌 aggregation 으로 같은 요청에서
+ * 계산합니다. 판매 중이고 삭제되지 않은 상품만 찾는 조건과 필터는 점수를 계산하지 않는 filter context 에 두어 검색 엔진의 필터 캐시를 사용합니다.
+ * <p>
+ * 상품 목록을 반환하는 검색은 목록에 보여줄 필드만 응답받도록 source 를 걸러, 내용과 소개, 카테고리처럼 목록에서 쓰지 않는 긴 필드를 전송하거나
+ * 변환하지 않습니다.
+ * <p>
+ * 검색어 자동 완성은 문서를 검색하지 않고 completion suggester 로 메모리에 올라간 접두어 색인만 조회하며, 문서 원본을 응답에 포함하지 않습니다.
  *
  * @author : 김선홍
  * @since : 1.0
@@ -38,9 +74,54 @@ public class ElasticProductRepository implements SearchProductRepository {
     private static final String TAG = "tags.name";
     private static final String IS_SALE = "is_sale";
     private static final String IS_DELETE = "is_deleted";
-    private static final float PERCENT_DENOMINATOR_VALUE = 100;
-    private static final long ROUND_OFF_VALUE = 10;
+    private static final String SELLING_PRICE = "selling_price";
+    private static final String QUANTITY = "quantity";
+    private static final String IS_FORCED_OUT_OF_STOCK = "is_forced_out_of_stock";
+    private static final List<String> KEYWORD_FIELDS = List.of(
+            TITLE,
+            CONTENT,
+            DESCRIPTION,
+            TAG,
+            AUTHORS_NAME,
+            PUBLISHER_NAME,
+            ISBN
+    );
+    private static final String CATEGORY_FACET = "categories";
+    private static final String PUBLISHER_FACET = "publishers";
+    private static final String AUTHOR_FACET = "authors";
+    private static final String TAG_FACET = "tags";
+    private static final String PRICE_FACET = "prices";
+    private static final String STOCK_FACET = "out_of_stock";
+    private static final String BUCKETS = "buckets";
+    private static final int FACET_SIZE = 20;
+    private static final double PRICE_INTERVAL = 10000;
+    private static final String SUGGEST = "suggest";
+    private static final SourceFilter LIST_SOURCE = new FetchSourceFilter(
+            new String[]{
+                    "id",
+                    ISBN,
+                    "title",
+                    QUANTITY,
+                    IS_FORCED_OUT_OF_STOCK,
+                    "is_subscription_available",
+                    "ebook_file_id",
+                    "thumbnail_file",
+                    "thumbnail_variant_generated",
+                    "published_date",
+                    PUBLISHER_NAME,
+                    AUTHORS_NAME,
+                    TAG,
+                    SELLING_PRICE,
+                    "applied_discount_rate",
+                    "actual_price",
+                    "discount_rate",
+                    "is_separately_discount",
+                    "integrated_discount_rate.discount_rate"
+            },
+            null
+    );
     private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
 
     /**
      * {@inheritDoc}
@@ -116,6 +197,97 @@ public class ElasticProductRepository implements SearchProductRepository {
         return searchResponseProductByTermQuery(tag, pageable, TAG);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ProductFacetSearchResponseDto searchProducts(
+            ProductSearchRequestDto request,
+            Pageable pageable
+    ) {
+        Map<String, Query> filters = getFacetFilters(request);
+
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withQuery(getKeywordQuery(request.getKeyword()))
+                .withFilter(getAllOf(filters.values()))
+                .withSourceFilter(LIST_SOURCE)
+                .withPageable(pageable)
+                .withTrackTotalHits(true);
+        addFacet(builder, filters, CATEGORY_FACET, getTermsAggregation(CATEGORIES_ID));
+        addFacet(builder, filters, PUBLISHER_FACET, getTermsAggregation(PUBLISHER_NAME));
+        addFacet(builder, filters, AUTHOR_FACET, getTermsAggregation(AUTHORS_NAME));
+        addFacet(builder, filters, TAG_FACET, getTermsAggregation(TAG));
+        addFacet(builder, filters, PRICE_FACET, Aggregation.of(a -> a.histogram(h -> h
+                .field(SELLING_PRICE)
+                .interval(PRICE_INTERVAL)
+                .minDocCount(1))));
+        addFacet(builder, filters, STOCK_FACET, Aggregation.of(a -> a.filter(getInStockQuery())));
+
+        SearchHits<SearchedProduct> result = elasticsearchOperations.search(
+                builder.build(),
+                SearchedProduct.class
+        );
+        Page<SearchedProductResponseDto> page = new PageImpl<>(
+                result.stream()
+                        .map(hit -> toResponseDto(hit.getContent()))
+                        .collect(Collectors.toList()),
+                pageable,
+                result.getTotalHits()
+        );
+        Map<String, FilterAggregate> facets = getFacets(result);
+
+        return ProductFacetSearchResponseDto.builder()
+                .products(PaginatedResponseDto.<SearchedProductResponseDto>builder()
+                        .dataList(page.getContent())
+                        .totalDataCount(page.getTotalElements())
+                        .currentPage(page.getNumber())
+                        .totalPage(page.getTotalPages())
+                        .build())
+                .categories(getTermsBuckets(facets.get(CATEGORY_FACET)))
+                .publishers(getTermsBuckets(facets.get(PUBLISHER_FACET)))
+                .authors(getTermsBuckets(facets.get(AUTHOR_FACET)))
+                .tags(getTermsBuckets(facets.get(TAG_FACET)))
+                .prices(getPriceBuckets(facets.get(PRICE_FACET)))
+                .outOfStock(getStockBuckets(facets.get(STOCK_FACET)))
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> suggestProducts(String prefix, int size) {
+        String index = elasticsearchOperations.getIndexCoordinatesFor(SearchedProduct.class)
+                .getIndexName();
+        SearchResponse<Void> response;
+        try {
+            response = elasticsearchClient.search(s -> s
+                    .index(index)
+                    .size(0)
+                    .source(source -> source.fetch(false))
+                    .trackTotalHits(track -> track.enabled(false))
+                    .suggest(suggest -> suggest.suggesters(SUGGEST, suggester -> suggester
+                            .prefix(prefix)
+                            .completion(completion -> completion
+                                    .field(SUGGEST)
+                                    .size(size)
+                                    .skipDuplicates(true)))), Void.class);
+        } catch (IOException e) {
+            throw new ServerException(
+                    ErrorCode.INTERNAL_SERVER_ERROR,
+                    "Cannot suggest products : " + e.getMessage()
+            );
+        }
+
+        return response.suggest()
+                .getOrDefault(SUGGEST, Collections.emptyList())
+                .stream()
+                .filter(Suggestion::isCompletion)
+                .flatMap(suggestion -> suggestion.completion().options().stream())
+                .map(CompletionSuggestOption::text)
+                .collect(Collectors.toList());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -130,6 +302,7 @@ public class ElasticProductRepository implements SearchProductRepository {
                         getTermQueryByBoolean(IS_SALE, true),
                         getTermQueryByBoolean(IS_DELETE, false)
                 )))
+                .withSourceFilter(LIST_SOURCE)
                 .withPageable(pageable)
                 .build();
 
@@ -141,10 +314,7 @@ public class ElasticProductRepository implements SearchProductRepository {
         List<SearchedProductResponseDto> list = result.stream()
                 .map(product -> SearchedProductResponseDto.fromIndex(
                                 product.getContent(),
-                                calcSellingPrice(
-                                        product.getContent().getActualPrice(),
-                                        getRateByProduct(product.getContent())
-                                ),
+                                getSellingPrice(product.getContent()),
                                 getRateByProduct(product.getContent()),
                                 isEbook(product.getContent())
                         )
@@ -171,10 +341,7 @@ public class ElasticProductRepository implements SearchProductRepository {
         List<SearchedProductResponseDto> list = result.stream()
                 .map(product -> SearchedProductResponseDto.fromIndex(
                                 product.getContent(),
-                                calcSellingPrice(
-                                        product.getContent().getActualPrice(),
-                                        getRateByProduct(product.getContent())
-                                ),
+                                getSellingPrice(product.getContent()),
                                 getRateByProduct(product.getContent()),
                                 isEbook(product.getContent())
                         )
@@ -203,10 +370,198 @@ public class ElasticProductRepository implements SearchProductRepository {
                         getTermQueryByBoolean(IS_SALE, true),
                         getTermQueryByBoolean(IS_DELETE, false)
                 )))
+                .withSourceFilter(LIST_SOURCE)
                 .withPageable(pageable)
                 .build();
     }
 
+    /**
+     * 검색어가 있으면 검색어와 일치하는 상품을, 없으면 모든 상품을 찾는 쿼리를 반환합니다. 판매 중이고 삭제되지 않은 상품만 찾습니다.
+     *
+     * @param keyword 검색어
+     * @return 검색 쿼리
+     */
+    private Query getKeywordQuery(String keyword) {
+        return QueryBuilders.bool(v -> {
+            if (Objects.nonNull(keyword) && !keyword.isBlank()) {
+                v.must(q -> q.multiMatch(m -> m.query(keyword).fields(KEYWORD_FIELDS)));
+            }
+            return v.filter(
+                    getTermQueryByBoolean(IS_SALE, true),
+                    getTermQueryByBoolean(IS_DELETE, false)
+            );
+        });
+    }
+
+    /**
+     * 요청된 필터를 필터 이름 별로 반환합니다. 값이 없는 필터는 포함하지 않습니다.
+     *
+     * @param request 검색어와 필터
+     * @return 필터 이름 별 필터 쿼리
+     */
+    private Map<String, Query> getFacetFilters(ProductSearchRequestDto request) {
+        Map<String, Query> filters = new LinkedHashMap<>();
+        if (isNotEmpty(request.getCategoryIds())) {
+            filters.put(
+                    CATEGORY_FACET,
+                    getTermsQuery(CATEGORIES_ID, request.getCategoryIds(), FieldValue::of)
+            );
+        }
+        if (isNotEmpty(request.getPublishers())) {
+            filters.put(
+                    PUBLISHER_FACET,
+                    getTermsQuery(PUBLISHER_NAME, request.getPublishers(), FieldValue::of)
+            );
+        }
+        if (isNotEmpty(request.getAuthors())) {
+            filters.put(
+                    AUTHOR_FACET,
+                    getTermsQuery(AUTHORS_NAME, request.getAuthors(), FieldValue::of)
+            );
+        }
+        if (isNotEmpty(request.getTags())) {
+            filters.put(TAG_FACET, getTermsQuery(TAG, request.getTags(), FieldValue::of));
+        }
+        if (Objects.nonNull(request.getMinPrice()) || Objects.nonNull(request.getMaxPrice())) {
+            filters.put(PRICE_FACET, QueryBuilders.range(r -> {
+                r.field(SELLING_PRICE);
+                if (Objects.nonNull(request.getMinPrice())) {
+                    r.gte(JsonData.of(request.getMinPrice()));
+                }
+                if (Objects.nonNull(request.getMaxPrice())) {
+                    r.lte(JsonData.of(request.getMaxPrice()));
+                }
+                return r;
+            }));
+        }
+        if (Boolean.TRUE.equals(request.getExcludeOutOfStock())) {
+            filters.put(STOCK_FACET, getInStockQuery());
+        }
+        return filters;
+    }
+
+    private <T> Query getTermsQuery(
+            String field,
+            List<T> values,
+            Function<T, FieldValue> converter
+    ) {
+        List<FieldValue> fieldValues = values.stream().map(converter).collect(Collectors.toList());
+        return QueryBuilders.terms(t -> t.field(field).terms(v -> v.value(fieldValues)));
+    }
+
+    private Query getInStockQuery() {
+        return QueryBuilders.bool(v -> v.filter(
+                getTermQueryByBoolean(IS_FORCED_OUT_OF_STOCK, false),
+                QueryBuilders.range(r -> r.field(QUANTITY).gt(JsonData.of(0)))
+        ));
+    }
+
+    private Query getAllOf(Collection<Query> queries) {
+        return QueryBuilders.bool(v -> v.filter(new ArrayList<>(queries)));
+    }
+
+    /**
+     * 필터 별 상품 수를 계산하는 aggregation 을 추가합니다. 해당 필터를 제외한 나머지 필터로 좁힌 뒤 계산합니다.
+     *
+     * @param builder 검색 쿼리 빌더
+     * @param filters 필터 이름 별 필터 쿼리
+     * @param facet   상품 수를 계산할 필터 이름
+     * @param buckets 상품 수를 나누는 aggregation
+     */
+    private void addFacet(
+            NativeQueryBuilder builder,
+            Map<String, Query> filters,
+            String facet,
+            Aggregation buckets
+    ) {
+        List<Query> others = filters.entrySet()
+                .stream()
+                .filter(entry -> !entry.getKey().equals(facet))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+        builder.withAggregation(
+                facet,
+                Aggregation.of(a -> a.filter(getAllOf(others)).aggregations(BUCKETS, buckets))
+        );
+    }
+
+    private Aggregation getTermsAggregation(String field) {
+        return Aggregation.of(a -> a.terms(t -> t.field(field).size(FACET_SIZE)));
+    }
+
+    private Map<String, FilterAggregate> getFacets(SearchHits<SearchedProduct> result) {
+        Map<String, FilterAggregate> facets = new HashMap<>();
+        if (result.hasAggregations()) {
+            ((ElasticsearchAggregations) Objects.requireNonNull(result.getAggregations()))
+                    .aggregations()
+                    .forEach(aggregation -> facets.put(
+                            aggregation.aggregation().getName(),
+                            aggregation.aggregation().getAggregate().filter()
+                    ));
+        }
+        return facets;
+    }
+
+    private List<ProductFacetBucketDto> getTermsBuckets(FilterAggregate facet) {
+        if (Objects.isNull(facet)) {
+            return Collections.emptyList();
+        }
+        Aggregate buckets = facet.aggregations().get(BUCKETS);
+        if (buckets.isLterms()) {
+            return buckets.lterms().buckets().array().stream()
+                    .map(bucket -> new ProductFacetBucketDto(
+                            String.valueOf(bucket.key()),
+                            bucket.docCount()
+                    ))
+                    .collect(Collectors.toList());
+        }
+        if (buckets.isSterms()) {
+            return buckets.sterms().buckets().array().stream()
+                    .map(bucket -> new ProductFacetBucketDto(bucket.key(), bucket.docCount()))
+                    .collect(Collectors.toList());
+        }
+        return Collections.emptyList();
+    }
+
+    private List<ProductFacetBucketDto> getPriceBuckets(FilterAggregate facet) {
+        if (Objects.isNull(facet)) {
+            return Collections.emptyList();
+        }
+        return facet.aggregations().get(BUCKETS).histogram().buckets().array().stream()
+                .map(bucket -> new ProductFacetBucketDto(
+                        String.valueOf((long) bucket.key()),
+                        bucket.docCount()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 재고가 있는 상품 수와 품절된 상품 수를 반환합니다. 강제 품절되었거나 수량이 없는 상품을 품절된 상품으로 봅니다.
+     */
+    private List<ProductFacetBucketDto> getStockBuckets(FilterAggregate facet) {
+        if (Objects.isNull(facet)) {
+            return Collections.emptyList();
+        }
+        long inStock = facet.aggregations().get(BUCKETS).filter().docCount();
+        return List.of(
+                new ProductFacetBucketDto(String.valueOf(false), inStock),
+                new ProductFacetBucketDto(String.valueOf(true), facet.docCount() - inStock)
+        );
+    }
+
+    private boolean isNotEmpty(List<?> values) {
+        return Objects.nonNull(values) && !values.isEmpty();
+    }
+
+    private SearchedProductResponseDto toResponseDto(SearchedProduct product) {
+        return SearchedProductResponseDto.fromIndex(
+                product,
+                getSellingPrice(product),
+                getRateByProduct(product),
+                isEbook(product)
+        );
+    }
+
     /**
      * 밸류가 boolean 인 Term 쿼리를 반환하는 메서드
      *
@@ -227,20 +582,18 @@ public class ElasticProductRepository implements SearchProductRepository {
     }
 
     /**
-     * 상품의 정가, 할인율을 바탕으로 판매가를 계산해 반환합니다.
+     * 색인된 상품의 판매가를 반환합니다. 판매가가 색인되기 전의 문서는 정가와 할인율로 계산합니다.
      *
-     * @param actualPrice 상품의 정가
-     * @param rate        상품의 할인율(전체 / 개별)
-     * @return 계산된 상품의 판매가
+     * @param product 판매가를 구할 상품
+     * @return 상품의 판매가
      * @author 이수정
      * @since 1.0
      */
-    private long calcSellingPrice(long actualPrice, int rate) {
-        if (rate > 0) {
-            return Math.round((actualPrice - actualPrice * rate / PERCENT_DENOMINATOR_VALUE)
-                    / ROUND_OFF_VALUE) * ROUND_OFF_VALUE;
+    private long getSellingPrice(SearchedProduct product) {
+        if (Objects.nonNull(product.getSellingPrice())) {
+            return product.getSellingPrice();
         }
-        return actualPrice;
+        return ProductPrice.calcSellingPrice(product.getActualPrice(), getRateByProduct(product));
     }
 
     /**
@@ -252,6 +605,9 @@ public class ElasticProductRepository implements SearchProductRepository {
      * @since 1.0
      */
     private int getRateByProduct(SearchedProduct product) {
+        if (Objects.nonNull(product.getAppliedDiscountRate())) {
+            return product.getAppliedDiscountRate();
+        }
         return product.isSeparatelyDiscount()
                 ? product.getDiscountRate()
                 : product.getSearchedTotalDiscountRate().getDiscountRate();
@@ -0,0 +1,216 @@
+package shop.yesaladin.shop.product.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.stereotype.Repository;
+import shop.yesaladin.shop.product.domain.model.SearchedProduct;
+import shop.yesaladin.shop.product.domain.repository.ProductSearchIndexRepository;
+
+/**
+ * 상품 검색 인덱스의 버전과 alias 를 관리하는 레포지토리 구현체
+ * <p>
+ * 상품 검색 alias 의 이름은 {@link SearchedProduct} 의 인덱스 이름과 같습니다. 처음 재색인할 때 같은 이름의 인덱스가 alias 가 아닌 실제
+ * 인덱스라면, alias 를 옮기는 요청에서 그 인덱스를 함께 삭제합니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Repository
+public class ElasticProductSearchIndexRepository implements ProductSearchIndexRepository {
+
+    private static final String PENDING_SUFFIX = "_pending";
+    private static final String VERSION_CONFLICT = "version conflict";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String createPendingIndex(String version) {
+        String indexName = getAlias() + "_" + version;
+        IndexOperations source = elasticsearchOperations.indexOps(SearchedProduct.class);
+        IndexOperations target = elasticsearchOperations.indexOps(IndexCoordinates.of(indexName));
+        target.create(source.createSettings(), source.createMapping());
+
+        AliasActions actions = new AliasActions();
+        for (String previous : resolveIndices(getPendingAlias())) {
+            actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+                    .withIndices(previous)
+                    .withAliases(getPendingAlias())
+                    .build()));
+        }
+        actions.add(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(indexName)
+                .withAliases(getPendingAlias())
+                .build()));
+        target.alias(actions);
+        return indexName;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean exists(String indexName) {
+        return elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).exists();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<String> findPendingIndex() {
+        return resolveIndices(getPendingAlias()).stream().findFirst();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createAll(String indexName, List<SearchedProduct> documents) {
+        if (documents.isEmpty()) {
+            return 0;
+        }
+        List<IndexQuery> queries = documents.stream()
+                .map(document -> new IndexQueryBuilder()
+                        .withId(String.valueOf(document.getId()))
+                        .withObject(document)
+                        .withOpType(IndexQuery.OpType.CREATE)
+                        .build())
+                .collect(Collectors.toList());
+        try {
+            elasticsearchOperations.bulkIndex(queries, IndexCoordinates.of(indexName));
+            return documents.size();
+        } catch (BulkFailureException e) {
+            Map<String, String> failed = e.getFailedDocuments();
+            boolean onlyConflicts = failed.values()
+                    .stream()
+                    .allMatch(reason -> reason.toLowerCase().replace('_', ' ').contains(VERSION_CONFLICT));
+            if (!onlyConflicts) {
+                throw e;
+            }
+            return documents.size() - failed.size();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void saveToPending(List<SearchedProduct> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        findPendingIndex().ifPresent(index -> elasticsearchOperations.save(
+                documents,
+                IndexCoordinates.of(index)
+        ));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updatePending(List<UpdateQuery> queries) {
+        if (queries.isEmpty()) {
+            return;
+        }
+        findPendingIndex().ifPresent(index -> {
+            try {
+                elasticsearchOperations.bulkUpdate(queries, IndexCoordinates.of(index));
+            } catch (BulkFailureException e) {
+                log.debug("Skipped updates for unindexed documents {}", e.getFailedDocuments().keySet());
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteFromPending(Long id) {
+        findPendingIndex().ifPresent(index -> elasticsearchOperations.delete(
+                String.valueOf(id),
+                IndexCoordinates.of(index)
+        ));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> switchAlias(String indexName) {
+        IndexOperations target = elasticsearchOperations.indexOps(IndexCoordinates.of(indexName));
+        target.refresh();
+
+        String alias = getAlias();
+        List<String> previousIndices = new ArrayList<>();
+        AliasActions actions = new AliasActions();
+        for (String previous : resolveIndices(alias)) {
+            if (previous.equals(indexName)) {
+                continue;
+            }
+            previousIndices.add(previous);
+            if (previous.equals(alias)) {
+                actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+                        .withIndices(previous)
+                        .build()));
+            } else {
+                actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+                        .withIndices(previous)
+                        .withAliases(alias)
+                        .build()));
+            }
+        }
+        if (resolveIndices(getPendingAlias()).contains(indexName)) {
+            actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+                    .withIndices(indexName)
+                    .withAliases(getPendingAlias())
+                    .build()));
+        }
+        actions.add(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(indexName)
+                .withAliases(alias)
+                .build()));
+        target.alias(actions);
+        return previousIndices;
+    }
+
+    /**
+     * 이름이 가리키는 실제 인덱스 이름을 반환합니다. 이름이 실제 인덱스라면 그 이름을 반환합니다.
+     */
+    private Set<String> resolveIndices(String name) {
+        IndexOperations indexOps = elasticsearchOperations.indexOps(IndexCoordinates.of(name));
+        if (!indexOps.exists()) {
+            return Set.of();
+        }
+        return indexOps.getAliasesForIndex(name).keySet();
+    }
+
+    private String getAlias() {
+        return elasticsearchOperations.getIndexCoordinatesFor(SearchedProduct.class).getIndexName();
+    }
+
+    private String getPendingAlias() {
+        return getAlias() + PENDING_SUFFIX;
+    }
+}
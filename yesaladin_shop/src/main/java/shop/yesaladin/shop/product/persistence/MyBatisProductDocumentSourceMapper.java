@@ -0,0 +1,15 @@
+package shop.yesaladin.shop.product.persistence;
+
+import org.apache.ibatis.annotations.Mapper;
+import shop.yesaladin.shop.product.domain.repository.ProductDocumentSourceRepository;
+
+/**
+ * MyBatis 를 사용하여 상품 검색 문서의 원본 정보를 조회하기 위한 Mapper 인터페이스입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Mapper
+public interface MyBatisProductDocumentSourceMapper extends ProductDocumentSourceRepository {
+
+}
@@ -0,0 +1,15 @@
+package shop.yesaladin.shop.product.persistence;
+
+import org.apache.ibatis.annotations.Mapper;
+import shop.yesaladin.shop.product.domain.repository.ProductImportRepository;
+
+/**
+ * MyBatis 를 사용하여 상품을 일괄 등록하기 위한 Mapper 인터페이스입니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Mapper
+public interface MyBatisProductImportMapper extends ProductImportRepository {
+
+}
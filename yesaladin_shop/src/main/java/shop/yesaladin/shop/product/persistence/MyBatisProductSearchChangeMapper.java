@@ -0,0 +1,15 @@
+package shop.yesaladin.shop.product.persistence;
+
+import org.apache.ibatis.annotations.Mapper;
+import shop.yesaladin.shop.product.domain.repository.ProductSearchChangeRepository;
+
+/**
+ * MyBatis 를 사용하여 검색 인덱스에 반영할 상품 변경 기록을 저장, 조회하기 위한 Mapper 인터페이스입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Mapper
+public interface MyBatisProductSearchChangeMapper extends ProductSearchChangeRepository {
+
+}
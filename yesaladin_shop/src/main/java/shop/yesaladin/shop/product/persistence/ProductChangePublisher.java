@@ -0,0 +1,47 @@
+package shop.yesaladin.shop.product.persistence;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import shop.yesaladin.shop.config.ProductSearchSyncProperties;
+
+/**
+ * 변경된 상품 id 를 Redis 채널로 알리는 클래스 입니다.
+ * <p>
+ * 메시지는 쉼표로 구분한 상품 id 입니다. 구독 중이 아닌 서버는 메시지를 받지 못하므로, 구독하는 쪽은 캐시 만료 시간을 함께 사용해야 합니다.
+ * Redis 를 사용할 수 없는 경우에는 알리지 않고 넘어갑니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductChangePublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductSearchSyncProperties properties;
+
+    /**
+     * 변경된 상품 id 를 알립니다.
+     *
+     * @param productIds 변경된 상품 id
+     * @author 김선홍
+     * @since 1.0
+     */
+    public void publish(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        String message = productIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(properties.getChangeChannel(), message);
+        } catch (DataAccessException e) {
+            log.warn("Product change publish failed: ids -> {}", message, e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package shop.yesaladin.shop.product.persistence;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import shop.yesaladin.shop.config.ProductListProperties;
+
+/**
+ * 상품 목록의 전체 개수를 잠시 캐시하는 클래스 입니다.
+ * <p>
+ * cursor 기반 목록은 페이지마다 count 쿼리를 실행하지 않고, 조건별로 캐시된 개수를 응답합니다. 캐시가 만료되기 전에는 실제 개수와 다를 수 있습니다.
+ * Redis 를 사용할 수 없는 경우에는 직접 개수를 셉니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCountCache {
+
+    private static final String KEY_PREFIX = "PRODUCT_COUNT:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductListProperties properties;
+
+    /**
+     * 조건의 캐시된 개수를 반환합니다. 캐시에 없으면 counter 로 센 뒤 저장합니다.
+     *
+     * @param condition 개수를 셀 조건을 나타내는 key
+     * @param counter   실제 개수를 세는 함수
+     * @return 캐시된 개수
+     * @author 이수정
+     * @since 1.0
+     */
+    public long get(String condition, LongSupplier counter) {
+        String key = KEY_PREFIX + condition;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (Objects.nonNull(cached)) {
+                return Long.parseLong(cached);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Product count cache read failed: key -> {}", key, e);
+            return counter.getAsLong();
+        }
+
+        long count = counter.getAsLong();
+        try {
+            redisTemplate.opsForValue().set(
+                    key,
+                    String.valueOf(count),
+                    Duration.ofSeconds(properties.getCountTtlSeconds())
+            );
+        } catch (DataAccessException e) {
+            log.warn("Product count cache write failed: key -> {}", key, e);
+        }
+        return count;
+    }
+}
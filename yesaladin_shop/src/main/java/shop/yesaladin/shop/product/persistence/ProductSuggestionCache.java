@@ -0,0 +1,123 @@
+package shop.yesaladin.shop.product.persistence;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import shop.yesaladin.shop.config.ProductSuggestProperties;
+
+/**
+ * 검색어 자동 완성 결과를 서버 메모리에 잠시 캐시하는 클래스 입니다.
+ * <p>
+ * 자동 완성은 글자를 입력할 때마다 요청되므로, 자주 입력되는 접두어의 결과를 짧은 시간 동안 검색 엔진이나 Redis 를 거치지 않고 응답합니다. 결과는 저장한
+ * 시점부터 일정 시간이 지나면 만료되고, 캐시가 가득 차면 가장 오래 사용되지 않은 결과를 지웁니다. 같은 접두어를 동시에 조회하면 한 요청만 loader 를
+ * 호출하고 나머지 요청은 그 결과를 함께 사용합니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Component
+public class ProductSuggestionCache {
+
+    private final ProductSuggestProperties properties;
+    private final Clock clock;
+    private final Map<String, CachedSuggestions> cache;
+    private final Map<String, CompletableFuture<List<String>>> loading = new ConcurrentHashMap<>();
+
+    public ProductSuggestionCache(ProductSuggestProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSuggestions> eldest) {
+                return size() > properties.getCacheMaxSize();
+            }
+        };
+    }
+
+    /**
+     * 접두어의 캐시된 자동 완성 결과를 반환합니다. 캐시에 없거나 만료되었으면 loader 로 조회한 뒤 저장합니다.
+     *
+     * @param prefix 자동 완성할 접두어
+     * @param loader 자동 완성 결과를 조회하는 함수
+     * @return 자동 완성 결과
+     * @author 김선홍
+     * @since 1.0
+     */
+    public List<String> get(String prefix, Supplier<List<String>> loader) {
+        List<String> cached = find(prefix);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+
+        CompletableFuture<List<String>> future = new CompletableFuture<>();
+        CompletableFuture<List<String>> inFlight = loading.putIfAbsent(prefix, future);
+        if (Objects.nonNull(inFlight)) {
+            return await(inFlight);
+        }
+        try {
+            List<String> suggestions = find(prefix);
+            if (Objects.isNull(suggestions)) {
+                suggestions = List.copyOf(loader.get());
+                put(prefix, suggestions);
+            }
+            future.complete(suggestions);
+            return suggestions;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(prefix, future);
+        }
+    }
+
+    private synchronized List<String> find(String prefix) {
+        CachedSuggestions cached = cache.get(prefix);
+        if (Objects.isNull(cached)) {
+            return null;
+        }
+        if (!cached.isAliveAt(clock.instant())) {
+            cache.remove(prefix);
+            return null;
+        }
+        return cached.suggestions;
+    }
+
+    private synchronized void put(String prefix, List<String> suggestions) {
+        cache.put(prefix, new CachedSuggestions(
+                suggestions,
+                clock.instant().plus(Duration.ofSeconds(properties.getCacheTtlSeconds()))
+        ));
+    }
+
+    private static List<String> await(CompletableFuture<List<String>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class CachedSuggestions {
+
+        private final List<String> suggestions;
+        private final Instant expiresAt;
+
+        private boolean isAliveAt(Instant now) {
+            return expiresAt.isAfter(now);
+        }
+    }
+}
@@ -5,11 +5,13 @@ import static com.querydsl.core.group.GroupBy.groupBy;
 
 import com.querydsl.core.group.GroupBy;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,11 +28,11 @@ import shop.yesaladin.shop.product.domain.model.ProductTypeCode;
 import shop.yesaladin.shop.product.domain.model.querydsl.QProduct;
 import shop.yesaladin.shop.product.domain.model.querydsl.QRelation;
 import shop.yesaladin.shop.product.domain.repository.QueryProductRepository;
+import shop.yesaladin.shop.product.dto.ProductCursor;
 import shop.yesaladin.shop.product.dto.ProductOnlyTitleDto;
 import shop.yesaladin.shop.product.dto.ProductOrderSheetResponseDto;
 import shop.yesaladin.shop.product.dto.ProductWithCategoryResponseDto;
 import shop.yesaladin.shop.publish.domain.model.querydsl.QPublish;
-import shop.yesaladin.shop.writing.domain.model.querydsl.QWriting;
 
 /**
  * 상품 조회를 위한 Repository QueryDsl 구현체 입니다.
@@ -268,128 +270,6 @@ public class QueryDslProductRepository implements QueryProductRepository {
         return PageableExecutionUtils.getPage(products, pageable, countQuery::fetchFirst);
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Page<Product> findByTitleForManager(String title, Pageable pageable) {
-        QProduct product = QProduct.product;
-
-        List<Product> products = queryFactory.select(product)
-                .from(product)
-                .where(product.title.contains(title).and(product.isDeleted.isFalse()))
-                .orderBy(product.preferentialShowRanking.asc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-        Long count = queryFactory.select(product.count())
-                .from(product)
-                .where(product.title.contains(title).and(product.isDeleted.isFalse()))
-                .fetchFirst();
-
-        return new PageImpl<>(products, pageable, count);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Page<Product> findByISBNForManager(String isbn, Pageable pageable) {
-        QProduct product = QProduct.product;
-
-        List<Product> products = queryFactory.select(product)
-                .from(product)
-                .where(product.isbn.eq(isbn).and(product.isDeleted.isFalse()))
-                .orderBy(product.preferentialShowRanking.asc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-        Long count = queryFactory.select(product.count())
-                .from(product)
-                .where(product.isbn.eq(isbn).and(product.isDeleted.isFalse()))
-                .fetchFirst();
-
-        return new PageImpl<>(products, pageable, count);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Page<Product> findByContentForManager(String content, Pageable pageable) {
-        QProduct product = QProduct.product;
-
-        List<Product> products = queryFactory.select(product)
-                .from(product)
-                .where(product.contents.contains(content).and(product.isDeleted.isFalse()))
-                .orderBy(product.preferentialShowRanking.asc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-        Long count = queryFactory.select(product.count())
-                .from(product)
-                .where(product.contents.contains(content).and(product.isDeleted.isFalse()))
-                .fetchFirst();
-
-        return new PageImpl<>(products, pageable, count);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Page<Product> findByPublisherForManager(String publisher, Pageable pageable) {
-        QProduct product = QProduct.product;
-        QPublish publish = QPublish.publish;
-
-        List<Product> products = queryFactory.select(product)
-                .from(product)
-                .where(product.eq(publish.product)
-                        .and(publish.publisher.name.contains(publisher))
-                        .and(product.isDeleted.isFalse()))
-                .orderBy(product.preferentialShowRanking.asc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .innerJoin(publish).on(product.id.eq(publish.product.id))
-                .fetch();
-        Long count = queryFactory.select(product.count())
-                .from(product)
-                .where(product.eq(publish.product)
-                        .and(publish.publisher.name.contains(publisher))
-                        .and(product.isDeleted.isFalse()))
-                .innerJoin(publish).on(product.id.eq(publish.product.id))
-                .fetchFirst();
-        return new PageImpl<>(products, pageable, count);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public Page<Product> findByAuthorForManager(String author, Pageable pageable) {
-        QProduct product = QProduct.product;
-        QWriting writing = QWriting.writing;
-
-        List<Product> products = queryFactory.select(product)
-                .from(product)
-                .where(writing.author.name.contains(author)
-                        .and(product.isDeleted.isFalse()))
-                .orderBy(product.preferentialShowRanking.asc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .innerJoin(writing).on(product.id.eq(writing.product.id))
-                .fetch();
-        Long count = queryFactory.select(product.count())
-                .from(product)
-                .where(product.eq(writing.product)
-                        .and(writing.author.name.contains(author))
-                        .and(product.isDeleted.isFalse()))
-                .innerJoin(writing).on(product.id.eq(writing.product.id))
-                .fetchFirst();
-        return new PageImpl<>(products, pageable, count);
-    }
-
-
     /**
      * {@inheritDoc}
      */
@@ -537,5 +417,174 @@ public class QueryDslProductRepository implements QueryProductRepository {
 
         return new PageImpl<>(products, pageable, count);
     }
-}
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Product> findProductsByIds(List<Long> ids) {
+        QProduct product = QProduct.product;
+
+        return queryFactory.selectFrom(product)
+                .leftJoin(product.thumbnailFile).fetchJoin()
+                .leftJoin(product.totalDiscountRate).fetchJoin()
+                .where(product.id.in(ids).and(product.isDeleted.isFalse()))
+                .fetch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Product> findStaleFollowingTotalDiscountRate(
+            int totalDiscountRateId,
+            int discountRate,
+            long lastId,
+            int size
+    ) {
+        QProduct product = QProduct.product;
+
+        return queryFactory.selectFrom(product)
+                .where(product.totalDiscountRate.id.eq(totalDiscountRateId)
+                        .and(product.isSeparatelyDiscount.isFalse())
+                        .and(product.price.appliedDiscountRate.isNull()
+                                .or(product.price.appliedDiscountRate.ne(discountRate)))
+                        .and(product.id.gt(lastId)))
+                .orderBy(product.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Product> findProductsBetween(long lastId, long maxId, int size) {
+        QProduct product = QProduct.product;
+
+        return queryFactory.selectFrom(product)
+                .leftJoin(product.thumbnailFile).fetchJoin()
+                .leftJoin(product.totalDiscountRate).fetchJoin()
+                .where(product.id.gt(lastId)
+                        .and(product.id.loe(maxId))
+                        .and(product.isDeleted.isFalse()))
+                .orderBy(product.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long findMaxId() {
+        QProduct product = QProduct.product;
+
+        Long maxId = queryFactory.select(product.id.max())
+                .from(product)
+                .fetchOne();
+        return Objects.isNull(maxId) ? 0L : maxId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Product> findAllByCursor(ProductCursor cursor, int size, Integer typeId) {
+        QProduct product = QProduct.product;
+
+        return fetchByCursor(
+                product.isDeleted.isFalse()
+                        .and(product.isSale.isTrue())
+                        .and(typeCondition(typeId)),
+                cursor,
+                size
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countAll(Integer typeId) {
+        QProduct product = QProduct.product;
+
+        return count(product.isDeleted.isFalse()
+                .and(product.isSale.isTrue())
+                .and(typeCondition(typeId)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Product> findAllForManagerByCursor(
+            ProductCursor cursor,
+            int size,
+            Integer typeId
+    ) {
+        return fetchByCursor(typeCondition(typeId), cursor, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countAllForManager(Integer typeId) {
+        return count(typeCondition(typeId));
+    }
+
+    private List<Product> fetchByCursor(
+            BooleanExpression condition,
+            ProductCursor cursor,
+            int size
+    ) {
+        QProduct product = QProduct.product;
+
+        return queryFactory.selectFrom(product)
+                .where(condition, afterCursor(cursor))
+                .orderBy(product.preferentialShowRanking.asc(), product.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    private long count(BooleanExpression condition) {
+        QProduct product = QProduct.product;
+
+        Long count = queryFactory.select(product.count())
+                .from(product)
+                .where(condition)
+                .fetchFirst();
+        return Objects.isNull(count) ? 0 : count;
+    }
+
+    /**
+     * (노출 우선순위, id) 가 cursor 보다 뒤인 상품을 찾는 조건입니다. 앞의 노출 우선순위 범위 조건은 index 범위 탐색을 위한 것입니다.
+     */
+    private BooleanExpression afterCursor(ProductCursor cursor) {
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+        QProduct product = QProduct.product;
+        int ranking = cursor.getPreferentialShowRanking();
+
+        return product.preferentialShowRanking.goe(ranking)
+                .and(product.preferentialShowRanking.gt(ranking)
+                        .or(product.preferentialShowRanking.eq(ranking)
+                                .and(product.id.gt(cursor.getId()))));
+    }
+
+    private BooleanExpression typeCondition(Integer typeId) {
+        if (Objects.isNull(typeId)) {
+            return null;
+        }
+        ProductTypeCode productTypeCode = Arrays.stream(ProductTypeCode.values())
+                .filter(value -> typeId.equals(value.getId()))
+                .findAny()
+                .orElseThrow(() -> new ClientException(
+                        ErrorCode.PRODUCT_TYPE_CODE_NOT_FOUND,
+                        "ProductTypeCode is not found : " + typeId
+                ));
+        return QProduct.product.productTypeCode.eq(productTypeCode);
+    }
+}
@@ -0,0 +1,48 @@
+package shop.yesaladin.shop.product.service.batch;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import shop.yesaladin.shop.product.dto.ProductImportCategoryDto;
+import shop.yesaladin.shop.product.dto.ProductImportErrorDto;
+import shop.yesaladin.shop.product.dto.ProductImportReferenceDto;
+import shop.yesaladin.shop.product.dto.ProductImportRowDto;
+
+/**
+ * 상품 일괄 등록에서 chunk 하나를 저장한 결과 입니다. 검색 문서를 만들 수 있도록 저장하며 조회한 참조 정보를 함께 가집니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class ProductImportChunkResult {
+
+    private final List<ProductImportRowDto> imported;
+    private final List<ProductImportErrorDto> errors;
+    private final Map<Long, ProductImportReferenceDto> authors;
+    private final Map<Long, ProductImportReferenceDto> publishers;
+    private final Map<Long, ProductImportReferenceDto> tags;
+    private final Map<Long, ProductImportCategoryDto> categories;
+
+    /**
+     * 저장한 상품 없이 등록하지 못한 행만 가지는 결과를 생성합니다.
+     *
+     * @param errors 등록하지 못한 행
+     * @return chunk 저장 결과
+     * @author 이수정
+     * @since 1.0
+     */
+    public static ProductImportChunkResult failed(List<ProductImportErrorDto> errors) {
+        return new ProductImportChunkResult(
+                Collections.emptyList(),
+                errors,
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                Collections.emptyMap()
+        );
+    }
+}
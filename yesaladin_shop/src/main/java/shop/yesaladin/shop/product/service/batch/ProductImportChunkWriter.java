@@ -0,0 +1,287 @@
+package shop.yesaladin.shop.product.service.batch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
+import shop.yesaladin.shop.product.domain.repository.ProductImportRepository;
+import shop.yesaladin.shop.product.dto.ProductImportCategoryDto;
+import shop.yesaladin.shop.product.dto.ProductImportErrorDto;
+import shop.yesaladin.shop.product.dto.ProductImportFileDto;
+import shop.yesaladin.shop.product.dto.ProductImportReferenceDto;
+import shop.yesaladin.shop.product.dto.ProductImportRelationDto;
+import shop.yesaladin.shop.product.dto.ProductImportRowDto;
+import shop.yesaladin.shop.product.service.batch.ProductImportReader.Row;
+
+/**
+ * 상품 일괄 등록 파일의 chunk 하나를 하나의 트랜잭션으로 저장하는 클래스 입니다.
+ * <p>
+ * chunk 에서 사용하는 저자, 출판사, 태그, 카테고리, 구독 상품, 기존 isbn 은 종류별로 한 번씩만 조회하고, 상품과 연관 정보는 종류별로 하나의
+ * INSERT 문으로 저장합니다. 검증에 실패하거나 참조 정보가 없는 행은 저장하지 않고 오류로 반환합니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductImportChunkWriter {
+
+    private final ProductImportRepository productImportRepository;
+    private final Validator validator;
+
+    /**
+     * chunk 를 저장합니다.
+     *
+     * @param rows              파일에서 읽은 행
+     * @param totalDiscountRate 상품에 적용할 전체 할인율
+     * @return 저장한 상품과 등록하지 못한 행
+     * @author 이수정
+     * @since 1.0
+     */
+    @Transactional
+    public ProductImportChunkResult write(List<Row> rows, TotalDiscountRate totalDiscountRate) {
+        List<ProductImportErrorDto> errors = new ArrayList<>();
+        List<ProductImportRowDto> candidates = excludeDuplicatedIsbn(
+                prepare(rows, totalDiscountRate, errors),
+                errors
+        );
+
+        Map<Long, ProductImportReferenceDto> authors = toMap(
+                idsOf(candidates, ProductImportRowDto::getAuthorIds),
+                productImportRepository::findAuthors
+        );
+        Map<Long, ProductImportReferenceDto> publishers = toMap(
+                candidates.stream().map(ProductImportRowDto::getPublisherId).collect(Collectors.toSet()),
+                productImportRepository::findPublishers
+        );
+        Map<Long, ProductImportReferenceDto> tags = toMap(
+                idsOf(candidates, ProductImportRowDto::getTagIds),
+                productImportRepository::findTags
+        );
+        Map<Long, ProductImportCategoryDto> categories = findCategories(idsOf(
+                candidates,
+                ProductImportRowDto::getCategoryIds
+        ));
+
+        List<ProductImportRowDto> imported = new ArrayList<>();
+        for (ProductImportRowDto row : candidates) {
+            String missing = findMissingReference(row, authors, publishers, tags, categories);
+            if (Objects.isNull(missing)) {
+                imported.add(row);
+            } else {
+                errors.add(new ProductImportErrorDto(row.getRowNumber(), row.getIsbn(), missing));
+            }
+        }
+
+        if (!imported.isEmpty()) {
+            assignSubscribeProducts(imported);
+            insert(imported);
+        }
+        return new ProductImportChunkResult(imported, errors, authors, publishers, tags, categories);
+    }
+
+    private List<ProductImportRowDto> prepare(
+            List<Row> rows,
+            TotalDiscountRate totalDiscountRate,
+            List<ProductImportErrorDto> errors
+    ) {
+        List<ProductImportRowDto> prepared = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.isFailed()) {
+                errors.add(new ProductImportErrorDto(row.getRowNumber(), row.getIsbn(), row.getError()));
+                continue;
+            }
+            Set<ConstraintViolation<Object>> violations = validator.validate(row.getDto());
+            if (!violations.isEmpty()) {
+                errors.add(new ProductImportErrorDto(
+                        row.getRowNumber(),
+                        row.getIsbn(),
+                        violations.stream()
+                                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                                .sorted()
+                                .collect(Collectors.joining(", "))
+                ));
+                continue;
+            }
+            try {
+                prepared.add(ProductImportRowDto.of(row.getRowNumber(), row.getDto(), totalDiscountRate));
+            } catch (RuntimeException e) {
+                errors.add(new ProductImportErrorDto(
+                        row.getRowNumber(),
+                        row.getIsbn(),
+                        "Invalid value : " + e.getMessage()
+                ));
+            }
+        }
+        return prepared;
+    }
+
+    private List<ProductImportRowDto> excludeDuplicatedIsbn(
+            List<ProductImportRowDto> rows,
+            List<ProductImportErrorDto> errors
+    ) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Set<String> seen = new HashSet<>(productImportRepository.findExistingIsbns(rows.stream()
+                .map(ProductImportRowDto::getIsbn)
+                .collect(Collectors.toSet())));
+
+        List<ProductImportRowDto> unique = new ArrayList<>();
+        for (ProductImportRowDto row : rows) {
+            if (seen.add(row.getIsbn())) {
+                unique.add(row);
+            } else {
+                errors.add(new ProductImportErrorDto(
+                        row.getRowNumber(),
+                        row.getIsbn(),
+                        "Product already exists with isbn : " + row.getIsbn()
+                ));
+            }
+        }
+        return unique;
+    }
+
+    private String findMissingReference(
+            ProductImportRowDto row,
+            Map<Long, ProductImportReferenceDto> authors,
+            Map<Long, ProductImportReferenceDto> publishers,
+            Map<Long, ProductImportReferenceDto> tags,
+            Map<Long, ProductImportCategoryDto> categories
+    ) {
+        if (!publishers.containsKey(row.getPublisherId())) {
+            return "Publisher not found with id : " + row.getPublisherId();
+        }
+        for (Long id : row.getAuthorIds()) {
+            if (!authors.containsKey(id)) {
+                return "Author not found with id : " + id;
+            }
+        }
+        for (Long id : row.getTagIds()) {
+            if (!tags.containsKey(id)) {
+                return "Tag not found with id : " + id;
+            }
+        }
+        for (Long id : row.getCategoryIds()) {
+            if (!categories.containsKey(id)) {
+                return "Category not found with id : " + id;
+            }
+        }
+        return null;
+    }
+
+    private void assignSubscribeProducts(List<ProductImportRowDto> rows) {
+        Set<String> issns = rows.stream()
+                .map(ProductImportRowDto::getIssn)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (issns.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> ids = findSubscribeProductIds(issns);
+        Set<String> missing = issns.stream()
+                .filter(issn -> !ids.containsKey(issn))
+                .collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            productImportRepository.insertSubscribeProducts(missing);
+            ids.putAll(findSubscribeProductIds(missing));
+        }
+
+        rows.stream()
+                .filter(row -> Objects.nonNull(row.getIssn()))
+                .forEach(row -> row.assignSubscribeProduct(ids.get(row.getIssn())));
+    }
+
+    private Map<String, Long> findSubscribeProductIds(Set<String> issns) {
+        return productImportRepository.findSubscribeProducts(issns)
+                .stream()
+                .collect(Collectors.toMap(
+                        ProductImportReferenceDto::getName,
+                        ProductImportReferenceDto::getId,
+                        (first, second) -> first
+                ));
+    }
+
+    private void insert(List<ProductImportRowDto> rows) {
+        List<ProductImportFileDto> files = new ArrayList<>();
+        for (ProductImportRowDto row : rows) {
+            files.add(row.getThumbnailFile());
+            if (Objects.nonNull(row.getEbookFile())) {
+                files.add(row.getEbookFile());
+            }
+        }
+        productImportRepository.insertFiles(files);
+        productImportRepository.insertProducts(rows);
+        productImportRepository.insertPublishes(rows);
+
+        List<ProductImportRelationDto> writings = relationsOf(rows, ProductImportRowDto::getAuthorIds);
+        if (!writings.isEmpty()) {
+            productImportRepository.insertWritings(writings);
+        }
+        List<ProductImportRelationDto> productTags = relationsOf(rows, ProductImportRowDto::getTagIds);
+        if (!productTags.isEmpty()) {
+            productImportRepository.insertProductTags(productTags);
+        }
+        List<ProductImportRelationDto> productCategories = relationsOf(
+                rows,
+                ProductImportRowDto::getCategoryIds
+        );
+        if (!productCategories.isEmpty()) {
+            productImportRepository.insertProductCategories(productCategories);
+        }
+    }
+
+    private List<ProductImportRelationDto> relationsOf(
+            List<ProductImportRowDto> rows,
+            Function<ProductImportRowDto, List<Long>> targets
+    ) {
+        return rows.stream()
+                .flatMap(row -> targets.apply(row)
+                        .stream()
+                        .distinct()
+                        .map(id -> new ProductImportRelationDto(row.getProductId(), id)))
+                .collect(Collectors.toList());
+    }
+
+    private Set<Long> idsOf(
+            List<ProductImportRowDto> rows,
+            Function<ProductImportRowDto, List<Long>> ids
+    ) {
+        return rows.stream()
+                .flatMap(row -> ids.apply(row).stream())
+                .collect(Collectors.toSet());
+    }
+
+    private Map<Long, ProductImportReferenceDto> toMap(
+            Set<Long> ids,
+            Function<Collection<Long>, List<ProductImportReferenceDto>> finder
+    ) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return finder.apply(ids)
+                .stream()
+                .collect(Collectors.toMap(ProductImportReferenceDto::getId, Function.identity()));
+    }
+
+    private Map<Long, ProductImportCategoryDto> findCategories(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return productImportRepository.findCategories(ids)
+                .stream()
+                .collect(Collectors.toMap(ProductImportCategoryDto::getId, Function.identity()));
+    }
+}
@@ -0,0 +1,244 @@
+package shop.yesaladin.shop.product.service.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import shop.yesaladin.shop.product.dto.ProductCreateDto;
+import shop.yesaladin.shop.product.dto.ProductImportFormat;
+
+/**
+ * 상품 일괄 등록 파일을 한 행씩 읽어 상품 등록 요청으로 변환하는 클래스 입니다.
+ * <p>
+ * 파일 전체를 메모리에 올리지 않고 순서대로 읽습니다. 변환할 수 없는 행은 오류 메시지를 가진 행으로 반환하여 나머지 행의 등록을 계속합니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+public class ProductImportReader implements Closeable {
+
+    private static final Set<String> LIST_COLUMNS = Set.of("authors", "tags", "categories");
+    private static final String LIST_SEPARATOR = "\\|";
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final ProductImportFormat format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private long lineNumber;
+
+    private ProductImportReader(
+            BufferedReader reader,
+            ProductImportFormat format,
+            ObjectMapper objectMapper
+    ) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 파일을 엽니다. CSV 파일은 첫 행을 header 로 읽습니다.
+     *
+     * @param path         일괄 등록 파일의 경로
+     * @param format       파일 형식
+     * @param objectMapper 행을 상품 등록 요청으로 변환할 ObjectMapper
+     * @return 파일을 읽는 reader
+     * @throws IOException 파일을 읽을 수 없거나 CSV 파일에 header 가 없는 경우
+     * @author 이수정
+     * @since 1.0
+     */
+    public static ProductImportReader open(
+            Path path,
+            ProductImportFormat format,
+            ObjectMapper objectMapper
+    ) throws IOException {
+        ProductImportReader importReader = new ProductImportReader(
+                Files.newBufferedReader(path, StandardCharsets.UTF_8),
+                format,
+                objectMapper
+        );
+        if (format == ProductImportFormat.CSV) {
+            importReader.readHeader();
+        }
+        return importReader;
+    }
+
+    /**
+     * 다음 행을 읽습니다.
+     *
+     * @return 읽은 행, 파일의 끝인 경우 null
+     * @throws IOException 파일을 읽을 수 없는 경우
+     * @author 이수정
+     * @since 1.0
+     */
+    public Row next() throws IOException {
+        if (format == ProductImportFormat.CSV) {
+            return nextCsv();
+        }
+        return nextNdjson();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> fields = readCsvRecord();
+        if (Objects.isNull(fields)) {
+            throw new IOException("CSV header is missing.");
+        }
+        if (!fields.isEmpty() && !fields.get(0).isEmpty() && fields.get(0).charAt(0) == BOM) {
+            fields.set(0, fields.get(0).substring(1));
+        }
+        header = fields.stream().map(String::trim).collect(Collectors.toList());
+    }
+
+    private Row nextCsv() throws IOException {
+        long rowNumber;
+        List<String> fields;
+        do {
+            rowNumber = lineNumber + 1;
+            fields = readCsvRecord();
+            if (Objects.isNull(fields)) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        Map<String, Object> values = new HashMap<>();
+        for (int i = 0; i < header.size() && i < fields.size(); i++) {
+            values.put(header.get(i), toValue(header.get(i), fields.get(i)));
+        }
+        String isbn = (String) values.get("isbn");
+        if (fields.size() != header.size()) {
+            return Row.failure(rowNumber, isbn, "Expected " + header.size()
+                    + " columns but found " + fields.size() + ".");
+        }
+        try {
+            return Row.success(rowNumber, objectMapper.convertValue(values, ProductCreateDto.class));
+        } catch (IllegalArgumentException e) {
+            return Row.failure(rowNumber, isbn, "Invalid value : " + e.getMessage());
+        }
+    }
+
+    private Row nextNdjson() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+            if (Objects.isNull(line)) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        try {
+            return Row.success(lineNumber, objectMapper.readValue(line, ProductCreateDto.class));
+        } catch (IOException e) {
+            return Row.failure(lineNumber, null, "Invalid JSON : " + e.getOriginalMessage());
+        }
+    }
+
+    private Object toValue(String column, String field) {
+        String value = field.trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (LIST_COLUMNS.contains(column)) {
+            return Arrays.stream(value.split(LIST_SEPARATOR))
+                    .map(String::trim)
+                    .filter(id -> !id.isEmpty())
+                    .collect(Collectors.toList());
+        }
+        return value;
+    }
+
+    /**
+     * RFC 4180 형식의 CSV 레코드 하나를 읽습니다. 큰따옴표로 감싼 값은 쉼표, 줄바꿈, 두 번 연속된 큰따옴표를 포함할 수 있습니다.
+     */
+    private List<String> readCsvRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        lineNumber++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (ch == '\n') {
+                        lineNumber++;
+                    }
+                    field.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * 일괄 등록 파일의 한 행 입니다. 변환에 실패한 행은 상품 등록 요청 대신 오류 메시지를 가집니다.
+     */
+    @Getter
+    public static class Row {
+
+        private final long rowNumber;
+        private final String isbn;
+        private final ProductCreateDto dto;
+        private final String error;
+
+        private Row(long rowNumber, String isbn, ProductCreateDto dto, String error) {
+            this.rowNumber = rowNumber;
+            this.isbn = isbn;
+            this.dto = dto;
+            this.error = error;
+        }
+
+        static Row success(long rowNumber, ProductCreateDto dto) {
+            return new Row(rowNumber, dto.getIsbn(), dto, null);
+        }
+
+        static Row failure(long rowNumber, String isbn, String error) {
+            return new Row(rowNumber, isbn, null, error);
+        }
+
+        public boolean isFailed() {
+            return Objects.nonNull(error);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package shop.yesaladin.shop.product.service.batch;
+
+import java.time.Duration;
+import java.util.Objects;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import shop.yesaladin.shop.common.lock.RedisLock;
+import shop.yesaladin.shop.config.ProductPricingProperties;
+import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
+import shop.yesaladin.shop.product.domain.repository.QueryTotalDiscountRateRepository;
+import shop.yesaladin.shop.product.service.inter.ProductPricingService;
+
+/**
+ * 전체 할인율이 바뀐 뒤 아직 이전 할인율로 가격이 저장된 상품을 찾아 다시 계산하는 클래스 입니다.
+ * <p>
+ * 전체 할인율을 수정하면 할인율을 먼저 commit 한 뒤 상품 가격을 단위 별 트랜잭션에서 다시 계산하므로, 도중에 실패하거나 서버가 종료되면 일부
+ * 상품의 판매가와 적용 할인율이 이전 값으로 남습니다. 서버가 시작될 때와 일정 주기마다 전체 할인율 별로 적용 할인율이 다른 상품만 다시 계산하여
+ * 이를 맞춥니다. 여러 서버에서 같은 상품을 동시에 다시 계산하지 않도록 Redis lock 을 사용합니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductPriceReconciler {
+
+    private static final String LOCK_KEY = "PRODUCT_PRICE_RECONCILE:LOCK";
+
+    private final QueryTotalDiscountRateRepository queryTotalDiscountRateRepository;
+    private final ProductPricingService productPricingService;
+    private final RedisLock redisLock;
+    private final ProductPricingProperties properties;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    /**
+     * 전체 할인율 별로 아직 다시 계산되지 않은 상품의 가격을 다시 계산합니다.
+     *
+     * @return 가격을 다시 계산한 상품 수
+     * @author 이수정
+     * @since 1.0
+     */
+    public int reconcile() {
+        String token = redisLock.tryLock(LOCK_KEY, getLockTtl()).orElse(null);
+        if (Objects.isNull(token)) {
+            return 0;
+        }
+        try {
+            int repriced = 0;
+            for (TotalDiscountRate totalDiscountRate : queryTotalDiscountRateRepository.findAll()) {
+                repriced += productPricingService.repriceByTotalDiscountRate(totalDiscountRate);
+            }
+            if (repriced > 0) {
+                log.warn("Product prices diverged from total discount rate: count -> {}", repriced);
+            }
+            return repriced;
+        } catch (RuntimeException e) {
+            log.warn("Product price reconcile failed, will retry", e);
+            return 0;
+        } finally {
+            redisLock.release(LOCK_KEY, token);
+        }
+    }
+
+    private Duration getLockTtl() {
+        return Duration.ofSeconds(properties.getLockTtlSeconds());
+    }
+
+    @PostConstruct
+    public void init() {
+        this.scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("product-price-reconcile-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(
+                this::reconcile,
+                Duration.ofMinutes(properties.getReconcileIntervalMinutes())
+        );
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,296 @@
+package shop.yesaladin.shop.product.service.batch;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import shop.yesaladin.shop.common.lock.RedisLock;
+import shop.yesaladin.shop.config.ProductSearchSyncProperties;
+import shop.yesaladin.shop.product.domain.model.ManagerSearchedProduct;
+import shop.yesaladin.shop.product.domain.model.Product;
+import shop.yesaladin.shop.product.domain.model.SearchedProduct;
+import shop.yesaladin.shop.product.domain.model.SearchedProductAuthor;
+import shop.yesaladin.shop.product.domain.repository.ProductDocumentSourceRepository;
+import shop.yesaladin.shop.product.domain.repository.ProductSearchChangeRepository;
+import shop.yesaladin.shop.product.domain.repository.ProductSearchIndexRepository;
+import shop.yesaladin.shop.product.domain.repository.QueryProductRepository;
+import shop.yesaladin.shop.product.dto.ProductSearchChangeDto;
+import shop.yesaladin.shop.product.dto.ProductSearchStateDto;
+import shop.yesaladin.shop.product.persistence.ElasticCommandManagerProductRepository;
+import shop.yesaladin.shop.product.persistence.ElasticCommandProductRepository;
+import shop.yesaladin.shop.product.persistence.ProductChangePublisher;
+import shop.yesaladin.shop.product.service.inter.ProductSearchSyncService;
+
+/**
+ * 기록된 상품 변경 사항을 검색 인덱스에 반영하고, 검색 인덱스와 DB 가 어긋난 상품을 찾아 다시 반영하는 클래스 입니다.
+ * <p>
+ * 일정 주기마다 변경 기록을 기록된 순으로 읽어 같은 상품의 기록을 하나로 합친 뒤, 상품의 현재 상태로 만든 문서를 bulk 요청으로 색인합니다.
+ * 반영에 실패한 기록은 지수적으로 늘어나는 시간만큼 미뤘다가 다시 시도합니다. 별도의 주기로 전체 상품의 판매 여부, 재고, 가격을 색인된 문서와
+ * 비교하여 어긋난 상품의 변경을 기록합니다. 색인을 시도한 상품 id 는 front 서버가 캐시된 상품 fragment 를 지울 수 있도록 Redis 채널로
+ * 알립니다. 여러 서버에서 동시에 반영하여 오래된 문서가 나중에 색인되지 않도록 Redis lock 을 사용하고, 매 batch 를
+ * 반영하기 전에 lock 을 여전히 가지고 있는지 확인하여 lock 을 잃은 작업은 더 반영하지 않습니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductSearchSyncWorker {
+
+    private static final String SYNC_LOCK_KEY = "PRODUCT_SEARCH_SYNC:LOCK";
+    private static final String RECONCILE_LOCK_KEY = "PRODUCT_SEARCH_SYNC:RECONCILE_LOCK";
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final ProductSearchChangeRepository productSearchChangeRepository;
+    private final ProductDocumentSourceRepository productDocumentSourceRepository;
+    private final QueryProductRepository queryProductRepository;
+    private final SearchedProductAssembler searchedProductAssembler;
+    private final ElasticCommandProductRepository elasticCommandProductRepository;
+    private final ElasticCommandManagerProductRepository elasticCommandManagerProductRepository;
+    private final ProductSearchIndexRepository productSearchIndexRepository;
+    private final ProductSearchSyncService productSearchSyncService;
+    private final ProductChangePublisher productChangePublisher;
+    private final RedisLock redisLock;
+    private final ProductSearchSyncProperties properties;
+    private final Clock clock;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    /**
+     * 다시 시도할 시각이 지난 변경 기록을 검색 인덱스에 반영합니다.
+     *
+     * @return 반영한 상품 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    public int sync() {
+        String token = redisLock.tryLock(SYNC_LOCK_KEY, getLockTtl()).orElse(null);
+        if (Objects.isNull(token)) {
+            return 0;
+        }
+        try {
+            int applied = 0;
+            List<ProductSearchChangeDto> changes;
+            do {
+                if (!redisLock.extend(SYNC_LOCK_KEY, token, getLockTtl())) {
+                    log.warn("Product search sync lock lost, stopping: applied -> {}", applied);
+                    break;
+                }
+                changes = productSearchChangeRepository.findReady(
+                        LocalDateTime.now(clock),
+                        properties.getBatchSize()
+                );
+                if (changes.isEmpty()) {
+                    break;
+                }
+                int batchApplied = apply(changes);
+                if (batchApplied < 0) {
+                    break;
+                }
+                applied += batchApplied;
+            } while (changes.size() == properties.getBatchSize());
+            return applied;
+        } finally {
+            redisLock.release(SYNC_LOCK_KEY, token);
+        }
+    }
+
+    /**
+     * 전체 상품을 id 순으로 나누어 색인된 문서와 비교하고, 어긋난 상품의 변경을 기록합니다.
+     *
+     * @return 어긋난 상품 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    public int reconcile() {
+        String token = redisLock.tryLock(RECONCILE_LOCK_KEY, getLockTtl()).orElse(null);
+        if (Objects.isNull(token)) {
+            return 0;
+        }
+        try {
+            int diverged = 0;
+            long lastId = 0L;
+            List<ProductSearchStateDto> states;
+            do {
+                if (!redisLock.extend(RECONCILE_LOCK_KEY, token, getLockTtl())) {
+                    log.warn("Product search reconcile lock lost, stopping: lastId -> {}", lastId);
+                    break;
+                }
+                states = productDocumentSourceRepository.findStatesAfter(
+                        lastId,
+                        properties.getReconcileChunkSize()
+                );
+                if (states.isEmpty()) {
+                    break;
+                }
+                Map<Long, SearchedProduct> documents = new HashMap<>();
+                elasticCommandProductRepository.findAllById(states.stream()
+                                .map(ProductSearchStateDto::getId)
+                                .collect(Collectors.toList()))
+                        .forEach(document -> documents.put(document.getId(), document));
+
+                List<Long> divergedIds = states.stream()
+                        .filter(state -> state.isDivergedFrom(documents.get(state.getId())))
+                        .map(ProductSearchStateDto::getId)
+                        .collect(Collectors.toList());
+                productSearchSyncService.requestSync(divergedIds);
+
+                diverged += divergedIds.size();
+                lastId = states.get(states.size() - 1).getId();
+            } while (states.size() == properties.getReconcileChunkSize());
+
+            if (diverged > 0) {
+                log.warn("Product search index diverged from database: count -> {}", diverged);
+            }
+            return diverged;
+        } finally {
+            redisLock.release(RECONCILE_LOCK_KEY, token);
+        }
+    }
+
+    /**
+     * 변경 기록을 상품별로 합쳐 반영합니다. 반영한 기록은 삭제하고 실패한 기록은 미룹니다. DB 는 이미 변경되었으므로 색인 성공 여부와 관계없이
+     * 상품 id 를 알립니다.
+     *
+     * @return 반영한 상품 수, 요청 전체가 실패한 경우 -1
+     */
+    private int apply(List<ProductSearchChangeDto> changes) {
+        Set<Long> productIds = changes.stream()
+                .map(ProductSearchChangeDto::getProductId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Set<Long> failedIds;
+        try {
+            failedIds = index(productIds);
+        } catch (RuntimeException e) {
+            productChangePublisher.publish(productIds);
+            log.warn("Product search sync failed, will retry: size -> {}", productIds.size(), e);
+            defer(changes);
+            return -1;
+        }
+
+        productChangePublisher.publish(productIds);
+
+        List<ProductSearchChangeDto> failed = changes.stream()
+                .filter(change -> failedIds.contains(change.getProductId()))
+                .collect(Collectors.toList());
+        List<Long> appliedChangeIds = changes.stream()
+                .filter(change -> !failedIds.contains(change.getProductId()))
+                .map(ProductSearchChangeDto::getId)
+                .collect(Collectors.toList());
+        if (!appliedChangeIds.isEmpty()) {
+            productSearchChangeRepository.deleteByIds(appliedChangeIds);
+        }
+        if (!failed.isEmpty()) {
+            log.warn("Product search sync failed for ids {}, will retry", failedIds);
+            defer(failed);
+        }
+        return productIds.size() - failedIds.size();
+    }
+
+    /**
+     * 상품의 현재 상태로 문서를 만들어 색인하고, 삭제되었거나 없는 상품의 문서는 삭제합니다.
+     *
+     * @return 색인에 실패한 상품 id
+     */
+    private Set<Long> index(Set<Long> productIds) {
+        List<Product> products = queryProductRepository.findProductsByIds(new ArrayList<>(productIds));
+        Map<Long, SearchedProduct> documents = searchedProductAssembler.assemble(products)
+                .stream()
+                .collect(Collectors.toMap(SearchedProduct::getId, Function.identity()));
+
+        Set<Long> failedIds = new HashSet<>();
+        if (!documents.isEmpty()) {
+            List<SearchedProduct> values = new ArrayList<>(documents.values());
+            saveAll(() -> elasticCommandProductRepository.saveAll(values), failedIds);
+            productSearchIndexRepository.saveToPending(values);
+            saveAll(() -> elasticCommandManagerProductRepository.saveAll(products.stream()
+                    .map(product -> toManagerDocument(product, documents.get(product.getId())))
+                    .collect(Collectors.toList())), failedIds);
+        }
+
+        Set<Long> removedIds = new HashSet<>(productIds);
+        removedIds.removeAll(documents.keySet());
+        if (!removedIds.isEmpty()) {
+            elasticCommandProductRepository.deleteAllById(removedIds);
+            elasticCommandManagerProductRepository.deleteAllById(removedIds);
+            removedIds.forEach(productSearchIndexRepository::deleteFromPending);
+        }
+        return failedIds;
+    }
+
+    private void saveAll(Runnable bulk, Set<Long> failedIds) {
+        try {
+            bulk.run();
+        } catch (BulkFailureException e) {
+            e.getFailedDocuments().keySet().forEach(id -> failedIds.add(Long.valueOf(id)));
+        }
+    }
+
+    private ManagerSearchedProduct toManagerDocument(Product product, SearchedProduct document) {
+        return ManagerSearchedProduct.of(
+                product,
+                Objects.isNull(document.getPublisher()) ? null : document.getPublisher().getName(),
+                document.getAuthors()
+                        .stream()
+                        .map(SearchedProductAuthor::getName)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    private void defer(List<ProductSearchChangeDto> changes) {
+        int attempt = changes.stream().mapToInt(ProductSearchChangeDto::getAttemptCount).max().orElse(0);
+        long delayMs = Math.min(
+                properties.getRetryMaxDelayMs(),
+                properties.getRetryBaseDelayMs() << Math.min(attempt, MAX_BACKOFF_SHIFT)
+        );
+        productSearchChangeRepository.deferByIds(
+                changes.stream().map(ProductSearchChangeDto::getId).collect(Collectors.toList()),
+                LocalDateTime.now(clock).plus(Duration.ofMillis(delayMs))
+        );
+    }
+
+    private Duration getLockTtl() {
+        return Duration.ofSeconds(properties.getLockTtlSeconds());
+    }
+
+    @PostConstruct
+    public void init() {
+        this.scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("product-search-sync-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(
+                this::sync,
+                Duration.ofMillis(properties.getPollIntervalMs())
+        );
+        Duration reconcileInterval = Duration.ofMinutes(properties.getReconcileIntervalMinutes());
+        scheduler.scheduleWithFixedDelay(
+                this::reconcile,
+                clock.instant().plus(reconcileInterval),
+                reconcileInterval
+        );
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,110 @@
+package shop.yesaladin.shop.product.service.batch;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import shop.yesaladin.shop.product.domain.model.Product;
+import shop.yesaladin.shop.product.domain.model.SearchedProduct;
+import shop.yesaladin.shop.product.domain.model.SearchedProductAuthor;
+import shop.yesaladin.shop.product.domain.model.SearchedProductCategory;
+import shop.yesaladin.shop.product.domain.model.SearchedProductPublisher;
+import shop.yesaladin.shop.product.domain.model.SearchedProductTag;
+import shop.yesaladin.shop.product.domain.repository.ProductDocumentSourceRepository;
+import shop.yesaladin.shop.product.dto.ProductDocumentCategoryDto;
+import shop.yesaladin.shop.product.dto.ProductDocumentPublishDto;
+import shop.yesaladin.shop.product.dto.ProductDocumentReferenceDto;
+
+/**
+ * 여러 상품의 검색 문서를 한 번에 만드는 클래스 입니다.
+ * <p>
+ * 상품마다 출판사, 저자, 태그, 카테고리를 따로 조회하지 않고 종류별로 한 번씩만 조회하므로, 상품 수와 관계없이 4번의 조회로 문서를 만듭니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Component
+public class SearchedProductAssembler {
+
+    private final ProductDocumentSourceRepository productDocumentSourceRepository;
+
+    /**
+     * 상품의 검색 문서를 만듭니다.
+     *
+     * @param products 썸네일 파일과 전체 할인율을 함께 조회한 상품 리스트
+     * @return 상품 검색 문서 리스트
+     * @author 김선홍
+     * @since 1.0
+     */
+    public List<SearchedProduct> assemble(List<Product> products) {
+        if (products.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> ids = products.stream().map(Product::getId).collect(Collectors.toList());
+
+        Map<Long, ProductDocumentPublishDto> publishes = productDocumentSourceRepository.findPublishes(
+                        ids)
+                .stream()
+                .collect(Collectors.toMap(
+                        ProductDocumentPublishDto::getProductId,
+                        Function.identity(),
+                        (first, second) -> first
+                ));
+        Map<Long, List<ProductDocumentReferenceDto>> authors = groupByProduct(
+                productDocumentSourceRepository.findAuthors(ids),
+                ProductDocumentReferenceDto::getProductId
+        );
+        Map<Long, List<ProductDocumentReferenceDto>> tags = groupByProduct(
+                productDocumentSourceRepository.findTags(ids),
+                ProductDocumentReferenceDto::getProductId
+        );
+        Map<Long, List<ProductDocumentCategoryDto>> categories = groupByProduct(
+                productDocumentSourceRepository.findCategories(ids),
+                ProductDocumentCategoryDto::getProductId
+        );
+
+        return products.stream()
+                .map(product -> {
+                    ProductDocumentPublishDto publish = publishes.get(product.getId());
+                    return SearchedProduct.of(
+                            product,
+                            Objects.isNull(publish) ? null : publish.getPublishedDate(),
+                            categories.getOrDefault(product.getId(), Collections.emptyList())
+                                    .stream()
+                                    .map(category -> new SearchedProductCategory(
+                                            category.getId(),
+                                            category.getParentId(),
+                                            category.getName(),
+                                            category.getIsShown(),
+                                            true
+                                    ))
+                                    .collect(Collectors.toList()),
+                            tags.getOrDefault(product.getId(), Collections.emptyList())
+                                    .stream()
+                                    .map(tag -> new SearchedProductTag(tag.getId(), tag.getName()))
+                                    .collect(Collectors.toList()),
+                            Objects.isNull(publish) ? null : new SearchedProductPublisher(
+                                    publish.getPublisherId(),
+                                    publish.getPublisherName()
+                            ),
+                            authors.getOrDefault(product.getId(), Collections.emptyList())
+                                    .stream()
+                                    .map(author -> new SearchedProductAuthor(
+                                            author.getId(),
+                                            author.getName()
+                                    ))
+                                    .collect(Collectors.toList())
+                    );
+                })
+                .collect(Collectors.toList());
+    }
+
+    private <T> Map<Long, List<T>> groupByProduct(List<T> rows, Function<T, Long> productId) {
+        return rows.stream().collect(Collectors.groupingBy(productId));
+    }
+}
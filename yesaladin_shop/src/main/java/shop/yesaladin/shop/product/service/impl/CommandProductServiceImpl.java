@@ -3,6 +3,7 @@ package shop.yesaladin.shop.product.service.impl;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -22,6 +23,7 @@ import shop.yesaladin.shop.category.service.inter.QueryCategoryService;
 import shop.yesaladin.shop.file.domain.model.File;
 import shop.yesaladin.shop.file.dto.FileResponseDto;
 import shop.yesaladin.shop.file.service.inter.CommandFileService;
+import shop.yesaladin.shop.file.service.inter.ImageVariantService;
 import shop.yesaladin.shop.product.domain.model.Product;
 import shop.yesaladin.shop.product.domain.model.SubscribeProduct;
 import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
@@ -35,6 +37,7 @@ import shop.yesaladin.shop.product.dto.ProductOnlyIdDto;
 import shop.yesaladin.shop.product.dto.ProductOrderRequestDto;
 import shop.yesaladin.shop.product.dto.ProductUpdateDto;
 import shop.yesaladin.shop.product.service.inter.CommandProductService;
+import shop.yesaladin.shop.product.service.inter.ProductSearchSyncService;
 import shop.yesaladin.shop.publish.domain.model.Publish;
 import shop.yesaladin.shop.publish.dto.PublisherResponseDto;
 import shop.yesaladin.shop.publish.service.inter.CommandPublishService;
@@ -74,6 +77,7 @@ public class CommandProductServiceImpl implements CommandProductService {
 
     // File
     private final CommandFileService commandFileService;
+    private final ImageVariantService imageVariantService;
 
     // Writing
     private final CommandWritingService commandWritingService;
@@ -91,6 +95,9 @@ public class CommandProductServiceImpl implements CommandProductService {
     private final QueryCategoryService queryCategoryService;
     private final CommandProductCategoryService commandProductCategoryService;
 
+    // Search
+    private final ProductSearchSyncService productSearchSyncService;
+
     /**
      * {@inheritDoc}
      */
@@ -100,6 +107,7 @@ public class CommandProductServiceImpl implements CommandProductService {
 
         // ThumbnailFile
         FileResponseDto thumbnailFile = commandFileService.register(dto.toThumbnailFileEntity());
+        imageVariantService.requestVariants(thumbnailFile.getId(), thumbnailFile.getUrl());
 
         // EbookFile
         FileResponseDto ebookFile = null;
@@ -186,6 +194,8 @@ public class CommandProductServiceImpl implements CommandProductService {
             }
         }
 
+        productSearchSyncService.requestSync(Collections.singletonList(product.getId()));
+
         return new ProductOnlyIdDto(product.getId());
     }
 
@@ -216,6 +226,7 @@ public class CommandProductServiceImpl implements CommandProductService {
         if (Objects.nonNull(dto.getThumbnailFileUrl())) {
             thumbnailFile = commandFileService.register(dto.changeThumbnailFile(thumbnailFile))
                     .toEntity();
+            imageVariantService.requestVariants(thumbnailFile.getId(), thumbnailFile.getUrl());
         }
 
         // EbookFile
@@ -296,6 +307,8 @@ public class CommandProductServiceImpl implements CommandProductService {
         );
         commandProductRepository.save(product);
 
+        productSearchSyncService.requestSync(Collections.singletonList(product.getId()));
+
         return new ProductOnlyIdDto(product.getId());
     }
 
@@ -314,6 +327,7 @@ public class CommandProductServiceImpl implements CommandProductService {
         product.deleteProduct();
 
         commandProductRepository.save(product);
+        productSearchSyncService.requestSync(Collections.singletonList(product.getId()));
     }
 
     /**
@@ -347,6 +361,7 @@ public class CommandProductServiceImpl implements CommandProductService {
         product.changeQuantity(deductedQuantity);
 
         commandProductRepository.save(product);
+        productSearchSyncService.requestSync(Collections.singletonList(product.getId()));
     }
 
     /**
@@ -364,6 +379,7 @@ public class CommandProductServiceImpl implements CommandProductService {
         product.changeIsSale();
 
         commandProductRepository.save(product);
+        productSearchSyncService.requestSync(Collections.singletonList(product.getId()));
     }
 
     /**
@@ -381,6 +397,7 @@ public class CommandProductServiceImpl implements CommandProductService {
         product.changeIsForcedOutOfStock();
 
         commandProductRepository.save(product);
+        productSearchSyncService.requestSync(Collections.singletonList(product.getId()));
     }
 
     /**
@@ -398,6 +415,9 @@ public class CommandProductServiceImpl implements CommandProductService {
         List<Product> productList = tryGetProductList(quantities);
 
         orderProductList(quantities, productList);
+        productSearchSyncService.requestSync(productList.stream()
+                .map(Product::getId)
+                .collect(Collectors.toList()));
 
         return productList
                 .stream()
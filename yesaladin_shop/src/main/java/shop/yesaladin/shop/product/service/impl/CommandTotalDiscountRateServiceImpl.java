@@ -2,11 +2,11 @@ package shop.yesaladin.shop.product.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
 import shop.yesaladin.shop.product.domain.repository.CommandTotalDiscountRateRepository;
 import shop.yesaladin.shop.product.dto.TotalDiscountRateResponseDto;
 import shop.yesaladin.shop.product.service.inter.CommandTotalDiscountRateService;
+import shop.yesaladin.shop.product.service.inter.ProductPricingService;
 
 /**
  * 전체 할인율 수정을 위한 Service 구현체입니다.
@@ -19,15 +19,19 @@ import shop.yesaladin.shop.product.service.inter.CommandTotalDiscountRateService
 public class CommandTotalDiscountRateServiceImpl implements CommandTotalDiscountRateService {
 
     private final CommandTotalDiscountRateRepository commandTotalDiscountRateRepository;
+    private final ProductPricingService productPricingService;
 
     /**
      * {@inheritDoc}
+     * <p>
+     * 상품 가격은 단위 별 트랜잭션에서 다시 계산되며 변경된 전체 할인율을 읽어야 하므로, 전체 할인율을 먼저 commit 한 뒤 다시 계산합니다. 다시
+     * 계산하는 도중 실패하여 일부 상품의 가격이 이전 할인율로 남더라도 ProductPriceReconciler 가 주기적으로 남은 상품을 다시 계산합니다.
      */
-    @Transactional
     @Override
     public TotalDiscountRateResponseDto modify(TotalDiscountRate totalDiscountRate) {
         TotalDiscountRate savedTotalDiscountRate = commandTotalDiscountRateRepository
                 .save(totalDiscountRate);
+        productPricingService.repriceByTotalDiscountRate(savedTotalDiscountRate);
 
         return new TotalDiscountRateResponseDto(
                 savedTotalDiscountRate.getId(),
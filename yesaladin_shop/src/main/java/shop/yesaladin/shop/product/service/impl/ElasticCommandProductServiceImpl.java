@@ -1,61 +1,53 @@
 package shop.yesaladin.shop.product.service.impl;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import shop.yesaladin.common.code.ErrorCode;
-import shop.yesaladin.common.exception.ClientException;
-import shop.yesaladin.shop.category.dto.CategoryResponseDto;
-import shop.yesaladin.shop.category.service.inter.QueryProductCategoryService;
+import shop.yesaladin.shop.product.domain.model.ManagerSearchedProduct;
 import shop.yesaladin.shop.product.domain.model.Product;
-import shop.yesaladin.shop.product.domain.model.SearchedProduct;
 import shop.yesaladin.shop.product.domain.model.SearchedProductAuthor;
-import shop.yesaladin.shop.product.domain.model.SearchedProductCategory;
 import shop.yesaladin.shop.product.domain.model.SearchedProductPublisher;
-import shop.yesaladin.shop.product.domain.model.SearchedProductTag;
-import shop.yesaladin.shop.product.domain.model.SearchedProductTotalDiscountRate;
 import shop.yesaladin.shop.product.domain.repository.QueryProductRepository;
-import shop.yesaladin.shop.product.persistence.ElasticCommandProductRepository;
+import shop.yesaladin.shop.product.dto.ProductCursor;
+import shop.yesaladin.shop.product.persistence.ElasticCommandManagerProductRepository;
 import shop.yesaladin.shop.product.service.inter.ElasticCommandProductService;
+import shop.yesaladin.shop.product.service.inter.ProductSearchSyncService;
 import shop.yesaladin.shop.publish.dto.PublishResponseDto;
 import shop.yesaladin.shop.publish.service.inter.QueryPublishService;
-import shop.yesaladin.shop.tag.dto.ProductTagResponseDto;
-import shop.yesaladin.shop.tag.service.inter.QueryProductTagService;
 import shop.yesaladin.shop.writing.dto.WritingResponseDto;
 import shop.yesaladin.shop.writing.service.inter.QueryWritingService;
 
 /**
  * 엘라스틱서치에 상품을 수정, 삭제하는 서비스 구현체
+ * <p>
+ * 상품 검색 인덱스의 수정, 삭제는 검색 엔진을 직접 호출하지 않고 변경을 기록하여, 상품의 현재 상태가 비동기로 반영되도록 합니다.
  *
  * @author 김선홍
  * @since 1.0
  */
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class ElasticCommandProductServiceImpl implements ElasticCommandProductService {
 
-    private final ElasticCommandProductRepository elasticCommandProductRepository;
+    private static final int CHUNK_SIZE = 500;
+
     private final QueryProductRepository queryProductRepository;
     private final QueryWritingService queryWritingService;
     private final QueryPublishService queryPublishService;
-    private final QueryProductTagService queryProductTagService;
-    private final QueryProductCategoryService queryProductCategoryService;
+    private final ElasticCommandManagerProductRepository elasticCommandManagerProductRepository;
+    private final ProductSearchSyncService productSearchSyncService;
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @Transactional(readOnly = true)
     public Long update(Long id) {
-        Product product = queryProductRepository.findProductById(id)
-                .orElseThrow(() -> new ClientException(
-                        ErrorCode.PRODUCT_NOT_FOUND,
-                        "Product not found with id : " + id
-                ));
-        elasticCommandProductRepository.save(create(product));
+        productSearchSyncService.requestSync(List.of(id));
         return id;
     }
 
@@ -63,15 +55,8 @@ public class ElasticCommandProductServiceImpl implements ElasticCommandProductSe
      * {@inheritDoc}
      */
     @Override
-    @Transactional(readOnly = true)
     public Long changeIsSale(Long id) {
-        SearchedProduct searchedProduct = elasticCommandProductRepository.findById(id)
-                .orElseThrow(() -> new ClientException(
-                        ErrorCode.PRODUCT_NOT_FOUND,
-                        "Product not found with id : " + id
-                ));
-        searchedProduct.changeIsSale();
-        elasticCommandProductRepository.save(searchedProduct);
+        productSearchSyncService.requestSync(List.of(id));
         return id;
     }
 
@@ -79,16 +64,8 @@ public class ElasticCommandProductServiceImpl implements ElasticCommandProductSe
      * {@inheritDoc}
      */
     @Override
-    @Transactional(readOnly = true)
     public Long changeIsForcedOutOfStock(Long id) {
-
-        SearchedProduct searchedProduct = elasticCommandProductRepository.findById(id)
-                .orElseThrow(() -> new ClientException(
-                        ErrorCode.PRODUCT_NOT_FOUND,
-                        "Product not found with id : " + id
-                ));
-        searchedProduct.changeIsForcedOutOfStock();
-        elasticCommandProductRepository.save(searchedProduct);
+        productSearchSyncService.requestSync(List.of(id));
         return id;
     }
 
@@ -96,59 +73,43 @@ public class ElasticCommandProductServiceImpl implements ElasticCommandProductSe
      * {@inheritDoc}
      */
     @Override
-    @Transactional(readOnly = true)
     public void delete(Long id) {
-        elasticCommandProductRepository.deleteByIdEquals(id);
+        productSearchSyncService.requestSync(List.of(id));
     }
 
-    private SearchedProduct create(Product product) {
-
-        return SearchedProduct.builder()
-                .id(product.getId())
-                .title(product.getTitle())
-                .contents(product.getContents())
-                .description(product.getDescription())
-                .actualPrice(product.getActualPrice())
-                .discountRate(product.getDiscountRate())
-                .isSeparatelyDiscount(product.isSeparatelyDiscount())
-                .isSale(product.isSale())
-                .quantity(product.getQuantity())
-                .isForcedOutOfStock(product.isForcedOutOfStock())
-                .searchedTotalDiscountRate(new SearchedProductTotalDiscountRate(product.getTotalDiscountRate()
-                        .getId(), product.getTotalDiscountRate().getDiscountRate()))
-                .preferentialShowRanking(product.getPreferentialShowRanking())
-                .isSubscriptionAvailable(product.isSubscriptionAvailable())
-                .thumbnailFile(product.getThumbnailFile().getUrl())
-                .isDeleted(product.isDeleted())
-                .publishedDate(findPublishDate(product))
-                .categories(findCategories(product))
-                .tags(findTags(product))
-                .publisher(findPublisher(product))
-                .authors(findAuthors(product))
-                .build();
-    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public int indexAllForManager() {
+        int count = 0;
+        ProductCursor cursor = null;
+        List<Product> products;
+        do {
+            products = queryProductRepository.findAllForManagerByCursor(cursor, CHUNK_SIZE, null);
+            if (products.isEmpty()) {
+                break;
+            }
+            elasticCommandManagerProductRepository.saveAll(products.stream()
+                    .map(product -> ManagerSearchedProduct.of(
+                            product,
+                            findPublisher(product).getName(),
+                            getAuthorNames(findAuthors(product))
+                    ))
+                    .collect(Collectors.toList()));
+            count += products.size();
+            cursor = ProductCursor.after(products.get(products.size() - 1));
+        } while (products.size() == CHUNK_SIZE);
 
-    private List<SearchedProductCategory> findCategories(Product product) {
-        List<SearchedProductCategory> categories = new ArrayList<>();
-        List<CategoryResponseDto> dtos = queryProductCategoryService.findCategoriesByProduct(product);
-        dtos.forEach(dto -> categories.add(new SearchedProductCategory(
-                dto.getId(),
-                dto.getParentId(),
-                dto.getName(),
-                dto.getIsShown(),
-                true
-        )));
-        return categories;
+        log.info("Indexed {} products for manager search", count);
+        return count;
     }
 
-    private List<SearchedProductTag> findTags(Product product) {
-        List<SearchedProductTag> tags = new ArrayList<>();
-        List<ProductTagResponseDto> dtos = queryProductTagService.findByProduct(product);
-        dtos.forEach(dto -> tags.add(new SearchedProductTag(
-                dto.getTag().getId(),
-                dto.getTag().getName()
-        )));
-        return tags;
+    private List<String> getAuthorNames(List<SearchedProductAuthor> authors) {
+        return authors.stream()
+                .map(SearchedProductAuthor::getName)
+                .collect(Collectors.toList());
     }
 
     private SearchedProductPublisher findPublisher(Product product) {
@@ -168,8 +129,4 @@ public class ElasticCommandProductServiceImpl implements ElasticCommandProductSe
         )));
         return authors;
     }
-
-    private LocalDate findPublishDate(Product product) {
-        return queryPublishService.findByProduct(product).getPublishedDate();
-    }
 }
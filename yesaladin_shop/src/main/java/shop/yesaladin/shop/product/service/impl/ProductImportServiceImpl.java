@@ -0,0 +1,370 @@
+package shop.yesaladin.shop.product.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import shop.yesaladin.common.code.ErrorCode;
+import shop.yesaladin.common.exception.ClientException;
+import shop.yesaladin.common.exception.ServerException;
+import shop.yesaladin.shop.common.exception.CustomJsonProcessingException;
+import shop.yesaladin.shop.config.ProductImportProperties;
+import shop.yesaladin.shop.product.domain.model.ManagerSearchedProduct;
+import shop.yesaladin.shop.product.domain.model.Product;
+import shop.yesaladin.shop.product.domain.model.SearchedProduct;
+import shop.yesaladin.shop.product.domain.model.SearchedProductAuthor;
+import shop.yesaladin.shop.product.domain.model.SearchedProductCategory;
+import shop.yesaladin.shop.product.domain.model.SearchedProductPublisher;
+import shop.yesaladin.shop.product.domain.model.SearchedProductTag;
+import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
+import shop.yesaladin.shop.product.domain.repository.ProductSearchIndexRepository;
+import shop.yesaladin.shop.product.domain.repository.QueryProductRepository;
+import shop.yesaladin.shop.product.domain.repository.QueryTotalDiscountRateRepository;
+import shop.yesaladin.shop.product.dto.ProductImportCategoryDto;
+import shop.yesaladin.shop.product.dto.ProductImportErrorDto;
+import shop.yesaladin.shop.product.dto.ProductImportFormat;
+import shop.yesaladin.shop.product.dto.ProductImportReferenceDto;
+import shop.yesaladin.shop.product.dto.ProductImportRowDto;
+import shop.yesaladin.shop.product.dto.ProductImportStatusResponseDto;
+import shop.yesaladin.shop.product.persistence.ElasticCommandManagerProductRepository;
+import shop.yesaladin.shop.product.persistence.ElasticCommandProductRepository;
+import shop.yesaladin.shop.product.service.batch.ProductImportChunkResult;
+import shop.yesaladin.shop.product.service.batch.ProductImportChunkWriter;
+import shop.yesaladin.shop.product.service.batch.ProductImportReader;
+import shop.yesaladin.shop.product.service.batch.ProductImportReader.Row;
+import shop.yesaladin.shop.product.service.inter.ProductImportService;
+
+/**
+ * 상품 일괄 등록을 위한 service 구현체 입니다.
+ * <p>
+ * 업로드한 파일은 임시 파일로 저장한 뒤 단일 작업 thread 에서 chunk 단위로 읽고, chunk 마다 하나의 트랜잭션으로 저장한 다음 검색 엔진에
+ * bulk 로 색인합니다. chunk 저장 중 DB 오류가 발생하면 해당 chunk 의 행을 하나씩 다시 저장하여 오류가 발생한 행만 제외합니다. 진행 상황은
+ * chunk 마다 Redis 에 기록합니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private static final String KEY_PREFIX = "PRODUCT_IMPORT:";
+    private static final int TOTAL_DISCOUNT_RATE_DEFAULT_ID = 1;
+
+    private final ProductImportChunkWriter productImportChunkWriter;
+    private final QueryTotalDiscountRateRepository queryTotalDiscountRateRepository;
+    private final QueryProductRepository queryProductRepository;
+    private final ElasticCommandProductRepository elasticCommandProductRepository;
+    private final ElasticCommandManagerProductRepository elasticCommandManagerProductRepository;
+    private final ProductSearchIndexRepository productSearchIndexRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductImportProperties properties;
+    private final Clock clock;
+
+    private ThreadPoolExecutor executor;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ProductImportStatusResponseDto start(ProductImportFormat format, MultipartFile file) {
+        if (Objects.isNull(file) || file.isEmpty()) {
+            throw new ClientException(ErrorCode.BAD_REQUEST, "Import file is empty.");
+        }
+
+        Path path = spool(format, file);
+        ProductImportStatusResponseDto status = ProductImportStatusResponseDto.waiting(
+                UUID.randomUUID().toString(),
+                format,
+                LocalDateTime.now(clock)
+        );
+        save(status);
+
+        // 응답으로 반환하는 객체와 작업 thread 가 갱신하는 객체를 분리합니다.
+        ProductImportStatusResponseDto job = ProductImportStatusResponseDto.waiting(
+                status.getJobId(),
+                format,
+                status.getRequestedDateTime()
+        );
+        try {
+            executor.execute(() -> run(job, path));
+        } catch (RejectedExecutionException e) {
+            redisTemplate.delete(KEY_PREFIX + status.getJobId());
+            delete(path);
+            throw new ClientException(
+                    ErrorCode.BAD_REQUEST,
+                    "Too many product imports are waiting. Try again later."
+            );
+        }
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ProductImportStatusResponseDto getStatus(String jobId) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + jobId);
+        if (Objects.isNull(value)) {
+            throw new ClientException(
+                    ErrorCode.NOT_FOUND,
+                    "Product import not found with id : " + jobId
+            );
+        }
+        try {
+            return objectMapper.readValue(value, ProductImportStatusResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomJsonProcessingException(e);
+        }
+    }
+
+    private Path spool(ProductImportFormat format, MultipartFile file) {
+        try {
+            Path path = Files.createTempFile("product-import-", "." + format.name().toLowerCase());
+            file.transferTo(path);
+            return path;
+        } catch (IOException e) {
+            throw new ServerException(
+                    ErrorCode.INTERNAL_SERVER_ERROR,
+                    "Cannot save import file : " + e.getMessage()
+            );
+        }
+    }
+
+    private void run(ProductImportStatusResponseDto status, Path path) {
+        status.start();
+        save(status);
+
+        try (ProductImportReader reader = ProductImportReader.open(
+                path,
+                status.getFormat(),
+                objectMapper
+        )) {
+            TotalDiscountRate totalDiscountRate = queryTotalDiscountRateRepository.findById(
+                            TOTAL_DISCOUNT_RATE_DEFAULT_ID)
+                    .orElseThrow(() -> new ClientException(
+                            ErrorCode.PRODUCT_TOTAL_DISCOUNT_RATE_NOT_EXIST,
+                            "TotalDiscountRate not exists with id : " + TOTAL_DISCOUNT_RATE_DEFAULT_ID
+                    ));
+
+            List<Row> chunk = new ArrayList<>(properties.getChunkSize());
+            Row row;
+            while (Objects.nonNull(row = reader.next())) {
+                chunk.add(row);
+                if (chunk.size() == properties.getChunkSize()) {
+                    process(status, chunk, totalDiscountRate);
+                    chunk = new ArrayList<>(properties.getChunkSize());
+                }
+            }
+            if (!chunk.isEmpty()) {
+                process(status, chunk, totalDiscountRate);
+            }
+            status.complete(LocalDateTime.now(clock));
+            log.info(
+                    "Product import finished: jobId -> {}, imported -> {}, failed -> {}",
+                    status.getJobId(),
+                    status.getImportedRows(),
+                    status.getFailedRows()
+            );
+        } catch (IOException | RuntimeException e) {
+            log.error("Product import failed: jobId -> {}", status.getJobId(), e);
+            status.fail(e.getMessage(), LocalDateTime.now(clock));
+        } finally {
+            save(status);
+            delete(path);
+        }
+    }
+
+    private void process(
+            ProductImportStatusResponseDto status,
+            List<Row> chunk,
+            TotalDiscountRate totalDiscountRate
+    ) {
+        ProductImportChunkResult result = write(chunk, totalDiscountRate);
+        status.addChunk(
+                chunk.size(),
+                result.getImported().size(),
+                result.getErrors(),
+                properties.getMaxReportedErrors()
+        );
+        try {
+            index(result);
+        } catch (RuntimeException e) {
+            log.error(
+                    "Product import indexing failed: jobId -> {}, products -> {}",
+                    status.getJobId(),
+                    result.getImported().size(),
+                    e
+            );
+            status.addUnindexed(result.getImported().size());
+        }
+        save(status);
+    }
+
+    /**
+     * chunk 를 저장합니다. DB 오류로 chunk 의 트랜잭션이 rollback 된 경우 행을 하나씩 저장하여 오류가 발생한 행만 제외합니다.
+     * <p>
+     * 작업 thread 를 거치지 않고 테스트할 수 있도록 package-private 으로 둡니다.
+     */
+    ProductImportChunkResult write(List<Row> chunk, TotalDiscountRate totalDiscountRate) {
+        try {
+            return productImportChunkWriter.write(chunk, totalDiscountRate);
+        } catch (DataAccessException e) {
+            log.warn("Product import chunk rolled back, retrying row by row", e);
+        }
+
+        List<ProductImportRowDto> imported = new ArrayList<>();
+        List<ProductImportErrorDto> errors = new ArrayList<>();
+        Map<Long, ProductImportReferenceDto> authors = new HashMap<>();
+        Map<Long, ProductImportReferenceDto> publishers = new HashMap<>();
+        Map<Long, ProductImportReferenceDto> tags = new HashMap<>();
+        Map<Long, ProductImportCategoryDto> categories = new HashMap<>();
+        for (Row row : chunk) {
+            ProductImportChunkResult result;
+            try {
+                result = productImportChunkWriter.write(List.of(row), totalDiscountRate);
+            } catch (DataAccessException e) {
+                result = ProductImportChunkResult.failed(List.of(new ProductImportErrorDto(
+                        row.getRowNumber(),
+                        row.getIsbn(),
+                        "Cannot save product : " + e.getMostSpecificCause().getMessage()
+                )));
+            }
+            imported.addAll(result.getImported());
+            errors.addAll(result.getErrors());
+            authors.putAll(result.getAuthors());
+            publishers.putAll(result.getPublishers());
+            tags.putAll(result.getTags());
+            categories.putAll(result.getCategories());
+        }
+        return new ProductImportChunkResult(imported, errors, authors, publishers, tags, categories);
+    }
+
+    /**
+     * 저장한 상품을 검색 엔진의 bulk API 로 색인합니다. 출판사, 저자, 태그, 카테고리는 chunk 저장 시 조회한 정보를 사용합니다.
+     */
+    private void index(ProductImportChunkResult result) {
+        if (result.getImported().isEmpty()) {
+            return;
+        }
+        Map<Long, ProductImportRowDto> rows = result.getImported()
+                .stream()
+                .collect(Collectors.toMap(ProductImportRowDto::getProductId, Function.identity()));
+        List<Product> products = queryProductRepository.findProductsByIds(new ArrayList<>(rows.keySet()));
+
+        List<SearchedProduct> documents = new ArrayList<>();
+        List<ManagerSearchedProduct> managerDocuments = new ArrayList<>();
+        for (Product product : products) {
+            ProductImportRowDto row = rows.get(product.getId());
+            ProductImportReferenceDto publisher = result.getPublishers().get(row.getPublisherId());
+            List<ProductImportReferenceDto> authors = row.getAuthorIds()
+                    .stream()
+                    .distinct()
+                    .map(result.getAuthors()::get)
+                    .collect(Collectors.toList());
+
+            documents.add(SearchedProduct.of(
+                    product,
+                    row.getPublishedDate(),
+                    row.getCategoryIds()
+                            .stream()
+                            .distinct()
+                            .map(result.getCategories()::get)
+                            .map(category -> new SearchedProductCategory(
+                                    category.getId(),
+                                    category.getParentId(),
+                                    category.getName(),
+                                    category.getIsShown(),
+                                    true
+                            ))
+                            .collect(Collectors.toList()),
+                    row.getTagIds()
+                            .stream()
+                            .distinct()
+                            .map(result.getTags()::get)
+                            .map(tag -> new SearchedProductTag(tag.getId(), tag.getName()))
+                            .collect(Collectors.toList()),
+                    new SearchedProductPublisher(publisher.getId(), publisher.getName()),
+                    authors.stream()
+                            .map(author -> new SearchedProductAuthor(author.getId(), author.getName()))
+                            .collect(Collectors.toList())
+            ));
+            managerDocuments.add(ManagerSearchedProduct.of(
+                    product,
+                    publisher.getName(),
+                    authors.stream()
+                            .map(ProductImportReferenceDto::getName)
+                            .collect(Collectors.toList())
+            ));
+        }
+        elasticCommandProductRepository.saveAll(documents);
+        productSearchIndexRepository.saveToPending(documents);
+        elasticCommandManagerProductRepository.saveAll(managerDocuments);
+    }
+
+    private void save(ProductImportStatusResponseDto status) {
+        try {
+            redisTemplate.opsForValue().set(
+                    KEY_PREFIX + status.getJobId(),
+                    objectMapper.writeValueAsString(status),
+                    Duration.ofHours(properties.getStatusTtlHours())
+            );
+        } catch (JsonProcessingException e) {
+            throw new CustomJsonProcessingException(e);
+        }
+    }
+
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Cannot delete product import file: {}", path, e);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        this.executor = new ThreadPoolExecutor(
+                1,
+                1,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("product-import-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdown();
+    }
+}
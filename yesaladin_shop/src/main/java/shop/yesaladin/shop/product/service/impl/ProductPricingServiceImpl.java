@@ -0,0 +1,104 @@
+package shop.yesaladin.shop.product.service.impl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.yesaladin.shop.product.domain.model.Product;
+import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
+import shop.yesaladin.shop.product.domain.repository.QueryProductRepository;
+import shop.yesaladin.shop.product.service.inter.ProductPricingService;
+import shop.yesaladin.shop.product.service.inter.ProductSearchSyncService;
+
+/**
+ * 상품 가격을 다시 계산하기 위한 Service 구현체 입니다.
+ * <p>
+ * 상품 하나의 가격은 상품이 저장될 때 다시 계산되므로, 이 클래스는 전체 할인율이 바뀌어 여러 상품의 가격이 한 번에 바뀌는 경우를 처리합니다.
+ * 상품은 id 순으로 나누어 조회하고, 같은 단위로 검색 인덱스에 반영할 변경을 기록합니다. 각 단위는 별도의 트랜잭션에서 commit 하고 영속성
+ * 컨텍스트를 비우므로, 상품 수와 관계없이 트랜잭션의 크기와 lock 유지 시간이 일정합니다.
+ * <p>
+ * 저장된 적용 할인율이 전체 할인율과 다른 상품만 다시 계산하므로, 중간에 실패하여 일부 상품만 다시 계산된 경우에도 다시 호출하면 남은 상품만
+ * 처리합니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class ProductPricingServiceImpl implements ProductPricingService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final QueryProductRepository queryProductRepository;
+    private final ProductSearchSyncService productSearchSyncService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate chunkTransaction;
+
+    public ProductPricingServiceImpl(
+            QueryProductRepository queryProductRepository,
+            ProductSearchSyncService productSearchSyncService,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.queryProductRepository = queryProductRepository;
+        this.productSearchSyncService = productSearchSyncService;
+        this.entityManager = entityManager;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int repriceByTotalDiscountRate(TotalDiscountRate totalDiscountRate) {
+        int count = 0;
+        long lastId = 0L;
+        List<Long> productIds;
+        do {
+            long after = lastId;
+            productIds = Objects.requireNonNull(chunkTransaction.execute(
+                    status -> repriceChunk(totalDiscountRate, after)
+            ));
+            if (productIds.isEmpty()) {
+                break;
+            }
+            count += productIds.size();
+            lastId = productIds.get(productIds.size() - 1);
+        } while (productIds.size() == CHUNK_SIZE);
+
+        log.info(
+                "Repriced {} products with total discount rate {}",
+                count,
+                totalDiscountRate.getDiscountRate()
+        );
+        return count;
+    }
+
+    private List<Long> repriceChunk(TotalDiscountRate totalDiscountRate, long lastId) {
+        List<Product> products = queryProductRepository.findStaleFollowingTotalDiscountRate(
+                totalDiscountRate.getId(),
+                totalDiscountRate.getDiscountRate(),
+                lastId,
+                CHUNK_SIZE
+        );
+        if (products.isEmpty()) {
+            return Collections.emptyList();
+        }
+        products.forEach(Product::refreshPrice);
+        List<Long> productIds = products.stream()
+                .map(Product::getId)
+                .collect(Collectors.toList());
+        productSearchSyncService.requestSync(productIds);
+
+        entityManager.flush();
+        entityManager.clear();
+        return productIds;
+    }
+}
@@ -0,0 +1,342 @@
+package shop.yesaladin.shop.product.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import shop.yesaladin.common.code.ErrorCode;
+import shop.yesaladin.common.exception.ClientException;
+import shop.yesaladin.shop.common.lock.RedisLock;
+import shop.yesaladin.shop.common.exception.CustomJsonProcessingException;
+import shop.yesaladin.shop.config.ProductReindexProperties;
+import shop.yesaladin.shop.product.domain.model.Product;
+import shop.yesaladin.shop.product.domain.repository.ProductSearchIndexRepository;
+import shop.yesaladin.shop.product.domain.repository.QueryProductRepository;
+import shop.yesaladin.shop.product.dto.ProductReindexSliceDto;
+import shop.yesaladin.shop.product.dto.ProductReindexStatus;
+import shop.yesaladin.shop.product.dto.ProductReindexStatusResponseDto;
+import shop.yesaladin.shop.product.service.batch.SearchedProductAssembler;
+import shop.yesaladin.shop.product.service.inter.ProductReindexService;
+
+/**
+ * 상품 검색 인덱스 전체 재색인을 위한 service 구현체 입니다.
+ * <p>
+ * 새 버전의 인덱스를 만들고, 상품 id 범위를 나눈 slice 들을 병렬로 id 순 chunk 단위로 읽어 bulk 로 색인한 뒤 검색 alias 를 한 번에 옮깁니다.
+ * 검색은 alias 를 옮기기 전까지 이전 인덱스를 사용하고, 재색인 중 변경된 상품은 pending alias 를 통해 새 인덱스에도 반영됩니다. slice 별
+ * 진행 위치는 chunk 마다 Redis 에 기록하여 중단된 작업을 이어서 진행할 수 있고, 초당 색인 문서 수를 제한하여 DB 와 검색 엔진의 부하를 조절합니다.
+ * 재색인 lock 은 chunk 마다 token 을 확인하여 연장하므로, lock 이 만료되어 다른 작업이 시작되면 먼저 시작된 작업은 실패 처리되고 다른 작업의 lock 을
+ * 해제하지 않습니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ProductReindexServiceImpl implements ProductReindexService {
+
+    private static final String STATUS_KEY = "PRODUCT_REINDEX:STATUS";
+    private static final String LOCK_KEY = "PRODUCT_REINDEX:LOCK";
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern(
+            "yyyyMMddHHmmss");
+
+    private final QueryProductRepository queryProductRepository;
+    private final SearchedProductAssembler searchedProductAssembler;
+    private final ProductSearchIndexRepository productSearchIndexRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLock redisLock;
+    private final ObjectMapper objectMapper;
+    private final ProductReindexProperties properties;
+    private final Clock clock;
+
+    private ThreadPoolExecutor jobExecutor;
+    private ThreadPoolExecutor sliceExecutor;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ProductReindexStatusResponseDto start() {
+        String token = redisLock.tryLock(LOCK_KEY, getLockTtl())
+                .orElseThrow(() -> new ClientException(
+                        ErrorCode.BAD_REQUEST,
+                        "Product reindex is already running."
+                ));
+
+        try {
+            ProductReindexStatusResponseDto status = findResumable().orElseGet(this::prepare);
+            save(status);
+            jobExecutor.execute(() -> run(status, token));
+            return read().orElse(status);
+        } catch (RejectedExecutionException e) {
+            redisLock.release(LOCK_KEY, token);
+            throw new ClientException(ErrorCode.BAD_REQUEST, "Product reindex is already running.");
+        } catch (RuntimeException e) {
+            redisLock.release(LOCK_KEY, token);
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ProductReindexStatusResponseDto getStatus() {
+        return read().orElseThrow(() -> new ClientException(
+                ErrorCode.NOT_FOUND,
+                "Product reindex has never been started."
+        ));
+    }
+
+    private Optional<ProductReindexStatusResponseDto> findResumable() {
+        return read().filter(status -> status.getStatus() != ProductReindexStatus.COMPLETED)
+                .filter(status -> productSearchIndexRepository.exists(status.getTargetIndex()))
+                .map(status -> {
+                    log.info(
+                            "Resuming product reindex: jobId -> {}, index -> {}",
+                            status.getJobId(),
+                            status.getTargetIndex()
+                    );
+                    status.resume();
+                    return status;
+                });
+    }
+
+    private ProductReindexStatusResponseDto prepare() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        String targetIndex = productSearchIndexRepository.createPendingIndex(now.format(VERSION_FORMAT));
+        long maxId = queryProductRepository.findMaxId();
+        int sliceCount = Math.max(1, properties.getSlices());
+
+        List<ProductReindexSliceDto> slices = new ArrayList<>();
+        long fromId = 0L;
+        for (int i = 1; i <= sliceCount; i++) {
+            long toId = i == sliceCount ? maxId : maxId * i / sliceCount;
+            if (toId > fromId) {
+                slices.add(ProductReindexSliceDto.of(fromId, toId));
+                fromId = toId;
+            }
+        }
+        log.info("Starting product reindex: index -> {}, maxId -> {}", targetIndex, maxId);
+        return ProductReindexStatusResponseDto.start(
+                UUID.randomUUID().toString(),
+                targetIndex,
+                slices,
+                now
+        );
+    }
+
+    private void run(ProductReindexStatusResponseDto status, String token) {
+        try {
+            indexSlices(status, status.getSlices(), token);
+
+            // 재색인 중에 등록된 상품을 색인합니다.
+            long maxId = queryProductRepository.findMaxId();
+            if (maxId > status.maxSliceId()) {
+                ProductReindexSliceDto tail = ProductReindexSliceDto.of(status.maxSliceId(), maxId);
+                synchronized (status) {
+                    status.addSlice(tail);
+                }
+                indexSlices(status, List.of(tail), token);
+            }
+
+            checkLock(token);
+            List<String> previousIndices = productSearchIndexRepository.switchAlias(status.getTargetIndex());
+            synchronized (status) {
+                status.complete(previousIndices, LocalDateTime.now(clock));
+                save(status);
+            }
+            log.info(
+                    "Product reindex finished: index -> {}, indexed -> {}, previous -> {}",
+                    status.getTargetIndex(),
+                    status.getIndexedCount(),
+                    previousIndices
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(status, e);
+        } catch (ExecutionException e) {
+            fail(status, Objects.isNull(e.getCause()) ? e : e.getCause());
+        } catch (RuntimeException e) {
+            fail(status, e);
+        } finally {
+            redisLock.release(LOCK_KEY, token);
+        }
+    }
+
+    private void indexSlices(
+            ProductReindexStatusResponseDto status,
+            List<ProductReindexSliceDto> slices,
+            String token
+    ) throws InterruptedException, ExecutionException {
+        List<Callable<Void>> tasks = slices.stream()
+                .filter(slice -> !slice.isCompleted())
+                .map(slice -> (Callable<Void>) () -> {
+                    indexSlice(status, slice, token);
+                    return null;
+                })
+                .collect(Collectors.toList());
+        for (Future<Void> future : sliceExecutor.invokeAll(tasks)) {
+            future.get();
+        }
+    }
+
+    private void indexSlice(
+            ProductReindexStatusResponseDto status,
+            ProductReindexSliceDto slice,
+            String token
+    ) throws InterruptedException {
+        int chunkSize = properties.getChunkSize();
+        List<Product> products;
+        do {
+            checkLock(token);
+            long startedNanos = System.nanoTime();
+            products = queryProductRepository.findProductsBetween(
+                    slice.getLastId(),
+                    slice.getToId(),
+                    chunkSize
+            );
+            if (products.isEmpty()) {
+                break;
+            }
+            productSearchIndexRepository.createAll(
+                    status.getTargetIndex(),
+                    searchedProductAssembler.assemble(products)
+            );
+            synchronized (status) {
+                status.advance(slice, products.get(products.size() - 1).getId(), products.size());
+                save(status);
+            }
+            throttle(products.size(), startedNanos);
+        } while (products.size() == chunkSize);
+
+        synchronized (status) {
+            slice.complete();
+            save(status);
+        }
+    }
+
+    /**
+     * slice 하나가 1초에 색인하는 문서 수가 설정 값을 slice 수로 나눈 값을 넘지 않도록 대기합니다.
+     */
+    private void throttle(int indexed, long startedNanos) throws InterruptedException {
+        if (properties.getMaxDocsPerSecond() <= 0) {
+            return;
+        }
+        double docsPerSecond = (double) properties.getMaxDocsPerSecond()
+                / Math.max(1, properties.getSlices());
+        long expectedMillis = (long) (indexed * 1000 / docsPerSecond);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+        if (expectedMillis > elapsedMillis) {
+            Thread.sleep(expectedMillis - elapsedMillis);
+        }
+    }
+
+    /**
+     * lock 을 여전히 가지고 있으면 만료 시간을 늘리고, 다른 작업이 lock 을 획득했으면 예외를 던져 작업을 중단합니다.
+     */
+    private void checkLock(String token) {
+        if (!redisLock.extend(LOCK_KEY, token, getLockTtl())) {
+            throw new LockLostException();
+        }
+    }
+
+    private Duration getLockTtl() {
+        return Duration.ofMinutes(properties.getLockTtlMinutes());
+    }
+
+    private void fail(ProductReindexStatusResponseDto status, Throwable e) {
+        if (e instanceof LockLostException) {
+            // 다른 작업이 진행 상황을 기록하고 있으므로 덮어쓰지 않습니다.
+            log.warn("Product reindex stopped, lock was lost: index -> {}", status.getTargetIndex());
+            return;
+        }
+        log.error("Product reindex failed: index -> {}", status.getTargetIndex(), e);
+        synchronized (status) {
+            status.fail(e.getMessage(), LocalDateTime.now(clock));
+            save(status);
+        }
+    }
+
+    private Optional<ProductReindexStatusResponseDto> read() {
+        String value = redisTemplate.opsForValue().get(STATUS_KEY);
+        if (Objects.isNull(value)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(value, ProductReindexStatusResponseDto.class));
+        } catch (JsonProcessingException e) {
+            throw new CustomJsonProcessingException(e);
+        }
+    }
+
+    private void save(ProductReindexStatusResponseDto status) {
+        try {
+            redisTemplate.opsForValue().set(STATUS_KEY, objectMapper.writeValueAsString(status));
+        } catch (JsonProcessingException e) {
+            throw new CustomJsonProcessingException(e);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        this.jobExecutor = new ThreadPoolExecutor(
+                1,
+                1,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1),
+                new CustomizableThreadFactory("product-reindex-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        jobExecutor.allowCoreThreadTimeOut(true);
+
+        int sliceCount = Math.max(1, properties.getSlices());
+        this.sliceExecutor = new ThreadPoolExecutor(
+                sliceCount,
+                sliceCount,
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("product-reindex-slice-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        sliceExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        jobExecutor.shutdownNow();
+        sliceExecutor.shutdownNow();
+    }
+
+    private static class LockLostException extends IllegalStateException {
+
+        private LockLostException() {
+            super("Product reindex lock was lost.");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package shop.yesaladin.shop.product.service.impl;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.yesaladin.shop.product.domain.repository.ProductSearchChangeRepository;
+import shop.yesaladin.shop.product.service.inter.ProductSearchSyncService;
+
+/**
+ * 상품 변경 사항을 검색 인덱스에 반영하도록 요청하기 위한 service 구현체 입니다.
+ * <p>
+ * 검색 엔진을 직접 호출하지 않고 변경된 상품의 id 만 DB 에 기록하므로, 상품을 변경하는 요청의 응답 시간과 성공 여부가 검색 엔진의 영향을 받지 않습니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Service
+public class ProductSearchSyncServiceImpl implements ProductSearchSyncService {
+
+    private final ProductSearchChangeRepository productSearchChangeRepository;
+    private final Clock clock;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public void requestSync(Collection<Long> productIds) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(productIds));
+        distinctIds.removeIf(Objects::isNull);
+        if (distinctIds.isEmpty()) {
+            return;
+        }
+        productSearchChangeRepository.insertChanges(distinctIds, LocalDateTime.now(clock));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public void requestSyncByThumbnailFile(Long thumbnailFileId) {
+        if (Objects.isNull(thumbnailFileId)) {
+            return;
+        }
+        productSearchChangeRepository.insertChangesByThumbnailFileId(
+                thumbnailFileId,
+                LocalDateTime.now(clock)
+        );
+    }
+}
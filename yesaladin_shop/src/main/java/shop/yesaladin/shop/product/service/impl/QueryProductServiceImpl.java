@@ -1,9 +1,12 @@
 package shop.yesaladin.shop.product.service.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,10 +19,17 @@ import org.springframework.transaction.annotation.Transactional;
 import shop.yesaladin.common.code.ErrorCode;
 import shop.yesaladin.common.exception.ClientException;
 import shop.yesaladin.shop.category.service.inter.QueryProductCategoryService;
+import shop.yesaladin.shop.common.dto.CursorPaginatedResponseDto;
 import shop.yesaladin.shop.common.dto.PaginatedResponseDto;
+import shop.yesaladin.shop.config.ProductListProperties;
+import shop.yesaladin.shop.file.service.inter.ImageVariantService;
 import shop.yesaladin.shop.product.domain.model.Product;
 import shop.yesaladin.shop.product.domain.repository.QueryProductRepository;
+import shop.yesaladin.shop.product.domain.repository.SearchManagerProductRepository;
+import shop.yesaladin.shop.product.persistence.ProductCountCache;
+import shop.yesaladin.shop.product.dto.ProductCursor;
 import shop.yesaladin.shop.product.dto.ProductDetailResponseDto;
+import shop.yesaladin.shop.product.dto.ProductManagerSearchType;
 import shop.yesaladin.shop.product.dto.ProductModifyDto;
 import shop.yesaladin.shop.product.dto.ProductOnlyTitleDto;
 import shop.yesaladin.shop.product.dto.ProductOrderRequestDto;
@@ -53,15 +63,16 @@ import shop.yesaladin.shop.writing.service.inter.QueryWritingService;
 @Service
 public class QueryProductServiceImpl implements QueryProductService {
 
-    private static final float PERCENT_DENOMINATOR_VALUE = 100;
-    private static final long ROUND_OFF_VALUE = 10;
-
     private final QueryProductRepository queryProductRepository;
 
     private final QueryWritingService queryWritingService;
     private final QueryPublishService queryPublishService;
     private final QueryProductTagService queryProductTagService;
     private final QueryProductCategoryService queryProductCategoryService;
+    private final ImageVariantService imageVariantService;
+    private final ProductCountCache productCountCache;
+    private final ProductListProperties productListProperties;
+    private final SearchManagerProductRepository searchManagerProductRepository;
 
     /**
      * {@inheritDoc}
@@ -116,7 +127,6 @@ public class QueryProductServiceImpl implements QueryProductService {
                         "Target product not found with id : " + id
                 ));
 
-        int rate = getRateByProduct(product);
         PublishResponseDto publish = queryPublishService.findByProduct(product);
 
         return new ProductResponseDto(
@@ -125,7 +135,7 @@ public class QueryProductServiceImpl implements QueryProductService {
                 product.getThumbnailFile().getUrl(),
                 findAuthorsByProduct(product),
                 PublisherResponseDto.getPublisherFromPublish(publish),
-                calcSellingPrice(product.getActualPrice(), rate)
+                product.getSellingPrice()
         );
     }
 
@@ -141,7 +151,7 @@ public class QueryProductServiceImpl implements QueryProductService {
                         "Target product not found with id : " + id
                 ));
 
-        int rate = getRateByProduct(product);
+        int rate = product.getAppliedDiscountRate();
         PublishResponseDto publish = queryPublishService.findByProduct(product);
 
         return ProductDetailResponseDto.builder()
@@ -157,9 +167,9 @@ public class QueryProductServiceImpl implements QueryProductService {
                 .tags(findTagsByProduct(product))
                 .categories(queryProductCategoryService.findCategoriesByProduct(product))
                 .actualPrice(product.getActualPrice())
-                .sellingPrice(calcSellingPrice(product.getActualPrice(), rate))
+                .sellingPrice(product.getSellingPrice())
                 .discountRate(rate)
-                .pointPrice(getPointPrice(product))
+                .pointPrice(product.getPointPrice())
                 .pointRate(product.getGivenPointRate())
                 .isEbook(isEbook(product))
                 .isSubscriptionAvailable(product.isSubscriptionAvailable())
@@ -223,18 +233,19 @@ public class QueryProductServiceImpl implements QueryProductService {
                                 "Product not found with id : " + Long.parseLong(key)
                         )))
                 .forEach(product -> {
-                    int rate = getRateByProduct(product);
+                    int rate = product.getAppliedDiscountRate();
 
                     viewCart.add(ViewCartDto.builder()
                             .id(product.getId())
                             .quantity(Integer.parseInt(cart.get(product.getId().toString())))
                             .thumbnailFileUrl(product.getThumbnailFile().getUrl())
+                            .thumbnailVariantUrls(imageVariantService.getVariantUrls(product.getThumbnailFile()))
                             .isbn(product.getIsbn())
                             .title(product.getTitle())
                             .actualPrice(product.getActualPrice())
-                            .sellingPrice(calcSellingPrice(product.getActualPrice(), rate))
+                            .sellingPrice(product.getSellingPrice())
                             .discountRate(rate)
-                            .pointPrice(getPointPrice(product))
+                            .pointPrice(product.getPointPrice())
                             .isOutOfStack(
                                     product.isForcedOutOfStock() || product.getQuantity() <= 0)
                             .isSale(product.isSale())
@@ -289,10 +300,7 @@ public class QueryProductServiceImpl implements QueryProductService {
             String title,
             Pageable pageable
     ) {
-        return getProductPaginatedResponses(queryProductRepository.findByTitleForManager(
-                title,
-                pageable
-        ));
+        return searchForManager(ProductManagerSearchType.TITLE, title, pageable);
     }
 
     /**
@@ -304,10 +312,7 @@ public class QueryProductServiceImpl implements QueryProductService {
             String isbn,
             Pageable pageable
     ) {
-        return getProductPaginatedResponses(queryProductRepository.findByISBNForManager(
-                isbn,
-                pageable
-        ));
+        return searchForManager(ProductManagerSearchType.ISBN, isbn, pageable);
     }
 
     /**
@@ -319,10 +324,7 @@ public class QueryProductServiceImpl implements QueryProductService {
             String content,
             Pageable pageable
     ) {
-        return getProductPaginatedResponses(queryProductRepository.findByContentForManager(
-                content,
-                pageable
-        ));
+        return searchForManager(ProductManagerSearchType.CONTENT, content, pageable);
     }
 
     /**
@@ -334,10 +336,7 @@ public class QueryProductServiceImpl implements QueryProductService {
             String publisher,
             Pageable pageable
     ) {
-        return getProductPaginatedResponses(queryProductRepository.findByPublisherForManager(
-                publisher,
-                pageable
-        ));
+        return searchForManager(ProductManagerSearchType.PUBLISHER, publisher, pageable);
     }
 
     /**
@@ -349,12 +348,198 @@ public class QueryProductServiceImpl implements QueryProductService {
             String author,
             Pageable pageable
     ) {
-        return getProductPaginatedResponses(queryProductRepository.findByAuthorForManager(
-                author,
-                pageable
+        return searchForManager(ProductManagerSearchType.AUTHOR, author, pageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPaginatedResponseDto<ProductsResponseDto> findAllByCursor(
+            String cursor,
+            int size,
+            Integer typeId
+    ) {
+        int limit = limitSize(size);
+        return getProductCursorResponses(
+                queryProductRepository.findAllByCursor(
+                        ProductCursor.decode(cursor),
+                        limit + 1,
+                        typeId
+                ),
+                limit,
+                "all:" + typeId,
+                () -> queryProductRepository.countAll(typeId)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPaginatedResponseDto<ProductsResponseDto> findAllForManagerByCursor(
+            String cursor,
+            int size,
+            Integer typeId
+    ) {
+        int limit = limitSize(size);
+        return getProductCursorResponses(
+                queryProductRepository.findAllForManagerByCursor(
+                        ProductCursor.decode(cursor),
+                        limit + 1,
+                        typeId
+                ),
+                limit,
+                "manager:" + typeId,
+                () -> queryProductRepository.countAllForManager(typeId)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPaginatedResponseDto<ProductsResponseDto> findForManagerByCursor(
+            ProductManagerSearchType type,
+            String keyword,
+            String cursor,
+            int size
+    ) {
+        int limit = limitSize(size);
+        List<ProductCursor> hits = searchManagerProductRepository.searchCursorsAfter(
+                type,
+                keyword,
+                ProductCursor.decode(cursor),
+                limit + 1
+        );
+        boolean hasNext = hits.size() > limit;
+        List<ProductCursor> page = hasNext ? hits.subList(0, limit) : hits;
+
+        // DB 에서 삭제되어 제외된 상품이 있어도 검색 결과의 마지막 위치에서 다음 페이지를 이어가야 상품을 반복하거나 건너뛰지 않습니다.
+        return toCursorResponses(
+                findProductsInOrder(page.stream()
+                        .map(ProductCursor::getId)
+                        .collect(Collectors.toList())),
+                hasNext ? page.get(limit - 1) : null,
+                "manager:" + type + ":" + keyword,
+                () -> searchManagerProductRepository.count(type, keyword)
+        );
+    }
+
+    /**
+     * 관리자 검색 인덱스에서 검색한 상품을 페이징된 dto 로 반환합니다.
+     *
+     * @param type     검색 기준
+     * @param keyword  검색어
+     * @param pageable 페이지 정보
+     * @return PaginatedResponseDto
+     * @author 김선홍
+     * @since 1.0
+     */
+    private PaginatedResponseDto<ProductsResponseDto> searchForManager(
+            ProductManagerSearchType type,
+            String keyword,
+            Pageable pageable
+    ) {
+        Page<Long> ids = searchManagerProductRepository.searchIds(type, keyword, pageable);
+        return getProductPaginatedResponses(new PageImpl<>(
+                findProductsInOrder(ids.getContent()),
+                pageable,
+                ids.getTotalElements()
         ));
     }
 
+    /**
+     * id 리스트의 상품을 한 번에 조회하여 id 리스트의 순서대로 반환합니다. 삭제된 상품은 제외됩니다.
+     *
+     * @param ids 조회할 상품 id 리스트
+     * @return 조회된 상품 리스트
+     * @author 김선홍
+     * @since 1.0
+     */
+    private List<Product> findProductsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Product> products = queryProductRepository.findProductsByIds(ids)
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 한 페이지에 조회할 상품 수를 1 이상, 설정된 최대값 이하로 제한합니다.
+     *
+     * @param size 요청된 상품 수
+     * @return 제한된 상품 수
+     * @author 이수정
+     * @since 1.0
+     */
+    private int limitSize(int size) {
+        return Math.max(1, Math.min(size, productListProperties.getMaxSize()));
+    }
+
+    /**
+     * size + 1 개 조회된 상품 리스트를 바탕으로 다음 페이지 여부와 cursor 를 담은 dto 객체를 반환합니다.
+     *
+     * @param products       size + 1 개까지 조회된 상품 리스트
+     * @param size           페이지의 상품 수
+     * @param countCondition 전체 개수를 캐시할 조건 key
+     * @param counter        전체 개수를 세는 함수
+     * @return CursorPaginatedResponseDto
+     * @author 이수정
+     * @since 1.0
+     */
+    private CursorPaginatedResponseDto<ProductsResponseDto> getProductCursorResponses(
+            List<Product> products,
+            int size,
+            String countCondition,
+            LongSupplier counter
+    ) {
+        boolean hasNext = products.size() > size;
+        List<Product> content = hasNext ? products.subList(0, size) : products;
+
+        return toCursorResponses(
+                content,
+                hasNext ? ProductCursor.after(content.get(size - 1)) : null,
+                countCondition,
+                counter
+        );
+    }
+
+    /**
+     * 한 페이지의 상품 리스트와 다음 페이지 cursor 로 dto 객체를 반환합니다.
+     *
+     * @param content        페이지의 상품 리스트
+     * @param next           다음 페이지 cursor, 마지막 페이지인 경우 null
+     * @param countCondition 전체 개수를 캐시할 조건 key
+     * @param counter        전체 개수를 세는 함수
+     * @return CursorPaginatedResponseDto
+     * @author 이수정
+     * @since 1.0
+     */
+    private CursorPaginatedResponseDto<ProductsResponseDto> toCursorResponses(
+            List<Product> content,
+            ProductCursor next,
+            String countCondition,
+            LongSupplier counter
+    ) {
+        return CursorPaginatedResponseDto.<ProductsResponseDto>builder()
+                .dataList(content.stream()
+                        .map(this::toProductsResponseDto)
+                        .collect(Collectors.toList()))
+                .nextCursor(Objects.nonNull(next) ? next.encode() : null)
+                .hasNext(Objects.nonNull(next))
+                .totalDataCount(productCountCache.get(countCondition, counter))
+                .build();
+    }
+
     /**
      * 전체 조회된 page 객체를 바탕으로 전체 조회 화면에 내보낼 정보를 담은 dto page 객체를 반환합니다.
      *
@@ -367,28 +552,7 @@ public class QueryProductServiceImpl implements QueryProductService {
         List<ProductsResponseDto> products = new ArrayList<>();
 
         for (Product product : page.getContent()) {
-            int rate = getRateByProduct(product);
-            PublishResponseDto publish = queryPublishService.findByProduct(product);
-
-            products.add(ProductsResponseDto.builder()
-                    .id(product.getId())
-                    .title(product.getTitle())
-                    .authors(findAuthorsByProduct(product))
-                    .publisher(PublisherResponseDto.getPublisherFromPublish(publish))
-                    .publishedDate(publish.getPublishedDate().toString())
-                    .sellingPrice(calcSellingPrice(product.getActualPrice(), rate))
-                    .discountRate(rate)
-                    .quantity(product.getQuantity())
-                    .isSale(product.isSale())
-                    .isForcedOutOfStock(product.isForcedOutOfStock())
-                    .isShown(product.isSale() && !product.isDeleted())
-                    .isDeleted(product.isDeleted())
-                    .thumbnailFileUrl(product.getThumbnailFile().getUrl())
-                    .tags(findTagsByProduct(product))
-                    .ebookFileUrl(isEbook(product) ? product.getEbookFile().getUrl() : null)
-                    .isEbook(isEbook(product))
-                    .isSubscribeProduct(product.isSubscriptionAvailable())
-                    .build());
+            products.add(toProductsResponseDto(product));
         }
 
         return PaginatedResponseDto.<ProductsResponseDto>builder()
@@ -399,6 +563,39 @@ public class QueryProductServiceImpl implements QueryProductService {
                 .build();
     }
 
+    /**
+     * 상품을 목록 화면에 내보낼 정보를 담은 dto 로 변환합니다.
+     *
+     * @param product 변환할 상품
+     * @return ProductsResponseDto
+     * @author 이수정
+     * @since 1.0
+     */
+    private ProductsResponseDto toProductsResponseDto(Product product) {
+        PublishResponseDto publish = queryPublishService.findByProduct(product);
+
+        return ProductsResponseDto.builder()
+                .id(product.getId())
+                .title(product.getTitle())
+                .authors(findAuthorsByProduct(product))
+                .publisher(PublisherResponseDto.getPublisherFromPublish(publish))
+                .publishedDate(publish.getPublishedDate().toString())
+                .sellingPrice(product.getSellingPrice())
+                .discountRate(product.getAppliedDiscountRate())
+                .quantity(product.getQuantity())
+                .isSale(product.isSale())
+                .isForcedOutOfStock(product.isForcedOutOfStock())
+                .isShown(product.isSale() && !product.isDeleted())
+                .isDeleted(product.isDeleted())
+                .thumbnailFileUrl(product.getThumbnailFile().getUrl())
+                .thumbnailVariantUrls(imageVariantService.getVariantUrls(product.getThumbnailFile()))
+                .tags(findTagsByProduct(product))
+                .ebookFileUrl(isEbook(product) ? product.getEbookFile().getUrl() : null)
+                .isEbook(isEbook(product))
+                .isSubscribeProduct(product.isSubscriptionAvailable())
+                .build();
+    }
+
     /**
      * 상품의 판매여부를 반환합니다.
      *
@@ -426,51 +623,6 @@ public class QueryProductServiceImpl implements QueryProductService {
                 .isBlank();
     }
 
-    /**
-     * 상품의 정가, 할인율을 바탕으로 판매가를 계산해 반환합니다.
-     *
-     * @param actualPrice 상품의 정가
-     * @param rate        상품의 할인율(전체 / 개별)
-     * @return 계산된 상품의 판매가
-     * @author 이수정
-     * @since 1.0
-     */
-    private long calcSellingPrice(long actualPrice, int rate) {
-        if (rate > 0) {
-            return Math.round((actualPrice - actualPrice * rate / PERCENT_DENOMINATOR_VALUE)
-                    / ROUND_OFF_VALUE) * ROUND_OFF_VALUE;
-        }
-        return actualPrice;
-    }
-
-    /**
-     * 상품의 할인율을 얻어 반환합니다.
-     *
-     * @param product 할인율을 구할 상품
-     * @return 상품의 할인율
-     * @author 이수정
-     * @since 1.0
-     */
-    private int getRateByProduct(Product product) {
-        return product.isSeparatelyDiscount()
-                ? product.getDiscountRate() : product.getTotalDiscountRate().getDiscountRate();
-    }
-
-    /**
-     * 상품의 포인트를 반환합니다.
-     *
-     * @param product 포인트를 얻을 상품
-     * @return 상품의 포인트
-     * @author 이수정
-     * @since 1.0
-     */
-    private long getPointPrice(Product product) {
-        return product.isGivenPoint() && product.getGivenPointRate() != 0 ?
-                Math.round((product.getActualPrice() * product.getGivenPointRate()
-                        / PERCENT_DENOMINATOR_VALUE)
-                        / ROUND_OFF_VALUE) * ROUND_OFF_VALUE : 0;
-    }
-
     /**
      * 상품의 저자 조회을 요청하여 응답받고 응답받은 저자 Dto List에서 저자의 이름을 추출하여 반환합니다.
      *
@@ -581,10 +733,7 @@ public class QueryProductServiceImpl implements QueryProductService {
             List<AuthorsResponseDto> author = findAuthorsByProduct(product);
             PublishResponseDto publish = queryPublishService.findByProduct(product);
 
-            int rate = product.getTotalDiscountRate().getDiscountRate();
-            if (product.isSeparatelyDiscount()) {
-                rate = product.getDiscountRate();
-            }
+            int rate = product.getAppliedDiscountRate();
 
             dtoList.add(new RelationsResponseDto(
                     product.getId(),
@@ -593,7 +742,7 @@ public class QueryProductServiceImpl implements QueryProductService {
                     author.stream().map(AuthorsResponseDto::getName).collect(Collectors.toList()),
                     publish.getPublisher().getName(),
                     publish.getPublishedDate().toString(),
-                    calcSellingPrice(product.getActualPrice(), rate),
+                    product.getSellingPrice(),
                     rate
             ));
 
@@ -643,6 +792,50 @@ public class QueryProductServiceImpl implements QueryProductService {
         ), pageable);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductRecentResponseDto> findProductSummariesByIds(List<Long> ids) {
+        if (Objects.isNull(ids) || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Product> products = queryProductRepository.findProductsByIds(ids);
+        Map<Long, List<String>> authors = queryWritingService.findByProducts(products).stream()
+                .collect(Collectors.groupingBy(
+                        writing -> writing.getProduct().getId(),
+                        Collectors.mapping(writing -> writing.getAuthor().getName(), Collectors.toList())
+                ));
+        Map<Long, String> publishers = queryPublishService.findByProducts(products).stream()
+                .collect(Collectors.toMap(
+                        publish -> publish.getProduct().getId(),
+                        publish -> publish.getPublisher().getName(),
+                        (first, second) -> first
+                ));
+        Map<Long, Product> productById = products.stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<ProductRecentResponseDto> dtoList = new ArrayList<>(products.size());
+        for (Long id : ids) {
+            Product product = productById.get(id);
+            if (Objects.isNull(product)) {
+                continue;
+            }
+            int rate = product.getAppliedDiscountRate();
+            dtoList.add(ProductRecentResponseDto.fromEntity(
+                    product,
+                    product.getSellingPrice(),
+                    rate,
+                    publishers.get(id),
+                    authors.getOrDefault(id, Collections.emptyList()),
+                    imageVariantService.getVariantUrls(product.getThumbnailFile())
+            ));
+        }
+        return dtoList;
+    }
+
     /**
      * 신간 상품과 최근 본 상품에서 Entity에서 Dto로 변환해주는 메서드
      *
@@ -661,16 +854,14 @@ public class QueryProductServiceImpl implements QueryProductService {
             List<AuthorsResponseDto> author = findAuthorsByProduct(product);
             PublishResponseDto publish = queryPublishService.findByProduct(product);
 
-            int rate = product.getTotalDiscountRate().getDiscountRate();
-            if (product.isSeparatelyDiscount()) {
-                rate = product.getDiscountRate();
-            }
+            int rate = product.getAppliedDiscountRate();
             dtoList.add(ProductRecentResponseDto.fromEntity(
                     product,
-                    calcSellingPrice(product.getActualPrice(), rate),
+                    product.getSellingPrice(),
                     rate,
                     publish.getPublisher().getName(),
-                    author.stream().map(AuthorsResponseDto::getName).collect(Collectors.toList())
+                    author.stream().map(AuthorsResponseDto::getName).collect(Collectors.toList()),
+                    imageVariantService.getVariantUrls(product.getThumbnailFile())
             ));
         }
         return new PageImpl<>(dtoList, pageable, products.getTotalElements());
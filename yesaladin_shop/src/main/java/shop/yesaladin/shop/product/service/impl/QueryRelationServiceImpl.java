@@ -28,9 +28,6 @@ import shop.yesaladin.shop.writing.service.inter.QueryWritingService;
 @Service
 public class QueryRelationServiceImpl implements QueryRelationService {
 
-    private static final float PERCENT_DENOMINATOR_VALUE = 100;
-    private static final long ROUND_OFF_VALUE = 10;
-
     private final QueryRelationRepository queryRelationRepository;
     private final QueryWritingService queryWritingService;
     private final QueryPublishService queryPublishService;
@@ -80,11 +77,8 @@ public class QueryRelationServiceImpl implements QueryRelationService {
             PublishResponseDto publisher = queryPublishService.findByProduct(product);
 
             // 가격
-            int rate = product.getTotalDiscountRate().getDiscountRate();
-            if (product.isSeparatelyDiscount()) {
-                rate = product.getDiscountRate();
-            }
-            long sellingPrice = calcSellingPrice(product, rate);
+            int rate = product.getAppliedDiscountRate();
+            long sellingPrice = product.getSellingPrice();
 
             relations.add(new RelationsResponseDto(
                     product.getId(),
@@ -119,19 +113,4 @@ public class QueryRelationServiceImpl implements QueryRelationService {
                 .map(writing -> writing.getAuthor().getName())
                 .collect(Collectors.toList());
     }
-
-    /**
-     * 상품의 정가, 할인율을 바탕으로 판매가를 계산해 반환합니다.
-     *
-     * @param product 정가를 계산할 상품
-     * @param rate    상품의 할인율(전체 / 개별)
-     * @return 계산된 상품의 판매가
-     * @author 이수정
-     * @since 1.0
-     */
-    private long calcSellingPrice(Product product, int rate) {
-        return Math.round((product.getActualPrice()
-                - product.getActualPrice() * rate / PERCENT_DENOMINATOR_VALUE) / ROUND_OFF_VALUE)
-                * ROUND_OFF_VALUE;
-    }
 }
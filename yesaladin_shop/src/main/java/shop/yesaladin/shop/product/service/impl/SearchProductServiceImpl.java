@@ -1,11 +1,20 @@
 package shop.yesaladin.shop.product.service.impl;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import shop.yesaladin.shop.config.ProductSuggestProperties;
 import shop.yesaladin.shop.product.domain.repository.SearchProductRepository;
+import shop.yesaladin.shop.product.dto.ProductFacetSearchResponseDto;
+import shop.yesaladin.shop.product.dto.ProductSearchRequestDto;
 import shop.yesaladin.shop.product.dto.SearchedProductResponseDto;
+import shop.yesaladin.shop.product.persistence.ProductSuggestionCache;
 import shop.yesaladin.shop.product.service.inter.SearchProductService;
 
 /**
@@ -14,11 +23,14 @@ import shop.yesaladin.shop.product.service.inter.SearchProductService;
  * @author : 김선홍
  * @since : 1.0
  */
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class SearchProductServiceImpl implements SearchProductService {
 
     private final SearchProductRepository searchProductRepository;
+    private final ProductSuggestionCache productSuggestionCache;
+    private final ProductSuggestProperties productSuggestProperties;
 
     /**
      * {@inheritDoc}
@@ -87,4 +99,37 @@ public class SearchProductServiceImpl implements SearchProductService {
     public Page<SearchedProductResponseDto> searchProductsByTag(String tag, Pageable pageable) {
         return searchProductRepository.searchProductsByTag(tag, pageable);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ProductFacetSearchResponseDto searchProducts(
+            ProductSearchRequestDto request, Pageable pageable
+    ) {
+        return searchProductRepository.searchProducts(request, pageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> suggestProducts(String prefix) {
+        if (Objects.isNull(prefix) || prefix.isBlank()) {
+            return Collections.emptyList();
+        }
+        String normalized = prefix.strip().toLowerCase(Locale.ROOT);
+        try {
+            return productSuggestionCache.get(
+                    normalized,
+                    () -> searchProductRepository.suggestProducts(
+                            normalized,
+                            productSuggestProperties.getSize()
+                    )
+            );
+        } catch (RuntimeException e) {
+            log.warn("Product suggestion failed: prefix -> {}", normalized, e);
+            return Collections.emptyList();
+        }
+    }
 }
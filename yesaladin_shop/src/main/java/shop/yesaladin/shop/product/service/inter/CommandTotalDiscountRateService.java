@@ -12,7 +12,7 @@ import shop.yesaladin.shop.product.dto.TotalDiscountRateResponseDto;
 public interface CommandTotalDiscountRateService {
 
     /**
-     * 전체 할인율을 수정하여 DB에 저장하고, 수정한 전체 할인율 객체를 리턴합니다.
+     * 전체 할인율을 수정하여 DB에 저장하고, 수정한 전체 할인율 객체를 리턴합니다. 전체 할인율을 따르는 상품의 가격도 다시 계산됩니다.
      *
      * @param totalDiscountRate 전체 할인율 엔터티
      * @return 등록된 전체 할인율 객체
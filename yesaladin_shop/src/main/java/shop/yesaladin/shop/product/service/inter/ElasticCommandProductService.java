@@ -9,7 +9,7 @@ package shop.yesaladin.shop.product.service.inter;
 public interface ElasticCommandProductService {
 
     /**
-     * 엘라스틱서치 상품 업데이트 메서드
+     * 상품의 현재 상태를 엘라스틱서치에 반영하도록 요청하는 메서드
      *
      * @param id 수정할 상품의 id
      * @return 수정된 상품의 id
@@ -19,7 +19,7 @@ public interface ElasticCommandProductService {
     Long update(Long id);
 
     /**
-     * 판매 여부 상태 변경 메서드
+     * 판매 여부 상태 변경을 엘라스틱서치에 반영하도록 요청하는 메서드
      *
      * @param id 수정할 상품의 id
      * @return 수정된 상품의 id
@@ -29,7 +29,7 @@ public interface ElasticCommandProductService {
     Long changeIsSale(Long id);
 
     /**
-     * 강제 품절 상태 변경 메서드
+     * 강제 품절 상태 변경을 엘라스틱서치에 반영하도록 요청하는 메서드
      *
      * @param id 수정할 상품의 id
      * @return 수정된 상품의 id
@@ -39,11 +39,20 @@ public interface ElasticCommandProductService {
     Long changeIsForcedOutOfStock(Long id);
 
     /**
-     * 엘라스틱서치에 상품을 삭제하는 메서드
+     * 삭제된 상품을 엘라스틱서치에서 삭제하도록 요청하는 메서드
      *
      * @param id 삭제할 상품의 id
      * @author 김선홍
      * @since 1.0
      */
     void delete(Long id);
+
+    /**
+     * 모든 상품을 관리자 검색 인덱스에 색인하는 메서드
+     *
+     * @return 색인된 상품의 수
+     * @author 김선홍
+     * @since 1.0
+     */
+    int indexAllForManager();
 }
@@ -0,0 +1,35 @@
+package shop.yesaladin.shop.product.service.inter;
+
+import org.springframework.web.multipart.MultipartFile;
+import shop.yesaladin.shop.product.dto.ProductImportFormat;
+import shop.yesaladin.shop.product.dto.ProductImportStatusResponseDto;
+
+/**
+ * 상품 일괄 등록을 위한 service 인터페이스 입니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+public interface ProductImportService {
+
+    /**
+     * 일괄 등록 파일을 받아 등록 작업을 대기열에 넣습니다. 등록은 비동기로 진행되며 진행 상황은 작업 id 로 조회합니다.
+     *
+     * @param format 파일 형식
+     * @param file   일괄 등록 파일
+     * @return 대기 상태의 작업
+     * @author 이수정
+     * @since 1.0
+     */
+    ProductImportStatusResponseDto start(ProductImportFormat format, MultipartFile file);
+
+    /**
+     * 일괄 등록 작업의 진행 상황을 조회합니다.
+     *
+     * @param jobId 작업 id
+     * @return 작업의 진행 상황과 등록하지 못한 행
+     * @author 이수정
+     * @since 1.0
+     */
+    ProductImportStatusResponseDto getStatus(String jobId);
+}
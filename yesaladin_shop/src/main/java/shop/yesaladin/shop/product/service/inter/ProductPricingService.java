@@ -0,0 +1,23 @@
+package shop.yesaladin.shop.product.service.inter;
+
+import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
+
+/**
+ * 상품 가격을 다시 계산하기 위한 Service Interface 입니다.
+ *
+ * @author 이수정
+ * @since 1.0
+ */
+public interface ProductPricingService {
+
+    /**
+     * 전체 할인율을 따르는 상품 중 아직 전체 할인율로 가격이 계산되지 않은 상품의 가격을 다시 계산하여 저장하고, 같은 트랜잭션에서 검색 인덱스에
+     * 반영할 변경을 기록합니다. 이미 다시 계산된 상품은 건너뛰므로 여러 번 호출해도 결과가 같습니다.
+     *
+     * @param totalDiscountRate 변경된 전체 할인율
+     * @return 가격이 다시 계산된 상품 수
+     * @author 이수정
+     * @since 1.0
+     */
+    int repriceByTotalDiscountRate(TotalDiscountRate totalDiscountRate);
+}
@@ -0,0 +1,30 @@
+package shop.yesaladin.shop.product.service.inter;
+
+import shop.yesaladin.shop.product.dto.ProductReindexStatusResponseDto;
+
+/**
+ * 상품 검색 인덱스 전체 재색인을 위한 service 인터페이스 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+public interface ProductReindexService {
+
+    /**
+     * 전체 재색인을 시작합니다. 완료되지 않은 이전 작업이 있으면 마지막으로 색인한 위치부터 이어서 진행합니다.
+     *
+     * @return 진행 상태의 작업
+     * @author 김선홍
+     * @since 1.0
+     */
+    ProductReindexStatusResponseDto start();
+
+    /**
+     * 마지막 재색인 작업의 진행 상황을 조회합니다.
+     *
+     * @return 작업의 진행 상황
+     * @author 김선홍
+     * @since 1.0
+     */
+    ProductReindexStatusResponseDto getStatus();
+}
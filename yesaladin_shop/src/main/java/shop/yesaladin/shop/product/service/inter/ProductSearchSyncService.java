@@ -0,0 +1,30 @@
+package shop.yesaladin.shop.product.service.inter;
+
+import java.util.Collection;
+
+/**
+ * 상품 변경 사항을 검색 인덱스에 반영하도록 요청하기 위한 service 인터페이스 입니다.
+ *
+ * @author 김선홍
+ * @since 1.0
+ */
+public interface ProductSearchSyncService {
+
+    /**
+     * 상품이 변경되었음을 기록합니다. 진행 중인 트랜잭션이 있으면 같은 트랜잭션에서 기록되고, 커밋된 이후 검색 인덱스에 비동기로 반영됩니다.
+     *
+     * @param productIds 변경된 상품 id 목록
+     * @author 김선홍
+     * @since 1.0
+     */
+    void requestSync(Collection<Long> productIds);
+
+    /**
+     * 썸네일 파일을 사용하는 상품들이 변경되었음을 기록합니다. 썸네일 변환본이 생성되어 검색 문서의 이미지 url이 바뀐 경우에 사용합니다.
+     *
+     * @param thumbnailFileId 썸네일 파일 id
+     * @author 김선홍
+     * @since 1.0
+     */
+    void requestSyncByThumbnailFile(Long thumbnailFileId);
+}
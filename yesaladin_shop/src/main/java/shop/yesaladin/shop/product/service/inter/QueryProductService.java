@@ -4,8 +4,10 @@ import java.util.List;
 import java.util.Map;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import shop.yesaladin.shop.common.dto.CursorPaginatedResponseDto;
 import shop.yesaladin.shop.common.dto.PaginatedResponseDto;
 import shop.yesaladin.shop.product.dto.ProductDetailResponseDto;
+import shop.yesaladin.shop.product.dto.ProductManagerSearchType;
 import shop.yesaladin.shop.product.dto.ProductModifyDto;
 import shop.yesaladin.shop.product.dto.ProductOnlyTitleDto;
 import shop.yesaladin.shop.product.dto.ProductOrderRequestDto;
@@ -119,6 +121,56 @@ public interface QueryProductService {
      */
     PaginatedResponseDto<ProductsResponseDto> findAllForManager(Pageable pageable, Integer typeId);
 
+    /**
+     * 모든사용자용 상품 리스트를 cursor 기반으로 반환합니다. 페이지의 깊이와 관계없이 같은 비용으로 조회합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지인 경우 null
+     * @param size   조회할 상품 수
+     * @param typeId 상품 유형 id, 전체 조회인 경우 null
+     * @return 조회된 상품 dto와 다음 페이지 cursor를 담은 객체
+     * @author 이수정
+     * @since 1.0
+     */
+    CursorPaginatedResponseDto<ProductsResponseDto> findAllByCursor(
+            String cursor,
+            int size,
+            Integer typeId
+    );
+
+    /**
+     * 관리자용 상품 리스트를 cursor 기반으로 반환합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지인 경우 null
+     * @param size   조회할 상품 수
+     * @param typeId 상품 유형 id, 전체 조회인 경우 null
+     * @return 조회된 상품 dto와 다음 페이지 cursor를 담은 객체
+     * @author 이수정
+     * @since 1.0
+     */
+    CursorPaginatedResponseDto<ProductsResponseDto> findAllForManagerByCursor(
+            String cursor,
+            int size,
+            Integer typeId
+    );
+
+    /**
+     * 관리자용 상품 검색 결과를 cursor 기반으로 반환합니다.
+     *
+     * @param type    검색 기준
+     * @param keyword 검색어
+     * @param cursor  이전 응답의 nextCursor, 첫 페이지인 경우 null
+     * @param size    조회할 상품 수
+     * @return 조회된 상품 dto와 다음 페이지 cursor를 담은 객체
+     * @author 이수정
+     * @since 1.0
+     */
+    CursorPaginatedResponseDto<ProductsResponseDto> findForManagerByCursor(
+            ProductManagerSearchType type,
+            String keyword,
+            String cursor,
+            int size
+    );
+
     /**
      * 관리자용 상품 제목 검색 메서드
      *
@@ -253,4 +305,14 @@ public interface QueryProductService {
             List<Long> pageIds,
             Pageable pageable
     );
+
+    /**
+     * 상품 id 목록의 요약 정보를 한 번에 조회합니다. 최근 본 상품처럼 순서가 정해진 목록을 그리기 위해 사용합니다.
+     *
+     * @param ids 조회할 상품 id 리스트
+     * @return 요청한 id 순서대로 정렬된 상품 요약 리스트, 삭제되었거나 존재하지 않는 상품은 제외됩니다.
+     * @author 김선홍
+     * @since 1.0
+     */
+    List<ProductRecentResponseDto> findProductSummariesByIds(List<Long> ids);
 }
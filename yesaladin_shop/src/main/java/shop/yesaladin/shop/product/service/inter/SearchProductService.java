@@ -1,7 +1,10 @@
 package shop.yesaladin.shop.product.service.inter;
 
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import shop.yesaladin.shop.product.dto.ProductFacetSearchResponseDto;
+import shop.yesaladin.shop.product.dto.ProductSearchRequestDto;
 import shop.yesaladin.shop.product.dto.SearchedProductResponseDto;
 
 /**
@@ -99,5 +102,26 @@ public interface SearchProductService {
      */
     Page<SearchedProductResponseDto> searchProductsByTag(String tag, Pageable pageable);
 
+    /**
+     * 검색어와 여러 필터 조건으로 상품을 검색하고, 필터별 상품 수를 함께 조회하는 메서드
+     *
+     * @param request  검색어와 필터 조건
+     * @param pageable 페이지정보
+     * @return 상품 리스트와 필터별 상품 수
+     * @author : 김선홍
+     * @since : 1.0
+     */
+    ProductFacetSearchResponseDto searchProducts(ProductSearchRequestDto request, Pageable pageable);
 
+    /**
+     * 입력 중인 접두어로 시작하는 상품 제목, 출판사, 저자 이름을 자동 완성하는 메서드
+     * <p>
+     * 같은 접두어의 결과는 잠시 캐시되며, 검색 엔진에 요청할 수 없으면 빈 리스트를 반환합니다.
+     *
+     * @param prefix 사용자가 입력 중인 접두어
+     * @return 자동 완성 검색어 리스트
+     * @author : 김선홍
+     * @since : 1.0
+     */
+    List<String> suggestProducts(String prefix);
 }
@@ -1,5 +1,7 @@
 package shop.yesaladin.shop.publish.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import shop.yesaladin.shop.product.domain.model.Product;
 import shop.yesaladin.shop.publish.domain.model.Publish;
@@ -14,5 +16,7 @@ public interface QueryPublishRepository {
 
     Optional<Publish> findByProduct(Product product);
 
+    List<Publish> findByProductIn(Collection<Product> products);
+
     boolean existsByProduct(Product product);
 }
@@ -1,6 +1,11 @@
 package shop.yesaladin.shop.publish.persistence;
 
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import shop.yesaladin.shop.product.domain.model.Product;
 import shop.yesaladin.shop.publish.domain.model.Publish;
 import shop.yesaladin.shop.publish.domain.model.Publish.Pk;
 import shop.yesaladin.shop.publish.domain.repository.CommandPublishRepository;
@@ -15,4 +20,15 @@ import shop.yesaladin.shop.publish.domain.repository.QueryPublishRepository;
 public interface JpaPublishRepository extends Repository<Publish, Pk>,
         CommandPublishRepository, QueryPublishRepository {
 
+    /**
+     * 여러 상품의 출판 정보를 출판사와 함께 한 번의 쿼리로 조회합니다.
+     *
+     * @param products 출판 정보를 조회할 상품 목록
+     * @return 상품들의 출판 정보 목록
+     * @author 이수정
+     * @since 1.0
+     */
+    @Override
+    @Query("select p from Publish p join fetch p.publisher where p.product in :products")
+    List<Publish> findByProductIn(@Param("products") Collection<Product> products);
 }
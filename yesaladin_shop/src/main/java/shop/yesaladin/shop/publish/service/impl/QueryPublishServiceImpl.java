@@ -1,5 +1,8 @@
 package shop.yesaladin.shop.publish.service.impl;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,4 +45,23 @@ public class QueryPublishServiceImpl implements QueryPublishService {
                 publish.getPublisher()
         );
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<PublishResponseDto> findByProducts(List<Product> products) {
+        if (products.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return queryPublishRepository.findByProductIn(products).stream()
+                .map(publish -> new PublishResponseDto(
+                        publish.getPk(),
+                        publish.getPublishedDate(),
+                        publish.getProduct(),
+                        publish.getPublisher()
+                ))
+                .collect(Collectors.toList());
+    }
 }
@@ -1,5 +1,6 @@
 package shop.yesaladin.shop.publish.service.inter;
 
+import java.util.List;
 import shop.yesaladin.shop.product.domain.model.Product;
 import shop.yesaladin.shop.publish.dto.PublishResponseDto;
 
@@ -20,4 +21,14 @@ public interface QueryPublishService {
      * @since 1.0
      */
     PublishResponseDto findByProduct(Product product);
+
+    /**
+     * 여러 상품의 출판을 한 번에 조회하여 조회된 출판 Dto List를 반환합니다. 출판이 없는 상품은 결과에 포함되지 않습니다.
+     *
+     * @param products 출판을 조회할 product List
+     * @return 조회된 출판 dto List
+     * @author 김선홍
+     * @since 1.0
+     */
+    List<PublishResponseDto> findByProducts(List<Product> products);
 }
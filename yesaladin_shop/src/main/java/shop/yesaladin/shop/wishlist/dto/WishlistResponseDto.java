@@ -2,6 +2,7 @@ package shop.yesaladin.shop.wishlist.dto;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,6 +24,7 @@ public class WishlistResponseDto {
     private Long id;
     private String title;
     private String thumbnailFileUrl;
+    private Map<String, String> thumbnailVariantUrls;
     private long sellingPrice;
     private int rate;
     private String publisher;
@@ -37,12 +39,14 @@ public class WishlistResponseDto {
             List<String> author,
             LocalDateTime registeredDateTime,
             Long sellingPrice,
-            int rate
+            int rate,
+            Map<String, String> thumbnailVariantUrls
     ) {
         return WishlistResponseDto.builder()
                 .id(product.getId())
                 .title(product.getTitle())
                 .thumbnailFileUrl(product.getThumbnailFile().getUrl())
+                .thumbnailVariantUrls(thumbnailVariantUrls)
                 .sellingPrice(sellingPrice)
                 .rate(rate)
                 .author(author)
@@ -9,6 +9,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import shop.yesaladin.shop.file.service.inter.ImageVariantService;
 import shop.yesaladin.shop.member.domain.model.Member;
 import shop.yesaladin.shop.member.service.inter.QueryMemberService;
 import shop.yesaladin.shop.product.domain.model.Product;
@@ -30,12 +31,11 @@ import shop.yesaladin.shop.writing.service.inter.QueryWritingService;
 @Service
 public class QueryWishlistServiceImpl implements QueryWishlistService {
 
-    private static final float PERCENT_DENOMINATOR_VALUE = 100;
-    private static final long ROUND_OFF_VALUE = 10;
     private final QueryWishlistRepository queryWishlistRepository;
     private final QueryMemberService queryMemberService;
     private final QueryPublishService queryPublishService;
     private final QueryWritingService queryWritingService;
+    private final ImageVariantService imageVariantService;
 
     /**
      * {@inheritDoc}
@@ -51,10 +51,7 @@ public class QueryWishlistServiceImpl implements QueryWishlistService {
         );
         List<WishlistResponseDto> list = new ArrayList<>();
         for (Wishlist wishlist : wishlists) {
-            int rate = wishlist.getProduct().getTotalDiscountRate().getDiscountRate();
-            if (wishlist.getProduct().isSeparatelyDiscount()) {
-                rate = wishlist.getProduct().getDiscountRate();
-            }
+            int rate = wishlist.getProduct().getAppliedDiscountRate();
             List<AuthorsResponseDto> author = findAuthorsByProduct(wishlist.getProduct());
             String publisher = queryPublishService.findByProduct(wishlist.getProduct())
                     .getPublisher()
@@ -64,8 +61,9 @@ public class QueryWishlistServiceImpl implements QueryWishlistService {
                     publisher,
                     author.stream().map(AuthorsResponseDto::getName).collect(Collectors.toList()),
                     wishlist.getRegisteredDateTime(),
-                    calcSellingPrice(wishlist.getProduct().getActualPrice(), rate),
-                    rate
+                    wishlist.getProduct().getSellingPrice(),
+                    rate,
+                    imageVariantService.getVariantUrls(wishlist.getProduct().getThumbnailFile())
             ));
         }
 
@@ -82,23 +80,6 @@ public class QueryWishlistServiceImpl implements QueryWishlistService {
         return queryWishlistRepository.existsByMemberIdAndProductId(member.getId(), productId);
     }
 
-    /**
-     * 판매가 계산
-     *
-     * @param actualPrice 실 가격
-     * @param rate        할인율
-     * @return 판매가
-     * @author 김선홍
-     * @since 1.0
-     */
-    private long calcSellingPrice(long actualPrice, int rate) {
-        if (rate > 0) {
-            return Math.round((actualPrice - actualPrice * rate / PERCENT_DENOMINATOR_VALUE)
-                    / ROUND_OFF_VALUE) * ROUND_OFF_VALUE;
-        }
-        return actualPrice;
-    }
-
     /**
      * 저자 구하는 메서드
      *
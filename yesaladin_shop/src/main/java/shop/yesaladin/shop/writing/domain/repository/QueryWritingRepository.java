@@ -1,5 +1,6 @@
 package shop.yesaladin.shop.writing.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import shop.yesaladin.shop.product.domain.model.Product;
 import shop.yesaladin.shop.writing.domain.model.Writing;
@@ -14,5 +15,7 @@ public interface QueryWritingRepository {
 
     List<Writing> findByProduct(Product product);
 
+    List<Writing> findByProductIn(Collection<Product> products);
+
     boolean existsByProduct(Product product);
 }
@@ -1,6 +1,11 @@
 package shop.yesaladin.shop.writing.persistence;
 
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import shop.yesaladin.shop.product.domain.model.Product;
 import shop.yesaladin.shop.writing.domain.model.Writing;
 import shop.yesaladin.shop.writing.domain.repository.CommandWritingRepository;
 import shop.yesaladin.shop.writing.domain.repository.QueryWritingRepository;
@@ -14,4 +19,18 @@ import shop.yesaladin.shop.writing.domain.repository.QueryWritingRepository;
 public interface JpaWritingRepository extends Repository<Writing, Long>,
         CommandWritingRepository, QueryWritingRepository {
 
+    /**
+     * 여러 상품의 집필 정보를 저자, 저자 회원과 함께 한 번의 쿼리로 조회합니다.
+     *
+     * @param products 집필 정보를 조회할 상품 목록
+     * @return 상품들의 집필 정보 목록
+     * @author 이수정
+     * @since 1.0
+     */
+    @Override
+    @Query("select w from Writing w "
+            + "join fetch w.author a "
+            + "left join fetch a.member "
+            + "where w.product in :products")
+    List<Writing> findByProductIn(@Param("products") Collection<Product> products);
 }
@@ -1,5 +1,6 @@
 package shop.yesaladin.shop.writing.service.impl;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -37,4 +38,18 @@ public class QueryWritingServiceImpl implements QueryWritingService {
                 .map(writing -> new WritingResponseDto(writing.getProduct(), writing.getAuthor()))
                 .collect(Collectors.toList());
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<WritingResponseDto> findByProducts(List<Product> products) {
+        if (products.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return queryWritingRepository.findByProductIn(products).stream()
+                .map(writing -> new WritingResponseDto(writing.getProduct(), writing.getAuthor()))
+                .collect(Collectors.toList());
+    }
 }
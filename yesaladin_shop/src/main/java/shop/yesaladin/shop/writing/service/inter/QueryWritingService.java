@@ -21,4 +21,14 @@ public interface QueryWritingService {
      * @since 1.0
      */
     List<WritingResponseDto> findByProduct(Product product);
+
+    /**
+     * 여러 상품의 집필 관계를 한 번에 조회하여 Dto List로 반환합니다.
+     *
+     * @param products 관계를 조회할 상품 List
+     * @return 조회된 집필 관계 dto List
+     * @author 김선홍
+     * @since 1.0
+     */
+    List<WritingResponseDto> findByProducts(List<Product> products);
 }
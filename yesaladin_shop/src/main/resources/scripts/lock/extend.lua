@@ -0,0 +1,8 @@
+-- lock 을 획득할 때 저장한 token 과 값이 같을 때만 만료 시간을 늘립니다. 늘리면 1, 아니면 0 을 반환합니다.
+-- KEYS[1] lock key
+-- ARGV[1] lock token
+-- ARGV[2] 만료 시간(ms)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
@@ -0,0 +1,7 @@
+-- lock 을 획득할 때 저장한 token 과 값이 같을 때만 lock 을 해제합니다. 해제하면 1, 아니면 0 을 반환합니다.
+-- KEYS[1] lock key
+-- ARGV[1] lock token
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
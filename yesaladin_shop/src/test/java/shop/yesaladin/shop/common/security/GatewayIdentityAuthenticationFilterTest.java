@@ -0,0 +1,200 @@
+package shop.yesaladin.shop.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class GatewayIdentityAuthenticationFilterTest {
+
+    private static final String SECRET = "gateway-identity-secret-for-test";
+
+    private final Clock clock = Clock.fixed(
+            Instant.parse("2023-01-19T00:00:00.000Z"),
+            ZoneId.of("UTC")
+    );
+
+    private GatewayIdentityAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new GatewayIdentityAuthenticationFilter(SECRET, 30000L, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("사용자 정보 헤더가 없는 경우 인증 정보를 생성하지 않고 그대로 통과한다.")
+    void doFilter_withoutIdentityHeaders() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        //when
+        filter.doFilter(request, response, chain);
+
+        //then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(((HttpServletRequest) chain.getRequest()).getHeader(HttpHeaders.AUTHORIZATION))
+                .isEqualTo("Bearer token");
+    }
+
+    @Test
+    @DisplayName("서명이 올바른 경우 인증 정보를 생성하고 Authorization 헤더를 감춘다.")
+    void doFilter_trusted() throws Exception {
+        //given
+        String timestamp = String.valueOf(clock.millis());
+        MockHttpServletRequest request = signedRequest("user", "ROLE_USER,ROLE_ADMIN", timestamp);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        //when
+        filter.doFilter(request, response, chain);
+
+        //then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getName()).isEqualTo("user");
+        assertThat(authentication.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER", "ROLE_ADMIN");
+        assertThat(((HttpServletRequest) chain.getRequest()).getHeader(HttpHeaders.AUTHORIZATION))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("서명이 올바르지 않은 경우 401로 응답한다.")
+    void doFilter_invalidSignature() throws Exception {
+        //given
+        String timestamp = String.valueOf(clock.millis());
+        MockHttpServletRequest request = signedRequest("user", "ROLE_USER", timestamp);
+        request.removeHeader(GatewayIdentityAuthenticationFilter.ROLES_HEADER);
+        request.addHeader(GatewayIdentityAuthenticationFilter.ROLES_HEADER, "ROLE_ADMIN");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        //when
+        filter.doFilter(request, response, chain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("서명 시각이 허용 범위를 벗어난 경우 401로 응답한다.")
+    void doFilter_expiredTimestamp() throws Exception {
+        //given
+        String timestamp = String.valueOf(clock.millis() - 60000L);
+        MockHttpServletRequest request = signedRequest("user", "ROLE_USER", timestamp);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        //when
+        filter.doFilter(request, response, chain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("Gateway의 IdentityHeaderSigner가 같은 secret으로 만든 서명을 신뢰한다.")
+    void doFilter_gatewaySignature() throws Exception {
+        //given
+        MockHttpServletRequest request = gatewaySignedRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        //when
+        filter.doFilter(request, response, chain);
+
+        //then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName())
+                .isEqualTo("user");
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Gateway가 서명한 헤더라도 서명 시각이 허용 범위를 벗어나면 401로 응답한다.")
+    void doFilter_gatewaySignature_stale() throws Exception {
+        //given
+        GatewayIdentityAuthenticationFilter staleFilter = new GatewayIdentityAuthenticationFilter(
+                SECRET,
+                30000L,
+                Clock.offset(clock, Duration.ofSeconds(31))
+        );
+        MockHttpServletRequest request = gatewaySignedRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        //when
+        staleFilter.doFilter(request, response, chain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    /**
+     * Gateway의 JwtPreValidationFilterTest.sign_matchesShopVerification 에서 IdentityHeaderSigner가 만든 서명과
+     * 같은 값입니다.
+     */
+    private MockHttpServletRequest gatewaySignedRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        request.addHeader(GatewayIdentityAuthenticationFilter.LOGIN_ID_HEADER, "user");
+        request.addHeader(GatewayIdentityAuthenticationFilter.ROLES_HEADER, "ROLE_USER,ROLE_ADMIN");
+        request.addHeader(
+                GatewayIdentityAuthenticationFilter.TIMESTAMP_HEADER,
+                String.valueOf(clock.millis())
+        );
+        request.addHeader(
+                GatewayIdentityAuthenticationFilter.SIGNATURE_HEADER,
+                "gPID41Tuxvm1CTimmHOmn-MBfan2xwCRFRcMm0BWRy8"
+        );
+        return request;
+    }
+
+    private static MockHttpServletRequest signedRequest(String loginId, String roles, String timestamp)
+            throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String signature = Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(mac.doFinal((loginId + "\n" + roles + "\n" + timestamp)
+                        .getBytes(StandardCharsets.UTF_8)));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        request.addHeader(GatewayIdentityAuthenticationFilter.LOGIN_ID_HEADER, loginId);
+        request.addHeader(GatewayIdentityAuthenticationFilter.ROLES_HEADER, roles);
+        request.addHeader(GatewayIdentityAuthenticationFilter.TIMESTAMP_HEADER, timestamp);
+        request.addHeader(GatewayIdentityAuthenticationFilter.SIGNATURE_HEADER, signature);
+        return request;
+    }
+}
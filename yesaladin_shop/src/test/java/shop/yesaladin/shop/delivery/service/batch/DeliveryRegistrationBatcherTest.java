@@ -0,0 +1,178 @@
+package shop.yesaladin.shop.delivery.service.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import shop.yesaladin.common.dto.ResponseDto;
+import shop.yesaladin.shop.common.lock.RedisLock;
+import shop.yesaladin.shop.config.DeliveryBatchProperties;
+import shop.yesaladin.shop.config.GatewayProperties;
+import shop.yesaladin.shop.delivery.domain.repository.DeliveryRegistrationRepository;
+import shop.yesaladin.shop.delivery.dto.DeliveryRegistrationDto;
+import shop.yesaladin.shop.delivery.dto.TransportBatchRequestDto;
+import shop.yesaladin.shop.delivery.dto.TransportResponseDto;
+import shop.yesaladin.shop.delivery.service.inter.DeliveryRegistrationService;
+
+class DeliveryRegistrationBatcherTest {
+
+    private static final String DELIVERY_URL = "http://localhost:8080";
+    private static final String TOKEN = "token";
+    private static final Clock CLOCK = Clock.fixed(
+            Instant.parse("2023-01-20T00:00:00.000Z"),
+            ZoneId.of("UTC")
+    );
+
+    private RestTemplate restTemplate;
+    private DeliveryRegistrationRepository deliveryRegistrationRepository;
+    private DeliveryRegistrationService deliveryRegistrationService;
+    private RedisLock redisLock;
+    private DeliveryRegistrationBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = Mockito.mock(RestTemplate.class);
+        deliveryRegistrationRepository = Mockito.mock(DeliveryRegistrationRepository.class);
+        deliveryRegistrationService = Mockito.mock(DeliveryRegistrationService.class);
+        redisLock = Mockito.mock(RedisLock.class);
+        GatewayProperties gatewayProperties = Mockito.mock(GatewayProperties.class);
+        DeliveryBatchProperties batchProperties = Mockito.mock(DeliveryBatchProperties.class);
+
+        when(gatewayProperties.getDeliveryUrl()).thenReturn(DELIVERY_URL);
+        when(batchProperties.getMaxSize()).thenReturn(2);
+        when(batchProperties.getRetryBaseDelayMs()).thenReturn(1000L);
+        when(batchProperties.getRetryMaxDelayMs()).thenReturn(300000L);
+        when(batchProperties.getLockTtlSeconds()).thenReturn(60L);
+        when(redisLock.tryLock(anyString(), any())).thenReturn(Optional.of(TOKEN));
+        when(redisLock.extend(anyString(), eq(TOKEN), any())).thenReturn(true);
+
+        batcher = new DeliveryRegistrationBatcher(
+                restTemplate,
+                gatewayProperties,
+                batchProperties,
+                deliveryRegistrationRepository,
+                deliveryRegistrationService,
+                redisLock,
+                CLOCK
+        );
+    }
+
+    @Test
+    @DisplayName("기록된 배송 등록 요청을 최대 크기 단위로 나누어 전송하고 전송한 요청을 완료 처리한다.")
+    void flush() {
+        //given
+        List<DeliveryRegistrationDto> first = List.of(
+                new DeliveryRegistrationDto(10L, 1L, 0),
+                new DeliveryRegistrationDto(11L, 2L, 0)
+        );
+        List<DeliveryRegistrationDto> second = List.of(new DeliveryRegistrationDto(12L, 3L, 0));
+        when(deliveryRegistrationRepository.findReady(any(), anyInt())).thenReturn(first, second);
+        Mockito.doReturn(response(1L, 2L), response(3L)).when(restTemplate).exchange(
+                anyString(),
+                eq(HttpMethod.POST),
+                any(HttpEntity.class),
+                any(ParameterizedTypeReference.class)
+        );
+
+        //when
+        int registered = batcher.flush();
+
+        //then
+        assertThat(registered).isEqualTo(3);
+
+        ArgumentCaptor<HttpEntity<TransportBatchRequestDto>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(2)).exchange(
+                eq(DELIVERY_URL + "/api/delivery/batch"),
+                eq(HttpMethod.POST),
+                captor.capture(),
+                any(ParameterizedTypeReference.class)
+        );
+        assertThat(captor.getAllValues())
+                .extracting(entity -> entity.getBody().getOrderIds())
+                .containsExactly(List.of(1L, 2L), List.of(3L));
+        verify(deliveryRegistrationService, times(1)).completeRegistration(
+                List.of(10L, 11L),
+                List.of(1L, 2L)
+        );
+        verify(deliveryRegistrationService, times(1)).completeRegistration(List.of(12L), List.of(3L));
+        verify(redisLock, times(1)).release(anyString(), eq(TOKEN));
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 요청은 시도 횟수에 따라 늘어난 시간만큼 미루고 예외를 던지지 않는다.")
+    void flush_deferAfterFailure() {
+        //given
+        when(deliveryRegistrationRepository.findReady(any(), anyInt()))
+                .thenReturn(List.of(new DeliveryRegistrationDto(10L, 1L, 2)));
+        Mockito.doThrow(new ResourceAccessException("timeout")).when(restTemplate).exchange(
+                anyString(),
+                eq(HttpMethod.POST),
+                any(HttpEntity.class),
+                any(ParameterizedTypeReference.class)
+        );
+
+        //when
+        int registered = batcher.flush();
+
+        //then
+        assertThat(registered).isZero();
+        verify(deliveryRegistrationRepository, times(1)).deferByIds(
+                List.of(10L),
+                LocalDateTime.now(CLOCK).plusSeconds(4)
+        );
+        verify(deliveryRegistrationService, never()).completeRegistration(any(), any());
+        verify(redisLock, times(1)).release(anyString(), eq(TOKEN));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 lock 을 가지고 있으면 요청을 조회하지 않는다.")
+    void flush_lockNotAcquired() {
+        //given
+        when(redisLock.tryLock(anyString(), any())).thenReturn(Optional.empty());
+
+        //when
+        int registered = batcher.flush();
+
+        //then
+        assertThat(registered).isZero();
+        verify(deliveryRegistrationRepository, never()).findReady(any(), anyInt());
+        verify(redisLock, never()).release(anyString(), anyString());
+    }
+
+    private static ResponseEntity<ResponseDto<List<TransportResponseDto>>> response(Long... orderIds) {
+        List<TransportResponseDto> data = Arrays.stream(orderIds)
+                .map(orderId -> new TransportResponseDto(orderId, null, null, orderId, "tracking", "INPROGRESS"))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(ResponseDto.<List<TransportResponseDto>>builder()
+                .success(true)
+                .status(HttpStatus.CREATED)
+                .data(data)
+                .build());
+    }
+}
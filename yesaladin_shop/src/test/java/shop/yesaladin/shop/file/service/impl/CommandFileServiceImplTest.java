@@ -7,14 +7,17 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import shop.yesaladin.shop.file.domain.model.File;
 import shop.yesaladin.shop.file.domain.repository.CommandFileRepository;
+import shop.yesaladin.shop.file.domain.repository.QueryFileRepository;
 import shop.yesaladin.shop.file.dto.FileResponseDto;
 import shop.yesaladin.shop.file.service.inter.CommandFileService;
 import shop.yesaladin.shop.product.dummy.DummyFile;
+import shop.yesaladin.shop.product.service.inter.ProductSearchSyncService;
 
 class CommandFileServiceImplTest {
 
@@ -22,11 +25,19 @@ class CommandFileServiceImplTest {
 
     private CommandFileService service;
     private CommandFileRepository commandFileRepository;
+    private QueryFileRepository queryFileRepository;
+    private ProductSearchSyncService productSearchSyncService;
 
     @BeforeEach
     void setUp() {
         commandFileRepository = mock(CommandFileRepository.class);
-        service = new CommandFileServiceImpl(commandFileRepository);
+        queryFileRepository = mock(QueryFileRepository.class);
+        productSearchSyncService = mock(ProductSearchSyncService.class);
+        service = new CommandFileServiceImpl(
+                commandFileRepository,
+                queryFileRepository,
+                productSearchSyncService
+        );
     }
 
     @Test
@@ -45,4 +56,21 @@ class CommandFileServiceImplTest {
 
         verify(commandFileRepository, times(1)).save(file);
     }
+
+    @Test
+    @DisplayName("썸네일 변환본 생성 완료 표시 성공")
+    void markVariantGenerated() {
+        // given
+        File file = DummyFile.dummy(URL + "/Ex.extension");
+
+        when(queryFileRepository.findById(1L)).thenReturn(Optional.of(file));
+
+        // when
+        service.markVariantGenerated(1L);
+
+        // then
+        assertThat(file.isVariantGenerated()).isTrue();
+
+        verify(productSearchSyncService, times(1)).requestSyncByThumbnailFile(1L);
+    }
 }
@@ -0,0 +1,135 @@
+package shop.yesaladin.shop.file.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import shop.yesaladin.shop.config.ImageVariantProperties;
+import shop.yesaladin.shop.file.domain.model.File;
+import shop.yesaladin.shop.file.domain.model.ThumbnailVariant;
+import shop.yesaladin.shop.file.service.inter.CommandFileService;
+import shop.yesaladin.shop.file.service.inter.ObjectStorageService;
+import shop.yesaladin.shop.product.dummy.DummyFile;
+
+class ImageVariantServiceImplTest {
+
+    private final String URL = "https://api-storage.cloud.toast.com/v1/AUTH_/container/domain/type/Ex.png";
+
+    private ImageVariantServiceImpl service;
+    private ObjectStorageService objectStorageService;
+    private CommandFileService commandFileService;
+
+    @BeforeEach
+    void setUp() {
+        objectStorageService = mock(ObjectStorageService.class);
+        commandFileService = mock(CommandFileService.class);
+        ImageVariantProperties properties = mock(ImageVariantProperties.class);
+        when(properties.getPoolSize()).thenReturn(1);
+        when(properties.getQueueCapacity()).thenReturn(10);
+        when(properties.getJpegQuality()).thenReturn(0.8f);
+        when(properties.getRetryDelaySeconds()).thenReturn(600L);
+
+        service = new ImageVariantServiceImpl(
+                objectStorageService,
+                commandFileService,
+                properties,
+                Clock.fixed(Instant.parse("2023-01-20T00:00:00.000Z"), ZoneId.of("UTC"))
+        );
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    @DisplayName("변환본이 생성된 파일은 변환본 url을 반환")
+    void getVariantUrls_generated() {
+        // given
+        File file = DummyFile.dummy(URL);
+        file.markVariantGenerated();
+
+        // when
+        Map<String, String> urls = service.getVariantUrls(file);
+
+        // then
+        assertThat(urls).hasSize(ThumbnailVariant.values().length);
+        assertThat(urls.get("small")).endsWith("/Ex_small.jpg");
+        assertThat(urls.get("medium")).endsWith("/Ex_medium.jpg");
+
+        verify(objectStorageService, never()).fileDownload(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("변환본이 생성되지 않은 파일은 모든 변환본에 원본 url을 반환")
+    void getVariantUrls_pending() {
+        // given
+        File file = DummyFile.dummy(URL);
+
+        // when
+        Map<String, String> urls = service.getVariantUrls(file);
+
+        // then
+        assertThat(urls).hasSize(ThumbnailVariant.values().length);
+        assertThat(urls.get("small")).isEqualTo(URL);
+        assertThat(urls.get("medium")).isEqualTo(URL);
+    }
+
+    @Test
+    @DisplayName("변환본 생성 요청 시 모든 변환본을 업로드하고 생성 완료를 기록")
+    void requestVariants() {
+        // given
+        when(objectStorageService.fileDownload(eq(URL), any())).thenReturn(
+                new BufferedImage(800, 1200, BufferedImage.TYPE_INT_RGB)
+        );
+
+        // when
+        service.requestVariants(1L, URL);
+
+        // then
+        verify(commandFileService, timeout(5000).times(1)).markVariantGenerated(1L);
+        verify(objectStorageService, times(1)).fileUpload(
+                eq(ThumbnailVariant.SMALL.urlOf(URL)),
+                any(byte[].class),
+                eq(MediaType.IMAGE_JPEG)
+        );
+        verify(objectStorageService, times(1)).fileUpload(
+                eq(ThumbnailVariant.MEDIUM.urlOf(URL)),
+                any(byte[].class),
+                eq(MediaType.IMAGE_JPEG)
+        );
+    }
+
+    @Test
+    @DisplayName("변환본 생성에 실패하면 생성 완료를 기록하지 않음")
+    void requestVariants_unsupportedImage() {
+        // given
+        when(objectStorageService.fileDownload(eq(URL), any())).thenReturn(null);
+
+        // when
+        service.requestVariants(1L, URL);
+
+        // then
+        verify(objectStorageService, timeout(5000).times(1)).fileDownload(eq(URL), any());
+        verify(commandFileService, never()).markVariantGenerated(any());
+        verify(objectStorageService, never()).fileUpload(anyString(), any(byte[].class), any());
+    }
+}
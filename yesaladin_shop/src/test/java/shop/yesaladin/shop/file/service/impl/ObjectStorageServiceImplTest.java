@@ -4,18 +4,28 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.sun.net.httpserver.HttpServer;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
@@ -72,4 +82,102 @@ class ObjectStorageServiceImplTest {
                 .execute(anyString(), any(), any(), any());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("파일을 메모리에 모두 읽지 않고 Object Storage로 streaming 하여 업로드")
+    void fileUpload_streaming() throws Exception {
+        // given
+        long size = 8L * 1024 * 1024;
+        long slack = 256L * 1024;
+        CountDownLatch gate = new CountDownLatch(1);
+        AtomicLong received = new AtomicLong();
+        AtomicReference<String> contentLength = new AtomicReference<>();
+
+        // 파일의 절반을 읽은 뒤에는 Object Storage가 절반 가까이 받을 때까지 나머지를 읽을 수 없다.
+        // 파일 전체를 메모리에 읽은 뒤 전달한다면 Object Storage는 아무것도 받지 못해 업로드가 실패한다.
+        HttpServer storage = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        storage.createContext("/", exchange -> {
+            contentLength.set(exchange.getRequestHeaders().getFirst("Content-Length"));
+            try (InputStream body = exchange.getRequestBody()) {
+                byte[] chunk = new byte[16 * 1024];
+                int read;
+                while ((read = body.read(chunk)) != -1) {
+                    if (received.addAndGet(read) >= size / 2 - slack) {
+                        gate.countDown();
+                    }
+                }
+            }
+            exchange.sendResponseHeaders(201, -1);
+            exchange.close();
+        });
+        storage.start();
+
+        try {
+            SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+            factory.setBufferRequestBody(false);
+            when(storageAuthService.getAuthToken()).thenReturn("token");
+            when(objectStorageProperties.getStorageUrl())
+                    .thenReturn("http://localhost:" + storage.getAddress().getPort());
+            service = new ObjectStorageServiceImpl(
+                    storageAuthService,
+                    new RestTemplate(factory),
+                    objectStorageProperties,
+                    clock
+            );
+            MultipartFile file = mock(MultipartFile.class);
+            when(file.getSize()).thenReturn(size);
+            when(file.getOriginalFilename()).thenReturn("ebook.pdf");
+            when(file.getInputStream()).thenReturn(new GatedInputStream(size, gate));
+
+            // when
+            service.fileUpload("product", "ebook", file);
+
+            // then
+            assertThat(received.get()).isEqualTo(size);
+            assertThat(contentLength.get()).isEqualTo(String.valueOf(size));
+            verify(file, never()).getBytes();
+        } finally {
+            storage.stop(0);
+        }
+    }
+
+    private static class GatedInputStream extends InputStream {
+
+        private final long size;
+        private final CountDownLatch gate;
+        private long position;
+
+        GatedInputStream(long size, CountDownLatch gate) {
+            this.size = size;
+            this.gate = gate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= size) {
+                return -1;
+            }
+            if (position == size / 2) {
+                try {
+                    if (!gate.await(30, TimeUnit.SECONDS)) {
+                        throw new IOException("upload was buffered before being sent");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            long limit = position < size / 2 ? size / 2 : size;
+            int count = (int) Math.min(len, limit - position);
+            Arrays.fill(b, off, off + count, (byte) 1);
+            position += count;
+            return count;
+        }
+    }
+}
+
@@ -11,12 +11,12 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 import shop.yesaladin.shop.config.ObjectStorageProperties;
@@ -27,78 +27,123 @@ import shop.yesaladin.shop.file.service.inter.StorageAuthService;
 
 class StorageAuthServiceImplTest {
 
-    private static final String OBJECT_STORAGE_TOKEN_KEY = "object-storage-token";
+    private static final Instant NOW = Instant.parse("2023-01-15T05:00:00Z");
+    private static final String EXPIRES = "2023-01-15T08:00:00Z";
 
     private ObjectStorageProperties objectStorage;
     private RestTemplate restTemplate;
     private ObjectMapper objectMapper;
-    private RedisTemplate<String, String> redisTemplate;
-    private ValueOperations valueOperations;
+    private Clock clock;
 
     private StorageAuthService service;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws JsonProcessingException {
         objectStorage = mock(ObjectStorageProperties.class);
         restTemplate = mock(RestTemplate.class);
         objectMapper = mock(ObjectMapper.class);
-        redisTemplate = mock(RedisTemplate.class);
-        valueOperations = mock(ValueOperations.class);
+        clock = mock(Clock.class);
+
+        when(objectStorage.getAuthUrl()).thenReturn("");
+        when(objectStorage.getTokenRefreshMarginSeconds()).thenReturn(600L);
+
+        ResponseEntity response = mock(ResponseEntity.class);
+        when(restTemplate.exchange(anyString(), any(), any(), any(Class.class)))
+                .thenReturn(response);
+        when(response.getBody()).thenReturn("");
 
         service = new StorageAuthServiceImpl(
                 objectStorage,
                 restTemplate,
                 objectMapper,
-                redisTemplate
+                clock
         );
     }
 
     @Test
-    @DisplayName("오브젝트 스토리지 토큰 발급_이미 존재하는 경우")
-    void getAuthToken_alreadyExist() {
+    @DisplayName("오브젝트 스토리지 토큰 발급")
+    void getAuthToken() throws JsonProcessingException {
         // given
-        String tokenInRedis = "token";
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(OBJECT_STORAGE_TOKEN_KEY)).thenReturn(tokenInRedis);
+        when(clock.instant()).thenReturn(NOW);
+        givenIssuedTokens("token");
 
         // when
         String authToken = service.getAuthToken();
 
         // then
-        assertThat(authToken).isEqualTo(tokenInRedis);
+        assertThat(authToken).isEqualTo("token");
 
-        verify(redisTemplate, times(1)).opsForValue();
-        verify(valueOperations, times(1)).get(OBJECT_STORAGE_TOKEN_KEY);
+        verify(restTemplate, times(1)).exchange(anyString(), any(), any(), any(Class.class));
     }
 
     @Test
-    @DisplayName("오브젝트 스토리지 토큰 발급")
-    void getAuthToken() throws JsonProcessingException {
+    @DisplayName("오브젝트 스토리지 토큰 발급_이미 존재하는 경우 메모리에 보관 중인 토큰을 반환")
+    void getAuthToken_alreadyExist() throws JsonProcessingException {
         // given
-        when(objectStorage.getAuthUrl()).thenReturn("");
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(OBJECT_STORAGE_TOKEN_KEY)).thenReturn(null);
+        when(clock.instant()).thenReturn(NOW);
+        givenIssuedTokens("token", "new-token");
+        service.getAuthToken();
 
-        ResponseEntity response = mock(ResponseEntity.class);
-        when(restTemplate.exchange(anyString(), any(), any(), any(Class.class)))
-                .thenReturn(response);
-        when(response.getBody()).thenReturn("");
+        // when
+        String authToken = service.getAuthToken();
 
-        TokenDto tokenDto = mock(TokenDto.class);
-        AccessDto accessDto = new AccessDto(tokenDto);
-        TokenJsonDto tokenJsonDto = new TokenJsonDto(accessDto);
-        when(objectMapper.readValue(anyString(), ArgumentMatchers.<Class<TokenJsonDto>>any()))
-                .thenReturn(tokenJsonDto);
-        when(tokenDto.getExpires()).thenReturn("2018-01-15T08:05:05Z");
-        when(tokenDto.getId()).thenReturn("token");
+        // then
+        assertThat(authToken).isEqualTo("token");
+
+        verify(restTemplate, times(1)).exchange(anyString(), any(), any(), any(Class.class));
+    }
+
+    @Test
+    @DisplayName("오브젝트 스토리지 토큰 발급_만료 전 갱신 시점이 지난 경우 새 토큰을 발급")
+    void getAuthToken_refreshBeforeExpiry() throws JsonProcessingException {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        givenIssuedTokens("token", "new-token");
+        service.getAuthToken();
+
+        // 만료 5분 전
+        when(clock.instant()).thenReturn(Instant.parse("2023-01-15T07:55:00Z"));
+
+        // when
+        String authToken = service.getAuthToken();
+
+        // then
+        assertThat(authToken).isEqualTo("new-token");
+
+        verify(restTemplate, times(2)).exchange(anyString(), any(), any(), any(Class.class));
+    }
+
+    @Test
+    @DisplayName("오브젝트 스토리지 토큰 발급_만료 전 갱신에 실패한 경우 기존 토큰을 반환")
+    void getAuthToken_refreshFailed() throws JsonProcessingException {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        givenIssuedTokens("token");
+        service.getAuthToken();
+
+        when(clock.instant()).thenReturn(Instant.parse("2023-01-15T07:55:00Z"));
+        when(restTemplate.exchange(anyString(), any(), any(), any(Class.class)))
+                .thenThrow(new IllegalStateException("storage auth failed"));
 
         // when
         String authToken = service.getAuthToken();
 
         // then
         assertThat(authToken).isEqualTo("token");
+    }
 
-        verify(redisTemplate, times(2)).opsForValue();
-        verify(restTemplate, times(1)).exchange(anyString(), any(), any(), any(Class.class));
+    private void givenIssuedTokens(String tokenId, String... nextTokenIds)
+            throws JsonProcessingException {
+        TokenJsonDto first = tokenJson(tokenId);
+        TokenJsonDto[] next = new TokenJsonDto[nextTokenIds.length];
+        for (int i = 0; i < nextTokenIds.length; i++) {
+            next[i] = tokenJson(nextTokenIds[i]);
+        }
+        when(objectMapper.readValue(anyString(), ArgumentMatchers.<Class<TokenJsonDto>>any()))
+                .thenReturn(first, next);
+    }
+
+    private static TokenJsonDto tokenJson(String tokenId) {
+        return new TokenJsonDto(new AccessDto(new TokenDto(EXPIRES, tokenId)));
     }
-}
\ No newline at end of file
+}
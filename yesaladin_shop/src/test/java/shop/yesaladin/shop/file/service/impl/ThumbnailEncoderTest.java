@@ -0,0 +1,80 @@
+package shop.yesaladin.shop.file.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ThumbnailEncoderTest {
+
+    @Test
+    @DisplayName("필요한 너비보다 큰 이미지는 필요한 너비의 두 배 이상을 유지하며 건너뛰어 읽는다")
+    void decode_subsampled() throws Exception {
+        // given
+        byte[] png = png(2000, 1000);
+
+        // when
+        BufferedImage image = ThumbnailEncoder.decode(new ByteArrayInputStream(png), 40_000_000L, 320);
+
+        // then
+        assertThat(image.getWidth()).isEqualTo(667);
+        assertThat(image.getHeight()).isEqualTo(334);
+    }
+
+    @Test
+    @DisplayName("필요한 너비의 두 배보다 작은 이미지는 그대로 읽는다")
+    void decode_small() throws Exception {
+        // given
+        byte[] png = png(400, 200);
+
+        // when
+        BufferedImage image = ThumbnailEncoder.decode(new ByteArrayInputStream(png), 40_000_000L, 320);
+
+        // then
+        assertThat(image.getWidth()).isEqualTo(400);
+        assertThat(image.getHeight()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("픽셀 수가 최대치를 넘는 이미지는 해석하지 않는다")
+    void decode_tooLarge() throws Exception {
+        // given
+        byte[] png = png(2000, 1000);
+
+        // when
+        Throwable thrown = catchThrowable(() -> ThumbnailEncoder.decode(
+                new ByteArrayInputStream(png),
+                1_000_000L,
+                320
+        ));
+
+        // then
+        assertThat(thrown).isInstanceOf(IOException.class).hasMessageContaining("2000x1000");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이면 null을 반환한다")
+    void decode_unsupported() throws Exception {
+        // when
+        BufferedImage image = ThumbnailEncoder.decode(
+                new ByteArrayInputStream(new byte[]{1, 2, 3, 4}),
+                40_000_000L,
+                320
+        );
+
+        // then
+        assertThat(image).isNull();
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
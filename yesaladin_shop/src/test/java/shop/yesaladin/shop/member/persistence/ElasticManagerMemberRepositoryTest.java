@@ -0,0 +1,129 @@
+package shop.yesaladin.shop.member.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import shop.yesaladin.shop.member.domain.model.ManagerSearchedMember;
+import shop.yesaladin.shop.member.domain.repository.SearchManagerMemberRepository;
+import shop.yesaladin.shop.member.dto.MemberManagerSearchType;
+
+@SpringBootTest
+@ActiveProfiles("local-test")
+class ElasticManagerMemberRepositoryTest {
+
+    @Autowired
+    private SearchManagerMemberRepository searchManagerMemberRepository;
+    @Autowired
+    private ElasticCommandManagerMemberRepository elasticCommandManagerMemberRepository;
+
+    @BeforeEach
+    void setUp() {
+        elasticCommandManagerMemberRepository.saveAll(List.of(
+                member(-1L, "zqxmanager1", "뷁쀍 닉네임", "뷁", false),
+                member(-2L, "zqxmanager2", "뷁쀍 관리자", "쀍", false),
+                member(-3L, "zqxmanager3", "뷁쀍 회원", "뷁", false),
+                member(-4L, "zqxwithdrawn", "뷁쀍 탈퇴", "뷁", true)
+        ));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 1-gram 필드로 해당 글자를 포함하는 회원을 검색한다")
+    void testSearchIds_singleCharacter() {
+        //when
+        Page<Long> result = searchManagerMemberRepository.searchIds(
+                MemberManagerSearchType.NAME,
+                "쀍",
+                PageRequest.of(0, 10)
+        );
+
+        //then
+        assertThat(result.getContent()).contains(-2L).doesNotContain(-1L, -3L, -4L);
+    }
+
+    @Test
+    @DisplayName("두 글자 이상의 검색어는 연속으로 포함하는 회원만 검색한다")
+    void testSearchIds_multiCharacter() {
+        //when
+        Page<Long> match = searchManagerMemberRepository.searchIds(
+                MemberManagerSearchType.NICKNAME,
+                "쀍 관리",
+                PageRequest.of(0, 10)
+        );
+        Page<Long> notContiguous = searchManagerMemberRepository.searchIds(
+                MemberManagerSearchType.NICKNAME,
+                "뷁 관리자",
+                PageRequest.of(0, 10)
+        );
+
+        //then
+        assertThat(match.getContent()).contains(-2L).doesNotContain(-1L, -3L, -4L);
+        assertThat(notContiguous.getContent()).doesNotContain(-1L, -2L, -3L, -4L);
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원은 검색하지 않는다")
+    void testSearchIds_withdrawal() {
+        //when
+        Page<Long> result = searchManagerMemberRepository.searchIds(
+                MemberManagerSearchType.LOGIN_ID,
+                "zqxwithdrawn",
+                PageRequest.of(0, 10)
+        );
+
+        //then
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("검색된 회원을 id 순으로 페이징한다")
+    void testSearchIds_paging() {
+        //when
+        Page<Long> first = searchManagerMemberRepository.searchIds(
+                MemberManagerSearchType.LOGIN_ID,
+                "zqxmanager",
+                PageRequest.of(0, 2)
+        );
+        Page<Long> second = searchManagerMemberRepository.searchIds(
+                MemberManagerSearchType.LOGIN_ID,
+                "zqxmanager",
+                PageRequest.of(1, 2)
+        );
+
+        //then
+        assertThat(first.getContent()).containsExactly(-3L, -2L);
+        assertThat(second.getContent()).containsExactly(-1L);
+        assertThat(first.getTotalElements()).isEqualTo(3L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        elasticCommandManagerMemberRepository.deleteAllById(List.of(-1L, -2L, -3L, -4L));
+    }
+
+    private static ManagerSearchedMember member(
+            long id,
+            String loginId,
+            String nickname,
+            String name,
+            boolean isWithdrawal
+    ) {
+        return ManagerSearchedMember.builder()
+                .id(id)
+                .loginId(loginId)
+                .nickname(nickname)
+                .phone("01012345678")
+                .name(name)
+                .isWithdrawal(isWithdrawal)
+                .build();
+    }
+}
@@ -132,61 +132,25 @@ class QueryDslQueryMemberRepositoryTest {
     }
 
     @Test
-    void findMemberManagersByLoginId() {
+    void findMembersByIds() {
         //when
-        Page<MemberManagerResponseDto> memberList = queryMemberRepository.findMemberManagersByLoginId(
-                member.getLoginId().substring(0, 1),
-                PageRequest.of(0, 1)
-        );
-        //then
-        assertThat(memberList.getTotalElements()).isEqualTo(1);
-        assertThat(memberList.getContent()).hasSize(1);
-        assertThat(memberList.getContent()
-                .get(0)
-                .getLoginId()
-                .contains(member.getLoginId())).isTrue();
-    }
+        List<Member> members = queryMemberRepository.findMembersByIds(List.of(member.getId()));
 
-    @Test
-    void findMemberManagersByNickname() {
-        //when
-        Page<MemberManagerResponseDto> memberList = queryMemberRepository.findMemberManagersByNickname(
-                member.getNickname().substring(0, 1),
-                PageRequest.of(0, 1)
-        );
         //then
-        assertThat(memberList.getTotalElements()).isEqualTo(1);
-        assertThat(memberList.getContent()).hasSize(1);
-        assertThat(memberList.getContent()
-                .get(0)
-                .getNickname()
-                .contains(member.getNickname())).isTrue();
+        assertThat(members).hasSize(1);
+        assertThat(members.get(0).getLoginId()).isEqualTo(member.getLoginId());
     }
 
     @Test
-    void findMemberManagersByPhone() {
+    void findMembersAfter() {
         //when
-        Page<MemberManagerResponseDto> memberList = queryMemberRepository.findMemberManagersByPhone(
-                member.getPhone().substring(0, 1),
-                PageRequest.of(0, 1)
-        );
-        //then
-        assertThat(memberList.getTotalElements()).isEqualTo(2);
-        assertThat(memberList.getContent()).hasSize(1);
-        assertThat(memberList.getContent().get(0).getPhone().contains(member.getPhone())).isTrue();
-    }
+        List<Member> first = queryMemberRepository.findMembersAfter(null, 1);
+        List<Member> next = queryMemberRepository.findMembersAfter(first.get(0).getId(), 10);
 
-    @Test
-    void findMemberManagersByName() {
-        //when
-        Page<MemberManagerResponseDto> memberList = queryMemberRepository.findMemberManagersByName(
-                member.getName().substring(0, 1),
-                PageRequest.of(0, 1)
-        );
         //then
-        assertThat(memberList.getTotalElements()).isEqualTo(1);
-        assertThat(memberList.getContent()).hasSize(1);
-        assertThat(memberList.getContent().get(0).getName().contains(member.getName())).isTrue();
+        assertThat(first).hasSize(1);
+        assertThat(next).isNotEmpty();
+        assertThat(next).allMatch(found -> found.getId() > first.get(0).getId());
     }
 
     @Test
@@ -37,6 +37,7 @@ import shop.yesaladin.shop.member.dto.MemberUpdateResponseDto;
 import shop.yesaladin.shop.member.dto.MemberWithdrawResponseDto;
 import shop.yesaladin.shop.member.dto.OauthMemberCreateRequestDto;
 import shop.yesaladin.shop.member.dummy.MemberDummy;
+import shop.yesaladin.shop.member.event.MemberSearchIndexEvent;
 import shop.yesaladin.shop.member.dummy.MemberRoleDummy;
 import shop.yesaladin.shop.member.dummy.RoleDummy;
 
@@ -410,6 +411,7 @@ class CommandMemberServiceImplTest {
 
         verify(queryMemberRepository, times(1)).findMemberByLoginId(loginId);
         verify(queryMemberRepository, times(1)).findMemberByNickname(nickname);
+        verify(applicationEventPublisher, times(1)).publishEvent(any(MemberSearchIndexEvent.class));
     }
 
     @Test
@@ -20,10 +20,12 @@ import shop.yesaladin.shop.member.domain.model.Member;
 import shop.yesaladin.shop.member.domain.model.MemberGrade;
 import shop.yesaladin.shop.member.domain.repository.QueryMemberRepository;
 import shop.yesaladin.shop.member.domain.repository.QueryMemberRoleRepository;
+import shop.yesaladin.shop.member.domain.repository.SearchManagerMemberRepository;
 import shop.yesaladin.shop.member.dto.MemberDto;
 import shop.yesaladin.shop.member.dto.MemberGradeQueryResponseDto;
 import shop.yesaladin.shop.member.dto.MemberLoginResponseDto;
 import shop.yesaladin.shop.member.dto.MemberManagerResponseDto;
+import shop.yesaladin.shop.member.dto.MemberManagerSearchType;
 import shop.yesaladin.shop.member.dto.MemberOrderSheetResponseDto;
 import shop.yesaladin.shop.member.dto.MemberQueryResponseDto;
 import shop.yesaladin.shop.member.dto.MemberStatisticsResponseDto;
@@ -34,6 +36,7 @@ class QueryMemberServiceImplTest {
     private QueryMemberServiceImpl service;
     private QueryMemberRepository queryMemberRepository;
     private QueryMemberRoleRepository queryMemberRoleRepository;
+    private SearchManagerMemberRepository searchManagerMemberRepository;
 
     private Member expectedMember;
 
@@ -41,9 +44,11 @@ class QueryMemberServiceImplTest {
     void setUp() {
         queryMemberRepository = Mockito.mock(QueryMemberRepository.class);
         queryMemberRoleRepository = Mockito.mock(QueryMemberRoleRepository.class);
+        searchManagerMemberRepository = Mockito.mock(SearchManagerMemberRepository.class);
         service = new QueryMemberServiceImpl(
                 queryMemberRepository,
-                queryMemberRoleRepository
+                queryMemberRoleRepository,
+                searchManagerMemberRepository
         );
 
         expectedMember = Mockito.mock(Member.class);
@@ -204,39 +209,16 @@ class QueryMemberServiceImplTest {
     void findMemberManages() {
         //given
         String loginId = "loginId";
-        Member member = Member.builder().loginId(loginId).build();
-        MemberManagerResponseDto dto = MemberManagerResponseDto.fromEntity(member);
-
-        Mockito.when(queryMemberRepository.findMemberManagers(
-                        PageRequest.of(0, 10)
-                ))
-                .thenReturn(new PageImpl<>(List.of(dto), PageRequest.of(0, 10), 1L));
-
-        //when
-        Page<MemberManagerResponseDto> result = service.findMemberManages(
-                PageRequest.of(0, 10)
-        );
-
-        //then
-        assertThat(result.getTotalElements()).isEqualTo(1);
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getNumber()).isZero();
-        assertThat(result.getContent().get(0).getLoginId()).isEqualTo(loginId);
-        verify(queryMemberRepository, atLeastOnce()).findMemberManagers(PageRequest.of(0, 10));
-    }
-
-    @Test
-    void findMemberManagesByLoginId() {
-        //given
-        String loginId = "loginId";
-        Member member = Member.builder().loginId(loginId).build();
-        MemberManagerResponseDto dto = MemberManagerResponseDto.fromEntity(member);
+        Member member = Member.builder().id(1L).loginId(loginId).build();
 
-        Mockito.when(queryMemberRepository.findMemberManagersByLoginId(
+        Mockito.when(searchManagerMemberRepository.searchIds(
+                        MemberManagerSearchType.LOGIN_ID,
                         loginId,
                         PageRequest.of(0, 10)
                 ))
-                .thenReturn(new PageImpl<>(List.of(dto), PageRequest.of(0, 10), 1L));
+                .thenReturn(new PageImpl<>(List.of(1L), PageRequest.of(0, 10), 1L));
+        Mockito.when(queryMemberRepository.findMembersByIds(List.of(1L)))
+                .thenReturn(List.of(member));
 
         //when
         Page<MemberManagerResponseDto> result = service.findMemberManagesByLoginId(
@@ -249,7 +231,8 @@ class QueryMemberServiceImplTest {
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getNumber()).isZero();
         assertThat(result.getContent().get(0).getLoginId()).isEqualTo(loginId);
-        verify(queryMemberRepository, atLeastOnce()).findMemberManagersByLoginId(
+        verify(searchManagerMemberRepository, atLeastOnce()).searchIds(
+                MemberManagerSearchType.LOGIN_ID,
                 loginId,
                 PageRequest.of(0, 10)
         );
@@ -260,13 +243,15 @@ class QueryMemberServiceImplTest {
     void findMemberManagesByNickName() {
         //given
         String nickname = "nickname";
-        Member member = Member.builder().nickname(nickname).build();
-        MemberManagerResponseDto dto = MemberManagerResponseDto.fromEntity(member);
+        Member member = Member.builder().id(1L).nickname(nickname).build();
 
-        Mockito.when(queryMemberRepository.findMemberManagersByNickname(
+        Mockito.when(searchManagerMemberRepository.searchIds(
+                MemberManagerSearchType.NICKNAME,
                 nickname,
                 PageRequest.of(0, 1)
-        )).thenReturn(new PageImpl<>(List.of(dto), PageRequest.of(0, 1), 1L));
+        )).thenReturn(new PageImpl<>(List.of(1L), PageRequest.of(0, 1), 1L));
+        Mockito.when(queryMemberRepository.findMembersByIds(List.of(1L)))
+                .thenReturn(List.of(member));
 
         //when
         Page<MemberManagerResponseDto> result = service.findMemberManagesByNickName(
@@ -283,13 +268,15 @@ class QueryMemberServiceImplTest {
     void findMemberManagesByPhone() {
         //given
         String phone = "phone";
-        Member member = Member.builder().phone(phone).build();
-        MemberManagerResponseDto dto = MemberManagerResponseDto.fromEntity(member);
+        Member member = Member.builder().id(1L).phone(phone).build();
 
-        Mockito.when(queryMemberRepository.findMemberManagersByPhone(
+        Mockito.when(searchManagerMemberRepository.searchIds(
+                MemberManagerSearchType.PHONE,
                 phone,
                 PageRequest.of(0, 1)
-        )).thenReturn(new PageImpl<>(List.of(dto), PageRequest.of(0, 1), 1L));
+        )).thenReturn(new PageImpl<>(List.of(1L), PageRequest.of(0, 1), 1L));
+        Mockito.when(queryMemberRepository.findMembersByIds(List.of(1L)))
+                .thenReturn(List.of(member));
 
         //when
         Page<MemberManagerResponseDto> result = service.findMemberManagesByPhone(
@@ -307,13 +294,15 @@ class QueryMemberServiceImplTest {
     void findMemberManagesByName() {
         //given
         String name = "name";
-        Member member = Member.builder().name(name).build();
-        MemberManagerResponseDto dto = MemberManagerResponseDto.fromEntity(member);
+        Member member = Member.builder().id(1L).name(name).build();
 
-        Mockito.when(queryMemberRepository.findMemberManagersByName(
+        Mockito.when(searchManagerMemberRepository.searchIds(
+                MemberManagerSearchType.NAME,
                 name,
                 PageRequest.of(0, 1)
-        )).thenReturn(new PageImpl<>(List.of(dto), PageRequest.of(0, 1), 1L));
+        )).thenReturn(new PageImpl<>(List.of(1L), PageRequest.of(0, 1), 1L));
+        Mockito.when(queryMemberRepository.findMembersByIds(List.of(1L)))
+                .thenReturn(List.of(member));
 
         //when
         Page<MemberManagerResponseDto> result = service.findMemberManagesByName(
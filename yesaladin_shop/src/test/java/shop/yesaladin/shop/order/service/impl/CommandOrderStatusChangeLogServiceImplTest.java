@@ -1,12 +1,17 @@
 package shop.yesaladin.shop.order.service.impl;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import shop.yesaladin.common.exception.ClientException;
 import shop.yesaladin.shop.member.domain.model.Member;
@@ -19,6 +24,7 @@ import shop.yesaladin.shop.order.domain.model.Subscribe;
 import shop.yesaladin.shop.order.domain.repository.CommandOrderRepository;
 import shop.yesaladin.shop.order.domain.repository.CommandOrderStatusChangeLogRepository;
 import shop.yesaladin.shop.order.domain.repository.QueryOrderRepository;
+import shop.yesaladin.shop.order.dto.DeliveryCompleteResponseDto;
 import shop.yesaladin.shop.order.persistence.dummy.DummyMember;
 import shop.yesaladin.shop.order.persistence.dummy.DummyMemberAddress;
 import shop.yesaladin.shop.order.persistence.dummy.DummyOrder;
@@ -154,4 +160,111 @@ class CommandOrderStatusChangeLogServiceImplTest {
         )).doesNotThrowAnyException();
     }
 
+    @Test
+    @DisplayName("여러 주문에 같은 상태 변경 이력을 한 번에 추가한다.")
+    void appendOrderStatusChangeLogsByOrderIds() throws Exception {
+        // given
+        Mockito.when(queryOrderRepository.findAllByIdIn(anyCollection()))
+                .thenReturn(List.of(nonMemberOrder));
+        Mockito.when(queryOrderRepository.findOrderIdsHavingStatus(
+                anyCollection(),
+                eq(OrderStatusCode.DELIVERY)
+        )).thenReturn(List.of());
+
+        // when
+        List<Long> appended = commandOrderStatusChangeLogService.appendOrderStatusChangeLogsByOrderIds(
+                LocalDateTime.now(),
+                List.of(nonMemberOrder.getId()),
+                OrderStatusCode.DELIVERY
+        );
+
+        // then
+        assertThat(appended).containsExactly(nonMemberOrder.getId());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<OrderStatusChangeLog>> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(commandOrderStatusChangeLogRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(1)
+                .allMatch(log -> log.getOrderStatusCode() == OrderStatusCode.DELIVERY);
+    }
+
+    @Test
+    @DisplayName("배송 등록 완료 처리를 재시도해도 이미 배송중 상태인 주문에는 상태 변경 이력을 다시 추가하지 않는다.")
+    void appendOrderStatusChangeLogsByOrderIds_retry() throws Exception {
+        // given
+        Mockito.when(queryOrderRepository.findAllByIdIn(anyCollection()))
+                .thenReturn(List.of(nonMemberOrder));
+        Mockito.when(queryOrderRepository.findOrderIdsHavingStatus(
+                anyCollection(),
+                eq(OrderStatusCode.DELIVERY)
+        )).thenReturn(List.of(nonMemberOrder.getId()));
+
+        // when
+        List<Long> appended = commandOrderStatusChangeLogService.appendOrderStatusChangeLogsByOrderIds(
+                LocalDateTime.now(),
+                List.of(nonMemberOrder.getId()),
+                OrderStatusCode.DELIVERY
+        );
+
+        // then
+        assertThat(appended).isEmpty();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<OrderStatusChangeLog>> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(commandOrderStatusChangeLogRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배송 완료 일괄 처리 시 존재하지 않는 주문은 제외하고 상태 변경 이력을 추가한다.")
+    void appendDeliveryCompleteLogs() throws Exception {
+        // given
+        long notExistOrderId = 99L;
+        Mockito.when(queryOrderRepository.findAllByIdIn(anyCollection()))
+                .thenReturn(List.of(nonMemberOrder));
+        Mockito.when(queryOrderRepository.findOrderIdsHavingStatus(
+                anyCollection(),
+                eq(OrderStatusCode.COMPLETE)
+        )).thenReturn(List.of());
+
+        // when
+        DeliveryCompleteResponseDto response = commandOrderStatusChangeLogService.appendDeliveryCompleteLogs(
+                LocalDateTime.now(),
+                List.of(nonMemberOrder.getId(), notExistOrderId)
+        );
+
+        // then
+        assertThat(response.getCompletedOrderIds()).containsExactly(nonMemberOrder.getId());
+        assertThat(response.getAlreadyCompletedOrderIds()).isEmpty();
+        assertThat(response.getNotFoundOrderIds()).containsExactly(notExistOrderId);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<OrderStatusChangeLog>> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(commandOrderStatusChangeLogRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(1)
+                .allMatch(log -> log.getOrderStatusCode() == OrderStatusCode.COMPLETE);
+    }
+
+    @Test
+    @DisplayName("배송 완료 일괄 처리 시 이미 배송 완료된 주문은 중복으로 추가하지 않는다.")
+    void appendDeliveryCompleteLogs_alreadyCompleted() throws Exception {
+        // given
+        Mockito.when(queryOrderRepository.findAllByIdIn(anyCollection()))
+                .thenReturn(List.of(nonMemberOrder));
+        Mockito.when(queryOrderRepository.findOrderIdsHavingStatus(
+                anyCollection(),
+                eq(OrderStatusCode.COMPLETE)
+        )).thenReturn(List.of(nonMemberOrder.getId()));
+
+        // when
+        DeliveryCompleteResponseDto response = commandOrderStatusChangeLogService.appendDeliveryCompleteLogs(
+                LocalDateTime.now(),
+                List.of(nonMemberOrder.getId())
+        );
+
+        // then
+        assertThat(response.getCompletedOrderIds()).isEmpty();
+        assertThat(response.getAlreadyCompletedOrderIds()).containsExactly(nonMemberOrder.getId());
+        assertThat(response.getNotFoundOrderIds()).isEmpty();
+    }
 }
@@ -29,6 +29,7 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import shop.yesaladin.common.code.ErrorCode;
 import shop.yesaladin.common.exception.ClientException;
+import shop.yesaladin.shop.delivery.service.inter.DeliveryRegistrationService;
 import shop.yesaladin.shop.member.domain.model.Member;
 import shop.yesaladin.shop.member.domain.model.MemberAddress;
 import shop.yesaladin.shop.order.domain.model.MemberOrder;
@@ -59,6 +60,7 @@ class CommandPaymentServiceImplTest {
     private QueryPaymentRepository queryPaymentRepository;
     private QueryOrderService orderService;
     private CommandOrderStatusChangeLogService commandOrderStatusChangeLogService;
+    private DeliveryRegistrationService deliveryRegistrationService;
     private RestTemplate restTemplate;
     private ApplicationEventPublisher applicationEventPublisher;
     private ObjectMapper mapper = new ObjectMapper();
@@ -78,6 +80,7 @@ class CommandPaymentServiceImplTest {
         applicationEventPublisher = mock(ApplicationEventPublisher.class);
         queryPaymentRepository = mock(QueryPaymentRepository.class);
         commandOrderStatusChangeLogService = mock(CommandOrderStatusChangeLogService.class);
+        deliveryRegistrationService = mock(DeliveryRegistrationService.class);
 
         paymentService = new CommandPaymentServiceImpl(
                 restTemplate,
@@ -85,6 +88,7 @@ class CommandPaymentServiceImplTest {
                 queryPaymentRepository,
                 orderService,
                 commandOrderStatusChangeLogService,
+                deliveryRegistrationService,
                 applicationEventPublisher
         );
 
@@ -180,6 +184,8 @@ class CommandPaymentServiceImplTest {
 
         verify(orderService, times(1)).getPaymentDtoByMemberOrderId(longArgumentCaptor.capture());
         assertThat(longArgumentCaptor.getValue()).isEqualTo(memberOrder.getId());
+
+        verify(deliveryRegistrationService, times(1)).requestRegistration(memberOrder.getId());
     }
 
     @Test
@@ -467,6 +467,9 @@ class QueryProductControllerTest {
                                 .description("삭제여부"),
                         fieldWithPath("data.dataList.[].thumbnailFileUrl").type(JsonFieldType.STRING)
                                 .description("썸네일 파일 URL"),
+                        fieldWithPath("data.dataList.[].thumbnailVariantUrls").type(JsonFieldType.OBJECT)
+                                .description("썸네일 변환본 URL")
+                                .optional(),
                         fieldWithPath("data.dataList.[].tags.[].id").type(JsonFieldType.NUMBER)
                                 .description("태그 아이디"),
                         fieldWithPath("data.dataList.[].tags.[].name").type(JsonFieldType.STRING)
@@ -566,6 +569,9 @@ class QueryProductControllerTest {
                                 .description("삭제여부"),
                         fieldWithPath("data.dataList.[].thumbnailFileUrl").type(JsonFieldType.STRING)
                                 .description("썸네일 파일 URL"),
+                        fieldWithPath("data.dataList.[].thumbnailVariantUrls").type(JsonFieldType.OBJECT)
+                                .description("썸네일 변환본 URL")
+                                .optional(),
                         fieldWithPath("data.dataList.[].tags.[].id").type(JsonFieldType.NUMBER)
                                 .description("태그 아이디"),
                         fieldWithPath("data.dataList.[].tags.[].name").type(JsonFieldType.STRING)
@@ -663,6 +669,9 @@ class QueryProductControllerTest {
                                 .description("삭제여부"),
                         fieldWithPath("data.dataList.[].thumbnailFileUrl").type(JsonFieldType.STRING)
                                 .description("썸네일 파일 URL"),
+                        fieldWithPath("data.dataList.[].thumbnailVariantUrls").type(JsonFieldType.OBJECT)
+                                .description("썸네일 변환본 URL")
+                                .optional(),
                         fieldWithPath("data.dataList.[].tags.[].id").type(JsonFieldType.NUMBER)
                                 .description("태그 아이디"),
                         fieldWithPath("data.dataList.[].tags.[].name").type(JsonFieldType.STRING)
@@ -761,6 +770,9 @@ class QueryProductControllerTest {
                                 .description("삭제여부"),
                         fieldWithPath("data.dataList.[].thumbnailFileUrl").type(JsonFieldType.STRING)
                                 .description("썸네일 파일 URL"),
+                        fieldWithPath("data.dataList.[].thumbnailVariantUrls").type(JsonFieldType.OBJECT)
+                                .description("썸네일 변환본 URL")
+                                .optional(),
                         fieldWithPath("data.dataList.[].tags.[].id").type(JsonFieldType.NUMBER)
                                 .description("태그 아이디"),
                         fieldWithPath("data.dataList.[].tags.[].name").type(JsonFieldType.STRING)
@@ -858,6 +870,9 @@ class QueryProductControllerTest {
                                 .description("삭제여부"),
                         fieldWithPath("data.dataList.[].thumbnailFileUrl").type(JsonFieldType.STRING)
                                 .description("썸네일 파일 URL"),
+                        fieldWithPath("data.dataList.[].thumbnailVariantUrls").type(JsonFieldType.OBJECT)
+                                .description("썸네일 변환본 URL")
+                                .optional(),
                         fieldWithPath("data.dataList.[].tags.[].id").type(JsonFieldType.NUMBER)
                                 .description("태그 아이디"),
                         fieldWithPath("data.dataList.[].tags.[].name").type(JsonFieldType.STRING)
@@ -956,6 +971,9 @@ class QueryProductControllerTest {
                                 .description("삭제여부"),
                         fieldWithPath("data.dataList.[].thumbnailFileUrl").type(JsonFieldType.STRING)
                                 .description("썸네일 파일 URL"),
+                        fieldWithPath("data.dataList.[].thumbnailVariantUrls").type(JsonFieldType.OBJECT)
+                                .description("썸네일 변환본 URL")
+                                .optional(),
                         fieldWithPath("data.dataList.[].tags.[].id").type(JsonFieldType.NUMBER)
                                 .description("태그 아이디"),
                         fieldWithPath("data.dataList.[].tags.[].name").type(JsonFieldType.STRING)
@@ -1064,6 +1082,9 @@ class QueryProductControllerTest {
                                 .description("삭제여부"),
                         fieldWithPath("data.dataList.[].thumbnailFileUrl").type(JsonFieldType.STRING)
                                 .description("썸네일 파일 URL"),
+                        fieldWithPath("data.dataList.[].thumbnailVariantUrls").type(JsonFieldType.OBJECT)
+                                .description("썸네일 변환본 URL")
+                                .optional(),
                         fieldWithPath("data.dataList.[].tags.[].id").type(JsonFieldType.NUMBER)
                                 .description("태그 아이디"),
                         fieldWithPath("data.dataList.[].tags.[].name").type(JsonFieldType.STRING)
@@ -1143,6 +1164,9 @@ class QueryProductControllerTest {
                                 .description("ISBN"),
                         fieldWithPath("data.[].thumbnailFileUrl").type(JsonFieldType.STRING)
                                 .description("썸네일 파일 URL"),
+                        fieldWithPath("data.[].thumbnailVariantUrls").type(JsonFieldType.OBJECT)
+                                .description("썸네일 변환본 URL")
+                                .optional(),
                         fieldWithPath("data.[].title").type(JsonFieldType.STRING).description("제목"),
                         fieldWithPath("data.[].actualPrice").type(JsonFieldType.NUMBER)
                                 .description("정가"),
@@ -1289,6 +1313,9 @@ class QueryProductControllerTest {
                                 .description("상품 제목"),
                         fieldWithPath("data.[].thumbnailFileUrl").type(JsonFieldType.STRING)
                                 .description("상품 썸네일 파일"),
+                        fieldWithPath("data.[].thumbnailVariantUrls").type(JsonFieldType.OBJECT)
+                                .description("썸네일 변환본 URL")
+                                .optional(),
                         fieldWithPath("data.[].sellingPrice").type(JsonFieldType.NUMBER)
                                 .description("판매가"),
                         fieldWithPath("data.[].rate").type(JsonFieldType.NUMBER)
@@ -1378,6 +1405,9 @@ class QueryProductControllerTest {
                                 .description("상품 제목"),
                         fieldWithPath("data.dataList.[].thumbnailFileUrl").type(JsonFieldType.STRING)
                                 .description("상품 썸네일 파일"),
+                        fieldWithPath("data.dataList.[].thumbnailVariantUrls").type(JsonFieldType.OBJECT)
+                                .description("썸네일 변환본 URL")
+                                .optional(),
                         fieldWithPath("data.dataList.[].sellingPrice").type(JsonFieldType.NUMBER)
                                 .description("판매가"),
                         fieldWithPath("data.dataList.[].rate").type(JsonFieldType.NUMBER)
@@ -1393,4 +1423,25 @@ class QueryProductControllerTest {
                 )
         ));
     }
+
+    @WithMockUser
+    @Test
+    @DisplayName("상품 요약 조회 시 id가 최대 개수를 넘으면 400을 반환하고 조회하지 않는다")
+    void findProductSummariesByIds_tooManyIds() throws Exception {
+        // given
+        String[] ids = new String[101];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = String.valueOf(i + 1);
+        }
+
+        // when
+        ResultActions result = mockMvc.perform(get("/v1/products/summaries")
+                .param("ids", ids)
+                .with(csrf()));
+
+        // then
+        result.andDo(print()).andExpect(status().isBadRequest());
+
+        verify(service, times(0)).findProductSummariesByIds(any());
+    }
 }
@@ -1,6 +1,7 @@
 package shop.yesaladin.shop.product.controller;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
@@ -32,6 +33,10 @@ import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
+import shop.yesaladin.shop.common.dto.PaginatedResponseDto;
+import shop.yesaladin.shop.product.dto.ProductFacetBucketDto;
+import shop.yesaladin.shop.product.dto.ProductFacetSearchResponseDto;
+import shop.yesaladin.shop.product.dto.ProductSearchRequestDto;
 import shop.yesaladin.shop.product.dto.SearchedProductResponseDto;
 import shop.yesaladin.shop.product.service.inter.SearchProductService;
 
@@ -919,4 +924,193 @@ class SearchProductControllerTest {
                 )
         ));
     }
+
+    @WithMockUser
+    @Test
+    @DisplayName("검색어의 길이가 최대 길이를 넘으면 필터 검색에 실패")
+    void searchProducts_overMaximumInputLength() throws Exception {
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/v1/search/products/faceted")
+                .with(csrf())
+                .accept(MediaType.APPLICATION_JSON)
+                .queryParam("keyword", over));
+
+        //then
+        resultActions.andExpect(status().isBadRequest());
+        Mockito.verify(searchProductService, Mockito.never()).searchProducts(any(), any());
+    }
+
+    @WithMockUser
+    @Test
+    @DisplayName("검색어와 필터로 상품 검색 성공")
+    void testSearchProductsSuccess() throws Exception {
+        //given
+        ProductFacetSearchResponseDto response = ProductFacetSearchResponseDto.builder()
+                .products(PaginatedResponseDto.<SearchedProductResponseDto>builder()
+                        .totalPage(1L)
+                        .currentPage(0L)
+                        .totalDataCount(1L)
+                        .dataList(List.of(responseDto))
+                        .build())
+                .categories(List.of(new ProductFacetBucketDto("1", 1L)))
+                .publishers(List.of(new ProductFacetBucketDto("publisher", 1L)))
+                .authors(List.of(new ProductFacetBucketDto("author", 1L)))
+                .tags(List.of(new ProductFacetBucketDto("tags", 1L)))
+                .prices(List.of(new ProductFacetBucketDto("0", 1L)))
+                .outOfStock(List.of(
+                        new ProductFacetBucketDto("false", 1L),
+                        new ProductFacetBucketDto("true", 0L)
+                ))
+                .build();
+        Mockito.when(searchProductService.searchProducts(
+                        any(ProductSearchRequestDto.class),
+                        any()
+                ))
+                .thenReturn(response);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/v1/search/products/faceted")
+                .with(csrf())
+                .accept(MediaType.APPLICATION_JSON)
+                .queryParam("keyword", "title")
+                .queryParam("publishers", "publisher")
+                .queryParam("minPrice", "0")
+                .queryParam("maxPrice", "10000")
+                .queryParam("excludeOutOfStock", "true"));
+
+        //then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", equalTo(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.success", equalTo(true)))
+                .andExpect(jsonPath("$.data.products.totalDataCount", equalTo(1)))
+                .andExpect(jsonPath("$.data.products.dataList[0].id", equalTo(1)))
+                .andExpect(jsonPath("$.data.publishers[0].key", equalTo("publisher")))
+                .andExpect(jsonPath("$.data.publishers[0].count", equalTo(1)))
+                .andExpect(jsonPath("$.data.outOfStock[1].key", equalTo("true")));
+
+        resultActions.andDo(document(
+                "search-product-success-faceted",
+                getDocumentRequest(),
+                getDocumentResponse(),
+                requestParameters(
+                        parameterWithName("keyword").description("검색어").optional(),
+                        parameterWithName("publishers").description("출판사 이름 필터").optional(),
+                        parameterWithName("minPrice").description("최소 판매가").optional(),
+                        parameterWithName("maxPrice").description("최대 판매가").optional(),
+                        parameterWithName("excludeOutOfStock").description("품절 상품 제외 여부")
+                                .optional(),
+                        parameterWithName("_csrf").description("csrf")
+                ),
+                responseFields(
+                        fieldWithPath("status").type(JsonFieldType.NUMBER).description("상태"),
+                        fieldWithPath("success").type(JsonFieldType.BOOLEAN)
+                                .description("동작 성공 여부"),
+                        fieldWithPath("errorMessages").type(JsonFieldType.ARRAY)
+                                .description("에러 메세지")
+                                .optional(),
+                        fieldWithPath("data.products.totalPage").type(JsonFieldType.NUMBER)
+                                .description("검색 전체 페이지"),
+                        fieldWithPath("data.products.currentPage").type(JsonFieldType.NUMBER)
+                                .description("현쟈 페이지"),
+                        fieldWithPath("data.products.totalDataCount").type(JsonFieldType.NUMBER)
+                                .description("전체 데이터 갯수"),
+                        fieldWithPath("data.products.dataList").type(JsonFieldType.ARRAY)
+                                .description("검색 결과 상품 리스트"),
+                        fieldWithPath("data.products.dataList.[].id").type(JsonFieldType.NUMBER)
+                                .description("상품의 id"),
+                        fieldWithPath("data.products.dataList.[].title").type(JsonFieldType.STRING)
+                                .description("상품의 제목"),
+                        fieldWithPath("data.products.dataList.[].isbn").type(JsonFieldType.STRING)
+                                .description("상품의 isbn"),
+                        fieldWithPath("data.products.dataList.[].publisher").type(JsonFieldType.STRING)
+                                .description("상품의 출판사"),
+                        fieldWithPath("data.products.dataList.[].quantity").type(JsonFieldType.NUMBER)
+                                .description("상품의 갯수"),
+                        fieldWithPath("data.products.dataList.[].sellingPrice").type(JsonFieldType.NUMBER)
+                                .description("상품의 판매가"),
+                        fieldWithPath("data.products.dataList.[].rate").type(JsonFieldType.NUMBER)
+                                .description("상품의 할인율"),
+                        fieldWithPath("data.products.dataList.[].isForcedOutOfStock").type(JsonFieldType.BOOLEAN)
+                                .description("상품의 강제 품절 여부"),
+                        fieldWithPath("data.products.dataList.[].isEbook").type(JsonFieldType.BOOLEAN)
+                                .description("E-book 여부"),
+                        fieldWithPath("data.products.dataList.[].isSubscriptionAvailable").type(JsonFieldType.BOOLEAN)
+                                .description("구독 상품 여부"),
+                        fieldWithPath("data.products.dataList.[].publishedDate").type(JsonFieldType.STRING)
+                                .description("출판 날짜"),
+                        fieldWithPath("data.products.dataList.[].thumbnailFile").type(JsonFieldType.STRING)
+                                .description("상품의 썸네일 사진"),
+                        fieldWithPath("data.products.dataList.[].authors").type(JsonFieldType.ARRAY)
+                                .description("상품의 저자 리스트"),
+                        fieldWithPath("data.products.dataList.[].tags.[]").type(JsonFieldType.ARRAY)
+                                .description("상품의 태그 리스트"),
+                        fieldWithPath("data.categories.[].key").type(JsonFieldType.STRING)
+                                .description("카테고리 id"),
+                        fieldWithPath("data.categories.[].count").type(JsonFieldType.NUMBER)
+                                .description("카테고리 별 상품 수"),
+                        fieldWithPath("data.publishers.[].key").type(JsonFieldType.STRING)
+                                .description("출판사 이름"),
+                        fieldWithPath("data.publishers.[].count").type(JsonFieldType.NUMBER)
+                                .description("출판사 별 상품 수"),
+                        fieldWithPath("data.authors.[].key").type(JsonFieldType.STRING)
+                                .description("저자 이름"),
+                        fieldWithPath("data.authors.[].count").type(JsonFieldType.NUMBER)
+                                .description("저자 별 상품 수"),
+                        fieldWithPath("data.tags.[].key").type(JsonFieldType.STRING)
+                                .description("태그 이름"),
+                        fieldWithPath("data.tags.[].count").type(JsonFieldType.NUMBER)
+                                .description("태그 별 상품 수"),
+                        fieldWithPath("data.prices.[].key").type(JsonFieldType.STRING)
+                                .description("가격대의 시작 가격"),
+                        fieldWithPath("data.prices.[].count").type(JsonFieldType.NUMBER)
+                                .description("가격대 별 상품 수"),
+                        fieldWithPath("data.outOfStock.[].key").type(JsonFieldType.STRING)
+                                .description("품절 여부"),
+                        fieldWithPath("data.outOfStock.[].count").type(JsonFieldType.NUMBER)
+                                .description("품절 여부 별 상품 수")
+                )
+        ));
+    }
+
+    @WithMockUser
+    @Test
+    @DisplayName("접두어로 검색어 자동 완성 성공")
+    void testSuggestProductsSuccess() throws Exception {
+        //given
+        Mockito.when(searchProductService.suggestProducts("ti"))
+                .thenReturn(List.of("title", "tiger"));
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/v1/search/products/suggestions")
+                .with(csrf())
+                .accept(MediaType.APPLICATION_JSON)
+                .queryParam("prefix", "ti"));
+
+        //then
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", equalTo(HttpStatus.OK.value())))
+                .andExpect(jsonPath("$.success", equalTo(true)))
+                .andExpect(jsonPath("$.data[0]", equalTo("title")))
+                .andExpect(jsonPath("$.data[1]", equalTo("tiger")));
+
+        resultActions.andDo(document(
+                "search-product-success-suggestions",
+                getDocumentRequest(),
+                getDocumentResponse(),
+                requestParameters(
+                        parameterWithName("prefix").description("입력 중인 검색어"),
+                        parameterWithName("_csrf").description("csrf")
+                ),
+                responseFields(
+                        fieldWithPath("status").type(JsonFieldType.NUMBER).description("상태"),
+                        fieldWithPath("success").type(JsonFieldType.BOOLEAN)
+                                .description("동작 성공 여부"),
+                        fieldWithPath("errorMessages").type(JsonFieldType.ARRAY)
+                                .description("에러 메세지")
+                                .optional(),
+                        fieldWithPath("data").type(JsonFieldType.ARRAY)
+                                .description("자동 완성 검색어 리스트")
+                )
+        ));
+    }
 }
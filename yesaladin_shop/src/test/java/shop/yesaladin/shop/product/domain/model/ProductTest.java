@@ -94,4 +94,47 @@ class ProductTest {
         // then
         assertThat(product.isForcedOutOfStock()).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("상품 가격 계산 성공_전체 할인율 적용")
+    void refreshPrice_totalDiscountRate() {
+        // when
+        product.refreshPrice();
+
+        // then
+        assertThat(product.getPrice().isCalculated()).isTrue();
+        assertThat(product.getSellingPrice()).isEqualTo(9000L);
+        assertThat(product.getAppliedDiscountRate()).isEqualTo(10);
+        assertThat(product.getPointPrice()).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("상품 가격 계산 성공_개별 할인율 적용")
+    void refreshPrice_separatelyDiscount() {
+        // given
+        Product separatelyDiscounted = Product.builder()
+                .isbn(ISBN)
+                .actualPrice(12345L)
+                .discountRate(15)
+                .isSeparatelyDiscount(true)
+                .isGivenPoint(false)
+                .totalDiscountRate(DummyTotalDiscountRate.dummy())
+                .build();
+
+        // when
+        separatelyDiscounted.refreshPrice();
+
+        // then
+        assertThat(separatelyDiscounted.getSellingPrice()).isEqualTo(10490L);
+        assertThat(separatelyDiscounted.getAppliedDiscountRate()).isEqualTo(15);
+        assertThat(separatelyDiscounted.getPointPrice()).isZero();
+    }
+
+    @Test
+    @DisplayName("가격이 저장되기 전의 상품은 조회 시 가격을 계산하여 반환")
+    void getSellingPrice_notCalculated() {
+        // then
+        assertThat(product.getPrice()).isNull();
+        assertThat(product.getSellingPrice()).isEqualTo(9000L);
+    }
+}
@@ -0,0 +1,159 @@
+package shop.yesaladin.shop.product.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import shop.yesaladin.shop.product.domain.model.ManagerSearchedProduct;
+import shop.yesaladin.shop.product.domain.repository.SearchManagerProductRepository;
+import shop.yesaladin.shop.product.dto.ProductCursor;
+import shop.yesaladin.shop.product.dto.ProductManagerSearchType;
+
+@SpringBootTest
+@ActiveProfiles("local-test")
+class ElasticManagerProductRepositoryTest {
+
+    @Autowired
+    private SearchManagerProductRepository searchManagerProductRepository;
+    @Autowired
+    private ElasticCommandManagerProductRepository elasticCommandManagerProductRepository;
+
+    @BeforeEach
+    void setUp() {
+        elasticCommandManagerProductRepository.saveAll(List.of(
+                product(-1L, "manager-isbn-1", "뷁쀍 테스트 도서", "뷁", 2, false),
+                product(-2L, "manager-isbn-2", "뷁쀍 관리자 도서", "쀍", 1, false),
+                product(-3L, "manager-isbn-3", "뷁쀍 검색 도서", "뷁", 1, false),
+                product(-4L, "manager-isbn-4", "뷁쀍 삭제 도서", "뷁", 1, true)
+        ));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 1-gram 필드로 해당 글자를 포함하는 상품을 검색한다")
+    void testSearchIds_singleCharacter() {
+        //when
+        Page<Long> result = searchManagerProductRepository.searchIds(
+                ProductManagerSearchType.PUBLISHER,
+                "쀍",
+                PageRequest.of(0, 10)
+        );
+
+        //then
+        assertThat(result.getContent()).contains(-2L).doesNotContain(-1L, -3L, -4L);
+    }
+
+    @Test
+    @DisplayName("두 글자 이상의 검색어는 연속으로 포함하는 상품만 검색한다")
+    void testSearchIds_multiCharacter() {
+        //when
+        Page<Long> match = searchManagerProductRepository.searchIds(
+                ProductManagerSearchType.TITLE,
+                "관리자 도",
+                PageRequest.of(0, 10)
+        );
+        Page<Long> notContiguous = searchManagerProductRepository.searchIds(
+                ProductManagerSearchType.TITLE,
+                "뷁쀍 도서",
+                PageRequest.of(0, 10)
+        );
+
+        //then
+        assertThat(match.getContent()).contains(-2L).doesNotContain(-1L, -3L, -4L);
+        assertThat(notContiguous.getContent()).doesNotContain(-1L, -2L, -3L, -4L);
+    }
+
+    @Test
+    @DisplayName("ISBN 은 일치하는 상품만 검색한다")
+    void testSearchIds_isbn() {
+        //when
+        Page<Long> match = searchManagerProductRepository.searchIds(
+                ProductManagerSearchType.ISBN,
+                "manager-isbn-1",
+                PageRequest.of(0, 10)
+        );
+        Page<Long> partial = searchManagerProductRepository.searchIds(
+                ProductManagerSearchType.ISBN,
+                "manager-isbn",
+                PageRequest.of(0, 10)
+        );
+
+        //then
+        assertThat(match.getContent()).containsExactly(-1L);
+        assertThat(partial.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제된 상품은 검색하지 않는다")
+    void testSearchIds_deleted() {
+        //when
+        Page<Long> result = searchManagerProductRepository.searchIds(
+                ProductManagerSearchType.TITLE,
+                "삭제 도서",
+                PageRequest.of(0, 10)
+        );
+        long count = searchManagerProductRepository.count(ProductManagerSearchType.TITLE, "삭제 도서");
+
+        //then
+        assertThat(result.getContent()).doesNotContain(-4L);
+        assertThat(result.getTotalElements()).isZero();
+        assertThat(count).isZero();
+    }
+
+    @Test
+    @DisplayName("cursor 다음의 상품을 노출 우선순위, id 순으로 이어서 검색한다")
+    void testSearchIdsAfter() {
+        //when
+        List<ProductCursor> first = searchManagerProductRepository.searchCursorsAfter(
+                ProductManagerSearchType.TITLE,
+                "뷁쀍",
+                null,
+                2
+        );
+        List<ProductCursor> next = searchManagerProductRepository.searchCursorsAfter(
+                ProductManagerSearchType.TITLE,
+                "뷁쀍",
+                ProductCursor.of(1, -2L),
+                2
+        );
+
+        //then
+        assertThat(first).extracting(ProductCursor::getId).containsExactly(-3L, -2L);
+        assertThat(first).extracting(ProductCursor::getPreferentialShowRanking)
+                .containsExactly(1, 1);
+        assertThat(next).extracting(ProductCursor::getId).containsExactly(-1L);
+        assertThat(next).extracting(ProductCursor::getPreferentialShowRanking).containsExactly(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        elasticCommandManagerProductRepository.deleteAllById(List.of(-1L, -2L, -3L, -4L));
+    }
+
+    private static ManagerSearchedProduct product(
+            long id,
+            String isbn,
+            String title,
+            String publisher,
+            int preferentialShowRanking,
+            boolean isDeleted
+    ) {
+        return ManagerSearchedProduct.builder()
+                .id(id)
+                .isbn(isbn)
+                .title(title)
+                .contents("내용")
+                .publisher(publisher)
+                .authors(List.of("author"))
+                .preferentialShowRanking(preferentialShowRanking)
+                .isDeleted(isDeleted)
+                .build();
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.suggest.Completion;
 import org.springframework.test.context.ActiveProfiles;
 import shop.yesaladin.shop.product.domain.model.SearchedProduct;
 import shop.yesaladin.shop.product.domain.model.SearchedProductAuthor;
@@ -19,6 +20,9 @@ import shop.yesaladin.shop.product.domain.model.SearchedProductPublisher;
 import shop.yesaladin.shop.product.domain.model.SearchedProductTag;
 import shop.yesaladin.shop.product.domain.model.SearchedProductTotalDiscountRate;
 import shop.yesaladin.shop.product.domain.repository.SearchProductRepository;
+import shop.yesaladin.shop.product.dto.ProductFacetBucketDto;
+import shop.yesaladin.shop.product.dto.ProductFacetSearchResponseDto;
+import shop.yesaladin.shop.product.dto.ProductSearchRequestDto;
 import shop.yesaladin.shop.product.dto.SearchedProductResponseDto;
 
 @SpringBootTest
@@ -47,6 +51,7 @@ class ElasticProductRepositoryTest {
                 .discountRate(10)
                 .isSeparatelyDiscount(false)
                 .searchedTotalDiscountRate(new SearchedProductTotalDiscountRate(1, 10))
+                .suggest(new Completion(new String[]{"title", "name", "author"}))
                 .build();
         elasticCommandProductRepository.save(searchedProduct);
     }
@@ -127,8 +132,109 @@ class ElasticProductRepositoryTest {
         assertThat(result.getTotalElements()).isZero();
     }
 
+    @Test
+    @DisplayName("필터로 검색하면 필터를 만족하는 상품과 다른 필터 값 별 상품 수를 함께 조회한다")
+    void testSearchProducts() {
+        ProductFacetSearchResponseDto result = searchProductRepository.searchProducts(
+                new ProductSearchRequestDto(
+                        "title",
+                        null,
+                        List.of("name"),
+                        List.of("author"),
+                        null,
+                        null,
+                        null,
+                        null
+                ),
+                pageable
+        );
+        assertThat(result.getProducts().getDataList())
+                .extracting(SearchedProductResponseDto::getId)
+                .contains(-1L);
+        assertThat(result.getPublishers())
+                .extracting(ProductFacetBucketDto::getKey)
+                .contains("name");
+        assertThat(result.getTags())
+                .extracting(ProductFacetBucketDto::getKey)
+                .contains("tag");
+    }
+
+    @Test
+    @DisplayName("조건을 만족하는 상품이 없으면 필터 검색 결과가 비어있다")
+    void testSearchProducts_notFound() {
+        ProductFacetSearchResponseDto result = searchProductRepository.searchProducts(
+                new ProductSearchRequestDto(
+                        "12ghghsdg!!담ㅇ노ㅓ",
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        true
+                ),
+                pageable
+        );
+        assertThat(result.getProducts().getDataList()).isEmpty();
+        assertThat(result.getProducts().getTotalDataCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("목록에 필요한 필드만 응답받아도 상품 목록의 값을 모두 채운다")
+    void testSearchProducts_sourceFiltered() {
+        Page<SearchedProductResponseDto> result = searchProductRepository.searchProductsByProductContent(
+                "내용",
+                pageable
+        );
+        SearchedProductResponseDto product = result.getContent().get(0);
+        assertThat(product.getIsbn()).isEqualTo("isbn");
+        assertThat(product.getPublisher()).isEqualTo("name");
+        assertThat(product.getAuthors()).containsExactly("author");
+        assertThat(product.getTags()).containsExactly("tag");
+        assertThat(product.getRate()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("태그와 작가가 없는 상품도 목록에 필요한 필드만 응답받아 빈 목록으로 채운다")
+    void testSearchProducts_sourceFilteredWithoutTags() {
+        elasticCommandProductRepository.save(SearchedProduct.builder()
+                .id(-2L)
+                .title("no tag title")
+                .contents("내용")
+                .isbn("no-tag-isbn")
+                .publisher(new SearchedProductPublisher(1L, "name"))
+                .tags(List.of())
+                .isSale(true)
+                .isDeleted(false)
+                .authors(List.of())
+                .actualPrice(10000L)
+                .discountRate(10)
+                .isSeparatelyDiscount(false)
+                .searchedTotalDiscountRate(new SearchedProductTotalDiscountRate(1, 10))
+                .build());
+
+        Page<SearchedProductResponseDto> result = searchProductRepository.searchProductsByProductISBN(
+                "no-tag-isbn",
+                pageable
+        );
+
+        assertThat(result.getContent()).hasSize(1);
+        SearchedProductResponseDto product = result.getContent().get(0);
+        assertThat(product.getIsbn()).isEqualTo("no-tag-isbn");
+        assertThat(product.getAuthors()).isEmpty();
+        assertThat(product.getTags()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("접두어로 검색어 자동 완성 테스트")
+    void testSuggestProducts() {
+        List<String> result = searchProductRepository.suggestProducts("tit", 5);
+        assertThat(result).contains("title");
+    }
+
     @AfterEach
     void setDown() {
         elasticCommandProductRepository.deleteByIdEquals(-1L);
+        elasticCommandProductRepository.deleteByIdEquals(-2L);
     }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package shop.yesaladin.shop.product.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import shop.yesaladin.shop.product.domain.model.SearchedProduct;
+import shop.yesaladin.shop.product.domain.repository.ProductSearchIndexRepository;
+
+@SpringBootTest
+@ActiveProfiles("local-test")
+class ElasticProductSearchIndexRepositoryTest {
+
+    @Autowired
+    private ProductSearchIndexRepository productSearchIndexRepository;
+    @Autowired
+    private ElasticCommandProductRepository elasticCommandProductRepository;
+
+    @Test
+    @DisplayName("새 인덱스에 색인한 뒤 alias 를 옮기면 alias 로 새 인덱스의 문서를 조회한다")
+    void reindexAndSwitchAlias() {
+        // given
+        String index = productSearchIndexRepository.createPendingIndex("test" + System.nanoTime());
+        assertThat(productSearchIndexRepository.findPendingIndex()).contains(index);
+
+        SearchedProduct live = SearchedProduct.builder().id(-2L).title("live").build();
+        productSearchIndexRepository.saveToPending(List.of(live));
+
+        // when
+        int created = productSearchIndexRepository.createAll(index, List.of(
+                SearchedProduct.builder().id(-1L).title("reindexed").build(),
+                SearchedProduct.builder().id(-2L).title("stale").build()
+        ));
+        productSearchIndexRepository.switchAlias(index);
+
+        // then
+        assertThat(created).isEqualTo(1);
+        assertThat(productSearchIndexRepository.findPendingIndex()).isEmpty();
+
+        Optional<SearchedProduct> reindexed = elasticCommandProductRepository.findById(-1L);
+        Optional<SearchedProduct> kept = elasticCommandProductRepository.findById(-2L);
+        assertThat(reindexed).isPresent();
+        assertThat(kept).isPresent();
+        assertThat(kept.get().getTitle()).isEqualTo("live");
+
+        elasticCommandProductRepository.deleteByIdEquals(-1L);
+        elasticCommandProductRepository.deleteByIdEquals(-2L);
+    }
+}
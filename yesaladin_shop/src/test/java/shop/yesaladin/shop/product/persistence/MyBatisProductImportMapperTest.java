@@ -0,0 +1,165 @@
+package shop.yesaladin.shop.product.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import shop.yesaladin.shop.category.domain.model.Category;
+import shop.yesaladin.shop.category.dummy.CategoryDummy;
+import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
+import shop.yesaladin.shop.product.dto.ProductCreateDto;
+import shop.yesaladin.shop.product.dto.ProductImportCategoryDto;
+import shop.yesaladin.shop.product.dto.ProductImportFileDto;
+import shop.yesaladin.shop.product.dto.ProductImportReferenceDto;
+import shop.yesaladin.shop.product.dto.ProductImportRelationDto;
+import shop.yesaladin.shop.product.dto.ProductImportRowDto;
+import shop.yesaladin.shop.product.dummy.DummyPublisher;
+import shop.yesaladin.shop.product.dummy.DummyTotalDiscountRate;
+import shop.yesaladin.shop.publish.domain.model.Publisher;
+import shop.yesaladin.shop.tag.domain.model.Tag;
+import shop.yesaladin.shop.writing.domain.model.Author;
+import shop.yesaladin.shop.writing.dummy.DummyAuthor;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("local-test")
+class MyBatisProductImportMapperTest {
+
+    private static final String ISBN = "9990000000001";
+    private static final String ISSN = "9990-0001";
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private MyBatisProductImportMapper mapper;
+
+    private TotalDiscountRate totalDiscountRate;
+    private Publisher publisher;
+    private Author author;
+    private Tag tag;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        totalDiscountRate = em.merge(DummyTotalDiscountRate.dummy());
+        publisher = DummyPublisher.dummy("import-publisher");
+        author = DummyAuthor.dummy("import-author", null);
+        tag = Tag.builder().name("import-tag").build();
+        category = em.merge(CategoryDummy.dummyParent());
+
+        em.persist(publisher);
+        em.persist(author);
+        em.persist(tag);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("id 목록으로 참조 정보를 한 번에 조회한다")
+    void findReferences() {
+        // when
+        List<ProductImportReferenceDto> publishers = mapper.findPublishers(List.of(
+                publisher.getId(),
+                -1L
+        ));
+        List<ProductImportReferenceDto> authors = mapper.findAuthors(List.of(author.getId()));
+        List<ProductImportReferenceDto> tags = mapper.findTags(List.of(tag.getId()));
+        List<ProductImportCategoryDto> categories = mapper.findCategories(List.of(category.getId()));
+
+        // then
+        assertThat(publishers).extracting(ProductImportReferenceDto::getName)
+                .containsExactly("import-publisher");
+        assertThat(authors).extracting(ProductImportReferenceDto::getName)
+                .containsExactly("import-author");
+        assertThat(tags).extracting(ProductImportReferenceDto::getName)
+                .containsExactly("import-tag");
+        assertThat(categories).hasSize(1);
+        assertThat(categories.get(0).getName()).isEqualTo(category.getName());
+        assertThat(categories.get(0).getIsShown()).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 상품과 연관 정보를 하나의 INSERT 문으로 저장하고 생성된 id 를 채운다")
+    void insertProducts() {
+        // given
+        mapper.insertSubscribeProducts(Set.of(ISSN));
+        List<ProductImportReferenceDto> subscribeProducts = mapper.findSubscribeProducts(Set.of(ISSN));
+        assertThat(subscribeProducts).hasSize(1);
+
+        List<ProductImportRowDto> rows = List.of(row(2L, ISBN), row(3L, "9990000000002"));
+        rows.forEach(row -> row.assignSubscribeProduct(subscribeProducts.get(0).getId()));
+        List<ProductImportFileDto> files = new ArrayList<>();
+        rows.forEach(row -> {
+            files.add(row.getThumbnailFile());
+            files.add(row.getEbookFile());
+        });
+
+        // when
+        int insertedFiles = mapper.insertFiles(files);
+        int insertedProducts = mapper.insertProducts(rows);
+        int insertedPublishes = mapper.insertPublishes(rows);
+        List<ProductImportRelationDto> writings = new ArrayList<>();
+        List<ProductImportRelationDto> productTags = new ArrayList<>();
+        List<ProductImportRelationDto> productCategories = new ArrayList<>();
+        rows.forEach(row -> {
+            writings.add(new ProductImportRelationDto(row.getProductId(), author.getId()));
+            productTags.add(new ProductImportRelationDto(row.getProductId(), tag.getId()));
+            productCategories.add(new ProductImportRelationDto(row.getProductId(), category.getId()));
+        });
+        int insertedWritings = mapper.insertWritings(writings);
+        int insertedTags = mapper.insertProductTags(productTags);
+        int insertedCategories = mapper.insertProductCategories(productCategories);
+
+        // then
+        assertThat(insertedFiles).isEqualTo(4);
+        assertThat(files).allMatch(file -> file.getId() != null);
+        assertThat(insertedProducts).isEqualTo(2);
+        assertThat(rows).allMatch(row -> row.getProductId() != null);
+        assertThat(rows.get(0).getProductId()).isNotEqualTo(rows.get(1).getProductId());
+        assertThat(insertedPublishes).isEqualTo(2);
+        assertThat(insertedWritings).isEqualTo(2);
+        assertThat(insertedTags).isEqualTo(2);
+        assertThat(insertedCategories).isEqualTo(2);
+        assertThat(mapper.findExistingIsbns(List.of(ISBN, "9990000000002", "9990000000003")))
+                .containsExactlyInAnyOrder(ISBN, "9990000000002");
+    }
+
+    private ProductImportRowDto row(long rowNumber, String isbn) {
+        ProductCreateDto dto = new ProductCreateDto(
+                isbn,
+                "import-title",
+                "목차",
+                "설명",
+                List.of(author.getId()),
+                publisher.getId(),
+                30000,
+                15,
+                true,
+                3,
+                true,
+                ISSN,
+                true,
+                true,
+                100,
+                "2023-01-01",
+                1,
+                "https://storage/thumbnail.png",
+                "2023-01-01T00:00:00",
+                "https://storage/ebook.pdf",
+                "2023-01-01T00:00:00",
+                "BESTSELLER",
+                "SELLING_PRICE",
+                List.of(tag.getId()),
+                List.of(category.getId())
+        );
+        return ProductImportRowDto.of(rowNumber, dto, totalDiscountRate);
+    }
+}
@@ -0,0 +1,110 @@
+package shop.yesaladin.shop.product.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import shop.yesaladin.shop.config.ProductSuggestProperties;
+
+class ProductSuggestionCacheTest {
+
+    private static final Instant NOW = Instant.parse("2023-01-20T00:00:00.000Z");
+
+    private ProductSuggestionCache cache;
+    private Clock clock;
+    private final AtomicInteger loaded = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        ProductSuggestProperties properties = mock(ProductSuggestProperties.class);
+        when(properties.getCacheTtlSeconds()).thenReturn(10L);
+        when(properties.getCacheMaxSize()).thenReturn(2);
+        cache = new ProductSuggestionCache(properties, clock);
+    }
+
+    @Test
+    @DisplayName("만료되기 전에는 캐시된 결과를 반환하고, 만료되면 다시 조회한다")
+    void get_expire() {
+        // given
+        cache.get("ti", this::load);
+
+        // when
+        cache.get("ti", this::load);
+        when(clock.instant()).thenReturn(NOW.plusSeconds(10));
+        cache.get("ti", this::load);
+
+        // then
+        assertThat(loaded).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차면 가장 오래 사용되지 않은 결과를 지우고 새 결과를 저장한다")
+    void get_full() {
+        // given
+        cache.get("ti", this::load);
+        cache.get("ta", this::load);
+        cache.get("ti", this::load);
+
+        // when
+        cache.get("to", this::load);
+        cache.get("to", this::load);
+        cache.get("ti", this::load);
+        cache.get("ta", this::load);
+
+        // then
+        assertThat(loaded).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("같은 접두어를 동시에 조회하면 한 번만 조회한다")
+    void get_concurrent() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<List<String>> first = executor.submit(() -> cache.get("ti", () -> {
+            started.countDown();
+            await(release);
+            return load();
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        Future<List<String>> second = executor.submit(() -> cache.get("ti", this::load));
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly("title");
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly("title");
+        assertThat(loaded).hasValue(1);
+        executor.shutdown();
+    }
+
+    private List<String> load() {
+        loaded.incrementAndGet();
+        return List.of("title");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
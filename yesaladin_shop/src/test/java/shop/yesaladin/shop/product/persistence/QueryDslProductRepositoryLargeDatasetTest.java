@@ -0,0 +1,131 @@
+package shop.yesaladin.shop.product.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import shop.yesaladin.shop.product.domain.model.Product;
+import shop.yesaladin.shop.product.dto.ProductCursor;
+
+/**
+ * 30만 건의 상품이 저장된 상태에서 cursor 기반 상품 목록 조회가 페이지 깊이와 관계없이 인덱스를 사용하는지 확인하는 테스트 입니다.
+ */
+@Transactional
+@SpringBootTest
+@ActiveProfiles("local-test")
+class QueryDslProductRepositoryLargeDatasetTest {
+
+    private static final int ROWS = 300_000;
+    private static final int BASE_RANKING = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QueryDslProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO products "
+                + "(isbn, title, contents, description, actual_price, discount_rate, "
+                + "is_separately_discount, given_point_rate, is_given_point, "
+                + "is_subscription_available, is_sale, is_forced_out_of_stock, quantity, "
+                + "preferential_show_ranking, is_deleted) "
+                + "SELECT CONCAT('LARGE-', X), CONCAT('title', X), 'contents', 'description', "
+                + "10000, 0, FALSE, 0, FALSE, FALSE, TRUE, FALSE, 100, "
+                + BASE_RANKING + " + CAST(FLOOR(X / 100) AS INT), FALSE "
+                + "FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("깊은 페이지의 cursor 조회도 (노출 우선순위, id) 인덱스를 사용한다.")
+    void findAllByCursor_deepPage_usesIndex() {
+        //given
+        ProductCursor cursor = cursorAt(250_000);
+        int ranking = cursor.getPreferentialShowRanking();
+        long id = cursor.getId();
+
+        //when
+        String plan = explain("SELECT * FROM products "
+                + "WHERE is_deleted = FALSE AND is_sale = TRUE "
+                + "AND preferential_show_ranking >= " + ranking + " "
+                + "AND (preferential_show_ranking > " + ranking + " "
+                + "OR (preferential_show_ranking = " + ranking + " AND id > " + id + ")) "
+                + "ORDER BY preferential_show_ranking, id LIMIT " + (PAGE_SIZE + 1));
+
+        //then
+        assertThat(plan).doesNotContain("tableScan");
+        assertThat(plan).containsIgnoringCase("idx_products_ranking_id");
+    }
+
+    @Test
+    @DisplayName("첫 페이지와 깊은 페이지가 같은 방식으로 올바르게 조회된다.")
+    void findAllByCursor_firstAndDeepPage() {
+        //given
+        List<Product> first = repository.findAllByCursor(cursorAt(0), PAGE_SIZE, null);
+
+        //when
+        List<Product> deep = repository.findAllByCursor(cursorAt(250_000), PAGE_SIZE, null);
+
+        //then
+        assertThat(first).hasSize(PAGE_SIZE);
+        assertThat(first.get(0).getIsbn()).isEqualTo("LARGE-1");
+        assertThat(deep).hasSize(PAGE_SIZE);
+        assertThat(deep.get(0).getIsbn()).isEqualTo("LARGE-250001");
+        assertThat(deep.get(PAGE_SIZE - 1).getIsbn()).isEqualTo("LARGE-250020");
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 남은 상품만 조회된다.")
+    void findAllByCursor_lastPage() {
+        //given
+        ProductCursor cursor = cursorAt(ROWS - 3);
+
+        //when
+        List<Product> page = repository.findAllByCursor(cursor, PAGE_SIZE, null);
+
+        //then
+        assertThat(page).extracting(Product::getIsbn)
+                .containsExactly("LARGE-" + (ROWS - 2), "LARGE-" + (ROWS - 1), "LARGE-" + ROWS);
+    }
+
+    /**
+     * 시드된 X 번째 상품 바로 다음을 가리키는 cursor 를 반환합니다. X 가 0 이면 시드된 첫 상품 앞을 가리킵니다.
+     */
+    private ProductCursor cursorAt(int x) {
+        if (x == 0) {
+            return cursor(BASE_RANKING, 0L);
+        }
+        return jdbcTemplate.queryForObject(
+                "SELECT preferential_show_ranking, id FROM products WHERE isbn = ?",
+                (rs, rowNum) -> cursor(rs.getInt(1), rs.getLong(2)),
+                "LARGE-" + x
+        );
+    }
+
+    private ProductCursor cursor(int ranking, long id) {
+        return ProductCursor.decode(Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((ranking + ":" + id).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
@@ -28,6 +28,7 @@ import shop.yesaladin.shop.product.domain.model.Product;
 import shop.yesaladin.shop.product.domain.model.ProductTypeCode;
 import shop.yesaladin.shop.product.domain.model.SubscribeProduct;
 import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
+import shop.yesaladin.shop.product.dto.ProductCursor;
 import shop.yesaladin.shop.product.dto.ProductOnlyTitleDto;
 import shop.yesaladin.shop.product.dto.ProductOrderRequestDto;
 import shop.yesaladin.shop.product.dto.ProductOrderSheetResponseDto;
@@ -38,8 +39,6 @@ import shop.yesaladin.shop.product.dummy.DummySubscribeProduct;
 import shop.yesaladin.shop.product.dummy.DummyTotalDiscountRate;
 import shop.yesaladin.shop.publish.domain.model.Publish;
 import shop.yesaladin.shop.publish.domain.model.Publisher;
-import shop.yesaladin.shop.writing.domain.model.Author;
-import shop.yesaladin.shop.writing.domain.model.Writing;
 
 @Transactional
 @SpringBootTest
@@ -260,6 +259,52 @@ class QueryDslProductRepositoryTest {
                 .getProductTypeCode()).isEqualTo(ProductTypeCode.BESTSELLER);
     }
 
+    @Test
+    @DisplayName("상품 모든 사용자용 cursor 조회")
+    void findAllByCursor() {
+        // given
+        entityManager.persist(product1);
+        entityManager.persist(product2);
+        product3.deleteProduct();
+        entityManager.persist(product3);
+
+        // when
+        List<Product> first = repository.findAllByCursor(null, 1, null);
+        List<Product> second = repository.findAllByCursor(
+                ProductCursor.after(first.get(0)),
+                1,
+                null
+        );
+        List<Product> last = repository.findAllByCursor(ProductCursor.after(second.get(0)), 1, null);
+
+        // then
+        assertThat(first).extracting(Product::getIsbn).containsExactly(ISBN1);
+        assertThat(second).extracting(Product::getIsbn).containsExactly(ISBN2);
+        assertThat(last).isEmpty();
+        assertThat(repository.countAll(null)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상품 관리자용 유형별 cursor 조회")
+    void findAllForManagerByCursor() {
+        // given
+        entityManager.persist(product1);
+        entityManager.persist(product2);
+        product3.deleteProduct();
+        entityManager.persist(product3);
+
+        // when
+        List<Product> products = repository.findAllForManagerByCursor(
+                null,
+                5,
+                ProductTypeCode.NEWBOOK.getId()
+        );
+
+        // then
+        assertThat(products).extracting(Product::getIsbn).containsExactly(ISBN2, ISBN3);
+        assertThat(repository.countAllForManager(ProductTypeCode.NEWBOOK.getId())).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("상품 유형별 조회_성공")
     void findAllByTypeId_success() {
@@ -332,73 +377,6 @@ class QueryDslProductRepositoryTest {
                 .isInstanceOf(ClientException.class);
     }
 
-    @Test
-    @DisplayName("관리자가 상품 제목으로 상품 조회")
-    void findByTitleForManager() {
-        entityManager.persist(product1);
-        entityManager.persist(product2);
-
-        Page<Product> results = repository.findByTitleForManager("title", PageRequest.of(0, 10));
-        assertThat(results).hasSize(2);
-        assertThat(results.getContent().get(0).getTitle()).contains("title");
-        assertThat(results.getContent().get(1).getTitle()).contains("title");
-    }
-
-    @Test
-    @DisplayName("관리자가 상품 ISBN으로 상품 조회")
-    void findByISBNForManager() {
-        entityManager.persist(product1);
-
-        Page<Product> results = repository.findByISBNForManager(
-                product1.getIsbn(),
-                PageRequest.of(0, 10)
-        );
-        assertThat(results).hasSize(1);
-        assertThat(results.getContent().get(0).getIsbn()).isEqualTo(product1.getIsbn());
-    }
-
-    @Test
-    @DisplayName("관리자가 상품 내용으로 상품 조회")
-    void findByContentForManager() {
-        entityManager.persist(product1);
-
-        Page<Product> results = repository.findByContentForManager(
-                product1.getContents(),
-                PageRequest.of(0, 10)
-        );
-        assertThat(results).hasSize(1);
-        assertThat(results.getContent().get(0).getContents()).isEqualTo(product1.getContents());
-    }
-
-    @Test
-    @DisplayName("관리자가 상품 ISBN으로 상품 조회")
-    void findByPublisherForManager() {
-        Publisher publisher = Publisher.builder().name("name").build();
-        Publish publish = Publish.create(product1, publisher, "2011-11-11");
-
-        entityManager.persist(publisher);
-        entityManager.persist(product1);
-        entityManager.persist(publish);
-        Page<Product> results = repository.findByPublisherForManager(
-                publisher.getName(),
-                PageRequest.of(0, 10)
-        );
-        assertThat(results).hasSize(1);
-    }
-
-    @Test
-    @DisplayName("관리자가 상품 ISBN으로 상품 조회")
-    void findByAuthorForManager() {
-        Author author = Author.builder().name("name").build();
-        Writing writing = Writing.create(product1, author);
-        entityManager.persist(author);
-        entityManager.persist(product1);
-        entityManager.persist(writing);
-
-        Page<Product> results = repository.findByAuthorForManager("name", PageRequest.of(0, 10));
-        assertThat(results).hasSize(1);
-    }
-
     @Test
     @DisplayName("주문에 필요한 상품 데이터 조회")
     void getProductForOrder() {
@@ -524,4 +502,4 @@ class QueryDslProductRepositoryTest {
         entityManager.persist(productCategory2);
         entityManager.persist(productCategory3);
     }
-}
\ No newline at end of file
+}
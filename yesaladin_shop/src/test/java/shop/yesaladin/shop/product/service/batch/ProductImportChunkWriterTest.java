@@ -0,0 +1,145 @@
+package shop.yesaladin.shop.product.service.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import javax.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
+import shop.yesaladin.shop.product.domain.repository.ProductImportRepository;
+import shop.yesaladin.shop.product.dto.ProductImportCategoryDto;
+import shop.yesaladin.shop.product.dto.ProductImportErrorDto;
+import shop.yesaladin.shop.product.dto.ProductImportReferenceDto;
+import shop.yesaladin.shop.product.dto.ProductImportRelationDto;
+import shop.yesaladin.shop.product.dto.ProductImportRowDto;
+import shop.yesaladin.shop.product.dummy.DummyProductCreateDto;
+import shop.yesaladin.shop.product.dummy.DummyTotalDiscountRate;
+import shop.yesaladin.shop.product.service.batch.ProductImportReader.Row;
+
+class ProductImportChunkWriterTest {
+
+    private final TotalDiscountRate totalDiscountRate = DummyTotalDiscountRate.dummy();
+
+    private ProductImportRepository productImportRepository;
+    private ProductImportChunkWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        productImportRepository = mock(ProductImportRepository.class);
+        Validator validator = mock(Validator.class);
+        when(validator.validate(any())).thenReturn(Set.of());
+        writer = new ProductImportChunkWriter(productImportRepository, validator);
+
+        when(productImportRepository.findAuthors(anyCollection()))
+                .thenReturn(List.of(new ProductImportReferenceDto(1L, "author")));
+        when(productImportRepository.findPublishers(anyCollection()))
+                .thenReturn(List.of(new ProductImportReferenceDto(1L, "publisher")));
+        when(productImportRepository.findTags(anyCollection())).thenReturn(List.of(
+                new ProductImportReferenceDto(1L, "tag1"),
+                new ProductImportReferenceDto(2L, "tag2")
+        ));
+        when(productImportRepository.findCategories(anyCollection())).thenReturn(List.of(
+                new ProductImportCategoryDto(1L, null, "category1", true),
+                new ProductImportCategoryDto(2L, 1L, "category2", true)
+        ));
+    }
+
+    @Test
+    @DisplayName("chunk 의 상품과 연관 정보를 종류별로 한 번에 저장한다")
+    void write() {
+        // given
+        List<Row> rows = List.of(row(2L, "0000000000001"), row(3L, "0000000000002"));
+
+        // when
+        ProductImportChunkResult result = writer.write(rows, totalDiscountRate);
+
+        // then
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getImported()).extracting(ProductImportRowDto::getIsbn)
+                .containsExactly("0000000000001", "0000000000002");
+        assertThat(result.getPublishers()).containsOnlyKeys(1L);
+        verify(productImportRepository).insertFiles(anyList());
+        verify(productImportRepository).insertProducts(anyList());
+        verify(productImportRepository).insertPublishes(anyList());
+
+        ArgumentCaptor<List<ProductImportRelationDto>> writings = ArgumentCaptor.forClass(List.class);
+        verify(productImportRepository).insertWritings(writings.capture());
+        assertThat(writings.getValue()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("chunk 안에서 중복되거나 이미 등록된 isbn 의 행은 저장하지 않고 오류로 반환한다")
+    void write_duplicatedIsbn() {
+        // given
+        when(productImportRepository.findExistingIsbns(anyCollection()))
+                .thenReturn(List.of("0000000000003"));
+        List<Row> rows = List.of(
+                row(2L, "0000000000001"),
+                row(3L, "0000000000001"),
+                row(4L, "0000000000003")
+        );
+
+        // when
+        ProductImportChunkResult result = writer.write(rows, totalDiscountRate);
+
+        // then
+        assertThat(result.getImported()).extracting(ProductImportRowDto::getRowNumber)
+                .containsExactly(2L);
+        assertThat(result.getErrors()).extracting(ProductImportErrorDto::getRowNumber)
+                .containsExactly(3L, 4L);
+        assertThat(result.getErrors()).extracting(ProductImportErrorDto::getMessage)
+                .containsExactly(
+                        "Product already exists with isbn : 0000000000001",
+                        "Product already exists with isbn : 0000000000003"
+                );
+    }
+
+    @Test
+    @DisplayName("참조하는 출판사, 저자, 태그, 카테고리가 없는 행은 저장하지 않고 오류로 반환한다")
+    void write_missingReference() {
+        // given
+        when(productImportRepository.findPublishers(anyCollection())).thenReturn(List.of());
+        List<Row> rows = List.of(row(2L, "0000000000001"));
+
+        // when
+        ProductImportChunkResult result = writer.write(rows, totalDiscountRate);
+
+        // then
+        assertThat(result.getImported()).isEmpty();
+        assertThat(result.getErrors()).hasSize(1);
+        assertThat(result.getErrors().get(0).getRowNumber()).isEqualTo(2L);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("Publisher not found with id : 1");
+        verify(productImportRepository, never()).insertProducts(anyList());
+    }
+
+    @Test
+    @DisplayName("파일에서 읽지 못한 행은 읽을 때의 오류로 반환한다")
+    void write_failedRow() {
+        // given
+        List<Row> rows = List.of(Row.failure(2L, "0000000000001", "Invalid JSON"));
+
+        // when
+        ProductImportChunkResult result = writer.write(rows, totalDiscountRate);
+
+        // then
+        assertThat(result.getImported()).isEmpty();
+        assertThat(result.getErrors()).extracting(ProductImportErrorDto::getMessage)
+                .containsExactly("Invalid JSON");
+        verify(productImportRepository, never()).findExistingIsbns(anyCollection());
+    }
+
+    private static Row row(long rowNumber, String isbn) {
+        return Row.success(rowNumber, DummyProductCreateDto.dummy(isbn));
+    }
+}
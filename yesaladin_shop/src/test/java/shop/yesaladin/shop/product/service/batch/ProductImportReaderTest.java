@@ -0,0 +1,160 @@
+package shop.yesaladin.shop.product.service.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import shop.yesaladin.shop.product.dto.ProductImportFormat;
+import shop.yesaladin.shop.product.service.batch.ProductImportReader.Row;
+
+class ProductImportReaderTest {
+
+    private static final String HEADER = "isbn,title,contents,description,authors,publisherId,"
+            + "actualPrice,discountRate,isSeparatelyDiscount,givenPointRate,isGivenPoint,issn,"
+            + "isSubscriptionAvailable,isSale,quantity,publishedDate,preferentialShowRanking,"
+            + "thumbnailFileUrl,thumbnailFileUploadDateTime,ebookFileUrl,ebookFileUploadDateTime,"
+            + "productTypeCode,productSavingMethodCode,tags,categories\n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("CSV 파일의 큰따옴표로 감싼 값과 목록 값을 읽는다")
+    void readCsv() throws IOException {
+        // given
+        Path path = write(
+                "products.csv",
+                "\uFEFF" + HEADER
+                        + "0000000000001,\"Title, with comma\",\"line1\nline2\",\"say \"\"hi\"\"\","
+                        + "1|2,3,10000,10,true,1,true,,false,true,100,2023-01-01,1,"
+                        + "http://thumbnail,2023-01-01T00:00:00,,,BESTSELLER,STOCK,,5\n"
+                        + "\n"
+                        + "0000000000002,Title2,contents,description,,3,10000,10,true,1,true,,"
+                        + "false,true,100,2023-01-01,1,http://thumbnail,2023-01-01T00:00:00,,,"
+                        + "BESTSELLER,STOCK,7|8,\n"
+        );
+
+        // when
+        Row first;
+        Row second;
+        Row end;
+        try (ProductImportReader reader = ProductImportReader.open(
+                path,
+                ProductImportFormat.CSV,
+                objectMapper
+        )) {
+            first = reader.next();
+            second = reader.next();
+            end = reader.next();
+        }
+
+        // then
+        assertThat(first.isFailed()).isFalse();
+        assertThat(first.getRowNumber()).isEqualTo(2L);
+        assertThat(first.getIsbn()).isEqualTo("0000000000001");
+        assertThat(first.getDto().getTitle()).isEqualTo("Title, with comma");
+        assertThat(first.getDto().getContents()).isEqualTo("line1\nline2");
+        assertThat(first.getDto().getDescription()).isEqualTo("say \"hi\"");
+        assertThat(first.getDto().getAuthors()).isEqualTo(List.of(1L, 2L));
+        assertThat(first.getDto().getIssn()).isNull();
+        assertThat(first.getDto().getCategories()).isEqualTo(List.of(5L));
+
+        assertThat(second.isFailed()).isFalse();
+        assertThat(second.getRowNumber()).isEqualTo(5L);
+        assertThat(second.getDto().getAuthors()).isNull();
+        assertThat(second.getDto().getTags()).isEqualTo(List.of(7L, 8L));
+
+        assertThat(end).isNull();
+    }
+
+    @Test
+    @DisplayName("CSV 행의 열 개수가 header 와 다르면 오류 행을 반환하고 다음 행을 계속 읽는다")
+    void readCsv_columnCountMismatch() throws IOException {
+        // given
+        Path path = write(
+                "products.csv",
+                HEADER + "0000000000001,Title\n"
+                        + "0000000000002,Title2,contents,description,,3,10000,10,true,1,true,,"
+                        + "false,true,100,2023-01-01,1,http://thumbnail,2023-01-01T00:00:00,,,"
+                        + "BESTSELLER,STOCK,,\n"
+        );
+
+        // when
+        Row failed;
+        Row next;
+        try (ProductImportReader reader = ProductImportReader.open(
+                path,
+                ProductImportFormat.CSV,
+                objectMapper
+        )) {
+            failed = reader.next();
+            next = reader.next();
+        }
+
+        // then
+        assertThat(failed.isFailed()).isTrue();
+        assertThat(failed.getIsbn()).isEqualTo("0000000000001");
+        assertThat(failed.getError()).contains("25");
+        assertThat(next.isFailed()).isFalse();
+        assertThat(next.getIsbn()).isEqualTo("0000000000002");
+    }
+
+    @Test
+    @DisplayName("NDJSON 파일을 한 줄씩 읽고 잘못된 JSON 은 오류 행으로 반환한다")
+    void readNdjson() throws IOException {
+        // given
+        Path path = write(
+                "products.ndjson",
+                "{\"isbn\":\"0000000000001\",\"title\":\"Title\",\"authors\":[1,2],\"tags\":[3]}\n"
+                        + "{\"isbn\":\n"
+                        + "\n"
+                        + "{\"isbn\":\"0000000000002\",\"title\":\"Title2\"}\n"
+        );
+
+        // when
+        Row first;
+        Row broken;
+        Row third;
+        Row end;
+        try (ProductImportReader reader = ProductImportReader.open(
+                path,
+                ProductImportFormat.NDJSON,
+                objectMapper
+        )) {
+            first = reader.next();
+            broken = reader.next();
+            third = reader.next();
+            end = reader.next();
+        }
+
+        // then
+        assertThat(first.isFailed()).isFalse();
+        assertThat(first.getRowNumber()).isEqualTo(1L);
+        assertThat(first.getDto().getAuthors()).isEqualTo(List.of(1L, 2L));
+        assertThat(first.getDto().getTags()).isEqualTo(List.of(3L));
+
+        assertThat(broken.isFailed()).isTrue();
+        assertThat(broken.getRowNumber()).isEqualTo(2L);
+
+        assertThat(third.isFailed()).isFalse();
+        assertThat(third.getRowNumber()).isEqualTo(4L);
+        assertThat(third.getIsbn()).isEqualTo("0000000000002");
+
+        assertThat(end).isNull();
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path path = tempDir.resolve(name);
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+        return path;
+    }
+}
@@ -0,0 +1,95 @@
+package shop.yesaladin.shop.product.service.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import shop.yesaladin.shop.common.lock.RedisLock;
+import shop.yesaladin.shop.config.ProductPricingProperties;
+import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
+import shop.yesaladin.shop.product.domain.repository.QueryTotalDiscountRateRepository;
+import shop.yesaladin.shop.product.service.inter.ProductPricingService;
+
+class ProductPriceReconcilerTest {
+
+    private ProductPriceReconciler reconciler;
+    private QueryTotalDiscountRateRepository queryTotalDiscountRateRepository;
+    private ProductPricingService productPricingService;
+    private RedisLock redisLock;
+    private TotalDiscountRate totalDiscountRate;
+
+    @BeforeEach
+    void setUp() {
+        queryTotalDiscountRateRepository = mock(QueryTotalDiscountRateRepository.class);
+        productPricingService = mock(ProductPricingService.class);
+        redisLock = mock(RedisLock.class);
+        ProductPricingProperties properties = mock(ProductPricingProperties.class);
+        when(properties.getLockTtlSeconds()).thenReturn(600L);
+
+        totalDiscountRate = TotalDiscountRate.builder().id(1).discountRate(20).build();
+        when(queryTotalDiscountRateRepository.findAll()).thenReturn(List.of(totalDiscountRate));
+
+        reconciler = new ProductPriceReconciler(
+                queryTotalDiscountRateRepository,
+                productPricingService,
+                redisLock,
+                properties
+        );
+    }
+
+    @Test
+    @DisplayName("전체 할인율 별로 아직 다시 계산되지 않은 상품의 가격을 다시 계산한다")
+    void reconcile() {
+        //given
+        when(redisLock.tryLock(anyString(), any())).thenReturn(Optional.of("token"));
+        when(productPricingService.repriceByTotalDiscountRate(totalDiscountRate)).thenReturn(3);
+
+        //when
+        int repriced = reconciler.reconcile();
+
+        //then
+        assertThat(repriced).isEqualTo(3);
+        verify(redisLock, times(1)).release(anyString(), eq("token"));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 lock 을 가지고 있으면 다시 계산하지 않는다")
+    void reconcile_locked() {
+        //given
+        when(redisLock.tryLock(anyString(), any())).thenReturn(Optional.empty());
+
+        //when
+        int repriced = reconciler.reconcile();
+
+        //then
+        assertThat(repriced).isZero();
+        verify(productPricingService, never()).repriceByTotalDiscountRate(any());
+    }
+
+    @Test
+    @DisplayName("다시 계산하다 실패해도 lock 을 풀고 다음 주기에 다시 시도한다")
+    void reconcile_failed() {
+        //given
+        when(redisLock.tryLock(anyString(), any())).thenReturn(Optional.of("token"));
+        when(productPricingService.repriceByTotalDiscountRate(totalDiscountRate))
+                .thenThrow(new IllegalStateException("db down"));
+
+        //when
+        int repriced = reconciler.reconcile();
+
+        //then
+        assertThat(repriced).isZero();
+        verify(redisLock, times(1)).release(anyString(), eq("token"));
+    }
+}
@@ -0,0 +1,261 @@
+package shop.yesaladin.shop.product.service.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import shop.yesaladin.shop.common.lock.RedisLock;
+import shop.yesaladin.shop.config.ProductSearchSyncProperties;
+import shop.yesaladin.shop.product.domain.model.Product;
+import shop.yesaladin.shop.product.domain.model.SearchedProduct;
+import shop.yesaladin.shop.product.domain.repository.ProductDocumentSourceRepository;
+import shop.yesaladin.shop.product.domain.repository.ProductSearchChangeRepository;
+import shop.yesaladin.shop.product.domain.repository.ProductSearchIndexRepository;
+import shop.yesaladin.shop.product.domain.repository.QueryProductRepository;
+import shop.yesaladin.shop.product.dto.ProductSearchChangeDto;
+import shop.yesaladin.shop.product.dto.ProductSearchStateDto;
+import shop.yesaladin.shop.product.persistence.ElasticCommandManagerProductRepository;
+import shop.yesaladin.shop.product.persistence.ElasticCommandProductRepository;
+import shop.yesaladin.shop.product.persistence.ProductChangePublisher;
+import shop.yesaladin.shop.product.service.inter.ProductSearchSyncService;
+
+class ProductSearchSyncWorkerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 1, 20, 0, 0);
+
+    private ProductSearchSyncWorker worker;
+    private ProductSearchChangeRepository productSearchChangeRepository;
+    private ProductDocumentSourceRepository productDocumentSourceRepository;
+    private QueryProductRepository queryProductRepository;
+    private SearchedProductAssembler searchedProductAssembler;
+    private ElasticCommandProductRepository elasticCommandProductRepository;
+    private ElasticCommandManagerProductRepository elasticCommandManagerProductRepository;
+    private ProductSearchIndexRepository productSearchIndexRepository;
+    private ProductSearchSyncService productSearchSyncService;
+    private ProductChangePublisher productChangePublisher;
+    private RedisLock redisLock;
+    private ProductSearchSyncProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        productSearchChangeRepository = mock(ProductSearchChangeRepository.class);
+        productDocumentSourceRepository = mock(ProductDocumentSourceRepository.class);
+        queryProductRepository = mock(QueryProductRepository.class);
+        searchedProductAssembler = mock(SearchedProductAssembler.class);
+        elasticCommandProductRepository = mock(ElasticCommandProductRepository.class);
+        elasticCommandManagerProductRepository = mock(ElasticCommandManagerProductRepository.class);
+        productSearchIndexRepository = mock(ProductSearchIndexRepository.class);
+        productSearchSyncService = mock(ProductSearchSyncService.class);
+        productChangePublisher = mock(ProductChangePublisher.class);
+        redisLock = mock(RedisLock.class);
+        when(redisLock.tryLock(anyString(), any())).thenReturn(Optional.of("token"));
+        when(redisLock.extend(anyString(), eq("token"), any())).thenReturn(true);
+
+        properties = mock(ProductSearchSyncProperties.class);
+        when(properties.getBatchSize()).thenReturn(10);
+        when(properties.getReconcileChunkSize()).thenReturn(10);
+        when(properties.getRetryBaseDelayMs()).thenReturn(1000L);
+        when(properties.getRetryMaxDelayMs()).thenReturn(60000L);
+        when(properties.getLockTtlSeconds()).thenReturn(60L);
+
+        worker = new ProductSearchSyncWorker(
+                productSearchChangeRepository,
+                productDocumentSourceRepository,
+                queryProductRepository,
+                searchedProductAssembler,
+                elasticCommandProductRepository,
+                elasticCommandManagerProductRepository,
+                productSearchIndexRepository,
+                productSearchSyncService,
+                productChangePublisher,
+                redisLock,
+                properties,
+                Clock.fixed(Instant.parse("2023-01-20T00:00:00.000Z"), ZoneId.of("UTC"))
+        );
+    }
+
+    @Test
+    @DisplayName("같은 상품의 변경 기록을 합쳐 색인하고, 삭제된 상품의 문서는 삭제한 뒤 기록을 지운다")
+    void sync() {
+        // given
+        when(productSearchChangeRepository.findReady(NOW, 10)).thenReturn(List.of(
+                new ProductSearchChangeDto(1L, 1L, 0),
+                new ProductSearchChangeDto(2L, 1L, 0),
+                new ProductSearchChangeDto(3L, 2L, 0)
+        ));
+        List<Product> products = products(1L);
+        when(queryProductRepository.findProductsByIds(List.of(1L, 2L))).thenReturn(products);
+        when(searchedProductAssembler.assemble(products)).thenReturn(documents(1L));
+
+        // when
+        int applied = worker.sync();
+
+        // then
+        assertThat(applied).isEqualTo(2);
+        verify(elasticCommandProductRepository).saveAll(anyList());
+        verify(productSearchIndexRepository).saveToPending(anyList());
+        verify(elasticCommandManagerProductRepository).saveAll(anyList());
+        verify(elasticCommandProductRepository).deleteAllById(Set.of(2L));
+        verify(elasticCommandManagerProductRepository).deleteAllById(Set.of(2L));
+        verify(productSearchIndexRepository).deleteFromPending(2L);
+        verify(productSearchChangeRepository).deleteByIds(List.of(1L, 2L, 3L));
+        verify(productSearchChangeRepository, never()).deferByIds(anyList(), any());
+        verify(productChangePublisher).publish(Set.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("일부 문서의 색인에 실패하면 실패한 상품의 기록만 미룬다")
+    void sync_partialFailure() {
+        // given
+        when(productSearchChangeRepository.findReady(NOW, 10)).thenReturn(List.of(
+                new ProductSearchChangeDto(1L, 1L, 0),
+                new ProductSearchChangeDto(2L, 2L, 2)
+        ));
+        List<Product> products = products(1L, 2L);
+        when(queryProductRepository.findProductsByIds(List.of(1L, 2L))).thenReturn(products);
+        when(searchedProductAssembler.assemble(products)).thenReturn(documents(1L, 2L));
+        when(elasticCommandProductRepository.saveAll(anyList()))
+                .thenThrow(new BulkFailureException("failed", Map.of("2", "mapper_parsing_exception")));
+
+        // when
+        int applied = worker.sync();
+
+        // then
+        assertThat(applied).isEqualTo(1);
+        verify(productSearchChangeRepository).deleteByIds(List.of(1L));
+        verify(productSearchChangeRepository).deferByIds(List.of(2L), NOW.plusSeconds(4));
+    }
+
+    @Test
+    @DisplayName("검색 엔진에 요청할 수 없으면 모든 기록을 미루고 다음 주기에 다시 시도한다")
+    void sync_failure() {
+        // given
+        when(productSearchChangeRepository.findReady(NOW, 10)).thenReturn(List.of(
+                new ProductSearchChangeDto(1L, 1L, 10)
+        ));
+        List<Product> products = products(1L);
+        when(queryProductRepository.findProductsByIds(List.of(1L))).thenReturn(products);
+        when(searchedProductAssembler.assemble(products)).thenReturn(documents(1L));
+        when(elasticCommandProductRepository.saveAll(anyList()))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        // when
+        int applied = worker.sync();
+
+        // then
+        assertThat(applied).isZero();
+        verify(productSearchChangeRepository, never()).deleteByIds(anyList());
+        verify(productSearchChangeRepository).deferByIds(List.of(1L), NOW.plusSeconds(60));
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 반영 중이면 변경 기록을 조회하지 않는다")
+    void sync_locked() {
+        // given
+        when(redisLock.tryLock(anyString(), any())).thenReturn(Optional.empty());
+
+        // when
+        int applied = worker.sync();
+
+        // then
+        assertThat(applied).isZero();
+        verify(productSearchChangeRepository, never()).findReady(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("반영 중 lock 을 잃으면 다음 batch 를 반영하지 않고, 자신이 획득한 token 으로만 lock 을 해제한다")
+    void sync_lockLost() {
+        // given
+        when(properties.getBatchSize()).thenReturn(1);
+        when(productSearchChangeRepository.findReady(NOW, 1)).thenReturn(List.of(
+                new ProductSearchChangeDto(1L, 1L, 0)
+        ));
+        List<Product> products = products(1L);
+        when(queryProductRepository.findProductsByIds(List.of(1L))).thenReturn(products);
+        when(searchedProductAssembler.assemble(products)).thenReturn(documents(1L));
+        when(redisLock.extend(anyString(), eq("token"), any())).thenReturn(true, false);
+
+        // when
+        int applied = worker.sync();
+
+        // then
+        assertThat(applied).isEqualTo(1);
+        verify(productSearchChangeRepository, times(1)).findReady(NOW, 1);
+        verify(redisLock).release(anyString(), eq("token"));
+    }
+
+    @Test
+    @DisplayName("색인된 문서와 상태가 다른 상품의 변경을 기록한다")
+    void reconcile() {
+        // given
+        when(productDocumentSourceRepository.findStatesAfter(0L, 10)).thenReturn(List.of(
+                new ProductSearchStateDto(1L, false, true, false, 10L, 9000L),
+                new ProductSearchStateDto(2L, false, true, false, 10L, 9000L),
+                new ProductSearchStateDto(3L, false, true, false, 10L, 9000L),
+                new ProductSearchStateDto(4L, true, true, false, 10L, 9000L)
+        ));
+        when(elasticCommandProductRepository.findAllById(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(
+                document(1L, true, 10L, 9000L),
+                document(2L, true, 9L, 9000L),
+                document(4L, true, 10L, 9000L)
+        ));
+
+        // when
+        int diverged = worker.reconcile();
+
+        // then
+        assertThat(diverged).isEqualTo(3);
+        verify(productSearchSyncService).requestSync(List.of(2L, 3L, 4L));
+        verify(productDocumentSourceRepository, never()).findStatesAfter(eq(4L), anyInt());
+    }
+
+    private List<Product> products(Long... ids) {
+        return List.of(ids)
+                .stream()
+                .map(id -> {
+                    Product product = mock(Product.class);
+                    when(product.getId()).thenReturn(id);
+                    return product;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private List<SearchedProduct> documents(Long... ids) {
+        return List.of(ids)
+                .stream()
+                .map(id -> document(id, true, 10L, 9000L))
+                .collect(Collectors.toList());
+    }
+
+    private SearchedProduct document(Long id, boolean isSale, Long quantity, Long sellingPrice) {
+        return SearchedProduct.builder()
+                .id(id)
+                .isSale(isSale)
+                .isForcedOutOfStock(false)
+                .quantity(quantity)
+                .sellingPrice(sellingPrice)
+                .authors(List.of())
+                .build();
+    }
+}
@@ -27,6 +27,7 @@ import shop.yesaladin.shop.category.service.inter.QueryCategoryService;
 import shop.yesaladin.shop.file.domain.model.File;
 import shop.yesaladin.shop.file.dto.FileResponseDto;
 import shop.yesaladin.shop.file.service.inter.CommandFileService;
+import shop.yesaladin.shop.file.service.inter.ImageVariantService;
 import shop.yesaladin.shop.product.domain.model.Product;
 import shop.yesaladin.shop.product.domain.model.SubscribeProduct;
 import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
@@ -46,6 +47,7 @@ import shop.yesaladin.shop.product.dummy.DummyProductUpdateDto;
 import shop.yesaladin.shop.product.dummy.DummySubscribeProduct;
 import shop.yesaladin.shop.product.dummy.DummyTotalDiscountRate;
 import shop.yesaladin.shop.product.service.inter.CommandProductService;
+import shop.yesaladin.shop.product.service.inter.ProductSearchSyncService;
 import shop.yesaladin.shop.publish.dto.PublisherResponseDto;
 import shop.yesaladin.shop.publish.service.inter.CommandPublishService;
 import shop.yesaladin.shop.publish.service.inter.QueryPublisherService;
@@ -78,6 +80,7 @@ class CommandProductServiceImplTest {
 
     // File
     private CommandFileService commandFileService;
+    private ImageVariantService imageVariantService;
 
     // Writing
     private CommandWritingService commandWritingService;
@@ -95,6 +98,9 @@ class CommandProductServiceImplTest {
     private QueryCategoryService queryCategoryService;
     private CommandProductCategoryService commandProductCategoryService;
 
+    // Search
+    private ProductSearchSyncService productSearchSyncService;
+
     @BeforeEach
     void setUp() {
         commandProductRepository = mock(CommandProductRepository.class);
@@ -103,6 +109,7 @@ class CommandProductServiceImplTest {
         querySubscribeProductRepository = mock(QuerySubscribeProductRepository.class);
         queryTotalDiscountRateRepository = mock(QueryTotalDiscountRateRepository.class);
         commandFileService = mock(CommandFileService.class);
+        imageVariantService = mock(ImageVariantService.class);
         commandWritingService = mock(CommandWritingService.class);
         queryAuthorService = mock(QueryAuthorService.class);
         commandPublishService = mock(CommandPublishService.class);
@@ -111,6 +118,7 @@ class CommandProductServiceImplTest {
         commandProductTagService = mock(CommandProductTagService.class);
         queryCategoryService = mock(QueryCategoryService.class);
         commandProductCategoryService = mock(CommandProductCategoryService.class);
+        productSearchSyncService = mock(ProductSearchSyncService.class);
 
         service = new CommandProductServiceImpl(
                 commandProductRepository,
@@ -119,6 +127,7 @@ class CommandProductServiceImplTest {
                 querySubscribeProductRepository,
                 queryTotalDiscountRateRepository,
                 commandFileService,
+                imageVariantService,
                 commandWritingService,
                 queryAuthorService,
                 commandPublishService,
@@ -126,7 +135,8 @@ class CommandProductServiceImplTest {
                 queryTagService,
                 commandProductTagService,
                 queryCategoryService,
-                commandProductCategoryService
+                commandProductCategoryService,
+                productSearchSyncService
         );
     }
 
@@ -207,6 +217,7 @@ class CommandProductServiceImplTest {
         verify(queryCategoryService, times(1)).findCategoryById(2L);
         verify(queryCategoryService, times(2)).findCategoryById(100L);
         verify(commandProductCategoryService, times(2)).register(any());
+        verify(productSearchSyncService, times(1)).requestSync(any());
     }
 
     @Test
@@ -387,6 +398,7 @@ class CommandProductServiceImplTest {
         verify(queryCategoryService, times(1)).findCategoryById(2L);
         verify(queryCategoryService, times(2)).findCategoryById(100L);
         verify(commandProductCategoryService, times(2)).register(any());
+        verify(productSearchSyncService, times(1)).requestSync(any());
     }
 
     @Test
@@ -421,6 +433,7 @@ class CommandProductServiceImplTest {
 
         verify(queryProductRepository, times(1)).findProductById(ID);
         verify(commandProductRepository, times(1)).save(product);
+        verify(productSearchSyncService, times(1)).requestSync(any());
     }
 
     @Test
@@ -455,6 +468,7 @@ class CommandProductServiceImplTest {
 
         verify(queryProductRepository, times(1)).findProductById(ID);
         verify(commandProductRepository, times(1)).save(product);
+        verify(productSearchSyncService, times(1)).requestSync(any());
     }
 
     @Test
@@ -489,6 +503,7 @@ class CommandProductServiceImplTest {
 
         verify(queryProductRepository, times(1)).findProductById(ID);
         verify(commandProductRepository, times(1)).save(product);
+        verify(productSearchSyncService, times(1)).requestSync(any());
     }
 
     @Test
@@ -525,6 +540,7 @@ class CommandProductServiceImplTest {
 
         verify(queryProductRepository, times(1)).findProductById(ID);
         verify(commandProductRepository, times(1)).save(product);
+        verify(productSearchSyncService, times(1)).requestSync(any());
     }
 
     @Test
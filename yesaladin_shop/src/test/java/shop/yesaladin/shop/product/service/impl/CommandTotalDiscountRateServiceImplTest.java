@@ -14,16 +14,22 @@ import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
 import shop.yesaladin.shop.product.domain.repository.CommandTotalDiscountRateRepository;
 import shop.yesaladin.shop.product.dto.TotalDiscountRateResponseDto;
 import shop.yesaladin.shop.product.service.inter.CommandTotalDiscountRateService;
+import shop.yesaladin.shop.product.service.inter.ProductPricingService;
 
 class CommandTotalDiscountRateServiceImplTest {
 
     private CommandTotalDiscountRateService service;
     private CommandTotalDiscountRateRepository commandTotalDiscountRateRepository;
+    private ProductPricingService productPricingService;
 
     @BeforeEach
     void setUp() {
         commandTotalDiscountRateRepository = mock(CommandTotalDiscountRateRepository.class);
-        service = new CommandTotalDiscountRateServiceImpl(commandTotalDiscountRateRepository);
+        productPricingService = mock(ProductPricingService.class);
+        service = new CommandTotalDiscountRateServiceImpl(
+                commandTotalDiscountRateRepository,
+                productPricingService
+        );
     }
 
     @Test
@@ -45,5 +51,6 @@ class CommandTotalDiscountRateServiceImplTest {
         assertThat(response.getDiscountRate()).isEqualTo(rate);
 
         verify(commandTotalDiscountRateRepository, times(1)).save(totalDiscountRate);
+        verify(productPricingService, times(1)).repriceByTotalDiscountRate(totalDiscountRate);
     }
 }
\ No newline at end of file
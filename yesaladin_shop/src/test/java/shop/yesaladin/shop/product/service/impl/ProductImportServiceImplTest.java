@@ -0,0 +1,163 @@
+package shop.yesaladin.shop.product.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import shop.yesaladin.shop.config.ProductImportProperties;
+import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
+import shop.yesaladin.shop.product.domain.repository.ProductSearchIndexRepository;
+import shop.yesaladin.shop.product.domain.repository.QueryProductRepository;
+import shop.yesaladin.shop.product.domain.repository.QueryTotalDiscountRateRepository;
+import shop.yesaladin.shop.product.dto.ProductImportErrorDto;
+import shop.yesaladin.shop.product.dto.ProductImportFormat;
+import shop.yesaladin.shop.product.dto.ProductImportReferenceDto;
+import shop.yesaladin.shop.product.dto.ProductImportRowDto;
+import shop.yesaladin.shop.product.dummy.DummyProductCreateDto;
+import shop.yesaladin.shop.product.dummy.DummyTotalDiscountRate;
+import shop.yesaladin.shop.product.persistence.ElasticCommandManagerProductRepository;
+import shop.yesaladin.shop.product.persistence.ElasticCommandProductRepository;
+import shop.yesaladin.shop.product.service.batch.ProductImportChunkResult;
+import shop.yesaladin.shop.product.service.batch.ProductImportChunkWriter;
+import shop.yesaladin.shop.product.service.batch.ProductImportReader;
+import shop.yesaladin.shop.product.service.batch.ProductImportReader.Row;
+
+class ProductImportServiceImplTest {
+
+    private static final String DUPLICATED_ISBN = "0000000000002";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TotalDiscountRate totalDiscountRate = DummyTotalDiscountRate.dummy();
+
+    private ProductImportChunkWriter productImportChunkWriter;
+    private ProductImportServiceImpl service;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        productImportChunkWriter = mock(ProductImportChunkWriter.class);
+        service = new ProductImportServiceImpl(
+                productImportChunkWriter,
+                mock(QueryTotalDiscountRateRepository.class),
+                mock(QueryProductRepository.class),
+                mock(ElasticCommandProductRepository.class),
+                mock(ElasticCommandManagerProductRepository.class),
+                mock(ProductSearchIndexRepository.class),
+                mock(RedisTemplate.class),
+                objectMapper,
+                mock(ProductImportProperties.class),
+                Clock.systemUTC()
+        );
+    }
+
+    @Test
+    @DisplayName("chunk 가 정상적으로 저장되면 행을 하나씩 다시 저장하지 않는다")
+    void write() throws IOException {
+        // given
+        List<Row> chunk = read("0000000000001", DUPLICATED_ISBN);
+        when(productImportChunkWriter.write(chunk, totalDiscountRate))
+                .thenReturn(imported(chunk.get(0), chunk.get(1)));
+
+        // when
+        ProductImportChunkResult result = service.write(chunk, totalDiscountRate);
+
+        // then
+        assertThat(result.getImported()).hasSize(2);
+        assertThat(result.getErrors()).isEmpty();
+        verify(productImportChunkWriter, times(1)).write(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("chunk 가 DB 오류로 rollback 되면 행을 하나씩 저장하고 오류가 발생한 행만 오류로 반환한다")
+    void write_fallbackRowByRow() throws IOException {
+        // given
+        List<Row> chunk = read("0000000000001", DUPLICATED_ISBN, "0000000000003");
+        when(productImportChunkWriter.write(anyList(), any())).thenAnswer(invocation -> {
+            List<Row> rows = invocation.getArgument(0);
+            if (rows.size() > 1 || Objects.equals(rows.get(0).getIsbn(), DUPLICATED_ISBN)) {
+                throw new DataIntegrityViolationException(
+                        "could not execute statement",
+                        new SQLException("Duplicate entry '" + DUPLICATED_ISBN + "'")
+                );
+            }
+            return imported(rows.get(0));
+        });
+
+        // when
+        ProductImportChunkResult result = service.write(chunk, totalDiscountRate);
+
+        // then
+        verify(productImportChunkWriter, times(4)).write(anyList(), any());
+        assertThat(result.getImported()).extracting(ProductImportRowDto::getIsbn)
+                .containsExactly("0000000000001", "0000000000003");
+        assertThat(result.getPublishers()).containsOnlyKeys(1L);
+        assertThat(result.getErrors()).hasSize(1);
+
+        ProductImportErrorDto error = result.getErrors().get(0);
+        assertThat(error.getRowNumber()).isEqualTo(chunk.get(1).getRowNumber());
+        assertThat(error.getIsbn()).isEqualTo(DUPLICATED_ISBN);
+        assertThat(error.getMessage())
+                .isEqualTo("Cannot save product : Duplicate entry '" + DUPLICATED_ISBN + "'");
+    }
+
+    private List<Row> read(String... isbns) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (String isbn : isbns) {
+            lines.append(objectMapper.writeValueAsString(DummyProductCreateDto.dummy(isbn)))
+                    .append('\n');
+        }
+        Path path = tempDir.resolve("products.ndjson");
+        Files.write(path, lines.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<Row> rows = new ArrayList<>();
+        try (ProductImportReader reader = ProductImportReader.open(
+                path,
+                ProductImportFormat.NDJSON,
+                objectMapper
+        )) {
+            Row row;
+            while (Objects.nonNull(row = reader.next())) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private ProductImportChunkResult imported(Row... rows) {
+        List<ProductImportRowDto> imported = new ArrayList<>();
+        for (Row row : rows) {
+            imported.add(ProductImportRowDto.of(row.getRowNumber(), row.getDto(), totalDiscountRate));
+        }
+        return new ProductImportChunkResult(
+                imported,
+                List.of(),
+                Map.of(),
+                Map.of(1L, new ProductImportReferenceDto(1L, "publisher")),
+                Map.of(),
+                Map.of()
+        );
+    }
+}
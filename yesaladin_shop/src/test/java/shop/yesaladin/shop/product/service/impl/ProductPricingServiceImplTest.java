@@ -0,0 +1,123 @@
+package shop.yesaladin.shop.product.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import shop.yesaladin.shop.file.domain.model.File;
+import shop.yesaladin.shop.product.domain.model.Product;
+import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
+import shop.yesaladin.shop.product.domain.repository.QueryProductRepository;
+import shop.yesaladin.shop.product.dummy.DummyFile;
+import shop.yesaladin.shop.product.dummy.DummyProduct;
+import shop.yesaladin.shop.product.dummy.DummySubscribeProduct;
+import shop.yesaladin.shop.product.service.inter.ProductPricingService;
+import shop.yesaladin.shop.product.service.inter.ProductSearchSyncService;
+
+class ProductPricingServiceImplTest {
+
+    private final String URL = "https://api-storage.cloud.toast.com/v1/AUTH_/container/domain/type";
+
+    private ProductPricingService service;
+    private QueryProductRepository queryProductRepository;
+    private ProductSearchSyncService productSearchSyncService;
+    private EntityManager entityManager;
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        queryProductRepository = mock(QueryProductRepository.class);
+        productSearchSyncService = mock(ProductSearchSyncService.class);
+        entityManager = mock(EntityManager.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        service = new ProductPricingServiceImpl(
+                queryProductRepository,
+                productSearchSyncService,
+                entityManager,
+                transactionManager
+        );
+    }
+
+    @Test
+    @DisplayName("전체 할인율 변경 시 전체 할인율을 따르는 상품의 가격을 다시 계산하고 검색 인덱스 반영을 요청")
+    void repriceByTotalDiscountRate() {
+        // given
+        TotalDiscountRate totalDiscountRate = TotalDiscountRate.builder()
+                .id(1)
+                .discountRate(20)
+                .build();
+        File thumbnailFile = DummyFile.dummy(URL + "/image.png");
+        List<Product> products = List.of(
+                DummyProduct.dummy(
+                        1L,
+                        "0000000000001",
+                        DummySubscribeProduct.dummy(),
+                        thumbnailFile,
+                        null,
+                        totalDiscountRate
+                ),
+                DummyProduct.dummy(
+                        2L,
+                        "0000000000002",
+                        DummySubscribeProduct.dummy(),
+                        thumbnailFile,
+                        null,
+                        totalDiscountRate
+                )
+        );
+        when(queryProductRepository.findStaleFollowingTotalDiscountRate(1, 20, 0L, 500))
+                .thenReturn(products);
+
+        // when
+        int count = service.repriceByTotalDiscountRate(totalDiscountRate);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(products).allSatisfy(product -> {
+            assertThat(product.getPrice().isCalculated()).isTrue();
+            assertThat(product.getSellingPrice()).isEqualTo(8000L);
+        });
+        verify(queryProductRepository, times(1))
+                .findStaleFollowingTotalDiscountRate(anyInt(), anyInt(), anyLong(), anyInt());
+        verify(productSearchSyncService, times(1)).requestSync(List.of(1L, 2L));
+        verify(transactionManager, times(1)).commit(any());
+        verify(entityManager, times(1)).flush();
+        verify(entityManager, times(1)).clear();
+    }
+
+    @Test
+    @DisplayName("전체 할인율을 따르는 상품이 없으면 검색 인덱스 반영을 요청하지 않음")
+    void repriceByTotalDiscountRate_noProducts() {
+        // given
+        TotalDiscountRate totalDiscountRate = TotalDiscountRate.builder()
+                .id(1)
+                .discountRate(20)
+                .build();
+        when(queryProductRepository.findStaleFollowingTotalDiscountRate(
+                anyInt(),
+                anyInt(),
+                anyLong(),
+                anyInt()
+        )).thenReturn(Collections.emptyList());
+
+        // when
+        int count = service.repriceByTotalDiscountRate(totalDiscountRate);
+
+        // then
+        assertThat(count).isZero();
+        verify(productSearchSyncService, never()).requestSync(any());
+    }
+}
@@ -0,0 +1,262 @@
+package shop.yesaladin.shop.product.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import shop.yesaladin.common.code.ErrorCode;
+import shop.yesaladin.common.exception.ClientException;
+import shop.yesaladin.shop.common.lock.RedisLock;
+import shop.yesaladin.shop.config.ProductReindexProperties;
+import shop.yesaladin.shop.product.domain.model.Product;
+import shop.yesaladin.shop.product.domain.repository.ProductSearchIndexRepository;
+import shop.yesaladin.shop.product.domain.repository.QueryProductRepository;
+import shop.yesaladin.shop.product.dto.ProductReindexSliceDto;
+import shop.yesaladin.shop.product.dto.ProductReindexStatus;
+import shop.yesaladin.shop.product.dto.ProductReindexStatusResponseDto;
+import shop.yesaladin.shop.product.service.batch.SearchedProductAssembler;
+
+class ProductReindexServiceImplTest {
+
+    private static final String STATUS_KEY = "PRODUCT_REINDEX:STATUS";
+    private static final String INDEX = "yesaladin_products_20230120000000";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+
+    private ProductReindexServiceImpl service;
+    private QueryProductRepository queryProductRepository;
+    private ProductSearchIndexRepository productSearchIndexRepository;
+    private ValueOperations<String, String> valueOperations;
+    private RedisLock redisLock;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        queryProductRepository = mock(QueryProductRepository.class);
+        productSearchIndexRepository = mock(ProductSearchIndexRepository.class);
+        SearchedProductAssembler searchedProductAssembler = mock(SearchedProductAssembler.class);
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(STATUS_KEY)).thenAnswer(invocation -> redis.get(STATUS_KEY));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString());
+
+        redisLock = mock(RedisLock.class);
+        when(redisLock.tryLock(anyString(), any())).thenReturn(Optional.of("token"));
+        when(redisLock.extend(anyString(), eq("token"), any())).thenReturn(true);
+
+        ProductReindexProperties properties = mock(ProductReindexProperties.class);
+        when(properties.getSlices()).thenReturn(2);
+        when(properties.getChunkSize()).thenReturn(5);
+        when(properties.getMaxDocsPerSecond()).thenReturn(0);
+        when(properties.getLockTtlMinutes()).thenReturn(10L);
+
+        service = new ProductReindexServiceImpl(
+                queryProductRepository,
+                searchedProductAssembler,
+                productSearchIndexRepository,
+                redisTemplate,
+                redisLock,
+                objectMapper,
+                properties,
+                Clock.fixed(Instant.parse("2023-01-20T00:00:00.000Z"), ZoneId.of("UTC"))
+        );
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    @DisplayName("새 인덱스에 slice 별로 색인한 뒤 alias 를 옮긴다")
+    void start() throws Exception {
+        // given
+        when(queryProductRepository.findMaxId()).thenReturn(10L);
+        when(productSearchIndexRepository.createPendingIndex("20230120000000")).thenReturn(INDEX);
+        List<Product> first = products(1, 5);
+        List<Product> second = products(6, 10);
+        when(queryProductRepository.findProductsBetween(0L, 5L, 5)).thenReturn(first);
+        when(queryProductRepository.findProductsBetween(5L, 10L, 5)).thenReturn(second);
+        when(productSearchIndexRepository.switchAlias(INDEX)).thenReturn(List.of("yesaladin_products"));
+
+        // when
+        ProductReindexStatusResponseDto started = service.start();
+
+        // then
+        assertThat(started.getTargetIndex()).isEqualTo(INDEX);
+        assertThat(started.getSlices()).hasSize(2);
+
+        verify(productSearchIndexRepository, timeout(1000)).switchAlias(INDEX);
+        verify(productSearchIndexRepository, timeout(1000).times(2)).createAll(eq(INDEX), any());
+        verify(valueOperations, timeout(1000).atLeastOnce()).set(anyString(), anyString());
+
+        ProductReindexStatusResponseDto finished = awaitStatus(ProductReindexStatus.COMPLETED);
+        assertThat(finished.getIndexedCount()).isEqualTo(10L);
+        assertThat(finished.getPreviousIndices()).containsExactly("yesaladin_products");
+        assertThat(finished.getSlices()).allMatch(ProductReindexSliceDto::isCompleted);
+    }
+
+    @Test
+    @DisplayName("중단된 작업은 slice 의 마지막 위치부터 이어서 색인한다")
+    void start_resume() throws Exception {
+        // given
+        ProductReindexStatusResponseDto previous = ProductReindexStatusResponseDto.start(
+                "job",
+                INDEX,
+                List.of(ProductReindexSliceDto.of(0L, 10L)),
+                LocalDateTime.of(2023, 1, 19, 0, 0)
+        );
+        previous.advance(previous.getSlices().get(0), 3L, 3);
+        previous.fail("stopped", LocalDateTime.of(2023, 1, 19, 0, 1));
+        redis.put(STATUS_KEY, objectMapper.writeValueAsString(previous));
+
+        when(productSearchIndexRepository.exists(INDEX)).thenReturn(true);
+        when(queryProductRepository.findMaxId()).thenReturn(10L);
+        List<Product> remaining = products(4, 6);
+        when(queryProductRepository.findProductsBetween(3L, 10L, 5)).thenReturn(remaining);
+
+        // when
+        service.start();
+
+        // then
+        verify(productSearchIndexRepository, timeout(1000)).switchAlias(INDEX);
+        verify(productSearchIndexRepository, never()).createPendingIndex(anyString());
+
+        ProductReindexStatusResponseDto finished = awaitStatus(ProductReindexStatus.COMPLETED);
+        assertThat(finished.getJobId()).isEqualTo("job");
+        assertThat(finished.getIndexedCount()).isEqualTo(6L);
+        assertThat(finished.getSlices().get(0).getLastId()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("재색인 중 등록된 상품은 alias 를 옮기기 전에 색인한다")
+    void start_indexesProductsCreatedDuringReindex() throws Exception {
+        // given
+        when(queryProductRepository.findMaxId()).thenReturn(4L, 6L);
+        when(productSearchIndexRepository.createPendingIndex("20230120000000")).thenReturn(INDEX);
+        List<Product> first = products(1, 2);
+        List<Product> second = products(3, 4);
+        List<Product> created = products(5, 6);
+        when(queryProductRepository.findProductsBetween(0L, 2L, 5)).thenReturn(first);
+        when(queryProductRepository.findProductsBetween(2L, 4L, 5)).thenReturn(second);
+        when(queryProductRepository.findProductsBetween(4L, 6L, 5)).thenReturn(created);
+
+        // when
+        service.start();
+
+        // then
+        verify(productSearchIndexRepository, timeout(1000)).switchAlias(INDEX);
+        ProductReindexStatusResponseDto finished = awaitStatus(ProductReindexStatus.COMPLETED);
+        assertThat(finished.getSlices()).hasSize(3);
+        assertThat(finished.getIndexedCount()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("색인 중 오류가 발생하면 실패 상태로 기록하고 alias 를 옮기지 않는다")
+    void start_fail() throws Exception {
+        // given
+        when(queryProductRepository.findMaxId()).thenReturn(10L);
+        when(productSearchIndexRepository.createPendingIndex("20230120000000")).thenReturn(INDEX);
+        when(queryProductRepository.findProductsBetween(anyLong(), anyLong(), anyInt()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        // when
+        service.start();
+
+        // then
+        ProductReindexStatusResponseDto failed = awaitStatus(ProductReindexStatus.FAILED);
+        assertThat(failed.getFailureReason()).isEqualTo("db down");
+        verify(productSearchIndexRepository, never()).switchAlias(anyString());
+    }
+
+    @Test
+    @DisplayName("lock 을 잃으면 alias 를 옮기지 않고, 다른 작업의 진행 상황을 실패로 덮어쓰지 않는다")
+    void start_lockLost() throws Exception {
+        // given
+        when(queryProductRepository.findMaxId()).thenReturn(10L);
+        when(productSearchIndexRepository.createPendingIndex("20230120000000")).thenReturn(INDEX);
+        when(redisLock.extend(anyString(), eq("token"), any())).thenReturn(false);
+
+        // when
+        service.start();
+
+        // then
+        verify(redisLock, timeout(1000)).release(anyString(), eq("token"));
+        verify(productSearchIndexRepository, never()).switchAlias(anyString());
+        verify(queryProductRepository, never()).findProductsBetween(anyLong(), anyLong(), anyInt());
+        assertThat(service.getStatus().getStatus()).isNotEqualTo(ProductReindexStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("이미 재색인 중이면 예외가 발생한다")
+    void start_alreadyRunning() {
+        // given
+        when(redisLock.tryLock(anyString(), any())).thenReturn(Optional.empty());
+
+        // when then
+        ClientException result = (ClientException) catchThrowable(() -> service.start());
+        assertThat(result.getErrorCode()).isEqualTo(ErrorCode.BAD_REQUEST);
+        verify(productSearchIndexRepository, never()).createPendingIndex(anyString());
+    }
+
+    @Test
+    @DisplayName("재색인한 적이 없으면 진행 상황 조회 시 예외가 발생한다")
+    void getStatus_notFound() {
+        ClientException result = (ClientException) catchThrowable(() -> service.getStatus());
+        assertThat(result.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND);
+    }
+
+    private List<Product> products(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> {
+                    Product product = mock(Product.class);
+                    when(product.getId()).thenReturn(id);
+                    return product;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private ProductReindexStatusResponseDto awaitStatus(ProductReindexStatus expected)
+            throws Exception {
+        for (int i = 0; i < 100; i++) {
+            ProductReindexStatusResponseDto status = service.getStatus();
+            if (status.getStatus() == expected) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        return service.getStatus();
+    }
+}
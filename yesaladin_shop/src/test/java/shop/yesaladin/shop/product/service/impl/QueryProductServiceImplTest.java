@@ -4,6 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -29,14 +32,20 @@ import org.springframework.data.domain.PageRequest;
 import shop.yesaladin.common.code.ErrorCode;
 import shop.yesaladin.common.exception.ClientException;
 import shop.yesaladin.shop.category.service.inter.QueryProductCategoryService;
+import shop.yesaladin.shop.common.dto.CursorPaginatedResponseDto;
 import shop.yesaladin.shop.common.dto.PaginatedResponseDto;
+import shop.yesaladin.shop.config.ProductListProperties;
 import shop.yesaladin.shop.file.domain.model.File;
+import shop.yesaladin.shop.file.service.inter.ImageVariantService;
 import shop.yesaladin.shop.product.domain.model.Product;
 import shop.yesaladin.shop.product.domain.model.ProductTypeCode;
 import shop.yesaladin.shop.product.domain.model.SubscribeProduct;
 import shop.yesaladin.shop.product.domain.model.TotalDiscountRate;
 import shop.yesaladin.shop.product.domain.repository.QueryProductRepository;
+import shop.yesaladin.shop.product.domain.repository.SearchManagerProductRepository;
+import shop.yesaladin.shop.product.dto.ProductCursor;
 import shop.yesaladin.shop.product.dto.ProductDetailResponseDto;
+import shop.yesaladin.shop.product.dto.ProductManagerSearchType;
 import shop.yesaladin.shop.product.dto.ProductModifyDto;
 import shop.yesaladin.shop.product.dto.ProductOnlyTitleDto;
 import shop.yesaladin.shop.product.dto.ProductOrderRequestDto;
@@ -51,12 +60,15 @@ import shop.yesaladin.shop.product.dto.ViewCartDto;
 import shop.yesaladin.shop.product.dummy.DummyFile;
 import shop.yesaladin.shop.product.dummy.DummyProduct;
 import shop.yesaladin.shop.product.dummy.DummyTotalDiscountRate;
+import shop.yesaladin.shop.product.persistence.ProductCountCache;
 import shop.yesaladin.shop.product.service.inter.QueryProductService;
 import shop.yesaladin.shop.publish.domain.model.Publish;
 import shop.yesaladin.shop.publish.domain.model.Publisher;
 import shop.yesaladin.shop.publish.dto.PublishResponseDto;
 import shop.yesaladin.shop.publish.service.inter.QueryPublishService;
 import shop.yesaladin.shop.tag.service.inter.QueryProductTagService;
+import shop.yesaladin.shop.writing.domain.model.Author;
+import shop.yesaladin.shop.writing.dto.WritingResponseDto;
 import shop.yesaladin.shop.writing.service.inter.QueryWritingService;
 
 class QueryProductServiceImplTest {
@@ -73,6 +85,10 @@ class QueryProductServiceImplTest {
     private QueryPublishService queryPublishService;
     private QueryProductTagService queryProductTagService;
     private QueryProductCategoryService queryProductCategoryService;
+    private ImageVariantService imageVariantService;
+    private ProductCountCache productCountCache;
+    private ProductListProperties productListProperties;
+    private SearchManagerProductRepository searchManagerProductRepository;
 
     @BeforeEach
     void setUp() {
@@ -81,13 +97,22 @@ class QueryProductServiceImplTest {
         queryPublishService = mock(QueryPublishService.class);
         queryProductTagService = mock(QueryProductTagService.class);
         queryProductCategoryService = mock(QueryProductCategoryService.class);
+        imageVariantService = mock(ImageVariantService.class);
+        productCountCache = mock(ProductCountCache.class);
+        productListProperties = mock(ProductListProperties.class);
+        searchManagerProductRepository = mock(SearchManagerProductRepository.class);
+        Mockito.when(productListProperties.getMaxSize()).thenReturn(100);
 
         service = new QueryProductServiceImpl(
                 queryProductRepository,
                 queryWritingService,
                 queryPublishService,
                 queryProductTagService,
-                queryProductCategoryService
+                queryProductCategoryService,
+                imageVariantService,
+                productCountCache,
+                productListProperties,
+                searchManagerProductRepository
         );
     }
 
@@ -512,6 +537,180 @@ class QueryProductServiceImplTest {
         assertThat(response.getDataList().get(4).getId()).isEqualTo(9L);
     }
 
+    @Test
+    @DisplayName("상품 cursor 조회 시 size 보다 하나 더 조회되면 다음 페이지 cursor를 반환한다")
+    void findAllByCursor_hasNext() {
+        // given
+        List<Product> products = new ArrayList<>();
+        for (long i = 1L; i <= 4L; i++) {
+            Product product = DummyProduct.dummy(
+                    i,
+                    "000000000000" + i,
+                    SubscribeProduct.builder().id(1L).ISSN("00000001").build(),
+                    DummyFile.dummy(URL + "/image" + i + ".png"),
+                    DummyFile.dummy(URL + "/ebook" + i + ".pdf"),
+                    DummyTotalDiscountRate.dummy()
+            );
+            products.add(product);
+        }
+        Publish publish = Publish.create(
+                products.get(0),
+                Publisher.builder().id(1L).name("출판사").build(),
+                LocalDateTime.now(clock).toLocalDate().toString()
+        );
+        Mockito.when(queryPublishService.findByProduct(any()))
+                .thenReturn(new PublishResponseDto(
+                        publish.getPk(),
+                        publish.getPublishedDate(),
+                        publish.getProduct(),
+                        publish.getPublisher()
+                ));
+        Mockito.when(queryProductRepository.findAllByCursor(isNull(), eq(4), isNull()))
+                .thenReturn(products);
+        Mockito.when(productCountCache.get(anyString(), any())).thenReturn(4L);
+
+        // when
+        CursorPaginatedResponseDto<ProductsResponseDto> response = service.findAllByCursor(
+                null,
+                3,
+                null
+        );
+
+        // then
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getDataList()).hasSize(3);
+        assertThat(response.getTotalDataCount()).isEqualTo(4L);
+        ProductCursor next = ProductCursor.decode(response.getNextCursor());
+        assertThat(next.getId()).isEqualTo(3L);
+        assertThat(next.getPreferentialShowRanking())
+                .isEqualTo(products.get(2).getPreferentialShowRanking());
+    }
+
+    @Test
+    @DisplayName("상품 cursor 조회 시 size 는 설정된 최대값으로 제한되고 마지막 페이지에는 cursor가 없다")
+    void findAllByCursor_lastPage() {
+        // given
+        Mockito.when(queryProductRepository.findAllByCursor(any(), eq(101), any()))
+                .thenReturn(List.of());
+        Mockito.when(productCountCache.get(anyString(), any())).thenReturn(0L);
+        String cursor = ProductCursor.after(DummyProduct.dummy(
+                10L,
+                "0000000000010",
+                SubscribeProduct.builder().id(1L).ISSN("00000001").build(),
+                DummyFile.dummy(URL + "/image.png"),
+                DummyFile.dummy(URL + "/ebook.pdf"),
+                DummyTotalDiscountRate.dummy()
+        )).encode();
+
+        // when
+        CursorPaginatedResponseDto<ProductsResponseDto> response = service.findAllByCursor(
+                cursor,
+                1000,
+                ProductTypeCode.NEWBOOK.getId()
+        );
+
+        // then
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.getDataList()).isEmpty();
+        verify(queryProductRepository, times(1)).findAllByCursor(
+                any(ProductCursor.class),
+                eq(101),
+                eq(ProductTypeCode.NEWBOOK.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("관리자 상품 검색 cursor 조회 시 DB 에서 제외된 상품이 있어도 검색 결과로 다음 페이지 여부와 cursor를 정한다")
+    void findForManagerByCursor_filteredInDb() {
+        // given
+        List<Product> products = new ArrayList<>();
+        for (long i = 1L; i <= 2L; i++) {
+            products.add(DummyProduct.dummy(
+                    i,
+                    "000000000000" + i,
+                    SubscribeProduct.builder().id(1L).ISSN("00000001").build(),
+                    DummyFile.dummy(URL + "/image" + i + ".png"),
+                    DummyFile.dummy(URL + "/ebook" + i + ".pdf"),
+                    DummyTotalDiscountRate.dummy()
+            ));
+        }
+        Publish publish = Publish.create(
+                products.get(0),
+                Publisher.builder().id(1L).name("출판사").build(),
+                LocalDateTime.now(clock).toLocalDate().toString()
+        );
+        Mockito.when(queryPublishService.findByProduct(any()))
+                .thenReturn(new PublishResponseDto(
+                        publish.getPk(),
+                        publish.getPublishedDate(),
+                        publish.getProduct(),
+                        publish.getPublisher()
+                ));
+        Mockito.when(searchManagerProductRepository.searchCursorsAfter(
+                eq(ProductManagerSearchType.TITLE),
+                eq("title"),
+                isNull(),
+                eq(4)
+        )).thenReturn(List.of(
+                ProductCursor.of(1, 1L),
+                ProductCursor.of(1, 2L),
+                ProductCursor.of(2, 3L),
+                ProductCursor.of(2, 4L)
+        ));
+        // 3번 상품은 검색 인덱스에 반영되기 전에 삭제되어 DB 에서 조회되지 않습니다.
+        Mockito.when(queryProductRepository.findProductsByIds(List.of(1L, 2L, 3L)))
+                .thenReturn(products);
+        Mockito.when(productCountCache.get(anyString(), any())).thenReturn(4L);
+
+        // when
+        CursorPaginatedResponseDto<ProductsResponseDto> response = service.findForManagerByCursor(
+                ProductManagerSearchType.TITLE,
+                "title",
+                null,
+                3
+        );
+
+        // then
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getDataList()).extracting(ProductsResponseDto::getId)
+                .containsExactly(1L, 2L);
+        ProductCursor next = ProductCursor.decode(response.getNextCursor());
+        assertThat(next.getId()).isEqualTo(3L);
+        assertThat(next.getPreferentialShowRanking()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("관리자 상품 검색 cursor 조회 시 검색 결과가 size 이하이면 마지막 페이지이다")
+    void findForManagerByCursor_lastPage() {
+        // given
+        Mockito.when(searchManagerProductRepository.searchCursorsAfter(any(), any(), any(), eq(4)))
+                .thenReturn(List.of(ProductCursor.of(1, 1L)));
+        Mockito.when(queryProductRepository.findProductsByIds(List.of(1L)))
+                .thenReturn(List.of());
+        Mockito.when(productCountCache.get(anyString(), any())).thenReturn(0L);
+
+        // when
+        CursorPaginatedResponseDto<ProductsResponseDto> response = service.findForManagerByCursor(
+                ProductManagerSearchType.TITLE,
+                "title",
+                ProductCursor.of(1, 0L).encode(),
+                3
+        );
+
+        // then
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.getDataList()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잘못된 cursor로 조회하면 예외가 발생한다")
+    void findAllByCursor_invalidCursor() {
+        assertThatThrownBy(() -> service.findAllByCursor("not-a-cursor", 10, null))
+                .isInstanceOf(ClientException.class);
+    }
+
     @Test
     @DisplayName("상품 관리자용 전체 조회 성공_타입있음")
     void findAllForManager_useType() {
@@ -855,7 +1054,12 @@ class QueryProductServiceImplTest {
                 products.size()
         );
 
-        Mockito.when(queryProductRepository.findByISBNForManager(any(), any())).thenReturn(page);
+        Mockito.when(searchManagerProductRepository.searchIds(
+                eq(ProductManagerSearchType.ISBN),
+                any(),
+                any()
+        )).thenReturn(page.map(Product::getId));
+        Mockito.when(queryProductRepository.findProductsByIds(any())).thenReturn(products);
 
         PaginatedResponseDto<ProductsResponseDto> response = service.findByISBNForManager(
                 "isbn",
@@ -916,8 +1120,12 @@ class QueryProductServiceImplTest {
                 products.size()
         );
 
-        Mockito.when(queryProductRepository.findByPublisherForManager(any(), any()))
-                .thenReturn(page);
+        Mockito.when(searchManagerProductRepository.searchIds(
+                eq(ProductManagerSearchType.PUBLISHER),
+                any(),
+                any()
+        )).thenReturn(page.map(Product::getId));
+        Mockito.when(queryProductRepository.findProductsByIds(any())).thenReturn(products);
 
         PaginatedResponseDto<ProductsResponseDto> response = service.findByPublisherForManager(
                 "publisher",
@@ -978,7 +1186,12 @@ class QueryProductServiceImplTest {
                 products.size()
         );
 
-        Mockito.when(queryProductRepository.findByContentForManager(any(), any())).thenReturn(page);
+        Mockito.when(searchManagerProductRepository.searchIds(
+                eq(ProductManagerSearchType.CONTENT),
+                any(),
+                any()
+        )).thenReturn(page.map(Product::getId));
+        Mockito.when(queryProductRepository.findProductsByIds(any())).thenReturn(products);
 
         PaginatedResponseDto<ProductsResponseDto> response = service.findByContentForManager(
                 "publisher",
@@ -1039,7 +1252,12 @@ class QueryProductServiceImplTest {
                 products.size()
         );
 
-        Mockito.when(queryProductRepository.findByAuthorForManager(any(), any())).thenReturn(page);
+        Mockito.when(searchManagerProductRepository.searchIds(
+                eq(ProductManagerSearchType.AUTHOR),
+                any(),
+                any()
+        )).thenReturn(page.map(Product::getId));
+        Mockito.when(queryProductRepository.findProductsByIds(any())).thenReturn(products);
 
         PaginatedResponseDto<ProductsResponseDto> response = service.findByAuthorForManager(
                 "author",
@@ -1100,7 +1318,12 @@ class QueryProductServiceImplTest {
                 products.size()
         );
 
-        Mockito.when(queryProductRepository.findByTitleForManager(any(), any())).thenReturn(page);
+        Mockito.when(searchManagerProductRepository.searchIds(
+                eq(ProductManagerSearchType.TITLE),
+                any(),
+                any()
+        )).thenReturn(page.map(Product::getId));
+        Mockito.when(queryProductRepository.findProductsByIds(any())).thenReturn(products);
 
         PaginatedResponseDto<ProductsResponseDto> response = service.findByTitleForManager(
                 "title",
@@ -1187,6 +1410,62 @@ class QueryProductServiceImplTest {
         assertThat(dto).hasSize(2);
     }
 
+    @Test
+    @DisplayName("상품 요약 일괄 조회 - 요청한 id 순서대로 반환하고 없는 상품은 제외")
+    void findProductSummariesByIds() {
+        //given
+        TotalDiscountRate totalDiscountRate = DummyTotalDiscountRate.dummy();
+        Product product1 = DummyProduct.dummy(
+                1L,
+                "0000000000001",
+                null,
+                DummyFile.dummy(URL + "/image1.png"),
+                null,
+                totalDiscountRate
+        );
+        Product product2 = DummyProduct.dummy(
+                2L,
+                "0000000000002",
+                null,
+                DummyFile.dummy(URL + "/image2.png"),
+                null,
+                totalDiscountRate
+        );
+        List<Product> products = List.of(product1, product2);
+        Publisher publisher = Publisher.builder().id(1L).name("출판사").build();
+
+        Mockito.when(queryProductRepository.findProductsByIds(List.of(2L, 3L, 1L)))
+                .thenReturn(products);
+        Mockito.when(queryWritingService.findByProducts(products))
+                .thenReturn(List.of(
+                        new WritingResponseDto(product1, Author.builder().name("저자1").build()),
+                        new WritingResponseDto(product2, Author.builder().name("저자2").build())
+                ));
+        Mockito.when(queryPublishService.findByProducts(products))
+                .thenReturn(List.of(
+                        new PublishResponseDto(null, LocalDate.of(2011, 11, 11), product1, publisher),
+                        new PublishResponseDto(null, LocalDate.of(2011, 12, 12), product2, publisher)
+                ));
+
+        //when
+        List<ProductRecentResponseDto> response = service.findProductSummariesByIds(List.of(
+                2L,
+                3L,
+                1L
+        ));
+
+        //then
+        assertThat(response).hasSize(2);
+        assertThat(response.get(0).getId()).isEqualTo(2L);
+        assertThat(response.get(0).getAuthor()).containsExactly("저자2");
+        assertThat(response.get(1).getId()).isEqualTo(1L);
+        assertThat(response.get(1).getPublisher()).isEqualTo("출판사");
+
+        verify(queryWritingService, times(1)).findByProducts(products);
+        verify(queryPublishService, times(1)).findByProducts(products);
+        verify(queryPublishService, times(0)).findByProduct(any());
+    }
+
     @Test
     @DisplayName("주문서에 필요한 주문상품의 데이터 조회 실패 - 구매 불가능한 상품")
     void getByOrderProducts_fail_productNotAvailableToOrder_cannotOrder() {
@@ -2,6 +2,9 @@ package shop.yesaladin.shop.product.service.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,8 +14,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import shop.yesaladin.shop.config.ProductSuggestProperties;
 import shop.yesaladin.shop.product.domain.repository.SearchProductRepository;
 import shop.yesaladin.shop.product.dto.SearchedProductResponseDto;
+import shop.yesaladin.shop.product.persistence.ProductSuggestionCache;
 
 class SearchProductServiceImplTest {
 
@@ -25,7 +30,18 @@ class SearchProductServiceImplTest {
     @BeforeEach
     void setUp() {
         searchProductRepository = Mockito.mock(SearchProductRepository.class);
-        searchProductService = new SearchProductServiceImpl(searchProductRepository);
+        ProductSuggestProperties productSuggestProperties = Mockito.mock(ProductSuggestProperties.class);
+        Mockito.when(productSuggestProperties.getSize()).thenReturn(5);
+        Mockito.when(productSuggestProperties.getCacheTtlSeconds()).thenReturn(10L);
+        Mockito.when(productSuggestProperties.getCacheMaxSize()).thenReturn(100);
+        searchProductService = new SearchProductServiceImpl(
+                searchProductRepository,
+                new ProductSuggestionCache(
+                        productSuggestProperties,
+                        Clock.fixed(Instant.parse("2023-01-20T00:00:00.000Z"), ZoneId.of("UTC"))
+                ),
+                productSuggestProperties
+        );
 
         responseDto = SearchedProductResponseDto.builder()
                 .id(1L)
@@ -329,4 +345,50 @@ class SearchProductServiceImplTest {
         assertThat(result.getContent().get(0).getTags().get(0)).isEqualTo(responseDto.getTags()
                 .get(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("접두어를 소문자로 바꿔 자동 완성하고, 같은 접두어는 캐시된 결과를 반환한다")
+    void testSuggestProducts() {
+        //given
+        Mockito.when(searchProductRepository.suggestProducts("ti", 5))
+                .thenReturn(List.of("title", "tiger"));
+
+        //when
+        List<String> first = searchProductService.suggestProducts(" Ti");
+        List<String> second = searchProductService.suggestProducts("ti");
+
+        //then
+        assertThat(first).containsExactly("title", "tiger");
+        assertThat(second).containsExactly("title", "tiger");
+        Mockito.verify(searchProductRepository, Mockito.times(1)).suggestProducts("ti", 5);
+    }
+
+    @Test
+    @DisplayName("접두어가 비어있으면 검색 엔진에 요청하지 않는다")
+    void testSuggestProducts_blank() {
+        //when
+        List<String> result = searchProductService.suggestProducts("  ");
+
+        //then
+        assertThat(result).isEmpty();
+        Mockito.verify(searchProductRepository, Mockito.never())
+                .suggestProducts(Mockito.anyString(), Mockito.anyInt());
+    }
+
+    @Test
+    @DisplayName("자동 완성에 실패하면 빈 리스트를 반환하고 실패한 결과는 캐시하지 않는다")
+    void testSuggestProducts_failure() {
+        //given
+        Mockito.when(searchProductRepository.suggestProducts("ti", 5))
+                .thenThrow(new IllegalStateException("connection refused"))
+                .thenReturn(List.of("title"));
+
+        //when
+        List<String> failed = searchProductService.suggestProducts("ti");
+        List<String> retried = searchProductService.suggestProducts("ti");
+
+        //then
+        assertThat(failed).isEmpty();
+        assertThat(retried).containsExactly("title");
+    }
+}
@@ -10,6 +10,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -92,4 +93,26 @@ class QueryPublishServiceImplTest {
         // then
         verify(queryPublishRepository, times(1)).findByProduct(product);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 상품으로 출판 관계 일괄 조회 성공")
+    void findByProducts() {
+        // given
+        Publish publish = Publish.create(
+                product,
+                DummyPublisher.dummy(),
+                LocalDateTime.now(clock).toLocalDate().toString()
+        );
+
+        Mockito.when(queryPublishRepository.findByProductIn(List.of(product)))
+                .thenReturn(List.of(publish));
+
+        // when
+        List<PublishResponseDto> response = service.findByProducts(List.of(product));
+
+        // then
+        assertThat(response).hasSize(1);
+        assertThat(response.get(0).getPublisher().getName()).isEqualTo("출판사");
+        assertThat(response.get(0).getProduct().getIsbn()).isEqualTo(ISBN);
+    }
+}
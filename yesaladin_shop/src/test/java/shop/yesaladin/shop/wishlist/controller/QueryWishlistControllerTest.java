@@ -185,6 +185,9 @@ class QueryWishlistControllerTest {
                                 .description("위시리스트에 등록된 상품의 제목"),
                         fieldWithPath("data.dataList.[].thumbnailFileUrl").type(JsonFieldType.STRING)
                                 .description("위시리스트에 등록된 상품의 썸네일 파일 url"),
+                        fieldWithPath("data.dataList.[].thumbnailVariantUrls").type(JsonFieldType.OBJECT)
+                                .description("썸네일 변환본 URL")
+                                .optional(),
                         fieldWithPath("data.dataList.[].sellingPrice").type(JsonFieldType.NUMBER)
                                 .description("위시리스트에 등록된 상품의 판매가"),
                         fieldWithPath("data.dataList.[].rate").type(JsonFieldType.NUMBER)
@@ -17,6 +17,7 @@ import org.springframework.data.domain.PageRequest;
 import shop.yesaladin.common.code.ErrorCode;
 import shop.yesaladin.common.exception.ClientException;
 import shop.yesaladin.shop.file.domain.model.File;
+import shop.yesaladin.shop.file.service.inter.ImageVariantService;
 import shop.yesaladin.shop.member.domain.model.Member;
 import shop.yesaladin.shop.member.service.inter.QueryMemberService;
 import shop.yesaladin.shop.product.domain.model.Product;
@@ -40,6 +41,7 @@ class QueryWishlistServiceImplTest {
     private QueryMemberService queryMemberService;
     private QueryPublishService queryPublishService;
     private QueryWritingService queryWritingService;
+    private ImageVariantService imageVariantService;
     private Product product;
     private Member member;
 
@@ -49,11 +51,13 @@ class QueryWishlistServiceImplTest {
         queryPublishService = Mockito.mock(QueryPublishService.class);
         queryMemberService = Mockito.mock(QueryMemberService.class);
         queryWritingService = Mockito.mock(QueryWritingService.class);
+        imageVariantService = Mockito.mock(ImageVariantService.class);
         queryDslWishlistService = new QueryWishlistServiceImpl(
                 queryWishlistRepository,
                 queryMemberService,
                 queryPublishService,
-                queryWritingService
+                queryWritingService,
+                imageVariantService
         );
 
         product = Product.builder()
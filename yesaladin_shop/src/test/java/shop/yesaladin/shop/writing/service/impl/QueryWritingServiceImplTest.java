@@ -70,4 +70,33 @@ class QueryWritingServiceImplTest {
         assertThat(response.get(1).getAuthor().getName()).isEqualTo("저자2");
         assertThat(response.get(1).getAuthor().getMember()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 상품의 집필 일괄 조회 성공")
+    void findByProducts() {
+        // given
+        List<Writing> writings = List.of(
+                Writing.create(product, DummyAuthor.dummy("저자1", null))
+        );
+
+        Mockito.when(queryWritingRepository.findByProductIn(List.of(product))).thenReturn(writings);
+
+        // when
+        List<WritingResponseDto> response = service.findByProducts(List.of(product));
+
+        // then
+        assertThat(response).hasSize(1);
+        assertThat(response.get(0).getAuthor().getName()).isEqualTo("저자1");
+    }
+
+    @Test
+    @DisplayName("빈 상품 목록으로 집필 일괄 조회 시 조회하지 않음")
+    void findByProducts_empty() {
+        // when
+        List<WritingResponseDto> response = service.findByProducts(List.of());
+
+        // then
+        assertThat(response).isEmpty();
+        Mockito.verify(queryWritingRepository, Mockito.never()).findByProductIn(Mockito.any());
+    }
+}